@@ -0,0 +1,429 @@
+/* class Bench
+ * Micro-benchmarks for the simulation, generation and keyframing hot
+ * paths, each run over a grid of sizes:
+ *  - process:  Scene.process() for N bugs X M obstacles
+ *  - lod:      Scene.process() for N bugs with level of detail, seen
+ *              from near (most bugs in view) and far (most bugs small)
+ *  - rock:     Rock construction/compute() at levels 3-10
+ *  - tree:     TreePart construction for depth X branching factor
+ *  - keyframe: Bug.keyframe()
+ *  - safeloc:  Scene.getSafeLocation() with M obstacles
+ *  - flock:    Flock.compute() for N bugs, on one thread and on all
+ *  - kernel:   Scene.process() for N bugs X 8 obstacles with each
+ *              simulation kernel (see CritterBatch)
+ *  - step:     Scene.step() end to end (flock, substeps, keyframing) for
+ *              N bugs added to the world with flocking, with each kernel,
+ *              on one thread and on all
+ *
+ * Each case is warmed up, then timed over several measurement
+ * iterations; results (mean and standard deviation of ns/op) are
+ * written as CSV so they can be tracked over time.  The same cases can
+ * be run under JMH (see procanim.jmh.JmhBench in the jmh module), which
+ * gets them from prepare().
+ */
+
+import java.io.*;
+import java.util.*;
+import java.util.function.DoubleSupplier;
+
+import javax.vecmath.*;
+
+public class Bench
+{
+    // A benchmarked operation, with its parameters
+    static abstract class Case implements DoubleSupplier
+    {
+        String name, params;
+
+        Case(String caseName, String caseParams)
+        {
+            name = caseName;
+            params = caseParams;
+        }
+
+        // Operations between looks at the clock (fewer for slow ones)
+        int opsPerCheck = 16;
+
+        // Prepare state (not timed)
+        void setup() {}
+
+        // Perform one operation; returns a value so work isn't optimized
+        // away
+        abstract double run();
+
+        public double getAsDouble()
+        {
+            return run();
+        }
+    }
+
+    // Timing settings
+    int warmupIterations = 3, iterations = 5;
+    long iterationNanos = 300000000L;
+
+    // Sink for benchmark results
+    double sink = 0;
+
+    // ---------------------------------------------------------------
+    // Scenes for benchmarking
+
+    // Scene with numBugs bugs and numObstacles rocks, animated
+    // frame-by-frame
+    static Scene makeScene(int numBugs, int numObstacles)
+    {
+        return makeScene(numBugs, numObstacles, CritterBatch.SCALAR);
+    }
+
+    // As above, simulated with the given kernel (chosen before the bugs
+    // and rocks are added, as choosing it may rebuild the scene)
+    static Scene makeScene(int numBugs, int numObstacles, int kernel)
+    {
+        Scene scene = new Scene(1, false, 1, null);
+        scene.resetClock();
+        scene.setFrameByFrameClock();
+        scene.useKernel(kernel);
+
+        Random rgen = new Random(2);
+
+        // Rocks on a ring around the center, outside where bugs start
+        scene.obstacles.clear();
+        for (int i = 0; i < numObstacles; i++) {
+            double a = 2 * Math.PI * i / numObstacles;
+            double r = 10 + 4 * rgen.nextDouble();
+            scene.obstacles.add(new Rock(rgen, 3, r*Math.cos(a),
+                                         r*Math.sin(a), 1.0,
+                                         scene.singlePrecision));
+        }
+
+        // Keep the main bug and predator, and add more bugs on a grid
+        while (scene.critters.size() > 2)
+          scene.critters.remove(scene.critters.size() - 1);
+        int side = (int)Math.ceil(Math.sqrt(numBugs));
+        for (int i = 2; i < numBugs; i++) {
+            double x = -6 + 12.0 * (i % side) / side;
+            double y = -6 + 12.0 * (i / side) / side;
+            scene.critters.add(new Bug(rgen, 0.4, x, y, 0.1, 0.0));
+        }
+
+        return scene;
+    }
+
+    // Scene with numBugs bugs spread over the ground at about the
+    // density of a flock (one in Scene.predatorEvery a predator)
+    static Scene makeFlock(int numBugs)
+    {
+        Scene scene = makeScene(2, 0);
+        Random rgen = new Random(6);
+
+        double side = Math.sqrt(numBugs) * 0.7;
+        for (int i = 2; i < numBugs; i++) {
+            Bug bug = new Bug(rgen, 0.3, (rgen.nextDouble() - 0.5) * side,
+                              (rgen.nextDouble() - 0.5) * side,
+                              rgen.nextGaussian(), rgen.nextGaussian());
+            bug.isPredator = (i % Scene.predatorEvery) == 0;
+            scene.critters.add(bug);
+        }
+
+        return scene;
+    }
+
+    // ---------------------------------------------------------------
+    // Benchmark cases
+
+    // The cases, with flock and step run on one thread and on all
+    static List<Case> cases()
+    {
+        int cores = Runtime.getRuntime().availableProcessors();
+        return cases((cores > 1) ? new int[] { 1, cores } : new int[] { 1 });
+    }
+
+    // The cases, with flock and step run on each of the given numbers of
+    // threads
+    static List<Case> cases(int[] flockThreads)
+    {
+        List<Case> list = new ArrayList<Case>();
+
+        int[] bugCounts = { 2, 16, 128 };
+        int[] obstacleCounts = { 2, 8, 32 };
+        for (final int n : bugCounts) {
+            for (final int m : obstacleCounts) {
+                list.add(new Case("process", "bugs=" + n + " obstacles=" + m) {
+                        Scene scene;
+                        void setup() {
+                            scene = makeScene(n, m);
+                        }
+                        double run() {
+                            scene.incrementFrameNumber();
+                            scene.process();
+                            return scene.mainBug.pos.x;
+                        }
+                    });
+            }
+        }
+
+        int[] lodBugCounts = { 128, 512 };
+        double[] lodZooms = { 15, -30 };
+        for (final int n : lodBugCounts) {
+            for (final double zoom : lodZooms) {
+                list.add(new Case("lod", "bugs=" + n + " zoom=" + zoom) {
+                        Scene scene;
+                        void setup() {
+                            scene = makeScene(n, 8);
+                            scene.useLOD.set(true);
+                            scene.tZ.set(zoom);
+                            scene.beginFrame();
+                        }
+                        double run() {
+                            scene.incrementFrameNumber();
+                            scene.process();
+                            return scene.mainBug.pos.x;
+                        }
+                    });
+            }
+        }
+
+        for (int level = 3; level <= 10; level++) {
+            final int l = level;
+            list.add(new Case("rock", "level=" + l) {
+                    Random rgen = new Random(3);
+                    double run() {
+                        Rock rock = new Rock(rgen, l, 0, 0, 1.0);
+                        return rock.rsize;
+                    }
+                });
+        }
+
+        int[] depths = { 3, 4, 5, 6 };
+        int[] branchings = { 2, 3, 4, 5 };
+        for (final int d : depths) {
+            for (final int b : branchings) {
+                list.add(new Case("tree", "depth=" + d + " branching=" + b) {
+                        Random rgen = new Random(4);
+                        Point3d angle = new Point3d();
+                        double run() {
+                            TreePart t = new TreePart(rgen, d, b, 2.0, 0.3,
+                                                      1.0, angle);
+                            return t.parts.length;
+                        }
+                    });
+            }
+        }
+
+        list.add(new Case("keyframe", "") {
+                Bug bug = new Bug(new Random(5), 0.6, 0, 0, 0.1, 0);
+                double t = 0;
+                double run() {
+                    t += 0.013;
+                    if (t >= 1)
+                      t -= 1;
+                    bug.keyframe(t);
+                    return bug.param[0];
+                }
+            });
+
+        for (final int m : obstacleCounts) {
+            list.add(new Case("safeloc", "obstacles=" + m) {
+                    Scene scene;
+                    Point2d p = new Point2d();
+                    void setup() {
+                        scene = makeScene(2, m);
+                    }
+                    double run() {
+                        scene.getSafeLocation(0.85, false, 5, p);
+                        return p.x;
+                    }
+                });
+        }
+
+        int[] flockCounts = { 1000, 10000, 50000 };
+        for (final int n : flockCounts) {
+            for (final int th : flockThreads) {
+                list.add(new Case("flock", "bugs=" + n + " threads=" + th) {
+                        Scene scene;
+                        Flock flock = new Flock(th);
+                        void setup() {
+                            scene = makeFlock(n);
+                        }
+                        double run() {
+                            flock.compute(scene);
+                            return flock.ax[0];
+                        }
+                    });
+            }
+        }
+
+        int[] kernelBugCounts = { 128, 1024, 8192 };
+        for (final int n : kernelBugCounts) {
+            for (int kernel = 0; kernel < CritterBatch.kernelNames.length;
+                 kernel++) {
+                final int k = kernel;
+                list.add(new Case("kernel", "bugs=" + n + " kernel=" +
+                                  CritterBatch.kernelNames[k]) {
+                        Scene scene;
+                        void setup() {
+                            scene = makeScene(n, 8, k);
+                        }
+                        double run() {
+                            scene.incrementFrameNumber();
+                            scene.process();
+                            return scene.mainBug.pos.x;
+                        }
+                    });
+            }
+        }
+
+        int[] stepBugCounts = { 5000, 50000 };
+        for (final int n : stepBugCounts) {
+            for (final int th : flockThreads) {
+                for (int kernel = 0; kernel < CritterBatch.kernelNames.length;
+                     kernel++) {
+                    final int k = kernel;
+                    list.add(new Case("step", "bugs=" + n + " threads=" + th +
+                                      " kernel=" +
+                                      CritterBatch.kernelNames[k]) {
+                            Scene scene;
+                            void setup() {
+                                opsPerCheck = 1;
+                                scene = new Scene(1, false, 1, null);
+                                scene.resetClock();
+                                scene.setFrameByFrameClock();
+                                scene.addBugs(n);
+                                scene.useFlocking(th);
+                                scene.useKernel(k);
+                            }
+                            double run() {
+                                scene.step();
+                                return scene.mainBug.pos.x;
+                            }
+                        });
+                }
+            }
+        }
+
+        return list;
+    }
+
+    // The case with the given name and parameters (as in the CSV), with
+    // flock and step run on the given number of threads, set up; each
+    // call to getAsDouble() performs one operation.  This is public for
+    // harnesses in other packages, which can only call it reflectively
+    // (this class is in the unnamed package).
+    public static DoubleSupplier prepare(String name, String params,
+                                         int threads)
+    {
+        for (Case c : cases(new int[] { threads })) {
+            if (c.name.equals(name) && c.params.equals(params)) {
+                c.setup();
+                return c;
+            }
+        }
+        throw new IllegalArgumentException("No benchmark " + name + " " +
+                                           params);
+    }
+
+    // ---------------------------------------------------------------
+    // Measurement
+
+    // Run one iteration of c for about iterationNanos; returns ns/op
+    double iteration(Case c)
+    {
+        long ops = 0;
+        long start = System.nanoTime();
+        long elapsed;
+
+        do {
+            for (int k = 0; k < c.opsPerCheck; k++)
+              sink += c.run();
+            ops += c.opsPerCheck;
+            elapsed = System.nanoTime() - start;
+        } while (elapsed < iterationNanos);
+
+        return (double)elapsed / ops;
+    }
+
+    // Measure c, returning { mean ns/op, standard deviation }
+    double[] measure(Case c)
+    {
+        c.setup();
+
+        for (int i = 0; i < warmupIterations; i++)
+          iteration(c);
+
+        double[] t = new double[iterations];
+        double sum = 0;
+        for (int i = 0; i < iterations; i++) {
+            t[i] = iteration(c);
+            sum += t[i];
+        }
+
+        double mean = sum / iterations, var = 0;
+        for (int i = 0; i < iterations; i++)
+          var += (t[i] - mean) * (t[i] - mean);
+
+        return new double[] {
+            mean, Math.sqrt(var / Math.max(iterations - 1, 1))
+        };
+    }
+
+    // ---------------------------------------------------------------
+
+    public static void main(String args[])
+    {
+        Bench bench = new Bench();
+        String filter = null;
+        String outFile = null;
+
+        // Parse command-line arguments
+        try {
+            for (int i = 0; i < args.length; i++) {
+                if (args[i].equals("-filter")) {
+                    filter = args[++i];
+                } else if (args[i].equals("-out")) {
+                    outFile = args[++i];
+                } else if (args[i].equals("-warmup")) {
+                    bench.warmupIterations = Integer.parseInt(args[++i]);
+                } else if (args[i].equals("-iterations")) {
+                    bench.iterations = Integer.parseInt(args[++i]);
+                } else if (args[i].equals("-time")) {
+                    bench.iterationNanos =
+                        (long)(Double.parseDouble(args[++i]) * 1e9);
+                } else {
+                    System.out.println("Usage: java Bench [-filter name]" +
+                                       " [-out file.csv] [-warmup #]" +
+                                       " [-iterations #]" +
+                                       " [-time seconds/iteration]");
+                    throw new Exception("Illegal argument: " + args[i]);
+                }
+            }
+        } catch (Exception e) {
+            System.out.println("Error: " + e.getMessage());
+            System.exit(1);
+        }
+
+        try {
+            PrintStream out = (outFile == null) ? System.out :
+                new PrintStream(new FileOutputStream(outFile));
+
+            out.println("benchmark,params,ns_per_op,stddev,iterations");
+            for (Case c : cases()) {
+                if (filter != null && !c.name.equals(filter))
+                  continue;
+
+                double[] r = bench.measure(c);
+                out.println(c.name + "," + c.params + "," + r[0] + "," +
+                            r[1] + "," + bench.iterations);
+                out.flush();
+            }
+
+            if (out != System.out)
+              out.close();
+        } catch (IOException e) {
+            System.out.println(e);
+            System.exit(1);
+        }
+
+        // Keep results live
+        if (bench.sink == 42)
+          System.out.println();
+    }
+}
@@ -54,28 +54,42 @@ class BooleanParameter extends Parameter
     // Respond to an event from an interface component
     public void respond(Object v) 
     {
-        String vcn = v.getClass().getName();
+        boolean old = value;
 
-        if (vcn.equals("javax.swing.JCheckBox")) {
+        if (v instanceof JCheckBox) {
             value = ((JCheckBox)v).isSelected();
-        } else if (vcn.equals("javax.swing.JCheckBoxMenuItem")) {
+        } else if (v instanceof JCheckBoxMenuItem) {
             value = ((JCheckBoxMenuItem)v).isSelected();
         } else {
             return;
         }
 
+        // Nothing to do if the value hasn't changed
+        if (value == old)
+          return;
+
         updateAll();
+        changed();
+    }
+
+    // Set the value and update interface
+    public void set(boolean v)
+    {
+        value = v;
+
+        updateAll();
+        changed();
     }
 
     // Listener abstract methods for responding to interface events
     public void actionPerformed(ActionEvent e)
     {
-        boolean old = Parameter.blockAction(true);
+        boolean old = context.blockAction(true);
 
         respond(e.getSource());
 
-        Parameter.blockAction(old);
-        Parameter.onUserAction();
+        context.blockAction(old);
+        onUserAction();
     }
 
     // Reset value to its default and update interface
@@ -84,6 +98,7 @@ class BooleanParameter extends Parameter
         value = def;
 
         updateAll();
+        changed();
     }
 
     // ------
@@ -91,19 +106,11 @@ class BooleanParameter extends Parameter
     // Update a single interface component
     public void update(Object v)
     {
-        String vcn = v.getClass().getName();
-        
-        if (vcn.equals("javax.swing.JCheckBox")) {
+        if (v instanceof JCheckBox) {
             ((JCheckBox)v).setSelected(value);
-        } else if (vcn.equals("javax.swing.JCheckBoxMenuItem")) {
+        } else if (v instanceof JCheckBoxMenuItem) {
             ((JCheckBoxMenuItem)v).setSelected(value);
-        } else {
-            return;
         }
-
-        // Mark as dirty at appropriate level
-        if (dirty < dirtyLevel)
-          dirty = dirtyLevel;
     }
 
     // Update the entire interface
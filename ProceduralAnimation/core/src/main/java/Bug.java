@@ -0,0 +1,133 @@
+/* class Bug
+ * This class implements methods for animating a 6-legged walking bug
+ * in a particular configuration, given by a set of angles that describe
+ * the positions of its legs (SceneRenderer draws it).
+ *
+ * Doug DeCarlo
+ */
+
+import java.io.*;
+import java.util.*;
+
+import javax.vecmath.*;
+
+class Bug extends Critter
+{
+    // Number of legs, and number of parameters per leg
+    final int legNum = 6, pNum = 2;
+
+    // Keyframes for bug:
+    // - this array specifies one cycle of motion for the bug, which
+    //   lasts from T=0 to T=1.
+    // - T isn't the actual time, but rather is just a measure of
+    //   progress through a single cycle
+    // - keyFrames[j] is a vector of angles that describes the bug's
+    //   configuration at the time keyT[j].
+    static double[][] keyFrames = {
+	{
+	    30, 10,      30, 30, 
+	    0,  30,       0, 10, 
+	   -30, 10,     -30, 30, 	
+	},
+	{
+	    20, 10,      40, 30, 
+	    10, 30,     -10, 10, 
+	   -40, 10,     -20, 30, 	
+	},
+	{
+	    30, 30,      30, 10, 
+	    0,  10,       0, 30, 
+	   -30, 30,     -30, 10, 	
+	},
+	{
+	    40, 30,      20, 10, 
+	   -10, 10,      10, 30, 
+	   -20, 30,     -40, 10, 	
+	},
+	{ // copy of first keyFrame -- cyclic motion
+	    30, 10,      30, 30, 
+	    0,  30,       0, 10, 
+	   -30, 10,     -30, 30,	
+	}
+    };
+    // "Timestamps" for keyframes, in [0,1]
+    static double [] keyT = {
+	0.0, 0.25, 0.5, 0.75, 1.0
+    };
+    // Distance traveled in one T-second of keyframes for bug
+    // which has scale=1
+    // (used to make leg speed match bug speed)
+    static double stride = 1.3;
+
+    // Walk cycle resampled from the keyframes, interpolated linearly
+    // (shared by all bugs of scenes not using a gait of their own)
+    static final GaitClip linearGait =
+        new GaitClip(keyT, keyFrames, GaitClip.defaultSamples, false);
+
+    // --------------------------------------------------------------
+
+    // Current bug parameters/leg angles (computed from keyframes for
+    // each moment in time) using keyframe(t) method
+    double[] param;
+
+    // Walk cycle the leg angles are looked up in (that of the scene)
+    GaitClip gait = linearGait;
+
+    // Bug size
+    double scale;
+
+    // predators are red
+    boolean isPredator = false;
+
+    // ---------------------------------------------------------------
+
+    // constructor
+    public Bug(Random randomGen, double bugScale,
+	       double bugPx, double bugPy, double bugVx, double bugVy)
+    {
+	super(randomGen);
+
+	pos.set(bugPx, bugPy, 0);
+	vel.set(bugVx, bugVy, 0);
+	updateHeading();
+	scale = bugScale;
+
+	param = new double[keyFrames[0].length];
+	keyframe(0);
+    }
+
+    // ---------------------------------------------------------------
+
+    // Compute bug parameters by keyframing
+    // Given t, compute the corresponding value of param[]
+    // (looked up in the gait table, wrapping t into one cycle)
+    public void keyframe(double t)
+    {
+        gait.pose(t, param);
+    }
+
+    // Walk with the given cycle from now on (posing the legs for it)
+    public void useGait(GaitClip clip)
+    {
+        gait = clip;
+        keyframe(dist - (int) dist);
+    }
+
+    // ---------------------------------------------------------------
+    // Checkpointing (the leg angles are kept too, as with level of
+    // detail they aren't recomputed every frame)
+
+    public void writeState(DataOutput out) throws IOException
+    {
+	super.writeState(out);
+	for (int j = 0; j < param.length; j++)
+	    out.writeDouble(param[j]);
+    }
+
+    public void readState(DataInput in) throws IOException
+    {
+	super.readState(in);
+	for (int j = 0; j < param.length; j++)
+	    param[j] = in.readDouble();
+    }
+}
@@ -0,0 +1,169 @@
+/* class Checkpoints
+ * Periodic checkpoints of the simulation state of a scene animated with
+ * the frame-by-frame clock, so that any frame can be reached quickly:
+ * seeking restores the nearest checkpoint at or before the frame and
+ * steps forward from there.
+ *
+ * Checkpoints are kept in memory, and also written to a directory (one
+ * file per checkpoint, named by frame number) when one is given, so
+ * that a long render can be split into separate frame ranges, or
+ * resumed after a crash, without simulating from the first frame.
+ *
+ * A checkpoint for frame f holds the state before frame f is processed,
+ * which is the state when the renderer is about to draw frame f.
+ */
+
+import java.io.*;
+import java.util.*;
+
+class Checkpoints
+{
+    // Frames between checkpoints
+    int interval;
+
+    // Directory of checkpoint files (null if only kept in memory)
+    private File dir;
+
+    // Checkpoints in memory, by frame number
+    private TreeMap<Integer, byte[]> saved = new TreeMap<Integer, byte[]>();
+
+    // ---------------------------------------------------------------
+
+    // Take checkpoints every numFrames frames, writing them to the
+    // directory dirName (if not null)
+    public Checkpoints(int numFrames, String dirName) throws IOException
+    {
+        interval = numFrames;
+
+        if (dirName != null) {
+            dir = new File(dirName);
+            if (!dir.isDirectory() && !dir.mkdirs()) {
+                throw new IOException("Can't create checkpoint directory " +
+                                      dirName);
+            }
+        }
+    }
+
+    // ---------------------------------------------------------------
+
+    // Save a checkpoint of scene at its current frame
+    public void save(Scene scene) throws IOException
+    {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(1024);
+        DataOutputStream out = new DataOutputStream(bytes);
+        scene.writeState(out);
+        out.close();
+
+        byte[] data = bytes.toByteArray();
+        int frame = scene.getFrameNumber();
+        saved.put(frame, data);
+
+        if (dir != null) {
+            // Write to a temporary file first, so a crash never leaves
+            // a partial checkpoint behind (the name is unique, as other
+            // processes may be writing the same checkpoint)
+            File f = checkpointFile(frame);
+            File tmp = File.createTempFile(f.getName(), ".tmp", dir);
+            FileOutputStream fout = new FileOutputStream(tmp);
+            try {
+                fout.write(data);
+                fout.getFD().sync();
+            } finally {
+                fout.close();
+            }
+            if (!tmp.renameTo(f)) {
+                throw new IOException("Can't write checkpoint " + f);
+            }
+        }
+    }
+
+    // Save a checkpoint if scene is on a checkpoint frame and doesn't
+    // have one yet (call after each frame)
+    public void frameDone(Scene scene) throws IOException
+    {
+        int frame = scene.getFrameNumber();
+
+        if (frame % interval == 0 && !saved.containsKey(frame))
+          save(scene);
+    }
+
+    // ---------------------------------------------------------------
+
+    // Bring scene to the state at the start of frame, restoring the
+    // nearest checkpoint (if that's closer than the current frame), and
+    // taking checkpoints along the way
+    public void seek(Scene scene, int frame) throws IOException
+    {
+        if (!scene.frameByFrameClock) {
+            throw new IllegalStateException("Seeking needs the" +
+                                            " frame-by-frame clock");
+        }
+
+        int current = scene.getFrameNumber();
+        int best = nearest(frame);
+
+        if (best >= 0 && (current > frame || best > current)) {
+            byte[] data = load(best);
+            scene.readState(new DataInputStream(new ByteArrayInputStream(data)));
+        } else if (current > frame) {
+            throw new IOException("No checkpoint at or before frame " +
+                                  frame);
+        }
+
+        while (scene.getFrameNumber() < frame) {
+            scene.step();
+            frameDone(scene);
+        }
+    }
+
+    // Frame number of the latest checkpoint at or before frame (or -1
+    // if there is none), in memory or in the directory
+    int nearest(int frame)
+    {
+        Integer m = saved.floorKey(frame);
+        int best = (m == null) ? -1 : m;
+
+        if (dir != null) {
+            for (int f = frame - frame % interval; f > best; f -= interval) {
+                if (checkpointFile(f).isFile())
+                  return f;
+            }
+        }
+
+        return best;
+    }
+
+    // Contents of the checkpoint for frame
+    private byte[] load(int frame) throws IOException
+    {
+        byte[] data = saved.get(frame);
+        if (data != null)
+          return data;
+
+        File f = checkpointFile(frame);
+        data = new byte[(int)f.length()];
+        DataInputStream in = new DataInputStream(new FileInputStream(f));
+        try {
+            in.readFully(data);
+        } finally {
+            in.close();
+        }
+        saved.put(frame, data);
+        return data;
+    }
+
+    // File holding the checkpoint for frame
+    private File checkpointFile(int frame)
+    {
+        return new File(dir, "checkpoint" + frameDigits(frame) + ".bin");
+    }
+
+    // Frame number padded to eight digits
+    private static String frameDigits(int frame)
+    {
+        String s = Integer.toString(frame);
+        while (s.length() < 8)
+          s = "0" + s;
+        return s;
+    }
+}
@@ -0,0 +1,313 @@
+/* class ChunkedWorld
+ * An unbounded world for a scene, split into square chunks of ground.
+ * The rocks and trees of a chunk are generated when a critter comes
+ * near it, from a generator seeded by (scene seed, chunk x, chunk y)
+ * alone, so a chunk always has the same contents however (and however
+ * often) it's generated.
+ *
+ * Generated chunks are kept in a cache, least recently used first; when
+ * their estimated size passes the memory budget, the least recently
+ * used chunks no critter is near are dropped (to be generated again if
+ * a critter comes back).  The scene's obstacle list holds the obstacles
+ * of the chunks near the critters, in chunk order, so the simulation
+ * doesn't depend on what happens to be cached.
+ */
+
+import java.util.*;
+
+import javax.vecmath.*;
+
+class ChunkedWorld
+{
+    // Width of a chunk (about the size of the fixed world)
+    static final double chunkSize = 30;
+
+    // Obstacles within this distance of a critter are loaded
+    static final double loadRadius = 15;
+
+    // Rocks and trees are kept this far from the chunk edges, so
+    // obstacles of neighboring chunks don't overlap
+    static final double edgeMargin = 4;
+
+    // Memory budget for cached chunks (in bytes)
+    long budget;
+
+    // Seed of the scene
+    private long seed;
+
+    // Whether rocks store their heights as floats (see Rock)
+    final boolean singlePrecision;
+
+    // A chunk of the world and its obstacles
+    static class Chunk
+    {
+        int cx, cy;
+        Vector<Obstacle> obstacles = new Vector<Obstacle>();
+        long bytes;
+    }
+
+    // Cached chunks by key, least recently used first
+    private LinkedHashMap<Long, Chunk> cache =
+        new LinkedHashMap<Long, Chunk>(64, 0.75f, true);
+    private long cachedBytes = 0;
+
+    // Chunks near the critters (sorted by key)
+    private TreeSet<Long> active = new TreeSet<Long>();
+
+    // Corners (lowest and highest chunk) of the chunks near each
+    // critter when the active chunks were found
+    private long[] critterRange = new long[0];
+
+    // Statistics
+    int generated = 0, evicted = 0;
+
+    // Times the obstacle list has changed
+    int changes = 0;
+
+    // Locations rejected while placing obstacles (for profiling)
+    private int retries;
+
+    // ---------------------------------------------------------------
+
+    // World for the scene with the given seed, caching about
+    // budgetBytes of chunks (with rocks in single precision if
+    // singlePrecisionVal)
+    public ChunkedWorld(long seedVal, long budgetBytes,
+                        boolean singlePrecisionVal)
+    {
+        seed = seedVal;
+        budget = budgetBytes;
+        singlePrecision = singlePrecisionVal;
+    }
+
+    // Key of chunk (cx, cy)
+    static long key(int cx, int cy)
+    {
+        return ((long)cx << 32) | (cy & 0xffffffffL);
+    }
+
+    // Chunk coordinate of world coordinate v
+    static int chunkOf(double v)
+    {
+        return (int)Math.floor(v / chunkSize);
+    }
+
+    // ---------------------------------------------------------------
+
+    // Bring the obstacles of scene up to date with where its critters
+    // are (or with the origin, before there are any critters)
+    public void update(Scene scene)
+    {
+        Vector<Critter> critters = scene.critters;
+
+        // Only look again when the chunks near some critter have changed
+        // (so the active chunks depend only on where the critters are)
+        boolean moved = 2*critters.size() != critterRange.length ||
+            critters.size() == 0;
+        if (!moved) {
+            for (int k = 0; k < critters.size(); k++) {
+                Point3d p = critters.get(k).pos;
+                if (nearLow(p.x, p.y) != critterRange[2*k] ||
+                    nearHigh(p.x, p.y) != critterRange[2*k+1]) {
+                    moved = true;
+                    break;
+                }
+            }
+        }
+        if (!moved)
+          return;
+
+        // Chunks near each critter
+        active.clear();
+        if (critters.size() == 0) {
+            addNear(0, 0);
+        }
+        if (critterRange.length != 2*critters.size()) {
+            critterRange = new long[2*critters.size()];
+        }
+        for (int k = 0; k < critters.size(); k++) {
+            Point3d p = critters.get(k).pos;
+            critterRange[2*k] = nearLow(p.x, p.y);
+            critterRange[2*k+1] = nearHigh(p.x, p.y);
+            addNear(p.x, p.y);
+        }
+
+        // Obstacles of those chunks (generating any not cached)
+        scene.obstacles.clear();
+        for (Long k : active) {
+            Chunk c = cache.get(k);
+            if (c == null) {
+                c = generate((int)(k >> 32), (int)(long)k);
+                cache.put(k, c);
+                cachedBytes += c.bytes;
+                generated++;
+            }
+            scene.obstacles.addAll(c.obstacles);
+        }
+        changes++;
+
+        // Drop chunks nobody is near while over budget
+        Iterator<Map.Entry<Long, Chunk>> i = cache.entrySet().iterator();
+        while (cachedBytes > budget && i.hasNext()) {
+            Map.Entry<Long, Chunk> e = i.next();
+            if (!active.contains(e.getKey())) {
+                cachedBytes -= e.getValue().bytes;
+                i.remove();
+                evicted++;
+            }
+        }
+    }
+
+    // Keys of the lowest and highest chunks within loadRadius of (x, y)
+    static long nearLow(double x, double y)
+    {
+        return key(chunkOf(x - loadRadius), chunkOf(y - loadRadius));
+    }
+    static long nearHigh(double x, double y)
+    {
+        return key(chunkOf(x + loadRadius), chunkOf(y + loadRadius));
+    }
+
+    // Note the chunks within loadRadius of (x, y) as active
+    private void addNear(double x, double y)
+    {
+        int x0 = chunkOf(x - loadRadius), x1 = chunkOf(x + loadRadius);
+        int y0 = chunkOf(y - loadRadius), y1 = chunkOf(y + loadRadius);
+
+        for (int cx = x0; cx <= x1; cx++) {
+            for (int cy = y0; cy <= y1; cy++) {
+                active.add(key(cx, cy));
+            }
+        }
+    }
+
+    // ---------------------------------------------------------------
+
+    // Make the contents of chunk (cx, cy)
+    Chunk generate(int cx, int cy)
+    {
+        WorldBuildEvent event = new WorldBuildEvent();
+        event.begin();
+        retries = 0;
+
+        Chunk c = new Chunk();
+        c.cx = cx;
+        c.cy = cy;
+
+        SimRandom rgen = new SimRandom(chunkSeed(cx, cy));
+        double x0 = cx * chunkSize, y0 = cy * chunkSize;
+        Point2d pos = new Point2d();
+
+        // Up to one tree, and one to four rocks (as in the fixed world,
+        // skipping any that don't find room)
+        int numTrees = (int)(rgen.nextDouble()*2);
+        for (int i = 0; i < numTrees; i++) {
+            if (place(c, rgen, x0, y0, 1.0, true, pos)) {
+                c.obstacles.addElement(new Tree(rgen, 5, 4, 2.0f, 0.3f,
+                                                pos.x, pos.y));
+            }
+        }
+
+        int numRocks = (int)(rgen.nextDouble()*4+1);
+        for (int i = 0; i < numRocks; i++) {
+            double scale = rgen.nextDouble()*3.0+1.0;
+            if (place(c, rgen, x0, y0, scale, false, pos)) {
+                c.obstacles.addElement(new Rock(rgen, 3, pos.x, pos.y,
+                                                scale, singlePrecision));
+            }
+        }
+
+        for (int i = 0; i < c.obstacles.size(); i++) {
+            c.bytes += footprint(c.obstacles.get(i));
+        }
+
+        if (event.shouldCommit()) {
+            event.scope = "chunk";
+            event.chunkX = cx;
+            event.chunkY = cy;
+            for (int i = 0; i < c.obstacles.size(); i++) {
+                if (c.obstacles.get(i) instanceof Tree)
+                  event.trees++;
+                else
+                  event.rocks++;
+            }
+            event.rngDraws = rgen.draws;
+            event.placementRetries = retries;
+            event.commit();
+        }
+
+        return c;
+    }
+
+    // Seed for the generator of chunk (cx, cy)
+    private long chunkSeed(int cx, int cy)
+    {
+        long h = seed * 0x9E3779B97F4A7C15L + key(cx, cy);
+        h = (h ^ (h >>> 30)) * 0xBF58476D1CE4E5B9L;
+        h = (h ^ (h >>> 27)) * 0x94D049BB133111EBL;
+        return h ^ (h >>> 31);
+    }
+
+    // Find a place in chunk c (at x0, y0) for an obstacle that doesn't
+    // collide with the others already there, storing it in pos; returns
+    // false if there isn't room after a few tries
+    private boolean place(Chunk c, Random rgen, double x0, double y0,
+                          double scale, boolean isTree, Point2d pos)
+    {
+        double r = isTree ? 4.0 : scale;
+
+        for (int tries = 0; tries < 20; tries++) {
+            pos.x = x0 + edgeMargin + rgen.nextDouble() * (chunkSize - 2*edgeMargin);
+            pos.y = y0 + edgeMargin + rgen.nextDouble() * (chunkSize - 2*edgeMargin);
+
+            boolean clear = true;
+            for (int i = 0; i < c.obstacles.size() && clear; i++) {
+                Obstacle o = c.obstacles.get(i);
+                double obR = (o instanceof Tree) ? 4.0 :
+                    ((Rock)o).getRockScale();
+                Point3d q = o.getLocation();
+                double dx = q.x - pos.x, dy = q.y - pos.y;
+                clear = Math.sqrt(dx*dx + dy*dy) > r + obR;
+            }
+            if (clear)
+              return true;
+            retries++;
+        }
+        return false;
+    }
+
+    // Rough estimate of the memory used by an obstacle (in bytes)
+    static long footprint(Obstacle o)
+    {
+        if (o instanceof Rock) {
+            Rock r = (Rock)o;
+            int n = r.rsize;
+            // height and locked arrays, and the rock itself
+            return n * (n * (r.heightBytes() + 1L) + 32) + 96;
+        }
+        return 128 + footprint(((Tree)o).tree);
+    }
+
+    private static long footprint(TreePart p)
+    {
+        // Part, its angle and its child array
+        long bytes = 72 + 40 + 16 + 4L * p.parts.length;
+        for (int i = 0; i < p.parts.length; i++) {
+            if (p.parts[i] != null)
+              bytes += footprint(p.parts[i]);
+        }
+        return bytes;
+    }
+
+    // ---------------------------------------------------------------
+
+    // Number of cached chunks, and their estimated size (in bytes)
+    public int cachedChunks()
+    {
+        return cache.size();
+    }
+    public long cachedBytes()
+    {
+        return cachedBytes;
+    }
+}
@@ -7,9 +7,8 @@
  * Doug DeCarlo
  */
 
-import javax.media.opengl.GL;
-import javax.media.opengl.GLAutoDrawable;
 import javax.vecmath.*;
+import java.io.*;
 import java.util.*;
 
 abstract class Critter
@@ -19,14 +18,14 @@ abstract class Critter
     Point3d prevPos;
     Vector3d vel, acc;
 
+    // Heading (angle in radians of the direction from prevPos to pos)
+    double heading;
+
     // Total distance traveled (used for keyframing)
     double dist;
 
     // Random number generator
     Random rgen;
-    
-    // for drawing shadows
-    boolean shadow;
 
     // ---------------------------------------------------------------
 
@@ -41,12 +40,8 @@ abstract class Critter
 	dist = 0;
 
 	rgen = randomGen;
-	shadow = false;
     }
 
-    // Method to draw critter
-    abstract void draw(GL gl);
-
     // Method to do keyframe animation
     abstract void keyframe(double t);
 
@@ -60,34 +55,33 @@ abstract class Critter
 
     // Method to integrate acc to get updated vel and pos;
     // also computes the distance traveled
-    // (assumes acc is already computed)
+    // (assumes acc is already computed; updates in place, so stepping
+    //  doesn't allocate)
     public void integrate(double dt)
     {
     	// Euler integration
-    	Vector3d new_velocity = new Vector3d();
-    	Point3d new_position = new Point3d();
-    	Vector3d curr_distance = new Vector3d();
-
-    	new_velocity.x = vel.x + acc.x * dt;
-    	new_velocity.y = vel.y + acc.y * dt;
-    	new_velocity.z = 0;
-
-    	new_position.x = pos.x + vel.x * dt;
-    	new_position.y = pos.y + vel.y * dt;
-    	new_position.z = 0;
-    	
-    	curr_distance.x = new_position.x - pos.x;
-    	curr_distance.y = new_position.y - pos.y;
-    	curr_distance.z = 0;
-    	
-    	vel = new_velocity;
-    	prevPos = pos;
-    	pos = new_position;
-    	dist += curr_distance.length();
-    	
-    	curr_distance = null;
-    	
-	
+    	double newX = pos.x + vel.x * dt;
+    	double newY = pos.y + vel.y * dt;
+    	double dx = newX - pos.x;
+    	double dy = newY - pos.y;
+
+    	prevPos.set(pos);
+    	pos.x = newX;
+    	pos.y = newY;
+    	pos.z = 0;
+
+    	vel.x += acc.x * dt;
+    	vel.y += acc.y * dt;
+    	vel.z = 0;
+
+    	dist += Math.sqrt(dx*dx + dy*dy);
+    }
+
+    // Set the heading from the last step (called once a frame, rather
+    // than on every step of integrate())
+    public void updateHeading()
+    {
+	heading = Math.atan2(pos.y-prevPos.y, pos.x-prevPos.x);
     }
 
     // Accessor for total distance traveled by bug
@@ -119,13 +113,22 @@ abstract class Critter
     // (negative values of k produce repulsion)
     public void accelAttract(Point3d p, double critterRadius, double obstacleRadius, double k, double exp)
     {
-    	double maxVel = 40.0;
-        Vector3d direction = new Vector3d(p.x-pos.x, p.y-pos.y, 0);
-        double curr_dist = direction.length() - critterRadius - obstacleRadius;
-        direction.normalize();
+        double dx = p.x-pos.x, dy = p.y-pos.y;
+        double len = Math.sqrt(dx*dx + dy*dy);
+        double curr_dist = len - critterRadius - obstacleRadius;
+        double norm = 1.0/len;
+        double f = k*Math.pow(curr_dist, exp);
         
-        acc.x += direction.x * (k*Math.pow(curr_dist, exp));
-        acc.y += direction.y * (k*Math.pow(curr_dist, exp));
+        accelAdd((dx*norm) * f, (dy*norm) * f);
+    }
+
+    // Add (ax, ay) to the acceleration, limiting each component to
+    // +/- maxVel (used by accelAttract() and ForceTree)
+    public void accelAdd(double ax, double ay)
+    {
+    	double maxVel = 40.0;
+        acc.x += ax;
+        acc.y += ay;
         
         if (acc.x>maxVel)
         	acc.x = maxVel;
@@ -140,4 +143,39 @@ abstract class Critter
         acc.z = 0;
     }
 
+    // ---------------------------------------------------------------
+    // Checkpointing (the state changed by simulation)
+
+    public void writeState(DataOutput out) throws IOException
+    {
+	writeTuple(out, pos);
+	writeTuple(out, prevPos);
+	writeTuple(out, vel);
+	writeTuple(out, acc);
+	out.writeDouble(dist);
+    }
+
+    public void readState(DataInput in) throws IOException
+    {
+	readTuple(in, pos);
+	readTuple(in, prevPos);
+	readTuple(in, vel);
+	readTuple(in, acc);
+	dist = in.readDouble();
+	updateHeading();
+    }
+
+    static void writeTuple(DataOutput out, Tuple3d t) throws IOException
+    {
+	out.writeDouble(t.x);
+	out.writeDouble(t.y);
+	out.writeDouble(t.z);
+    }
+
+    static void readTuple(DataInput in, Tuple3d t) throws IOException
+    {
+	t.x = in.readDouble();
+	t.y = in.readDouble();
+	t.z = in.readDouble();
+    }
 }
@@ -0,0 +1,380 @@
+/* class CritterBatch
+ * The state of a scene's critters laid out as parallel arrays (one per
+ * coordinate), so the steering and integration of a simulation substep
+ * can run as a few tight loops over all critters instead of one pass
+ * per Bug object.  The JIT can compile loops of plain arithmetic,
+ * square roots and min/max on arrays to SIMD instructions (C2's
+ * superword pass), which it can't do for the per-object path; a loop
+ * calling Math.pow() isn't vectorized.
+ *
+ * The critters are gathered into the arrays at the start of a frame's
+ * simulation and written back at its end; the main bug and predator,
+ * whose wandering, fleeing and chasing is steered by Scene, are written
+ * back and read again around that part of each substep.
+ *
+ * Kernels:
+ *  - SCALAR: the per-object path (the batch isn't used)
+ *  - BATCH:  the same arithmetic over the arrays, giving exactly the
+ *            same results (the Math.pow() calls keep it from being
+ *            vectorized, so it gains little over SCALAR)
+ *  - FAST:   as BATCH, but raising to whole exponents by repeated
+ *            multiplication instead of Math.pow(); results differ from
+ *            the other kernels in the last bits.  Most of its speedup
+ *            comes from not calling Math.pow(); the rest from the JIT
+ *            vectorizing its loops (about 4.5x for 8192 bugs, comparing
+ *            runs with -XX:-UseSuperWord)
+ *  - FLOAT:  as FAST, in single precision (see FloatCritterBatch)
+ *  - VECTOR: as FAST, written with the Vector API so it's vectorized
+ *            explicitly, with the same results as FAST (see
+ *            VectorCritterBatch); FAST is used instead if the
+ *            jdk.incubator.vector module isn't there
+ */
+
+import java.util.*;
+
+class CritterBatch
+{
+    // Kernels, and their names (for command-line options)
+    static final int SCALAR = 0, BATCH = 1, FAST = 2, FLOAT = 3, VECTOR = 4;
+    static final String[] kernelNames = {
+        "scalar", "batch", "fast", "float", "vector"
+    };
+
+    // Module of the Vector API (an incubator module, only present when
+    // added with --add-modules)
+    static final String vectorModule = "jdk.incubator.vector";
+
+    // Largest acceleration component (as in Critter.accelAdd())
+    static final double maxAccel = 40.0;
+
+    // Whole exponents up to this size are raised by multiplication in
+    // the FAST kernel
+    static final int maxWholeExp = 64;
+
+    // Kernel used
+    int kernel;
+
+    // Critters: position, velocity, acceleration, position before the
+    // last step, distance traveled, last step, and radius (with
+    // padding) for avoiding obstacles
+    int n = 0;
+    double[] px = new double[0], py, vx, vy, ax, ay, prevX, prevY, dist;
+    double[] lastDx, lastDy, cr;
+
+    // Obstacles: position, radius, and strength and exponent of their
+    // repulsion
+    int m = 0;
+    double[] ox = new double[0], oy, or, ok, oexp;
+
+    // Scratch for the FAST kernel: unit direction to the obstacle,
+    // distance from it, and powers
+    private double[] ux = new double[0], uy, gap, pw, sq;
+
+    // Index of the main bug and predator in the arrays (-1 if absent)
+    int mainIndex, predatorIndex;
+
+    // ---------------------------------------------------------------
+
+    public CritterBatch(int kernelVal)
+    {
+        kernel = kernelVal;
+    }
+
+    // Batch for the given kernel (other than SCALAR)
+    static CritterBatch make(int kernel)
+    {
+        if (kernel == FLOAT)
+          return new FloatCritterBatch();
+        if (kernel == VECTOR) {
+            CritterBatch vector = makeVector();
+            if (vector != null)
+              return vector;
+            System.out.println("No " + vectorModule + " module (run with" +
+                               " --add-modules " + vectorModule + ")," +
+                               " using the fast kernel");
+            return new CritterBatch(FAST);
+        }
+        return new CritterBatch(kernel);
+    }
+
+    // Batch for the VECTOR kernel, or null if the Vector API isn't
+    // available (VectorCritterBatch is only loaded if it is)
+    private static CritterBatch makeVector()
+    {
+        if (!ModuleLayer.boot().findModule(vectorModule).isPresent())
+          return null;
+        try {
+            return (CritterBatch) Class.forName("VectorCritterBatch")
+                .getDeclaredConstructor().newInstance();
+        } catch (ReflectiveOperationException | LinkageError e) {
+            return null;
+        }
+    }
+
+    // Kernel with the given name
+    static int kernel(String name)
+    {
+        for (int i = 0; i < kernelNames.length; i++) {
+            if (kernelNames[i].equals(name))
+              return i;
+        }
+        throw new IllegalArgumentException("Unknown kernel: " + name +
+            " (expected one of " + Arrays.toString(kernelNames) + ")");
+    }
+
+    // ---------------------------------------------------------------
+
+    // Copy the critters and obstacles of scene into the arrays (which
+    // only grow, so a steady scene doesn't allocate)
+    public void gather(Scene scene)
+    {
+        Vector<Critter> critters = scene.critters;
+
+        n = critters.size();
+        gatherCritters(scene);
+        mainIndex = critters.indexOf(scene.mainBug);
+        predatorIndex = critters.indexOf(scene.predator);
+
+        gatherObstacles(scene);
+    }
+
+    // Copy the n critters of scene into the arrays
+    void gatherCritters(Scene scene)
+    {
+        Vector<Critter> critters = scene.critters;
+        SteeringParams steering = scene.steering;
+
+        if (px.length < n) {
+            int size = Math.max(n, 2 * px.length);
+            px = new double[size];
+            py = new double[size];
+            vx = new double[size];
+            vy = new double[size];
+            ax = new double[size];
+            ay = new double[size];
+            prevX = new double[size];
+            prevY = new double[size];
+            dist = new double[size];
+            lastDx = new double[size];
+            lastDy = new double[size];
+            cr = new double[size];
+            ux = new double[size];
+            uy = new double[size];
+            gap = new double[size];
+            pw = new double[size];
+            sq = new double[size];
+        }
+
+        for (int k = 0; k < n; k++) {
+            Bug bug = (Bug) critters.get(k);
+            px[k] = bug.pos.x;
+            py[k] = bug.pos.y;
+            vx[k] = bug.vel.x;
+            vy[k] = bug.vel.y;
+            prevX[k] = bug.prevPos.x;
+            prevY[k] = bug.prevPos.y;
+            dist[k] = bug.dist;
+            cr[k] = bug.scale+steering.critterPadding;
+        }
+    }
+
+    // Copy the repulsion of each obstacle of scene (as in
+    // Scene.simulate()) into the arrays
+    void gatherObstacles(Scene scene)
+    {
+        SteeringParams steering = scene.steering;
+        Vector<Obstacle> obstacles = scene.obstacles;
+        m = obstacles.size();
+        if (ox.length < m) {
+            int size = Math.max(m, 2 * ox.length);
+            ox = new double[size];
+            oy = new double[size];
+            or = new double[size];
+            ok = new double[size];
+            oexp = new double[size];
+        }
+        for (int j = 0; j < m; j++) {
+            Obstacle o = obstacles.get(j);
+            ox[j] = o.getLocation().x;
+            oy[j] = o.getLocation().y;
+            if (o instanceof Rock) {
+                double trScale = ((Rock) o).getRockScale();
+                or[j] = Math.sqrt((trScale*trScale)*2.0)/2.0;
+                ok[j] = steering.rockRepel-trScale;
+                oexp[j] = steering.rockExp;
+            } else {
+                or[j] = 0.1;
+                ok[j] = steering.treeRepel;
+                oexp[j] = steering.treeExp;
+            }
+        }
+    }
+
+    // Copy the arrays back into the critters of scene
+    public void scatter(Scene scene)
+    {
+        Vector<Critter> critters = scene.critters;
+
+        for (int k = 0; k < n; k++) {
+            Critter c = critters.get(k);
+            c.prevPos.set(prevX[k], prevY[k], 0);
+            c.pos.set(px[k], py[k], 0);
+            c.vel.set(vx[k], vy[k], 0);
+            c.acc.set(ax[k], ay[k], 0);
+            c.dist = dist[k];
+            c.heading = Math.atan2(lastDy[k], lastDx[k]);
+        }
+    }
+
+    // Copy the position and acceleration of critter k into c, and back
+    // (for steering it with Critter methods)
+    void put(int k, Critter c)
+    {
+        c.pos.set(px[k], py[k], 0);
+        c.acc.set(ax[k], ay[k], 0);
+    }
+    void get(int k, Critter c)
+    {
+        ax[k] = c.acc.x;
+        ay[k] = c.acc.y;
+    }
+
+    // ---------------------------------------------------------------
+    // Kernels
+
+    // The kernels work on the critters [start, end) (each critter only
+    // depends on itself, so a range of critters can be stepped on its
+    // own, such as on a thread of a TaskPool); the versions without a
+    // range work on all critters
+
+    // Set the accelerations to the repulsion of the obstacles, and add
+    // in the interactions of flock (if not null)
+    public void avoid(Flock flock)
+    {
+        avoid(flock, 0, n);
+    }
+    public void avoid(Flock flock, int start, int end)
+    {
+        Arrays.fill(ax, start, end, 0.0);
+        Arrays.fill(ay, start, end, 0.0);
+
+        for (int j = 0; j < m; j++) {
+            int e = (int) oexp[j];
+            if (kernel != BATCH && e == oexp[j] && Math.abs(e) <= maxWholeExp)
+              attractWhole(ox[j], oy[j], or[j], ok[j], e, start, end);
+            else
+              attract(ox[j], oy[j], or[j], ok[j], oexp[j], start, end);
+        }
+
+        if (flock != null) {
+            double[] fx = flock.ax, fy = flock.ay;
+            int count = Math.min(end, flock.n);
+            for (int k = start; k < count; k++) {
+                ax[k] += fx[k];
+                ay[k] += fy[k];
+            }
+        }
+    }
+
+    // Add attraction to (x, y) (of radius r) with strength k and
+    // exponent exp to every critter, as Critter.accelAttract() does
+    private void attract(double x, double y, double r, double k, double exp,
+                         int start, int end)
+    {
+        for (int i = start; i < end; i++) {
+            double dx = x-px[i], dy = y-py[i];
+            double len = Math.sqrt(dx*dx + dy*dy);
+            double curr_dist = len - cr[i] - r;
+            double norm = 1.0/len;
+            double f = k*Math.pow(curr_dist, exp);
+
+            ax[i] = Math.max(-maxAccel, Math.min(maxAccel, ax[i] + (dx*norm) * f));
+            ay[i] = Math.max(-maxAccel, Math.min(maxAccel, ay[i] + (dy*norm) * f));
+        }
+    }
+
+    // As attract(), for a whole exponent e: one pass for the directions
+    // and distances, one per bit of e for the powers, and one to add in
+    // the accelerations
+    void attractWhole(double x, double y, double r, double k, int e,
+                              int start, int end)
+    {
+        for (int i = start; i < end; i++) {
+            double dx = x-px[i], dy = y-py[i];
+            double len = Math.sqrt(dx*dx + dy*dy);
+            double norm = 1.0/len;
+            ux[i] = dx*norm;
+            uy[i] = dy*norm;
+            gap[i] = len - cr[i] - r;
+        }
+
+        power(gap, e, start, end);
+
+        for (int i = start; i < end; i++) {
+            double f = k*pw[i];
+            ax[i] = Math.max(-maxAccel, Math.min(maxAccel, ax[i] + ux[i] * f));
+            ay[i] = Math.max(-maxAccel, Math.min(maxAccel, ay[i] + uy[i] * f));
+        }
+    }
+
+    // Raise values [start, end) of base to the whole power e, into pw
+    // (by squaring, using sq for the squares)
+    private void power(double[] base, int e, int start, int end)
+    {
+        int bits = Math.abs(e);
+        for (int i = start; i < end; i++) {
+            pw[i] = 1.0;
+            sq[i] = base[i];
+        }
+        while (bits != 0) {
+            if ((bits & 1) != 0) {
+                for (int i = start; i < end; i++)
+                  pw[i] *= sq[i];
+            }
+            bits >>= 1;
+            if (bits != 0) {
+                for (int i = start; i < end; i++)
+                  sq[i] *= sq[i];
+            }
+        }
+        if (e < 0) {
+            for (int i = start; i < end; i++)
+              pw[i] = 1.0/pw[i];
+        }
+    }
+
+    // Add viscous drag k, then take an Euler step of dt (as
+    // Critter.accelDrag() and Critter.integrate() do)
+    public void integrate(double k, double dt)
+    {
+        integrate(k, dt, 0, n);
+    }
+    public void integrate(double k, double dt, int start, int end)
+    {
+        if (k > 0) {
+            for (int i = start; i < end; i++) {
+                ax[i] += -k * vx[i];
+                ay[i] += -k * vy[i];
+            }
+        }
+
+        for (int i = start; i < end; i++) {
+            double newX = px[i] + vx[i] * dt;
+            double newY = py[i] + vy[i] * dt;
+            double dx = newX - px[i];
+            double dy = newY - py[i];
+
+            prevX[i] = px[i];
+            prevY[i] = py[i];
+            px[i] = newX;
+            py[i] = newY;
+            lastDx[i] = dx;
+            lastDy[i] = dy;
+
+            vx[i] += ax[i] * dt;
+            vy[i] += ay[i] * dt;
+
+            dist[i] += Math.sqrt(dx*dx + dy*dy);
+        }
+    }
+}
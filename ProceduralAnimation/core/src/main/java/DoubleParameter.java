@@ -82,15 +82,15 @@ class DoubleParameter extends Parameter
     // Respond to an event from an interface component
     public void respond(Object v) 
     {
-        String vcn = v.getClass().getName();
+        double old = value;
 
-        if (vcn.equals("javax.swing.JTextField")) {
+        if (v instanceof JTextField) {
             try {
                 value = Double.parseDouble(((JTextField)v).getText());
             } catch (NumberFormatException e) {
                 // Leave value unchanged
             }
-        } else if (vcn.equals("javax.swing.JSlider")) {
+        } else if (v instanceof JSlider) {
             int ivalue = ((JSlider)v).getValue();
 
             value = min + ivalue * (max - min) / sliderRange;
@@ -104,27 +104,46 @@ class DoubleParameter extends Parameter
         if (value > max)
           value = max;
 
+        // Nothing to do if the value hasn't changed (but show the text
+        // field's value in the standard format)
+        if (value == old) {
+            if (v instanceof JTextField)
+              update(v);
+            return;
+        }
+
         updateAll();
+        changed();
+    }
+
+    // Set the value (constrained to the valid range) and update
+    // interface
+    public void set(double v)
+    {
+        value = Math.min(Math.max(v, min), max);
+
+        updateAll();
+        changed();
     }
 
     // Listener abstract methods for responding to interface events
     public void actionPerformed(ActionEvent e)
     {
-        boolean old = Parameter.blockAction(true);
+        boolean old = context.blockAction(true);
 
         respond(e.getSource());
 
-        Parameter.blockAction(old);
-        Parameter.onUserAction();
+        context.blockAction(old);
+        onUserAction();
     }
     public void stateChanged(ChangeEvent e)
     {
-        boolean old = Parameter.blockAction(true);
+        boolean old = context.blockAction(true);
 
         respond(e.getSource());
 
-        Parameter.blockAction(old);
-        Parameter.onUserAction();
+        context.blockAction(old);
+        onUserAction();
     }
 
     // Reset value to its default and update interface
@@ -133,6 +152,7 @@ class DoubleParameter extends Parameter
         value = def;
 
         updateAll();
+        changed();
     }
 
     // ------
@@ -140,24 +160,16 @@ class DoubleParameter extends Parameter
     // Update a single interface component
     public void update(Object v)
     {
-        String vcn = v.getClass().getName();
-        
-        if (vcn.equals("javax.swing.JTextField")) {
+        if (v instanceof JTextField) {
             ((JTextField)v).setText(numFormat.format(value));
-        } else if (vcn.equals("javax.swing.JSlider")) {
+        } else if (v instanceof JSlider) {
             int ivalue = (int)Math.round((value - min) * sliderRange /
                                          (max - min));
             
             ((JSlider)v).setMinimum(0);
             ((JSlider)v).setMaximum(sliderRange);
             ((JSlider)v).setValue(ivalue);
-        } else {
-            return;
         }
-
-        // Mark as dirty at appropriate level
-        if (dirty < dirtyLevel)
-          dirty = dirtyLevel;
     }
 
     // Update the entire interface
@@ -0,0 +1,147 @@
+/* class DriftReport
+ * How far the single-precision mode (the FLOAT kernel of CritterBatch,
+ * with rocks stored as floats) drifts from the double path: for each
+ * seed, a scene is simulated both ways side by side, frame by frame.
+ * Every so many frames one CSV row is written with the distance between
+ * the critters' positions in the two runs (mean and largest), that of
+ * the main bug, the largest difference in distance traveled, and the
+ * SimMetrics counts of each run; the largest difference in rock heights
+ * is given for the seed.  The runs are chaotic, so small differences
+ * grow: the rows show how long trajectories stay together, and whether
+ * the behavior (penetrations, escapes) stays the same once they don't,
+ * e.g.
+ *   java DriftReport -seeds 1-20 -frames 9000 -every 300 -bugs 200
+ */
+
+import java.io.*;
+import java.util.*;
+
+import javax.vecmath.*;
+
+public class DriftReport
+{
+    // Scene for seed simulated with kernel, with bugs more bugs
+    // (flocking if flock)
+    static Scene makeScene(long seed, int kernel, int bugs, boolean flock)
+    {
+        Scene scene = new Scene(seed, false, 1, null);
+        scene.resetClock();
+        scene.setFrameByFrameClock();
+        if (bugs > 0)
+          scene.addBugs(bugs);
+        if (flock)
+          scene.useFlocking(1);
+        scene.useKernel(kernel);
+        return scene;
+    }
+
+    // Largest difference between the heights of the rocks of a and b
+    static double heightError(Scene a, Scene b)
+    {
+        Point3d p = new Point3d(), q = new Point3d();
+        double err = 0;
+        for (int j = 0; j < a.obstacles.size(); j++) {
+            if (!(a.obstacles.get(j) instanceof Rock))
+              continue;
+            Rock ra = (Rock)a.obstacles.get(j), rb = (Rock)b.obstacles.get(j);
+            for (int i = 0; i < ra.rsize; i++) {
+                for (int k = 0; k < ra.rsize; k++) {
+                    ra.getRockPoint(i, k, p);
+                    rb.getRockPoint(i, k, q);
+                    err = Math.max(err, Math.abs(p.z - q.z));
+                }
+            }
+        }
+        return err;
+    }
+
+    public static void main(String args[])
+    {
+        long[] seeds = { 1 };
+        int frames = 9000, every = 300;
+        int bugs = 0;
+        boolean flock = false;
+        String outFile = null;
+
+        // Parse command-line arguments
+        try {
+            for (int i = 0; i < args.length; i++) {
+                if (args[i].equals("-seeds")) {
+                    seeds = SweepRunner.parseSeeds(args[++i]);
+                } else if (args[i].equals("-frames")) {
+                    frames = Integer.parseInt(args[++i]);
+                } else if (args[i].equals("-every")) {
+                    every = Integer.parseInt(args[++i]);
+                } else if (args[i].equals("-bugs")) {
+                    bugs = Integer.parseInt(args[++i]);
+                } else if (args[i].equals("-flock")) {
+                    flock = true;
+                } else if (args[i].equals("-out")) {
+                    outFile = args[++i];
+                } else {
+                    System.out.println("Usage: java DriftReport" +
+                                       " [-seeds first-last|s1,s2,...]" +
+                                       " [-frames #] [-every #]" +
+                                       " [-bugs #] [-flock]" +
+                                       " [-out file.csv]");
+                    throw new Exception("Illegal argument: " + args[i]);
+                }
+            }
+        } catch (Exception e) {
+            System.out.println("Error: " + e.getMessage());
+            System.exit(1);
+        }
+
+        try {
+            PrintStream out = (outFile == null) ? System.out :
+                new PrintStream(new FileOutputStream(outFile));
+
+            out.println("seed,frame,mean_pos_error,max_pos_error," +
+                        "mainbug_pos_error,max_dist_error," +
+                        "penetrations_double,penetrations_float," +
+                        "escapes_double,escapes_float,max_height_error");
+
+            for (long seed : seeds) {
+                Scene d = makeScene(seed, CritterBatch.SCALAR, bugs, flock);
+                Scene f = makeScene(seed, CritterBatch.FLOAT, bugs, flock);
+                double heightErr = heightError(d, f);
+                SimMetrics md = new SimMetrics(), mf = new SimMetrics();
+
+                for (int frame = 1; frame <= frames; frame++) {
+                    d.step();
+                    f.step();
+                    md.observe(d);
+                    mf.observe(f);
+                    if (frame % every != 0)
+                      continue;
+
+                    int n = d.critters.size();
+                    double sum = 0, max = 0, distErr = 0;
+                    for (int k = 0; k < n; k++) {
+                        Critter cd = d.critters.get(k), cf = f.critters.get(k);
+                        double e = cd.pos.distance(cf.pos);
+                        sum += e;
+                        max = Math.max(max, e);
+                        distErr = Math.max(distErr,
+                                           Math.abs(cd.dist - cf.dist));
+                    }
+
+                    out.println(seed + "," + frame + "," + (sum / n) + "," +
+                                max + "," +
+                                d.mainBug.pos.distance(f.mainBug.pos) + "," +
+                                distErr + "," +
+                                md.penetrations + "," + mf.penetrations + "," +
+                                md.escapes + "," + mf.escapes + "," +
+                                heightErr);
+                    out.flush();
+                }
+            }
+
+            if (out != System.out)
+              out.close();
+        } catch (Exception e) {
+            System.out.println("Error: " + e);
+            System.exit(1);
+        }
+    }
+}
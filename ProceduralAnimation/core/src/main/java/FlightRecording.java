@@ -0,0 +1,46 @@
+/* class FlightRecording
+ * Starts a JDK Flight Recorder recording written to a file when the
+ * program exits (for the -jfr option), with the usual JVM events plus
+ * this program's (SimStepEvent, FrameDrawEvent, FrameDumpEvent and
+ * WorldBuildEvent).  Open the file with JDK Mission Control, or print
+ * it with: jfr print --categories ProceduralAnimation file.jfr
+ *
+ * The program's events cost almost nothing when no recording is
+ * running, so they're always compiled in.
+ */
+
+import java.io.*;
+import java.nio.file.*;
+import java.text.*;
+
+import jdk.jfr.*;
+
+class FlightRecording
+{
+    // Start recording to filename (written by close(), or when the
+    // program exits)
+    public static Recording start(String filename)
+        throws IOException, ParseException
+    {
+        Recording r = new Recording(Configuration.getConfiguration("default"));
+        r.setName("ProceduralAnimation");
+        r.enable(SimStepEvent.class);
+        r.enable(FrameDrawEvent.class);
+        r.enable(FrameDumpEvent.class);
+        r.enable(WorldBuildEvent.class);
+        r.setDestination(Paths.get(filename));
+        r.setToDisk(true);
+        r.setDumpOnExit(true);
+        r.start();
+        return r;
+    }
+
+    // Stop recording, writing the file
+    public static void close(Recording r)
+    {
+        if (r == null)
+          return;
+        r.stop();
+        r.close();
+    }
+}
@@ -0,0 +1,232 @@
+/* class FloatCritterBatch
+ * The FLOAT kernel of CritterBatch: critter state is kept in float
+ * arrays and stepped in single precision, so the arrays take half the
+ * memory (and memory traffic) of the double kernels, and vectorized
+ * loops work on twice as many critters at a time.  Obstacles (a few per critter's
+ * neighborhood) are gathered in double as for the other kernels, and
+ * narrowed once per obstacle.
+ *
+ * The critters themselves still hold doubles (for the renderer and
+ * checkpoints), but in this mode they only ever hold float values:
+ * everything scattered back has been rounded to float.  The one
+ * exception is the distance traveled, which grows without bound; each
+ * frame's distance is summed in float from zero and added to the
+ * critter's double total, since steps of a few thousandths would be
+ * lost against a float total of a few thousand.
+ *
+ * See DriftReport for how far trajectories drift from the double path.
+ */
+
+import java.util.*;
+
+class FloatCritterBatch extends CritterBatch
+{
+    // Critters (as in CritterBatch; step is the distance traveled this
+    // frame)
+    float[] fx = new float[0], fy, fvx, fvy, fax, fay, fprevX, fprevY;
+    float[] step, flastDx, flastDy, fcr;
+
+    // Scratch: unit direction to the obstacle, distance from it, and
+    // powers
+    private float[] ux = new float[0], uy, gap, pw, sq;
+
+    // ---------------------------------------------------------------
+
+    public FloatCritterBatch()
+    {
+        super(FLOAT);
+    }
+
+    // Copy the n critters of scene into the arrays
+    void gatherCritters(Scene scene)
+    {
+        Vector<Critter> critters = scene.critters;
+        SteeringParams steering = scene.steering;
+
+        if (fx.length < n) {
+            int size = Math.max(n, 2 * fx.length);
+            fx = new float[size];
+            fy = new float[size];
+            fvx = new float[size];
+            fvy = new float[size];
+            fax = new float[size];
+            fay = new float[size];
+            fprevX = new float[size];
+            fprevY = new float[size];
+            step = new float[size];
+            flastDx = new float[size];
+            flastDy = new float[size];
+            fcr = new float[size];
+            ux = new float[size];
+            uy = new float[size];
+            gap = new float[size];
+            pw = new float[size];
+            sq = new float[size];
+        }
+
+        for (int k = 0; k < n; k++) {
+            Bug bug = (Bug) critters.get(k);
+            fx[k] = (float) bug.pos.x;
+            fy[k] = (float) bug.pos.y;
+            fvx[k] = (float) bug.vel.x;
+            fvy[k] = (float) bug.vel.y;
+            fprevX[k] = (float) bug.prevPos.x;
+            fprevY[k] = (float) bug.prevPos.y;
+            step[k] = 0;
+            fcr[k] = (float) (bug.scale+steering.critterPadding);
+        }
+    }
+
+    // Copy the arrays back into the critters of scene
+    public void scatter(Scene scene)
+    {
+        Vector<Critter> critters = scene.critters;
+
+        for (int k = 0; k < n; k++) {
+            Critter c = critters.get(k);
+            c.prevPos.set(fprevX[k], fprevY[k], 0);
+            c.pos.set(fx[k], fy[k], 0);
+            c.vel.set(fvx[k], fvy[k], 0);
+            c.acc.set(fax[k], fay[k], 0);
+            c.dist += step[k];
+            c.heading = Math.atan2(flastDy[k], flastDx[k]);
+        }
+    }
+
+    void put(int k, Critter c)
+    {
+        c.pos.set(fx[k], fy[k], 0);
+        c.acc.set(fax[k], fay[k], 0);
+    }
+    void get(int k, Critter c)
+    {
+        fax[k] = (float) c.acc.x;
+        fay[k] = (float) c.acc.y;
+    }
+
+    // ---------------------------------------------------------------
+    // Kernels
+
+    public void avoid(Flock flock, int start, int end)
+    {
+        Arrays.fill(fax, start, end, 0.0f);
+        Arrays.fill(fay, start, end, 0.0f);
+
+        for (int j = 0; j < m; j++) {
+            int e = (int) oexp[j];
+            if (e == oexp[j] && Math.abs(e) <= maxWholeExp)
+              attractWhole((float) ox[j], (float) oy[j], (float) or[j],
+                           (float) ok[j], e, start, end);
+            else
+              attract((float) ox[j], (float) oy[j], (float) or[j],
+                      (float) ok[j], oexp[j], start, end);
+        }
+
+        if (flock != null) {
+            double[] ffx = flock.ax, ffy = flock.ay;
+            int count = Math.min(end, flock.n);
+            for (int k = start; k < count; k++) {
+                fax[k] += (float) ffx[k];
+                fay[k] += (float) ffy[k];
+            }
+        }
+    }
+
+    // Add attraction to (x, y) with a fractional exponent (raised in
+    // double, as there's no float Math.pow())
+    private void attract(float x, float y, float r, float k, double exp,
+                         int start, int end)
+    {
+        float max = (float) maxAccel;
+        for (int i = start; i < end; i++) {
+            float dx = x-fx[i], dy = y-fy[i];
+            float len = (float) Math.sqrt(dx*dx + dy*dy);
+            float curr_dist = len - fcr[i] - r;
+            float norm = 1.0f/len;
+            float f = k*(float) Math.pow(curr_dist, exp);
+
+            fax[i] = Math.max(-max, Math.min(max, fax[i] + (dx*norm) * f));
+            fay[i] = Math.max(-max, Math.min(max, fay[i] + (dy*norm) * f));
+        }
+    }
+
+    // Add attraction to (x, y) with whole exponent e (as
+    // CritterBatch.attractWhole())
+    private void attractWhole(float x, float y, float r, float k, int e,
+                              int start, int end)
+    {
+        float max = (float) maxAccel;
+        for (int i = start; i < end; i++) {
+            float dx = x-fx[i], dy = y-fy[i];
+            float len = (float) Math.sqrt(dx*dx + dy*dy);
+            float norm = 1.0f/len;
+            ux[i] = dx*norm;
+            uy[i] = dy*norm;
+            gap[i] = len - fcr[i] - r;
+        }
+
+        power(gap, e, start, end);
+
+        for (int i = start; i < end; i++) {
+            float f = k*pw[i];
+            fax[i] = Math.max(-max, Math.min(max, fax[i] + ux[i] * f));
+            fay[i] = Math.max(-max, Math.min(max, fay[i] + uy[i] * f));
+        }
+    }
+
+    // Raise values [start, end) of base to the whole power e, into pw
+    private void power(float[] base, int e, int start, int end)
+    {
+        int bits = Math.abs(e);
+        for (int i = start; i < end; i++) {
+            pw[i] = 1.0f;
+            sq[i] = base[i];
+        }
+        while (bits != 0) {
+            if ((bits & 1) != 0) {
+                for (int i = start; i < end; i++)
+                  pw[i] *= sq[i];
+            }
+            bits >>= 1;
+            if (bits != 0) {
+                for (int i = start; i < end; i++)
+                  sq[i] *= sq[i];
+            }
+        }
+        if (e < 0) {
+            for (int i = start; i < end; i++)
+              pw[i] = 1.0f/pw[i];
+        }
+    }
+
+    public void integrate(double kd, double dtd, int start, int end)
+    {
+        float k = (float) kd, dt = (float) dtd;
+
+        if (k > 0) {
+            for (int i = start; i < end; i++) {
+                fax[i] += -k * fvx[i];
+                fay[i] += -k * fvy[i];
+            }
+        }
+
+        for (int i = start; i < end; i++) {
+            float newX = fx[i] + fvx[i] * dt;
+            float newY = fy[i] + fvy[i] * dt;
+            float dx = newX - fx[i];
+            float dy = newY - fy[i];
+
+            fprevX[i] = fx[i];
+            fprevY[i] = fy[i];
+            fx[i] = newX;
+            fy[i] = newY;
+            flastDx[i] = dx;
+            flastDy[i] = dy;
+
+            fvx[i] += fax[i] * dt;
+            fvy[i] += fay[i] * dt;
+
+            step[i] += (float) Math.sqrt(dx*dx + dy*dy);
+        }
+    }
+}
@@ -0,0 +1,287 @@
+/* class Flock
+ * Interactions between any number of bugs: each bug keeps apart from
+ * bugs very close to it (separation), and matches the velocity of
+ * (alignment) and moves toward (cohesion) the bugs of its kind near it;
+ * prey flee predators near them, and predators chase the nearest prey.
+ * The constants are in SteeringParams.
+ *
+ * Neighbors are found without looking at every pair: bug positions are
+ * copied into arrays, each bug is given the Morton (Z-order) key of the
+ * grid cell it's in (cells as wide as the interaction radius), and bugs
+ * are sorted by key, so the bugs in a cell are one run of the sorted
+ * order.  A bug's neighbors are then in the runs of its cell and the 8
+ * cells around it, found by binary search once per cell; as nearby
+ * cells have nearby keys, neighboring bugs are mostly close together
+ * in the arrays too.
+ *
+ * The interactions are computed once per simulated frame (in sorted
+ * order, split over the threads of a TaskPool for large flocks) and
+ * added to each bug's
+ * acceleration at every simulation step, as LodScheduler does with
+ * obstacle avoidance.  The result doesn't depend on the number of
+ * threads.
+ */
+
+import java.util.*;
+
+import javax.vecmath.*;
+
+class Flock
+{
+    // Most neighbors of each kind a bug pays attention to
+    static final int maxNeighbors = 24;
+
+    // Bugs per task when split over threads (smaller flocks are done on
+    // the simulation thread)
+    static final int taskSize = 4096;
+
+    // Keys are made from cell coordinates offset by this much (so they
+    // aren't negative), covering +/- 16384 cells (keys fit in 30 bits,
+    // so the sorted entries are positive)
+    static final int cellOffset = 1 << 14;
+
+    // Positions, velocities and roles of the bugs (by index in the
+    // scene), and their interaction accelerations
+    double[] x = new double[0], y, vx, vy;
+    boolean[] predator;
+    double[] ax, ay;
+    int n = 0;
+
+    // Cell key and index of each bug ((key << 32) | index), sorted
+    long[] order = new long[0];
+
+    // Constants, and radius of interaction (also the cell width)
+    private SteeringParams steering;
+    private double radius;
+
+    // Runs of the sorted order holding the 3 X 3 cells around a cell,
+    // for each piece of the sorted order done on its own (the first for
+    // flocks done on the simulation thread; grown with the flock)
+    private int[][] runStart = { new int[9] }, runEnd = { new int[9] };
+
+    // Threads for large flocks
+    private TaskPool pool;
+
+    // Interactions of a piece of the sorted order (on the pool)
+    private TaskPool.Range interactRange = new TaskPool.Range() {
+            public void run(int start, int end)
+            {
+                int piece = start / taskSize;
+                interact(start, end, runStart[piece], runEnd[piece]);
+            }
+        };
+
+    // ---------------------------------------------------------------
+
+    public Flock(int threads)
+    {
+        this(new TaskPool(threads));
+    }
+
+    // Flock splitting large flocks over the threads of poolVal
+    public Flock(TaskPool poolVal)
+    {
+        pool = poolVal;
+    }
+
+    // Key of the cell containing (px, py)
+    long cellKey(double px, double py)
+    {
+        return morton(cellCoord(px), cellCoord(py));
+    }
+
+    private int cellCoord(double v)
+    {
+        int c = (int)Math.floor(v / radius) + cellOffset;
+        return Math.max(0, Math.min(c, 2*cellOffset - 1));
+    }
+
+    // Interleave the bits of cx and cy (15 bits each)
+    static long morton(int cx, int cy)
+    {
+        return spread(cx) | (spread(cy) << 1);
+    }
+
+    private static long spread(int v)
+    {
+        long b = v & 0x7fffL;
+        b = (b | (b << 8)) & 0x00ff00ffL;
+        b = (b | (b << 4)) & 0x0f0f0f0fL;
+        b = (b | (b << 2)) & 0x33333333L;
+        b = (b | (b << 1)) & 0x55555555L;
+        return b;
+    }
+
+    // ---------------------------------------------------------------
+
+    // Compute the interaction accelerations of the critters of scene
+    public void compute(Scene scene)
+    {
+        Vector<Critter> critters = scene.critters;
+        steering = scene.steering;
+        radius = steering.flockRadius;
+
+        // Gather state
+        n = critters.size();
+        if (x.length < n) {
+            x = new double[n];
+            y = new double[n];
+            vx = new double[n];
+            vy = new double[n];
+            ax = new double[n];
+            ay = new double[n];
+            predator = new boolean[n];
+            order = new long[n];
+        }
+        for (int i = 0; i < n; i++) {
+            Bug bug = (Bug)critters.get(i);
+            x[i] = bug.pos.x;
+            y[i] = bug.pos.y;
+            vx[i] = bug.vel.x;
+            vy[i] = bug.vel.y;
+            predator[i] = bug.isPredator;
+        }
+
+        // Sort by cell
+        for (int i = 0; i < n; i++) {
+            order[i] = (cellKey(x[i], y[i]) << 32) | i;
+        }
+        Arrays.sort(order, 0, n);
+
+        // Interact, in runs of the sorted order
+        if (pool.splits(n, taskSize)) {
+            int pieces = (n + taskSize - 1) / taskSize;
+            if (runStart.length < pieces) {
+                runStart = new int[pieces][9];
+                runEnd = new int[pieces][9];
+            }
+            pool.run(n, taskSize, interactRange);
+        } else {
+            interact(0, n, runStart[0], runEnd[0]);
+        }
+    }
+
+    // Add the interaction acceleration of critter k to acc
+    public void addAccel(int k, Vector3d acc)
+    {
+        if (k < n) {
+            acc.x += ax[k];
+            acc.y += ay[k];
+        }
+    }
+
+    // ---------------------------------------------------------------
+
+    // Compute the accelerations of the bugs at positions [start, end) of
+    // the sorted order (using runStart and runEnd for the runs of the
+    // 3 X 3 cells around the current cell)
+    private void interact(int start, int end, int[] runStart, int[] runEnd)
+    {
+        long cell = -1;
+
+        double r2 = radius * radius;
+        double sep = radius * steering.separationFraction;
+        double sep2 = sep * sep;
+
+        for (int s = start; s < end; s++) {
+            int i = (int)order[s];
+            long key = order[s] >>> 32;
+
+            if (key != cell) {
+                cell = key;
+                int cx = cellCoord(x[i]), cy = cellCoord(y[i]);
+                int r = 0;
+                for (int dy = -1; dy <= 1; dy++) {
+                    for (int dx = -1; dx <= 1; dx++) {
+                        long k = morton(cx + dx, cy + dy);
+                        runStart[r] = lowerBound(k << 32);
+                        runEnd[r] = lowerBound((k + 1) << 32);
+                        r++;
+                    }
+                }
+            }
+
+            double px = x[i], py = y[i];
+            double sx = 0, sy = 0;            // separation
+            double mx = 0, my = 0;            // mean velocity of kind
+            double cxs = 0, cys = 0;          // centroid of kind
+            double fx = 0, fy = 0;            // flight from predators
+            int kind = 0, threats = 0;
+            int prey = -1;
+            double preyDist2 = r2;
+
+            for (int r = 0; r < 9; r++) {
+                for (int t = runStart[r]; t < runEnd[r]; t++) {
+                    int j = (int)order[t];
+                    if (j == i)
+                      continue;
+                    double dx = x[j] - px, dy = y[j] - py;
+                    double d2 = dx*dx + dy*dy;
+                    if (d2 >= r2 || d2 == 0)
+                      continue;
+
+                    if (d2 < sep2) {
+                        sx -= dx / d2;
+                        sy -= dy / d2;
+                    }
+
+                    if (predator[j] == predator[i]) {
+                        if (kind < maxNeighbors) {
+                            mx += vx[j];
+                            my += vy[j];
+                            cxs += dx;
+                            cys += dy;
+                            kind++;
+                        }
+                    } else if (predator[j]) {
+                        if (threats < maxNeighbors) {
+                            double d = Math.sqrt(d2);
+                            fx -= dx / d;
+                            fy -= dy / d;
+                            threats++;
+                        }
+                    } else if (d2 < preyDist2) {
+                        prey = j;
+                        preyDist2 = d2;
+                    }
+                }
+            }
+
+            double gx = steering.separate * sep2 * sx;
+            double gy = steering.separate * sep2 * sy;
+            if (kind > 0) {
+                gx += steering.align * (mx / kind - vx[i]);
+                gy += steering.align * (my / kind - vy[i]);
+                gx += steering.cohere * cxs / kind;
+                gy += steering.cohere * cys / kind;
+            }
+            if (predator[i]) {
+                if (prey >= 0) {
+                    double d = Math.sqrt(preyDist2);
+                    gx += steering.hunt * (x[prey] - px) / d;
+                    gy += steering.hunt * (y[prey] - py) / d;
+                }
+            } else {
+                gx += steering.flee * fx;
+                gy += steering.flee * fy;
+            }
+
+            ax[i] = gx;
+            ay[i] = gy;
+        }
+    }
+
+    // First position of the sorted order whose entry is >= v
+    private int lowerBound(long v)
+    {
+        int lo = 0, hi = n;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (order[mid] < v)
+              lo = mid + 1;
+            else
+              hi = mid;
+        }
+        return lo;
+    }
+}
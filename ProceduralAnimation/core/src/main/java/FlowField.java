@@ -0,0 +1,194 @@
+/* class FlowField
+ * Shortest paths from every cell of a NavGrid to a goal, found by
+ * Dijkstra's algorithm outward from the goal (moving between
+ * neighboring cells, diagonals included, without cutting the corners of
+ * blocked cells).  Each cell stores its path length and the next cell
+ * along its path, so steering toward the goal is a lookup, however many
+ * critters are heading there.
+ */
+
+import javax.vecmath.*;
+
+class FlowField
+{
+    // Cells followed ahead along the path when steering (to smooth out
+    // the grid's eight directions)
+    static final int lookahead = 4;
+
+    // Neighbor offsets (orthogonal first, then diagonal)
+    private static final int[] di = { 1, 0, -1, 0, 1, -1, -1, 1 };
+    private static final int[] dj = { 0, 1, 0, -1, 1, 1, -1, -1 };
+
+    // Grid the paths are on
+    private NavGrid grid;
+
+    // Goal, and whether the paths are for the grid as it is now
+    double gx, gy;
+    boolean valid = false;
+    int lastUsed;
+
+    // Path length from each cell (infinite if it can't reach the goal),
+    // and next cell along the path (-1 at the goal, or if none)
+    float[] dist;
+    int[] next;
+
+    // Priority queue of cells for Dijkstra's algorithm (a binary heap,
+    // with each cell's place in it)
+    private int[] heap, place;
+    private int heapSize;
+
+    // ---------------------------------------------------------------
+
+    FlowField(NavGrid g)
+    {
+        grid = g;
+        int cells = g.n * g.n;
+        dist = new float[cells];
+        next = new int[cells];
+        heap = new int[cells];
+        place = new int[cells];
+    }
+
+    // Find the paths to (x, y)
+    void compute(double x, double y)
+    {
+        int n = grid.n;
+        boolean[] blocked = grid.blocked;
+        gx = x;
+        gy = y;
+        valid = true;
+
+        java.util.Arrays.fill(dist, Float.POSITIVE_INFINITY);
+        java.util.Arrays.fill(next, -1);
+        java.util.Arrays.fill(place, -1);
+        heapSize = 0;
+
+        int goal = grid.cell(x, y);
+        if (goal < 0)
+          return;
+
+        // (the goal itself is allowed to be blocked: paths lead to the
+        //  edge of whatever it's in)
+        dist[goal] = 0;
+        push(goal);
+
+        while (heapSize > 0) {
+            int c = pop();
+            int i = c % n, j = c / n;
+
+            for (int d = 0; d < 8; d++) {
+                int ni = i + di[d], nj = j + dj[d];
+                if (ni < 0 || nj < 0 || ni >= n || nj >= n)
+                  continue;
+                int nc = nj*n + ni;
+                if (blocked[nc])
+                  continue;
+
+                float step = (float)NavGrid.cellSize;
+                if (d >= 4) {
+                    // Diagonal: both cells it passes by must be open
+                    if (blocked[j*n + ni] || blocked[nj*n + i])
+                      continue;
+                    step *= (float)Math.sqrt(2);
+                }
+
+                float nd = dist[c] + step;
+                if (nd < dist[nc]) {
+                    dist[nc] = nd;
+                    next[nc] = c;
+                    if (place[nc] < 0)
+                      push(nc);
+                    else
+                      siftUp(place[nc]);
+                }
+            }
+        }
+    }
+
+    // ---------------------------------------------------------------
+
+    // Store in target a point for a critter at (x, y) to steer toward
+    // (with Critter.accelAttract()): in the direction of a point a
+    // little way along its path, as far off as the goal is (so the pull
+    // is as strong as the goal's would be).  Returns false if the
+    // critter isn't on a path (off the grid, in a blocked cell or at the
+    // goal), when it should head straight for the goal.
+    public boolean target(double x, double y, Point3d target)
+    {
+        int c = grid.cell(x, y);
+        if (c < 0 || next[c] < 0)
+          return false;
+
+        int ahead = c;
+        for (int k = 0; k < lookahead && next[ahead] >= 0; k++) {
+            ahead = next[ahead];
+        }
+
+        double dx = grid.cellX(ahead) - x, dy = grid.cellY(ahead) - y;
+        double len = Math.sqrt(dx*dx + dy*dy);
+        if (len == 0)
+          return false;
+
+        double gdx = gx - x, gdy = gy - y;
+        double s = Math.sqrt(gdx*gdx + gdy*gdy) / len;
+        target.set(x + dx*s, y + dy*s, 0);
+        return true;
+    }
+
+    // ---------------------------------------------------------------
+    // Binary heap on dist
+
+    private void push(int c)
+    {
+        heap[heapSize] = c;
+        place[c] = heapSize;
+        siftUp(heapSize++);
+    }
+
+    private int pop()
+    {
+        int top = heap[0];
+        place[top] = -2;
+        heapSize--;
+        if (heapSize > 0) {
+            heap[0] = heap[heapSize];
+            place[heap[0]] = 0;
+            siftDown(0);
+        }
+        return top;
+    }
+
+    private void siftUp(int k)
+    {
+        int c = heap[k];
+        while (k > 0) {
+            int parent = (k - 1) / 2;
+            if (dist[heap[parent]] <= dist[c])
+              break;
+            heap[k] = heap[parent];
+            place[heap[k]] = k;
+            k = parent;
+        }
+        heap[k] = c;
+        place[c] = k;
+    }
+
+    private void siftDown(int k)
+    {
+        int c = heap[k];
+        while (true) {
+            int child = 2*k + 1;
+            if (child >= heapSize)
+              break;
+            if (child + 1 < heapSize && dist[heap[child+1]] < dist[heap[child]])
+              child++;
+            if (dist[heap[child]] >= dist[c])
+              break;
+            heap[k] = heap[child];
+            place[heap[k]] = k;
+            k = child;
+        }
+        heap[k] = c;
+        place[c] = k;
+    }
+}
@@ -0,0 +1,168 @@
+/* class ForceReport
+ * Accuracy and speed of ForceTree against the exact sum: for each
+ * number of sources and opening angle, sources are scattered over the
+ * ground (with strengths and radii varying around those of a wandering
+ * target) and critters placed at random, and the pull on every critter
+ * is evaluated both ways.  Writes one CSV row per case: time to build
+ * the tree, time per critter for the tree and the exact sum, and the
+ * mean and largest error relative to the exact pull, e.g.
+ *   java ForceReport -sources 100,1000,10000 -theta 0.2,0.5,0.7 -exp 2
+ */
+
+import java.io.*;
+import java.util.*;
+
+public class ForceReport
+{
+    // Radius of the area sources and critters are scattered over
+    static final double worldRadius = 15;
+
+    // Random point in the world, stored in p
+    static void scatter(Random rgen, double[] p)
+    {
+        double r = worldRadius * Math.sqrt(rgen.nextDouble());
+        double a = 2 * Math.PI * rgen.nextDouble();
+        p[0] = r * Math.cos(a);
+        p[1] = r * Math.sin(a);
+    }
+
+    // Time to evaluate every critter, in ns per critter (best of
+    // several passes, after a warm-up)
+    static double time(ForceTree tree, double[] x, double[] y,
+                       double critterRadius, double exp, boolean exact,
+                       double[] out)
+    {
+        double best = Double.MAX_VALUE;
+        for (int pass = 0; pass < 6; pass++) {
+            long start = System.nanoTime();
+            for (int c = 0; c < x.length; c++) {
+                if (exact)
+                  tree.accelExact(x[c], y[c], critterRadius, exp, out);
+                else
+                  tree.accel(x[c], y[c], critterRadius, exp, out);
+            }
+            long t = System.nanoTime() - start;
+            if (pass > 0)
+              best = Math.min(best, (double)t / x.length);
+        }
+        return best;
+    }
+
+    public static void main(String args[])
+    {
+        int[] sourceCounts = { 100, 1000, 10000 };
+        double[] thetas = { 0.2, 0.35, 0.5, 0.7 };
+        double exp = 2, k = 0.2;
+        int critters = 2000;
+        double critterRadius = 0.85;
+        long seed = 1;
+        String outFile = null;
+
+        // Parse command-line arguments
+        try {
+            for (int i = 0; i < args.length; i++) {
+                if (args[i].equals("-sources")) {
+                    double[] v = SweepRunner.parseValues(args[++i]);
+                    sourceCounts = new int[v.length];
+                    for (int j = 0; j < v.length; j++)
+                      sourceCounts[j] = (int)v[j];
+                } else if (args[i].equals("-theta")) {
+                    thetas = SweepRunner.parseValues(args[++i]);
+                } else if (args[i].equals("-exp")) {
+                    exp = Double.parseDouble(args[++i]);
+                } else if (args[i].equals("-k")) {
+                    k = Double.parseDouble(args[++i]);
+                } else if (args[i].equals("-critters")) {
+                    critters = Integer.parseInt(args[++i]);
+                } else if (args[i].equals("-seed")) {
+                    seed = Long.parseLong(args[++i]);
+                } else if (args[i].equals("-out")) {
+                    outFile = args[++i];
+                } else {
+                    System.out.println("Usage: java ForceReport" +
+                                       " [-sources n1,n2,...]" +
+                                       " [-theta t1,t2,...|lo:hi:step]" +
+                                       " [-exp #] [-k #] [-critters #]" +
+                                       " [-seed #] [-out file.csv]");
+                    throw new Exception("Illegal argument: " + args[i]);
+                }
+            }
+        } catch (Exception e) {
+            System.out.println("Error: " + e.getMessage());
+            System.exit(1);
+        }
+
+        try {
+            PrintStream out = (outFile == null) ? System.out :
+                new PrintStream(new FileOutputStream(outFile));
+
+            out.println("sources,theta,exp,build_us,tree_ns_per_critter," +
+                        "exact_ns_per_critter,speedup,mean_rel_error," +
+                        "max_rel_error,nodes_per_critter");
+
+            double[] p = new double[2], a = new double[2], e = new double[2];
+            for (int n : sourceCounts) {
+                Random rgen = new Random(seed);
+                double[] sx = new double[n], sy = new double[n];
+                double[] sk = new double[n], sr = new double[n];
+                for (int i = 0; i < n; i++) {
+                    scatter(rgen, p);
+                    sx[i] = p[0];
+                    sy[i] = p[1];
+                    sk[i] = k * (0.5 + rgen.nextDouble());
+                    sr[i] = 0.5 * rgen.nextDouble();
+                }
+                double[] cx = new double[critters], cy = new double[critters];
+                for (int c = 0; c < critters; c++) {
+                    scatter(rgen, p);
+                    cx[c] = p[0];
+                    cy[c] = p[1];
+                }
+
+                for (double theta : thetas) {
+                    ForceTree tree = new ForceTree(theta);
+
+                    // Build time (best of several)
+                    double build = Double.MAX_VALUE;
+                    for (int pass = 0; pass < 6; pass++) {
+                        long start = System.nanoTime();
+                        tree.build(sx, sy, sk, sr, n);
+                        build = Math.min(build, (System.nanoTime() - start) / 1e3);
+                    }
+
+                    // Error against the exact sum
+                    double sumErr = 0, maxErr = 0;
+                    long visited = 0;
+                    for (int c = 0; c < critters; c++) {
+                        visited += tree.accel(cx[c], cy[c], critterRadius,
+                                              exp, a);
+                        tree.accelExact(cx[c], cy[c], critterRadius, exp, e);
+                        double dx = a[0] - e[0], dy = a[1] - e[1];
+                        double err = Math.sqrt(dx*dx + dy*dy) /
+                            Math.sqrt(e[0]*e[0] + e[1]*e[1]);
+                        sumErr += err;
+                        maxErr = Math.max(maxErr, err);
+                    }
+
+                    double treeNs = time(tree, cx, cy, critterRadius, exp,
+                                         false, a);
+                    double exactNs = time(tree, cx, cy, critterRadius, exp,
+                                          true, a);
+
+                    out.println(n + "," + theta + "," + exp + "," + build +
+                                "," + treeNs + "," + exactNs + "," +
+                                exactNs / treeNs + "," + sumErr / critters +
+                                "," + maxErr + "," +
+                                (double)visited / critters);
+                    out.flush();
+                }
+            }
+
+            if (out != System.out)
+              out.close();
+        } catch (IOException ex) {
+            System.out.println(ex);
+            System.exit(1);
+        }
+    }
+}
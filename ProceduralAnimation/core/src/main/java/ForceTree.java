@@ -0,0 +1,346 @@
+/* class ForceTree
+ * Barnes-Hut evaluation of the total attraction of many sources on a
+ * critter, each source pulling as in Critter.accelAttract():
+ *   a += direction * (k * (dist - critterRadius - sourceRadius)^exp)
+ * with the same exp for all the sources of a tree.
+ *
+ * The sources are put in a quadtree; each node knows the total k of
+ * its sources, their centroid (weighted by |k|) and their mean radius.
+ * A critter is pulled by a node as if all its sources were at the
+ * centroid when the node's width over the distance to it is below the
+ * opening angle theta, and by its children (or, at a leaf, its
+ * sources) otherwise -- so a critter visits O(log n) nodes instead of
+ * every source.  theta = 0 gives the exact sum; theta should stay
+ * below about 0.7, so a node is never lumped together for a critter
+ * inside it.
+ *
+ * The approximation is good when the sources a node lumps together
+ * pull the same way, so attractors (k > 0) and repellers (k < 0)
+ * should be put in separate trees.  ForceReport measures accuracy and
+ * speed against the exact sum; Scene uses trees for the pull of the
+ * obstacles with -forcetree (see SceneOptions).  Storage is reused from
+ * one build() to the next.
+ *
+ * Once built, a tree may be evaluated by several threads at once: the
+ * nodes are walked through links to the node after each one's subtree,
+ * rather than with a stack.
+ */
+
+class ForceTree
+{
+    // Most sources in a leaf, and deepest level of the tree
+    static final int leafSize = 8;
+    static final int maxDepth = 24;
+
+    // Opening angle
+    double theta;
+
+    // Sources
+    private double[] sx, sy, sk, sr;
+    private int count = 0;
+
+    // Sources added with add(), for build() (the arrays only grow)
+    private double[] addX = new double[0], addY = new double[0];
+    private double[] addK = new double[0], addR = new double[0];
+    private int added = 0;
+
+    // Sources sorted by node (each node's sources are a run of this)
+    private int[] index = new int[0];
+
+    // Nodes: first child (-1 for a leaf; children are consecutive),
+    // the node after its subtree (-1 for none), run of sources, width,
+    // and total k, centroid and mean radius
+    private int[] child = new int[0], next, first, last;
+    private double[] width, totalK, cx, cy, meanR;
+    private int nodes = 0;
+
+    // ---------------------------------------------------------------
+
+    public ForceTree(double thetaVal)
+    {
+        theta = thetaVal;
+    }
+
+    // Forget the sources added
+    public void clear()
+    {
+        added = 0;
+    }
+
+    // Add a source at (x, y) with strength k and radius r
+    public void add(double x, double y, double k, double r)
+    {
+        if (added == addX.length) {
+            int size = Math.max(16, 2 * added);
+            addX = grow(addX, size);
+            addY = grow(addY, size);
+            addK = grow(addK, size);
+            addR = grow(addR, size);
+        }
+        addX[added] = x;
+        addY[added] = y;
+        addK[added] = k;
+        addR[added] = r;
+        added++;
+    }
+
+    // Build the tree over the sources added
+    public void build()
+    {
+        build(addX, addY, addK, addR, added);
+    }
+
+    // Build the tree over count sources at (x[i], y[i]), with strengths
+    // k[i] and radii r[i] (the arrays are kept, not copied)
+    public void build(double[] x, double[] y, double[] k, double[] r,
+                      int countVal)
+    {
+        sx = x;
+        sy = y;
+        sk = k;
+        sr = r;
+        count = countVal;
+
+        if (index.length < count) {
+            index = new int[count];
+        }
+        for (int i = 0; i < count; i++) {
+            index[i] = i;
+        }
+
+        // Bounding square
+        double x0 = Double.MAX_VALUE, y0 = Double.MAX_VALUE;
+        double x1 = -Double.MAX_VALUE, y1 = -Double.MAX_VALUE;
+        for (int i = 0; i < count; i++) {
+            x0 = Math.min(x0, x[i]);
+            x1 = Math.max(x1, x[i]);
+            y0 = Math.min(y0, y[i]);
+            y1 = Math.max(y1, y[i]);
+        }
+        double size = Math.max(Math.max(x1 - x0, y1 - y0), 1e-9);
+
+        nodes = 0;
+        int root = newNode();
+        next[root] = -1;
+        if (count > 0)
+          build(root, 0, count, x0, y0, size, 0);
+        else
+          setLeaf(root, 0, 0, size);
+    }
+
+    // Make node n hold sources [lo, hi) of index, in the square at
+    // (x0, y0) of the given width
+    private void build(int n, int lo, int hi, double x0, double y0,
+                       double size, int depth)
+    {
+        if (hi - lo <= leafSize || depth >= maxDepth) {
+            setLeaf(n, lo, hi, size);
+            return;
+        }
+
+        // Split into quadrants: by x, then each half by y
+        double mx = x0 + size/2, my = y0 + size/2;
+        int midX = partition(lo, hi, sx, mx);
+        int midLo = partition(lo, midX, sy, my);
+        int midHi = partition(midX, hi, sy, my);
+
+        int c = newNode();
+        newNode();
+        newNode();
+        newNode();
+        child[n] = c;
+        first[n] = lo;
+        last[n] = hi;
+        width[n] = size;
+        next[c] = c + 1;
+        next[c + 1] = c + 2;
+        next[c + 2] = c + 3;
+        next[c + 3] = next[n];
+
+        double h = size/2;
+        build(c,     lo,    midLo, x0,     y0,     h, depth+1);
+        build(c + 1, midX,  midHi, x0 + h, y0,     h, depth+1);
+        build(c + 2, midLo, midX,  x0,     y0 + h, h, depth+1);
+        build(c + 3, midHi, hi,    x0 + h, y0 + h, h, depth+1);
+
+        // Summary of the children
+        double k = 0, w = 0, wx = 0, wy = 0, wr = 0;
+        for (int q = c; q < c + 4; q++) {
+            double a = Math.abs(totalK[q]);
+            k += totalK[q];
+            w += a;
+            wx += a * cx[q];
+            wy += a * cy[q];
+            wr += a * meanR[q];
+        }
+        summarize(n, k, w, wx, wy, wr, x0 + h, y0 + h);
+    }
+
+    private void setLeaf(int n, int lo, int hi, double size)
+    {
+        child[n] = -1;
+        first[n] = lo;
+        last[n] = hi;
+        width[n] = size;
+
+        double k = 0, w = 0, wx = 0, wy = 0, wr = 0;
+        double px = 0, py = 0;
+        for (int t = lo; t < hi; t++) {
+            int i = index[t];
+            double a = Math.abs(sk[i]);
+            k += sk[i];
+            w += a;
+            wx += a * sx[i];
+            wy += a * sy[i];
+            wr += a * sr[i];
+            px = sx[i];
+            py = sy[i];
+        }
+        summarize(n, k, w, wx, wy, wr, px, py);
+    }
+
+    private void summarize(int n, double k, double w, double wx, double wy,
+                           double wr, double px, double py)
+    {
+        totalK[n] = k;
+        if (w > 0) {
+            cx[n] = wx / w;
+            cy[n] = wy / w;
+            meanR[n] = wr / w;
+        } else {
+            cx[n] = px;
+            cy[n] = py;
+            meanR[n] = 0;
+        }
+    }
+
+    // Reorder index[lo, hi) so sources with v below mid come first;
+    // returns where the rest start
+    private int partition(int lo, int hi, double[] v, double mid)
+    {
+        int i = lo, j = hi - 1;
+        while (i <= j) {
+            if (v[index[i]] < mid) {
+                i++;
+            } else {
+                int t = index[i];
+                index[i] = index[j];
+                index[j--] = t;
+            }
+        }
+        return i;
+    }
+
+    private int newNode()
+    {
+        if (nodes == child.length) {
+            int size = Math.max(64, 2 * nodes);
+            child = grow(child, size);
+            next = grow(next, size);
+            first = grow(first, size);
+            last = grow(last, size);
+            width = grow(width, size);
+            totalK = grow(totalK, size);
+            cx = grow(cx, size);
+            cy = grow(cy, size);
+            meanR = grow(meanR, size);
+        }
+        return nodes++;
+    }
+
+    private static int[] grow(int[] a, int size)
+    {
+        int[] b = new int[size];
+        if (a != null)
+          System.arraycopy(a, 0, b, 0, a.length);
+        return b;
+    }
+
+    private static double[] grow(double[] a, int size)
+    {
+        double[] b = new double[size];
+        if (a != null)
+          System.arraycopy(a, 0, b, 0, a.length);
+        return b;
+    }
+
+    // ---------------------------------------------------------------
+
+    // Pull of the sources on a critter of radius critterRadius at
+    // (x, y), with exponent exp, stored in out[0] and out[1]; returns
+    // the number of nodes used as a whole and sources summed
+    // individually
+    public int accel(double x, double y, double critterRadius, double exp,
+                     double[] out)
+    {
+        double ax = 0, ay = 0;
+        double theta2 = theta * theta;
+        int visited = 0;
+
+        int n = (count == 0) ? -1 : 0;
+        while (n >= 0) {
+            if (first[n] == last[n]) {
+                n = next[n];
+                continue;
+            }
+
+            double dx = cx[n] - x, dy = cy[n] - y;
+            double d2 = dx*dx + dy*dy;
+
+            if (child[n] >= 0 && width[n]*width[n] < theta2 * d2) {
+                // Far enough to lump together
+                double len = Math.sqrt(d2);
+                double f = totalK[n] *
+                    Math.pow(len - critterRadius - meanR[n], exp);
+                ax += (dx / len) * f;
+                ay += (dy / len) * f;
+                visited++;
+                n = next[n];
+            } else if (child[n] >= 0) {
+                n = child[n];
+            } else {
+                for (int t = first[n]; t < last[n]; t++) {
+                    int i = index[t];
+                    double sdx = sx[i] - x, sdy = sy[i] - y;
+                    double len = Math.sqrt(sdx*sdx + sdy*sdy);
+                    double f = sk[i] *
+                        Math.pow(len - critterRadius - sr[i], exp);
+                    ax += (sdx / len) * f;
+                    ay += (sdy / len) * f;
+                }
+                visited += last[n] - first[n];
+                n = next[n];
+            }
+        }
+
+        out[0] = ax;
+        out[1] = ay;
+        return visited;
+    }
+
+    // Add the pull of the sources to the acceleration of critter c (as
+    // repeated calls of Critter.accelAttract() would, but limited once
+    // at the end), using out as scratch space
+    public void accelAttract(Critter c, double critterRadius, double exp,
+                             double[] out)
+    {
+        accel(c.pos.x, c.pos.y, critterRadius, exp, out);
+        c.accelAdd(out[0], out[1]);
+    }
+
+    // Exact pull of the sources (every source summed), for comparison
+    public void accelExact(double x, double y, double critterRadius,
+                           double exp, double[] out)
+    {
+        double ax = 0, ay = 0;
+        for (int i = 0; i < count; i++) {
+            double dx = sx[i] - x, dy = sy[i] - y;
+            double len = Math.sqrt(dx*dx + dy*dy);
+            double f = sk[i] * Math.pow(len - critterRadius - sr[i], exp);
+            ax += (dx / len) * f;
+            ay += (dy / len) * f;
+        }
+        out[0] = ax;
+        out[1] = ay;
+    }
+}
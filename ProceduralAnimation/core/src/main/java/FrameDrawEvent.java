@@ -0,0 +1,26 @@
+/* class FrameDrawEvent
+ * Flight recorder event for drawing a frame (SceneRenderer.draw()),
+ * lasting as long as the drawing (including any simulation done for
+ * it); only made when its type is enabled, as for SimStepEvent
+ */
+
+import jdk.jfr.*;
+
+@Name("ProceduralAnimation.FrameDraw")
+@Label("Frame Draw")
+@Category({"ProceduralAnimation", "Rendering"})
+class FrameDrawEvent extends Event
+{
+    static final EventType type = EventType.getEventType(FrameDrawEvent.class);
+
+    @Label("Frame")
+    int frame;
+
+    @Label("Elements Drawn")
+    @Description("Critters and obstacles drawn")
+    int elements;
+
+    @Label("GL Calls")
+    @Description("OpenGL calls made (-1 if they aren't being counted)")
+    long calls;
+}
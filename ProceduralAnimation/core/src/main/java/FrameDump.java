@@ -0,0 +1,126 @@
+/* class FrameDump
+ * Reading and writing of frames as binary PPM (P6) files.  Pixels are
+ * RGB bytes in OpenGL order (bottom row first), as returned by
+ * glReadPixels; rows are flipped when written so the image is upright.
+ */
+
+import java.io.*;
+import java.text.*;
+
+public class FrameDump
+{
+    // Name of the file for frame number frame with the given prefix
+    public static String frameFilename(String prefix, int frame)
+    {
+        DecimalFormat digits = new DecimalFormat("0000");
+
+        return prefix + digits.format(frame) + ".ppm";
+    }
+
+    // Write pixels (width X height, bottom row first) to a PPM file
+    public static void writePPM(String filename, byte[] pixels,
+                                int width, int height)
+        throws IOException
+    {
+        FrameDumpEvent event = new FrameDumpEvent();
+        event.begin();
+
+        FileOutputStream stream = new FileOutputStream(filename);
+        try {
+            writePPM(stream, pixels, width, height);
+        } finally {
+            stream.close();
+        }
+
+        if (event.shouldCommit()) {
+            event.filename = filename;
+            event.bytes = new File(filename).length();
+            event.commit();
+        }
+    }
+
+    // Write pixels as a PPM image to stream (which is left open, so
+    // several frames can be written to one stream)
+    public static void writePPM(OutputStream stream, byte[] pixels,
+                                int width, int height)
+        throws IOException
+    {
+        stream.write(header(width, height).getBytes());
+        for (int r = 0; r < height; r++) {
+            stream.write(pixels, width*3*(height-r-1), width*3);
+        }
+    }
+
+    // Header of a PPM image
+    static String header(int width, int height)
+    {
+        return "P6" + '\n' + width + " " + height + '\n' + "255" + '\n';
+    }
+
+    // Size of a PPM image written by writePPM() (in bytes)
+    public static long sizePPM(int width, int height)
+    {
+        return header(width, height).length() + width*height*3L;
+    }
+
+    // Read a PPM file written by writePPM(); returns pixels bottom row
+    // first, with the size stored in dims[0] (width) and dims[1] (height)
+    public static byte[] readPPM(String filename, int[] dims)
+        throws IOException
+    {
+        InputStream stream =
+            new BufferedInputStream(new FileInputStream(filename));
+        try {
+            if (!readToken(stream).equals("P6"))
+              throw new IOException(filename + ": not a binary PPM file");
+
+            int width = Integer.parseInt(readToken(stream));
+            int height = Integer.parseInt(readToken(stream));
+            if (!readToken(stream).equals("255"))
+              throw new IOException(filename + ": unsupported maxval");
+
+            byte[] pixels = new byte[width*height*3];
+            for (int r = 0; r < height; r++) {
+                int off = width*3*(height-r-1);
+                int n = 0;
+                while (n < width*3) {
+                    int got = stream.read(pixels, off + n, width*3 - n);
+                    if (got < 0)
+                      throw new IOException(filename + ": truncated");
+                    n += got;
+                }
+            }
+
+            dims[0] = width;
+            dims[1] = height;
+            return pixels;
+        } finally {
+            stream.close();
+        }
+    }
+
+    // Read a whitespace-delimited header token (header ends after one
+    // whitespace character following the last token)
+    private static String readToken(InputStream stream) throws IOException
+    {
+        StringBuffer token = new StringBuffer();
+        int c;
+
+        // Skip leading whitespace and comments
+        while ((c = stream.read()) != -1) {
+            if (c == '#') {
+                while ((c = stream.read()) != -1 && c != '\n')
+                  ;
+            } else if (!Character.isWhitespace((char)c)) {
+                break;
+            }
+        }
+
+        while (c != -1 && !Character.isWhitespace((char)c)) {
+            token.append((char)c);
+            c = stream.read();
+        }
+
+        return token.toString();
+    }
+}
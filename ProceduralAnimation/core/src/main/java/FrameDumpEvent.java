@@ -0,0 +1,19 @@
+/* class FrameDumpEvent
+ * Flight recorder event for writing a frame to a file
+ * (FrameDump.writePPM()), lasting as long as the write
+ */
+
+import jdk.jfr.*;
+
+@Name("ProceduralAnimation.FrameDump")
+@Label("Frame Dump")
+@Category({"ProceduralAnimation", "Rendering"})
+class FrameDumpEvent extends Event
+{
+    @Label("File")
+    String filename;
+
+    @Label("Bytes Written")
+    @DataAmount
+    long bytes;
+}
@@ -0,0 +1,97 @@
+/* class GaitClip
+ * A cyclic keyframed motion (such as the bug's walk), resampled once into
+ * a dense table of poses at evenly spaced phases in [0,1].  Looking up the
+ * pose for a phase is then constant time: the two nearest rows of the
+ * table are blended, with no search through the keyframes.
+ *
+ * The keyframes can be interpolated linearly (matching plain keyframing)
+ * or with a Catmull-Rom spline, which smooths out the corners at each
+ * keyframe.  A clip is read-only once built, so one clip is shared by
+ * every critter using that motion.
+ */
+
+class GaitClip
+{
+    // Default number of poses in the table
+    static final int defaultSamples = 256;
+
+    // Number of samples over one cycle, and values in each pose
+    final int samples, channels;
+
+    // Pose table: row r (channels values) is the pose at phase
+    // r/samples; there are samples+1 rows, the last repeating the first,
+    // so lookups never need to wrap
+    private final double[] poses;
+
+    // ---------------------------------------------------------------
+
+    // Build a clip from keyframes keyFrames[j] at times keyT[j] (which
+    // increase from 0 to 1, the last keyframe being a copy of the first)
+    public GaitClip(double[] keyT, double[][] keyFrames, int numSamples,
+                    boolean smooth)
+    {
+        samples = numSamples;
+        channels = keyFrames[0].length;
+        poses = new double[(samples + 1) * channels];
+
+        // Number of distinct keyframes (around the cycle)
+        int n = keyT.length - 1;
+
+        int seg = 0;
+        for (int r = 0; r <= samples; r++) {
+            double t = (double)r / samples;
+
+            // Keyframe segment containing t
+            while (seg < n - 1 && t >= keyT[seg+1])
+              seg++;
+
+            double u = (t - keyT[seg]) / (keyT[seg+1] - keyT[seg]);
+            double[] k1 = keyFrames[seg];
+            double[] k2 = keyFrames[seg+1];
+
+            int row = r * channels;
+            if (smooth) {
+                // Neighbors of the segment, wrapping around the cycle
+                double[] k0 = keyFrames[(seg + n - 1) % n];
+                double[] k3 = keyFrames[(seg + 2) % n];
+
+                for (int c = 0; c < channels; c++)
+                  poses[row + c] = catmullRom(k0[c], k1[c], k2[c], k3[c], u);
+            } else {
+                for (int c = 0; c < channels; c++)
+                  poses[row + c] = k1[c] + (k2[c] - k1[c]) * u;
+            }
+        }
+    }
+
+    // Value at u in [0,1] of the Catmull-Rom segment from p1 to p2
+    static double catmullRom(double p0, double p1, double p2, double p3,
+                             double u)
+    {
+        double u2 = u*u, u3 = u2*u;
+        return 0.5 * ((2*p1) +
+                      (p2 - p0) * u +
+                      (2*p0 - 5*p1 + 4*p2 - p3) * u2 +
+                      (3*p1 - p0 - 3*p2 + p3) * u3);
+    }
+
+    // ---------------------------------------------------------------
+
+    // Fill in param[] with the pose at phase t (wrapped into [0,1))
+    public void pose(double t, double[] param)
+    {
+        t -= Math.floor(t);
+
+        double p = t * samples;
+        int i = (int)p;
+        if (i >= samples)
+          i = samples - 1;
+        double f = p - i;
+
+        int a = i * channels, b = a + channels;
+        for (int c = 0; c < channels; c++) {
+            double v = poses[a + c];
+            param[c] = v + (poses[b + c] - v) * f;
+        }
+    }
+}
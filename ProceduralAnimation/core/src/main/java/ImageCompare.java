@@ -0,0 +1,69 @@
+/* class ImageCompare
+ * Compares two PPM images (e.g. a frame from the software renderer
+ * against a golden frame dumped from the OpenGL window), printing the
+ * RMS and maximum per-channel differences and the fraction of pixels
+ * that differ noticeably.  Exits with an error status when the RMS
+ * difference is above a threshold.
+ */
+
+public class ImageCompare
+{
+    // Per-channel difference above which a pixel counts as different
+    static final int pixelTolerance = 24;
+
+    // Result of comparing images a and b (of the same size): RMS
+    // difference, maximum difference and fraction of differing pixels
+    public static double[] compare(byte[] a, byte[] b)
+    {
+        double sum = 0;
+        int max = 0, differ = 0;
+
+        for (int p = 0; p < a.length; p += 3) {
+            boolean different = false;
+            for (int c = 0; c < 3; c++) {
+                int d = Math.abs((a[p+c] & 0xff) - (b[p+c] & 0xff));
+                sum += d*d;
+                max = Math.max(max, d);
+                different |= (d > pixelTolerance);
+            }
+            if (different)
+              differ++;
+        }
+
+        return new double[] {
+            Math.sqrt(sum / a.length), max, differ / (a.length / 3.0)
+        };
+    }
+
+    public static void main(String args[])
+    {
+        if (args.length < 2) {
+            System.out.println("Usage: java ImageCompare image.ppm" +
+                               " golden.ppm [max RMS]");
+            System.exit(1);
+        }
+
+        double maxRMS = (args.length > 2) ? Double.parseDouble(args[2]) : 8;
+
+        try {
+            int[] da = new int[2], db = new int[2];
+            byte[] a = FrameDump.readPPM(args[0], da);
+            byte[] b = FrameDump.readPPM(args[1], db);
+
+            if (da[0] != db[0] || da[1] != db[1]) {
+                System.out.println("Sizes differ: " + da[0] + "x" + da[1] +
+                                   " vs " + db[0] + "x" + db[1]);
+                System.exit(1);
+            }
+
+            double[] r = compare(a, b);
+            System.out.println("rms " + r[0] + "  max " + (int)r[1] +
+                               "  differing " + (100 * r[2]) + "%");
+
+            System.exit(r[0] > maxRMS ? 1 : 0);
+        } catch (Exception e) {
+            System.out.println("Error: " + e);
+            System.exit(1);
+        }
+    }
+}
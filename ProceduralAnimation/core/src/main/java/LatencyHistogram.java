@@ -0,0 +1,89 @@
+/* class LatencyHistogram
+ * Histogram of durations (in nanoseconds) with buckets whose width
+ * grows with the value, as in HdrHistogram: values below 32 have a
+ * bucket each, and each doubling above that is split into 32 buckets,
+ * so any value is known to within about 3% and any percentile can be
+ * read back, from a fixed array whatever the range of values.
+ *
+ * Recording doesn't allocate or lock; it's meant to be fed by one
+ * thread, and read now and then by others (which may see a recording
+ * half done).
+ */
+
+class LatencyHistogram
+{
+    // Buckets per doubling (as a power of 2)
+    static final int subBits = 5;
+    static final int subCount = 1 << subBits;
+
+    private long[] counts = new long[(64 - subBits) * subCount];
+    private long total = 0, max = 0;
+
+    // ---------------------------------------------------------------
+
+    // Bucket of value v (v >= 0)
+    static int bucket(long v)
+    {
+        int shift = Math.max(0, 63 - Long.numberOfLeadingZeros(v) - subBits);
+        return shift * subCount + (int)(v >> shift);
+    }
+
+    // Largest value in bucket b
+    static long bucketMax(int b)
+    {
+        if (b < subCount)
+          return b;
+        int shift = b / subCount - 1;
+        long lower = (long)(b % subCount + subCount) << shift;
+        return lower + (1L << shift) - 1;
+    }
+
+    // Record a duration
+    public void record(long nanos)
+    {
+        if (nanos < 0)
+          nanos = 0;
+        counts[bucket(nanos)]++;
+        total++;
+        if (nanos > max)
+          max = nanos;
+    }
+
+    // Number of durations recorded
+    public long count()
+    {
+        return total;
+    }
+
+    // Longest duration recorded
+    public long max()
+    {
+        return max;
+    }
+
+    // Duration that p percent of those recorded are no longer than
+    // (0 if none recorded)
+    public long percentile(double p)
+    {
+        long n = total;
+        if (n == 0)
+          return 0;
+
+        long target = Math.max(1, (long)Math.ceil(p / 100 * n));
+        long seen = 0;
+        for (int b = 0; b < counts.length; b++) {
+            seen += counts[b];
+            if (seen >= target)
+              return Math.min(bucketMax(b), max);
+        }
+        return max;
+    }
+
+    // Forget all recorded durations
+    public void reset()
+    {
+        java.util.Arrays.fill(counts, 0);
+        total = 0;
+        max = 0;
+    }
+}
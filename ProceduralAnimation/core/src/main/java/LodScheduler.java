@@ -0,0 +1,203 @@
+/* class LodScheduler
+ * Level of detail for critters, chosen by how large each one appears on
+ * screen.  Every frame the critters are sorted into tiers by their
+ * projected radius in pixels (using the same camera as the renderer):
+ *  - NEAR:   full rate keyframing and steering, full geometry
+ *  - MID:    keyframed every other frame, obstacle avoidance every few
+ *            simulation steps, legs drawn without their lower segments
+ *  - FAR:    keyframed every few frames, obstacle avoidance rarely,
+ *            drawn as a low-detail body
+ *  - HIDDEN: outside the view; only integrated (no steering, keyframing
+ *            or drawing)
+ * Reduced-rate work is staggered by critter index, so the cost of a tier
+ * is spread evenly over frames.
+ *
+ * The scene's scheduler classifies for the simulation, before each step;
+ * SceneRenderer keeps one of its own, classified from the positions it
+ * draws (so the view is right while paused, and as critters enter it).
+ */
+
+import java.io.*;
+import java.util.*;
+
+import javax.vecmath.*;
+
+class LodScheduler
+{
+    // Tiers
+    static final int NEAR = 0, MID = 1, FAR = 2, HIDDEN = 3;
+    static final String[] tierNames = { "near", "mid", "far", "hidden" };
+
+    // Projected radius (in pixels) at or above which critters are NEAR,
+    // and MID
+    double nearPixels = 20, midPixels = 6;
+
+    // Frames between keyframe updates, and simulation steps between
+    // obstacle avoidance updates, for each tier (0 for never)
+    int[] keyframeInterval = { 1, 2, 4, 0 };
+    int[] steerInterval = { 1, 4, 10, 0 };
+
+    // Window size used for projection
+    int width = 600, height = 500;
+
+    // Tier of each critter (by index in the scene), and number of
+    // critters in each tier
+    private int[] tiers = new int[0];
+    int[] counts = new int[4];
+
+    // Obstacle avoidance acceleration last computed for each critter
+    // (reused for steps when it's not updated)
+    private double[] avoidX = new double[0], avoidY = new double[0];
+
+    // Number of critters given tiers, and number of frames classified
+    // (used to stagger updates)
+    private int numClassified = 0;
+    private int frame = 0;
+
+    // Scratch space for classification
+    private Matrix4d view = new Matrix4d();
+    private double[] frustum = new double[6];
+    private Point3d center = new Point3d();
+
+    // ---------------------------------------------------------------
+
+    // Set window size (called when the window is resized)
+    public void setViewport(int w, int h)
+    {
+        width = w;
+        height = h;
+    }
+
+    // Sort the critters of scene into tiers for the current view
+    public void classify(Scene scene)
+    {
+        Vector<Critter> critters = scene.critters;
+        int num = critters.size();
+
+        if (tiers.length < num) {
+            tiers = new int[num];
+            avoidX = new double[num];
+            avoidY = new double[num];
+        }
+
+        scene.viewMatrix(view);
+        scene.frustum(width, height, frustum);
+
+        // Ratio of near plane distance to half-width/height of the frustum
+        double n = frustum[4], far = frustum[5];
+        double xs = n / frustum[1], ys = n / frustum[3];
+
+        Arrays.fill(counts, 0);
+
+        for (int k = 0; k < num; k++) {
+            Bug bug = (Bug)critters.get(k);
+
+            // Bounding sphere of bug (body is raised, legs reach out)
+            center.set(bug.pos.x, bug.pos.y, bug.pos.z + 0.75*bug.scale);
+            view.transform(center);
+            double radius = 2.0 * bug.scale;
+
+            // Distance in front of the camera (which looks down -Z)
+            double d = -center.z;
+
+            int tier;
+            if (d + radius < n || d - radius > far ||
+                (Math.abs(center.x) - radius) * xs > d + radius ||
+                (Math.abs(center.y) - radius) * ys > d + radius) {
+                tier = HIDDEN;
+            } else {
+                double pixels = radius * ys / Math.max(d, n) * height / 2;
+
+                if (pixels >= nearPixels)
+                  tier = NEAR;
+                else if (pixels >= midPixels)
+                  tier = MID;
+                else
+                  tier = FAR;
+            }
+
+            tiers[k] = tier;
+            counts[tier]++;
+        }
+
+        numClassified = num;
+        frame++;
+    }
+
+    // ---------------------------------------------------------------
+
+    // Whether critter k has been given a tier yet
+    public boolean classified(int k)
+    {
+        return k < numClassified;
+    }
+
+    // Tier of critter k
+    public int tier(int k)
+    {
+        return tiers[k];
+    }
+
+    // Whether critter k should be keyframed this frame
+    public boolean keyframeDue(int k)
+    {
+        int interval = keyframeInterval[tiers[k]];
+        return interval > 0 && (frame + k) % interval == 0;
+    }
+
+    // Whether critter k should compute obstacle avoidance at
+    // simulation step i
+    public boolean steerDue(int k, int i)
+    {
+        int interval = steerInterval[tiers[k]];
+        return interval > 0 && (i + k) % interval == 0;
+    }
+
+    // Remember the obstacle avoidance acceleration of critter k
+    public void storeAvoidance(int k, Vector3d acc)
+    {
+        avoidX[k] = acc.x;
+        avoidY[k] = acc.y;
+    }
+
+    // Add the remembered obstacle avoidance of critter k to acc
+    // (hidden critters don't steer at all)
+    public void addAvoidance(int k, Vector3d acc)
+    {
+        if (tiers[k] == HIDDEN)
+          return;
+
+        acc.x += avoidX[k];
+        acc.y += avoidY[k];
+    }
+
+    // ---------------------------------------------------------------
+    // Checkpointing (the scheduling state that affects simulation)
+
+    public void writeState(DataOutput out) throws IOException
+    {
+        out.writeInt(frame);
+        out.writeInt(numClassified);
+        for (int k = 0; k < numClassified; k++) {
+            out.writeByte(tiers[k]);
+            out.writeDouble(avoidX[k]);
+            out.writeDouble(avoidY[k]);
+        }
+    }
+
+    public void readState(DataInput in) throws IOException
+    {
+        frame = in.readInt();
+        numClassified = in.readInt();
+        if (tiers.length < numClassified) {
+            tiers = new int[numClassified];
+            avoidX = new double[numClassified];
+            avoidY = new double[numClassified];
+        }
+        for (int k = 0; k < numClassified; k++) {
+            tiers[k] = in.readByte();
+            avoidX[k] = in.readDouble();
+            avoidY[k] = in.readDouble();
+        }
+    }
+}
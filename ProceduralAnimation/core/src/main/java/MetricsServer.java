@@ -0,0 +1,192 @@
+/* class MetricsServer
+ * Serves metrics of a long-running render on http://127.0.0.1:port/metrics
+ * in the Prometheus text format, for monitoring from outside: the
+ * simulated time, frame number and steps of the scene being rendered,
+ * frames and bytes written, frames waiting to be written, the seed, and
+ * the heap and garbage collector figures of the JVM.
+ *
+ * It only listens on the loopback interface.  The frame loop just
+ * stores a few numbers (see frameWritten()); the page is made on the
+ * server's own thread when asked for, reading the scene's counters
+ * without locking (so they may be a frame out of step with each other).
+ */
+
+import java.io.*;
+import java.lang.management.*;
+import java.net.*;
+import java.util.concurrent.*;
+
+import com.sun.net.httpserver.*;
+
+class MetricsServer
+{
+    // Scene being rendered (null if none, as in RenderCoordinator),
+    // and the seed of the animation
+    private volatile Scene scene = null;
+    private volatile long seed = -1;
+
+    // Frames and bytes written, and frames waiting to be
+    private volatile long framesWritten = 0, bytesWritten = 0;
+    private volatile int queueDepth = 0;
+
+    // Simulation steps and time at the last request (for steps per
+    // second)
+    private long lastSteps = 0, lastNanos = System.nanoTime();
+
+    private HttpServer server;
+
+    // ---------------------------------------------------------------
+
+    // Start serving on port (of 127.0.0.1)
+    public MetricsServer(int port) throws IOException
+    {
+        server = HttpServer.create(
+            new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 0);
+        server.createContext("/metrics", new HttpHandler() {
+                public void handle(HttpExchange exchange) throws IOException
+                {
+                    byte[] body = page().getBytes("UTF-8");
+                    exchange.getResponseHeaders().set("Content-Type",
+                        "text/plain; version=0.0.4; charset=utf-8");
+                    exchange.sendResponseHeaders(200, body.length);
+                    OutputStream out = exchange.getResponseBody();
+                    out.write(body);
+                    out.close();
+                }
+            });
+
+        // One low-priority thread is plenty, and shouldn't keep the
+        // program running
+        server.setExecutor(Executors.newSingleThreadExecutor(
+            new ThreadFactory() {
+                public Thread newThread(Runnable r)
+                {
+                    Thread t = new Thread(r, "Metrics server");
+                    t.setDaemon(true);
+                    t.setPriority(Thread.MIN_PRIORITY);
+                    return t;
+                }
+            }));
+        server.start();
+    }
+
+    public void stop()
+    {
+        server.stop(0);
+    }
+
+    // ---------------------------------------------------------------
+    // Updates from the frame loop
+
+    // Report on scene (its seed too)
+    public void setScene(Scene s)
+    {
+        scene = s;
+        seed = s.seed;
+    }
+
+    public void setSeed(long s)
+    {
+        seed = s;
+    }
+
+    // Note that a frame of the given size was written, with queued
+    // frames still waiting
+    public void frameWritten(long bytes, int queued)
+    {
+        framesWritten++;
+        bytesWritten += bytes;
+        queueDepth = queued;
+    }
+
+    // ---------------------------------------------------------------
+
+    // Metrics page
+    private synchronized String page()
+    {
+        StringBuilder sb = new StringBuilder(2048);
+        Scene s = scene;
+
+        metric(sb, "procanim_seed", "gauge", "Seed of the animation", seed);
+        if (s != null) {
+            metric(sb, "procanim_sim_time_seconds", "gauge",
+                   "Simulated time", s.computeClock);
+            metric(sb, "procanim_frame_number", "gauge",
+                   "Number of the frame being rendered", s.getFrameNumber());
+
+            long steps = s.simulationSteps, now = System.nanoTime();
+            double rate = (now > lastNanos) ?
+                (steps - lastSteps) / ((now - lastNanos) / 1e9) : 0;
+            lastSteps = steps;
+            lastNanos = now;
+            metric(sb, "procanim_sim_steps_total", "counter",
+                   "Simulation steps taken", steps);
+            metric(sb, "procanim_sim_steps_per_second", "gauge",
+                   "Simulation steps per second since the last scrape", rate);
+        }
+        metric(sb, "procanim_frames_written_total", "counter",
+               "Frames written", framesWritten);
+        metric(sb, "procanim_bytes_written_total", "counter",
+               "Bytes of frames written", bytesWritten);
+        metric(sb, "procanim_dump_queue_depth", "gauge",
+               "Frames waiting to be written", queueDepth);
+
+        // JVM
+        MemoryUsage heap = ManagementFactory.getMemoryMXBean()
+            .getHeapMemoryUsage();
+        metric(sb, "procanim_heap_used_bytes", "gauge",
+               "Heap in use", heap.getUsed());
+        metric(sb, "procanim_heap_committed_bytes", "gauge",
+               "Heap committed", heap.getCommitted());
+        metric(sb, "procanim_heap_max_bytes", "gauge",
+               "Largest the heap can grow (-1 if unlimited)", heap.getMax());
+
+        header(sb, "procanim_gc_collections_total", "counter",
+               "Garbage collections");
+        for (GarbageCollectorMXBean gc :
+                 ManagementFactory.getGarbageCollectorMXBeans()) {
+            sample(sb, "procanim_gc_collections_total", gc.getName(),
+                   gc.getCollectionCount());
+        }
+        header(sb, "procanim_gc_time_seconds_total", "counter",
+               "Time spent collecting garbage");
+        for (GarbageCollectorMXBean gc :
+                 ManagementFactory.getGarbageCollectorMXBeans()) {
+            sample(sb, "procanim_gc_time_seconds_total", gc.getName(),
+                   gc.getCollectionTime() / 1000.0);
+        }
+
+        return sb.toString();
+    }
+
+    private static void header(StringBuilder sb, String name, String type,
+                               String help)
+    {
+        sb.append("# HELP ").append(name).append(' ').append(help).append('\n');
+        sb.append("# TYPE ").append(name).append(' ').append(type).append('\n');
+    }
+
+    private static void metric(StringBuilder sb, String name, String type,
+                               String help, double value)
+    {
+        header(sb, name, type, help);
+        sb.append(name).append(' ').append(format(value)).append('\n');
+    }
+
+    // Sample of a metric for one garbage collector
+    private static void sample(StringBuilder sb, String name, String gc,
+                               double value)
+    {
+        sb.append(name).append("{gc=\"")
+            .append(gc.replace("\\", "\\\\").replace("\"", "\\\""))
+            .append("\"} ").append(format(value)).append('\n');
+    }
+
+    // Whole numbers without a decimal point
+    private static String format(double v)
+    {
+        if (v == Math.rint(v) && Math.abs(v) < 1e15)
+          return Long.toString((long)v);
+        return Double.toString(v);
+    }
+}
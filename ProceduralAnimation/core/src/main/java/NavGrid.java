@@ -0,0 +1,153 @@
+/* class NavGrid
+ * Grid of cells over the ground disc (around the center of wandering),
+ * for finding ways around obstacles: a cell is blocked if a critter of
+ * the grid's clearance centered in it would touch an obstacle, or if
+ * it's off the ground.  Paths to a goal are found once per goal as a
+ * FlowField, which any number of critters heading for that goal can
+ * follow by looking up the cell they're in.
+ *
+ * The grid is rebuilt when the obstacles or the center change, and
+ * keeps the flow fields of the last few goals (reusing their storage,
+ * so following paths doesn't allocate once the fields are made).
+ */
+
+import java.util.*;
+
+class NavGrid
+{
+    // Width of a cell, and radius of the ground covered
+    static final double cellSize = 0.25;
+    static final double radius = 15;
+
+    // Flow fields kept
+    static final int fieldsKept = 4;
+
+    // Cells across the grid, and its lower left corner
+    final int n;
+    double x0, y0;
+
+    // Whether each cell is blocked (by row)
+    boolean[] blocked;
+
+    // Clearance around obstacles (critter radius)
+    double clearance;
+
+    // Obstacles and center the grid was built for
+    private Vector<Obstacle> builtFor = null;
+    private int builtChanges = -1;
+    private double cx = Double.NaN, cy = Double.NaN;
+
+    // Flow fields to recent goals, and when each was last used
+    private FlowField[] fields = new FlowField[fieldsKept];
+    private int uses = 0;
+
+    // Statistics
+    int gridBuilds = 0, fieldBuilds = 0;
+
+    // ---------------------------------------------------------------
+
+    public NavGrid(double clearanceVal)
+    {
+        clearance = clearanceVal;
+        n = (int)Math.ceil(2*radius / cellSize);
+        blocked = new boolean[n*n];
+    }
+
+    // Cell containing (x, y) (-1 if off the grid)
+    int cell(double x, double y)
+    {
+        int i = (int)Math.floor((x - x0) / cellSize);
+        int j = (int)Math.floor((y - y0) / cellSize);
+        if (i < 0 || j < 0 || i >= n || j >= n)
+          return -1;
+        return j*n + i;
+    }
+
+    // Center of cell c
+    double cellX(int c)
+    {
+        return x0 + (c % n + 0.5) * cellSize;
+    }
+    double cellY(int c)
+    {
+        return y0 + (c / n + 0.5) * cellSize;
+    }
+
+    // ---------------------------------------------------------------
+
+    // Bring the grid up to date with the obstacles of scene, centered
+    // at (x, y)
+    public void update(Scene scene, double x, double y)
+    {
+        int changes = (scene.world == null) ? 0 : scene.world.changes;
+        if (scene.obstacles == builtFor && changes == builtChanges &&
+            x == cx && y == cy)
+          return;
+
+        builtFor = scene.obstacles;
+        builtChanges = changes;
+        cx = x;
+        cy = y;
+        x0 = x - n * cellSize / 2;
+        y0 = y - n * cellSize / 2;
+
+        // Off the ground
+        for (int c = 0; c < blocked.length; c++) {
+            double dx = cellX(c) - x, dy = cellY(c) - y;
+            blocked[c] = dx*dx + dy*dy > radius*radius;
+        }
+
+        // Near obstacles
+        for (int k = 0; k < builtFor.size(); k++) {
+            Obstacle o = builtFor.get(k);
+            double ox = o.getLocation().x, oy = o.getLocation().y;
+            double r = SimMetrics.obstacleRadius(o) + clearance;
+
+            int i0 = Math.max(0, (int)Math.floor((ox - r - x0) / cellSize));
+            int i1 = Math.min(n-1, (int)Math.floor((ox + r - x0) / cellSize));
+            int j0 = Math.max(0, (int)Math.floor((oy - r - y0) / cellSize));
+            int j1 = Math.min(n-1, (int)Math.floor((oy + r - y0) / cellSize));
+            for (int j = j0; j <= j1; j++) {
+                for (int i = i0; i <= i1; i++) {
+                    int c = j*n + i;
+                    double dx = cellX(c) - ox, dy = cellY(c) - oy;
+                    if (dx*dx + dy*dy <= r*r)
+                      blocked[c] = true;
+                }
+            }
+        }
+
+        // Paths found on the old grid no longer hold
+        for (int f = 0; f < fields.length; f++) {
+            if (fields[f] != null)
+              fields[f].valid = false;
+        }
+        gridBuilds++;
+    }
+
+    // Flow field to the goal (gx, gy), found if it isn't one of the
+    // recent ones
+    public FlowField field(double gx, double gy)
+    {
+        uses++;
+        FlowField oldest = null;
+        for (int f = 0; f < fields.length; f++) {
+            FlowField ff = fields[f];
+            if (ff == null) {
+                ff = fields[f] = new FlowField(this);
+            }
+            if (ff.valid && ff.gx == gx && ff.gy == gy) {
+                ff.lastUsed = uses;
+                return ff;
+            }
+            if (oldest == null || !ff.valid ||
+                (oldest.valid && ff.lastUsed < oldest.lastUsed))
+              oldest = ff;
+        }
+
+        oldest.compute(gx, gy);
+        oldest.lastUsed = uses;
+        fieldBuilds++;
+        return oldest;
+    }
+}
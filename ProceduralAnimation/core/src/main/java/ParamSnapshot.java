@@ -0,0 +1,39 @@
+/* class ParamSnapshot
+ * The values of a scene's parameters and options at one moment, which
+ * never change once made.  The interface publishes a new snapshot
+ * whenever a value changes (see Scene.publishParams()), numbered by a
+ * version that goes up by one each time; the threads animating and
+ * drawing the scene take the latest one at the start of each frame
+ * (Scene.beginFrame()), so a frame sees a consistent set of values
+ * without locking, and can tell when nothing has changed.
+ */
+
+final class ParamSnapshot
+{
+    // Version (0 for the first snapshot of a scene)
+    final long version;
+
+    // View
+    final double tH, tV, tZ, rAlt, rAzim;
+
+    // Display options
+    final boolean drawTime, drawAnimation, drawBugView, useLOD, drawTiming;
+
+    // Snapshot of the current values of the parameters of scene
+    ParamSnapshot(Scene scene, long versionVal)
+    {
+        version = versionVal;
+
+        tH = scene.tH.value;
+        tV = scene.tV.value;
+        tZ = scene.tZ.value;
+        rAlt = scene.rAlt.value;
+        rAzim = scene.rAzim.value;
+
+        drawTime = scene.drawTime.value;
+        drawAnimation = scene.drawAnimation.value;
+        drawBugView = scene.drawBugView.value;
+        useLOD = scene.useLOD.value;
+        drawTiming = scene.drawTiming.value;
+    }
+}
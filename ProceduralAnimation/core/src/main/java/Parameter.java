@@ -0,0 +1,59 @@
+/* class Parameter
+ * Abstract class for storing a parameter value
+ * These values are reflected internally, as well as in the GUI and must
+ * be presented and updated consistently
+ *
+ * Doug DeCarlo
+ */
+
+import java.util.*;
+
+import javax.swing.JComponent;
+
+public abstract class Parameter
+{
+    // Name of parameter
+    String name;
+
+    // User interface components that display this value
+    public Vector<JComponent> views;
+
+    // Level of effect of this parameter
+    int dirtyLevel;
+
+    // Interface status shared with the other parameters of its scene
+    ParameterContext context;
+
+    // ----
+
+    // Default constructor
+    public Parameter(String paramName, int dirtyLevelVal)
+    {
+        name = paramName;
+        
+        dirtyLevel = dirtyLevelVal;
+
+        // On its own until added to a scene
+        context = new ParameterContext();
+
+        // Create empty interface component list
+        views = new Vector<JComponent>();
+    }
+
+    // Abstract method for resetting value
+    public abstract void reset();
+
+    // Note a change of value: mark the interface dirty, and publish
+    // the new value
+    void changed()
+    {
+        context.changed(dirtyLevel);
+        context.publish();
+    }
+
+    // Method to call for each user action performed
+    public void onUserAction()
+    {
+        context.onUserAction();
+    }
+}
@@ -0,0 +1,103 @@
+/* class ParameterContext
+ * Interface status shared by a group of parameters (those of one scene):
+ * whether their values have changed since the display was last updated,
+ * and whether a block action is in progress.  Each window showing a
+ * scene is updated only for changes to that scene's parameters.
+ *
+ * User actions come in bursts (dragging a slider sends an event for
+ * every value it passes), so the window isn't updated for each one:
+ * the first action schedules an update a frame later, and the actions
+ * until then just raise the dirty level, giving at most one recompute
+ * and one redraw per frame.
+ */
+
+import java.awt.event.*;
+import javax.swing.Timer;
+
+class ParameterContext
+{
+    // Indicator for interface status
+    //  - 0 indicates all is well
+    //  - 1 indicated a redraw is needed due to values being changed
+    //  - 2 indicates a recomputation is needed
+    int dirty = 2;
+
+    // Indicates whether a block action is in progress
+    private boolean blockActionOn = false;
+
+    // Display showing the parameters (null if there isn't one)
+    ParameterView window = null;
+
+    // Scene the parameters belong to (null for parameters on their own)
+    Scene scene = null;
+
+    // Time between updates of the window (a frame of the animation),
+    // and the timer for the next one (running while one is due)
+    static final int updateDelay = 20;
+    private Timer updateTimer = null;
+
+    // ----
+
+    // Note a change to a parameter with the given level of effect
+    public void changed(int dirtyLevel)
+    {
+        if (dirty < dirtyLevel)
+          dirty = dirtyLevel;
+    }
+
+    // Publish the parameter values to the threads drawing the scene
+    public void publish()
+    {
+        if (scene != null)
+          scene.publishParams();
+    }
+
+    // Accessor for blockActionOn
+    public boolean blockAction(boolean on)
+    {
+        boolean old = blockActionOn;
+
+        blockActionOn = on;
+
+        return old;
+    }
+
+    // Method to call for each user action performed -- if any changes
+    // have been made, it schedules an update of the display
+    public void onUserAction()
+    {
+        // Overlook user action if block action is on
+        if (blockActionOn)
+          return;
+
+        if (window == null) {
+            dirty = 0;
+            return;
+        }
+
+        if (updateTimer == null) {
+            updateTimer = new Timer(updateDelay, new ActionListener() {
+                    public void actionPerformed(ActionEvent e)
+                    {
+                        update();
+                    }
+                });
+            updateTimer.setRepeats(false);
+        }
+        if (dirty > 0 && !updateTimer.isRunning())
+          updateTimer.start();
+    }
+
+    // Update the display for the changes made since the last update
+    private void update()
+    {
+        // Update GUI if values are changed (dirty)
+        if (window != null) {
+            if (dirty == 2)
+              window.recompute();
+            if (dirty > 0)
+              window.refresh();
+        }
+        dirty = 0;
+    }
+}
@@ -0,0 +1,14 @@
+/* interface ParameterView
+ * Display of a scene's parameters (such as the Main window), updated by
+ * ParameterContext when they change -- so the parameters themselves
+ * don't depend on the user interface showing them
+ */
+
+public interface ParameterView
+{
+    // Recompute the scene (for changes with a dirty level of 2)
+    void recompute();
+
+    // Redraw the display (for changes with a dirty level of 1 or 2)
+    void refresh();
+}
@@ -8,18 +8,20 @@
 
 import java.util.*;
 
-import javax.media.opengl.GL;
 import javax.vecmath.*;
 
 class Rock implements Obstacle
 {
     // Location of rock
     private double xpos, ypos, scale;
+    private Point3d location;
 
     // -- Rock mesh: a height-field of rsize X rsize vertices
     int rsize;
-    // Height field: z values
+    // Height field: z values (in heightF instead, as floats, for rocks
+    // made in single precision)
     private double[][] height;
+    private float[][] heightF;
     // Whether height value has been set (locked) already
     private boolean[][] locked;
 
@@ -30,12 +32,25 @@ class Rock implements Obstacle
 
     public Rock(Random randGen, int level, 
 		double xPosition, double yPosition, double scaling)
+    {
+        this(randGen, level, xPosition, yPosition, scaling, false);
+    }
+
+    // Rock storing its heights as floats if singlePrecision (half the
+    // memory; the heights differ from those of the double path in the
+    // last bits, see DriftReport)
+    public Rock(Random randGen, int level, 
+		double xPosition, double yPosition, double scaling,
+		boolean singlePrecision)
     {
         // Grid size of (2^level + 1)
         rsize = (1 << level) + 1;
 
         // Height field -- initially all zeros
-        height = new double[rsize][rsize];
+        if (singlePrecision)
+          heightF = new float[rsize][rsize];
+        else
+          height = new double[rsize][rsize];
         locked = new boolean[rsize][rsize];
  
         rgen = randGen;
@@ -44,6 +59,7 @@ class Rock implements Obstacle
 	xpos = xPosition;
 	ypos = yPosition;
 	scale = scaling;
+	location = new Point3d(xpos, ypos, 0);
 
 	compute();
     }
@@ -52,52 +68,12 @@ class Rock implements Obstacle
     // Obstacle methods
 
     // Get rock location (as a scene element)
+    // (shared -- don't modify it)
     public Point3d getLocation()
     {
-	return new Point3d(xpos, ypos, 0);
+	return location;
     }
 
-    // Draw rock in scene
-    public void draw(GL gl)
-    {
-	gl.glPushMatrix();
-
-        // Translate rock down (so it has an interesting boundary)
-	gl.glTranslated(xpos, ypos, -0.15);
-
-	gl.glScaled(scale, scale, scale);
-
-        gl.glColor3d(0.6, 0.6, 0.6);
-
-        // Create these outside the loops, so objects persist and
-        // unnecessary GC is avoided
-        Point3d p = new Point3d();
-        Vector3d n = new Vector3d();
-
-        // Draw polygon grid of rock as quad-strips
-        for (int i = 0; i < rsize-1; i++) {
-            gl.glBegin(GL.GL_QUAD_STRIP);
-            for (int j = 0; j < rsize; j++) {
-                getRockPoint(i, j, p);
-                getRockNormal(i, j, n);
-                gl.glNormal3d(n.x, n.y, n.z);
-                gl.glVertex3d(p.x, p.y, p.z);
-                
-                getRockPoint(i+1, j, p);
-                getRockNormal(i+1, j, n);
-                gl.glNormal3d(n.x, n.y, n.z);
-                gl.glVertex3d(p.x, p.y, p.z);
-            }
-            gl.glEnd();
-        }
-
-        // Make GC easy
-        p = null;
-        n = null;
-    
-	gl.glPopMatrix();
-    }
-    
     // ---------------------------------------------------------------
 
     // Point (i,j) on the rock -- point p gets filled in
@@ -107,7 +83,7 @@ class Rock implements Obstacle
         p.x = (double)i / (rsize-1) - 0.5;
         p.y = (double)j / (rsize-1) - 0.5;
         // Rock z comes from height field
-        p.z = height[i][j];
+        p.z = height(i, j);
     }
 
     // Normal vector (i,j) on the rock -- vector n gets filled in
@@ -118,12 +94,12 @@ class Rock implements Obstacle
         // its borders and outside of it too)
 
         // X component is zleft - zright (respecting boundaries)
-        n.x = height[(i == 0) ? i : i-1][j] - 
-              height[(i == rsize-1) ? i : i+1][j];
+        n.x = height((i == 0) ? i : i-1, j) - 
+              height((i == rsize-1) ? i : i+1, j);
 
         // Y component is zbottom - ztop (respecting boundaries)
-        n.y = height[i][(j == 0) ? j : j-1] - 
-              height[i][(j == rsize-1) ? j : j+1];
+        n.y = height(i, (j == 0) ? j : j-1) - 
+              height(i, (j == rsize-1) ? j : j+1);
 
         // Z component is twice the separation
         n.z = 2 / (rsize-1);
@@ -135,6 +111,24 @@ class Rock implements Obstacle
     	return scale;
     }
 
+    // Height of point (i,j), and the bytes used to store each height
+    double height(int i, int j)
+    {
+        return (heightF != null) ? heightF[i][j] : height[i][j];
+    }
+    int heightBytes()
+    {
+        return (heightF != null) ? 4 : 8;
+    }
+
+    private void setHeight(int i, int j, double h)
+    {
+        if (heightF != null)
+          heightF[i][j] = (float)h;
+        else
+          height[i][j] = h;
+    }
+
     // ---------------------------------------------------------------
 
     // Compute the geometry of the rock
@@ -144,7 +138,7 @@ class Rock implements Obstacle
     	// Initialize mesh
     	for (int i = 0; i < rsize; i++) {
     		for (int j = 0; j < rsize; j++) {
-    			height[i][j] = 0;
+    			setHeight(i, j, 0);
 
     			// Lock sides...
     			locked[i][j] = (i == 0 || i == rsize-1 ||
@@ -154,7 +148,7 @@ class Rock implements Obstacle
 
     	// Raise the middle point and lock it there
     	double center_height = 0.3;
-    	height[rsize/2][rsize/2] = center_height;
+    	setHeight(rsize/2, rsize/2, center_height);
     	locked[rsize/2][rsize/2] = true;
 
     	// Recursively compute fractal structure
@@ -168,10 +162,10 @@ class Rock implements Obstacle
     		double displacement = Math.pow(2, level);
     		int mid_x = (int) ((p1.x+p2.x)/2.0);
     		int mid_y = (int) ((p1.y+p2.y)/2.0);
-    		double a = height[(int)p1.x][(int)p1.y];
-    		double b = height[(int)p1.x][(int)p2.y];
-    		double c = height[(int)p2.x][(int)p2.y];
-    		double d = height[(int)p2.x][(int)p1.y];
+    		double a = height((int)p1.x, (int)p1.y);
+    		double b = height((int)p1.x, (int)p2.y);
+    		double c = height((int)p2.x, (int)p2.y);
+    		double d = height((int)p2.x, (int)p1.y);
     		
     		// this combination of nextGaussian and nextDouble makes nice rocks
     		double e = (a+b+c+d)/4.0 + rgen.nextGaussian() / displacement;
@@ -201,7 +195,7 @@ class Rock implements Obstacle
     
     private void displaceAndLock(int x, int y, double d) {
     	if (!locked[x][y]) {
-    		height[x][y] = d;
+    		setHeight(x, y, d);
     		locked[x][y] = true;
     	}
     }
@@ -0,0 +1,1186 @@
+/* class Scene
+ * Methods to describe and process the scene which contains
+ * rocks, trees and critters (SceneRenderer displays it).
+ *
+ * Doug DeCarlo
+ */
+
+import java.io.*;
+import java.util.*;
+
+import javax.vecmath.*;
+
+public class Scene
+{
+	// Parameters for specifying V; the 3D view
+	private Vector<DoubleParameter> params;
+	DoubleParameter tH, tV, tZ, rAlt, rAzim;
+
+	// Parameters for display options
+	private Vector<BooleanParameter> options;
+	public  BooleanParameter drawTime, drawAnimation, drawBugView, useLOD;
+	public  BooleanParameter drawTiming;
+
+	// Interface status shared by the parameters and options
+	ParameterContext paramContext = new ParameterContext();
+
+	// Time taken by each stage of making a frame
+	StageStats stageStats = new StageStats();
+
+	// Latest snapshot of the parameter values published by the
+	// interface, and the one taken for the current frame
+	private volatile ParamSnapshot published = null;
+	private ParamSnapshot frame = null;
+
+	// ------------
+
+	// Elements of the scene
+	Vector<Critter> critters;
+	Vector<Obstacle> obstacles;
+
+	// Main character in scene (a reference to a bug stored in critters) */
+	Bug mainBug, predator;
+
+	// Random number generator (its state can be checkpointed)
+	SimRandom rgen;
+
+	// Clock reading at last computation
+	double computeClock = 0;
+
+	// Seed for random number generator
+	long seed;
+
+	// Rendering quality flag
+	boolean nice;
+
+	// Speed multiplier for clock (1.0 is default)
+	double clockSpeed;
+	int previousUpdate = 0;
+
+	// File prefix used for file dumping (null if not dumping images)
+	String dumpPrefix;
+
+	// Scratch space reused each frame, so animating doesn't allocate
+	private Point2d attractPoint2d = new Point2d();
+	private Point3d attractPoint = new Point3d();
+	private Point3d navTarget = new Point3d();
+	private Matrix4d viewStep = new Matrix4d();
+
+	// Center of the world
+	Point3d origin = new Point3d(0,0,0);
+	
+	// Steering constants for critter behavior
+	SteeringParams steering = new SteeringParams();
+
+	// Level of detail for critters (used when useLOD is on)
+	LodScheduler lod = new LodScheduler();
+
+	// Trajectory log being written each frame, and log being played
+	// back instead of simulating (null if not in use)
+	TrajectoryRecorder recorder = null;
+	TrajectoryLog playback = null;
+
+	// Unbounded world streamed in chunks around the critters, instead
+	// of the fixed one (null if not in use)
+	ChunkedWorld world = null;
+
+	// Rolling ground the scene is drawn on, instead of the flat disc
+	// (null if not in use; the simulation itself stays on the plane)
+	Terrain terrain = null;
+
+	// Grid the main bug finds its way to its wandering target on,
+	// instead of heading straight for it (null if not in use)
+	NavGrid nav = null;
+
+	// Bugs added to the scene besides the main bug and predator (every
+	// predatorEvery'th of them a predator), and the interactions between
+	// all bugs (null if they only interact as main bug and predator)
+	int extraBugs = 0;
+	static final int predatorEvery = 16;
+	Flock flock = null;
+
+	// Walk cycle of the bugs (see GaitClip)
+	GaitClip gait = Bug.linearGait;
+
+	// Critter state as arrays, for simulating with the batch kernels
+	// (null when simulating with the Critter methods; see CritterBatch)
+	CritterBatch batch = null;
+
+	// Threads the work on each critter in a simulation step is split
+	// over, in pieces of substepTaskSize critters (those of the flock;
+	// null to do it all on the simulation thread)
+	TaskPool pool = null;
+	static final int substepTaskSize = 2048;
+
+	// The passes of the substep loop over the critters (see
+	// substepPass()): the critters, and the repulsion of each obstacle,
+	// as arrays (which only grow), and the step the pass is in
+	private Bug[] passBugs = new Bug[0];
+	private Point3d[] avoidAt = new Point3d[0];
+	private double[] avoidRadius = new double[0], avoidRepel = new double[0];
+	private double[] avoidExp = new double[0];
+	private int passCritters, passObstacles, passStep, passSteps;
+	private double passDrag, passDt;
+	private boolean passLod;
+
+	// With a force tree (see useForceTree()), the pull of the rocks and
+	// of the trees (which have their own exponents) on each critter,
+	// and scratch space for each piece of a pass
+	private ForceTree rockForces = null, treeForces = null;
+	private double[][] forceOut = { new double[2] };
+
+	private TaskPool.Range critterPass = new TaskPool.Range() {
+		public void run(int start, int end)
+		{
+			substepPass(start, end);
+		}
+	};
+	private TaskPool.Range batchPass = new TaskPool.Range() {
+		public void run(int start, int end)
+		{
+			batchPass(start, end);
+		}
+	};
+
+	// Whether rocks are stored in single precision (along with the
+	// critters, for the FLOAT kernel)
+	boolean singlePrecision = false;
+
+	// Center of the area new locations are picked in
+	private Point2d locationCenter = new Point2d(0,0);
+
+	// Locations rejected by getSafeLocation() (for profiling)
+	int placementRetries = 0;
+
+	// Simulation steps taken (read by MetricsServer)
+	volatile long simulationSteps = 0;
+
+	// Previous attraction point for Critters
+	Point3d prevAttraction = new Point3d(0,0,0);
+	
+	// Constant for radius of trees
+	double treeRadius = 4.0;
+
+	// World being rebuilt in the background, to be swapped in once
+	// it's ready (null if none)
+	volatile WorldRebuild rebuild = null;
+
+	// Fraction of build() done (for showing progress)
+	volatile double buildProgress = 0;
+
+	//-----------------------------------------------------------------------
+
+	// Default constructor for scene
+	public Scene(long seedVal, boolean niceVal, double clockSpeedVal, 
+			String dumpPrefixVal)
+	{
+		seed = seedVal;
+		nice = niceVal;
+		clockSpeed = clockSpeedVal;
+		dumpPrefix = dumpPrefixVal;
+
+		// Allocate parameters
+		params = new Vector<DoubleParameter>();
+		options = new Vector<BooleanParameter>();
+
+		tH = addParameter(new DoubleParameter("Left/Right", 0, -10, 10, 1));
+		tV = addParameter(new DoubleParameter("Down/Up",   -2, -10, 10, 1));
+		tZ = addParameter(new DoubleParameter("Out/In",     0, -30, 20, 1));
+
+		rAlt  = addParameter(new DoubleParameter("Altitude", 15, -15, 80, 1));
+		rAzim = addParameter(new DoubleParameter("Azimuth", 0, -180, 180, 1));
+
+		drawAnimation = addOption(new BooleanParameter("Animation", 
+				false, 2));
+		drawTime      = addOption(new BooleanParameter("Show time",
+				dumpPrefix == null, 
+				1));
+		drawBugView   = addOption(new BooleanParameter("Bug camera view", 
+				false, 1));
+		useLOD        = addOption(new BooleanParameter("Level of detail",
+				false, 1));
+		drawTiming    = addOption(new BooleanParameter("Show timing",
+				false, 1));
+
+		paramContext.scene = this;
+		publishParams();
+		frame = published;
+
+		build();
+	}
+
+	// Scene for building a world like that of scene s in, away from s
+	// (it has no parameters, just the contents of the world)
+	Scene(Scene s)
+	{
+		seed = s.seed;
+		nice = s.nice;
+		clockSpeed = s.clockSpeed;
+		dumpPrefix = s.dumpPrefix;
+		treeRadius = s.treeRadius;
+		extraBugs = s.extraBugs;
+		gait = s.gait;
+		singlePrecision = s.singlePrecision;
+		if (s.world != null) {
+			world = new ChunkedWorld(seed, s.world.budget, singlePrecision);
+		}
+	}
+
+	// ----------------------------------------------------------------------
+
+	// Stream the world in chunks (caching up to budgetBytes of them)
+	// instead of using the fixed world, and rebuild the scene
+	public void useChunkedWorld(long budgetBytes)
+	{
+		world = new ChunkedWorld(seed, budgetBytes, singlePrecision);
+		build();
+	}
+
+	// Draw the scene on rolling terrain
+	public void useTerrain()
+	{
+		terrain = new Terrain(seed, 1024, 2);
+	}
+
+	// Add count more bugs to the scene (which is rebuilt)
+	public void addBugs(int count)
+	{
+		extraBugs = count;
+		build();
+	}
+
+	// Have the bugs walk with the keyframes smoothed by a spline
+	// instead of interpolated linearly
+	public void useSmoothGait()
+	{
+		gait = new GaitClip(Bug.keyT, Bug.keyFrames,
+				GaitClip.defaultSamples, true);
+		for (int k = 0; k < critters.size(); k++) {
+			((Bug) critters.get(k)).useGait(gait);
+		}
+	}
+
+	// Have all bugs interact (see Flock), using the given number of
+	// threads (for the interactions, and each critter's steering and
+	// integration)
+	public void useFlocking(int threads)
+	{
+		pool = new TaskPool(threads);
+		flock = new Flock(pool);
+	}
+
+	// Simulate with the given kernel (see CritterBatch); level of detail
+	// and the force tree always use the Critter methods.  The FLOAT
+	// kernel stores the rocks in single precision too (the scene is
+	// rebuilt to switch).
+	public void useKernel(int kernel)
+	{
+		batch = (kernel == CritterBatch.SCALAR) ? null :
+			CritterBatch.make(kernel);
+
+		boolean single = (kernel == CritterBatch.FLOAT);
+		if (single != singlePrecision) {
+			singlePrecision = single;
+			if (world != null) {
+				world = new ChunkedWorld(seed, world.budget, singlePrecision);
+			}
+			build();
+		}
+	}
+
+	// Have the main bug follow paths around obstacles to its wandering
+	// target (see NavGrid)
+	public void useNavigation()
+	{
+		nav = new NavGrid(mainBug.scale);
+	}
+
+	// Sum the pull of the obstacles on each critter with a ForceTree of
+	// opening angle theta, instead of obstacle by obstacle
+	public void useForceTree(double theta)
+	{
+		rockForces = new ForceTree(theta);
+		treeForces = new ForceTree(theta);
+	}
+
+	// Height of the ground at (x, y)
+	double groundHeight(double x, double y)
+	{
+		return (terrain == null) ? 0 : terrain.heightAt(x, y);
+	}
+
+	// Publish a snapshot of the current parameter values (called by
+	// the parameters when they change)
+	synchronized void publishParams()
+	{
+		long version = (published == null) ? 0 : published.version + 1;
+		published = new ParamSnapshot(this, version);
+	}
+
+	// Take the latest parameter values for the frame about to be
+	// animated and drawn (call from the drawing thread)
+	public ParamSnapshot beginFrame()
+	{
+		frame = published;
+		return frame;
+	}
+
+	// Parameter values for the current frame
+	public ParamSnapshot snapshot()
+	{
+		return frame;
+	}
+
+	// Keep track of list of all scene parameters/drawing options
+	public DoubleParameter addParameter(DoubleParameter p)
+	{
+		p.context = paramContext;
+		params.add(p);
+		return p;
+	}
+	public BooleanParameter addOption(BooleanParameter p)
+	{
+		p.context = paramContext;
+		options.add(p);
+		return p;
+	}
+
+	// Accessors for parameters/options
+	public Vector getParams()
+	{
+		return params;
+	}
+	public Vector getOptions()
+	{
+		return options;
+	}
+
+	// Reset all shape parameters to default values
+	public void reset()
+	{
+		Iterator i;
+
+
+		i = params.iterator(); 
+		while (i.hasNext()) {
+			((Parameter)i.next()).reset();
+		}
+
+		i = options.iterator(); 
+		while (i.hasNext()) {
+			((Parameter)i.next()).reset();
+		}
+	}
+
+	// -----------------------------------------------------------------
+	// -- Clock stuff
+
+	// Starting time of program, and time of latest pause
+	public long startTime, pauseTime;
+
+	// Flag for determining if clock always reports 1/30 second
+	// intervals each time it is polled
+	public boolean frameByFrameClock = false;
+
+	// Frame number (for frame-by-frame clock)
+	private int frameNumber = 0;
+
+	// Get current frame number
+	public int getFrameNumber()
+	{
+		return frameNumber;
+	}
+
+	// Go to next frame number
+	public void incrementFrameNumber()
+	{
+		frameNumber++;
+	}
+
+	// Make clock frame-by-frame (each frame has 1/30 second duration)
+	public void setFrameByFrameClock()
+	{
+		frameByFrameClock = true;
+	}
+
+	// Record starting time of program and frame number
+	public void resetClock()
+	{
+		startTime = System.currentTimeMillis();
+		pauseTime = startTime;
+
+		computeClock = 0;
+
+		frameNumber = 0;
+	}
+
+	// Pause clock (time doesn't elapse)
+	public void pauseClock(boolean stop)
+	{
+		long now = System.currentTimeMillis();
+
+		if (stop) {
+			pauseTime = now;
+		} else {
+			startTime += now - pauseTime;
+		}
+	}
+
+	// Return current time (in seconds) since program started
+	// (or if frameByFrameClock is true, then return time of current
+	// frame number)
+	public double readClock()
+	{
+		if (frameByFrameClock) {
+			return frameNumber * (1/30.0f);
+		} else {
+			long elapsed;
+
+			if (frame.drawAnimation) {
+				// Time during animation
+				elapsed = System.currentTimeMillis() - startTime;
+			} else {
+				// Time during pause
+				elapsed = pauseTime - startTime;
+			}
+
+			return elapsed / 1000.0f;
+		}
+	}
+
+	// ----------------------------------------------------------------------
+
+	// Build the contents of the scene
+	// (no OpenGL calls are allowed in here, as it hasn't been
+	//  initialized yet)
+	public void build()
+	{
+		WorldBuildEvent event = new WorldBuildEvent();
+		event.begin();
+		int retries = placementRetries;
+
+		Point3d loc;
+
+		// Make random number generator
+		if (seed == -1) {
+			seed = System.currentTimeMillis() % 10000;
+			System.out.println("Seed value: " + seed);
+		}
+		rgen = new SimRandom(seed);
+
+		// Create empty scene (getSafeLocation() mustn't steer clear of
+		// the bugs of an earlier build)
+		obstacles = new Vector<Obstacle>();
+		critters = new Vector<Critter>();
+		mainBug = null;
+		predator = null;
+		locationCenter.set(0, 0);
+		buildProgress = 0;
+
+		// ---------------
+
+		if (world != null) {
+			// Obstacles come from the chunks around the origin
+			world.update(this);
+		} else {
+			buildObstacles();
+		}
+
+		// Create the main bug
+		double mainBugScale = 0.6;
+		Point2d mainBugPos = getSafeLocation(mainBugScale, false, 5);
+		mainBug = new Bug(rgen, mainBugScale,  mainBugPos.x, mainBugPos.y,  0.1f, 0.0f);
+		mainBug.useGait(gait);
+		critters.addElement(mainBug);
+		
+		double predatorScale = mainBugScale * 1.5;
+		Point2d predatorPos = getSafeLocation(predatorScale, false, 5);
+		predator = new Bug(rgen, predatorScale, predatorPos.x, predatorPos.y, 0.1f, 0.0f);
+		predator.isPredator = true;
+		predator.useGait(gait);
+		critters.addElement(predator);
+
+		// Any other bugs
+		for (int i = 0; i < extraBugs; i++) {
+			double scale = 0.3;
+			Point2d p = getSafeLocation(scale, false, 12);
+			Bug bug = new Bug(rgen, scale, p.x, p.y, 0.1f, 0.0f);
+			bug.isPredator = (i % predatorEvery) == predatorEvery - 1;
+			bug.useGait(gait);
+			critters.addElement(bug);
+		}
+
+		// ---------------
+
+		// Reset computation clock
+		computeClock = 0;
+		buildProgress = 1;
+
+		if (event.shouldCommit()) {
+			event.scope = "world";
+			for (int i = 0; i < obstacles.size(); i++) {
+				if (obstacles.get(i) instanceof Tree)
+					event.trees++;
+				else
+					event.rocks++;
+			}
+			event.rngDraws = rgen.draws;
+			event.placementRetries = placementRetries - retries;
+			event.commit();
+		}
+	}
+
+	// Start building a new world in the background; the current one
+	// stays in use until the new one is swapped in by swapWorld()
+	// (does nothing if a rebuild is already under way)
+	public WorldRebuild rebuild()
+	{
+		if (rebuild == null) {
+			rebuild = new WorldRebuild(this);
+		}
+		return rebuild;
+	}
+
+	// Swap in the world being rebuilt, if it's ready, restarting the
+	// clock (call between frames); returns whether it was swapped in
+	public boolean swapWorld()
+	{
+		WorldRebuild r = rebuild;
+		if (r == null || !r.isBuilt()) {
+			return false;
+		}
+
+		Scene next = r.built();
+		if (next != null) {
+			rgen = next.rgen;
+			obstacles = next.obstacles;
+			critters = next.critters;
+			mainBug = next.mainBug;
+			predator = next.predator;
+			world = next.world;
+			previousUpdate = next.previousUpdate;
+			prevAttraction.set(next.prevAttraction);
+			locationCenter.set(next.locationCenter);
+
+			resetClock();
+		}
+
+		rebuild = null;
+		r.swapped();
+		return true;
+	}
+
+	// Place the trees and rocks of the fixed world
+	private void buildObstacles()
+	{
+		// The randomized version)
+		// although it seems to work a little better if I constrain the number of elements pretty severely
+		int numTrees = (int) (rgen.nextDouble()*2+1);
+		for (int i = 0; i < numTrees; i++) {
+			Point2d newObstacle = getSafeLocation(1.0, true, 7.5);
+			if (numTrees > 1)
+				obstacles.addElement(new Tree(rgen, 5, 4, 2.0f, 0.3f, newObstacle.x, newObstacle.y));
+			else 
+				obstacles.addElement(new Tree(rgen, 5, 5, 2.0f, 0.3f, newObstacle.x, newObstacle.y));
+
+			// (trees take most of the time)
+			buildProgress = 0.8 * (i+1) / numTrees;
+		}
+		
+		int numRocks = (int) (rgen.nextDouble()*4+1);
+		for (int i = 0; i < numRocks; i++) {
+			double scale = rgen.nextDouble()*3.0+1.0;
+			Point2d newObstacle = getSafeLocation(scale, false, 5.5);
+			// degree 3 rocks seem to have the best looks to efficiency ration
+			obstacles.addElement(new Rock(rgen, 3, newObstacle.x, newObstacle.y, scale,
+					singlePrecision));
+			buildProgress = 0.8 + 0.15 * (i+1) / numRocks;
+		}
+	}
+
+	// Perform computation for critter movement so they are updated to
+	// the current time (or when playing back a trajectory log, place
+	// them where they were recorded, without simulating)
+	public void process()
+	{
+		long start = System.nanoTime();
+
+		// Obstacles near the critters (they may have been moved by
+		// restoring a checkpoint)
+		if (world != null) {
+			world.update(this);
+		}
+
+		if (playback != null) {
+			playback.show(this);
+			if (world != null) {
+				world.update(this);
+			}
+			stageStats.record(StageStats.PROCESS, start);
+			return;
+		}
+
+		simulate();
+
+		if (world != null) {
+			world.update(this);
+		}
+
+		if (recorder != null) {
+			try {
+				recorder.record(this);
+			} catch (IOException e) {
+				System.out.println("Error recording trajectories: " + e);
+				recorder = null;
+			}
+		}
+
+		stageStats.record(StageStats.PROCESS, start);
+	}
+
+	// Simulate critter movement up to the current time
+	private void simulate()
+	{
+		SimStepEvent event = null;
+		if (SimStepEvent.type.isEnabled()) {
+			event = new SimStepEvent();
+			event.begin();
+		}
+
+		// Get current time
+		double t = readClock() * clockSpeed;
+		double dTime = t - computeClock;
+		double dtMax = 1/50.0f;
+
+		// Set current time on display
+		computeClock = t;
+
+		// Only process if time has elapsed
+		if (dTime <= 0)
+			return;
+		simulationSteps++;
+
+
+		// Sort critters by how much of them can be seen
+		boolean lodOn = frame.useLOD;
+		if (lodOn) {
+			lod.classify(this);
+		}
+
+		// Interactions between bugs (for the whole frame)
+		if (flock != null) {
+			flock.compute(this);
+		}
+
+		// ---------------
+
+		// Compute accelerations, then integrate (using Critter methods)
+
+		// This part advances the simulation forward by dTime seconds, but
+		// using steps that are no larger than dtMax (this means it takes
+		// more than one step when dTime > dtMax -- the number of steps
+		// you need is stored in numSteps).
+		
+		
+		int numSteps = 100;
+		passDt = dTime/numSteps;
+		passDrag = steering.drag*mainBug.scale;
+		passSteps = numSteps;
+		if (batch != null && !lodOn && rockForces == null) {
+			simulateBatch(t, numSteps);
+		} else {
+			gatherPass(lodOn);
+
+			// Each pass finishes one step and starts the next, up to
+			// where wander() steers the main bug and predator
+			for (int i = 0; i <= numSteps; i++) {
+				passStep = i;
+				runPass(passCritters, critterPass);
+				if (i < numSteps) {
+					wander(t);
+					prevAttraction.set(attractPoint);
+				}
+			}
+		}
+		stageStats.countSubsteps(numSteps);
+		
+		// Keyframe motion for each critter
+		long keyframeStart = System.nanoTime();
+		for (int k = 0; k < critters.size(); k++) {
+			if (lodOn && !lod.keyframeDue(k)) {
+				continue;
+			}
+			Bug bug = (Bug) critters.get(k);
+			double temp = bug.dist;
+			double new_t = temp - (int) temp;
+			bug.keyframe(new_t);
+		}
+		stageStats.record(StageStats.KEYFRAME, keyframeStart);
+
+		if (event != null && event.shouldCommit()) {
+			event.critters = critters.size();
+			event.obstacles = obstacles.size();
+			event.substeps = numSteps;
+			event.dt = dTime;
+			event.commit();
+		}
+		
+	}
+
+	// Copy the critters, and the repulsion of each obstacle, into the
+	// arrays for substepPass()
+	private void gatherPass(boolean lodOn)
+	{
+		passLod = lodOn;
+		passCritters = critters.size();
+		if (passBugs.length < passCritters) {
+			passBugs = new Bug[Math.max(passCritters, 2 * passBugs.length)];
+		}
+		for (int k = 0; k < passCritters; k++) {
+			passBugs[k] = (Bug) critters.get(k);
+		}
+
+		passObstacles = obstacles.size();
+		if (avoidAt.length < passObstacles) {
+			int size = Math.max(passObstacles, 2 * avoidAt.length);
+			avoidAt = new Point3d[size];
+			avoidRadius = new double[size];
+			avoidRepel = new double[size];
+			avoidExp = new double[size];
+		}
+		for (int j = 0; j < passObstacles; j++) {
+			Obstacle temp = obstacles.get(j);
+			avoidAt[j] = temp.getLocation();
+			if (temp instanceof Rock) {
+				double trScale = ((Rock) temp).getRockScale();
+				avoidRadius[j] = Math.sqrt((trScale*trScale)*2.0)/2.0;
+				avoidRepel[j] = steering.rockRepel-trScale;
+				avoidExp[j] = steering.rockExp;
+			} else {
+				avoidRadius[j] = 0.1;
+				avoidRepel[j] = steering.treeRepel;
+				avoidExp[j] = steering.treeExp;
+			}
+		}
+
+		if (rockForces != null) {
+			gatherForces();
+		}
+	}
+
+	// Build the force trees over the obstacles gathered, and make
+	// scratch space for each piece of a pass
+	private void gatherForces()
+	{
+		rockForces.clear();
+		treeForces.clear();
+		for (int j = 0; j < passObstacles; j++) {
+			ForceTree forces = (obstacles.get(j) instanceof Rock) ?
+				rockForces : treeForces;
+			forces.add(avoidAt[j].x, avoidAt[j].y, avoidRepel[j],
+					avoidRadius[j]);
+		}
+		rockForces.build();
+		treeForces.build();
+
+		int pieces = (passCritters + substepTaskSize - 1) / substepTaskSize;
+		if (forceOut.length < pieces) {
+			double[][] out = new double[pieces][];
+			for (int p = 0; p < pieces; p++) {
+				out[p] = (p < forceOut.length) ? forceOut[p] : new double[2];
+			}
+			forceOut = out;
+		}
+	}
+
+	// Run pass over the critters [0, n), split over the pool if there
+	// is one
+	private void runPass(int n, TaskPool.Range pass)
+	{
+		if (pool != null) {
+			pool.run(n, substepTaskSize, pass);
+		} else {
+			pass.run(0, n);
+		}
+	}
+
+	// Pass passStep of the substep loop over the critters [start, end):
+	// finish the step before (drag and integration), then start this
+	// one (obstacle avoidance and interactions); after the last step,
+	// update the headings instead.  Each critter only depends on
+	// itself, so the critters can be split over threads.
+	private void substepPass(int start, int end)
+	{
+		for (int k = start; k < end; k++) {
+			Bug bug = passBugs[k];
+			if (passStep > 0) {
+				bug.accelDrag(passDrag);
+				bug.integrate(passDt);
+			}
+			if (passStep == passSteps) {
+				bug.updateHeading();
+				continue;
+			}
+
+			bug.accelReset();
+			double critterRadius = bug.scale+steering.critterPadding;
+
+			// with level of detail, bugs far away reuse their
+			// last avoidance (the main bug and predator always
+			// steer, as they drive the scene)
+			if (passLod && bug != mainBug && bug != predator &&
+					!lod.steerDue(k, passStep)) {
+				lod.addAvoidance(k, bug.acc);
+				if (flock != null) {
+					flock.addAccel(k, bug.acc);
+				}
+				continue;
+			}
+
+			// make sure the bug is afraid of rocks and trees
+			if (rockForces != null) {
+				double[] out = forceOut[start / substepTaskSize];
+				rockForces.accelAttract(bug, critterRadius, steering.rockExp, out);
+				treeForces.accelAttract(bug, critterRadius, steering.treeExp, out);
+			} else {
+				for (int j = 0; j < passObstacles; j++) {
+					bug.accelAttract(avoidAt[j], critterRadius, avoidRadius[j], avoidRepel[j], avoidExp[j]);
+				}
+			}
+
+			if (passLod) {
+				lod.storeAvoidance(k, bug.acc);
+			}
+
+			// and interacts with the other bugs
+			if (flock != null) {
+				flock.addAccel(k, bug.acc);
+			}
+		}
+	}
+
+	// Take numSteps steps from time t as the loop in simulate() does,
+	// with the kernels of the batch instead of the Critter methods
+	private void simulateBatch(double t, int numSteps)
+	{
+		batch.gather(this);
+		int mainK = batch.mainIndex, predatorK = batch.predatorIndex;
+
+		for (int i = 0; i <= numSteps; i++) {
+			passStep = i;
+			runPass(batch.n, batchPass);
+			if (i == numSteps)
+				break;
+
+			batch.put(mainK, mainBug);
+			batch.put(predatorK, predator);
+			wander(t);
+			batch.get(mainK, mainBug);
+			batch.get(predatorK, predator);
+			prevAttraction.set(attractPoint);
+		}
+
+		batch.scatter(this);
+	}
+
+	// substepPass() for the batch kernels
+	private void batchPass(int start, int end)
+	{
+		if (passStep > 0) {
+			batch.integrate(passDrag, passDt, start, end);
+		}
+		if (passStep < passSteps) {
+			batch.avoid(flock, start, end);
+		}
+	}
+
+	// Steer the main bug toward its wandering target (picking a new one
+	// every two seconds of time t) and away from the predator, and the
+	// predator after the main bug
+	private void wander(double t)
+	{
+		int currentSecond = (int) t;
+
+		// generate an attraction point once every two seconds to facilitate wandering, but 
+		// make sure it's not out of bounds or too close to an obstacle 
+		if ((currentSecond%2)==0 && currentSecond > previousUpdate) {
+			previousUpdate = currentSecond;
+			// in a chunked world, wander around where the bug is
+			if (world != null) {
+				locationCenter.set(mainBug.pos.x, mainBug.pos.y);
+			}
+			getSafeLocation(mainBug.scale+0.25, false, 5, attractPoint2d);
+		} else {
+			attractPoint2d.set(prevAttraction.x, prevAttraction.y);
+		}
+
+		attractPoint.set(attractPoint2d.x, attractPoint2d.y, 0.0);
+
+		// with navigation, head for the target along the path
+		// around obstacles
+		Point3d wanderPoint = attractPoint;
+		if (nav != null) {
+			nav.update(this, locationCenter.x, locationCenter.y);
+			FlowField field = nav.field(attractPoint.x, attractPoint.y);
+			if (field.target(mainBug.pos.x, mainBug.pos.y, navTarget))
+				wanderPoint = navTarget;
+		}
+
+		double pad = steering.critterPadding;
+		mainBug.accelAttract(wanderPoint, mainBug.scale+pad, 0.0, steering.wanderAttract, steering.wanderExp);
+		mainBug.accelAttract(predator.getLocation(), predator.scale+pad, 0.0, steering.fleeRepel, steering.fleeExp);
+		predator.accelAttract(mainBug.getLocation(), predator.scale+pad, mainBug.scale+pad, steering.chaseAttract, steering.chaseExp);
+	}
+
+	// ----------------------------------------------------------------------
+	// -- Checkpoints
+
+	// Checkpoint file identification
+	static final int checkpointMagic = 0x50414350;
+	static final int checkpointVersion = 2;
+
+	// Write the state of the simulation (everything that process()
+	// changes) to out; the rest of the scene is rebuilt from the seed
+	public void writeState(DataOutput out) throws IOException
+	{
+		out.writeInt(checkpointMagic);
+		out.writeInt(checkpointVersion);
+		out.writeLong(seed);
+		out.writeInt(critters.size());
+
+		out.writeInt(frameNumber);
+		out.writeDouble(computeClock);
+		out.writeInt(previousUpdate);
+		Critter.writeTuple(out, prevAttraction);
+		out.writeDouble(locationCenter.x);
+		out.writeDouble(locationCenter.y);
+		rgen.writeState(out);
+
+		for (int k = 0; k < critters.size(); k++) {
+			critters.get(k).writeState(out);
+		}
+
+		lod.writeState(out);
+	}
+
+	// Restore the state of the simulation written by writeState()
+	// (the scene must have been built with the same seed)
+	public void readState(DataInput in) throws IOException
+	{
+		if (in.readInt() != checkpointMagic) {
+			throw new IOException("Not a scene checkpoint");
+		}
+		if (in.readInt() != checkpointVersion) {
+			throw new IOException("Unsupported checkpoint version");
+		}
+		long s = in.readLong();
+		int n = in.readInt();
+		if (s != seed || n != critters.size()) {
+			throw new IOException("Checkpoint is for a different scene" +
+					" (seed " + s + ", " + n + " critters)");
+		}
+
+		frameNumber = in.readInt();
+		computeClock = in.readDouble();
+		previousUpdate = in.readInt();
+		Critter.readTuple(in, prevAttraction);
+		locationCenter.x = in.readDouble();
+		locationCenter.y = in.readDouble();
+		rgen.readState(in);
+
+		for (int k = 0; k < critters.size(); k++) {
+			critters.get(k).readState(in);
+		}
+
+		lod.readState(in);
+	}
+
+	// Advance the simulation by one frame of the frame-by-frame clock
+	public void step()
+	{
+		beginFrame();
+		process();
+		incrementFrameNumber();
+	}
+
+	// ----------------------------------------------------------------------
+	// -- Camera
+
+	// View frustum { left, right, bottom, top, near, far } for a window
+	// of the given size
+	void frustum(int width, int height, double[] f)
+	{
+		double aspect = (double)width / height;
+		double l, r, b, t, n;
+		// Move near plane closer, but also shrink frustum so that
+		// field-of-view stays the same -- this way not much stuff
+		// gets clipped
+		double zoom = 10;
+
+		// Preserve aspect ratio
+		if (aspect > 1) {
+			r = aspect/zoom;
+			t = 1/zoom;
+		} else {
+			r = 1/zoom;
+			t = 1/(zoom*aspect);
+		}
+		// Window has (0,0) in center
+		l = -r;
+		b = -t;
+
+		// Set near plane location
+		// (making this smaller reduces the field-of-view)
+		n = 5;
+
+		f[0] = l;
+		f[1] = r;
+		f[2] = b;
+		f[3] = t;
+
+		// if in bug cam, make field of vision a little bigger
+		if (frame.drawBugView) {
+			f[4] = n;
+			f[5] = 20;
+		} else {
+			f[4] = n / zoom;
+			f[5] = 500;
+		}
+	}
+
+	// Viewing transformation of scene based on GUI values, stored in m
+	// (also transform scene so Z is up, X is forward)
+	void viewMatrix(Matrix4d m)
+	{
+		m.setIdentity();
+
+		// Make X axis face forward, Y right, Z up
+		// (map ZXY to XYZ)
+		viewStep.rotX(Math.toRadians(-90));
+		m.mul(viewStep);
+		viewStep.rotZ(Math.toRadians(-90));
+		m.mul(viewStep);
+
+		if (frame.drawBugView) {
+			// ---- "Bug cam" transformation (for mainBug)
+			// e's a spazzy little dude.
+
+			translate(m, 0, 0, -(1.15*mainBug.scale));
+
+			Point3d bugPos = mainBug.pos;
+			double a = Math.toDegrees(mainBug.heading)-180;
+
+			// Translate by Zoom/Horiz/Vert
+			viewStep.rotZ(Math.toRadians(-a));
+			m.mul(viewStep);
+			translate(m, -bugPos.x, -bugPos.y,
+					-groundHeight(bugPos.x, bugPos.y));
+		} else {
+			// ---- Ordinary scene transformation
+
+			// Move camera back so that scene is visible
+			translate(m, -20, 0, 0);
+
+			// Translate by Zoom/Horiz/Vert
+			translate(m, frame.tZ, frame.tH, frame.tV);
+
+			// Rotate by Alt/Azim
+			viewStep.rotY(Math.toRadians(frame.rAlt));
+			m.mul(viewStep);
+			viewStep.rotZ(Math.toRadians(frame.rAzim));
+			m.mul(viewStep);
+
+			// Follow the main bug around a chunked world (and the
+			// ground up and down on terrain)
+			if (world != null) {
+				translate(m, -mainBug.pos.x, -mainBug.pos.y,
+						-groundHeight(mainBug.pos.x, mainBug.pos.y));
+			} else if (terrain != null) {
+				translate(m, 0, 0, -groundHeight(0, 0));
+			}
+		}
+	}
+
+	// Multiply m by a translation
+	private void translate(Matrix4d m, double x, double y, double z)
+	{
+		viewStep.setIdentity();
+		viewStep.m03 = x;
+		viewStep.m13 = y;
+		viewStep.m23 = z;
+		m.mul(viewStep);
+	}
+
+	// ----------------------------------------------------------------------
+
+	Point2d getSafeLocation(double scale, boolean isTree, double worldRadius) {
+		Point2d pos = new Point2d();
+		getSafeLocation(scale, isTree, worldRadius, pos);
+		return pos;
+	}
+
+	// Find a location that doesn't collide with obstacles or bugs,
+	// storing it in pos (without allocating)
+	void getSafeLocation(double scale, boolean isTree, double worldRadius, Point2d pos) {
+		getNewLocation(scale, isTree, worldRadius, pos);
+		double r = scale;
+		if (isTree)
+			r = treeRadius;
+		
+		for (int i=0; i < obstacles.size(); i++) {
+			Obstacle obstacle = obstacles.elementAt(i);
+			Point3d obPos = obstacle.getLocation();
+			double obR = 1.0;
+			// if the obstacle is a tree, the radius is constant
+			if (obstacle instanceof Tree) {
+				obR = treeRadius;
+			// if it's a rock, it is equivalent to scale
+			} else if (obstacle instanceof Rock) {
+				Rock temp = (Rock) obstacle;
+				obR = temp.getRockScale();
+			}
+			
+			if (collisionDetected(pos, obPos.x, obPos.y, r, obR)) {
+				getNewLocation(scale, isTree, worldRadius, pos);
+				placementRetries++;
+				i = -1;
+			}
+			// for attraction point, make sure it's not too close to the predator
+			if (predator!=null) {
+				Point3d predLoc = predator.getLocation();
+				if (collisionDetected(pos, predLoc.x, predLoc.y, r, predator.scale+0.25)) {
+					getNewLocation(scale, isTree, worldRadius, pos);
+					placementRetries++;
+					i = -1;
+				}
+			}
+			// likewise for mainBug
+			if (mainBug!=null) {
+				Point3d mainLoc = mainBug.getLocation();
+				if (collisionDetected(pos, mainLoc.x, mainLoc.y, r, mainBug.scale+0.25)) {
+					getNewLocation(scale, isTree, worldRadius, pos);
+					placementRetries++;
+					i = -1;
+				}
+			}
+		}
+	}
+	
+	private void getNewLocation(double scale, boolean isTree, double worldRadius, Point2d pos) {
+		double newR;
+		if (isTree)
+			newR = rgen.nextGaussian() * (worldRadius - treeRadius);
+		else
+			newR = rgen.nextGaussian() * (worldRadius - scale);
+		double newA = rgen.nextDouble() * 360.0;
+		
+		pos.set(locationCenter.x + newR * Math.cos(newA),
+				locationCenter.y + newR * Math.sin(newA));
+	}
+	
+	private boolean collisionDetected(Point2d p1, double x2, double y2, double r1, double r2) {
+		double dx = x2-p1.x, dy = y2-p1.y;
+		double distance = Math.sqrt(dx*dx + dy*dy) - (r1 + r2);
+		return distance <= 0;
+	}
+}
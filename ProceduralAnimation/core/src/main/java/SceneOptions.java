@@ -0,0 +1,112 @@
+/* class SceneOptions
+ * Command-line options choosing what a scene simulates, shared by the
+ * programs that make scenes (so they accept the same options, and
+ * RenderCoordinator can pass them on to its workers as given):
+ *
+ *   -chunked budgetMB   stream an unbounded world (see ChunkedWorld)
+ *   -terrain            draw on rolling ground (see Terrain)
+ *   -nav                main bug finds paths around obstacles (NavGrid)
+ *   -bugs #             add more bugs
+ *   -flock              all bugs interact (see Flock)
+ *   -smoothgait         bugs walk with a spline-smoothed gait
+ *   -kernel name        simulation kernel (see CritterBatch; float also
+ *                       stores the rocks in single precision)
+ *   -lod                start with level of detail on
+ *   -forcetree theta    sum the pull of the obstacles with a ForceTree
+ *                       of opening angle theta (0 is exact)
+ */
+
+import java.util.*;
+
+class SceneOptions
+{
+    // Usage text for the options
+    static final String usage =
+        " [-chunked budgetMB] [-terrain] [-nav] [-bugs #] [-flock]" +
+        " [-smoothgait] [-kernel " + String.join("|", CritterBatch.kernelNames) +
+        "] [-lod] [-forcetree theta]";
+
+    long chunkBudget = -1;
+    boolean terrain = false;
+    boolean nav = false;
+    int bugs = 0;
+    boolean flock = false;
+    boolean smoothGait = false;
+    int kernel = CritterBatch.SCALAR;
+    boolean lod = false;
+    double forceTree = -1;
+
+    // The options as given (to pass on to another program)
+    List<String> args = new ArrayList<String>();
+
+    // ---------------------------------------------------------------
+
+    // If argv[i] is one of the options, read it (and its value) and
+    // return the number of arguments used; otherwise return 0
+    public int parse(String[] argv, int i)
+    {
+        String arg = argv[i];
+        int used = 1;
+
+        if (arg.equals("-chunked")) {
+            chunkBudget = Long.parseLong(value(argv, i)) << 20;
+            used = 2;
+        } else if (arg.equals("-terrain")) {
+            terrain = true;
+        } else if (arg.equals("-nav")) {
+            nav = true;
+        } else if (arg.equals("-bugs")) {
+            bugs = Integer.parseInt(value(argv, i));
+            used = 2;
+        } else if (arg.equals("-flock")) {
+            flock = true;
+        } else if (arg.equals("-smoothgait")) {
+            smoothGait = true;
+        } else if (arg.equals("-kernel")) {
+            kernel = CritterBatch.kernel(value(argv, i));
+            used = 2;
+        } else if (arg.equals("-lod")) {
+            lod = true;
+        } else if (arg.equals("-forcetree")) {
+            forceTree = Double.parseDouble(value(argv, i));
+            used = 2;
+        } else {
+            return 0;
+        }
+
+        for (int k = 0; k < used; k++)
+          args.add(argv[i + k]);
+        return used;
+    }
+
+    // Value of the option at argv[i]
+    private static String value(String[] argv, int i)
+    {
+        if (i + 1 >= argv.length)
+          throw new IllegalArgumentException("Missing value for " + argv[i]);
+        return argv[i + 1];
+    }
+
+    // Set up scene as the options say (flocking with the given number
+    // of threads)
+    public void configure(Scene scene, int threads)
+    {
+        if (lod)
+          scene.useLOD.set(true);
+        if (chunkBudget >= 0)
+          scene.useChunkedWorld(chunkBudget);
+        if (terrain)
+          scene.useTerrain();
+        if (bugs > 0)
+          scene.addBugs(bugs);
+        if (flock)
+          scene.useFlocking(threads);
+        if (nav)
+          scene.useNavigation();
+        if (smoothGait)
+          scene.useSmoothGait();
+        if (forceTree >= 0)
+          scene.useForceTree(forceTree);
+        scene.useKernel(kernel);
+    }
+}
@@ -0,0 +1,104 @@
+/* class SimMetrics
+ * Measures of how well the critters behave over a run of a scene,
+ * gathered by observing the scene after every frame:
+ *  - penetrations: times a bug's body moves into an obstacle
+ *  - mainBugPenetrations: those by the main bug
+ *  - penetrationFrames: frames in which some bug is inside an obstacle
+ *  - minPredatorDist: closest the predator gets to the main bug
+ *    (distance between their centers)
+ *  - escapes: times a bug leaves the ground disk
+ */
+
+import java.util.*;
+
+import javax.vecmath.*;
+
+class SimMetrics
+{
+    // Radius of the ground (bugs outside it have escaped)
+    static final double worldRadius = 15;
+
+    // Radius of a bug's body, relative to its scale
+    static final double bodyRadius = 0.6;
+
+    // Metrics
+    int frames = 0;
+    int penetrations = 0, mainBugPenetrations = 0, penetrationFrames = 0;
+    double minPredatorDist = Double.MAX_VALUE;
+    int escapes = 0;
+
+    // Whether each bug was inside each obstacle, and outside the world,
+    // at the last observation (to count entries rather than frames)
+    private boolean[][] inside;
+    private boolean[] outside;
+
+    // ---------------------------------------------------------------
+
+    // Footprint radius of an obstacle on the ground
+    static double obstacleRadius(Obstacle o)
+    {
+        if (o instanceof Rock) {
+            double s = ((Rock)o).getRockScale();
+            return Math.sqrt((s*s)*2.0)/2.0;
+        }
+        return 0.1;
+    }
+
+    // Update metrics with the current state of scene
+    public void observe(Scene scene)
+    {
+        Vector<Critter> critters = scene.critters;
+        Vector<Obstacle> obstacles = scene.obstacles;
+
+        if (inside == null) {
+            inside = new boolean[critters.size()][obstacles.size()];
+            outside = new boolean[critters.size()];
+        }
+
+        boolean anyInside = false;
+        for (int k = 0; k < critters.size(); k++) {
+            Bug bug = (Bug)critters.get(k);
+            Point3d p = bug.pos;
+
+            for (int j = 0; j < obstacles.size(); j++) {
+                Obstacle o = obstacles.get(j);
+                Point3d q = o.getLocation();
+                double dx = p.x - q.x, dy = p.y - q.y;
+                double r = bodyRadius * bug.scale + obstacleRadius(o);
+
+                boolean in = dx*dx + dy*dy < r*r;
+                if (in && !inside[k][j]) {
+                    penetrations++;
+                    if (bug == scene.mainBug)
+                      mainBugPenetrations++;
+                }
+                inside[k][j] = in;
+                anyInside |= in;
+            }
+
+            boolean out = p.x*p.x + p.y*p.y > worldRadius*worldRadius;
+            if (out && !outside[k])
+              escapes++;
+            outside[k] = out;
+        }
+        if (anyInside)
+          penetrationFrames++;
+
+        double d = scene.mainBug.pos.distance(scene.predator.pos);
+        minPredatorDist = Math.min(minPredatorDist, d);
+
+        frames++;
+    }
+
+    // ---------------------------------------------------------------
+
+    // CSV column names, and values, for the metrics
+    static final String csvHeader = "frames,penetrations," +
+        "mainbug_penetrations,penetration_frames,min_predator_dist,escapes";
+
+    public String csvRow()
+    {
+        return frames + "," + penetrations + "," + mainBugPenetrations + "," +
+            penetrationFrames + "," + minPredatorDist + "," + escapes;
+    }
+}
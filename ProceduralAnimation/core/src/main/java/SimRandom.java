@@ -0,0 +1,87 @@
+/* class SimRandom
+ * Random number generator for the simulation whose state can be saved
+ * and restored (for checkpoints).  It produces exactly the same
+ * sequence as java.util.Random with the same seed -- the generator is
+ * the same 48-bit linear congruential one, and nextGaussian() uses the
+ * same polar method -- but keeps its state where it can be read.
+ */
+
+import java.io.*;
+import java.util.*;
+
+class SimRandom extends Random
+{
+    private static final long serialVersionUID = 1L;
+
+    private static final long multiplier = 0x5DEECE66DL;
+    private static final long addend = 0xBL;
+    private static final long mask = (1L << 48) - 1;
+
+    // Generator state
+    // (no initializers: Random's constructor calls setSeed() before
+    //  they would run)
+    private long state;
+    private double nextNextGaussian;
+    private boolean haveNextNextGaussian;
+
+    // Number of values drawn (for profiling; not part of the state)
+    long draws;
+
+    // ---------------------------------------------------------------
+
+    public SimRandom(long seed)
+    {
+        super(seed);
+        setSeed(seed);
+    }
+
+    public synchronized void setSeed(long seed)
+    {
+        state = (seed ^ multiplier) & mask;
+        haveNextNextGaussian = false;
+    }
+
+    protected int next(int bits)
+    {
+        draws++;
+        state = (state * multiplier + addend) & mask;
+        return (int)(state >>> (48 - bits));
+    }
+
+    public synchronized double nextGaussian()
+    {
+        if (haveNextNextGaussian) {
+            haveNextNextGaussian = false;
+            return nextNextGaussian;
+        }
+
+        double v1, v2, s;
+        do {
+            v1 = 2 * nextDouble() - 1;
+            v2 = 2 * nextDouble() - 1;
+            s = v1 * v1 + v2 * v2;
+        } while (s >= 1 || s == 0);
+
+        double m = StrictMath.sqrt(-2 * StrictMath.log(s) / s);
+        nextNextGaussian = v2 * m;
+        haveNextNextGaussian = true;
+        return v1 * m;
+    }
+
+    // ---------------------------------------------------------------
+    // Checkpointing
+
+    public synchronized void writeState(DataOutput out) throws IOException
+    {
+        out.writeLong(state);
+        out.writeBoolean(haveNextNextGaussian);
+        out.writeDouble(nextNextGaussian);
+    }
+
+    public synchronized void readState(DataInput in) throws IOException
+    {
+        state = in.readLong();
+        haveNextNextGaussian = in.readBoolean();
+        nextNextGaussian = in.readDouble();
+    }
+}
@@ -0,0 +1,30 @@
+/* class SimStepEvent
+ * Flight recorder event for a step of the simulation (Scene.simulate()),
+ * lasting as long as the step.  Like the other events here, it costs
+ * next to nothing unless a recording is running (see FlightRecording);
+ * as the simulation mustn't allocate, the event is only made when its
+ * type is enabled.
+ */
+
+import jdk.jfr.*;
+
+@Name("ProceduralAnimation.SimStep")
+@Label("Simulation Step")
+@Category({"ProceduralAnimation", "Simulation"})
+class SimStepEvent extends Event
+{
+    static final EventType type = EventType.getEventType(SimStepEvent.class);
+
+    @Label("Critters")
+    int critters;
+
+    @Label("Obstacles")
+    int obstacles;
+
+    @Label("Substeps")
+    int substeps;
+
+    @Label("Time Step")
+    @Description("Simulated time covered by the step (in seconds)")
+    double dt;
+}
@@ -0,0 +1,164 @@
+/* class StageStats
+ * Time taken by each stage of making a frame of a scene, kept in a
+ * LatencyHistogram per stage, so the median and 99th percentile of each
+ * show where frame time goes.  A stage is timed by taking
+ * System.nanoTime() at its start and passing it to record() at its end.
+ *
+ * The statistics can be watched over JMX (see register()), and drawn in
+ * the text overlay with the "Show timing" option.
+ */
+
+import java.lang.management.*;
+import javax.management.*;
+
+public class StageStats implements StageStatsMBean
+{
+    // Stages
+    static final int PROCESS = 0;      // Scene.process() (all of it)
+    static final int KEYFRAME = 1;     // keyframing, within process()
+    static final int DRAW_MAIN = 2;    // ground, critters and obstacles
+    static final int DRAW_SHADOW = 3;  // shadows
+    static final int DRAW_TEXT = 4;    // text overlay
+    static final int READBACK = 5;     // reading back the pixels
+    static final int WRITE = 6;        // writing the frame file
+
+    static final String[] names = {
+        "process", "keyframe", "draw", "shadows", "text", "readback",
+        "write"
+    };
+
+    private LatencyHistogram[] stages = new LatencyHistogram[names.length];
+
+    // Simulation substeps, and calls of process() that simulated
+    private long substeps = 0, simulations = 0;
+
+    // ---------------------------------------------------------------
+
+    public StageStats()
+    {
+        for (int s = 0; s < stages.length; s++) {
+            stages[s] = new LatencyHistogram();
+        }
+    }
+
+    // Record the end of stage s, which started at time start (from
+    // System.nanoTime())
+    public void record(int s, long start)
+    {
+        stages[s].record(System.nanoTime() - start);
+    }
+
+    // Record the number of substeps taken by a simulation step
+    public void countSubsteps(int n)
+    {
+        substeps += n;
+        simulations++;
+    }
+
+    // Histogram of stage s
+    LatencyHistogram stage(int s)
+    {
+        return stages[s];
+    }
+
+    // Append the median and 99th percentile of stage s to sb (in
+    // microseconds; without allocating if sb has room)
+    public void appendStage(StringBuilder sb, int s)
+    {
+        LatencyHistogram h = stages[s];
+        sb.append(names[s]).append("  p50 ")
+            .append((h.percentile(50) + 500) / 1000).append("us  p99 ")
+            .append((h.percentile(99) + 500) / 1000).append("us");
+        if (s == PROCESS && simulations > 0) {
+            sb.append("  (").append(substeps / simulations)
+                .append(" substeps)");
+        }
+    }
+
+    // Register with the platform MBean server under a name for the
+    // scene with the given seed
+    public void register(long seed)
+    {
+        try {
+            ObjectName name = new ObjectName(
+                "ProceduralAnimation:type=StageStats,seed=" + seed +
+                ",id=" + Integer.toHexString(System.identityHashCode(this)));
+            ManagementFactory.getPlatformMBeanServer().registerMBean(this,
+                                                                     name);
+        } catch (JMException e) {
+            System.out.println("Error registering stage timing: " + e);
+        }
+    }
+
+    // ---------------------------------------------------------------
+    // StageStatsMBean
+
+    public String[] getStageNames()
+    {
+        return names.clone();
+    }
+
+    public long[] getCounts()
+    {
+        long[] c = new long[stages.length];
+        for (int s = 0; s < c.length; s++) {
+            c[s] = stages[s].count();
+        }
+        return c;
+    }
+
+    public double[] getP50Micros()
+    {
+        return percentiles(50);
+    }
+
+    public double[] getP99Micros()
+    {
+        return percentiles(99);
+    }
+
+    public double[] getMaxMicros()
+    {
+        double[] m = new double[stages.length];
+        for (int s = 0; s < m.length; s++) {
+            m[s] = stages[s].max() / 1000.0;
+        }
+        return m;
+    }
+
+    private double[] percentiles(double p)
+    {
+        double[] v = new double[stages.length];
+        for (int s = 0; s < v.length; s++) {
+            v[s] = stages[s].percentile(p) / 1000.0;
+        }
+        return v;
+    }
+
+    public double getMeanSubsteps()
+    {
+        return (simulations == 0) ? 0 : (double)substeps / simulations;
+    }
+
+    public String getSummary()
+    {
+        StringBuilder sb = new StringBuilder();
+        for (int s = 0; s < stages.length; s++) {
+            if (stages[s].count() == 0)
+              continue;
+            appendStage(sb, s);
+            sb.append("  max ").append((stages[s].max() + 500) / 1000)
+                .append("us  n ").append(stages[s].count()).append('\n');
+        }
+        return sb.toString();
+    }
+
+    public void reset()
+    {
+        for (int s = 0; s < stages.length; s++) {
+            stages[s].reset();
+        }
+        substeps = 0;
+        simulations = 0;
+    }
+}
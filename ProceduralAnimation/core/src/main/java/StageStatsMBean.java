@@ -0,0 +1,22 @@
+/* interface StageStatsMBean
+ * Management interface of StageStats (durations are in microseconds,
+ * one entry per stage, in the order of getStageNames())
+ */
+
+public interface StageStatsMBean
+{
+    String[] getStageNames();
+    long[] getCounts();
+    double[] getP50Micros();
+    double[] getP99Micros();
+    double[] getMaxMicros();
+
+    // Mean number of simulation substeps per process()
+    double getMeanSubsteps();
+
+    // All of the above as text
+    String getSummary();
+
+    // Start measuring again
+    void reset();
+}
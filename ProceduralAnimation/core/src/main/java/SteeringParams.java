@@ -0,0 +1,109 @@
+/* class SteeringParams
+ * Constants for the steering behaviors in Scene.process().  Each
+ * behavior is an attraction a += direction * (k * dist^exp) (see
+ * Critter.accelAttract()), with negative k for repulsion.  The defaults
+ * are the values the scene was tuned with; SweepRunner varies them by
+ * name.
+ */
+
+import java.lang.reflect.*;
+import java.util.*;
+
+class SteeringParams
+{
+    // Repulsion from rocks: k = rockRepel - rock scale
+    double rockRepel = 0.5, rockExp = -8;
+
+    // Repulsion from trees
+    double treeRepel = -0.5, treeExp = -8;
+
+    // Main bug's attraction to its wandering target
+    double wanderAttract = 0.2, wanderExp = 2;
+
+    // Main bug's flight from the predator
+    double fleeRepel = -10, fleeExp = -10;
+
+    // Predator's attraction to the main bug
+    double chaseAttract = 0.2, chaseExp = 2;
+
+    // Viscous drag (times the main bug's scale)
+    double drag = 2;
+
+    // Padding added to critter scale for its radius when steering
+    double critterPadding = 0.25;
+
+    // Flocking (see Flock; these are plain weights, not attractions):
+    // bugs interact within flockRadius, and keep apart within
+    // separationFraction of it
+    double flockRadius = 1.5, separationFraction = 0.5;
+    // Weights of separation, alignment and cohesion
+    double separate = 4, align = 0.5, cohere = 0.3;
+    // Weights of prey fleeing predators, and predators chasing prey
+    double flee = 6, hunt = 3;
+
+    // ---------------------------------------------------------------
+
+    public SteeringParams()
+    {
+    }
+
+    public SteeringParams(SteeringParams p)
+    {
+        for (Field f : fields()) {
+            try {
+                f.setDouble(this, f.getDouble(p));
+            } catch (IllegalAccessException e) {
+                throw new RuntimeException(e);
+            }
+        }
+    }
+
+    // Names of the constants, in declaration order
+    public static String[] names()
+    {
+        List<Field> fields = fields();
+        String[] names = new String[fields.size()];
+        for (int i = 0; i < names.length; i++)
+          names[i] = fields.get(i).getName();
+        return names;
+    }
+
+    // Set the constant called name (throws IllegalArgumentException if
+    // there isn't one)
+    public void set(String name, double value)
+    {
+        try {
+            SteeringParams.class.getDeclaredField(name).setDouble(this, value);
+        } catch (NoSuchFieldException e) {
+            throw new IllegalArgumentException("No steering constant " +
+                                               name);
+        } catch (IllegalAccessException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    // Value of the constant called name
+    public double get(String name)
+    {
+        try {
+            return SteeringParams.class.getDeclaredField(name).getDouble(this);
+        } catch (NoSuchFieldException e) {
+            throw new IllegalArgumentException("No steering constant " +
+                                               name);
+        } catch (IllegalAccessException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    // Instance fields holding the constants
+    private static List<Field> fields()
+    {
+        List<Field> list = new ArrayList<Field>();
+        for (Field f : SteeringParams.class.getDeclaredFields()) {
+            if (!Modifier.isStatic(f.getModifiers()) &&
+                f.getType() == double.class)
+              list.add(f);
+        }
+        return list;
+    }
+}
@@ -0,0 +1,204 @@
+/* class SweepRunner
+ * Headless parameter sweep: simulates a scene for every combination of
+ * a set of seeds and values of steering constants (see SteeringParams),
+ * measuring each run with SimMetrics, and writes one CSV row per run.
+ * Runs are independent, so they're spread over a fixed pool of threads;
+ * rows are written in grid order as runs finish.
+ *
+ * Constants are given as name=v1,v2,... or name=lo:hi:step, e.g.
+ *   java SweepRunner -seeds 1-200 -frames 900 \
+ *       -param fleeRepel=-20,-10,-5 -param rockExp=-10:-6:1
+ */
+
+import java.io.*;
+import java.util.*;
+import java.util.concurrent.*;
+
+public class SweepRunner
+{
+    // One simulation of the sweep
+    static class Run implements Callable<String>
+    {
+        long seed;
+        SteeringParams steering;
+        int frames;
+        SceneOptions options;
+
+        Run(long s, SteeringParams p, int numFrames, SceneOptions opts)
+        {
+            seed = s;
+            steering = p;
+            frames = numFrames;
+            options = opts;
+        }
+
+        public String call()
+        {
+            Scene scene = new Scene(seed, false, 1, null);
+            scene.resetClock();
+            scene.setFrameByFrameClock();
+            options.configure(scene, 1);
+            scene.steering = steering;
+
+            SimMetrics metrics = new SimMetrics();
+            for (int f = 0; f < frames; f++) {
+                scene.step();
+                metrics.observe(scene);
+            }
+
+            return metrics.csvRow();
+        }
+    }
+
+    // ---------------------------------------------------------------
+
+    // Values given by spec: v1,v2,... or lo:hi:step
+    static double[] parseValues(String spec)
+    {
+        if (spec.indexOf(':') >= 0) {
+            String[] r = spec.split(":");
+            double lo = Double.parseDouble(r[0]), hi = Double.parseDouble(r[1]);
+            double step = (r.length > 2) ? Double.parseDouble(r[2]) : 1;
+            int n = (int)Math.floor((hi - lo) / step + 1e-9) + 1;
+            double[] v = new double[Math.max(n, 0)];
+            for (int i = 0; i < v.length; i++)
+              v[i] = lo + i * step;
+            return v;
+        }
+
+        String[] parts = spec.split(",");
+        double[] v = new double[parts.length];
+        for (int i = 0; i < parts.length; i++)
+          v[i] = Double.parseDouble(parts[i]);
+        return v;
+    }
+
+    // Seeds given by spec: s1,s2,... or first-last
+    static long[] parseSeeds(String spec)
+    {
+        if (spec.indexOf('-', 1) > 0) {
+            int dash = spec.indexOf('-', 1);
+            long first = Long.parseLong(spec.substring(0, dash));
+            long last = Long.parseLong(spec.substring(dash + 1));
+            long[] s = new long[(int)Math.max(last - first + 1, 0)];
+            for (int i = 0; i < s.length; i++)
+              s[i] = first + i;
+            return s;
+        }
+
+        String[] parts = spec.split(",");
+        long[] s = new long[parts.length];
+        for (int i = 0; i < parts.length; i++)
+          s[i] = Long.parseLong(parts[i]);
+        return s;
+    }
+
+    // ---------------------------------------------------------------
+
+    public static void main(String args[])
+    {
+        long[] seeds = { 1 };
+        int frames = 900;
+        int threads = Runtime.getRuntime().availableProcessors();
+        String outFile = null;
+        SceneOptions options = new SceneOptions();
+
+        // Swept constants, and their values
+        List<String> names = new ArrayList<String>();
+        List<double[]> values = new ArrayList<double[]>();
+
+        // Parse command-line arguments
+        try {
+            for (int i = 0; i < args.length; i++) {
+                int used = options.parse(args, i);
+                if (used > 0) {
+                    i += used - 1;
+                } else if (args[i].equals("-seeds")) {
+                    seeds = parseSeeds(args[++i]);
+                } else if (args[i].equals("-frames")) {
+                    frames = Integer.parseInt(args[++i]);
+                } else if (args[i].equals("-threads")) {
+                    threads = Integer.parseInt(args[++i]);
+                } else if (args[i].equals("-out")) {
+                    outFile = args[++i];
+                } else if (args[i].equals("-param")) {
+                    String p = args[++i];
+                    int eq = p.indexOf('=');
+                    if (eq < 0)
+                      throw new Exception("Expected name=values: " + p);
+                    String name = p.substring(0, eq);
+                    new SteeringParams().get(name);
+                    names.add(name);
+                    values.add(parseValues(p.substring(eq + 1)));
+                } else {
+                    System.out.println("Usage: java SweepRunner" +
+                                       " [-seeds first-last|s1,s2,...]" +
+                                       " [-frames #] [-threads #]" +
+                                       " [-out file.csv]" +
+                                       SceneOptions.usage +
+                                       " [-param name=v1,v2,...|lo:hi:step]" +
+                                       " ...");
+                    System.out.println("Constants: " +
+                                       Arrays.toString(SteeringParams.names()));
+                    throw new Exception("Illegal argument: " + args[i]);
+                }
+            }
+        } catch (Exception e) {
+            System.out.println("Error: " + e.getMessage());
+            System.exit(1);
+        }
+
+        // Grid of steering constants (first constant varies slowest)
+        List<SteeringParams> grid = new ArrayList<SteeringParams>();
+        grid.add(new SteeringParams());
+        for (int p = 0; p < names.size(); p++) {
+            List<SteeringParams> next = new ArrayList<SteeringParams>();
+            for (SteeringParams g : grid) {
+                for (double v : values.get(p)) {
+                    SteeringParams s = new SteeringParams(g);
+                    s.set(names.get(p), v);
+                    next.add(s);
+                }
+            }
+            grid = next;
+        }
+
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        try {
+            PrintStream out = (outFile == null) ? System.out :
+                new PrintStream(new FileOutputStream(outFile));
+
+            // Header: seed, swept constants, metrics
+            StringBuilder header = new StringBuilder("seed");
+            for (String name : names)
+              header.append(',').append(name);
+            out.println(header + "," + SimMetrics.csvHeader);
+
+            // Submit all runs, then write rows in order
+            List<Future<String>> results = new ArrayList<Future<String>>();
+            List<String> prefixes = new ArrayList<String>();
+            for (SteeringParams g : grid) {
+                for (long seed : seeds) {
+                    StringBuilder prefix = new StringBuilder().append(seed);
+                    for (String name : names)
+                      prefix.append(',').append(g.get(name));
+                    prefixes.add(prefix.toString());
+                    results.add(pool.submit(new Run(seed, g, frames, options)));
+                }
+            }
+
+            for (int i = 0; i < results.size(); i++) {
+                out.println(prefixes.get(i) + "," + results.get(i).get());
+                out.flush();
+            }
+
+            if (out != System.out)
+              out.close();
+        } catch (Exception e) {
+            System.out.println("Error: " + e);
+            System.exit(1);
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+}
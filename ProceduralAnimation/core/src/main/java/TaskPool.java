@@ -0,0 +1,170 @@
+/* class TaskPool
+ * A fixed set of threads that loops over critters are split over: the
+ * range [0, n) is cut into pieces of a given size, which are taken in
+ * turn by the threads of the pool and by the calling thread, which
+ * returns once they're all done.  A loop split this way may only change
+ * the state of the critters in its own piece, so the results don't
+ * depend on the number of threads.
+ *
+ * Running a loop doesn't allocate (it's done for several loops on every
+ * simulated frame): pieces are handed out by number from a counter, and
+ * the threads wait for the next loop on the pool's monitor.
+ *
+ * The threads are made when first needed, and are daemons (a scene
+ * doesn't have to be shut down).
+ */
+
+import java.util.concurrent.atomic.*;
+
+class TaskPool
+{
+    // Work on items [start, end) of a loop
+    interface Range
+    {
+        void run(int start, int end);
+    }
+
+    private int numThreads;
+    private Thread[] threads = null;
+
+    // The loop being run: body over [0, n) in numPieces pieces of size;
+    // the next piece to take, the pieces not yet done, and the threads
+    // of the pool working on it (numbered by generation)
+    private Range body;
+    private int n, size, numPieces;
+    private AtomicInteger nextPiece = new AtomicInteger();
+    private int piecesLeft = 0, busy = 0;
+    private long generation = 0;
+
+    // First exception thrown by a piece of the loop
+    private Throwable failure = null;
+
+    // ---------------------------------------------------------------
+
+    public TaskPool(int threads)
+    {
+        numThreads = Math.max(threads, 1);
+    }
+
+    // Whether a loop over n items in pieces of size is split over threads
+    // (otherwise run() just calls body on the whole range)
+    public boolean splits(int n, int size)
+    {
+        return numThreads > 1 && n > size;
+    }
+
+    // Run body over [0, n), in pieces of size
+    public void run(int n, int size, Range body)
+    {
+        if (!splits(n, size)) {
+            body.run(0, n);
+            return;
+        }
+
+        if (threads == null)
+          start();
+
+        synchronized (this) {
+            this.body = body;
+            this.n = n;
+            this.size = size;
+            numPieces = (n + size - 1) / size;
+            piecesLeft = numPieces;
+            failure = null;
+            nextPiece.set(0);
+            generation++;
+            notifyAll();
+        }
+
+        work(body, n, size, numPieces);
+
+        // Wait for the other threads to finish their pieces, and to
+        // stop taking new ones (so the counter can be reset)
+        boolean interrupted = false;
+        synchronized (this) {
+            while (piecesLeft > 0 || busy > 0) {
+                try {
+                    wait();
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                }
+            }
+            this.body = null;
+        }
+        if (interrupted)
+          Thread.currentThread().interrupt();
+
+        if (failure != null)
+          throw new RuntimeException(failure);
+    }
+
+    // Take pieces of the loop until there are none left
+    private void work(Range body, int n, int size, int numPieces)
+    {
+        for (int p = nextPiece.getAndIncrement(); p < numPieces;
+             p = nextPiece.getAndIncrement()) {
+            int start = p * size;
+            try {
+                body.run(start, Math.min(start + size, n));
+            } catch (Throwable e) {
+                synchronized (this) {
+                    if (failure == null)
+                      failure = e;
+                }
+            }
+            synchronized (this) {
+                if (--piecesLeft == 0)
+                  notifyAll();
+            }
+        }
+    }
+
+    // Start the threads of the pool (the calling thread is one more)
+    private void start()
+    {
+        threads = new Thread[numThreads - 1];
+        for (int i = 0; i < threads.length; i++) {
+            threads[i] = new Thread(new Runnable() {
+                    public void run() {
+                        serve();
+                    }
+                }, "TaskPool");
+            threads[i].setDaemon(true);
+            threads[i].start();
+        }
+    }
+
+    // Body of a thread of the pool: work on each loop as it's started
+    private void serve()
+    {
+        long done = 0;
+        while (true) {
+            Range b;
+            int bn, bsize, bpieces;
+            synchronized (this) {
+                while (generation == done) {
+                    try {
+                        wait();
+                    } catch (InterruptedException e) {
+                        return;
+                    }
+                }
+                done = generation;
+                if (body == null)
+                  continue;
+                b = body;
+                bn = n;
+                bsize = size;
+                bpieces = numPieces;
+                busy++;
+            }
+
+            work(b, bn, bsize, bpieces);
+
+            synchronized (this) {
+                if (--busy == 0)
+                  notifyAll();
+            }
+        }
+    }
+}
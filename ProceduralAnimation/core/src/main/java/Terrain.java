@@ -0,0 +1,284 @@
+/* class Terrain
+ * Rolling ground for a scene: a height field made by midpoint
+ * displacement (as for rocks, but over the whole world), stored in a
+ * quadtree of square tiles.  Each tile is a (tileRes+1) X (tileRes+1)
+ * grid of heights; its four children cover its quarters at twice the
+ * resolution, with their new points displaced from the average of
+ * their neighbors by an amount that halves with each level.
+ *
+ * The displacement of a point depends only on the seed, its level and
+ * its position, so tiles are made lazily as the camera approaches (and
+ * dropped when it leaves), and tiles that share an edge agree along it.
+ *
+ * Each frame the tiles to draw are chosen by distance from the camera:
+ * a tile is split into its children while the camera is closer than
+ * splitDistance times its size.  The number of tiles drawn grows with
+ * the number of levels (the log of the world size), not with the area.
+ */
+
+import java.util.*;
+
+class Terrain
+{
+    // Grid intervals across a tile (a power of 2)
+    static final int tileRes = 8;
+
+    // Tiles are split when the camera is within this many tile sizes
+    static final double splitDistance = 1.0;
+
+    // Height variation per unit of distance between points
+    static final double roughness = 0.05;
+
+    // Tiles not drawn or sampled for this many frames lose their
+    // children
+    static final int keepFrames = 120;
+
+    // A tile of the quadtree
+    static class Tile
+    {
+        // Level (root is 0), and index across its level
+        int depth, ix, iy;
+        // Lower left corner and width (in world units)
+        double x0, y0, size;
+        // Heights (tileRes+1 per row)
+        float[] h;
+        // Children (null until needed)
+        Tile[] kids = null;
+        // Frame the tile was last used
+        int used;
+
+        // Height at grid point (i, j)
+        float height(int i, int j)
+        {
+            return h[j*(tileRes+1) + i];
+        }
+    }
+
+    // Seed of the scene, and levels of the grid in the root tile
+    private long seed;
+    private int rootLevels;
+
+    // The whole world: [-size/2, size/2] X [-size/2, size/2]
+    Tile root;
+
+    // Deepest level of tiles
+    int maxDepth;
+
+    // Frame counter (for dropping unused tiles)
+    private int frame = 0;
+
+    // Number of tiles in the tree
+    int tiles = 1;
+
+    // ---------------------------------------------------------------
+
+    // Terrain covering a square of the given width, with grid points
+    // no further than spacing apart in its deepest tiles
+    public Terrain(long seedVal, double worldSize, double spacing)
+    {
+        seed = seedVal;
+        rootLevels = Integer.numberOfTrailingZeros(tileRes);
+
+        maxDepth = 0;
+        while (worldSize / (tileRes << maxDepth) > spacing)
+          maxDepth++;
+
+        root = new Tile();
+        root.x0 = -worldSize/2;
+        root.y0 = -worldSize/2;
+        root.size = worldSize;
+
+        // Refine from the four (flat) corners of the world
+        float[] grid = new float[4];
+        for (int l = 1; l <= rootLevels; l++) {
+            grid = refine(grid, (1 << (l-1)), l, 0, 0);
+        }
+        root.h = grid;
+    }
+
+    // ---------------------------------------------------------------
+
+    // Refine the (n+1) X (n+1) grid src (at level-1, whose corner is
+    // at point (gx, gy) of that level) to a (2n+1) X (2n+1) grid at
+    // level
+    private float[] refine(float[] src, int n, int level, int gx, int gy)
+    {
+        int n2 = 2*n, w = n+1, w2 = n2+1;
+        float[] dst = new float[w2*w2];
+        double amount = roughness * root.size / (1 << level);
+
+        for (int j = 0; j <= n2; j++) {
+            for (int i = 0; i <= n2; i++) {
+                int si = i/2, sj = j/2;
+                double v;
+
+                if ((i & 1) == 0 && (j & 1) == 0) {
+                    // Existing point
+                    dst[j*w2 + i] = src[sj*w + si];
+                    continue;
+                } else if ((i & 1) == 1 && (j & 1) == 1) {
+                    // Center of a square
+                    v = (src[sj*w + si] + src[sj*w + si+1] +
+                         src[(sj+1)*w + si] + src[(sj+1)*w + si+1]) / 4.0;
+                } else if ((i & 1) == 1) {
+                    // Middle of a horizontal edge
+                    v = (src[sj*w + si] + src[sj*w + si+1]) / 2.0;
+                } else {
+                    // Middle of a vertical edge
+                    v = (src[sj*w + si] + src[(sj+1)*w + si]) / 2.0;
+                }
+
+                dst[j*w2 + i] = (float)(v + amount *
+                    displacement(level, 2*gx + i, 2*gy + j));
+            }
+        }
+        return dst;
+    }
+
+    // Random displacement of point (x, y) of a level (roughly normally
+    // distributed, with unit variance)
+    private double displacement(int level, int x, int y)
+    {
+        long h = seed * 0x9E3779B97F4A7C15L;
+        h += ((long)level << 58) ^ ((long)x << 29) ^ (y & 0x1fffffffL);
+        h = mix(h);
+        double u1 = ((h >>> 11) + 1) * 0x1.0p-53;
+        double u2 = (mix(h) >>> 11) * 0x1.0p-53;
+        return Math.sqrt(-2 * Math.log(u1)) * Math.cos(2*Math.PI * u2);
+    }
+
+    private static long mix(long h)
+    {
+        h = (h ^ (h >>> 30)) * 0xBF58476D1CE4E5B9L;
+        h = (h ^ (h >>> 27)) * 0x94D049BB133111EBL;
+        return h ^ (h >>> 31);
+    }
+
+    // Children of tile t (made if needed)
+    Tile[] children(Tile t)
+    {
+        if (t.kids != null)
+          return t.kids;
+
+        int half = tileRes/2, w = tileRes+1, hw = half+1;
+        int level = t.depth + rootLevels + 1;
+        Tile[] kids = new Tile[4];
+
+        for (int k = 0; k < 4; k++) {
+            int qx = k & 1, qy = k >> 1;
+            Tile c = new Tile();
+            c.depth = t.depth + 1;
+            c.ix = 2*t.ix + qx;
+            c.iy = 2*t.iy + qy;
+            c.size = t.size / 2;
+            c.x0 = t.x0 + qx * c.size;
+            c.y0 = t.y0 + qy * c.size;
+            c.used = frame;
+
+            // Quarter of the parent's grid, refined
+            float[] q = new float[hw*hw];
+            for (int j = 0; j <= half; j++) {
+                for (int i = 0; i <= half; i++) {
+                    q[j*hw + i] = t.h[(qy*half + j)*w + qx*half + i];
+                }
+            }
+            c.h = refine(q, half, level, c.ix * half, c.iy * half);
+            kids[k] = c;
+        }
+
+        t.kids = kids;
+        tiles += 4;
+        return kids;
+    }
+
+    // ---------------------------------------------------------------
+
+    // Height of the ground at (x, y), from the deepest tiles (zero
+    // outside the world)
+    public double heightAt(double x, double y)
+    {
+        Tile t = root;
+        if (x < t.x0 || y < t.y0 || x > t.x0 + t.size || y > t.y0 + t.size)
+          return 0;
+
+        t.used = frame;
+        while (t.depth < maxDepth) {
+            int qx = (x >= t.x0 + t.size/2) ? 1 : 0;
+            int qy = (y >= t.y0 + t.size/2) ? 1 : 0;
+            t = children(t)[qy*2 + qx];
+            t.used = frame;
+        }
+
+        // Bilinear interpolation in the tile's grid
+        double u = (x - t.x0) / t.size * tileRes;
+        double v = (y - t.y0) / t.size * tileRes;
+        int i = Math.min((int)u, tileRes-1), j = Math.min((int)v, tileRes-1);
+        double fu = u - i, fv = v - j;
+
+        return (1-fv) * ((1-fu) * t.height(i, j) + fu * t.height(i+1, j)) +
+            fv * ((1-fu) * t.height(i, j+1) + fu * t.height(i+1, j+1));
+    }
+
+    // Choose the tiles to draw for a camera at (ex, ey, ez), storing
+    // them in out; tiles unused for a while are dropped
+    public void select(double ex, double ey, double ez, List<Tile> out)
+    {
+        frame++;
+        out.clear();
+        select(root, ex, ey, ez, out);
+        prune(root);
+    }
+
+    private void select(Tile t, double ex, double ey, double ez,
+                        List<Tile> out)
+    {
+        t.used = frame;
+
+        // Distance from the camera to the nearest point of the tile
+        // (on the ground plane), and its height above it
+        double dx = Math.max(Math.max(t.x0 - ex, ex - (t.x0 + t.size)), 0);
+        double dy = Math.max(Math.max(t.y0 - ey, ey - (t.y0 + t.size)), 0);
+        double d = Math.sqrt(dx*dx + dy*dy + ez*ez);
+
+        if (t.depth < maxDepth && d < splitDistance * t.size) {
+            Tile[] kids = children(t);
+            for (int k = 0; k < 4; k++) {
+                select(kids[k], ex, ey, ez, out);
+            }
+        } else {
+            out.add(t);
+        }
+    }
+
+    // Drop the children of tiles that haven't been used for a while
+    private void prune(Tile t)
+    {
+        if (t.kids == null)
+          return;
+
+        boolean recent = false;
+        for (int k = 0; k < 4; k++) {
+            recent |= frame - t.kids[k].used <= keepFrames;
+        }
+        if (!recent) {
+            tiles -= count(t) - 1;
+            t.kids = null;
+            return;
+        }
+        for (int k = 0; k < 4; k++) {
+            prune(t.kids[k]);
+        }
+    }
+
+    // Tiles in the subtree at t
+    private static int count(Tile t)
+    {
+        int n = 1;
+        if (t.kids != null) {
+            for (int k = 0; k < 4; k++) {
+                n += count(t.kids[k]);
+            }
+        }
+        return n;
+    }
+}
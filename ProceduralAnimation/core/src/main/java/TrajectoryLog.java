@@ -0,0 +1,159 @@
+/* class TrajectoryLog
+ * Playback of a trajectory log written by TrajectoryRecorder.  The log is
+ * memory-mapped, and the critters of a scene are placed directly from
+ * the record for the frame being shown, so the same motion can be drawn
+ * again (with a different camera, say) without simulating, and any frame
+ * can be reached immediately.
+ *
+ * Log format (big-endian):
+ *  - header: magic, version, number of critters N, unused (4 ints)
+ *  - one record per frame: frame number (long), then the columns
+ *    x[N], y[N], heading[N], gait phase[N] (doubles)
+ * Records are appended in increasing frame order; the frame index is
+ * read from the records when the log is opened.
+ *
+ * A log can be bigger than one mapping (which is limited to 2GB): it's
+ * mapped in blocks of whole records, of up to blockBytes each.
+ */
+
+import java.io.*;
+import java.nio.*;
+import java.nio.channels.*;
+import java.util.*;
+
+class TrajectoryLog
+{
+    // File identification
+    static final int magic = 0x5452414a;
+    static final int version = 1;
+
+    // Size of header, and of the record for a frame of n critters
+    static final int headerBytes = 16;
+    static int recordBytes(int n)
+    {
+        return 8 + 4 * 8 * n;
+    }
+
+    // Rate of the frame numbers of records made with the real-time clock
+    static final int framesPerSecond = 30;
+
+    // Frame number of a record of scene at simulated time t: the frame
+    // number with the frame-by-frame clock, otherwise the frame at t
+    static int frameAt(Scene scene, double t)
+    {
+        return scene.frameByFrameClock ? scene.getFrameNumber() :
+            (int)(t * framesPerSecond);
+    }
+
+    // Largest mapping of records
+    static final int blockBytes = 1 << 26;
+
+    // Number of critters, and frame numbers of the records (in order)
+    int numCritters;
+    int[] frames;
+
+    // The mapped records, recordsPerBlock to a block
+    private MappedByteBuffer[] blocks;
+    private int recordSize, recordsPerBlock;
+
+    // ---------------------------------------------------------------
+
+    // Open (and map) the log in file filename
+    public TrajectoryLog(String filename) throws IOException
+    {
+        RandomAccessFile file = new RandomAccessFile(filename, "r");
+        try {
+            FileChannel ch = file.getChannel();
+            long length = ch.size();
+
+            if (length < headerBytes || file.readInt() != magic) {
+                throw new IOException("Not a trajectory log: " + filename);
+            }
+            if (file.readInt() != version) {
+                throw new IOException("Unsupported trajectory log version");
+            }
+            numCritters = file.readInt();
+            recordSize = recordBytes(numCritters);
+            recordsPerBlock = Math.max(blockBytes / recordSize, 1);
+
+            // Map the records (ignoring a partly written last record)
+            int numRecords = (int)((length - headerBytes) / recordSize);
+            blocks = new MappedByteBuffer[
+                (numRecords + recordsPerBlock - 1) / recordsPerBlock];
+            for (int b = 0; b < blocks.length; b++) {
+                long first = (long)b * recordsPerBlock;
+                int count = (int)Math.min(recordsPerBlock,
+                                          numRecords - first);
+                blocks[b] = ch.map(FileChannel.MapMode.READ_ONLY,
+                                   headerBytes + first * recordSize,
+                                   (long)count * recordSize);
+            }
+
+            // Index the frames
+            frames = new int[numRecords];
+            for (int r = 0; r < numRecords; r++) {
+                frames[r] = (int)blocks[r / recordsPerBlock].getLong(
+                    (r % recordsPerBlock) * recordSize);
+            }
+        } finally {
+            file.close();
+        }
+    }
+
+    // Number of frames in the log
+    public int size()
+    {
+        return frames.length;
+    }
+
+    // Record holding frame (the latest one at or before it, or the
+    // first record if frame is before the log starts)
+    public int find(int frame)
+    {
+        int r = Arrays.binarySearch(frames, frame);
+        if (r < 0) {
+            r = Math.max(-r - 2, 0);
+        }
+        return r;
+    }
+
+    // ---------------------------------------------------------------
+
+    // Place the critters of scene as recorded for its current frame
+    // (see frameAt)
+    public void show(Scene scene)
+    {
+        double t = scene.readClock() * scene.clockSpeed;
+        scene.computeClock = t;
+
+        if (frames.length > 0) {
+            apply(scene, find(frameAt(scene, t)));
+        }
+        if (scene.snapshot().useLOD) {
+            scene.lod.classify(scene);
+        }
+    }
+
+    // Set position, heading and pose of each critter of scene from
+    // record r
+    void apply(Scene scene, int r)
+    {
+        Vector<Critter> critters = scene.critters;
+        int n = Math.min(numCritters, critters.size());
+        ByteBuffer buf = blocks[r / recordsPerBlock];
+
+        // Column offsets (in the record's block)
+        int x = (r % recordsPerBlock) * recordSize + 8;
+        int y = x + 8 * numCritters;
+        int h = y + 8 * numCritters;
+        int p = h + 8 * numCritters;
+
+        for (int k = 0; k < n; k++) {
+            Critter c = critters.get(k);
+
+            c.pos.set(buf.getDouble(x + 8*k), buf.getDouble(y + 8*k), 0);
+            c.heading = buf.getDouble(h + 8*k);
+            c.keyframe(buf.getDouble(p + 8*k));
+        }
+    }
+}
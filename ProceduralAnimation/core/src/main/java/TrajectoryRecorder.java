@@ -0,0 +1,72 @@
+/* class TrajectoryRecorder
+ * Appends the state of each critter to a trajectory log (see
+ * TrajectoryLog for the format) after every simulated frame: its
+ * position, heading (derived from prevPos) and gait phase (from the
+ * distance it has traveled).  Each record is flushed as it's written, so
+ * the log is usable up to the last frame even if the program dies.
+ */
+
+import java.io.*;
+import java.util.*;
+
+class TrajectoryRecorder
+{
+    // Log being written
+    private DataOutputStream out;
+
+    // Number of critters in each record
+    private int numCritters;
+
+    // Frame number of the last record (-1 if none)
+    private int lastFrame = -1;
+
+    // ---------------------------------------------------------------
+
+    // Start a log in file filename for the critters of scene
+    public TrajectoryRecorder(String filename, Scene scene) throws IOException
+    {
+        numCritters = scene.critters.size();
+
+        out = new DataOutputStream(new BufferedOutputStream(
+                new FileOutputStream(filename),
+                TrajectoryLog.recordBytes(numCritters)));
+        out.writeInt(TrajectoryLog.magic);
+        out.writeInt(TrajectoryLog.version);
+        out.writeInt(numCritters);
+        out.writeInt(0);
+        out.flush();
+    }
+
+    // Append the current state of the critters of scene, stamped with
+    // the frame that playback will look for at the simulated time (see
+    // TrajectoryLog.frameAt); nothing is written if this frame has
+    // already been recorded
+    public void record(Scene scene) throws IOException
+    {
+        int frame = TrajectoryLog.frameAt(scene, scene.computeClock);
+        if (frame <= lastFrame)
+          return;
+
+        Vector<Critter> critters = scene.critters;
+
+        out.writeLong(frame);
+        for (int k = 0; k < numCritters; k++)
+          out.writeDouble(critters.get(k).pos.x);
+        for (int k = 0; k < numCritters; k++)
+          out.writeDouble(critters.get(k).pos.y);
+        for (int k = 0; k < numCritters; k++)
+          out.writeDouble(critters.get(k).heading);
+        for (int k = 0; k < numCritters; k++) {
+            double dist = critters.get(k).dist;
+            out.writeDouble(dist - (int)dist);
+        }
+        out.flush();
+
+        lastFrame = frame;
+    }
+
+    public void close() throws IOException
+    {
+        out.close();
+    }
+}
@@ -1,5 +1,5 @@
 /* class Tree
- * Class for representing a tree, providing methods to create and draw
+ * Class for representing a tree, providing methods to create
  * the tree in terms of TreeParts (a recursive data structure)
  * 
  * Doug DeCarlo
@@ -7,19 +7,16 @@
 
 import java.util.*;
 
-import javax.media.opengl.GL;
 import javax.vecmath.*;
 
 class Tree implements Obstacle
 {
     // Location of tree
     private double xpos, ypos;
+    private Point3d location;
 
     // Base of tree
     TreePart tree;
-    
-    // for drawing shadows
-    boolean shadow;
 
     // ---------------------------------------------------------------
 
@@ -29,12 +26,11 @@ class Tree implements Obstacle
 		double xPosition, double yPosition)
     {
 	super();
-	
-	shadow = false;
-	
+
 	// Set tree position
 	xpos = xPosition;
 	ypos = yPosition;
+	location = new Point3d(xpos, ypos, 0);
 
 	// Construct tree
 	tree = new TreePart(rgen, level, branching, trunkLen, trunkDiam, 1.0, new Point3d(0.0,0.0,0.0));
@@ -44,17 +40,9 @@ class Tree implements Obstacle
     // Obstacle methods
 
     // Get tree location (as a scene element)
+    // (shared -- don't modify it)
     public Point3d getLocation()
     {
-	return new Point3d(xpos, ypos, 0);
-    }
-
-    // Draw tree in scene
-    public void draw(GL gl)
-    {
-	gl.glPushMatrix();
-	gl.glTranslated(xpos, ypos, 0);
-	tree.draw(gl);
-	gl.glPopMatrix();
+	return location;
     }
 }
@@ -8,7 +8,6 @@
 
 import java.util.*;
 
-import javax.media.opengl.GL;
 import javax.vecmath.*;
 
 class TreePart
@@ -29,9 +28,6 @@ class TreePart
 
     // Children
     TreePart[] parts;
-    
-    // for drawing shadows
-    boolean shadow;
 
     // ---------------------------------------------------------------
 
@@ -53,7 +49,6 @@ class TreePart
         this.rgen = rgen;
         this.branches = numBranch;
         parts = new TreePart[numBranch];
-        shadow = false;
 
 
         // Create branch or leaf (based on depth) and create children
@@ -73,60 +68,4 @@ class TreePart
         	}
         }
     }
-
-    // Recursively draw a tree component
-    //  - place the component using transformation for this subtree
-    //  - draw leaf (if this is a leaf node)
-    //  - draw subtree (if this is an interior node)
-    //    (draw this component, recursively draw children)
-    public void draw(GL gl)
-    {
-    	gl.glPushMatrix();
-    	
-    	// Place this component
-    	gl.glRotated(this.angle.z,0,0,1);
-    	gl.glRotated(this.angle.y,0,1,0);
-    	gl.glRotated(this.angle.x,1,0,0);
-
-
-    	if (leaf) {
-    		// Draw a nice maple leaf
-    		double s = 1.0/(this.branches*0.7);
-    		gl.glColor3d(0.0, 1.0, 0.0);
-    		gl.glBegin(GL.GL_POLYGON);
-    		gl.glVertex3d(0,0,0);
-    		gl.glVertex3d(-s*7/18, s/9, 0);
-    		gl.glVertex3d(-s/2, s/3, 0);
-    		gl.glVertex3d(-s*5/18, s/3, 0);
-    		gl.glVertex3d(-s/3, s*2/3, 0);
-    		gl.glVertex3d(-s/9, s*5/9, 0);
-    		gl.glVertex3d(0, s, 0);
-    		gl.glVertex3d(s/9, s*5/9, 0);
-    		gl.glVertex3d(s/3, s*2/3, 0);
-    		gl.glVertex3d(s*5/18, s/3, 0);
-    		gl.glVertex3d(s/2, s/3, 0);
-    		gl.glVertex3d(s*7/18, s/9, 0);
-    		gl.glEnd();
-    		//Objs.sphere(gl);
-    	} else {
-    		// Draw branch
-    		gl.glScaled(this.width, this.width, this.length);
-    		// make sure it stays brown
-    		gl.glColor3d(0.5, 0.4, 0.3);
-    		Objs.cylinder(gl);
-    		gl.glScaled(1/this.width, 1/this.width, 1/this.length);
-    		gl.glTranslated(0, 0, this.length);
-    		
-    		if (depth>0) {
-    			for (int i = 0; i < this.branches; i++) {
-    				this.parts[i].draw(gl);
-    			}
-    		}
-
-    	}
-
-    	gl.glPopMatrix();
-	
-    }
-    
 }
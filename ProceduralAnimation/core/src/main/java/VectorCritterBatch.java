@@ -0,0 +1,145 @@
+/* class VectorCritterBatch
+ * The VECTOR kernel of CritterBatch: the FAST kernel written with the
+ * Vector API (jdk.incubator.vector), so each step works on a whole SIMD
+ * register of critters at a time whether or not the JIT would have
+ * vectorized the loop itself.  Each lane does the same operations in
+ * the same order as FAST, so the results are the same, bit for bit.
+ * Repulsion with a fractional exponent (which needs Math.pow()) is
+ * left to the FAST kernel's loop.
+ *
+ * The Vector API is an incubator module, so this class is only loaded
+ * when it's present (run with --add-modules jdk.incubator.vector); see
+ * CritterBatch.make().
+ */
+
+import jdk.incubator.vector.*;
+
+class VectorCritterBatch extends CritterBatch
+{
+    // Lanes of doubles in the widest registers of this machine
+    static final VectorSpecies<Double> species = DoubleVector.SPECIES_PREFERRED;
+
+    // ---------------------------------------------------------------
+
+    public VectorCritterBatch()
+    {
+        super(VECTOR);
+    }
+
+    // As CritterBatch.attractWhole(), a register of critters at a time
+    // (the powers stay in registers instead of going through arrays)
+    void attractWhole(double x, double y, double r, double k, int e,
+                      int start, int end)
+    {
+        int bound = start + species.loopBound(end - start);
+        int i = start;
+
+        for (; i < bound; i += species.length()) {
+            DoubleVector dx = DoubleVector.fromArray(species, px, i).neg().add(x);
+            DoubleVector dy = DoubleVector.fromArray(species, py, i).neg().add(y);
+            DoubleVector len = dx.mul(dx).add(dy.mul(dy)).sqrt();
+            DoubleVector norm = DoubleVector.broadcast(species, 1.0).div(len);
+            DoubleVector gap = len.sub(DoubleVector.fromArray(species, cr, i)).sub(r);
+
+            DoubleVector p = power(gap, e);
+
+            DoubleVector f = p.mul(k);
+            DoubleVector vax = DoubleVector.fromArray(species, ax, i)
+                .add(dx.mul(norm).mul(f)).min(maxAccel).max(-maxAccel);
+            DoubleVector vay = DoubleVector.fromArray(species, ay, i)
+                .add(dy.mul(norm).mul(f)).min(maxAccel).max(-maxAccel);
+            vax.intoArray(ax, i);
+            vay.intoArray(ay, i);
+        }
+
+        // The rest, one at a time
+        if (i < end)
+          super.attractWhole(x, y, r, k, e, i, end);
+    }
+
+    // v^e, multiplying in the same order as CritterBatch.power() (the
+    // bits are tested one by one rather than in a loop, so the vectors
+    // stay in registers)
+    private static DoubleVector power(DoubleVector v, int e)
+    {
+        int bits = Math.abs(e);
+        DoubleVector one = DoubleVector.broadcast(species, 1.0);
+        DoubleVector p = one, sq = v;
+
+        if ((bits & 1) != 0)
+          p = p.mul(sq);
+        if (bits > 1) {
+            sq = sq.mul(sq);
+            if ((bits & 2) != 0)
+              p = p.mul(sq);
+        }
+        if (bits > 3) {
+            sq = sq.mul(sq);
+            if ((bits & 4) != 0)
+              p = p.mul(sq);
+        }
+        if (bits > 7) {
+            sq = sq.mul(sq);
+            if ((bits & 8) != 0)
+              p = p.mul(sq);
+        }
+        if (bits > 15) {
+            sq = sq.mul(sq);
+            if ((bits & 16) != 0)
+              p = p.mul(sq);
+        }
+        if (bits > 31) {
+            sq = sq.mul(sq);
+            if ((bits & 32) != 0)
+              p = p.mul(sq);
+        }
+        if (bits > 63) {
+            sq = sq.mul(sq);
+            if ((bits & 64) != 0)
+              p = p.mul(sq);
+        }
+
+        return (e < 0) ? one.div(p) : p;
+    }
+
+    public void integrate(double k, double dt, int start, int end)
+    {
+        int bound = start + species.loopBound(end - start);
+        int i = start;
+
+        for (; i < bound; i += species.length()) {
+            DoubleVector vvx = DoubleVector.fromArray(species, vx, i);
+            DoubleVector vvy = DoubleVector.fromArray(species, vy, i);
+            DoubleVector vax = DoubleVector.fromArray(species, ax, i);
+            DoubleVector vay = DoubleVector.fromArray(species, ay, i);
+            if (k > 0) {
+                vax = vax.add(vvx.mul(-k));
+                vay = vay.add(vvy.mul(-k));
+                vax.intoArray(ax, i);
+                vay.intoArray(ay, i);
+            }
+
+            DoubleVector x = DoubleVector.fromArray(species, px, i);
+            DoubleVector y = DoubleVector.fromArray(species, py, i);
+            DoubleVector newX = x.add(vvx.mul(dt));
+            DoubleVector newY = y.add(vvy.mul(dt));
+            DoubleVector dx = newX.sub(x), dy = newY.sub(y);
+
+            x.intoArray(prevX, i);
+            y.intoArray(prevY, i);
+            newX.intoArray(px, i);
+            newY.intoArray(py, i);
+            dx.intoArray(lastDx, i);
+            dy.intoArray(lastDy, i);
+
+            vvx.add(vax.mul(dt)).intoArray(vx, i);
+            vvy.add(vay.mul(dt)).intoArray(vy, i);
+
+            DoubleVector.fromArray(species, dist, i)
+                .add(dx.mul(dx).add(dy.mul(dy)).sqrt()).intoArray(dist, i);
+        }
+
+        if (i < end)
+          super.integrate(k, dt, i, end);
+    }
+}
@@ -0,0 +1,37 @@
+/* class WorldBuildEvent
+ * Flight recorder event for generating the contents of a world: the
+ * whole fixed world (Scene.build()), or a chunk of a chunked world
+ * (ChunkedWorld.generate())
+ */
+
+import jdk.jfr.*;
+
+@Name("ProceduralAnimation.WorldBuild")
+@Label("World Build")
+@Category({"ProceduralAnimation", "Simulation"})
+class WorldBuildEvent extends Event
+{
+    @Label("Scope")
+    @Description("\"world\", or \"chunk\" for a chunk of a chunked world")
+    String scope;
+
+    @Label("Chunk X")
+    int chunkX;
+
+    @Label("Chunk Y")
+    int chunkY;
+
+    @Label("Trees")
+    int trees;
+
+    @Label("Rocks")
+    int rocks;
+
+    @Label("Random Draws")
+    @Description("Values drawn from the random number generator")
+    long rngDraws;
+
+    @Label("Placement Retries")
+    @Description("Locations rejected for colliding with something")
+    int placementRetries;
+}
@@ -0,0 +1,73 @@
+/* class WorldRebuild
+ * Builds a new world for a scene on a background thread (see
+ * Scene.rebuild()), so that resetting a large world doesn't hold up the
+ * interface.  The world is built into a scene of its own, and the scene
+ * being shown takes over its contents in one step between frames (see
+ * Scene.swapWorld()); until then the old world keeps animating.
+ */
+
+class WorldRebuild
+{
+    // Scene the world is built in (null until the thread has made it)
+    private volatile Scene next = null;
+
+    // Whether the world has been built (or failed to be), and swapped
+    // into the scene
+    private volatile boolean built = false, swapped = false;
+
+    // Start building a world like the one in scene
+    public WorldRebuild(final Scene scene)
+    {
+        Thread t = new Thread("World rebuild") {
+                public void run()
+                {
+                    try {
+                        Scene s = new Scene(scene);
+                        next = s;
+                        s.build();
+                    } catch (RuntimeException e) {
+                        System.out.println("Error rebuilding world: " + e);
+                        next = null;
+                    }
+                    built = true;
+                }
+            };
+        t.setDaemon(true);
+        t.setPriority(Thread.MIN_PRIORITY);
+        t.start();
+    }
+
+    // Fraction of the world built so far
+    public double progress()
+    {
+        Scene s = next;
+        if (built)
+          return 1;
+        return (s == null) ? 0 : s.buildProgress;
+    }
+
+    // Whether building is finished
+    public boolean isBuilt()
+    {
+        return built;
+    }
+
+    // The scene holding the new world, once built (null if building
+    // failed)
+    Scene built()
+    {
+        return built ? next : null;
+    }
+
+    // Note that the scene has taken over the new world
+    void swapped()
+    {
+        swapped = true;
+    }
+
+    // Whether the new world is now being shown
+    public boolean isSwapped()
+    {
+        return swapped;
+    }
+}
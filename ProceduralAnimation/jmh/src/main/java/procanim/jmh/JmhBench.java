@@ -0,0 +1,251 @@
+/* class JmhBench
+ * The Bench cases run under JMH, for a measurement that JMH's forking,
+ * warmup and dead-code handling can be trusted on.  Each benchmark has a
+ * state whose parameters are the grid Bench runs it over; the state gets
+ * the Bench case with those parameters (Bench.prepare()) so both
+ * harnesses time the same code, and other values given with -p must be
+ * on that grid.  The exception is the thread counts of flock and step,
+ * which aren't fixed by the machine here: pass them with -p threads=1,4.
+ *
+ * JMH needs benchmarks in a named package, and classes in a named
+ * package can't refer to the unnamed one the simulation is in, so Bench
+ * is called reflectively -- once, when the state is set up.  What's
+ * timed is the case's getAsDouble().
+ *
+ * Scores are ns/op, as Bench reports them.
+ */
+
+package procanim.jmh;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.DoubleSupplier;
+
+import org.openjdk.jmh.annotations.*;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = { "--add-modules", "jdk.incubator.vector" })
+public class JmhBench
+{
+    // Bench case with the given name and parameters, set up
+    static DoubleSupplier make(String name, String params, int threads)
+    {
+        try {
+            return (DoubleSupplier) Class.forName("Bench")
+                .getMethod("prepare", String.class, String.class, int.class)
+                .invoke(null, name, params, threads);
+        } catch (Exception e) {
+            throw new RuntimeException("Can't make benchmark " + name + " " +
+                                       params, e);
+        }
+    }
+
+    // ---------------------------------------------------------------
+    // States (one for each Bench case, with its grid)
+
+    @State(Scope.Thread)
+    public static class Process
+    {
+        @Param({ "2", "16", "128" })
+        public int bugs;
+        @Param({ "2", "8", "32" })
+        public int obstacles;
+
+        DoubleSupplier c;
+
+        @Setup
+        public void setup()
+        {
+            c = make("process", "bugs=" + bugs + " obstacles=" + obstacles, 1);
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class Lod
+    {
+        @Param({ "128", "512" })
+        public int bugs;
+        @Param({ "15.0", "-30.0" })
+        public String zoom;
+
+        DoubleSupplier c;
+
+        @Setup
+        public void setup()
+        {
+            c = make("lod", "bugs=" + bugs + " zoom=" + zoom, 1);
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class RockLevel
+    {
+        @Param({ "3", "4", "5", "6", "7", "8", "9", "10" })
+        public int level;
+
+        DoubleSupplier c;
+
+        @Setup
+        public void setup()
+        {
+            c = make("rock", "level=" + level, 1);
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class TreeShape
+    {
+        @Param({ "3", "4", "5", "6" })
+        public int depth;
+        @Param({ "2", "3", "4", "5" })
+        public int branching;
+
+        DoubleSupplier c;
+
+        @Setup
+        public void setup()
+        {
+            c = make("tree", "depth=" + depth + " branching=" + branching, 1);
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class Keyframe
+    {
+        DoubleSupplier c;
+
+        @Setup
+        public void setup()
+        {
+            c = make("keyframe", "", 1);
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class SafeLoc
+    {
+        @Param({ "2", "8", "32" })
+        public int obstacles;
+
+        DoubleSupplier c;
+
+        @Setup
+        public void setup()
+        {
+            c = make("safeloc", "obstacles=" + obstacles, 1);
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class FlockSize
+    {
+        @Param({ "1000", "10000", "50000" })
+        public int bugs;
+        @Param({ "1" })
+        public int threads;
+
+        DoubleSupplier c;
+
+        @Setup
+        public void setup()
+        {
+            c = make("flock", "bugs=" + bugs + " threads=" + threads, threads);
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class Kernel
+    {
+        @Param({ "128", "1024", "8192" })
+        public int bugs;
+        @Param({ "scalar", "batch", "fast", "float", "vector" })
+        public String kernel;
+
+        DoubleSupplier c;
+
+        @Setup
+        public void setup()
+        {
+            c = make("kernel", "bugs=" + bugs + " kernel=" + kernel, 1);
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class Step
+    {
+        @Param({ "5000", "50000" })
+        public int bugs;
+        @Param({ "1" })
+        public int threads;
+        @Param({ "scalar", "batch", "fast", "float", "vector" })
+        public String kernel;
+
+        DoubleSupplier c;
+
+        @Setup
+        public void setup()
+        {
+            c = make("step", "bugs=" + bugs + " threads=" + threads +
+                     " kernel=" + kernel, threads);
+        }
+    }
+
+    // ---------------------------------------------------------------
+    // Benchmarks
+
+    @Benchmark
+    public double process(Process s)
+    {
+        return s.c.getAsDouble();
+    }
+
+    @Benchmark
+    public double lod(Lod s)
+    {
+        return s.c.getAsDouble();
+    }
+
+    @Benchmark
+    public double rock(RockLevel s)
+    {
+        return s.c.getAsDouble();
+    }
+
+    @Benchmark
+    public double tree(TreeShape s)
+    {
+        return s.c.getAsDouble();
+    }
+
+    @Benchmark
+    public double keyframe(Keyframe s)
+    {
+        return s.c.getAsDouble();
+    }
+
+    @Benchmark
+    public double safeloc(SafeLoc s)
+    {
+        return s.c.getAsDouble();
+    }
+
+    @Benchmark
+    public double flock(FlockSize s)
+    {
+        return s.c.getAsDouble();
+    }
+
+    @Benchmark
+    public double kernel(Kernel s)
+    {
+        return s.c.getAsDouble();
+    }
+
+    @Benchmark
+    public double step(Step s)
+    {
+        return s.c.getAsDouble();
+    }
+}
@@ -0,0 +1,15111 @@
+/* class CountingGL
+ * An instrumenting wrapper around a GL object: every call is counted in a
+ * GLStats and then passed through to the real GL.  With no GL underneath
+ * it acts as a recording stub (calls are only counted, and queries
+ * return zero, false or null), which lets the scene be "drawn" without a
+ * window or native libraries.
+ *
+ * The methods are plain (not a Proxy, which boxes the arguments of every
+ * call, and can't implement an interface as large as GL anyway): those
+ * of the GL interface of JOGL 1.1.1-rc6, one for each (in order of
+ * name), written out mechanically.
+ */
+
+import java.nio.*;
+
+import javax.media.opengl.GL;
+
+public class CountingGL implements GL
+{
+    // GL that calls are forwarded to (null for a recording stub)
+    private GL target;
+
+    // Where counts are kept
+    private GLStats stats;
+
+    // ---------------------------------------------------------------
+
+    private CountingGL(GL targetGL, GLStats glStats)
+    {
+        target = targetGL;
+        stats = glStats;
+    }
+
+    // Wrap gl so its calls are counted in stats
+    public static GL wrap(GL gl, GLStats stats)
+    {
+        return new CountingGL(gl, stats);
+    }
+
+    // Make a GL that only counts calls (for headless runs)
+    public static GL recorder(GLStats stats)
+    {
+        return wrap(null, stats);
+    }
+
+    // ---------------------------------------------------------------
+
+    public Object getExtension(String a0)
+    {
+        stats.count("getExtension");
+        return (target != null) ? target.getExtension(a0) : null;
+    }
+
+    public Object getPlatformGLExtensions()
+    {
+        stats.count("getPlatformGLExtensions");
+        return (target != null) ? target.getPlatformGLExtensions() : null;
+    }
+
+    public void glAccum(int a0, float a1)
+    {
+        stats.count("glAccum");
+        if (target != null)
+          target.glAccum(a0, a1);
+    }
+
+    public void glActiveStencilFaceEXT(int a0)
+    {
+        stats.count("glActiveStencilFaceEXT");
+        if (target != null)
+          target.glActiveStencilFaceEXT(a0);
+    }
+
+    public void glActiveTexture(int a0)
+    {
+        stats.count("glActiveTexture");
+        if (target != null)
+          target.glActiveTexture(a0);
+    }
+
+    public void glActiveVaryingNV(int a0, byte[] a1, int a2)
+    {
+        stats.count("glActiveVaryingNV");
+        if (target != null)
+          target.glActiveVaryingNV(a0, a1, a2);
+    }
+
+    public void glActiveVaryingNV(int a0, ByteBuffer a1)
+    {
+        stats.count("glActiveVaryingNV");
+        if (target != null)
+          target.glActiveVaryingNV(a0, a1);
+    }
+
+    public ByteBuffer glAllocateMemoryNV(int a0, float a1, float a2, float a3)
+    {
+        stats.count("glAllocateMemoryNV");
+        if (target == null)
+          return null;
+        return target.glAllocateMemoryNV(a0, a1, a2, a3);
+    }
+
+    public void glAlphaFragmentOp1ATI(
+        int a0, int a1, int a2, int a3, int a4, int a5)
+    {
+        stats.count("glAlphaFragmentOp1ATI");
+        if (target != null)
+          target.glAlphaFragmentOp1ATI(a0, a1, a2, a3, a4, a5);
+    }
+
+    public void glAlphaFragmentOp2ATI(
+        int a0, int a1, int a2, int a3, int a4, int a5, int a6, int a7, int a8)
+    {
+        stats.count("glAlphaFragmentOp2ATI");
+        if (target != null)
+          target.glAlphaFragmentOp2ATI(a0, a1, a2, a3, a4, a5, a6, a7, a8);
+    }
+
+    public void glAlphaFragmentOp3ATI(
+        int a0, int a1, int a2, int a3, int a4, int a5, int a6, int a7, int a8,
+        int a9, int a10, int a11)
+    {
+        stats.count("glAlphaFragmentOp3ATI");
+        if (target != null)
+          target.glAlphaFragmentOp3ATI(a0, a1, a2, a3, a4, a5, a6, a7, a8, a9,
+              a10, a11);
+    }
+
+    public void glAlphaFunc(int a0, float a1)
+    {
+        stats.count("glAlphaFunc");
+        if (target != null)
+          target.glAlphaFunc(a0, a1);
+    }
+
+    public void glApplyTextureEXT(int a0)
+    {
+        stats.count("glApplyTextureEXT");
+        if (target != null)
+          target.glApplyTextureEXT(a0);
+    }
+
+    public boolean glAreProgramsResidentNV(
+        int a0, int[] a1, int a2, byte[] a3, int a4)
+    {
+        stats.count("glAreProgramsResidentNV");
+        if (target == null)
+          return false;
+        return target.glAreProgramsResidentNV(a0, a1, a2, a3, a4);
+    }
+
+    public boolean glAreProgramsResidentNV(int a0, IntBuffer a1, ByteBuffer a2)
+    {
+        stats.count("glAreProgramsResidentNV");
+        if (target == null)
+          return false;
+        return target.glAreProgramsResidentNV(a0, a1, a2);
+    }
+
+    public boolean glAreTexturesResident(
+        int a0, int[] a1, int a2, byte[] a3, int a4)
+    {
+        stats.count("glAreTexturesResident");
+        if (target == null)
+          return false;
+        return target.glAreTexturesResident(a0, a1, a2, a3, a4);
+    }
+
+    public boolean glAreTexturesResident(int a0, IntBuffer a1, ByteBuffer a2)
+    {
+        stats.count("glAreTexturesResident");
+        if (target == null)
+          return false;
+        return target.glAreTexturesResident(a0, a1, a2);
+    }
+
+    public void glArrayElement(int a0)
+    {
+        stats.count("glArrayElement");
+        if (target != null)
+          target.glArrayElement(a0);
+    }
+
+    public void glArrayObjectATI(
+        int a0, int a1, int a2, int a3, int a4, int a5)
+    {
+        stats.count("glArrayObjectATI");
+        if (target != null)
+          target.glArrayObjectATI(a0, a1, a2, a3, a4, a5);
+    }
+
+    public void glAsyncMarkerSGIX(int a0)
+    {
+        stats.count("glAsyncMarkerSGIX");
+        if (target != null)
+          target.glAsyncMarkerSGIX(a0);
+    }
+
+    public void glAttachObjectARB(int a0, int a1)
+    {
+        stats.count("glAttachObjectARB");
+        if (target != null)
+          target.glAttachObjectARB(a0, a1);
+    }
+
+    public void glAttachShader(int a0, int a1)
+    {
+        stats.count("glAttachShader");
+        if (target != null)
+          target.glAttachShader(a0, a1);
+    }
+
+    public void glBegin(int a0)
+    {
+        stats.count("glBegin");
+        stats.begin(a0);
+        if (target != null)
+          target.glBegin(a0);
+    }
+
+    public void glBeginFragmentShaderATI()
+    {
+        stats.count("glBeginFragmentShaderATI");
+        if (target != null)
+          target.glBeginFragmentShaderATI();
+    }
+
+    public void glBeginOcclusionQueryNV(int a0)
+    {
+        stats.count("glBeginOcclusionQueryNV");
+        if (target != null)
+          target.glBeginOcclusionQueryNV(a0);
+    }
+
+    public void glBeginQuery(int a0, int a1)
+    {
+        stats.count("glBeginQuery");
+        if (target != null)
+          target.glBeginQuery(a0, a1);
+    }
+
+    public void glBeginQueryARB(int a0, int a1)
+    {
+        stats.count("glBeginQueryARB");
+        if (target != null)
+          target.glBeginQueryARB(a0, a1);
+    }
+
+    public void glBeginTransformFeedbackNV(int a0)
+    {
+        stats.count("glBeginTransformFeedbackNV");
+        if (target != null)
+          target.glBeginTransformFeedbackNV(a0);
+    }
+
+    public void glBeginVertexShaderEXT()
+    {
+        stats.count("glBeginVertexShaderEXT");
+        if (target != null)
+          target.glBeginVertexShaderEXT();
+    }
+
+    public void glBindAttribLocation(int a0, int a1, String a2)
+    {
+        stats.count("glBindAttribLocation");
+        if (target != null)
+          target.glBindAttribLocation(a0, a1, a2);
+    }
+
+    public void glBindAttribLocationARB(int a0, int a1, String a2)
+    {
+        stats.count("glBindAttribLocationARB");
+        if (target != null)
+          target.glBindAttribLocationARB(a0, a1, a2);
+    }
+
+    public void glBindBuffer(int a0, int a1)
+    {
+        stats.count("glBindBuffer");
+        if (target != null)
+          target.glBindBuffer(a0, a1);
+    }
+
+    public void glBindBufferARB(int a0, int a1)
+    {
+        stats.count("glBindBufferARB");
+        if (target != null)
+          target.glBindBufferARB(a0, a1);
+    }
+
+    public void glBindBufferBaseNV(int a0, int a1, int a2)
+    {
+        stats.count("glBindBufferBaseNV");
+        if (target != null)
+          target.glBindBufferBaseNV(a0, a1, a2);
+    }
+
+    public void glBindBufferOffsetNV(int a0, int a1, int a2, int a3)
+    {
+        stats.count("glBindBufferOffsetNV");
+        if (target != null)
+          target.glBindBufferOffsetNV(a0, a1, a2, a3);
+    }
+
+    public void glBindBufferRangeNV(int a0, int a1, int a2, int a3, int a4)
+    {
+        stats.count("glBindBufferRangeNV");
+        if (target != null)
+          target.glBindBufferRangeNV(a0, a1, a2, a3, a4);
+    }
+
+    public void glBindFragDataLocationEXT(int a0, int a1, byte[] a2, int a3)
+    {
+        stats.count("glBindFragDataLocationEXT");
+        if (target != null)
+          target.glBindFragDataLocationEXT(a0, a1, a2, a3);
+    }
+
+    public void glBindFragDataLocationEXT(int a0, int a1, ByteBuffer a2)
+    {
+        stats.count("glBindFragDataLocationEXT");
+        if (target != null)
+          target.glBindFragDataLocationEXT(a0, a1, a2);
+    }
+
+    public void glBindFragmentShaderATI(int a0)
+    {
+        stats.count("glBindFragmentShaderATI");
+        if (target != null)
+          target.glBindFragmentShaderATI(a0);
+    }
+
+    public void glBindFramebufferEXT(int a0, int a1)
+    {
+        stats.count("glBindFramebufferEXT");
+        if (target != null)
+          target.glBindFramebufferEXT(a0, a1);
+    }
+
+    public int glBindLightParameterEXT(int a0, int a1)
+    {
+        stats.count("glBindLightParameterEXT");
+        return (target != null) ? target.glBindLightParameterEXT(a0, a1) : 0;
+    }
+
+    public int glBindMaterialParameterEXT(int a0, int a1)
+    {
+        stats.count("glBindMaterialParameterEXT");
+        if (target == null)
+          return 0;
+        return target.glBindMaterialParameterEXT(a0, a1);
+    }
+
+    public int glBindParameterEXT(int a0)
+    {
+        stats.count("glBindParameterEXT");
+        return (target != null) ? target.glBindParameterEXT(a0) : 0;
+    }
+
+    public void glBindProgramARB(int a0, int a1)
+    {
+        stats.count("glBindProgramARB");
+        if (target != null)
+          target.glBindProgramARB(a0, a1);
+    }
+
+    public void glBindProgramNV(int a0, int a1)
+    {
+        stats.count("glBindProgramNV");
+        if (target != null)
+          target.glBindProgramNV(a0, a1);
+    }
+
+    public void glBindRenderbufferEXT(int a0, int a1)
+    {
+        stats.count("glBindRenderbufferEXT");
+        if (target != null)
+          target.glBindRenderbufferEXT(a0, a1);
+    }
+
+    public int glBindTexGenParameterEXT(int a0, int a1, int a2)
+    {
+        stats.count("glBindTexGenParameterEXT");
+        if (target == null)
+          return 0;
+        return target.glBindTexGenParameterEXT(a0, a1, a2);
+    }
+
+    public void glBindTexture(int a0, int a1)
+    {
+        stats.count("glBindTexture");
+        if (target != null)
+          target.glBindTexture(a0, a1);
+    }
+
+    public int glBindTextureUnitParameterEXT(int a0, int a1)
+    {
+        stats.count("glBindTextureUnitParameterEXT");
+        if (target == null)
+          return 0;
+        return target.glBindTextureUnitParameterEXT(a0, a1);
+    }
+
+    public void glBindVertexArrayAPPLE(int a0)
+    {
+        stats.count("glBindVertexArrayAPPLE");
+        if (target != null)
+          target.glBindVertexArrayAPPLE(a0);
+    }
+
+    public void glBindVertexShaderEXT(int a0)
+    {
+        stats.count("glBindVertexShaderEXT");
+        if (target != null)
+          target.glBindVertexShaderEXT(a0);
+    }
+
+    public void glBitmap(
+        int a0, int a1, float a2, float a3, float a4, float a5, byte[] a6,
+        int a7)
+    {
+        stats.count("glBitmap");
+        if (target != null)
+          target.glBitmap(a0, a1, a2, a3, a4, a5, a6, a7);
+    }
+
+    public void glBitmap(
+        int a0, int a1, float a2, float a3, float a4, float a5, ByteBuffer a6)
+    {
+        stats.count("glBitmap");
+        if (target != null)
+          target.glBitmap(a0, a1, a2, a3, a4, a5, a6);
+    }
+
+    public void glBitmap(
+        int a0, int a1, float a2, float a3, float a4, float a5, long a6)
+    {
+        stats.count("glBitmap");
+        if (target != null)
+          target.glBitmap(a0, a1, a2, a3, a4, a5, a6);
+    }
+
+    public void glBlendColor(float a0, float a1, float a2, float a3)
+    {
+        stats.count("glBlendColor");
+        if (target != null)
+          target.glBlendColor(a0, a1, a2, a3);
+    }
+
+    public void glBlendEquation(int a0)
+    {
+        stats.count("glBlendEquation");
+        if (target != null)
+          target.glBlendEquation(a0);
+    }
+
+    public void glBlendEquationSeparate(int a0, int a1)
+    {
+        stats.count("glBlendEquationSeparate");
+        if (target != null)
+          target.glBlendEquationSeparate(a0, a1);
+    }
+
+    public void glBlendEquationSeparateEXT(int a0, int a1)
+    {
+        stats.count("glBlendEquationSeparateEXT");
+        if (target != null)
+          target.glBlendEquationSeparateEXT(a0, a1);
+    }
+
+    public void glBlendFunc(int a0, int a1)
+    {
+        stats.count("glBlendFunc");
+        if (target != null)
+          target.glBlendFunc(a0, a1);
+    }
+
+    public void glBlendFuncSeparate(int a0, int a1, int a2, int a3)
+    {
+        stats.count("glBlendFuncSeparate");
+        if (target != null)
+          target.glBlendFuncSeparate(a0, a1, a2, a3);
+    }
+
+    public void glBlendFuncSeparateEXT(int a0, int a1, int a2, int a3)
+    {
+        stats.count("glBlendFuncSeparateEXT");
+        if (target != null)
+          target.glBlendFuncSeparateEXT(a0, a1, a2, a3);
+    }
+
+    public void glBlendFuncSeparateINGR(int a0, int a1, int a2, int a3)
+    {
+        stats.count("glBlendFuncSeparateINGR");
+        if (target != null)
+          target.glBlendFuncSeparateINGR(a0, a1, a2, a3);
+    }
+
+    public void glBlitFramebufferEXT(
+        int a0, int a1, int a2, int a3, int a4, int a5, int a6, int a7, int a8,
+        int a9)
+    {
+        stats.count("glBlitFramebufferEXT");
+        if (target != null)
+          target.glBlitFramebufferEXT(a0, a1, a2, a3, a4, a5, a6, a7, a8, a9);
+    }
+
+    public void glBufferData(int a0, int a1, Buffer a2, int a3)
+    {
+        stats.count("glBufferData");
+        if (target != null)
+          target.glBufferData(a0, a1, a2, a3);
+    }
+
+    public void glBufferDataARB(int a0, int a1, Buffer a2, int a3)
+    {
+        stats.count("glBufferDataARB");
+        if (target != null)
+          target.glBufferDataARB(a0, a1, a2, a3);
+    }
+
+    public void glBufferParameteriAPPLE(int a0, int a1, int a2)
+    {
+        stats.count("glBufferParameteriAPPLE");
+        if (target != null)
+          target.glBufferParameteriAPPLE(a0, a1, a2);
+    }
+
+    public int glBufferRegionEnabled()
+    {
+        stats.count("glBufferRegionEnabled");
+        return (target != null) ? target.glBufferRegionEnabled() : 0;
+    }
+
+    public void glBufferSubData(int a0, int a1, int a2, Buffer a3)
+    {
+        stats.count("glBufferSubData");
+        if (target != null)
+          target.glBufferSubData(a0, a1, a2, a3);
+    }
+
+    public void glBufferSubDataARB(int a0, int a1, int a2, Buffer a3)
+    {
+        stats.count("glBufferSubDataARB");
+        if (target != null)
+          target.glBufferSubDataARB(a0, a1, a2, a3);
+    }
+
+    public void glCallList(int a0)
+    {
+        stats.count("glCallList");
+        if (target != null)
+          target.glCallList(a0);
+    }
+
+    public void glCallLists(int a0, int a1, Buffer a2)
+    {
+        stats.count("glCallLists");
+        if (target != null)
+          target.glCallLists(a0, a1, a2);
+    }
+
+    public int glCheckFramebufferStatusEXT(int a0)
+    {
+        stats.count("glCheckFramebufferStatusEXT");
+        return (target != null) ? target.glCheckFramebufferStatusEXT(a0) : 0;
+    }
+
+    public void glClampColorARB(int a0, int a1)
+    {
+        stats.count("glClampColorARB");
+        if (target != null)
+          target.glClampColorARB(a0, a1);
+    }
+
+    public void glClear(int a0)
+    {
+        stats.count("glClear");
+        if (target != null)
+          target.glClear(a0);
+    }
+
+    public void glClearAccum(float a0, float a1, float a2, float a3)
+    {
+        stats.count("glClearAccum");
+        if (target != null)
+          target.glClearAccum(a0, a1, a2, a3);
+    }
+
+    public void glClearColor(float a0, float a1, float a2, float a3)
+    {
+        stats.count("glClearColor");
+        if (target != null)
+          target.glClearColor(a0, a1, a2, a3);
+    }
+
+    public void glClearColorIiEXT(int a0, int a1, int a2, int a3)
+    {
+        stats.count("glClearColorIiEXT");
+        if (target != null)
+          target.glClearColorIiEXT(a0, a1, a2, a3);
+    }
+
+    public void glClearColorIuiEXT(int a0, int a1, int a2, int a3)
+    {
+        stats.count("glClearColorIuiEXT");
+        if (target != null)
+          target.glClearColorIuiEXT(a0, a1, a2, a3);
+    }
+
+    public void glClearDepth(double a0)
+    {
+        stats.count("glClearDepth");
+        if (target != null)
+          target.glClearDepth(a0);
+    }
+
+    public void glClearDepthdNV(double a0)
+    {
+        stats.count("glClearDepthdNV");
+        if (target != null)
+          target.glClearDepthdNV(a0);
+    }
+
+    public void glClearIndex(float a0)
+    {
+        stats.count("glClearIndex");
+        if (target != null)
+          target.glClearIndex(a0);
+    }
+
+    public void glClearStencil(int a0)
+    {
+        stats.count("glClearStencil");
+        if (target != null)
+          target.glClearStencil(a0);
+    }
+
+    public void glClientActiveTexture(int a0)
+    {
+        stats.count("glClientActiveTexture");
+        if (target != null)
+          target.glClientActiveTexture(a0);
+    }
+
+    public void glClientActiveVertexStreamATI(int a0)
+    {
+        stats.count("glClientActiveVertexStreamATI");
+        if (target != null)
+          target.glClientActiveVertexStreamATI(a0);
+    }
+
+    public void glClipPlane(int a0, double[] a1, int a2)
+    {
+        stats.count("glClipPlane");
+        if (target != null)
+          target.glClipPlane(a0, a1, a2);
+    }
+
+    public void glClipPlane(int a0, DoubleBuffer a1)
+    {
+        stats.count("glClipPlane");
+        if (target != null)
+          target.glClipPlane(a0, a1);
+    }
+
+    public void glColor3b(byte a0, byte a1, byte a2)
+    {
+        stats.count("glColor3b");
+        if (target != null)
+          target.glColor3b(a0, a1, a2);
+    }
+
+    public void glColor3bv(byte[] a0, int a1)
+    {
+        stats.count("glColor3bv");
+        if (target != null)
+          target.glColor3bv(a0, a1);
+    }
+
+    public void glColor3bv(ByteBuffer a0)
+    {
+        stats.count("glColor3bv");
+        if (target != null)
+          target.glColor3bv(a0);
+    }
+
+    public void glColor3d(double a0, double a1, double a2)
+    {
+        stats.count("glColor3d");
+        if (target != null)
+          target.glColor3d(a0, a1, a2);
+    }
+
+    public void glColor3dv(double[] a0, int a1)
+    {
+        stats.count("glColor3dv");
+        if (target != null)
+          target.glColor3dv(a0, a1);
+    }
+
+    public void glColor3dv(DoubleBuffer a0)
+    {
+        stats.count("glColor3dv");
+        if (target != null)
+          target.glColor3dv(a0);
+    }
+
+    public void glColor3f(float a0, float a1, float a2)
+    {
+        stats.count("glColor3f");
+        if (target != null)
+          target.glColor3f(a0, a1, a2);
+    }
+
+    public void glColor3fVertex3fSUN(
+        float a0, float a1, float a2, float a3, float a4, float a5)
+    {
+        stats.count("glColor3fVertex3fSUN");
+        if (target != null)
+          target.glColor3fVertex3fSUN(a0, a1, a2, a3, a4, a5);
+    }
+
+    public void glColor3fVertex3fvSUN(float[] a0, int a1, float[] a2, int a3)
+    {
+        stats.count("glColor3fVertex3fvSUN");
+        if (target != null)
+          target.glColor3fVertex3fvSUN(a0, a1, a2, a3);
+    }
+
+    public void glColor3fVertex3fvSUN(FloatBuffer a0, FloatBuffer a1)
+    {
+        stats.count("glColor3fVertex3fvSUN");
+        if (target != null)
+          target.glColor3fVertex3fvSUN(a0, a1);
+    }
+
+    public void glColor3fv(float[] a0, int a1)
+    {
+        stats.count("glColor3fv");
+        if (target != null)
+          target.glColor3fv(a0, a1);
+    }
+
+    public void glColor3fv(FloatBuffer a0)
+    {
+        stats.count("glColor3fv");
+        if (target != null)
+          target.glColor3fv(a0);
+    }
+
+    public void glColor3hNV(short a0, short a1, short a2)
+    {
+        stats.count("glColor3hNV");
+        if (target != null)
+          target.glColor3hNV(a0, a1, a2);
+    }
+
+    public void glColor3hvNV(short[] a0, int a1)
+    {
+        stats.count("glColor3hvNV");
+        if (target != null)
+          target.glColor3hvNV(a0, a1);
+    }
+
+    public void glColor3hvNV(ShortBuffer a0)
+    {
+        stats.count("glColor3hvNV");
+        if (target != null)
+          target.glColor3hvNV(a0);
+    }
+
+    public void glColor3i(int a0, int a1, int a2)
+    {
+        stats.count("glColor3i");
+        if (target != null)
+          target.glColor3i(a0, a1, a2);
+    }
+
+    public void glColor3iv(int[] a0, int a1)
+    {
+        stats.count("glColor3iv");
+        if (target != null)
+          target.glColor3iv(a0, a1);
+    }
+
+    public void glColor3iv(IntBuffer a0)
+    {
+        stats.count("glColor3iv");
+        if (target != null)
+          target.glColor3iv(a0);
+    }
+
+    public void glColor3s(short a0, short a1, short a2)
+    {
+        stats.count("glColor3s");
+        if (target != null)
+          target.glColor3s(a0, a1, a2);
+    }
+
+    public void glColor3sv(short[] a0, int a1)
+    {
+        stats.count("glColor3sv");
+        if (target != null)
+          target.glColor3sv(a0, a1);
+    }
+
+    public void glColor3sv(ShortBuffer a0)
+    {
+        stats.count("glColor3sv");
+        if (target != null)
+          target.glColor3sv(a0);
+    }
+
+    public void glColor3ub(byte a0, byte a1, byte a2)
+    {
+        stats.count("glColor3ub");
+        if (target != null)
+          target.glColor3ub(a0, a1, a2);
+    }
+
+    public void glColor3ubv(byte[] a0, int a1)
+    {
+        stats.count("glColor3ubv");
+        if (target != null)
+          target.glColor3ubv(a0, a1);
+    }
+
+    public void glColor3ubv(ByteBuffer a0)
+    {
+        stats.count("glColor3ubv");
+        if (target != null)
+          target.glColor3ubv(a0);
+    }
+
+    public void glColor3ui(int a0, int a1, int a2)
+    {
+        stats.count("glColor3ui");
+        if (target != null)
+          target.glColor3ui(a0, a1, a2);
+    }
+
+    public void glColor3uiv(int[] a0, int a1)
+    {
+        stats.count("glColor3uiv");
+        if (target != null)
+          target.glColor3uiv(a0, a1);
+    }
+
+    public void glColor3uiv(IntBuffer a0)
+    {
+        stats.count("glColor3uiv");
+        if (target != null)
+          target.glColor3uiv(a0);
+    }
+
+    public void glColor3us(short a0, short a1, short a2)
+    {
+        stats.count("glColor3us");
+        if (target != null)
+          target.glColor3us(a0, a1, a2);
+    }
+
+    public void glColor3usv(short[] a0, int a1)
+    {
+        stats.count("glColor3usv");
+        if (target != null)
+          target.glColor3usv(a0, a1);
+    }
+
+    public void glColor3usv(ShortBuffer a0)
+    {
+        stats.count("glColor3usv");
+        if (target != null)
+          target.glColor3usv(a0);
+    }
+
+    public void glColor4b(byte a0, byte a1, byte a2, byte a3)
+    {
+        stats.count("glColor4b");
+        if (target != null)
+          target.glColor4b(a0, a1, a2, a3);
+    }
+
+    public void glColor4bv(byte[] a0, int a1)
+    {
+        stats.count("glColor4bv");
+        if (target != null)
+          target.glColor4bv(a0, a1);
+    }
+
+    public void glColor4bv(ByteBuffer a0)
+    {
+        stats.count("glColor4bv");
+        if (target != null)
+          target.glColor4bv(a0);
+    }
+
+    public void glColor4d(double a0, double a1, double a2, double a3)
+    {
+        stats.count("glColor4d");
+        if (target != null)
+          target.glColor4d(a0, a1, a2, a3);
+    }
+
+    public void glColor4dv(double[] a0, int a1)
+    {
+        stats.count("glColor4dv");
+        if (target != null)
+          target.glColor4dv(a0, a1);
+    }
+
+    public void glColor4dv(DoubleBuffer a0)
+    {
+        stats.count("glColor4dv");
+        if (target != null)
+          target.glColor4dv(a0);
+    }
+
+    public void glColor4f(float a0, float a1, float a2, float a3)
+    {
+        stats.count("glColor4f");
+        if (target != null)
+          target.glColor4f(a0, a1, a2, a3);
+    }
+
+    public void glColor4fNormal3fVertex3fSUN(
+        float a0, float a1, float a2, float a3, float a4, float a5, float a6,
+        float a7, float a8, float a9)
+    {
+        stats.count("glColor4fNormal3fVertex3fSUN");
+        if (target != null)
+          target.glColor4fNormal3fVertex3fSUN(a0, a1, a2, a3, a4, a5, a6, a7,
+              a8, a9);
+    }
+
+    public void glColor4fNormal3fVertex3fvSUN(
+        float[] a0, int a1, float[] a2, int a3, float[] a4, int a5)
+    {
+        stats.count("glColor4fNormal3fVertex3fvSUN");
+        if (target != null)
+          target.glColor4fNormal3fVertex3fvSUN(a0, a1, a2, a3, a4, a5);
+    }
+
+    public void glColor4fNormal3fVertex3fvSUN(
+        FloatBuffer a0, FloatBuffer a1, FloatBuffer a2)
+    {
+        stats.count("glColor4fNormal3fVertex3fvSUN");
+        if (target != null)
+          target.glColor4fNormal3fVertex3fvSUN(a0, a1, a2);
+    }
+
+    public void glColor4fv(float[] a0, int a1)
+    {
+        stats.count("glColor4fv");
+        if (target != null)
+          target.glColor4fv(a0, a1);
+    }
+
+    public void glColor4fv(FloatBuffer a0)
+    {
+        stats.count("glColor4fv");
+        if (target != null)
+          target.glColor4fv(a0);
+    }
+
+    public void glColor4hNV(short a0, short a1, short a2, short a3)
+    {
+        stats.count("glColor4hNV");
+        if (target != null)
+          target.glColor4hNV(a0, a1, a2, a3);
+    }
+
+    public void glColor4hvNV(short[] a0, int a1)
+    {
+        stats.count("glColor4hvNV");
+        if (target != null)
+          target.glColor4hvNV(a0, a1);
+    }
+
+    public void glColor4hvNV(ShortBuffer a0)
+    {
+        stats.count("glColor4hvNV");
+        if (target != null)
+          target.glColor4hvNV(a0);
+    }
+
+    public void glColor4i(int a0, int a1, int a2, int a3)
+    {
+        stats.count("glColor4i");
+        if (target != null)
+          target.glColor4i(a0, a1, a2, a3);
+    }
+
+    public void glColor4iv(int[] a0, int a1)
+    {
+        stats.count("glColor4iv");
+        if (target != null)
+          target.glColor4iv(a0, a1);
+    }
+
+    public void glColor4iv(IntBuffer a0)
+    {
+        stats.count("glColor4iv");
+        if (target != null)
+          target.glColor4iv(a0);
+    }
+
+    public void glColor4s(short a0, short a1, short a2, short a3)
+    {
+        stats.count("glColor4s");
+        if (target != null)
+          target.glColor4s(a0, a1, a2, a3);
+    }
+
+    public void glColor4sv(short[] a0, int a1)
+    {
+        stats.count("glColor4sv");
+        if (target != null)
+          target.glColor4sv(a0, a1);
+    }
+
+    public void glColor4sv(ShortBuffer a0)
+    {
+        stats.count("glColor4sv");
+        if (target != null)
+          target.glColor4sv(a0);
+    }
+
+    public void glColor4ub(byte a0, byte a1, byte a2, byte a3)
+    {
+        stats.count("glColor4ub");
+        if (target != null)
+          target.glColor4ub(a0, a1, a2, a3);
+    }
+
+    public void glColor4ubVertex2fSUN(
+        byte a0, byte a1, byte a2, byte a3, float a4, float a5)
+    {
+        stats.count("glColor4ubVertex2fSUN");
+        if (target != null)
+          target.glColor4ubVertex2fSUN(a0, a1, a2, a3, a4, a5);
+    }
+
+    public void glColor4ubVertex2fvSUN(byte[] a0, int a1, float[] a2, int a3)
+    {
+        stats.count("glColor4ubVertex2fvSUN");
+        if (target != null)
+          target.glColor4ubVertex2fvSUN(a0, a1, a2, a3);
+    }
+
+    public void glColor4ubVertex2fvSUN(ByteBuffer a0, FloatBuffer a1)
+    {
+        stats.count("glColor4ubVertex2fvSUN");
+        if (target != null)
+          target.glColor4ubVertex2fvSUN(a0, a1);
+    }
+
+    public void glColor4ubVertex3fSUN(
+        byte a0, byte a1, byte a2, byte a3, float a4, float a5, float a6)
+    {
+        stats.count("glColor4ubVertex3fSUN");
+        if (target != null)
+          target.glColor4ubVertex3fSUN(a0, a1, a2, a3, a4, a5, a6);
+    }
+
+    public void glColor4ubVertex3fvSUN(byte[] a0, int a1, float[] a2, int a3)
+    {
+        stats.count("glColor4ubVertex3fvSUN");
+        if (target != null)
+          target.glColor4ubVertex3fvSUN(a0, a1, a2, a3);
+    }
+
+    public void glColor4ubVertex3fvSUN(ByteBuffer a0, FloatBuffer a1)
+    {
+        stats.count("glColor4ubVertex3fvSUN");
+        if (target != null)
+          target.glColor4ubVertex3fvSUN(a0, a1);
+    }
+
+    public void glColor4ubv(byte[] a0, int a1)
+    {
+        stats.count("glColor4ubv");
+        if (target != null)
+          target.glColor4ubv(a0, a1);
+    }
+
+    public void glColor4ubv(ByteBuffer a0)
+    {
+        stats.count("glColor4ubv");
+        if (target != null)
+          target.glColor4ubv(a0);
+    }
+
+    public void glColor4ui(int a0, int a1, int a2, int a3)
+    {
+        stats.count("glColor4ui");
+        if (target != null)
+          target.glColor4ui(a0, a1, a2, a3);
+    }
+
+    public void glColor4uiv(int[] a0, int a1)
+    {
+        stats.count("glColor4uiv");
+        if (target != null)
+          target.glColor4uiv(a0, a1);
+    }
+
+    public void glColor4uiv(IntBuffer a0)
+    {
+        stats.count("glColor4uiv");
+        if (target != null)
+          target.glColor4uiv(a0);
+    }
+
+    public void glColor4us(short a0, short a1, short a2, short a3)
+    {
+        stats.count("glColor4us");
+        if (target != null)
+          target.glColor4us(a0, a1, a2, a3);
+    }
+
+    public void glColor4usv(short[] a0, int a1)
+    {
+        stats.count("glColor4usv");
+        if (target != null)
+          target.glColor4usv(a0, a1);
+    }
+
+    public void glColor4usv(ShortBuffer a0)
+    {
+        stats.count("glColor4usv");
+        if (target != null)
+          target.glColor4usv(a0);
+    }
+
+    public void glColorFragmentOp1ATI(
+        int a0, int a1, int a2, int a3, int a4, int a5, int a6)
+    {
+        stats.count("glColorFragmentOp1ATI");
+        if (target != null)
+          target.glColorFragmentOp1ATI(a0, a1, a2, a3, a4, a5, a6);
+    }
+
+    public void glColorFragmentOp2ATI(
+        int a0, int a1, int a2, int a3, int a4, int a5, int a6, int a7, int a8,
+        int a9)
+    {
+        stats.count("glColorFragmentOp2ATI");
+        if (target != null)
+          target.glColorFragmentOp2ATI(a0, a1, a2, a3, a4, a5, a6, a7, a8, a9);
+    }
+
+    public void glColorFragmentOp3ATI(
+        int a0, int a1, int a2, int a3, int a4, int a5, int a6, int a7, int a8,
+        int a9, int a10, int a11, int a12)
+    {
+        stats.count("glColorFragmentOp3ATI");
+        if (target != null)
+          target.glColorFragmentOp3ATI(a0, a1, a2, a3, a4, a5, a6, a7, a8, a9,
+              a10, a11, a12);
+    }
+
+    public void glColorMask(boolean a0, boolean a1, boolean a2, boolean a3)
+    {
+        stats.count("glColorMask");
+        if (target != null)
+          target.glColorMask(a0, a1, a2, a3);
+    }
+
+    public void glColorMaskIndexedEXT(
+        int a0, boolean a1, boolean a2, boolean a3, boolean a4)
+    {
+        stats.count("glColorMaskIndexedEXT");
+        if (target != null)
+          target.glColorMaskIndexedEXT(a0, a1, a2, a3, a4);
+    }
+
+    public void glColorMaterial(int a0, int a1)
+    {
+        stats.count("glColorMaterial");
+        if (target != null)
+          target.glColorMaterial(a0, a1);
+    }
+
+    public void glColorPointer(int a0, int a1, int a2, Buffer a3)
+    {
+        stats.count("glColorPointer");
+        if (target != null)
+          target.glColorPointer(a0, a1, a2, a3);
+    }
+
+    public void glColorPointer(int a0, int a1, int a2, long a3)
+    {
+        stats.count("glColorPointer");
+        if (target != null)
+          target.glColorPointer(a0, a1, a2, a3);
+    }
+
+    public void glColorSubTable(
+        int a0, int a1, int a2, int a3, int a4, Buffer a5)
+    {
+        stats.count("glColorSubTable");
+        if (target != null)
+          target.glColorSubTable(a0, a1, a2, a3, a4, a5);
+    }
+
+    public void glColorSubTable(
+        int a0, int a1, int a2, int a3, int a4, long a5)
+    {
+        stats.count("glColorSubTable");
+        if (target != null)
+          target.glColorSubTable(a0, a1, a2, a3, a4, a5);
+    }
+
+    public void glColorTable(int a0, int a1, int a2, int a3, int a4, Buffer a5)
+    {
+        stats.count("glColorTable");
+        if (target != null)
+          target.glColorTable(a0, a1, a2, a3, a4, a5);
+    }
+
+    public void glColorTable(int a0, int a1, int a2, int a3, int a4, long a5)
+    {
+        stats.count("glColorTable");
+        if (target != null)
+          target.glColorTable(a0, a1, a2, a3, a4, a5);
+    }
+
+    public void glColorTableEXT(
+        int a0, int a1, int a2, int a3, int a4, Buffer a5)
+    {
+        stats.count("glColorTableEXT");
+        if (target != null)
+          target.glColorTableEXT(a0, a1, a2, a3, a4, a5);
+    }
+
+    public void glColorTableParameterfv(int a0, int a1, float[] a2, int a3)
+    {
+        stats.count("glColorTableParameterfv");
+        if (target != null)
+          target.glColorTableParameterfv(a0, a1, a2, a3);
+    }
+
+    public void glColorTableParameterfv(int a0, int a1, FloatBuffer a2)
+    {
+        stats.count("glColorTableParameterfv");
+        if (target != null)
+          target.glColorTableParameterfv(a0, a1, a2);
+    }
+
+    public void glColorTableParameteriv(int a0, int a1, int[] a2, int a3)
+    {
+        stats.count("glColorTableParameteriv");
+        if (target != null)
+          target.glColorTableParameteriv(a0, a1, a2, a3);
+    }
+
+    public void glColorTableParameteriv(int a0, int a1, IntBuffer a2)
+    {
+        stats.count("glColorTableParameteriv");
+        if (target != null)
+          target.glColorTableParameteriv(a0, a1, a2);
+    }
+
+    public void glCombinerInputNV(
+        int a0, int a1, int a2, int a3, int a4, int a5)
+    {
+        stats.count("glCombinerInputNV");
+        if (target != null)
+          target.glCombinerInputNV(a0, a1, a2, a3, a4, a5);
+    }
+
+    public void glCombinerOutputNV(
+        int a0, int a1, int a2, int a3, int a4, int a5, int a6, boolean a7,
+        boolean a8, boolean a9)
+    {
+        stats.count("glCombinerOutputNV");
+        if (target != null)
+          target.glCombinerOutputNV(a0, a1, a2, a3, a4, a5, a6, a7, a8, a9);
+    }
+
+    public void glCombinerParameterfNV(int a0, float a1)
+    {
+        stats.count("glCombinerParameterfNV");
+        if (target != null)
+          target.glCombinerParameterfNV(a0, a1);
+    }
+
+    public void glCombinerParameterfvNV(int a0, float[] a1, int a2)
+    {
+        stats.count("glCombinerParameterfvNV");
+        if (target != null)
+          target.glCombinerParameterfvNV(a0, a1, a2);
+    }
+
+    public void glCombinerParameterfvNV(int a0, FloatBuffer a1)
+    {
+        stats.count("glCombinerParameterfvNV");
+        if (target != null)
+          target.glCombinerParameterfvNV(a0, a1);
+    }
+
+    public void glCombinerParameteriNV(int a0, int a1)
+    {
+        stats.count("glCombinerParameteriNV");
+        if (target != null)
+          target.glCombinerParameteriNV(a0, a1);
+    }
+
+    public void glCombinerParameterivNV(int a0, int[] a1, int a2)
+    {
+        stats.count("glCombinerParameterivNV");
+        if (target != null)
+          target.glCombinerParameterivNV(a0, a1, a2);
+    }
+
+    public void glCombinerParameterivNV(int a0, IntBuffer a1)
+    {
+        stats.count("glCombinerParameterivNV");
+        if (target != null)
+          target.glCombinerParameterivNV(a0, a1);
+    }
+
+    public void glCombinerStageParameterfvNV(
+        int a0, int a1, float[] a2, int a3)
+    {
+        stats.count("glCombinerStageParameterfvNV");
+        if (target != null)
+          target.glCombinerStageParameterfvNV(a0, a1, a2, a3);
+    }
+
+    public void glCombinerStageParameterfvNV(int a0, int a1, FloatBuffer a2)
+    {
+        stats.count("glCombinerStageParameterfvNV");
+        if (target != null)
+          target.glCombinerStageParameterfvNV(a0, a1, a2);
+    }
+
+    public void glCompileShader(int a0)
+    {
+        stats.count("glCompileShader");
+        if (target != null)
+          target.glCompileShader(a0);
+    }
+
+    public void glCompileShaderARB(int a0)
+    {
+        stats.count("glCompileShaderARB");
+        if (target != null)
+          target.glCompileShaderARB(a0);
+    }
+
+    public void glCompressedTexImage1D(
+        int a0, int a1, int a2, int a3, int a4, int a5, Buffer a6)
+    {
+        stats.count("glCompressedTexImage1D");
+        if (target != null)
+          target.glCompressedTexImage1D(a0, a1, a2, a3, a4, a5, a6);
+    }
+
+    public void glCompressedTexImage1D(
+        int a0, int a1, int a2, int a3, int a4, int a5, long a6)
+    {
+        stats.count("glCompressedTexImage1D");
+        if (target != null)
+          target.glCompressedTexImage1D(a0, a1, a2, a3, a4, a5, a6);
+    }
+
+    public void glCompressedTexImage2D(
+        int a0, int a1, int a2, int a3, int a4, int a5, int a6, Buffer a7)
+    {
+        stats.count("glCompressedTexImage2D");
+        if (target != null)
+          target.glCompressedTexImage2D(a0, a1, a2, a3, a4, a5, a6, a7);
+    }
+
+    public void glCompressedTexImage2D(
+        int a0, int a1, int a2, int a3, int a4, int a5, int a6, long a7)
+    {
+        stats.count("glCompressedTexImage2D");
+        if (target != null)
+          target.glCompressedTexImage2D(a0, a1, a2, a3, a4, a5, a6, a7);
+    }
+
+    public void glCompressedTexImage3D(
+        int a0, int a1, int a2, int a3, int a4, int a5, int a6, int a7,
+        Buffer a8)
+    {
+        stats.count("glCompressedTexImage3D");
+        if (target != null)
+          target.glCompressedTexImage3D(a0, a1, a2, a3, a4, a5, a6, a7, a8);
+    }
+
+    public void glCompressedTexImage3D(
+        int a0, int a1, int a2, int a3, int a4, int a5, int a6, int a7,
+        long a8)
+    {
+        stats.count("glCompressedTexImage3D");
+        if (target != null)
+          target.glCompressedTexImage3D(a0, a1, a2, a3, a4, a5, a6, a7, a8);
+    }
+
+    public void glCompressedTexSubImage1D(
+        int a0, int a1, int a2, int a3, int a4, int a5, Buffer a6)
+    {
+        stats.count("glCompressedTexSubImage1D");
+        if (target != null)
+          target.glCompressedTexSubImage1D(a0, a1, a2, a3, a4, a5, a6);
+    }
+
+    public void glCompressedTexSubImage1D(
+        int a0, int a1, int a2, int a3, int a4, int a5, long a6)
+    {
+        stats.count("glCompressedTexSubImage1D");
+        if (target != null)
+          target.glCompressedTexSubImage1D(a0, a1, a2, a3, a4, a5, a6);
+    }
+
+    public void glCompressedTexSubImage2D(
+        int a0, int a1, int a2, int a3, int a4, int a5, int a6, int a7,
+        Buffer a8)
+    {
+        stats.count("glCompressedTexSubImage2D");
+        if (target != null)
+          target.glCompressedTexSubImage2D(a0, a1, a2, a3, a4, a5, a6, a7, a8);
+    }
+
+    public void glCompressedTexSubImage2D(
+        int a0, int a1, int a2, int a3, int a4, int a5, int a6, int a7,
+        long a8)
+    {
+        stats.count("glCompressedTexSubImage2D");
+        if (target != null)
+          target.glCompressedTexSubImage2D(a0, a1, a2, a3, a4, a5, a6, a7, a8);
+    }
+
+    public void glCompressedTexSubImage3D(
+        int a0, int a1, int a2, int a3, int a4, int a5, int a6, int a7, int a8,
+        int a9, Buffer a10)
+    {
+        stats.count("glCompressedTexSubImage3D");
+        if (target != null)
+          target.glCompressedTexSubImage3D(a0, a1, a2, a3, a4, a5, a6, a7, a8,
+              a9, a10);
+    }
+
+    public void glCompressedTexSubImage3D(
+        int a0, int a1, int a2, int a3, int a4, int a5, int a6, int a7, int a8,
+        int a9, long a10)
+    {
+        stats.count("glCompressedTexSubImage3D");
+        if (target != null)
+          target.glCompressedTexSubImage3D(a0, a1, a2, a3, a4, a5, a6, a7, a8,
+              a9, a10);
+    }
+
+    public void glConvolutionFilter1D(
+        int a0, int a1, int a2, int a3, int a4, Buffer a5)
+    {
+        stats.count("glConvolutionFilter1D");
+        if (target != null)
+          target.glConvolutionFilter1D(a0, a1, a2, a3, a4, a5);
+    }
+
+    public void glConvolutionFilter1D(
+        int a0, int a1, int a2, int a3, int a4, long a5)
+    {
+        stats.count("glConvolutionFilter1D");
+        if (target != null)
+          target.glConvolutionFilter1D(a0, a1, a2, a3, a4, a5);
+    }
+
+    public void glConvolutionFilter2D(
+        int a0, int a1, int a2, int a3, int a4, int a5, Buffer a6)
+    {
+        stats.count("glConvolutionFilter2D");
+        if (target != null)
+          target.glConvolutionFilter2D(a0, a1, a2, a3, a4, a5, a6);
+    }
+
+    public void glConvolutionFilter2D(
+        int a0, int a1, int a2, int a3, int a4, int a5, long a6)
+    {
+        stats.count("glConvolutionFilter2D");
+        if (target != null)
+          target.glConvolutionFilter2D(a0, a1, a2, a3, a4, a5, a6);
+    }
+
+    public void glConvolutionParameterf(int a0, int a1, float a2)
+    {
+        stats.count("glConvolutionParameterf");
+        if (target != null)
+          target.glConvolutionParameterf(a0, a1, a2);
+    }
+
+    public void glConvolutionParameterfv(int a0, int a1, float[] a2, int a3)
+    {
+        stats.count("glConvolutionParameterfv");
+        if (target != null)
+          target.glConvolutionParameterfv(a0, a1, a2, a3);
+    }
+
+    public void glConvolutionParameterfv(int a0, int a1, FloatBuffer a2)
+    {
+        stats.count("glConvolutionParameterfv");
+        if (target != null)
+          target.glConvolutionParameterfv(a0, a1, a2);
+    }
+
+    public void glConvolutionParameteri(int a0, int a1, int a2)
+    {
+        stats.count("glConvolutionParameteri");
+        if (target != null)
+          target.glConvolutionParameteri(a0, a1, a2);
+    }
+
+    public void glConvolutionParameteriv(int a0, int a1, int[] a2, int a3)
+    {
+        stats.count("glConvolutionParameteriv");
+        if (target != null)
+          target.glConvolutionParameteriv(a0, a1, a2, a3);
+    }
+
+    public void glConvolutionParameteriv(int a0, int a1, IntBuffer a2)
+    {
+        stats.count("glConvolutionParameteriv");
+        if (target != null)
+          target.glConvolutionParameteriv(a0, a1, a2);
+    }
+
+    public void glCopyColorSubTable(int a0, int a1, int a2, int a3, int a4)
+    {
+        stats.count("glCopyColorSubTable");
+        if (target != null)
+          target.glCopyColorSubTable(a0, a1, a2, a3, a4);
+    }
+
+    public void glCopyColorTable(int a0, int a1, int a2, int a3, int a4)
+    {
+        stats.count("glCopyColorTable");
+        if (target != null)
+          target.glCopyColorTable(a0, a1, a2, a3, a4);
+    }
+
+    public void glCopyConvolutionFilter1D(
+        int a0, int a1, int a2, int a3, int a4)
+    {
+        stats.count("glCopyConvolutionFilter1D");
+        if (target != null)
+          target.glCopyConvolutionFilter1D(a0, a1, a2, a3, a4);
+    }
+
+    public void glCopyConvolutionFilter2D(
+        int a0, int a1, int a2, int a3, int a4, int a5)
+    {
+        stats.count("glCopyConvolutionFilter2D");
+        if (target != null)
+          target.glCopyConvolutionFilter2D(a0, a1, a2, a3, a4, a5);
+    }
+
+    public void glCopyPixels(int a0, int a1, int a2, int a3, int a4)
+    {
+        stats.count("glCopyPixels");
+        if (target != null)
+          target.glCopyPixels(a0, a1, a2, a3, a4);
+    }
+
+    public void glCopyTexImage1D(
+        int a0, int a1, int a2, int a3, int a4, int a5, int a6)
+    {
+        stats.count("glCopyTexImage1D");
+        if (target != null)
+          target.glCopyTexImage1D(a0, a1, a2, a3, a4, a5, a6);
+    }
+
+    public void glCopyTexImage2D(
+        int a0, int a1, int a2, int a3, int a4, int a5, int a6, int a7)
+    {
+        stats.count("glCopyTexImage2D");
+        if (target != null)
+          target.glCopyTexImage2D(a0, a1, a2, a3, a4, a5, a6, a7);
+    }
+
+    public void glCopyTexSubImage1D(
+        int a0, int a1, int a2, int a3, int a4, int a5)
+    {
+        stats.count("glCopyTexSubImage1D");
+        if (target != null)
+          target.glCopyTexSubImage1D(a0, a1, a2, a3, a4, a5);
+    }
+
+    public void glCopyTexSubImage2D(
+        int a0, int a1, int a2, int a3, int a4, int a5, int a6, int a7)
+    {
+        stats.count("glCopyTexSubImage2D");
+        if (target != null)
+          target.glCopyTexSubImage2D(a0, a1, a2, a3, a4, a5, a6, a7);
+    }
+
+    public void glCopyTexSubImage3D(
+        int a0, int a1, int a2, int a3, int a4, int a5, int a6, int a7, int a8)
+    {
+        stats.count("glCopyTexSubImage3D");
+        if (target != null)
+          target.glCopyTexSubImage3D(a0, a1, a2, a3, a4, a5, a6, a7, a8);
+    }
+
+    public int glCreateProgram()
+    {
+        stats.count("glCreateProgram");
+        return (target != null) ? target.glCreateProgram() : 0;
+    }
+
+    public int glCreateProgramObjectARB()
+    {
+        stats.count("glCreateProgramObjectARB");
+        return (target != null) ? target.glCreateProgramObjectARB() : 0;
+    }
+
+    public int glCreateShader(int a0)
+    {
+        stats.count("glCreateShader");
+        return (target != null) ? target.glCreateShader(a0) : 0;
+    }
+
+    public int glCreateShaderObjectARB(int a0)
+    {
+        stats.count("glCreateShaderObjectARB");
+        return (target != null) ? target.glCreateShaderObjectARB(a0) : 0;
+    }
+
+    public void glCullFace(int a0)
+    {
+        stats.count("glCullFace");
+        if (target != null)
+          target.glCullFace(a0);
+    }
+
+    public void glCullParameterdvEXT(int a0, double[] a1, int a2)
+    {
+        stats.count("glCullParameterdvEXT");
+        if (target != null)
+          target.glCullParameterdvEXT(a0, a1, a2);
+    }
+
+    public void glCullParameterdvEXT(int a0, DoubleBuffer a1)
+    {
+        stats.count("glCullParameterdvEXT");
+        if (target != null)
+          target.glCullParameterdvEXT(a0, a1);
+    }
+
+    public void glCullParameterfvEXT(int a0, float[] a1, int a2)
+    {
+        stats.count("glCullParameterfvEXT");
+        if (target != null)
+          target.glCullParameterfvEXT(a0, a1, a2);
+    }
+
+    public void glCullParameterfvEXT(int a0, FloatBuffer a1)
+    {
+        stats.count("glCullParameterfvEXT");
+        if (target != null)
+          target.glCullParameterfvEXT(a0, a1);
+    }
+
+    public void glCurrentPaletteMatrixARB(int a0)
+    {
+        stats.count("glCurrentPaletteMatrixARB");
+        if (target != null)
+          target.glCurrentPaletteMatrixARB(a0);
+    }
+
+    public void glDeformSGIX(int a0)
+    {
+        stats.count("glDeformSGIX");
+        if (target != null)
+          target.glDeformSGIX(a0);
+    }
+
+    public void glDeformationMap3dSGIX(
+        int a0, double a1, double a2, int a3, int a4, double a5, double a6,
+        int a7, int a8, double a9, double a10, int a11, int a12, double[] a13,
+        int a14)
+    {
+        stats.count("glDeformationMap3dSGIX");
+        if (target != null)
+          target.glDeformationMap3dSGIX(a0, a1, a2, a3, a4, a5, a6, a7, a8, a9,
+              a10, a11, a12, a13, a14);
+    }
+
+    public void glDeformationMap3dSGIX(
+        int a0, double a1, double a2, int a3, int a4, double a5, double a6,
+        int a7, int a8, double a9, double a10, int a11, int a12,
+        DoubleBuffer a13)
+    {
+        stats.count("glDeformationMap3dSGIX");
+        if (target != null)
+          target.glDeformationMap3dSGIX(a0, a1, a2, a3, a4, a5, a6, a7, a8, a9,
+              a10, a11, a12, a13);
+    }
+
+    public void glDeformationMap3fSGIX(
+        int a0, float a1, float a2, int a3, int a4, float a5, float a6, int a7,
+        int a8, float a9, float a10, int a11, int a12, float[] a13, int a14)
+    {
+        stats.count("glDeformationMap3fSGIX");
+        if (target != null)
+          target.glDeformationMap3fSGIX(a0, a1, a2, a3, a4, a5, a6, a7, a8, a9,
+              a10, a11, a12, a13, a14);
+    }
+
+    public void glDeformationMap3fSGIX(
+        int a0, float a1, float a2, int a3, int a4, float a5, float a6, int a7,
+        int a8, float a9, float a10, int a11, int a12, FloatBuffer a13)
+    {
+        stats.count("glDeformationMap3fSGIX");
+        if (target != null)
+          target.glDeformationMap3fSGIX(a0, a1, a2, a3, a4, a5, a6, a7, a8, a9,
+              a10, a11, a12, a13);
+    }
+
+    public void glDeleteAsyncMarkersSGIX(int a0, int a1)
+    {
+        stats.count("glDeleteAsyncMarkersSGIX");
+        if (target != null)
+          target.glDeleteAsyncMarkersSGIX(a0, a1);
+    }
+
+    public void glDeleteBufferRegion(int a0)
+    {
+        stats.count("glDeleteBufferRegion");
+        if (target != null)
+          target.glDeleteBufferRegion(a0);
+    }
+
+    public void glDeleteBuffers(int a0, int[] a1, int a2)
+    {
+        stats.count("glDeleteBuffers");
+        if (target != null)
+          target.glDeleteBuffers(a0, a1, a2);
+    }
+
+    public void glDeleteBuffers(int a0, IntBuffer a1)
+    {
+        stats.count("glDeleteBuffers");
+        if (target != null)
+          target.glDeleteBuffers(a0, a1);
+    }
+
+    public void glDeleteBuffersARB(int a0, int[] a1, int a2)
+    {
+        stats.count("glDeleteBuffersARB");
+        if (target != null)
+          target.glDeleteBuffersARB(a0, a1, a2);
+    }
+
+    public void glDeleteBuffersARB(int a0, IntBuffer a1)
+    {
+        stats.count("glDeleteBuffersARB");
+        if (target != null)
+          target.glDeleteBuffersARB(a0, a1);
+    }
+
+    public void glDeleteFencesAPPLE(int a0, int[] a1, int a2)
+    {
+        stats.count("glDeleteFencesAPPLE");
+        if (target != null)
+          target.glDeleteFencesAPPLE(a0, a1, a2);
+    }
+
+    public void glDeleteFencesAPPLE(int a0, IntBuffer a1)
+    {
+        stats.count("glDeleteFencesAPPLE");
+        if (target != null)
+          target.glDeleteFencesAPPLE(a0, a1);
+    }
+
+    public void glDeleteFencesNV(int a0, int[] a1, int a2)
+    {
+        stats.count("glDeleteFencesNV");
+        if (target != null)
+          target.glDeleteFencesNV(a0, a1, a2);
+    }
+
+    public void glDeleteFencesNV(int a0, IntBuffer a1)
+    {
+        stats.count("glDeleteFencesNV");
+        if (target != null)
+          target.glDeleteFencesNV(a0, a1);
+    }
+
+    public void glDeleteFragmentShaderATI(int a0)
+    {
+        stats.count("glDeleteFragmentShaderATI");
+        if (target != null)
+          target.glDeleteFragmentShaderATI(a0);
+    }
+
+    public void glDeleteFramebuffersEXT(int a0, int[] a1, int a2)
+    {
+        stats.count("glDeleteFramebuffersEXT");
+        if (target != null)
+          target.glDeleteFramebuffersEXT(a0, a1, a2);
+    }
+
+    public void glDeleteFramebuffersEXT(int a0, IntBuffer a1)
+    {
+        stats.count("glDeleteFramebuffersEXT");
+        if (target != null)
+          target.glDeleteFramebuffersEXT(a0, a1);
+    }
+
+    public void glDeleteLists(int a0, int a1)
+    {
+        stats.count("glDeleteLists");
+        if (target != null)
+          target.glDeleteLists(a0, a1);
+    }
+
+    public void glDeleteObjectARB(int a0)
+    {
+        stats.count("glDeleteObjectARB");
+        if (target != null)
+          target.glDeleteObjectARB(a0);
+    }
+
+    public void glDeleteOcclusionQueriesNV(int a0, int[] a1, int a2)
+    {
+        stats.count("glDeleteOcclusionQueriesNV");
+        if (target != null)
+          target.glDeleteOcclusionQueriesNV(a0, a1, a2);
+    }
+
+    public void glDeleteOcclusionQueriesNV(int a0, IntBuffer a1)
+    {
+        stats.count("glDeleteOcclusionQueriesNV");
+        if (target != null)
+          target.glDeleteOcclusionQueriesNV(a0, a1);
+    }
+
+    public void glDeleteProgram(int a0)
+    {
+        stats.count("glDeleteProgram");
+        if (target != null)
+          target.glDeleteProgram(a0);
+    }
+
+    public void glDeleteProgramsARB(int a0, int[] a1, int a2)
+    {
+        stats.count("glDeleteProgramsARB");
+        if (target != null)
+          target.glDeleteProgramsARB(a0, a1, a2);
+    }
+
+    public void glDeleteProgramsARB(int a0, IntBuffer a1)
+    {
+        stats.count("glDeleteProgramsARB");
+        if (target != null)
+          target.glDeleteProgramsARB(a0, a1);
+    }
+
+    public void glDeleteProgramsNV(int a0, int[] a1, int a2)
+    {
+        stats.count("glDeleteProgramsNV");
+        if (target != null)
+          target.glDeleteProgramsNV(a0, a1, a2);
+    }
+
+    public void glDeleteProgramsNV(int a0, IntBuffer a1)
+    {
+        stats.count("glDeleteProgramsNV");
+        if (target != null)
+          target.glDeleteProgramsNV(a0, a1);
+    }
+
+    public void glDeleteQueries(int a0, int[] a1, int a2)
+    {
+        stats.count("glDeleteQueries");
+        if (target != null)
+          target.glDeleteQueries(a0, a1, a2);
+    }
+
+    public void glDeleteQueries(int a0, IntBuffer a1)
+    {
+        stats.count("glDeleteQueries");
+        if (target != null)
+          target.glDeleteQueries(a0, a1);
+    }
+
+    public void glDeleteQueriesARB(int a0, int[] a1, int a2)
+    {
+        stats.count("glDeleteQueriesARB");
+        if (target != null)
+          target.glDeleteQueriesARB(a0, a1, a2);
+    }
+
+    public void glDeleteQueriesARB(int a0, IntBuffer a1)
+    {
+        stats.count("glDeleteQueriesARB");
+        if (target != null)
+          target.glDeleteQueriesARB(a0, a1);
+    }
+
+    public void glDeleteRenderbuffersEXT(int a0, int[] a1, int a2)
+    {
+        stats.count("glDeleteRenderbuffersEXT");
+        if (target != null)
+          target.glDeleteRenderbuffersEXT(a0, a1, a2);
+    }
+
+    public void glDeleteRenderbuffersEXT(int a0, IntBuffer a1)
+    {
+        stats.count("glDeleteRenderbuffersEXT");
+        if (target != null)
+          target.glDeleteRenderbuffersEXT(a0, a1);
+    }
+
+    public void glDeleteShader(int a0)
+    {
+        stats.count("glDeleteShader");
+        if (target != null)
+          target.glDeleteShader(a0);
+    }
+
+    public void glDeleteTextures(int a0, int[] a1, int a2)
+    {
+        stats.count("glDeleteTextures");
+        if (target != null)
+          target.glDeleteTextures(a0, a1, a2);
+    }
+
+    public void glDeleteTextures(int a0, IntBuffer a1)
+    {
+        stats.count("glDeleteTextures");
+        if (target != null)
+          target.glDeleteTextures(a0, a1);
+    }
+
+    public void glDeleteVertexArraysAPPLE(int a0, int[] a1, int a2)
+    {
+        stats.count("glDeleteVertexArraysAPPLE");
+        if (target != null)
+          target.glDeleteVertexArraysAPPLE(a0, a1, a2);
+    }
+
+    public void glDeleteVertexArraysAPPLE(int a0, IntBuffer a1)
+    {
+        stats.count("glDeleteVertexArraysAPPLE");
+        if (target != null)
+          target.glDeleteVertexArraysAPPLE(a0, a1);
+    }
+
+    public void glDeleteVertexShaderEXT(int a0)
+    {
+        stats.count("glDeleteVertexShaderEXT");
+        if (target != null)
+          target.glDeleteVertexShaderEXT(a0);
+    }
+
+    public void glDepthBoundsEXT(double a0, double a1)
+    {
+        stats.count("glDepthBoundsEXT");
+        if (target != null)
+          target.glDepthBoundsEXT(a0, a1);
+    }
+
+    public void glDepthBoundsdNV(double a0, double a1)
+    {
+        stats.count("glDepthBoundsdNV");
+        if (target != null)
+          target.glDepthBoundsdNV(a0, a1);
+    }
+
+    public void glDepthFunc(int a0)
+    {
+        stats.count("glDepthFunc");
+        if (target != null)
+          target.glDepthFunc(a0);
+    }
+
+    public void glDepthMask(boolean a0)
+    {
+        stats.count("glDepthMask");
+        if (target != null)
+          target.glDepthMask(a0);
+    }
+
+    public void glDepthRange(double a0, double a1)
+    {
+        stats.count("glDepthRange");
+        if (target != null)
+          target.glDepthRange(a0, a1);
+    }
+
+    public void glDepthRangedNV(double a0, double a1)
+    {
+        stats.count("glDepthRangedNV");
+        if (target != null)
+          target.glDepthRangedNV(a0, a1);
+    }
+
+    public void glDetachObjectARB(int a0, int a1)
+    {
+        stats.count("glDetachObjectARB");
+        if (target != null)
+          target.glDetachObjectARB(a0, a1);
+    }
+
+    public void glDetachShader(int a0, int a1)
+    {
+        stats.count("glDetachShader");
+        if (target != null)
+          target.glDetachShader(a0, a1);
+    }
+
+    public void glDetailTexFuncSGIS(int a0, int a1, float[] a2, int a3)
+    {
+        stats.count("glDetailTexFuncSGIS");
+        if (target != null)
+          target.glDetailTexFuncSGIS(a0, a1, a2, a3);
+    }
+
+    public void glDetailTexFuncSGIS(int a0, int a1, FloatBuffer a2)
+    {
+        stats.count("glDetailTexFuncSGIS");
+        if (target != null)
+          target.glDetailTexFuncSGIS(a0, a1, a2);
+    }
+
+    public void glDisable(int a0)
+    {
+        stats.count("glDisable");
+        if (target != null)
+          target.glDisable(a0);
+    }
+
+    public void glDisableClientState(int a0)
+    {
+        stats.count("glDisableClientState");
+        if (target != null)
+          target.glDisableClientState(a0);
+    }
+
+    public void glDisableIndexedEXT(int a0, int a1)
+    {
+        stats.count("glDisableIndexedEXT");
+        if (target != null)
+          target.glDisableIndexedEXT(a0, a1);
+    }
+
+    public void glDisableVariantClientStateEXT(int a0)
+    {
+        stats.count("glDisableVariantClientStateEXT");
+        if (target != null)
+          target.glDisableVariantClientStateEXT(a0);
+    }
+
+    public void glDisableVertexAttribAPPLE(int a0, int a1)
+    {
+        stats.count("glDisableVertexAttribAPPLE");
+        if (target != null)
+          target.glDisableVertexAttribAPPLE(a0, a1);
+    }
+
+    public void glDisableVertexAttribArray(int a0)
+    {
+        stats.count("glDisableVertexAttribArray");
+        if (target != null)
+          target.glDisableVertexAttribArray(a0);
+    }
+
+    public void glDisableVertexAttribArrayARB(int a0)
+    {
+        stats.count("glDisableVertexAttribArrayARB");
+        if (target != null)
+          target.glDisableVertexAttribArrayARB(a0);
+    }
+
+    public void glDrawArrays(int a0, int a1, int a2)
+    {
+        stats.count("glDrawArrays");
+        if (target != null)
+          target.glDrawArrays(a0, a1, a2);
+    }
+
+    public void glDrawArraysInstancedEXT(int a0, int a1, int a2, int a3)
+    {
+        stats.count("glDrawArraysInstancedEXT");
+        if (target != null)
+          target.glDrawArraysInstancedEXT(a0, a1, a2, a3);
+    }
+
+    public void glDrawBuffer(int a0)
+    {
+        stats.count("glDrawBuffer");
+        if (target != null)
+          target.glDrawBuffer(a0);
+    }
+
+    public void glDrawBufferRegion(
+        int a0, int a1, int a2, int a3, int a4, int a5, int a6)
+    {
+        stats.count("glDrawBufferRegion");
+        if (target != null)
+          target.glDrawBufferRegion(a0, a1, a2, a3, a4, a5, a6);
+    }
+
+    public void glDrawBuffers(int a0, int[] a1, int a2)
+    {
+        stats.count("glDrawBuffers");
+        if (target != null)
+          target.glDrawBuffers(a0, a1, a2);
+    }
+
+    public void glDrawBuffers(int a0, IntBuffer a1)
+    {
+        stats.count("glDrawBuffers");
+        if (target != null)
+          target.glDrawBuffers(a0, a1);
+    }
+
+    public void glDrawBuffersARB(int a0, int[] a1, int a2)
+    {
+        stats.count("glDrawBuffersARB");
+        if (target != null)
+          target.glDrawBuffersARB(a0, a1, a2);
+    }
+
+    public void glDrawBuffersARB(int a0, IntBuffer a1)
+    {
+        stats.count("glDrawBuffersARB");
+        if (target != null)
+          target.glDrawBuffersARB(a0, a1);
+    }
+
+    public void glDrawBuffersATI(int a0, int[] a1, int a2)
+    {
+        stats.count("glDrawBuffersATI");
+        if (target != null)
+          target.glDrawBuffersATI(a0, a1, a2);
+    }
+
+    public void glDrawBuffersATI(int a0, IntBuffer a1)
+    {
+        stats.count("glDrawBuffersATI");
+        if (target != null)
+          target.glDrawBuffersATI(a0, a1);
+    }
+
+    public void glDrawElementArrayAPPLE(int a0, int a1, int a2)
+    {
+        stats.count("glDrawElementArrayAPPLE");
+        if (target != null)
+          target.glDrawElementArrayAPPLE(a0, a1, a2);
+    }
+
+    public void glDrawElementArrayATI(int a0, int a1)
+    {
+        stats.count("glDrawElementArrayATI");
+        if (target != null)
+          target.glDrawElementArrayATI(a0, a1);
+    }
+
+    public void glDrawElements(int a0, int a1, int a2, Buffer a3)
+    {
+        stats.count("glDrawElements");
+        if (target != null)
+          target.glDrawElements(a0, a1, a2, a3);
+    }
+
+    public void glDrawElements(int a0, int a1, int a2, long a3)
+    {
+        stats.count("glDrawElements");
+        if (target != null)
+          target.glDrawElements(a0, a1, a2, a3);
+    }
+
+    public void glDrawElementsInstancedEXT(
+        int a0, int a1, int a2, Buffer a3, int a4)
+    {
+        stats.count("glDrawElementsInstancedEXT");
+        if (target != null)
+          target.glDrawElementsInstancedEXT(a0, a1, a2, a3, a4);
+    }
+
+    public void glDrawMeshArraysSUN(int a0, int a1, int a2, int a3)
+    {
+        stats.count("glDrawMeshArraysSUN");
+        if (target != null)
+          target.glDrawMeshArraysSUN(a0, a1, a2, a3);
+    }
+
+    public void glDrawPixels(int a0, int a1, int a2, int a3, Buffer a4)
+    {
+        stats.count("glDrawPixels");
+        if (target != null)
+          target.glDrawPixels(a0, a1, a2, a3, a4);
+    }
+
+    public void glDrawPixels(int a0, int a1, int a2, int a3, long a4)
+    {
+        stats.count("glDrawPixels");
+        if (target != null)
+          target.glDrawPixels(a0, a1, a2, a3, a4);
+    }
+
+    public void glDrawRangeElementArrayAPPLE(
+        int a0, int a1, int a2, int a3, int a4)
+    {
+        stats.count("glDrawRangeElementArrayAPPLE");
+        if (target != null)
+          target.glDrawRangeElementArrayAPPLE(a0, a1, a2, a3, a4);
+    }
+
+    public void glDrawRangeElementArrayATI(int a0, int a1, int a2, int a3)
+    {
+        stats.count("glDrawRangeElementArrayATI");
+        if (target != null)
+          target.glDrawRangeElementArrayATI(a0, a1, a2, a3);
+    }
+
+    public void glDrawRangeElements(
+        int a0, int a1, int a2, int a3, int a4, Buffer a5)
+    {
+        stats.count("glDrawRangeElements");
+        if (target != null)
+          target.glDrawRangeElements(a0, a1, a2, a3, a4, a5);
+    }
+
+    public void glDrawRangeElements(
+        int a0, int a1, int a2, int a3, int a4, long a5)
+    {
+        stats.count("glDrawRangeElements");
+        if (target != null)
+          target.glDrawRangeElements(a0, a1, a2, a3, a4, a5);
+    }
+
+    public void glEdgeFlag(boolean a0)
+    {
+        stats.count("glEdgeFlag");
+        if (target != null)
+          target.glEdgeFlag(a0);
+    }
+
+    public void glEdgeFlagPointer(int a0, Buffer a1)
+    {
+        stats.count("glEdgeFlagPointer");
+        if (target != null)
+          target.glEdgeFlagPointer(a0, a1);
+    }
+
+    public void glEdgeFlagPointer(int a0, long a1)
+    {
+        stats.count("glEdgeFlagPointer");
+        if (target != null)
+          target.glEdgeFlagPointer(a0, a1);
+    }
+
+    public void glEdgeFlagv(byte[] a0, int a1)
+    {
+        stats.count("glEdgeFlagv");
+        if (target != null)
+          target.glEdgeFlagv(a0, a1);
+    }
+
+    public void glEdgeFlagv(ByteBuffer a0)
+    {
+        stats.count("glEdgeFlagv");
+        if (target != null)
+          target.glEdgeFlagv(a0);
+    }
+
+    public void glElementPointerAPPLE(int a0, Buffer a1)
+    {
+        stats.count("glElementPointerAPPLE");
+        if (target != null)
+          target.glElementPointerAPPLE(a0, a1);
+    }
+
+    public void glElementPointerATI(int a0, Buffer a1)
+    {
+        stats.count("glElementPointerATI");
+        if (target != null)
+          target.glElementPointerATI(a0, a1);
+    }
+
+    public void glElementPointerATI(int a0, long a1)
+    {
+        stats.count("glElementPointerATI");
+        if (target != null)
+          target.glElementPointerATI(a0, a1);
+    }
+
+    public void glEnable(int a0)
+    {
+        stats.count("glEnable");
+        if (target != null)
+          target.glEnable(a0);
+    }
+
+    public void glEnableClientState(int a0)
+    {
+        stats.count("glEnableClientState");
+        if (target != null)
+          target.glEnableClientState(a0);
+    }
+
+    public void glEnableIndexedEXT(int a0, int a1)
+    {
+        stats.count("glEnableIndexedEXT");
+        if (target != null)
+          target.glEnableIndexedEXT(a0, a1);
+    }
+
+    public void glEnableVariantClientStateEXT(int a0)
+    {
+        stats.count("glEnableVariantClientStateEXT");
+        if (target != null)
+          target.glEnableVariantClientStateEXT(a0);
+    }
+
+    public void glEnableVertexAttribAPPLE(int a0, int a1)
+    {
+        stats.count("glEnableVertexAttribAPPLE");
+        if (target != null)
+          target.glEnableVertexAttribAPPLE(a0, a1);
+    }
+
+    public void glEnableVertexAttribArray(int a0)
+    {
+        stats.count("glEnableVertexAttribArray");
+        if (target != null)
+          target.glEnableVertexAttribArray(a0);
+    }
+
+    public void glEnableVertexAttribArrayARB(int a0)
+    {
+        stats.count("glEnableVertexAttribArrayARB");
+        if (target != null)
+          target.glEnableVertexAttribArrayARB(a0);
+    }
+
+    public void glEnd()
+    {
+        stats.count("glEnd");
+        stats.end();
+        if (target != null)
+          target.glEnd();
+    }
+
+    public void glEndFragmentShaderATI()
+    {
+        stats.count("glEndFragmentShaderATI");
+        if (target != null)
+          target.glEndFragmentShaderATI();
+    }
+
+    public void glEndList()
+    {
+        stats.count("glEndList");
+        if (target != null)
+          target.glEndList();
+    }
+
+    public void glEndOcclusionQueryNV()
+    {
+        stats.count("glEndOcclusionQueryNV");
+        if (target != null)
+          target.glEndOcclusionQueryNV();
+    }
+
+    public void glEndQuery(int a0)
+    {
+        stats.count("glEndQuery");
+        if (target != null)
+          target.glEndQuery(a0);
+    }
+
+    public void glEndQueryARB(int a0)
+    {
+        stats.count("glEndQueryARB");
+        if (target != null)
+          target.glEndQueryARB(a0);
+    }
+
+    public void glEndTransformFeedbackNV()
+    {
+        stats.count("glEndTransformFeedbackNV");
+        if (target != null)
+          target.glEndTransformFeedbackNV();
+    }
+
+    public void glEndVertexShaderEXT()
+    {
+        stats.count("glEndVertexShaderEXT");
+        if (target != null)
+          target.glEndVertexShaderEXT();
+    }
+
+    public void glEvalCoord1d(double a0)
+    {
+        stats.count("glEvalCoord1d");
+        if (target != null)
+          target.glEvalCoord1d(a0);
+    }
+
+    public void glEvalCoord1dv(double[] a0, int a1)
+    {
+        stats.count("glEvalCoord1dv");
+        if (target != null)
+          target.glEvalCoord1dv(a0, a1);
+    }
+
+    public void glEvalCoord1dv(DoubleBuffer a0)
+    {
+        stats.count("glEvalCoord1dv");
+        if (target != null)
+          target.glEvalCoord1dv(a0);
+    }
+
+    public void glEvalCoord1f(float a0)
+    {
+        stats.count("glEvalCoord1f");
+        if (target != null)
+          target.glEvalCoord1f(a0);
+    }
+
+    public void glEvalCoord1fv(float[] a0, int a1)
+    {
+        stats.count("glEvalCoord1fv");
+        if (target != null)
+          target.glEvalCoord1fv(a0, a1);
+    }
+
+    public void glEvalCoord1fv(FloatBuffer a0)
+    {
+        stats.count("glEvalCoord1fv");
+        if (target != null)
+          target.glEvalCoord1fv(a0);
+    }
+
+    public void glEvalCoord2d(double a0, double a1)
+    {
+        stats.count("glEvalCoord2d");
+        if (target != null)
+          target.glEvalCoord2d(a0, a1);
+    }
+
+    public void glEvalCoord2dv(double[] a0, int a1)
+    {
+        stats.count("glEvalCoord2dv");
+        if (target != null)
+          target.glEvalCoord2dv(a0, a1);
+    }
+
+    public void glEvalCoord2dv(DoubleBuffer a0)
+    {
+        stats.count("glEvalCoord2dv");
+        if (target != null)
+          target.glEvalCoord2dv(a0);
+    }
+
+    public void glEvalCoord2f(float a0, float a1)
+    {
+        stats.count("glEvalCoord2f");
+        if (target != null)
+          target.glEvalCoord2f(a0, a1);
+    }
+
+    public void glEvalCoord2fv(float[] a0, int a1)
+    {
+        stats.count("glEvalCoord2fv");
+        if (target != null)
+          target.glEvalCoord2fv(a0, a1);
+    }
+
+    public void glEvalCoord2fv(FloatBuffer a0)
+    {
+        stats.count("glEvalCoord2fv");
+        if (target != null)
+          target.glEvalCoord2fv(a0);
+    }
+
+    public void glEvalMapsNV(int a0, int a1)
+    {
+        stats.count("glEvalMapsNV");
+        if (target != null)
+          target.glEvalMapsNV(a0, a1);
+    }
+
+    public void glEvalMesh1(int a0, int a1, int a2)
+    {
+        stats.count("glEvalMesh1");
+        if (target != null)
+          target.glEvalMesh1(a0, a1, a2);
+    }
+
+    public void glEvalMesh2(int a0, int a1, int a2, int a3, int a4)
+    {
+        stats.count("glEvalMesh2");
+        if (target != null)
+          target.glEvalMesh2(a0, a1, a2, a3, a4);
+    }
+
+    public void glEvalPoint1(int a0)
+    {
+        stats.count("glEvalPoint1");
+        if (target != null)
+          target.glEvalPoint1(a0);
+    }
+
+    public void glEvalPoint2(int a0, int a1)
+    {
+        stats.count("glEvalPoint2");
+        if (target != null)
+          target.glEvalPoint2(a0, a1);
+    }
+
+    public void glExecuteProgramNV(int a0, int a1, float[] a2, int a3)
+    {
+        stats.count("glExecuteProgramNV");
+        if (target != null)
+          target.glExecuteProgramNV(a0, a1, a2, a3);
+    }
+
+    public void glExecuteProgramNV(int a0, int a1, FloatBuffer a2)
+    {
+        stats.count("glExecuteProgramNV");
+        if (target != null)
+          target.glExecuteProgramNV(a0, a1, a2);
+    }
+
+    public void glExtractComponentEXT(int a0, int a1, int a2)
+    {
+        stats.count("glExtractComponentEXT");
+        if (target != null)
+          target.glExtractComponentEXT(a0, a1, a2);
+    }
+
+    public void glFeedbackBuffer(int a0, int a1, FloatBuffer a2)
+    {
+        stats.count("glFeedbackBuffer");
+        if (target != null)
+          target.glFeedbackBuffer(a0, a1, a2);
+    }
+
+    public void glFinalCombinerInputNV(int a0, int a1, int a2, int a3)
+    {
+        stats.count("glFinalCombinerInputNV");
+        if (target != null)
+          target.glFinalCombinerInputNV(a0, a1, a2, a3);
+    }
+
+    public void glFinish()
+    {
+        stats.count("glFinish");
+        if (target != null)
+          target.glFinish();
+    }
+
+    public int glFinishAsyncSGIX(int[] a0, int a1)
+    {
+        stats.count("glFinishAsyncSGIX");
+        return (target != null) ? target.glFinishAsyncSGIX(a0, a1) : 0;
+    }
+
+    public int glFinishAsyncSGIX(IntBuffer a0)
+    {
+        stats.count("glFinishAsyncSGIX");
+        return (target != null) ? target.glFinishAsyncSGIX(a0) : 0;
+    }
+
+    public void glFinishFenceAPPLE(int a0)
+    {
+        stats.count("glFinishFenceAPPLE");
+        if (target != null)
+          target.glFinishFenceAPPLE(a0);
+    }
+
+    public void glFinishFenceNV(int a0)
+    {
+        stats.count("glFinishFenceNV");
+        if (target != null)
+          target.glFinishFenceNV(a0);
+    }
+
+    public void glFinishObjectAPPLE(int a0, int a1)
+    {
+        stats.count("glFinishObjectAPPLE");
+        if (target != null)
+          target.glFinishObjectAPPLE(a0, a1);
+    }
+
+    public void glFinishRenderAPPLE()
+    {
+        stats.count("glFinishRenderAPPLE");
+        if (target != null)
+          target.glFinishRenderAPPLE();
+    }
+
+    public void glFinishTextureSUNX()
+    {
+        stats.count("glFinishTextureSUNX");
+        if (target != null)
+          target.glFinishTextureSUNX();
+    }
+
+    public void glFlush()
+    {
+        stats.count("glFlush");
+        if (target != null)
+          target.glFlush();
+    }
+
+    public void glFlushMappedBufferRangeAPPLE(int a0, int a1, int a2)
+    {
+        stats.count("glFlushMappedBufferRangeAPPLE");
+        if (target != null)
+          target.glFlushMappedBufferRangeAPPLE(a0, a1, a2);
+    }
+
+    public void glFlushPixelDataRangeNV(int a0)
+    {
+        stats.count("glFlushPixelDataRangeNV");
+        if (target != null)
+          target.glFlushPixelDataRangeNV(a0);
+    }
+
+    public void glFlushRasterSGIX()
+    {
+        stats.count("glFlushRasterSGIX");
+        if (target != null)
+          target.glFlushRasterSGIX();
+    }
+
+    public void glFlushRenderAPPLE()
+    {
+        stats.count("glFlushRenderAPPLE");
+        if (target != null)
+          target.glFlushRenderAPPLE();
+    }
+
+    public void glFlushVertexArrayRangeAPPLE(int a0, Buffer a1)
+    {
+        stats.count("glFlushVertexArrayRangeAPPLE");
+        if (target != null)
+          target.glFlushVertexArrayRangeAPPLE(a0, a1);
+    }
+
+    public void glFlushVertexArrayRangeNV()
+    {
+        stats.count("glFlushVertexArrayRangeNV");
+        if (target != null)
+          target.glFlushVertexArrayRangeNV();
+    }
+
+    public void glFogCoordPointer(int a0, int a1, Buffer a2)
+    {
+        stats.count("glFogCoordPointer");
+        if (target != null)
+          target.glFogCoordPointer(a0, a1, a2);
+    }
+
+    public void glFogCoordPointer(int a0, int a1, long a2)
+    {
+        stats.count("glFogCoordPointer");
+        if (target != null)
+          target.glFogCoordPointer(a0, a1, a2);
+    }
+
+    public void glFogCoordPointerEXT(int a0, int a1, Buffer a2)
+    {
+        stats.count("glFogCoordPointerEXT");
+        if (target != null)
+          target.glFogCoordPointerEXT(a0, a1, a2);
+    }
+
+    public void glFogCoordPointerEXT(int a0, int a1, long a2)
+    {
+        stats.count("glFogCoordPointerEXT");
+        if (target != null)
+          target.glFogCoordPointerEXT(a0, a1, a2);
+    }
+
+    public void glFogCoordd(double a0)
+    {
+        stats.count("glFogCoordd");
+        if (target != null)
+          target.glFogCoordd(a0);
+    }
+
+    public void glFogCoorddEXT(double a0)
+    {
+        stats.count("glFogCoorddEXT");
+        if (target != null)
+          target.glFogCoorddEXT(a0);
+    }
+
+    public void glFogCoorddv(double[] a0, int a1)
+    {
+        stats.count("glFogCoorddv");
+        if (target != null)
+          target.glFogCoorddv(a0, a1);
+    }
+
+    public void glFogCoorddv(DoubleBuffer a0)
+    {
+        stats.count("glFogCoorddv");
+        if (target != null)
+          target.glFogCoorddv(a0);
+    }
+
+    public void glFogCoorddvEXT(double[] a0, int a1)
+    {
+        stats.count("glFogCoorddvEXT");
+        if (target != null)
+          target.glFogCoorddvEXT(a0, a1);
+    }
+
+    public void glFogCoorddvEXT(DoubleBuffer a0)
+    {
+        stats.count("glFogCoorddvEXT");
+        if (target != null)
+          target.glFogCoorddvEXT(a0);
+    }
+
+    public void glFogCoordf(float a0)
+    {
+        stats.count("glFogCoordf");
+        if (target != null)
+          target.glFogCoordf(a0);
+    }
+
+    public void glFogCoordfEXT(float a0)
+    {
+        stats.count("glFogCoordfEXT");
+        if (target != null)
+          target.glFogCoordfEXT(a0);
+    }
+
+    public void glFogCoordfv(float[] a0, int a1)
+    {
+        stats.count("glFogCoordfv");
+        if (target != null)
+          target.glFogCoordfv(a0, a1);
+    }
+
+    public void glFogCoordfv(FloatBuffer a0)
+    {
+        stats.count("glFogCoordfv");
+        if (target != null)
+          target.glFogCoordfv(a0);
+    }
+
+    public void glFogCoordfvEXT(float[] a0, int a1)
+    {
+        stats.count("glFogCoordfvEXT");
+        if (target != null)
+          target.glFogCoordfvEXT(a0, a1);
+    }
+
+    public void glFogCoordfvEXT(FloatBuffer a0)
+    {
+        stats.count("glFogCoordfvEXT");
+        if (target != null)
+          target.glFogCoordfvEXT(a0);
+    }
+
+    public void glFogCoordhNV(short a0)
+    {
+        stats.count("glFogCoordhNV");
+        if (target != null)
+          target.glFogCoordhNV(a0);
+    }
+
+    public void glFogCoordhvNV(short[] a0, int a1)
+    {
+        stats.count("glFogCoordhvNV");
+        if (target != null)
+          target.glFogCoordhvNV(a0, a1);
+    }
+
+    public void glFogCoordhvNV(ShortBuffer a0)
+    {
+        stats.count("glFogCoordhvNV");
+        if (target != null)
+          target.glFogCoordhvNV(a0);
+    }
+
+    public void glFogFuncSGIS(int a0, float[] a1, int a2)
+    {
+        stats.count("glFogFuncSGIS");
+        if (target != null)
+          target.glFogFuncSGIS(a0, a1, a2);
+    }
+
+    public void glFogFuncSGIS(int a0, FloatBuffer a1)
+    {
+        stats.count("glFogFuncSGIS");
+        if (target != null)
+          target.glFogFuncSGIS(a0, a1);
+    }
+
+    public void glFogf(int a0, float a1)
+    {
+        stats.count("glFogf");
+        if (target != null)
+          target.glFogf(a0, a1);
+    }
+
+    public void glFogfv(int a0, float[] a1, int a2)
+    {
+        stats.count("glFogfv");
+        if (target != null)
+          target.glFogfv(a0, a1, a2);
+    }
+
+    public void glFogfv(int a0, FloatBuffer a1)
+    {
+        stats.count("glFogfv");
+        if (target != null)
+          target.glFogfv(a0, a1);
+    }
+
+    public void glFogi(int a0, int a1)
+    {
+        stats.count("glFogi");
+        if (target != null)
+          target.glFogi(a0, a1);
+    }
+
+    public void glFogiv(int a0, int[] a1, int a2)
+    {
+        stats.count("glFogiv");
+        if (target != null)
+          target.glFogiv(a0, a1, a2);
+    }
+
+    public void glFogiv(int a0, IntBuffer a1)
+    {
+        stats.count("glFogiv");
+        if (target != null)
+          target.glFogiv(a0, a1);
+    }
+
+    public void glFragmentColorMaterialSGIX(int a0, int a1)
+    {
+        stats.count("glFragmentColorMaterialSGIX");
+        if (target != null)
+          target.glFragmentColorMaterialSGIX(a0, a1);
+    }
+
+    public void glFragmentLightModelfSGIX(int a0, float a1)
+    {
+        stats.count("glFragmentLightModelfSGIX");
+        if (target != null)
+          target.glFragmentLightModelfSGIX(a0, a1);
+    }
+
+    public void glFragmentLightModelfvSGIX(int a0, float[] a1, int a2)
+    {
+        stats.count("glFragmentLightModelfvSGIX");
+        if (target != null)
+          target.glFragmentLightModelfvSGIX(a0, a1, a2);
+    }
+
+    public void glFragmentLightModelfvSGIX(int a0, FloatBuffer a1)
+    {
+        stats.count("glFragmentLightModelfvSGIX");
+        if (target != null)
+          target.glFragmentLightModelfvSGIX(a0, a1);
+    }
+
+    public void glFragmentLightModeliSGIX(int a0, int a1)
+    {
+        stats.count("glFragmentLightModeliSGIX");
+        if (target != null)
+          target.glFragmentLightModeliSGIX(a0, a1);
+    }
+
+    public void glFragmentLightModelivSGIX(int a0, int[] a1, int a2)
+    {
+        stats.count("glFragmentLightModelivSGIX");
+        if (target != null)
+          target.glFragmentLightModelivSGIX(a0, a1, a2);
+    }
+
+    public void glFragmentLightModelivSGIX(int a0, IntBuffer a1)
+    {
+        stats.count("glFragmentLightModelivSGIX");
+        if (target != null)
+          target.glFragmentLightModelivSGIX(a0, a1);
+    }
+
+    public void glFragmentLightfSGIX(int a0, int a1, float a2)
+    {
+        stats.count("glFragmentLightfSGIX");
+        if (target != null)
+          target.glFragmentLightfSGIX(a0, a1, a2);
+    }
+
+    public void glFragmentLightfvSGIX(int a0, int a1, float[] a2, int a3)
+    {
+        stats.count("glFragmentLightfvSGIX");
+        if (target != null)
+          target.glFragmentLightfvSGIX(a0, a1, a2, a3);
+    }
+
+    public void glFragmentLightfvSGIX(int a0, int a1, FloatBuffer a2)
+    {
+        stats.count("glFragmentLightfvSGIX");
+        if (target != null)
+          target.glFragmentLightfvSGIX(a0, a1, a2);
+    }
+
+    public void glFragmentLightiSGIX(int a0, int a1, int a2)
+    {
+        stats.count("glFragmentLightiSGIX");
+        if (target != null)
+          target.glFragmentLightiSGIX(a0, a1, a2);
+    }
+
+    public void glFragmentLightivSGIX(int a0, int a1, int[] a2, int a3)
+    {
+        stats.count("glFragmentLightivSGIX");
+        if (target != null)
+          target.glFragmentLightivSGIX(a0, a1, a2, a3);
+    }
+
+    public void glFragmentLightivSGIX(int a0, int a1, IntBuffer a2)
+    {
+        stats.count("glFragmentLightivSGIX");
+        if (target != null)
+          target.glFragmentLightivSGIX(a0, a1, a2);
+    }
+
+    public void glFragmentMaterialfSGIX(int a0, int a1, float a2)
+    {
+        stats.count("glFragmentMaterialfSGIX");
+        if (target != null)
+          target.glFragmentMaterialfSGIX(a0, a1, a2);
+    }
+
+    public void glFragmentMaterialfvSGIX(int a0, int a1, float[] a2, int a3)
+    {
+        stats.count("glFragmentMaterialfvSGIX");
+        if (target != null)
+          target.glFragmentMaterialfvSGIX(a0, a1, a2, a3);
+    }
+
+    public void glFragmentMaterialfvSGIX(int a0, int a1, FloatBuffer a2)
+    {
+        stats.count("glFragmentMaterialfvSGIX");
+        if (target != null)
+          target.glFragmentMaterialfvSGIX(a0, a1, a2);
+    }
+
+    public void glFragmentMaterialiSGIX(int a0, int a1, int a2)
+    {
+        stats.count("glFragmentMaterialiSGIX");
+        if (target != null)
+          target.glFragmentMaterialiSGIX(a0, a1, a2);
+    }
+
+    public void glFragmentMaterialivSGIX(int a0, int a1, int[] a2, int a3)
+    {
+        stats.count("glFragmentMaterialivSGIX");
+        if (target != null)
+          target.glFragmentMaterialivSGIX(a0, a1, a2, a3);
+    }
+
+    public void glFragmentMaterialivSGIX(int a0, int a1, IntBuffer a2)
+    {
+        stats.count("glFragmentMaterialivSGIX");
+        if (target != null)
+          target.glFragmentMaterialivSGIX(a0, a1, a2);
+    }
+
+    public void glFrameZoomSGIX(int a0)
+    {
+        stats.count("glFrameZoomSGIX");
+        if (target != null)
+          target.glFrameZoomSGIX(a0);
+    }
+
+    public void glFramebufferRenderbufferEXT(int a0, int a1, int a2, int a3)
+    {
+        stats.count("glFramebufferRenderbufferEXT");
+        if (target != null)
+          target.glFramebufferRenderbufferEXT(a0, a1, a2, a3);
+    }
+
+    public void glFramebufferTexture1DEXT(
+        int a0, int a1, int a2, int a3, int a4)
+    {
+        stats.count("glFramebufferTexture1DEXT");
+        if (target != null)
+          target.glFramebufferTexture1DEXT(a0, a1, a2, a3, a4);
+    }
+
+    public void glFramebufferTexture2DEXT(
+        int a0, int a1, int a2, int a3, int a4)
+    {
+        stats.count("glFramebufferTexture2DEXT");
+        if (target != null)
+          target.glFramebufferTexture2DEXT(a0, a1, a2, a3, a4);
+    }
+
+    public void glFramebufferTexture3DEXT(
+        int a0, int a1, int a2, int a3, int a4, int a5)
+    {
+        stats.count("glFramebufferTexture3DEXT");
+        if (target != null)
+          target.glFramebufferTexture3DEXT(a0, a1, a2, a3, a4, a5);
+    }
+
+    public void glFramebufferTextureEXT(int a0, int a1, int a2, int a3)
+    {
+        stats.count("glFramebufferTextureEXT");
+        if (target != null)
+          target.glFramebufferTextureEXT(a0, a1, a2, a3);
+    }
+
+    public void glFramebufferTextureFaceEXT(
+        int a0, int a1, int a2, int a3, int a4)
+    {
+        stats.count("glFramebufferTextureFaceEXT");
+        if (target != null)
+          target.glFramebufferTextureFaceEXT(a0, a1, a2, a3, a4);
+    }
+
+    public void glFramebufferTextureLayerEXT(
+        int a0, int a1, int a2, int a3, int a4)
+    {
+        stats.count("glFramebufferTextureLayerEXT");
+        if (target != null)
+          target.glFramebufferTextureLayerEXT(a0, a1, a2, a3, a4);
+    }
+
+    public void glFreeObjectBufferATI(int a0)
+    {
+        stats.count("glFreeObjectBufferATI");
+        if (target != null)
+          target.glFreeObjectBufferATI(a0);
+    }
+
+    public void glFrontFace(int a0)
+    {
+        stats.count("glFrontFace");
+        if (target != null)
+          target.glFrontFace(a0);
+    }
+
+    public void glFrustum(
+        double a0, double a1, double a2, double a3, double a4, double a5)
+    {
+        stats.count("glFrustum");
+        if (target != null)
+          target.glFrustum(a0, a1, a2, a3, a4, a5);
+    }
+
+    public int glGenAsyncMarkersSGIX(int a0)
+    {
+        stats.count("glGenAsyncMarkersSGIX");
+        return (target != null) ? target.glGenAsyncMarkersSGIX(a0) : 0;
+    }
+
+    public void glGenBuffers(int a0, int[] a1, int a2)
+    {
+        stats.count("glGenBuffers");
+        if (target != null)
+          target.glGenBuffers(a0, a1, a2);
+    }
+
+    public void glGenBuffers(int a0, IntBuffer a1)
+    {
+        stats.count("glGenBuffers");
+        if (target != null)
+          target.glGenBuffers(a0, a1);
+    }
+
+    public void glGenBuffersARB(int a0, int[] a1, int a2)
+    {
+        stats.count("glGenBuffersARB");
+        if (target != null)
+          target.glGenBuffersARB(a0, a1, a2);
+    }
+
+    public void glGenBuffersARB(int a0, IntBuffer a1)
+    {
+        stats.count("glGenBuffersARB");
+        if (target != null)
+          target.glGenBuffersARB(a0, a1);
+    }
+
+    public void glGenFencesAPPLE(int a0, int[] a1, int a2)
+    {
+        stats.count("glGenFencesAPPLE");
+        if (target != null)
+          target.glGenFencesAPPLE(a0, a1, a2);
+    }
+
+    public void glGenFencesAPPLE(int a0, IntBuffer a1)
+    {
+        stats.count("glGenFencesAPPLE");
+        if (target != null)
+          target.glGenFencesAPPLE(a0, a1);
+    }
+
+    public void glGenFencesNV(int a0, int[] a1, int a2)
+    {
+        stats.count("glGenFencesNV");
+        if (target != null)
+          target.glGenFencesNV(a0, a1, a2);
+    }
+
+    public void glGenFencesNV(int a0, IntBuffer a1)
+    {
+        stats.count("glGenFencesNV");
+        if (target != null)
+          target.glGenFencesNV(a0, a1);
+    }
+
+    public int glGenFragmentShadersATI(int a0)
+    {
+        stats.count("glGenFragmentShadersATI");
+        return (target != null) ? target.glGenFragmentShadersATI(a0) : 0;
+    }
+
+    public void glGenFramebuffersEXT(int a0, int[] a1, int a2)
+    {
+        stats.count("glGenFramebuffersEXT");
+        if (target != null)
+          target.glGenFramebuffersEXT(a0, a1, a2);
+    }
+
+    public void glGenFramebuffersEXT(int a0, IntBuffer a1)
+    {
+        stats.count("glGenFramebuffersEXT");
+        if (target != null)
+          target.glGenFramebuffersEXT(a0, a1);
+    }
+
+    public int glGenLists(int a0)
+    {
+        stats.count("glGenLists");
+        return (target != null) ? target.glGenLists(a0) : 0;
+    }
+
+    public void glGenOcclusionQueriesNV(int a0, int[] a1, int a2)
+    {
+        stats.count("glGenOcclusionQueriesNV");
+        if (target != null)
+          target.glGenOcclusionQueriesNV(a0, a1, a2);
+    }
+
+    public void glGenOcclusionQueriesNV(int a0, IntBuffer a1)
+    {
+        stats.count("glGenOcclusionQueriesNV");
+        if (target != null)
+          target.glGenOcclusionQueriesNV(a0, a1);
+    }
+
+    public void glGenProgramsARB(int a0, int[] a1, int a2)
+    {
+        stats.count("glGenProgramsARB");
+        if (target != null)
+          target.glGenProgramsARB(a0, a1, a2);
+    }
+
+    public void glGenProgramsARB(int a0, IntBuffer a1)
+    {
+        stats.count("glGenProgramsARB");
+        if (target != null)
+          target.glGenProgramsARB(a0, a1);
+    }
+
+    public void glGenProgramsNV(int a0, int[] a1, int a2)
+    {
+        stats.count("glGenProgramsNV");
+        if (target != null)
+          target.glGenProgramsNV(a0, a1, a2);
+    }
+
+    public void glGenProgramsNV(int a0, IntBuffer a1)
+    {
+        stats.count("glGenProgramsNV");
+        if (target != null)
+          target.glGenProgramsNV(a0, a1);
+    }
+
+    public void glGenQueries(int a0, int[] a1, int a2)
+    {
+        stats.count("glGenQueries");
+        if (target != null)
+          target.glGenQueries(a0, a1, a2);
+    }
+
+    public void glGenQueries(int a0, IntBuffer a1)
+    {
+        stats.count("glGenQueries");
+        if (target != null)
+          target.glGenQueries(a0, a1);
+    }
+
+    public void glGenQueriesARB(int a0, int[] a1, int a2)
+    {
+        stats.count("glGenQueriesARB");
+        if (target != null)
+          target.glGenQueriesARB(a0, a1, a2);
+    }
+
+    public void glGenQueriesARB(int a0, IntBuffer a1)
+    {
+        stats.count("glGenQueriesARB");
+        if (target != null)
+          target.glGenQueriesARB(a0, a1);
+    }
+
+    public void glGenRenderbuffersEXT(int a0, int[] a1, int a2)
+    {
+        stats.count("glGenRenderbuffersEXT");
+        if (target != null)
+          target.glGenRenderbuffersEXT(a0, a1, a2);
+    }
+
+    public void glGenRenderbuffersEXT(int a0, IntBuffer a1)
+    {
+        stats.count("glGenRenderbuffersEXT");
+        if (target != null)
+          target.glGenRenderbuffersEXT(a0, a1);
+    }
+
+    public int glGenSymbolsEXT(int a0, int a1, int a2, int a3)
+    {
+        stats.count("glGenSymbolsEXT");
+        return (target != null) ? target.glGenSymbolsEXT(a0, a1, a2, a3) : 0;
+    }
+
+    public void glGenTextures(int a0, int[] a1, int a2)
+    {
+        stats.count("glGenTextures");
+        if (target != null)
+          target.glGenTextures(a0, a1, a2);
+    }
+
+    public void glGenTextures(int a0, IntBuffer a1)
+    {
+        stats.count("glGenTextures");
+        if (target != null)
+          target.glGenTextures(a0, a1);
+    }
+
+    public void glGenVertexArraysAPPLE(int a0, int[] a1, int a2)
+    {
+        stats.count("glGenVertexArraysAPPLE");
+        if (target != null)
+          target.glGenVertexArraysAPPLE(a0, a1, a2);
+    }
+
+    public void glGenVertexArraysAPPLE(int a0, IntBuffer a1)
+    {
+        stats.count("glGenVertexArraysAPPLE");
+        if (target != null)
+          target.glGenVertexArraysAPPLE(a0, a1);
+    }
+
+    public int glGenVertexShadersEXT(int a0)
+    {
+        stats.count("glGenVertexShadersEXT");
+        return (target != null) ? target.glGenVertexShadersEXT(a0) : 0;
+    }
+
+    public void glGenerateMipmapEXT(int a0)
+    {
+        stats.count("glGenerateMipmapEXT");
+        if (target != null)
+          target.glGenerateMipmapEXT(a0);
+    }
+
+    public void glGetActiveAttrib(
+        int a0, int a1, int a2, int[] a3, int a4, int[] a5, int a6, int[] a7,
+        int a8, byte[] a9, int a10)
+    {
+        stats.count("glGetActiveAttrib");
+        if (target != null)
+          target.glGetActiveAttrib(a0, a1, a2, a3, a4, a5, a6, a7, a8, a9,
+              a10);
+    }
+
+    public void glGetActiveAttrib(
+        int a0, int a1, int a2, IntBuffer a3, IntBuffer a4, IntBuffer a5,
+        ByteBuffer a6)
+    {
+        stats.count("glGetActiveAttrib");
+        if (target != null)
+          target.glGetActiveAttrib(a0, a1, a2, a3, a4, a5, a6);
+    }
+
+    public void glGetActiveAttribARB(
+        int a0, int a1, int a2, int[] a3, int a4, int[] a5, int a6, int[] a7,
+        int a8, byte[] a9, int a10)
+    {
+        stats.count("glGetActiveAttribARB");
+        if (target != null)
+          target.glGetActiveAttribARB(a0, a1, a2, a3, a4, a5, a6, a7, a8, a9,
+              a10);
+    }
+
+    public void glGetActiveAttribARB(
+        int a0, int a1, int a2, IntBuffer a3, IntBuffer a4, IntBuffer a5,
+        ByteBuffer a6)
+    {
+        stats.count("glGetActiveAttribARB");
+        if (target != null)
+          target.glGetActiveAttribARB(a0, a1, a2, a3, a4, a5, a6);
+    }
+
+    public void glGetActiveUniform(
+        int a0, int a1, int a2, int[] a3, int a4, int[] a5, int a6, int[] a7,
+        int a8, byte[] a9, int a10)
+    {
+        stats.count("glGetActiveUniform");
+        if (target != null)
+          target.glGetActiveUniform(a0, a1, a2, a3, a4, a5, a6, a7, a8, a9,
+              a10);
+    }
+
+    public void glGetActiveUniform(
+        int a0, int a1, int a2, IntBuffer a3, IntBuffer a4, IntBuffer a5,
+        ByteBuffer a6)
+    {
+        stats.count("glGetActiveUniform");
+        if (target != null)
+          target.glGetActiveUniform(a0, a1, a2, a3, a4, a5, a6);
+    }
+
+    public void glGetActiveUniformARB(
+        int a0, int a1, int a2, int[] a3, int a4, int[] a5, int a6, int[] a7,
+        int a8, byte[] a9, int a10)
+    {
+        stats.count("glGetActiveUniformARB");
+        if (target != null)
+          target.glGetActiveUniformARB(a0, a1, a2, a3, a4, a5, a6, a7, a8, a9,
+              a10);
+    }
+
+    public void glGetActiveUniformARB(
+        int a0, int a1, int a2, IntBuffer a3, IntBuffer a4, IntBuffer a5,
+        ByteBuffer a6)
+    {
+        stats.count("glGetActiveUniformARB");
+        if (target != null)
+          target.glGetActiveUniformARB(a0, a1, a2, a3, a4, a5, a6);
+    }
+
+    public void glGetActiveVaryingNV(
+        int a0, int a1, int a2, int[] a3, int a4, int[] a5, int a6, int[] a7,
+        int a8, byte[] a9, int a10)
+    {
+        stats.count("glGetActiveVaryingNV");
+        if (target != null)
+          target.glGetActiveVaryingNV(a0, a1, a2, a3, a4, a5, a6, a7, a8, a9,
+              a10);
+    }
+
+    public void glGetActiveVaryingNV(
+        int a0, int a1, int a2, IntBuffer a3, IntBuffer a4, IntBuffer a5,
+        ByteBuffer a6)
+    {
+        stats.count("glGetActiveVaryingNV");
+        if (target != null)
+          target.glGetActiveVaryingNV(a0, a1, a2, a3, a4, a5, a6);
+    }
+
+    public void glGetArrayObjectfvATI(int a0, int a1, float[] a2, int a3)
+    {
+        stats.count("glGetArrayObjectfvATI");
+        if (target != null)
+          target.glGetArrayObjectfvATI(a0, a1, a2, a3);
+    }
+
+    public void glGetArrayObjectfvATI(int a0, int a1, FloatBuffer a2)
+    {
+        stats.count("glGetArrayObjectfvATI");
+        if (target != null)
+          target.glGetArrayObjectfvATI(a0, a1, a2);
+    }
+
+    public void glGetArrayObjectivATI(int a0, int a1, int[] a2, int a3)
+    {
+        stats.count("glGetArrayObjectivATI");
+        if (target != null)
+          target.glGetArrayObjectivATI(a0, a1, a2, a3);
+    }
+
+    public void glGetArrayObjectivATI(int a0, int a1, IntBuffer a2)
+    {
+        stats.count("glGetArrayObjectivATI");
+        if (target != null)
+          target.glGetArrayObjectivATI(a0, a1, a2);
+    }
+
+    public void glGetAttachedObjectsARB(
+        int a0, int a1, int[] a2, int a3, int[] a4, int a5)
+    {
+        stats.count("glGetAttachedObjectsARB");
+        if (target != null)
+          target.glGetAttachedObjectsARB(a0, a1, a2, a3, a4, a5);
+    }
+
+    public void glGetAttachedObjectsARB(
+        int a0, int a1, IntBuffer a2, IntBuffer a3)
+    {
+        stats.count("glGetAttachedObjectsARB");
+        if (target != null)
+          target.glGetAttachedObjectsARB(a0, a1, a2, a3);
+    }
+
+    public void glGetAttachedShaders(
+        int a0, int a1, int[] a2, int a3, int[] a4, int a5)
+    {
+        stats.count("glGetAttachedShaders");
+        if (target != null)
+          target.glGetAttachedShaders(a0, a1, a2, a3, a4, a5);
+    }
+
+    public void glGetAttachedShaders(
+        int a0, int a1, IntBuffer a2, IntBuffer a3)
+    {
+        stats.count("glGetAttachedShaders");
+        if (target != null)
+          target.glGetAttachedShaders(a0, a1, a2, a3);
+    }
+
+    public int glGetAttribLocation(int a0, String a1)
+    {
+        stats.count("glGetAttribLocation");
+        return (target != null) ? target.glGetAttribLocation(a0, a1) : 0;
+    }
+
+    public int glGetAttribLocationARB(int a0, String a1)
+    {
+        stats.count("glGetAttribLocationARB");
+        return (target != null) ? target.glGetAttribLocationARB(a0, a1) : 0;
+    }
+
+    public void glGetBooleanIndexedvEXT(int a0, int a1, byte[] a2, int a3)
+    {
+        stats.count("glGetBooleanIndexedvEXT");
+        if (target != null)
+          target.glGetBooleanIndexedvEXT(a0, a1, a2, a3);
+    }
+
+    public void glGetBooleanIndexedvEXT(int a0, int a1, ByteBuffer a2)
+    {
+        stats.count("glGetBooleanIndexedvEXT");
+        if (target != null)
+          target.glGetBooleanIndexedvEXT(a0, a1, a2);
+    }
+
+    public void glGetBooleanv(int a0, byte[] a1, int a2)
+    {
+        stats.count("glGetBooleanv");
+        if (target != null)
+          target.glGetBooleanv(a0, a1, a2);
+    }
+
+    public void glGetBooleanv(int a0, ByteBuffer a1)
+    {
+        stats.count("glGetBooleanv");
+        if (target != null)
+          target.glGetBooleanv(a0, a1);
+    }
+
+    public void glGetBufferParameteriv(int a0, int a1, int[] a2, int a3)
+    {
+        stats.count("glGetBufferParameteriv");
+        if (target != null)
+          target.glGetBufferParameteriv(a0, a1, a2, a3);
+    }
+
+    public void glGetBufferParameteriv(int a0, int a1, IntBuffer a2)
+    {
+        stats.count("glGetBufferParameteriv");
+        if (target != null)
+          target.glGetBufferParameteriv(a0, a1, a2);
+    }
+
+    public void glGetBufferParameterivARB(int a0, int a1, int[] a2, int a3)
+    {
+        stats.count("glGetBufferParameterivARB");
+        if (target != null)
+          target.glGetBufferParameterivARB(a0, a1, a2, a3);
+    }
+
+    public void glGetBufferParameterivARB(int a0, int a1, IntBuffer a2)
+    {
+        stats.count("glGetBufferParameterivARB");
+        if (target != null)
+          target.glGetBufferParameterivARB(a0, a1, a2);
+    }
+
+    public void glGetBufferSubData(int a0, int a1, int a2, Buffer a3)
+    {
+        stats.count("glGetBufferSubData");
+        if (target != null)
+          target.glGetBufferSubData(a0, a1, a2, a3);
+    }
+
+    public void glGetBufferSubDataARB(int a0, int a1, int a2, Buffer a3)
+    {
+        stats.count("glGetBufferSubDataARB");
+        if (target != null)
+          target.glGetBufferSubDataARB(a0, a1, a2, a3);
+    }
+
+    public void glGetClipPlane(int a0, double[] a1, int a2)
+    {
+        stats.count("glGetClipPlane");
+        if (target != null)
+          target.glGetClipPlane(a0, a1, a2);
+    }
+
+    public void glGetClipPlane(int a0, DoubleBuffer a1)
+    {
+        stats.count("glGetClipPlane");
+        if (target != null)
+          target.glGetClipPlane(a0, a1);
+    }
+
+    public void glGetColorTable(int a0, int a1, int a2, Buffer a3)
+    {
+        stats.count("glGetColorTable");
+        if (target != null)
+          target.glGetColorTable(a0, a1, a2, a3);
+    }
+
+    public void glGetColorTable(int a0, int a1, int a2, long a3)
+    {
+        stats.count("glGetColorTable");
+        if (target != null)
+          target.glGetColorTable(a0, a1, a2, a3);
+    }
+
+    public void glGetColorTableEXT(int a0, int a1, int a2, Buffer a3)
+    {
+        stats.count("glGetColorTableEXT");
+        if (target != null)
+          target.glGetColorTableEXT(a0, a1, a2, a3);
+    }
+
+    public void glGetColorTableParameterfv(int a0, int a1, float[] a2, int a3)
+    {
+        stats.count("glGetColorTableParameterfv");
+        if (target != null)
+          target.glGetColorTableParameterfv(a0, a1, a2, a3);
+    }
+
+    public void glGetColorTableParameterfv(int a0, int a1, FloatBuffer a2)
+    {
+        stats.count("glGetColorTableParameterfv");
+        if (target != null)
+          target.glGetColorTableParameterfv(a0, a1, a2);
+    }
+
+    public void glGetColorTableParameterfvEXT(
+        int a0, int a1, float[] a2, int a3)
+    {
+        stats.count("glGetColorTableParameterfvEXT");
+        if (target != null)
+          target.glGetColorTableParameterfvEXT(a0, a1, a2, a3);
+    }
+
+    public void glGetColorTableParameterfvEXT(int a0, int a1, FloatBuffer a2)
+    {
+        stats.count("glGetColorTableParameterfvEXT");
+        if (target != null)
+          target.glGetColorTableParameterfvEXT(a0, a1, a2);
+    }
+
+    public void glGetColorTableParameteriv(int a0, int a1, int[] a2, int a3)
+    {
+        stats.count("glGetColorTableParameteriv");
+        if (target != null)
+          target.glGetColorTableParameteriv(a0, a1, a2, a3);
+    }
+
+    public void glGetColorTableParameteriv(int a0, int a1, IntBuffer a2)
+    {
+        stats.count("glGetColorTableParameteriv");
+        if (target != null)
+          target.glGetColorTableParameteriv(a0, a1, a2);
+    }
+
+    public void glGetColorTableParameterivEXT(int a0, int a1, int[] a2, int a3)
+    {
+        stats.count("glGetColorTableParameterivEXT");
+        if (target != null)
+          target.glGetColorTableParameterivEXT(a0, a1, a2, a3);
+    }
+
+    public void glGetColorTableParameterivEXT(int a0, int a1, IntBuffer a2)
+    {
+        stats.count("glGetColorTableParameterivEXT");
+        if (target != null)
+          target.glGetColorTableParameterivEXT(a0, a1, a2);
+    }
+
+    public void glGetCombinerInputParameterfvNV(
+        int a0, int a1, int a2, int a3, float[] a4, int a5)
+    {
+        stats.count("glGetCombinerInputParameterfvNV");
+        if (target != null)
+          target.glGetCombinerInputParameterfvNV(a0, a1, a2, a3, a4, a5);
+    }
+
+    public void glGetCombinerInputParameterfvNV(
+        int a0, int a1, int a2, int a3, FloatBuffer a4)
+    {
+        stats.count("glGetCombinerInputParameterfvNV");
+        if (target != null)
+          target.glGetCombinerInputParameterfvNV(a0, a1, a2, a3, a4);
+    }
+
+    public void glGetCombinerInputParameterivNV(
+        int a0, int a1, int a2, int a3, int[] a4, int a5)
+    {
+        stats.count("glGetCombinerInputParameterivNV");
+        if (target != null)
+          target.glGetCombinerInputParameterivNV(a0, a1, a2, a3, a4, a5);
+    }
+
+    public void glGetCombinerInputParameterivNV(
+        int a0, int a1, int a2, int a3, IntBuffer a4)
+    {
+        stats.count("glGetCombinerInputParameterivNV");
+        if (target != null)
+          target.glGetCombinerInputParameterivNV(a0, a1, a2, a3, a4);
+    }
+
+    public void glGetCombinerOutputParameterfvNV(
+        int a0, int a1, int a2, float[] a3, int a4)
+    {
+        stats.count("glGetCombinerOutputParameterfvNV");
+        if (target != null)
+          target.glGetCombinerOutputParameterfvNV(a0, a1, a2, a3, a4);
+    }
+
+    public void glGetCombinerOutputParameterfvNV(
+        int a0, int a1, int a2, FloatBuffer a3)
+    {
+        stats.count("glGetCombinerOutputParameterfvNV");
+        if (target != null)
+          target.glGetCombinerOutputParameterfvNV(a0, a1, a2, a3);
+    }
+
+    public void glGetCombinerOutputParameterivNV(
+        int a0, int a1, int a2, int[] a3, int a4)
+    {
+        stats.count("glGetCombinerOutputParameterivNV");
+        if (target != null)
+          target.glGetCombinerOutputParameterivNV(a0, a1, a2, a3, a4);
+    }
+
+    public void glGetCombinerOutputParameterivNV(
+        int a0, int a1, int a2, IntBuffer a3)
+    {
+        stats.count("glGetCombinerOutputParameterivNV");
+        if (target != null)
+          target.glGetCombinerOutputParameterivNV(a0, a1, a2, a3);
+    }
+
+    public void glGetCombinerStageParameterfvNV(
+        int a0, int a1, float[] a2, int a3)
+    {
+        stats.count("glGetCombinerStageParameterfvNV");
+        if (target != null)
+          target.glGetCombinerStageParameterfvNV(a0, a1, a2, a3);
+    }
+
+    public void glGetCombinerStageParameterfvNV(int a0, int a1, FloatBuffer a2)
+    {
+        stats.count("glGetCombinerStageParameterfvNV");
+        if (target != null)
+          target.glGetCombinerStageParameterfvNV(a0, a1, a2);
+    }
+
+    public void glGetCompressedTexImage(int a0, int a1, Buffer a2)
+    {
+        stats.count("glGetCompressedTexImage");
+        if (target != null)
+          target.glGetCompressedTexImage(a0, a1, a2);
+    }
+
+    public void glGetCompressedTexImage(int a0, int a1, long a2)
+    {
+        stats.count("glGetCompressedTexImage");
+        if (target != null)
+          target.glGetCompressedTexImage(a0, a1, a2);
+    }
+
+    public void glGetConvolutionFilter(int a0, int a1, int a2, Buffer a3)
+    {
+        stats.count("glGetConvolutionFilter");
+        if (target != null)
+          target.glGetConvolutionFilter(a0, a1, a2, a3);
+    }
+
+    public void glGetConvolutionFilter(int a0, int a1, int a2, long a3)
+    {
+        stats.count("glGetConvolutionFilter");
+        if (target != null)
+          target.glGetConvolutionFilter(a0, a1, a2, a3);
+    }
+
+    public void glGetConvolutionParameterfv(int a0, int a1, float[] a2, int a3)
+    {
+        stats.count("glGetConvolutionParameterfv");
+        if (target != null)
+          target.glGetConvolutionParameterfv(a0, a1, a2, a3);
+    }
+
+    public void glGetConvolutionParameterfv(int a0, int a1, FloatBuffer a2)
+    {
+        stats.count("glGetConvolutionParameterfv");
+        if (target != null)
+          target.glGetConvolutionParameterfv(a0, a1, a2);
+    }
+
+    public void glGetConvolutionParameteriv(int a0, int a1, int[] a2, int a3)
+    {
+        stats.count("glGetConvolutionParameteriv");
+        if (target != null)
+          target.glGetConvolutionParameteriv(a0, a1, a2, a3);
+    }
+
+    public void glGetConvolutionParameteriv(int a0, int a1, IntBuffer a2)
+    {
+        stats.count("glGetConvolutionParameteriv");
+        if (target != null)
+          target.glGetConvolutionParameteriv(a0, a1, a2);
+    }
+
+    public void glGetDetailTexFuncSGIS(int a0, float[] a1, int a2)
+    {
+        stats.count("glGetDetailTexFuncSGIS");
+        if (target != null)
+          target.glGetDetailTexFuncSGIS(a0, a1, a2);
+    }
+
+    public void glGetDetailTexFuncSGIS(int a0, FloatBuffer a1)
+    {
+        stats.count("glGetDetailTexFuncSGIS");
+        if (target != null)
+          target.glGetDetailTexFuncSGIS(a0, a1);
+    }
+
+    public void glGetDoublev(int a0, double[] a1, int a2)
+    {
+        stats.count("glGetDoublev");
+        if (target != null)
+          target.glGetDoublev(a0, a1, a2);
+    }
+
+    public void glGetDoublev(int a0, DoubleBuffer a1)
+    {
+        stats.count("glGetDoublev");
+        if (target != null)
+          target.glGetDoublev(a0, a1);
+    }
+
+    public int glGetError()
+    {
+        stats.count("glGetError");
+        return (target != null) ? target.glGetError() : 0;
+    }
+
+    public void glGetFenceivNV(int a0, int a1, int[] a2, int a3)
+    {
+        stats.count("glGetFenceivNV");
+        if (target != null)
+          target.glGetFenceivNV(a0, a1, a2, a3);
+    }
+
+    public void glGetFenceivNV(int a0, int a1, IntBuffer a2)
+    {
+        stats.count("glGetFenceivNV");
+        if (target != null)
+          target.glGetFenceivNV(a0, a1, a2);
+    }
+
+    public void glGetFinalCombinerInputParameterfvNV(
+        int a0, int a1, float[] a2, int a3)
+    {
+        stats.count("glGetFinalCombinerInputParameterfvNV");
+        if (target != null)
+          target.glGetFinalCombinerInputParameterfvNV(a0, a1, a2, a3);
+    }
+
+    public void glGetFinalCombinerInputParameterfvNV(
+        int a0, int a1, FloatBuffer a2)
+    {
+        stats.count("glGetFinalCombinerInputParameterfvNV");
+        if (target != null)
+          target.glGetFinalCombinerInputParameterfvNV(a0, a1, a2);
+    }
+
+    public void glGetFinalCombinerInputParameterivNV(
+        int a0, int a1, int[] a2, int a3)
+    {
+        stats.count("glGetFinalCombinerInputParameterivNV");
+        if (target != null)
+          target.glGetFinalCombinerInputParameterivNV(a0, a1, a2, a3);
+    }
+
+    public void glGetFinalCombinerInputParameterivNV(
+        int a0, int a1, IntBuffer a2)
+    {
+        stats.count("glGetFinalCombinerInputParameterivNV");
+        if (target != null)
+          target.glGetFinalCombinerInputParameterivNV(a0, a1, a2);
+    }
+
+    public void glGetFloatv(int a0, float[] a1, int a2)
+    {
+        stats.count("glGetFloatv");
+        if (target != null)
+          target.glGetFloatv(a0, a1, a2);
+    }
+
+    public void glGetFloatv(int a0, FloatBuffer a1)
+    {
+        stats.count("glGetFloatv");
+        if (target != null)
+          target.glGetFloatv(a0, a1);
+    }
+
+    public void glGetFogFuncSGIS(float[] a0, int a1)
+    {
+        stats.count("glGetFogFuncSGIS");
+        if (target != null)
+          target.glGetFogFuncSGIS(a0, a1);
+    }
+
+    public void glGetFogFuncSGIS(FloatBuffer a0)
+    {
+        stats.count("glGetFogFuncSGIS");
+        if (target != null)
+          target.glGetFogFuncSGIS(a0);
+    }
+
+    public int glGetFragDataLocationEXT(int a0, byte[] a1, int a2)
+    {
+        stats.count("glGetFragDataLocationEXT");
+        if (target == null)
+          return 0;
+        return target.glGetFragDataLocationEXT(a0, a1, a2);
+    }
+
+    public int glGetFragDataLocationEXT(int a0, ByteBuffer a1)
+    {
+        stats.count("glGetFragDataLocationEXT");
+        return (target != null) ? target.glGetFragDataLocationEXT(a0, a1) : 0;
+    }
+
+    public void glGetFragmentLightfvSGIX(int a0, int a1, float[] a2, int a3)
+    {
+        stats.count("glGetFragmentLightfvSGIX");
+        if (target != null)
+          target.glGetFragmentLightfvSGIX(a0, a1, a2, a3);
+    }
+
+    public void glGetFragmentLightfvSGIX(int a0, int a1, FloatBuffer a2)
+    {
+        stats.count("glGetFragmentLightfvSGIX");
+        if (target != null)
+          target.glGetFragmentLightfvSGIX(a0, a1, a2);
+    }
+
+    public void glGetFragmentLightivSGIX(int a0, int a1, int[] a2, int a3)
+    {
+        stats.count("glGetFragmentLightivSGIX");
+        if (target != null)
+          target.glGetFragmentLightivSGIX(a0, a1, a2, a3);
+    }
+
+    public void glGetFragmentLightivSGIX(int a0, int a1, IntBuffer a2)
+    {
+        stats.count("glGetFragmentLightivSGIX");
+        if (target != null)
+          target.glGetFragmentLightivSGIX(a0, a1, a2);
+    }
+
+    public void glGetFragmentMaterialfvSGIX(int a0, int a1, float[] a2, int a3)
+    {
+        stats.count("glGetFragmentMaterialfvSGIX");
+        if (target != null)
+          target.glGetFragmentMaterialfvSGIX(a0, a1, a2, a3);
+    }
+
+    public void glGetFragmentMaterialfvSGIX(int a0, int a1, FloatBuffer a2)
+    {
+        stats.count("glGetFragmentMaterialfvSGIX");
+        if (target != null)
+          target.glGetFragmentMaterialfvSGIX(a0, a1, a2);
+    }
+
+    public void glGetFragmentMaterialivSGIX(int a0, int a1, int[] a2, int a3)
+    {
+        stats.count("glGetFragmentMaterialivSGIX");
+        if (target != null)
+          target.glGetFragmentMaterialivSGIX(a0, a1, a2, a3);
+    }
+
+    public void glGetFragmentMaterialivSGIX(int a0, int a1, IntBuffer a2)
+    {
+        stats.count("glGetFragmentMaterialivSGIX");
+        if (target != null)
+          target.glGetFragmentMaterialivSGIX(a0, a1, a2);
+    }
+
+    public void glGetFramebufferAttachmentParameterivEXT(
+        int a0, int a1, int a2, int[] a3, int a4)
+    {
+        stats.count("glGetFramebufferAttachmentParameterivEXT");
+        if (target != null)
+          target.glGetFramebufferAttachmentParameterivEXT(a0, a1, a2, a3, a4);
+    }
+
+    public void glGetFramebufferAttachmentParameterivEXT(
+        int a0, int a1, int a2, IntBuffer a3)
+    {
+        stats.count("glGetFramebufferAttachmentParameterivEXT");
+        if (target != null)
+          target.glGetFramebufferAttachmentParameterivEXT(a0, a1, a2, a3);
+    }
+
+    public int glGetHandleARB(int a0)
+    {
+        stats.count("glGetHandleARB");
+        return (target != null) ? target.glGetHandleARB(a0) : 0;
+    }
+
+    public void glGetHistogram(int a0, boolean a1, int a2, int a3, Buffer a4)
+    {
+        stats.count("glGetHistogram");
+        if (target != null)
+          target.glGetHistogram(a0, a1, a2, a3, a4);
+    }
+
+    public void glGetHistogram(int a0, boolean a1, int a2, int a3, long a4)
+    {
+        stats.count("glGetHistogram");
+        if (target != null)
+          target.glGetHistogram(a0, a1, a2, a3, a4);
+    }
+
+    public void glGetHistogramParameterfv(int a0, int a1, float[] a2, int a3)
+    {
+        stats.count("glGetHistogramParameterfv");
+        if (target != null)
+          target.glGetHistogramParameterfv(a0, a1, a2, a3);
+    }
+
+    public void glGetHistogramParameterfv(int a0, int a1, FloatBuffer a2)
+    {
+        stats.count("glGetHistogramParameterfv");
+        if (target != null)
+          target.glGetHistogramParameterfv(a0, a1, a2);
+    }
+
+    public void glGetHistogramParameteriv(int a0, int a1, int[] a2, int a3)
+    {
+        stats.count("glGetHistogramParameteriv");
+        if (target != null)
+          target.glGetHistogramParameteriv(a0, a1, a2, a3);
+    }
+
+    public void glGetHistogramParameteriv(int a0, int a1, IntBuffer a2)
+    {
+        stats.count("glGetHistogramParameteriv");
+        if (target != null)
+          target.glGetHistogramParameteriv(a0, a1, a2);
+    }
+
+    public void glGetImageTransformParameterfvHP(
+        int a0, int a1, float[] a2, int a3)
+    {
+        stats.count("glGetImageTransformParameterfvHP");
+        if (target != null)
+          target.glGetImageTransformParameterfvHP(a0, a1, a2, a3);
+    }
+
+    public void glGetImageTransformParameterfvHP(
+        int a0, int a1, FloatBuffer a2)
+    {
+        stats.count("glGetImageTransformParameterfvHP");
+        if (target != null)
+          target.glGetImageTransformParameterfvHP(a0, a1, a2);
+    }
+
+    public void glGetImageTransformParameterivHP(
+        int a0, int a1, int[] a2, int a3)
+    {
+        stats.count("glGetImageTransformParameterivHP");
+        if (target != null)
+          target.glGetImageTransformParameterivHP(a0, a1, a2, a3);
+    }
+
+    public void glGetImageTransformParameterivHP(int a0, int a1, IntBuffer a2)
+    {
+        stats.count("glGetImageTransformParameterivHP");
+        if (target != null)
+          target.glGetImageTransformParameterivHP(a0, a1, a2);
+    }
+
+    public void glGetInfoLogARB(
+        int a0, int a1, int[] a2, int a3, byte[] a4, int a5)
+    {
+        stats.count("glGetInfoLogARB");
+        if (target != null)
+          target.glGetInfoLogARB(a0, a1, a2, a3, a4, a5);
+    }
+
+    public void glGetInfoLogARB(int a0, int a1, IntBuffer a2, ByteBuffer a3)
+    {
+        stats.count("glGetInfoLogARB");
+        if (target != null)
+          target.glGetInfoLogARB(a0, a1, a2, a3);
+    }
+
+    public int glGetInstrumentsSGIX()
+    {
+        stats.count("glGetInstrumentsSGIX");
+        return (target != null) ? target.glGetInstrumentsSGIX() : 0;
+    }
+
+    public void glGetIntegerIndexedvEXT(int a0, int a1, int[] a2, int a3)
+    {
+        stats.count("glGetIntegerIndexedvEXT");
+        if (target != null)
+          target.glGetIntegerIndexedvEXT(a0, a1, a2, a3);
+    }
+
+    public void glGetIntegerIndexedvEXT(int a0, int a1, IntBuffer a2)
+    {
+        stats.count("glGetIntegerIndexedvEXT");
+        if (target != null)
+          target.glGetIntegerIndexedvEXT(a0, a1, a2);
+    }
+
+    public void glGetIntegerv(int a0, int[] a1, int a2)
+    {
+        stats.count("glGetIntegerv");
+        if (target != null)
+          target.glGetIntegerv(a0, a1, a2);
+    }
+
+    public void glGetIntegerv(int a0, IntBuffer a1)
+    {
+        stats.count("glGetIntegerv");
+        if (target != null)
+          target.glGetIntegerv(a0, a1);
+    }
+
+    public void glGetInvariantBooleanvEXT(int a0, int a1, byte[] a2, int a3)
+    {
+        stats.count("glGetInvariantBooleanvEXT");
+        if (target != null)
+          target.glGetInvariantBooleanvEXT(a0, a1, a2, a3);
+    }
+
+    public void glGetInvariantBooleanvEXT(int a0, int a1, ByteBuffer a2)
+    {
+        stats.count("glGetInvariantBooleanvEXT");
+        if (target != null)
+          target.glGetInvariantBooleanvEXT(a0, a1, a2);
+    }
+
+    public void glGetInvariantFloatvEXT(int a0, int a1, float[] a2, int a3)
+    {
+        stats.count("glGetInvariantFloatvEXT");
+        if (target != null)
+          target.glGetInvariantFloatvEXT(a0, a1, a2, a3);
+    }
+
+    public void glGetInvariantFloatvEXT(int a0, int a1, FloatBuffer a2)
+    {
+        stats.count("glGetInvariantFloatvEXT");
+        if (target != null)
+          target.glGetInvariantFloatvEXT(a0, a1, a2);
+    }
+
+    public void glGetInvariantIntegervEXT(int a0, int a1, int[] a2, int a3)
+    {
+        stats.count("glGetInvariantIntegervEXT");
+        if (target != null)
+          target.glGetInvariantIntegervEXT(a0, a1, a2, a3);
+    }
+
+    public void glGetInvariantIntegervEXT(int a0, int a1, IntBuffer a2)
+    {
+        stats.count("glGetInvariantIntegervEXT");
+        if (target != null)
+          target.glGetInvariantIntegervEXT(a0, a1, a2);
+    }
+
+    public void glGetLightfv(int a0, int a1, float[] a2, int a3)
+    {
+        stats.count("glGetLightfv");
+        if (target != null)
+          target.glGetLightfv(a0, a1, a2, a3);
+    }
+
+    public void glGetLightfv(int a0, int a1, FloatBuffer a2)
+    {
+        stats.count("glGetLightfv");
+        if (target != null)
+          target.glGetLightfv(a0, a1, a2);
+    }
+
+    public void glGetLightiv(int a0, int a1, int[] a2, int a3)
+    {
+        stats.count("glGetLightiv");
+        if (target != null)
+          target.glGetLightiv(a0, a1, a2, a3);
+    }
+
+    public void glGetLightiv(int a0, int a1, IntBuffer a2)
+    {
+        stats.count("glGetLightiv");
+        if (target != null)
+          target.glGetLightiv(a0, a1, a2);
+    }
+
+    public void glGetListParameterfvSGIX(int a0, int a1, float[] a2, int a3)
+    {
+        stats.count("glGetListParameterfvSGIX");
+        if (target != null)
+          target.glGetListParameterfvSGIX(a0, a1, a2, a3);
+    }
+
+    public void glGetListParameterfvSGIX(int a0, int a1, FloatBuffer a2)
+    {
+        stats.count("glGetListParameterfvSGIX");
+        if (target != null)
+          target.glGetListParameterfvSGIX(a0, a1, a2);
+    }
+
+    public void glGetListParameterivSGIX(int a0, int a1, int[] a2, int a3)
+    {
+        stats.count("glGetListParameterivSGIX");
+        if (target != null)
+          target.glGetListParameterivSGIX(a0, a1, a2, a3);
+    }
+
+    public void glGetListParameterivSGIX(int a0, int a1, IntBuffer a2)
+    {
+        stats.count("glGetListParameterivSGIX");
+        if (target != null)
+          target.glGetListParameterivSGIX(a0, a1, a2);
+    }
+
+    public void glGetLocalConstantBooleanvEXT(
+        int a0, int a1, byte[] a2, int a3)
+    {
+        stats.count("glGetLocalConstantBooleanvEXT");
+        if (target != null)
+          target.glGetLocalConstantBooleanvEXT(a0, a1, a2, a3);
+    }
+
+    public void glGetLocalConstantBooleanvEXT(int a0, int a1, ByteBuffer a2)
+    {
+        stats.count("glGetLocalConstantBooleanvEXT");
+        if (target != null)
+          target.glGetLocalConstantBooleanvEXT(a0, a1, a2);
+    }
+
+    public void glGetLocalConstantFloatvEXT(int a0, int a1, float[] a2, int a3)
+    {
+        stats.count("glGetLocalConstantFloatvEXT");
+        if (target != null)
+          target.glGetLocalConstantFloatvEXT(a0, a1, a2, a3);
+    }
+
+    public void glGetLocalConstantFloatvEXT(int a0, int a1, FloatBuffer a2)
+    {
+        stats.count("glGetLocalConstantFloatvEXT");
+        if (target != null)
+          target.glGetLocalConstantFloatvEXT(a0, a1, a2);
+    }
+
+    public void glGetLocalConstantIntegervEXT(int a0, int a1, int[] a2, int a3)
+    {
+        stats.count("glGetLocalConstantIntegervEXT");
+        if (target != null)
+          target.glGetLocalConstantIntegervEXT(a0, a1, a2, a3);
+    }
+
+    public void glGetLocalConstantIntegervEXT(int a0, int a1, IntBuffer a2)
+    {
+        stats.count("glGetLocalConstantIntegervEXT");
+        if (target != null)
+          target.glGetLocalConstantIntegervEXT(a0, a1, a2);
+    }
+
+    public void glGetMapAttribParameterfvNV(
+        int a0, int a1, int a2, float[] a3, int a4)
+    {
+        stats.count("glGetMapAttribParameterfvNV");
+        if (target != null)
+          target.glGetMapAttribParameterfvNV(a0, a1, a2, a3, a4);
+    }
+
+    public void glGetMapAttribParameterfvNV(
+        int a0, int a1, int a2, FloatBuffer a3)
+    {
+        stats.count("glGetMapAttribParameterfvNV");
+        if (target != null)
+          target.glGetMapAttribParameterfvNV(a0, a1, a2, a3);
+    }
+
+    public void glGetMapAttribParameterivNV(
+        int a0, int a1, int a2, int[] a3, int a4)
+    {
+        stats.count("glGetMapAttribParameterivNV");
+        if (target != null)
+          target.glGetMapAttribParameterivNV(a0, a1, a2, a3, a4);
+    }
+
+    public void glGetMapAttribParameterivNV(
+        int a0, int a1, int a2, IntBuffer a3)
+    {
+        stats.count("glGetMapAttribParameterivNV");
+        if (target != null)
+          target.glGetMapAttribParameterivNV(a0, a1, a2, a3);
+    }
+
+    public void glGetMapControlPointsNV(
+        int a0, int a1, int a2, int a3, int a4, boolean a5, Buffer a6)
+    {
+        stats.count("glGetMapControlPointsNV");
+        if (target != null)
+          target.glGetMapControlPointsNV(a0, a1, a2, a3, a4, a5, a6);
+    }
+
+    public void glGetMapParameterfvNV(int a0, int a1, float[] a2, int a3)
+    {
+        stats.count("glGetMapParameterfvNV");
+        if (target != null)
+          target.glGetMapParameterfvNV(a0, a1, a2, a3);
+    }
+
+    public void glGetMapParameterfvNV(int a0, int a1, FloatBuffer a2)
+    {
+        stats.count("glGetMapParameterfvNV");
+        if (target != null)
+          target.glGetMapParameterfvNV(a0, a1, a2);
+    }
+
+    public void glGetMapParameterivNV(int a0, int a1, int[] a2, int a3)
+    {
+        stats.count("glGetMapParameterivNV");
+        if (target != null)
+          target.glGetMapParameterivNV(a0, a1, a2, a3);
+    }
+
+    public void glGetMapParameterivNV(int a0, int a1, IntBuffer a2)
+    {
+        stats.count("glGetMapParameterivNV");
+        if (target != null)
+          target.glGetMapParameterivNV(a0, a1, a2);
+    }
+
+    public void glGetMapdv(int a0, int a1, double[] a2, int a3)
+    {
+        stats.count("glGetMapdv");
+        if (target != null)
+          target.glGetMapdv(a0, a1, a2, a3);
+    }
+
+    public void glGetMapdv(int a0, int a1, DoubleBuffer a2)
+    {
+        stats.count("glGetMapdv");
+        if (target != null)
+          target.glGetMapdv(a0, a1, a2);
+    }
+
+    public void glGetMapfv(int a0, int a1, float[] a2, int a3)
+    {
+        stats.count("glGetMapfv");
+        if (target != null)
+          target.glGetMapfv(a0, a1, a2, a3);
+    }
+
+    public void glGetMapfv(int a0, int a1, FloatBuffer a2)
+    {
+        stats.count("glGetMapfv");
+        if (target != null)
+          target.glGetMapfv(a0, a1, a2);
+    }
+
+    public void glGetMapiv(int a0, int a1, int[] a2, int a3)
+    {
+        stats.count("glGetMapiv");
+        if (target != null)
+          target.glGetMapiv(a0, a1, a2, a3);
+    }
+
+    public void glGetMapiv(int a0, int a1, IntBuffer a2)
+    {
+        stats.count("glGetMapiv");
+        if (target != null)
+          target.glGetMapiv(a0, a1, a2);
+    }
+
+    public void glGetMaterialfv(int a0, int a1, float[] a2, int a3)
+    {
+        stats.count("glGetMaterialfv");
+        if (target != null)
+          target.glGetMaterialfv(a0, a1, a2, a3);
+    }
+
+    public void glGetMaterialfv(int a0, int a1, FloatBuffer a2)
+    {
+        stats.count("glGetMaterialfv");
+        if (target != null)
+          target.glGetMaterialfv(a0, a1, a2);
+    }
+
+    public void glGetMaterialiv(int a0, int a1, int[] a2, int a3)
+    {
+        stats.count("glGetMaterialiv");
+        if (target != null)
+          target.glGetMaterialiv(a0, a1, a2, a3);
+    }
+
+    public void glGetMaterialiv(int a0, int a1, IntBuffer a2)
+    {
+        stats.count("glGetMaterialiv");
+        if (target != null)
+          target.glGetMaterialiv(a0, a1, a2);
+    }
+
+    public void glGetMinmax(int a0, boolean a1, int a2, int a3, Buffer a4)
+    {
+        stats.count("glGetMinmax");
+        if (target != null)
+          target.glGetMinmax(a0, a1, a2, a3, a4);
+    }
+
+    public void glGetMinmax(int a0, boolean a1, int a2, int a3, long a4)
+    {
+        stats.count("glGetMinmax");
+        if (target != null)
+          target.glGetMinmax(a0, a1, a2, a3, a4);
+    }
+
+    public void glGetMinmaxParameterfv(int a0, int a1, float[] a2, int a3)
+    {
+        stats.count("glGetMinmaxParameterfv");
+        if (target != null)
+          target.glGetMinmaxParameterfv(a0, a1, a2, a3);
+    }
+
+    public void glGetMinmaxParameterfv(int a0, int a1, FloatBuffer a2)
+    {
+        stats.count("glGetMinmaxParameterfv");
+        if (target != null)
+          target.glGetMinmaxParameterfv(a0, a1, a2);
+    }
+
+    public void glGetMinmaxParameteriv(int a0, int a1, int[] a2, int a3)
+    {
+        stats.count("glGetMinmaxParameteriv");
+        if (target != null)
+          target.glGetMinmaxParameteriv(a0, a1, a2, a3);
+    }
+
+    public void glGetMinmaxParameteriv(int a0, int a1, IntBuffer a2)
+    {
+        stats.count("glGetMinmaxParameteriv");
+        if (target != null)
+          target.glGetMinmaxParameteriv(a0, a1, a2);
+    }
+
+    public void glGetObjectBufferfvATI(int a0, int a1, float[] a2, int a3)
+    {
+        stats.count("glGetObjectBufferfvATI");
+        if (target != null)
+          target.glGetObjectBufferfvATI(a0, a1, a2, a3);
+    }
+
+    public void glGetObjectBufferfvATI(int a0, int a1, FloatBuffer a2)
+    {
+        stats.count("glGetObjectBufferfvATI");
+        if (target != null)
+          target.glGetObjectBufferfvATI(a0, a1, a2);
+    }
+
+    public void glGetObjectBufferivATI(int a0, int a1, int[] a2, int a3)
+    {
+        stats.count("glGetObjectBufferivATI");
+        if (target != null)
+          target.glGetObjectBufferivATI(a0, a1, a2, a3);
+    }
+
+    public void glGetObjectBufferivATI(int a0, int a1, IntBuffer a2)
+    {
+        stats.count("glGetObjectBufferivATI");
+        if (target != null)
+          target.glGetObjectBufferivATI(a0, a1, a2);
+    }
+
+    public void glGetObjectParameterfvARB(int a0, int a1, float[] a2, int a3)
+    {
+        stats.count("glGetObjectParameterfvARB");
+        if (target != null)
+          target.glGetObjectParameterfvARB(a0, a1, a2, a3);
+    }
+
+    public void glGetObjectParameterfvARB(int a0, int a1, FloatBuffer a2)
+    {
+        stats.count("glGetObjectParameterfvARB");
+        if (target != null)
+          target.glGetObjectParameterfvARB(a0, a1, a2);
+    }
+
+    public void glGetObjectParameterivARB(int a0, int a1, int[] a2, int a3)
+    {
+        stats.count("glGetObjectParameterivARB");
+        if (target != null)
+          target.glGetObjectParameterivARB(a0, a1, a2, a3);
+    }
+
+    public void glGetObjectParameterivARB(int a0, int a1, IntBuffer a2)
+    {
+        stats.count("glGetObjectParameterivARB");
+        if (target != null)
+          target.glGetObjectParameterivARB(a0, a1, a2);
+    }
+
+    public void glGetOcclusionQueryivNV(int a0, int a1, int[] a2, int a3)
+    {
+        stats.count("glGetOcclusionQueryivNV");
+        if (target != null)
+          target.glGetOcclusionQueryivNV(a0, a1, a2, a3);
+    }
+
+    public void glGetOcclusionQueryivNV(int a0, int a1, IntBuffer a2)
+    {
+        stats.count("glGetOcclusionQueryivNV");
+        if (target != null)
+          target.glGetOcclusionQueryivNV(a0, a1, a2);
+    }
+
+    public void glGetOcclusionQueryuivNV(int a0, int a1, int[] a2, int a3)
+    {
+        stats.count("glGetOcclusionQueryuivNV");
+        if (target != null)
+          target.glGetOcclusionQueryuivNV(a0, a1, a2, a3);
+    }
+
+    public void glGetOcclusionQueryuivNV(int a0, int a1, IntBuffer a2)
+    {
+        stats.count("glGetOcclusionQueryuivNV");
+        if (target != null)
+          target.glGetOcclusionQueryuivNV(a0, a1, a2);
+    }
+
+    public void glGetPixelMapfv(int a0, float[] a1, int a2)
+    {
+        stats.count("glGetPixelMapfv");
+        if (target != null)
+          target.glGetPixelMapfv(a0, a1, a2);
+    }
+
+    public void glGetPixelMapfv(int a0, FloatBuffer a1)
+    {
+        stats.count("glGetPixelMapfv");
+        if (target != null)
+          target.glGetPixelMapfv(a0, a1);
+    }
+
+    public void glGetPixelMapfv(int a0, long a1)
+    {
+        stats.count("glGetPixelMapfv");
+        if (target != null)
+          target.glGetPixelMapfv(a0, a1);
+    }
+
+    public void glGetPixelMapuiv(int a0, int[] a1, int a2)
+    {
+        stats.count("glGetPixelMapuiv");
+        if (target != null)
+          target.glGetPixelMapuiv(a0, a1, a2);
+    }
+
+    public void glGetPixelMapuiv(int a0, IntBuffer a1)
+    {
+        stats.count("glGetPixelMapuiv");
+        if (target != null)
+          target.glGetPixelMapuiv(a0, a1);
+    }
+
+    public void glGetPixelMapuiv(int a0, long a1)
+    {
+        stats.count("glGetPixelMapuiv");
+        if (target != null)
+          target.glGetPixelMapuiv(a0, a1);
+    }
+
+    public void glGetPixelMapusv(int a0, short[] a1, int a2)
+    {
+        stats.count("glGetPixelMapusv");
+        if (target != null)
+          target.glGetPixelMapusv(a0, a1, a2);
+    }
+
+    public void glGetPixelMapusv(int a0, ShortBuffer a1)
+    {
+        stats.count("glGetPixelMapusv");
+        if (target != null)
+          target.glGetPixelMapusv(a0, a1);
+    }
+
+    public void glGetPixelMapusv(int a0, long a1)
+    {
+        stats.count("glGetPixelMapusv");
+        if (target != null)
+          target.glGetPixelMapusv(a0, a1);
+    }
+
+    public void glGetPixelTexGenParameterfvSGIS(int a0, float[] a1, int a2)
+    {
+        stats.count("glGetPixelTexGenParameterfvSGIS");
+        if (target != null)
+          target.glGetPixelTexGenParameterfvSGIS(a0, a1, a2);
+    }
+
+    public void glGetPixelTexGenParameterfvSGIS(int a0, FloatBuffer a1)
+    {
+        stats.count("glGetPixelTexGenParameterfvSGIS");
+        if (target != null)
+          target.glGetPixelTexGenParameterfvSGIS(a0, a1);
+    }
+
+    public void glGetPixelTexGenParameterivSGIS(int a0, int[] a1, int a2)
+    {
+        stats.count("glGetPixelTexGenParameterivSGIS");
+        if (target != null)
+          target.glGetPixelTexGenParameterivSGIS(a0, a1, a2);
+    }
+
+    public void glGetPixelTexGenParameterivSGIS(int a0, IntBuffer a1)
+    {
+        stats.count("glGetPixelTexGenParameterivSGIS");
+        if (target != null)
+          target.glGetPixelTexGenParameterivSGIS(a0, a1);
+    }
+
+    public void glGetPolygonStipple(byte[] a0, int a1)
+    {
+        stats.count("glGetPolygonStipple");
+        if (target != null)
+          target.glGetPolygonStipple(a0, a1);
+    }
+
+    public void glGetPolygonStipple(ByteBuffer a0)
+    {
+        stats.count("glGetPolygonStipple");
+        if (target != null)
+          target.glGetPolygonStipple(a0);
+    }
+
+    public void glGetPolygonStipple(long a0)
+    {
+        stats.count("glGetPolygonStipple");
+        if (target != null)
+          target.glGetPolygonStipple(a0);
+    }
+
+    public void glGetProgramEnvParameterIivNV(int a0, int a1, int[] a2, int a3)
+    {
+        stats.count("glGetProgramEnvParameterIivNV");
+        if (target != null)
+          target.glGetProgramEnvParameterIivNV(a0, a1, a2, a3);
+    }
+
+    public void glGetProgramEnvParameterIivNV(int a0, int a1, IntBuffer a2)
+    {
+        stats.count("glGetProgramEnvParameterIivNV");
+        if (target != null)
+          target.glGetProgramEnvParameterIivNV(a0, a1, a2);
+    }
+
+    public void glGetProgramEnvParameterIuivNV(
+        int a0, int a1, int[] a2, int a3)
+    {
+        stats.count("glGetProgramEnvParameterIuivNV");
+        if (target != null)
+          target.glGetProgramEnvParameterIuivNV(a0, a1, a2, a3);
+    }
+
+    public void glGetProgramEnvParameterIuivNV(int a0, int a1, IntBuffer a2)
+    {
+        stats.count("glGetProgramEnvParameterIuivNV");
+        if (target != null)
+          target.glGetProgramEnvParameterIuivNV(a0, a1, a2);
+    }
+
+    public void glGetProgramEnvParameterdvARB(
+        int a0, int a1, double[] a2, int a3)
+    {
+        stats.count("glGetProgramEnvParameterdvARB");
+        if (target != null)
+          target.glGetProgramEnvParameterdvARB(a0, a1, a2, a3);
+    }
+
+    public void glGetProgramEnvParameterdvARB(int a0, int a1, DoubleBuffer a2)
+    {
+        stats.count("glGetProgramEnvParameterdvARB");
+        if (target != null)
+          target.glGetProgramEnvParameterdvARB(a0, a1, a2);
+    }
+
+    public void glGetProgramEnvParameterfvARB(
+        int a0, int a1, float[] a2, int a3)
+    {
+        stats.count("glGetProgramEnvParameterfvARB");
+        if (target != null)
+          target.glGetProgramEnvParameterfvARB(a0, a1, a2, a3);
+    }
+
+    public void glGetProgramEnvParameterfvARB(int a0, int a1, FloatBuffer a2)
+    {
+        stats.count("glGetProgramEnvParameterfvARB");
+        if (target != null)
+          target.glGetProgramEnvParameterfvARB(a0, a1, a2);
+    }
+
+    public void glGetProgramInfoLog(
+        int a0, int a1, int[] a2, int a3, byte[] a4, int a5)
+    {
+        stats.count("glGetProgramInfoLog");
+        if (target != null)
+          target.glGetProgramInfoLog(a0, a1, a2, a3, a4, a5);
+    }
+
+    public void glGetProgramInfoLog(
+        int a0, int a1, IntBuffer a2, ByteBuffer a3)
+    {
+        stats.count("glGetProgramInfoLog");
+        if (target != null)
+          target.glGetProgramInfoLog(a0, a1, a2, a3);
+    }
+
+    public void glGetProgramLocalParameterIivNV(
+        int a0, int a1, int[] a2, int a3)
+    {
+        stats.count("glGetProgramLocalParameterIivNV");
+        if (target != null)
+          target.glGetProgramLocalParameterIivNV(a0, a1, a2, a3);
+    }
+
+    public void glGetProgramLocalParameterIivNV(int a0, int a1, IntBuffer a2)
+    {
+        stats.count("glGetProgramLocalParameterIivNV");
+        if (target != null)
+          target.glGetProgramLocalParameterIivNV(a0, a1, a2);
+    }
+
+    public void glGetProgramLocalParameterIuivNV(
+        int a0, int a1, int[] a2, int a3)
+    {
+        stats.count("glGetProgramLocalParameterIuivNV");
+        if (target != null)
+          target.glGetProgramLocalParameterIuivNV(a0, a1, a2, a3);
+    }
+
+    public void glGetProgramLocalParameterIuivNV(int a0, int a1, IntBuffer a2)
+    {
+        stats.count("glGetProgramLocalParameterIuivNV");
+        if (target != null)
+          target.glGetProgramLocalParameterIuivNV(a0, a1, a2);
+    }
+
+    public void glGetProgramLocalParameterdvARB(
+        int a0, int a1, double[] a2, int a3)
+    {
+        stats.count("glGetProgramLocalParameterdvARB");
+        if (target != null)
+          target.glGetProgramLocalParameterdvARB(a0, a1, a2, a3);
+    }
+
+    public void glGetProgramLocalParameterdvARB(
+        int a0, int a1, DoubleBuffer a2)
+    {
+        stats.count("glGetProgramLocalParameterdvARB");
+        if (target != null)
+          target.glGetProgramLocalParameterdvARB(a0, a1, a2);
+    }
+
+    public void glGetProgramLocalParameterfvARB(
+        int a0, int a1, float[] a2, int a3)
+    {
+        stats.count("glGetProgramLocalParameterfvARB");
+        if (target != null)
+          target.glGetProgramLocalParameterfvARB(a0, a1, a2, a3);
+    }
+
+    public void glGetProgramLocalParameterfvARB(int a0, int a1, FloatBuffer a2)
+    {
+        stats.count("glGetProgramLocalParameterfvARB");
+        if (target != null)
+          target.glGetProgramLocalParameterfvARB(a0, a1, a2);
+    }
+
+    public void glGetProgramNamedParameterdvNV(
+        int a0, int a1, String a2, double[] a3, int a4)
+    {
+        stats.count("glGetProgramNamedParameterdvNV");
+        if (target != null)
+          target.glGetProgramNamedParameterdvNV(a0, a1, a2, a3, a4);
+    }
+
+    public void glGetProgramNamedParameterdvNV(
+        int a0, int a1, String a2, DoubleBuffer a3)
+    {
+        stats.count("glGetProgramNamedParameterdvNV");
+        if (target != null)
+          target.glGetProgramNamedParameterdvNV(a0, a1, a2, a3);
+    }
+
+    public void glGetProgramNamedParameterfvNV(
+        int a0, int a1, String a2, float[] a3, int a4)
+    {
+        stats.count("glGetProgramNamedParameterfvNV");
+        if (target != null)
+          target.glGetProgramNamedParameterfvNV(a0, a1, a2, a3, a4);
+    }
+
+    public void glGetProgramNamedParameterfvNV(
+        int a0, int a1, String a2, FloatBuffer a3)
+    {
+        stats.count("glGetProgramNamedParameterfvNV");
+        if (target != null)
+          target.glGetProgramNamedParameterfvNV(a0, a1, a2, a3);
+    }
+
+    public void glGetProgramParameterdvNV(
+        int a0, int a1, int a2, double[] a3, int a4)
+    {
+        stats.count("glGetProgramParameterdvNV");
+        if (target != null)
+          target.glGetProgramParameterdvNV(a0, a1, a2, a3, a4);
+    }
+
+    public void glGetProgramParameterdvNV(
+        int a0, int a1, int a2, DoubleBuffer a3)
+    {
+        stats.count("glGetProgramParameterdvNV");
+        if (target != null)
+          target.glGetProgramParameterdvNV(a0, a1, a2, a3);
+    }
+
+    public void glGetProgramParameterfvNV(
+        int a0, int a1, int a2, float[] a3, int a4)
+    {
+        stats.count("glGetProgramParameterfvNV");
+        if (target != null)
+          target.glGetProgramParameterfvNV(a0, a1, a2, a3, a4);
+    }
+
+    public void glGetProgramParameterfvNV(
+        int a0, int a1, int a2, FloatBuffer a3)
+    {
+        stats.count("glGetProgramParameterfvNV");
+        if (target != null)
+          target.glGetProgramParameterfvNV(a0, a1, a2, a3);
+    }
+
+    public void glGetProgramStringARB(int a0, int a1, Buffer a2)
+    {
+        stats.count("glGetProgramStringARB");
+        if (target != null)
+          target.glGetProgramStringARB(a0, a1, a2);
+    }
+
+    public void glGetProgramStringNV(int a0, int a1, byte[] a2, int a3)
+    {
+        stats.count("glGetProgramStringNV");
+        if (target != null)
+          target.glGetProgramStringNV(a0, a1, a2, a3);
+    }
+
+    public void glGetProgramStringNV(int a0, int a1, ByteBuffer a2)
+    {
+        stats.count("glGetProgramStringNV");
+        if (target != null)
+          target.glGetProgramStringNV(a0, a1, a2);
+    }
+
+    public void glGetProgramiv(int a0, int a1, int[] a2, int a3)
+    {
+        stats.count("glGetProgramiv");
+        if (target != null)
+          target.glGetProgramiv(a0, a1, a2, a3);
+    }
+
+    public void glGetProgramiv(int a0, int a1, IntBuffer a2)
+    {
+        stats.count("glGetProgramiv");
+        if (target != null)
+          target.glGetProgramiv(a0, a1, a2);
+    }
+
+    public void glGetProgramivARB(int a0, int a1, int[] a2, int a3)
+    {
+        stats.count("glGetProgramivARB");
+        if (target != null)
+          target.glGetProgramivARB(a0, a1, a2, a3);
+    }
+
+    public void glGetProgramivARB(int a0, int a1, IntBuffer a2)
+    {
+        stats.count("glGetProgramivARB");
+        if (target != null)
+          target.glGetProgramivARB(a0, a1, a2);
+    }
+
+    public void glGetProgramivNV(int a0, int a1, int[] a2, int a3)
+    {
+        stats.count("glGetProgramivNV");
+        if (target != null)
+          target.glGetProgramivNV(a0, a1, a2, a3);
+    }
+
+    public void glGetProgramivNV(int a0, int a1, IntBuffer a2)
+    {
+        stats.count("glGetProgramivNV");
+        if (target != null)
+          target.glGetProgramivNV(a0, a1, a2);
+    }
+
+    public void glGetQueryObjecti64vEXT(int a0, int a1, long[] a2, int a3)
+    {
+        stats.count("glGetQueryObjecti64vEXT");
+        if (target != null)
+          target.glGetQueryObjecti64vEXT(a0, a1, a2, a3);
+    }
+
+    public void glGetQueryObjecti64vEXT(int a0, int a1, LongBuffer a2)
+    {
+        stats.count("glGetQueryObjecti64vEXT");
+        if (target != null)
+          target.glGetQueryObjecti64vEXT(a0, a1, a2);
+    }
+
+    public void glGetQueryObjectiv(int a0, int a1, int[] a2, int a3)
+    {
+        stats.count("glGetQueryObjectiv");
+        if (target != null)
+          target.glGetQueryObjectiv(a0, a1, a2, a3);
+    }
+
+    public void glGetQueryObjectiv(int a0, int a1, IntBuffer a2)
+    {
+        stats.count("glGetQueryObjectiv");
+        if (target != null)
+          target.glGetQueryObjectiv(a0, a1, a2);
+    }
+
+    public void glGetQueryObjectivARB(int a0, int a1, int[] a2, int a3)
+    {
+        stats.count("glGetQueryObjectivARB");
+        if (target != null)
+          target.glGetQueryObjectivARB(a0, a1, a2, a3);
+    }
+
+    public void glGetQueryObjectivARB(int a0, int a1, IntBuffer a2)
+    {
+        stats.count("glGetQueryObjectivARB");
+        if (target != null)
+          target.glGetQueryObjectivARB(a0, a1, a2);
+    }
+
+    public void glGetQueryObjectui64vEXT(int a0, int a1, long[] a2, int a3)
+    {
+        stats.count("glGetQueryObjectui64vEXT");
+        if (target != null)
+          target.glGetQueryObjectui64vEXT(a0, a1, a2, a3);
+    }
+
+    public void glGetQueryObjectui64vEXT(int a0, int a1, LongBuffer a2)
+    {
+        stats.count("glGetQueryObjectui64vEXT");
+        if (target != null)
+          target.glGetQueryObjectui64vEXT(a0, a1, a2);
+    }
+
+    public void glGetQueryObjectuiv(int a0, int a1, int[] a2, int a3)
+    {
+        stats.count("glGetQueryObjectuiv");
+        if (target != null)
+          target.glGetQueryObjectuiv(a0, a1, a2, a3);
+    }
+
+    public void glGetQueryObjectuiv(int a0, int a1, IntBuffer a2)
+    {
+        stats.count("glGetQueryObjectuiv");
+        if (target != null)
+          target.glGetQueryObjectuiv(a0, a1, a2);
+    }
+
+    public void glGetQueryObjectuivARB(int a0, int a1, int[] a2, int a3)
+    {
+        stats.count("glGetQueryObjectuivARB");
+        if (target != null)
+          target.glGetQueryObjectuivARB(a0, a1, a2, a3);
+    }
+
+    public void glGetQueryObjectuivARB(int a0, int a1, IntBuffer a2)
+    {
+        stats.count("glGetQueryObjectuivARB");
+        if (target != null)
+          target.glGetQueryObjectuivARB(a0, a1, a2);
+    }
+
+    public void glGetQueryiv(int a0, int a1, int[] a2, int a3)
+    {
+        stats.count("glGetQueryiv");
+        if (target != null)
+          target.glGetQueryiv(a0, a1, a2, a3);
+    }
+
+    public void glGetQueryiv(int a0, int a1, IntBuffer a2)
+    {
+        stats.count("glGetQueryiv");
+        if (target != null)
+          target.glGetQueryiv(a0, a1, a2);
+    }
+
+    public void glGetQueryivARB(int a0, int a1, int[] a2, int a3)
+    {
+        stats.count("glGetQueryivARB");
+        if (target != null)
+          target.glGetQueryivARB(a0, a1, a2, a3);
+    }
+
+    public void glGetQueryivARB(int a0, int a1, IntBuffer a2)
+    {
+        stats.count("glGetQueryivARB");
+        if (target != null)
+          target.glGetQueryivARB(a0, a1, a2);
+    }
+
+    public void glGetRenderbufferParameterivEXT(
+        int a0, int a1, int[] a2, int a3)
+    {
+        stats.count("glGetRenderbufferParameterivEXT");
+        if (target != null)
+          target.glGetRenderbufferParameterivEXT(a0, a1, a2, a3);
+    }
+
+    public void glGetRenderbufferParameterivEXT(int a0, int a1, IntBuffer a2)
+    {
+        stats.count("glGetRenderbufferParameterivEXT");
+        if (target != null)
+          target.glGetRenderbufferParameterivEXT(a0, a1, a2);
+    }
+
+    public void glGetSeparableFilter(
+        int a0, int a1, int a2, Buffer a3, Buffer a4, Buffer a5)
+    {
+        stats.count("glGetSeparableFilter");
+        if (target != null)
+          target.glGetSeparableFilter(a0, a1, a2, a3, a4, a5);
+    }
+
+    public void glGetSeparableFilter(
+        int a0, int a1, int a2, long a3, long a4, long a5)
+    {
+        stats.count("glGetSeparableFilter");
+        if (target != null)
+          target.glGetSeparableFilter(a0, a1, a2, a3, a4, a5);
+    }
+
+    public void glGetShaderInfoLog(
+        int a0, int a1, int[] a2, int a3, byte[] a4, int a5)
+    {
+        stats.count("glGetShaderInfoLog");
+        if (target != null)
+          target.glGetShaderInfoLog(a0, a1, a2, a3, a4, a5);
+    }
+
+    public void glGetShaderInfoLog(int a0, int a1, IntBuffer a2, ByteBuffer a3)
+    {
+        stats.count("glGetShaderInfoLog");
+        if (target != null)
+          target.glGetShaderInfoLog(a0, a1, a2, a3);
+    }
+
+    public void glGetShaderSource(
+        int a0, int a1, int[] a2, int a3, byte[] a4, int a5)
+    {
+        stats.count("glGetShaderSource");
+        if (target != null)
+          target.glGetShaderSource(a0, a1, a2, a3, a4, a5);
+    }
+
+    public void glGetShaderSource(int a0, int a1, IntBuffer a2, ByteBuffer a3)
+    {
+        stats.count("glGetShaderSource");
+        if (target != null)
+          target.glGetShaderSource(a0, a1, a2, a3);
+    }
+
+    public void glGetShaderSourceARB(
+        int a0, int a1, int[] a2, int a3, byte[] a4, int a5)
+    {
+        stats.count("glGetShaderSourceARB");
+        if (target != null)
+          target.glGetShaderSourceARB(a0, a1, a2, a3, a4, a5);
+    }
+
+    public void glGetShaderSourceARB(
+        int a0, int a1, IntBuffer a2, ByteBuffer a3)
+    {
+        stats.count("glGetShaderSourceARB");
+        if (target != null)
+          target.glGetShaderSourceARB(a0, a1, a2, a3);
+    }
+
+    public void glGetShaderiv(int a0, int a1, int[] a2, int a3)
+    {
+        stats.count("glGetShaderiv");
+        if (target != null)
+          target.glGetShaderiv(a0, a1, a2, a3);
+    }
+
+    public void glGetShaderiv(int a0, int a1, IntBuffer a2)
+    {
+        stats.count("glGetShaderiv");
+        if (target != null)
+          target.glGetShaderiv(a0, a1, a2);
+    }
+
+    public void glGetSharpenTexFuncSGIS(int a0, float[] a1, int a2)
+    {
+        stats.count("glGetSharpenTexFuncSGIS");
+        if (target != null)
+          target.glGetSharpenTexFuncSGIS(a0, a1, a2);
+    }
+
+    public void glGetSharpenTexFuncSGIS(int a0, FloatBuffer a1)
+    {
+        stats.count("glGetSharpenTexFuncSGIS");
+        if (target != null)
+          target.glGetSharpenTexFuncSGIS(a0, a1);
+    }
+
+    public String glGetString(int a0)
+    {
+        stats.count("glGetString");
+        return (target != null) ? target.glGetString(a0) : null;
+    }
+
+    public void glGetTexBumpParameterfvATI(int a0, float[] a1, int a2)
+    {
+        stats.count("glGetTexBumpParameterfvATI");
+        if (target != null)
+          target.glGetTexBumpParameterfvATI(a0, a1, a2);
+    }
+
+    public void glGetTexBumpParameterfvATI(int a0, FloatBuffer a1)
+    {
+        stats.count("glGetTexBumpParameterfvATI");
+        if (target != null)
+          target.glGetTexBumpParameterfvATI(a0, a1);
+    }
+
+    public void glGetTexBumpParameterivATI(int a0, int[] a1, int a2)
+    {
+        stats.count("glGetTexBumpParameterivATI");
+        if (target != null)
+          target.glGetTexBumpParameterivATI(a0, a1, a2);
+    }
+
+    public void glGetTexBumpParameterivATI(int a0, IntBuffer a1)
+    {
+        stats.count("glGetTexBumpParameterivATI");
+        if (target != null)
+          target.glGetTexBumpParameterivATI(a0, a1);
+    }
+
+    public void glGetTexEnvfv(int a0, int a1, float[] a2, int a3)
+    {
+        stats.count("glGetTexEnvfv");
+        if (target != null)
+          target.glGetTexEnvfv(a0, a1, a2, a3);
+    }
+
+    public void glGetTexEnvfv(int a0, int a1, FloatBuffer a2)
+    {
+        stats.count("glGetTexEnvfv");
+        if (target != null)
+          target.glGetTexEnvfv(a0, a1, a2);
+    }
+
+    public void glGetTexEnviv(int a0, int a1, int[] a2, int a3)
+    {
+        stats.count("glGetTexEnviv");
+        if (target != null)
+          target.glGetTexEnviv(a0, a1, a2, a3);
+    }
+
+    public void glGetTexEnviv(int a0, int a1, IntBuffer a2)
+    {
+        stats.count("glGetTexEnviv");
+        if (target != null)
+          target.glGetTexEnviv(a0, a1, a2);
+    }
+
+    public void glGetTexFilterFuncSGIS(int a0, int a1, float[] a2, int a3)
+    {
+        stats.count("glGetTexFilterFuncSGIS");
+        if (target != null)
+          target.glGetTexFilterFuncSGIS(a0, a1, a2, a3);
+    }
+
+    public void glGetTexFilterFuncSGIS(int a0, int a1, FloatBuffer a2)
+    {
+        stats.count("glGetTexFilterFuncSGIS");
+        if (target != null)
+          target.glGetTexFilterFuncSGIS(a0, a1, a2);
+    }
+
+    public void glGetTexGendv(int a0, int a1, double[] a2, int a3)
+    {
+        stats.count("glGetTexGendv");
+        if (target != null)
+          target.glGetTexGendv(a0, a1, a2, a3);
+    }
+
+    public void glGetTexGendv(int a0, int a1, DoubleBuffer a2)
+    {
+        stats.count("glGetTexGendv");
+        if (target != null)
+          target.glGetTexGendv(a0, a1, a2);
+    }
+
+    public void glGetTexGenfv(int a0, int a1, float[] a2, int a3)
+    {
+        stats.count("glGetTexGenfv");
+        if (target != null)
+          target.glGetTexGenfv(a0, a1, a2, a3);
+    }
+
+    public void glGetTexGenfv(int a0, int a1, FloatBuffer a2)
+    {
+        stats.count("glGetTexGenfv");
+        if (target != null)
+          target.glGetTexGenfv(a0, a1, a2);
+    }
+
+    public void glGetTexGeniv(int a0, int a1, int[] a2, int a3)
+    {
+        stats.count("glGetTexGeniv");
+        if (target != null)
+          target.glGetTexGeniv(a0, a1, a2, a3);
+    }
+
+    public void glGetTexGeniv(int a0, int a1, IntBuffer a2)
+    {
+        stats.count("glGetTexGeniv");
+        if (target != null)
+          target.glGetTexGeniv(a0, a1, a2);
+    }
+
+    public void glGetTexImage(int a0, int a1, int a2, int a3, Buffer a4)
+    {
+        stats.count("glGetTexImage");
+        if (target != null)
+          target.glGetTexImage(a0, a1, a2, a3, a4);
+    }
+
+    public void glGetTexImage(int a0, int a1, int a2, int a3, long a4)
+    {
+        stats.count("glGetTexImage");
+        if (target != null)
+          target.glGetTexImage(a0, a1, a2, a3, a4);
+    }
+
+    public void glGetTexLevelParameterfv(
+        int a0, int a1, int a2, float[] a3, int a4)
+    {
+        stats.count("glGetTexLevelParameterfv");
+        if (target != null)
+          target.glGetTexLevelParameterfv(a0, a1, a2, a3, a4);
+    }
+
+    public void glGetTexLevelParameterfv(
+        int a0, int a1, int a2, FloatBuffer a3)
+    {
+        stats.count("glGetTexLevelParameterfv");
+        if (target != null)
+          target.glGetTexLevelParameterfv(a0, a1, a2, a3);
+    }
+
+    public void glGetTexLevelParameteriv(
+        int a0, int a1, int a2, int[] a3, int a4)
+    {
+        stats.count("glGetTexLevelParameteriv");
+        if (target != null)
+          target.glGetTexLevelParameteriv(a0, a1, a2, a3, a4);
+    }
+
+    public void glGetTexLevelParameteriv(int a0, int a1, int a2, IntBuffer a3)
+    {
+        stats.count("glGetTexLevelParameteriv");
+        if (target != null)
+          target.glGetTexLevelParameteriv(a0, a1, a2, a3);
+    }
+
+    public void glGetTexParameterIivEXT(int a0, int a1, int[] a2, int a3)
+    {
+        stats.count("glGetTexParameterIivEXT");
+        if (target != null)
+          target.glGetTexParameterIivEXT(a0, a1, a2, a3);
+    }
+
+    public void glGetTexParameterIivEXT(int a0, int a1, IntBuffer a2)
+    {
+        stats.count("glGetTexParameterIivEXT");
+        if (target != null)
+          target.glGetTexParameterIivEXT(a0, a1, a2);
+    }
+
+    public void glGetTexParameterIuivEXT(int a0, int a1, int[] a2, int a3)
+    {
+        stats.count("glGetTexParameterIuivEXT");
+        if (target != null)
+          target.glGetTexParameterIuivEXT(a0, a1, a2, a3);
+    }
+
+    public void glGetTexParameterIuivEXT(int a0, int a1, IntBuffer a2)
+    {
+        stats.count("glGetTexParameterIuivEXT");
+        if (target != null)
+          target.glGetTexParameterIuivEXT(a0, a1, a2);
+    }
+
+    public void glGetTexParameterfv(int a0, int a1, float[] a2, int a3)
+    {
+        stats.count("glGetTexParameterfv");
+        if (target != null)
+          target.glGetTexParameterfv(a0, a1, a2, a3);
+    }
+
+    public void glGetTexParameterfv(int a0, int a1, FloatBuffer a2)
+    {
+        stats.count("glGetTexParameterfv");
+        if (target != null)
+          target.glGetTexParameterfv(a0, a1, a2);
+    }
+
+    public void glGetTexParameteriv(int a0, int a1, int[] a2, int a3)
+    {
+        stats.count("glGetTexParameteriv");
+        if (target != null)
+          target.glGetTexParameteriv(a0, a1, a2, a3);
+    }
+
+    public void glGetTexParameteriv(int a0, int a1, IntBuffer a2)
+    {
+        stats.count("glGetTexParameteriv");
+        if (target != null)
+          target.glGetTexParameteriv(a0, a1, a2);
+    }
+
+    public void glGetTrackMatrixivNV(int a0, int a1, int a2, int[] a3, int a4)
+    {
+        stats.count("glGetTrackMatrixivNV");
+        if (target != null)
+          target.glGetTrackMatrixivNV(a0, a1, a2, a3, a4);
+    }
+
+    public void glGetTrackMatrixivNV(int a0, int a1, int a2, IntBuffer a3)
+    {
+        stats.count("glGetTrackMatrixivNV");
+        if (target != null)
+          target.glGetTrackMatrixivNV(a0, a1, a2, a3);
+    }
+
+    public void glGetTransformFeedbackVaryingNV(
+        int a0, int a1, int[] a2, int a3)
+    {
+        stats.count("glGetTransformFeedbackVaryingNV");
+        if (target != null)
+          target.glGetTransformFeedbackVaryingNV(a0, a1, a2, a3);
+    }
+
+    public void glGetTransformFeedbackVaryingNV(int a0, int a1, IntBuffer a2)
+    {
+        stats.count("glGetTransformFeedbackVaryingNV");
+        if (target != null)
+          target.glGetTransformFeedbackVaryingNV(a0, a1, a2);
+    }
+
+    public int glGetUniformBufferSizeEXT(int a0, int a1)
+    {
+        stats.count("glGetUniformBufferSizeEXT");
+        return (target != null) ? target.glGetUniformBufferSizeEXT(a0, a1) : 0;
+    }
+
+    public int glGetUniformLocation(int a0, String a1)
+    {
+        stats.count("glGetUniformLocation");
+        return (target != null) ? target.glGetUniformLocation(a0, a1) : 0;
+    }
+
+    public int glGetUniformLocationARB(int a0, String a1)
+    {
+        stats.count("glGetUniformLocationARB");
+        return (target != null) ? target.glGetUniformLocationARB(a0, a1) : 0;
+    }
+
+    public int glGetUniformOffsetEXT(int a0, int a1)
+    {
+        stats.count("glGetUniformOffsetEXT");
+        return (target != null) ? target.glGetUniformOffsetEXT(a0, a1) : 0;
+    }
+
+    public void glGetUniformfv(int a0, int a1, float[] a2, int a3)
+    {
+        stats.count("glGetUniformfv");
+        if (target != null)
+          target.glGetUniformfv(a0, a1, a2, a3);
+    }
+
+    public void glGetUniformfv(int a0, int a1, FloatBuffer a2)
+    {
+        stats.count("glGetUniformfv");
+        if (target != null)
+          target.glGetUniformfv(a0, a1, a2);
+    }
+
+    public void glGetUniformfvARB(int a0, int a1, float[] a2, int a3)
+    {
+        stats.count("glGetUniformfvARB");
+        if (target != null)
+          target.glGetUniformfvARB(a0, a1, a2, a3);
+    }
+
+    public void glGetUniformfvARB(int a0, int a1, FloatBuffer a2)
+    {
+        stats.count("glGetUniformfvARB");
+        if (target != null)
+          target.glGetUniformfvARB(a0, a1, a2);
+    }
+
+    public void glGetUniformiv(int a0, int a1, int[] a2, int a3)
+    {
+        stats.count("glGetUniformiv");
+        if (target != null)
+          target.glGetUniformiv(a0, a1, a2, a3);
+    }
+
+    public void glGetUniformiv(int a0, int a1, IntBuffer a2)
+    {
+        stats.count("glGetUniformiv");
+        if (target != null)
+          target.glGetUniformiv(a0, a1, a2);
+    }
+
+    public void glGetUniformivARB(int a0, int a1, int[] a2, int a3)
+    {
+        stats.count("glGetUniformivARB");
+        if (target != null)
+          target.glGetUniformivARB(a0, a1, a2, a3);
+    }
+
+    public void glGetUniformivARB(int a0, int a1, IntBuffer a2)
+    {
+        stats.count("glGetUniformivARB");
+        if (target != null)
+          target.glGetUniformivARB(a0, a1, a2);
+    }
+
+    public void glGetUniformuivEXT(int a0, int a1, int[] a2, int a3)
+    {
+        stats.count("glGetUniformuivEXT");
+        if (target != null)
+          target.glGetUniformuivEXT(a0, a1, a2, a3);
+    }
+
+    public void glGetUniformuivEXT(int a0, int a1, IntBuffer a2)
+    {
+        stats.count("glGetUniformuivEXT");
+        if (target != null)
+          target.glGetUniformuivEXT(a0, a1, a2);
+    }
+
+    public void glGetVariantArrayObjectfvATI(
+        int a0, int a1, float[] a2, int a3)
+    {
+        stats.count("glGetVariantArrayObjectfvATI");
+        if (target != null)
+          target.glGetVariantArrayObjectfvATI(a0, a1, a2, a3);
+    }
+
+    public void glGetVariantArrayObjectfvATI(int a0, int a1, FloatBuffer a2)
+    {
+        stats.count("glGetVariantArrayObjectfvATI");
+        if (target != null)
+          target.glGetVariantArrayObjectfvATI(a0, a1, a2);
+    }
+
+    public void glGetVariantArrayObjectivATI(int a0, int a1, int[] a2, int a3)
+    {
+        stats.count("glGetVariantArrayObjectivATI");
+        if (target != null)
+          target.glGetVariantArrayObjectivATI(a0, a1, a2, a3);
+    }
+
+    public void glGetVariantArrayObjectivATI(int a0, int a1, IntBuffer a2)
+    {
+        stats.count("glGetVariantArrayObjectivATI");
+        if (target != null)
+          target.glGetVariantArrayObjectivATI(a0, a1, a2);
+    }
+
+    public void glGetVariantBooleanvEXT(int a0, int a1, byte[] a2, int a3)
+    {
+        stats.count("glGetVariantBooleanvEXT");
+        if (target != null)
+          target.glGetVariantBooleanvEXT(a0, a1, a2, a3);
+    }
+
+    public void glGetVariantBooleanvEXT(int a0, int a1, ByteBuffer a2)
+    {
+        stats.count("glGetVariantBooleanvEXT");
+        if (target != null)
+          target.glGetVariantBooleanvEXT(a0, a1, a2);
+    }
+
+    public void glGetVariantFloatvEXT(int a0, int a1, float[] a2, int a3)
+    {
+        stats.count("glGetVariantFloatvEXT");
+        if (target != null)
+          target.glGetVariantFloatvEXT(a0, a1, a2, a3);
+    }
+
+    public void glGetVariantFloatvEXT(int a0, int a1, FloatBuffer a2)
+    {
+        stats.count("glGetVariantFloatvEXT");
+        if (target != null)
+          target.glGetVariantFloatvEXT(a0, a1, a2);
+    }
+
+    public void glGetVariantIntegervEXT(int a0, int a1, int[] a2, int a3)
+    {
+        stats.count("glGetVariantIntegervEXT");
+        if (target != null)
+          target.glGetVariantIntegervEXT(a0, a1, a2, a3);
+    }
+
+    public void glGetVariantIntegervEXT(int a0, int a1, IntBuffer a2)
+    {
+        stats.count("glGetVariantIntegervEXT");
+        if (target != null)
+          target.glGetVariantIntegervEXT(a0, a1, a2);
+    }
+
+    public int glGetVaryingLocationNV(int a0, byte[] a1, int a2)
+    {
+        stats.count("glGetVaryingLocationNV");
+        if (target == null)
+          return 0;
+        return target.glGetVaryingLocationNV(a0, a1, a2);
+    }
+
+    public int glGetVaryingLocationNV(int a0, ByteBuffer a1)
+    {
+        stats.count("glGetVaryingLocationNV");
+        return (target != null) ? target.glGetVaryingLocationNV(a0, a1) : 0;
+    }
+
+    public void glGetVertexAttribArrayObjectfvATI(
+        int a0, int a1, float[] a2, int a3)
+    {
+        stats.count("glGetVertexAttribArrayObjectfvATI");
+        if (target != null)
+          target.glGetVertexAttribArrayObjectfvATI(a0, a1, a2, a3);
+    }
+
+    public void glGetVertexAttribArrayObjectfvATI(
+        int a0, int a1, FloatBuffer a2)
+    {
+        stats.count("glGetVertexAttribArrayObjectfvATI");
+        if (target != null)
+          target.glGetVertexAttribArrayObjectfvATI(a0, a1, a2);
+    }
+
+    public void glGetVertexAttribArrayObjectivATI(
+        int a0, int a1, int[] a2, int a3)
+    {
+        stats.count("glGetVertexAttribArrayObjectivATI");
+        if (target != null)
+          target.glGetVertexAttribArrayObjectivATI(a0, a1, a2, a3);
+    }
+
+    public void glGetVertexAttribArrayObjectivATI(int a0, int a1, IntBuffer a2)
+    {
+        stats.count("glGetVertexAttribArrayObjectivATI");
+        if (target != null)
+          target.glGetVertexAttribArrayObjectivATI(a0, a1, a2);
+    }
+
+    public void glGetVertexAttribIivEXT(int a0, int a1, int[] a2, int a3)
+    {
+        stats.count("glGetVertexAttribIivEXT");
+        if (target != null)
+          target.glGetVertexAttribIivEXT(a0, a1, a2, a3);
+    }
+
+    public void glGetVertexAttribIivEXT(int a0, int a1, IntBuffer a2)
+    {
+        stats.count("glGetVertexAttribIivEXT");
+        if (target != null)
+          target.glGetVertexAttribIivEXT(a0, a1, a2);
+    }
+
+    public void glGetVertexAttribIuivEXT(int a0, int a1, int[] a2, int a3)
+    {
+        stats.count("glGetVertexAttribIuivEXT");
+        if (target != null)
+          target.glGetVertexAttribIuivEXT(a0, a1, a2, a3);
+    }
+
+    public void glGetVertexAttribIuivEXT(int a0, int a1, IntBuffer a2)
+    {
+        stats.count("glGetVertexAttribIuivEXT");
+        if (target != null)
+          target.glGetVertexAttribIuivEXT(a0, a1, a2);
+    }
+
+    public void glGetVertexAttribdv(int a0, int a1, double[] a2, int a3)
+    {
+        stats.count("glGetVertexAttribdv");
+        if (target != null)
+          target.glGetVertexAttribdv(a0, a1, a2, a3);
+    }
+
+    public void glGetVertexAttribdv(int a0, int a1, DoubleBuffer a2)
+    {
+        stats.count("glGetVertexAttribdv");
+        if (target != null)
+          target.glGetVertexAttribdv(a0, a1, a2);
+    }
+
+    public void glGetVertexAttribdvARB(int a0, int a1, double[] a2, int a3)
+    {
+        stats.count("glGetVertexAttribdvARB");
+        if (target != null)
+          target.glGetVertexAttribdvARB(a0, a1, a2, a3);
+    }
+
+    public void glGetVertexAttribdvARB(int a0, int a1, DoubleBuffer a2)
+    {
+        stats.count("glGetVertexAttribdvARB");
+        if (target != null)
+          target.glGetVertexAttribdvARB(a0, a1, a2);
+    }
+
+    public void glGetVertexAttribdvNV(int a0, int a1, double[] a2, int a3)
+    {
+        stats.count("glGetVertexAttribdvNV");
+        if (target != null)
+          target.glGetVertexAttribdvNV(a0, a1, a2, a3);
+    }
+
+    public void glGetVertexAttribdvNV(int a0, int a1, DoubleBuffer a2)
+    {
+        stats.count("glGetVertexAttribdvNV");
+        if (target != null)
+          target.glGetVertexAttribdvNV(a0, a1, a2);
+    }
+
+    public void glGetVertexAttribfv(int a0, int a1, float[] a2, int a3)
+    {
+        stats.count("glGetVertexAttribfv");
+        if (target != null)
+          target.glGetVertexAttribfv(a0, a1, a2, a3);
+    }
+
+    public void glGetVertexAttribfv(int a0, int a1, FloatBuffer a2)
+    {
+        stats.count("glGetVertexAttribfv");
+        if (target != null)
+          target.glGetVertexAttribfv(a0, a1, a2);
+    }
+
+    public void glGetVertexAttribfvARB(int a0, int a1, float[] a2, int a3)
+    {
+        stats.count("glGetVertexAttribfvARB");
+        if (target != null)
+          target.glGetVertexAttribfvARB(a0, a1, a2, a3);
+    }
+
+    public void glGetVertexAttribfvARB(int a0, int a1, FloatBuffer a2)
+    {
+        stats.count("glGetVertexAttribfvARB");
+        if (target != null)
+          target.glGetVertexAttribfvARB(a0, a1, a2);
+    }
+
+    public void glGetVertexAttribfvNV(int a0, int a1, float[] a2, int a3)
+    {
+        stats.count("glGetVertexAttribfvNV");
+        if (target != null)
+          target.glGetVertexAttribfvNV(a0, a1, a2, a3);
+    }
+
+    public void glGetVertexAttribfvNV(int a0, int a1, FloatBuffer a2)
+    {
+        stats.count("glGetVertexAttribfvNV");
+        if (target != null)
+          target.glGetVertexAttribfvNV(a0, a1, a2);
+    }
+
+    public void glGetVertexAttribiv(int a0, int a1, int[] a2, int a3)
+    {
+        stats.count("glGetVertexAttribiv");
+        if (target != null)
+          target.glGetVertexAttribiv(a0, a1, a2, a3);
+    }
+
+    public void glGetVertexAttribiv(int a0, int a1, IntBuffer a2)
+    {
+        stats.count("glGetVertexAttribiv");
+        if (target != null)
+          target.glGetVertexAttribiv(a0, a1, a2);
+    }
+
+    public void glGetVertexAttribivARB(int a0, int a1, int[] a2, int a3)
+    {
+        stats.count("glGetVertexAttribivARB");
+        if (target != null)
+          target.glGetVertexAttribivARB(a0, a1, a2, a3);
+    }
+
+    public void glGetVertexAttribivARB(int a0, int a1, IntBuffer a2)
+    {
+        stats.count("glGetVertexAttribivARB");
+        if (target != null)
+          target.glGetVertexAttribivARB(a0, a1, a2);
+    }
+
+    public void glGetVertexAttribivNV(int a0, int a1, int[] a2, int a3)
+    {
+        stats.count("glGetVertexAttribivNV");
+        if (target != null)
+          target.glGetVertexAttribivNV(a0, a1, a2, a3);
+    }
+
+    public void glGetVertexAttribivNV(int a0, int a1, IntBuffer a2)
+    {
+        stats.count("glGetVertexAttribivNV");
+        if (target != null)
+          target.glGetVertexAttribivNV(a0, a1, a2);
+    }
+
+    public void glGlobalAlphaFactorbSUN(byte a0)
+    {
+        stats.count("glGlobalAlphaFactorbSUN");
+        if (target != null)
+          target.glGlobalAlphaFactorbSUN(a0);
+    }
+
+    public void glGlobalAlphaFactordSUN(double a0)
+    {
+        stats.count("glGlobalAlphaFactordSUN");
+        if (target != null)
+          target.glGlobalAlphaFactordSUN(a0);
+    }
+
+    public void glGlobalAlphaFactorfSUN(float a0)
+    {
+        stats.count("glGlobalAlphaFactorfSUN");
+        if (target != null)
+          target.glGlobalAlphaFactorfSUN(a0);
+    }
+
+    public void glGlobalAlphaFactoriSUN(int a0)
+    {
+        stats.count("glGlobalAlphaFactoriSUN");
+        if (target != null)
+          target.glGlobalAlphaFactoriSUN(a0);
+    }
+
+    public void glGlobalAlphaFactorsSUN(short a0)
+    {
+        stats.count("glGlobalAlphaFactorsSUN");
+        if (target != null)
+          target.glGlobalAlphaFactorsSUN(a0);
+    }
+
+    public void glGlobalAlphaFactorubSUN(byte a0)
+    {
+        stats.count("glGlobalAlphaFactorubSUN");
+        if (target != null)
+          target.glGlobalAlphaFactorubSUN(a0);
+    }
+
+    public void glGlobalAlphaFactoruiSUN(int a0)
+    {
+        stats.count("glGlobalAlphaFactoruiSUN");
+        if (target != null)
+          target.glGlobalAlphaFactoruiSUN(a0);
+    }
+
+    public void glGlobalAlphaFactorusSUN(short a0)
+    {
+        stats.count("glGlobalAlphaFactorusSUN");
+        if (target != null)
+          target.glGlobalAlphaFactorusSUN(a0);
+    }
+
+    public void glHint(int a0, int a1)
+    {
+        stats.count("glHint");
+        if (target != null)
+          target.glHint(a0, a1);
+    }
+
+    public void glHintPGI(int a0, int a1)
+    {
+        stats.count("glHintPGI");
+        if (target != null)
+          target.glHintPGI(a0, a1);
+    }
+
+    public void glHistogram(int a0, int a1, int a2, boolean a3)
+    {
+        stats.count("glHistogram");
+        if (target != null)
+          target.glHistogram(a0, a1, a2, a3);
+    }
+
+    public void glIglooInterfaceSGIX(int a0, Buffer a1)
+    {
+        stats.count("glIglooInterfaceSGIX");
+        if (target != null)
+          target.glIglooInterfaceSGIX(a0, a1);
+    }
+
+    public void glImageTransformParameterfHP(int a0, int a1, float a2)
+    {
+        stats.count("glImageTransformParameterfHP");
+        if (target != null)
+          target.glImageTransformParameterfHP(a0, a1, a2);
+    }
+
+    public void glImageTransformParameterfvHP(
+        int a0, int a1, float[] a2, int a3)
+    {
+        stats.count("glImageTransformParameterfvHP");
+        if (target != null)
+          target.glImageTransformParameterfvHP(a0, a1, a2, a3);
+    }
+
+    public void glImageTransformParameterfvHP(int a0, int a1, FloatBuffer a2)
+    {
+        stats.count("glImageTransformParameterfvHP");
+        if (target != null)
+          target.glImageTransformParameterfvHP(a0, a1, a2);
+    }
+
+    public void glImageTransformParameteriHP(int a0, int a1, int a2)
+    {
+        stats.count("glImageTransformParameteriHP");
+        if (target != null)
+          target.glImageTransformParameteriHP(a0, a1, a2);
+    }
+
+    public void glImageTransformParameterivHP(int a0, int a1, int[] a2, int a3)
+    {
+        stats.count("glImageTransformParameterivHP");
+        if (target != null)
+          target.glImageTransformParameterivHP(a0, a1, a2, a3);
+    }
+
+    public void glImageTransformParameterivHP(int a0, int a1, IntBuffer a2)
+    {
+        stats.count("glImageTransformParameterivHP");
+        if (target != null)
+          target.glImageTransformParameterivHP(a0, a1, a2);
+    }
+
+    public void glIndexFuncEXT(int a0, float a1)
+    {
+        stats.count("glIndexFuncEXT");
+        if (target != null)
+          target.glIndexFuncEXT(a0, a1);
+    }
+
+    public void glIndexMask(int a0)
+    {
+        stats.count("glIndexMask");
+        if (target != null)
+          target.glIndexMask(a0);
+    }
+
+    public void glIndexMaterialEXT(int a0, int a1)
+    {
+        stats.count("glIndexMaterialEXT");
+        if (target != null)
+          target.glIndexMaterialEXT(a0, a1);
+    }
+
+    public void glIndexPointer(int a0, int a1, Buffer a2)
+    {
+        stats.count("glIndexPointer");
+        if (target != null)
+          target.glIndexPointer(a0, a1, a2);
+    }
+
+    public void glIndexd(double a0)
+    {
+        stats.count("glIndexd");
+        if (target != null)
+          target.glIndexd(a0);
+    }
+
+    public void glIndexdv(double[] a0, int a1)
+    {
+        stats.count("glIndexdv");
+        if (target != null)
+          target.glIndexdv(a0, a1);
+    }
+
+    public void glIndexdv(DoubleBuffer a0)
+    {
+        stats.count("glIndexdv");
+        if (target != null)
+          target.glIndexdv(a0);
+    }
+
+    public void glIndexf(float a0)
+    {
+        stats.count("glIndexf");
+        if (target != null)
+          target.glIndexf(a0);
+    }
+
+    public void glIndexfv(float[] a0, int a1)
+    {
+        stats.count("glIndexfv");
+        if (target != null)
+          target.glIndexfv(a0, a1);
+    }
+
+    public void glIndexfv(FloatBuffer a0)
+    {
+        stats.count("glIndexfv");
+        if (target != null)
+          target.glIndexfv(a0);
+    }
+
+    public void glIndexi(int a0)
+    {
+        stats.count("glIndexi");
+        if (target != null)
+          target.glIndexi(a0);
+    }
+
+    public void glIndexiv(int[] a0, int a1)
+    {
+        stats.count("glIndexiv");
+        if (target != null)
+          target.glIndexiv(a0, a1);
+    }
+
+    public void glIndexiv(IntBuffer a0)
+    {
+        stats.count("glIndexiv");
+        if (target != null)
+          target.glIndexiv(a0);
+    }
+
+    public void glIndexs(short a0)
+    {
+        stats.count("glIndexs");
+        if (target != null)
+          target.glIndexs(a0);
+    }
+
+    public void glIndexsv(short[] a0, int a1)
+    {
+        stats.count("glIndexsv");
+        if (target != null)
+          target.glIndexsv(a0, a1);
+    }
+
+    public void glIndexsv(ShortBuffer a0)
+    {
+        stats.count("glIndexsv");
+        if (target != null)
+          target.glIndexsv(a0);
+    }
+
+    public void glIndexub(byte a0)
+    {
+        stats.count("glIndexub");
+        if (target != null)
+          target.glIndexub(a0);
+    }
+
+    public void glIndexubv(byte[] a0, int a1)
+    {
+        stats.count("glIndexubv");
+        if (target != null)
+          target.glIndexubv(a0, a1);
+    }
+
+    public void glIndexubv(ByteBuffer a0)
+    {
+        stats.count("glIndexubv");
+        if (target != null)
+          target.glIndexubv(a0);
+    }
+
+    public void glInitNames()
+    {
+        stats.count("glInitNames");
+        if (target != null)
+          target.glInitNames();
+    }
+
+    public void glInsertComponentEXT(int a0, int a1, int a2)
+    {
+        stats.count("glInsertComponentEXT");
+        if (target != null)
+          target.glInsertComponentEXT(a0, a1, a2);
+    }
+
+    public void glInstrumentsBufferSGIX(int a0, int[] a1, int a2)
+    {
+        stats.count("glInstrumentsBufferSGIX");
+        if (target != null)
+          target.glInstrumentsBufferSGIX(a0, a1, a2);
+    }
+
+    public void glInstrumentsBufferSGIX(int a0, IntBuffer a1)
+    {
+        stats.count("glInstrumentsBufferSGIX");
+        if (target != null)
+          target.glInstrumentsBufferSGIX(a0, a1);
+    }
+
+    public void glInterleavedArrays(int a0, int a1, Buffer a2)
+    {
+        stats.count("glInterleavedArrays");
+        if (target != null)
+          target.glInterleavedArrays(a0, a1, a2);
+    }
+
+    public void glInterleavedArrays(int a0, int a1, long a2)
+    {
+        stats.count("glInterleavedArrays");
+        if (target != null)
+          target.glInterleavedArrays(a0, a1, a2);
+    }
+
+    public boolean glIsAsyncMarkerSGIX(int a0)
+    {
+        stats.count("glIsAsyncMarkerSGIX");
+        return (target != null) ? target.glIsAsyncMarkerSGIX(a0) : false;
+    }
+
+    public boolean glIsBuffer(int a0)
+    {
+        stats.count("glIsBuffer");
+        return (target != null) ? target.glIsBuffer(a0) : false;
+    }
+
+    public boolean glIsBufferARB(int a0)
+    {
+        stats.count("glIsBufferARB");
+        return (target != null) ? target.glIsBufferARB(a0) : false;
+    }
+
+    public boolean glIsEnabled(int a0)
+    {
+        stats.count("glIsEnabled");
+        return (target != null) ? target.glIsEnabled(a0) : false;
+    }
+
+    public boolean glIsEnabledIndexedEXT(int a0, int a1)
+    {
+        stats.count("glIsEnabledIndexedEXT");
+        return (target != null) ? target.glIsEnabledIndexedEXT(a0, a1) : false;
+    }
+
+    public boolean glIsFenceAPPLE(int a0)
+    {
+        stats.count("glIsFenceAPPLE");
+        return (target != null) ? target.glIsFenceAPPLE(a0) : false;
+    }
+
+    public boolean glIsFenceNV(int a0)
+    {
+        stats.count("glIsFenceNV");
+        return (target != null) ? target.glIsFenceNV(a0) : false;
+    }
+
+    public boolean glIsFramebufferEXT(int a0)
+    {
+        stats.count("glIsFramebufferEXT");
+        return (target != null) ? target.glIsFramebufferEXT(a0) : false;
+    }
+
+    public boolean glIsList(int a0)
+    {
+        stats.count("glIsList");
+        return (target != null) ? target.glIsList(a0) : false;
+    }
+
+    public boolean glIsObjectBufferATI(int a0)
+    {
+        stats.count("glIsObjectBufferATI");
+        return (target != null) ? target.glIsObjectBufferATI(a0) : false;
+    }
+
+    public boolean glIsOcclusionQueryNV(int a0)
+    {
+        stats.count("glIsOcclusionQueryNV");
+        return (target != null) ? target.glIsOcclusionQueryNV(a0) : false;
+    }
+
+    public boolean glIsProgram(int a0)
+    {
+        stats.count("glIsProgram");
+        return (target != null) ? target.glIsProgram(a0) : false;
+    }
+
+    public boolean glIsProgramARB(int a0)
+    {
+        stats.count("glIsProgramARB");
+        return (target != null) ? target.glIsProgramARB(a0) : false;
+    }
+
+    public boolean glIsProgramNV(int a0)
+    {
+        stats.count("glIsProgramNV");
+        return (target != null) ? target.glIsProgramNV(a0) : false;
+    }
+
+    public boolean glIsQuery(int a0)
+    {
+        stats.count("glIsQuery");
+        return (target != null) ? target.glIsQuery(a0) : false;
+    }
+
+    public boolean glIsQueryARB(int a0)
+    {
+        stats.count("glIsQueryARB");
+        return (target != null) ? target.glIsQueryARB(a0) : false;
+    }
+
+    public boolean glIsRenderbufferEXT(int a0)
+    {
+        stats.count("glIsRenderbufferEXT");
+        return (target != null) ? target.glIsRenderbufferEXT(a0) : false;
+    }
+
+    public boolean glIsShader(int a0)
+    {
+        stats.count("glIsShader");
+        return (target != null) ? target.glIsShader(a0) : false;
+    }
+
+    public boolean glIsTexture(int a0)
+    {
+        stats.count("glIsTexture");
+        return (target != null) ? target.glIsTexture(a0) : false;
+    }
+
+    public boolean glIsVariantEnabledEXT(int a0, int a1)
+    {
+        stats.count("glIsVariantEnabledEXT");
+        return (target != null) ? target.glIsVariantEnabledEXT(a0, a1) : false;
+    }
+
+    public boolean glIsVertexArrayAPPLE(int a0)
+    {
+        stats.count("glIsVertexArrayAPPLE");
+        return (target != null) ? target.glIsVertexArrayAPPLE(a0) : false;
+    }
+
+    public boolean glIsVertexAttribEnabledAPPLE(int a0, int a1)
+    {
+        stats.count("glIsVertexAttribEnabledAPPLE");
+        if (target == null)
+          return false;
+        return target.glIsVertexAttribEnabledAPPLE(a0, a1);
+    }
+
+    public void glLightEnviSGIX(int a0, int a1)
+    {
+        stats.count("glLightEnviSGIX");
+        if (target != null)
+          target.glLightEnviSGIX(a0, a1);
+    }
+
+    public void glLightModelf(int a0, float a1)
+    {
+        stats.count("glLightModelf");
+        if (target != null)
+          target.glLightModelf(a0, a1);
+    }
+
+    public void glLightModelfv(int a0, float[] a1, int a2)
+    {
+        stats.count("glLightModelfv");
+        if (target != null)
+          target.glLightModelfv(a0, a1, a2);
+    }
+
+    public void glLightModelfv(int a0, FloatBuffer a1)
+    {
+        stats.count("glLightModelfv");
+        if (target != null)
+          target.glLightModelfv(a0, a1);
+    }
+
+    public void glLightModeli(int a0, int a1)
+    {
+        stats.count("glLightModeli");
+        if (target != null)
+          target.glLightModeli(a0, a1);
+    }
+
+    public void glLightModeliv(int a0, int[] a1, int a2)
+    {
+        stats.count("glLightModeliv");
+        if (target != null)
+          target.glLightModeliv(a0, a1, a2);
+    }
+
+    public void glLightModeliv(int a0, IntBuffer a1)
+    {
+        stats.count("glLightModeliv");
+        if (target != null)
+          target.glLightModeliv(a0, a1);
+    }
+
+    public void glLightf(int a0, int a1, float a2)
+    {
+        stats.count("glLightf");
+        if (target != null)
+          target.glLightf(a0, a1, a2);
+    }
+
+    public void glLightfv(int a0, int a1, float[] a2, int a3)
+    {
+        stats.count("glLightfv");
+        if (target != null)
+          target.glLightfv(a0, a1, a2, a3);
+    }
+
+    public void glLightfv(int a0, int a1, FloatBuffer a2)
+    {
+        stats.count("glLightfv");
+        if (target != null)
+          target.glLightfv(a0, a1, a2);
+    }
+
+    public void glLighti(int a0, int a1, int a2)
+    {
+        stats.count("glLighti");
+        if (target != null)
+          target.glLighti(a0, a1, a2);
+    }
+
+    public void glLightiv(int a0, int a1, int[] a2, int a3)
+    {
+        stats.count("glLightiv");
+        if (target != null)
+          target.glLightiv(a0, a1, a2, a3);
+    }
+
+    public void glLightiv(int a0, int a1, IntBuffer a2)
+    {
+        stats.count("glLightiv");
+        if (target != null)
+          target.glLightiv(a0, a1, a2);
+    }
+
+    public void glLineStipple(int a0, short a1)
+    {
+        stats.count("glLineStipple");
+        if (target != null)
+          target.glLineStipple(a0, a1);
+    }
+
+    public void glLineWidth(float a0)
+    {
+        stats.count("glLineWidth");
+        if (target != null)
+          target.glLineWidth(a0);
+    }
+
+    public void glLinkProgram(int a0)
+    {
+        stats.count("glLinkProgram");
+        if (target != null)
+          target.glLinkProgram(a0);
+    }
+
+    public void glLinkProgramARB(int a0)
+    {
+        stats.count("glLinkProgramARB");
+        if (target != null)
+          target.glLinkProgramARB(a0);
+    }
+
+    public void glListBase(int a0)
+    {
+        stats.count("glListBase");
+        if (target != null)
+          target.glListBase(a0);
+    }
+
+    public void glListParameterfSGIX(int a0, int a1, float a2)
+    {
+        stats.count("glListParameterfSGIX");
+        if (target != null)
+          target.glListParameterfSGIX(a0, a1, a2);
+    }
+
+    public void glListParameterfvSGIX(int a0, int a1, float[] a2, int a3)
+    {
+        stats.count("glListParameterfvSGIX");
+        if (target != null)
+          target.glListParameterfvSGIX(a0, a1, a2, a3);
+    }
+
+    public void glListParameterfvSGIX(int a0, int a1, FloatBuffer a2)
+    {
+        stats.count("glListParameterfvSGIX");
+        if (target != null)
+          target.glListParameterfvSGIX(a0, a1, a2);
+    }
+
+    public void glListParameteriSGIX(int a0, int a1, int a2)
+    {
+        stats.count("glListParameteriSGIX");
+        if (target != null)
+          target.glListParameteriSGIX(a0, a1, a2);
+    }
+
+    public void glListParameterivSGIX(int a0, int a1, int[] a2, int a3)
+    {
+        stats.count("glListParameterivSGIX");
+        if (target != null)
+          target.glListParameterivSGIX(a0, a1, a2, a3);
+    }
+
+    public void glListParameterivSGIX(int a0, int a1, IntBuffer a2)
+    {
+        stats.count("glListParameterivSGIX");
+        if (target != null)
+          target.glListParameterivSGIX(a0, a1, a2);
+    }
+
+    public void glLoadIdentity()
+    {
+        stats.count("glLoadIdentity");
+        if (target != null)
+          target.glLoadIdentity();
+    }
+
+    public void glLoadIdentityDeformationMapSGIX(int a0)
+    {
+        stats.count("glLoadIdentityDeformationMapSGIX");
+        if (target != null)
+          target.glLoadIdentityDeformationMapSGIX(a0);
+    }
+
+    public void glLoadMatrixd(double[] a0, int a1)
+    {
+        stats.count("glLoadMatrixd");
+        if (target != null)
+          target.glLoadMatrixd(a0, a1);
+    }
+
+    public void glLoadMatrixd(DoubleBuffer a0)
+    {
+        stats.count("glLoadMatrixd");
+        if (target != null)
+          target.glLoadMatrixd(a0);
+    }
+
+    public void glLoadMatrixf(float[] a0, int a1)
+    {
+        stats.count("glLoadMatrixf");
+        if (target != null)
+          target.glLoadMatrixf(a0, a1);
+    }
+
+    public void glLoadMatrixf(FloatBuffer a0)
+    {
+        stats.count("glLoadMatrixf");
+        if (target != null)
+          target.glLoadMatrixf(a0);
+    }
+
+    public void glLoadName(int a0)
+    {
+        stats.count("glLoadName");
+        if (target != null)
+          target.glLoadName(a0);
+    }
+
+    public void glLoadProgramNV(int a0, int a1, int a2, String a3)
+    {
+        stats.count("glLoadProgramNV");
+        if (target != null)
+          target.glLoadProgramNV(a0, a1, a2, a3);
+    }
+
+    public void glLoadTransposeMatrixd(double[] a0, int a1)
+    {
+        stats.count("glLoadTransposeMatrixd");
+        if (target != null)
+          target.glLoadTransposeMatrixd(a0, a1);
+    }
+
+    public void glLoadTransposeMatrixd(DoubleBuffer a0)
+    {
+        stats.count("glLoadTransposeMatrixd");
+        if (target != null)
+          target.glLoadTransposeMatrixd(a0);
+    }
+
+    public void glLoadTransposeMatrixf(float[] a0, int a1)
+    {
+        stats.count("glLoadTransposeMatrixf");
+        if (target != null)
+          target.glLoadTransposeMatrixf(a0, a1);
+    }
+
+    public void glLoadTransposeMatrixf(FloatBuffer a0)
+    {
+        stats.count("glLoadTransposeMatrixf");
+        if (target != null)
+          target.glLoadTransposeMatrixf(a0);
+    }
+
+    public void glLockArraysEXT(int a0, int a1)
+    {
+        stats.count("glLockArraysEXT");
+        if (target != null)
+          target.glLockArraysEXT(a0, a1);
+    }
+
+    public void glLogicOp(int a0)
+    {
+        stats.count("glLogicOp");
+        if (target != null)
+          target.glLogicOp(a0);
+    }
+
+    public void glMap1d(
+        int a0, double a1, double a2, int a3, int a4, double[] a5, int a6)
+    {
+        stats.count("glMap1d");
+        if (target != null)
+          target.glMap1d(a0, a1, a2, a3, a4, a5, a6);
+    }
+
+    public void glMap1d(
+        int a0, double a1, double a2, int a3, int a4, DoubleBuffer a5)
+    {
+        stats.count("glMap1d");
+        if (target != null)
+          target.glMap1d(a0, a1, a2, a3, a4, a5);
+    }
+
+    public void glMap1f(
+        int a0, float a1, float a2, int a3, int a4, float[] a5, int a6)
+    {
+        stats.count("glMap1f");
+        if (target != null)
+          target.glMap1f(a0, a1, a2, a3, a4, a5, a6);
+    }
+
+    public void glMap1f(
+        int a0, float a1, float a2, int a3, int a4, FloatBuffer a5)
+    {
+        stats.count("glMap1f");
+        if (target != null)
+          target.glMap1f(a0, a1, a2, a3, a4, a5);
+    }
+
+    public void glMap2d(
+        int a0, double a1, double a2, int a3, int a4, double a5, double a6,
+        int a7, int a8, double[] a9, int a10)
+    {
+        stats.count("glMap2d");
+        if (target != null)
+          target.glMap2d(a0, a1, a2, a3, a4, a5, a6, a7, a8, a9, a10);
+    }
+
+    public void glMap2d(
+        int a0, double a1, double a2, int a3, int a4, double a5, double a6,
+        int a7, int a8, DoubleBuffer a9)
+    {
+        stats.count("glMap2d");
+        if (target != null)
+          target.glMap2d(a0, a1, a2, a3, a4, a5, a6, a7, a8, a9);
+    }
+
+    public void glMap2f(
+        int a0, float a1, float a2, int a3, int a4, float a5, float a6, int a7,
+        int a8, float[] a9, int a10)
+    {
+        stats.count("glMap2f");
+        if (target != null)
+          target.glMap2f(a0, a1, a2, a3, a4, a5, a6, a7, a8, a9, a10);
+    }
+
+    public void glMap2f(
+        int a0, float a1, float a2, int a3, int a4, float a5, float a6, int a7,
+        int a8, FloatBuffer a9)
+    {
+        stats.count("glMap2f");
+        if (target != null)
+          target.glMap2f(a0, a1, a2, a3, a4, a5, a6, a7, a8, a9);
+    }
+
+    public ByteBuffer glMapBuffer(int a0, int a1)
+    {
+        stats.count("glMapBuffer");
+        return (target != null) ? target.glMapBuffer(a0, a1) : null;
+    }
+
+    public ByteBuffer glMapBufferARB(int a0, int a1)
+    {
+        stats.count("glMapBufferARB");
+        return (target != null) ? target.glMapBufferARB(a0, a1) : null;
+    }
+
+    public void glMapControlPointsNV(
+        int a0, int a1, int a2, int a3, int a4, int a5, int a6, boolean a7,
+        Buffer a8)
+    {
+        stats.count("glMapControlPointsNV");
+        if (target != null)
+          target.glMapControlPointsNV(a0, a1, a2, a3, a4, a5, a6, a7, a8);
+    }
+
+    public void glMapGrid1d(int a0, double a1, double a2)
+    {
+        stats.count("glMapGrid1d");
+        if (target != null)
+          target.glMapGrid1d(a0, a1, a2);
+    }
+
+    public void glMapGrid1f(int a0, float a1, float a2)
+    {
+        stats.count("glMapGrid1f");
+        if (target != null)
+          target.glMapGrid1f(a0, a1, a2);
+    }
+
+    public void glMapGrid2d(
+        int a0, double a1, double a2, int a3, double a4, double a5)
+    {
+        stats.count("glMapGrid2d");
+        if (target != null)
+          target.glMapGrid2d(a0, a1, a2, a3, a4, a5);
+    }
+
+    public void glMapGrid2f(
+        int a0, float a1, float a2, int a3, float a4, float a5)
+    {
+        stats.count("glMapGrid2f");
+        if (target != null)
+          target.glMapGrid2f(a0, a1, a2, a3, a4, a5);
+    }
+
+    public void glMapParameterfvNV(int a0, int a1, float[] a2, int a3)
+    {
+        stats.count("glMapParameterfvNV");
+        if (target != null)
+          target.glMapParameterfvNV(a0, a1, a2, a3);
+    }
+
+    public void glMapParameterfvNV(int a0, int a1, FloatBuffer a2)
+    {
+        stats.count("glMapParameterfvNV");
+        if (target != null)
+          target.glMapParameterfvNV(a0, a1, a2);
+    }
+
+    public void glMapParameterivNV(int a0, int a1, int[] a2, int a3)
+    {
+        stats.count("glMapParameterivNV");
+        if (target != null)
+          target.glMapParameterivNV(a0, a1, a2, a3);
+    }
+
+    public void glMapParameterivNV(int a0, int a1, IntBuffer a2)
+    {
+        stats.count("glMapParameterivNV");
+        if (target != null)
+          target.glMapParameterivNV(a0, a1, a2);
+    }
+
+    public void glMapVertexAttrib1dAPPLE(
+        int a0, int a1, double a2, double a3, int a4, int a5, double[] a6,
+        int a7)
+    {
+        stats.count("glMapVertexAttrib1dAPPLE");
+        if (target != null)
+          target.glMapVertexAttrib1dAPPLE(a0, a1, a2, a3, a4, a5, a6, a7);
+    }
+
+    public void glMapVertexAttrib1dAPPLE(
+        int a0, int a1, double a2, double a3, int a4, int a5, DoubleBuffer a6)
+    {
+        stats.count("glMapVertexAttrib1dAPPLE");
+        if (target != null)
+          target.glMapVertexAttrib1dAPPLE(a0, a1, a2, a3, a4, a5, a6);
+    }
+
+    public void glMapVertexAttrib1fAPPLE(
+        int a0, int a1, float a2, float a3, int a4, int a5, float[] a6, int a7)
+    {
+        stats.count("glMapVertexAttrib1fAPPLE");
+        if (target != null)
+          target.glMapVertexAttrib1fAPPLE(a0, a1, a2, a3, a4, a5, a6, a7);
+    }
+
+    public void glMapVertexAttrib1fAPPLE(
+        int a0, int a1, float a2, float a3, int a4, int a5, FloatBuffer a6)
+    {
+        stats.count("glMapVertexAttrib1fAPPLE");
+        if (target != null)
+          target.glMapVertexAttrib1fAPPLE(a0, a1, a2, a3, a4, a5, a6);
+    }
+
+    public void glMapVertexAttrib2dAPPLE(
+        int a0, int a1, double a2, double a3, int a4, int a5, double a6,
+        double a7, int a8, int a9, double[] a10, int a11)
+    {
+        stats.count("glMapVertexAttrib2dAPPLE");
+        if (target != null)
+          target.glMapVertexAttrib2dAPPLE(a0, a1, a2, a3, a4, a5, a6, a7, a8,
+              a9, a10, a11);
+    }
+
+    public void glMapVertexAttrib2dAPPLE(
+        int a0, int a1, double a2, double a3, int a4, int a5, double a6,
+        double a7, int a8, int a9, DoubleBuffer a10)
+    {
+        stats.count("glMapVertexAttrib2dAPPLE");
+        if (target != null)
+          target.glMapVertexAttrib2dAPPLE(a0, a1, a2, a3, a4, a5, a6, a7, a8,
+              a9, a10);
+    }
+
+    public void glMapVertexAttrib2fAPPLE(
+        int a0, int a1, float a2, float a3, int a4, int a5, float a6, float a7,
+        int a8, int a9, float[] a10, int a11)
+    {
+        stats.count("glMapVertexAttrib2fAPPLE");
+        if (target != null)
+          target.glMapVertexAttrib2fAPPLE(a0, a1, a2, a3, a4, a5, a6, a7, a8,
+              a9, a10, a11);
+    }
+
+    public void glMapVertexAttrib2fAPPLE(
+        int a0, int a1, float a2, float a3, int a4, int a5, float a6, float a7,
+        int a8, int a9, FloatBuffer a10)
+    {
+        stats.count("glMapVertexAttrib2fAPPLE");
+        if (target != null)
+          target.glMapVertexAttrib2fAPPLE(a0, a1, a2, a3, a4, a5, a6, a7, a8,
+              a9, a10);
+    }
+
+    public void glMaterialf(int a0, int a1, float a2)
+    {
+        stats.count("glMaterialf");
+        if (target != null)
+          target.glMaterialf(a0, a1, a2);
+    }
+
+    public void glMaterialfv(int a0, int a1, float[] a2, int a3)
+    {
+        stats.count("glMaterialfv");
+        if (target != null)
+          target.glMaterialfv(a0, a1, a2, a3);
+    }
+
+    public void glMaterialfv(int a0, int a1, FloatBuffer a2)
+    {
+        stats.count("glMaterialfv");
+        if (target != null)
+          target.glMaterialfv(a0, a1, a2);
+    }
+
+    public void glMateriali(int a0, int a1, int a2)
+    {
+        stats.count("glMateriali");
+        if (target != null)
+          target.glMateriali(a0, a1, a2);
+    }
+
+    public void glMaterialiv(int a0, int a1, int[] a2, int a3)
+    {
+        stats.count("glMaterialiv");
+        if (target != null)
+          target.glMaterialiv(a0, a1, a2, a3);
+    }
+
+    public void glMaterialiv(int a0, int a1, IntBuffer a2)
+    {
+        stats.count("glMaterialiv");
+        if (target != null)
+          target.glMaterialiv(a0, a1, a2);
+    }
+
+    public void glMatrixIndexPointerARB(int a0, int a1, int a2, Buffer a3)
+    {
+        stats.count("glMatrixIndexPointerARB");
+        if (target != null)
+          target.glMatrixIndexPointerARB(a0, a1, a2, a3);
+    }
+
+    public void glMatrixIndexPointerARB(int a0, int a1, int a2, long a3)
+    {
+        stats.count("glMatrixIndexPointerARB");
+        if (target != null)
+          target.glMatrixIndexPointerARB(a0, a1, a2, a3);
+    }
+
+    public void glMatrixIndexubvARB(int a0, byte[] a1, int a2)
+    {
+        stats.count("glMatrixIndexubvARB");
+        if (target != null)
+          target.glMatrixIndexubvARB(a0, a1, a2);
+    }
+
+    public void glMatrixIndexubvARB(int a0, ByteBuffer a1)
+    {
+        stats.count("glMatrixIndexubvARB");
+        if (target != null)
+          target.glMatrixIndexubvARB(a0, a1);
+    }
+
+    public void glMatrixIndexuivARB(int a0, int[] a1, int a2)
+    {
+        stats.count("glMatrixIndexuivARB");
+        if (target != null)
+          target.glMatrixIndexuivARB(a0, a1, a2);
+    }
+
+    public void glMatrixIndexuivARB(int a0, IntBuffer a1)
+    {
+        stats.count("glMatrixIndexuivARB");
+        if (target != null)
+          target.glMatrixIndexuivARB(a0, a1);
+    }
+
+    public void glMatrixIndexusvARB(int a0, short[] a1, int a2)
+    {
+        stats.count("glMatrixIndexusvARB");
+        if (target != null)
+          target.glMatrixIndexusvARB(a0, a1, a2);
+    }
+
+    public void glMatrixIndexusvARB(int a0, ShortBuffer a1)
+    {
+        stats.count("glMatrixIndexusvARB");
+        if (target != null)
+          target.glMatrixIndexusvARB(a0, a1);
+    }
+
+    public void glMatrixMode(int a0)
+    {
+        stats.count("glMatrixMode");
+        if (target != null)
+          target.glMatrixMode(a0);
+    }
+
+    public void glMinmax(int a0, int a1, boolean a2)
+    {
+        stats.count("glMinmax");
+        if (target != null)
+          target.glMinmax(a0, a1, a2);
+    }
+
+    public void glMultMatrixd(double[] a0, int a1)
+    {
+        stats.count("glMultMatrixd");
+        if (target != null)
+          target.glMultMatrixd(a0, a1);
+    }
+
+    public void glMultMatrixd(DoubleBuffer a0)
+    {
+        stats.count("glMultMatrixd");
+        if (target != null)
+          target.glMultMatrixd(a0);
+    }
+
+    public void glMultMatrixf(float[] a0, int a1)
+    {
+        stats.count("glMultMatrixf");
+        if (target != null)
+          target.glMultMatrixf(a0, a1);
+    }
+
+    public void glMultMatrixf(FloatBuffer a0)
+    {
+        stats.count("glMultMatrixf");
+        if (target != null)
+          target.glMultMatrixf(a0);
+    }
+
+    public void glMultTransposeMatrixd(double[] a0, int a1)
+    {
+        stats.count("glMultTransposeMatrixd");
+        if (target != null)
+          target.glMultTransposeMatrixd(a0, a1);
+    }
+
+    public void glMultTransposeMatrixd(DoubleBuffer a0)
+    {
+        stats.count("glMultTransposeMatrixd");
+        if (target != null)
+          target.glMultTransposeMatrixd(a0);
+    }
+
+    public void glMultTransposeMatrixf(float[] a0, int a1)
+    {
+        stats.count("glMultTransposeMatrixf");
+        if (target != null)
+          target.glMultTransposeMatrixf(a0, a1);
+    }
+
+    public void glMultTransposeMatrixf(FloatBuffer a0)
+    {
+        stats.count("glMultTransposeMatrixf");
+        if (target != null)
+          target.glMultTransposeMatrixf(a0);
+    }
+
+    public void glMultiDrawArrays(
+        int a0, int[] a1, int a2, int[] a3, int a4, int a5)
+    {
+        stats.count("glMultiDrawArrays");
+        if (target != null)
+          target.glMultiDrawArrays(a0, a1, a2, a3, a4, a5);
+    }
+
+    public void glMultiDrawArrays(int a0, IntBuffer a1, IntBuffer a2, int a3)
+    {
+        stats.count("glMultiDrawArrays");
+        if (target != null)
+          target.glMultiDrawArrays(a0, a1, a2, a3);
+    }
+
+    public void glMultiDrawArraysEXT(
+        int a0, int[] a1, int a2, int[] a3, int a4, int a5)
+    {
+        stats.count("glMultiDrawArraysEXT");
+        if (target != null)
+          target.glMultiDrawArraysEXT(a0, a1, a2, a3, a4, a5);
+    }
+
+    public void glMultiDrawArraysEXT(
+        int a0, IntBuffer a1, IntBuffer a2, int a3)
+    {
+        stats.count("glMultiDrawArraysEXT");
+        if (target != null)
+          target.glMultiDrawArraysEXT(a0, a1, a2, a3);
+    }
+
+    public void glMultiDrawElementArrayAPPLE(
+        int a0, int[] a1, int a2, int[] a3, int a4, int a5)
+    {
+        stats.count("glMultiDrawElementArrayAPPLE");
+        if (target != null)
+          target.glMultiDrawElementArrayAPPLE(a0, a1, a2, a3, a4, a5);
+    }
+
+    public void glMultiDrawElementArrayAPPLE(
+        int a0, IntBuffer a1, IntBuffer a2, int a3)
+    {
+        stats.count("glMultiDrawElementArrayAPPLE");
+        if (target != null)
+          target.glMultiDrawElementArrayAPPLE(a0, a1, a2, a3);
+    }
+
+    public void glMultiDrawElements(
+        int a0, int[] a1, int a2, int a3, Buffer[] a4, int a5)
+    {
+        stats.count("glMultiDrawElements");
+        if (target != null)
+          target.glMultiDrawElements(a0, a1, a2, a3, a4, a5);
+    }
+
+    public void glMultiDrawElements(
+        int a0, IntBuffer a1, int a2, Buffer[] a3, int a4)
+    {
+        stats.count("glMultiDrawElements");
+        if (target != null)
+          target.glMultiDrawElements(a0, a1, a2, a3, a4);
+    }
+
+    public void glMultiDrawElementsEXT(
+        int a0, int[] a1, int a2, int a3, Buffer[] a4, int a5)
+    {
+        stats.count("glMultiDrawElementsEXT");
+        if (target != null)
+          target.glMultiDrawElementsEXT(a0, a1, a2, a3, a4, a5);
+    }
+
+    public void glMultiDrawElementsEXT(
+        int a0, IntBuffer a1, int a2, Buffer[] a3, int a4)
+    {
+        stats.count("glMultiDrawElementsEXT");
+        if (target != null)
+          target.glMultiDrawElementsEXT(a0, a1, a2, a3, a4);
+    }
+
+    public void glMultiDrawRangeElementArrayAPPLE(
+        int a0, int a1, int a2, int[] a3, int a4, int[] a5, int a6, int a7)
+    {
+        stats.count("glMultiDrawRangeElementArrayAPPLE");
+        if (target != null)
+          target.glMultiDrawRangeElementArrayAPPLE(a0, a1, a2, a3, a4, a5, a6,
+              a7);
+    }
+
+    public void glMultiDrawRangeElementArrayAPPLE(
+        int a0, int a1, int a2, IntBuffer a3, IntBuffer a4, int a5)
+    {
+        stats.count("glMultiDrawRangeElementArrayAPPLE");
+        if (target != null)
+          target.glMultiDrawRangeElementArrayAPPLE(a0, a1, a2, a3, a4, a5);
+    }
+
+    public void glMultiModeDrawArraysIBM(
+        int[] a0, int a1, int[] a2, int a3, int[] a4, int a5, int a6, int a7)
+    {
+        stats.count("glMultiModeDrawArraysIBM");
+        if (target != null)
+          target.glMultiModeDrawArraysIBM(a0, a1, a2, a3, a4, a5, a6, a7);
+    }
+
+    public void glMultiModeDrawArraysIBM(
+        IntBuffer a0, IntBuffer a1, IntBuffer a2, int a3, int a4)
+    {
+        stats.count("glMultiModeDrawArraysIBM");
+        if (target != null)
+          target.glMultiModeDrawArraysIBM(a0, a1, a2, a3, a4);
+    }
+
+    public void glMultiModeDrawElementsIBM(
+        int[] a0, int a1, int[] a2, int a3, int a4, Buffer[] a5, int a6,
+        int a7)
+    {
+        stats.count("glMultiModeDrawElementsIBM");
+        if (target != null)
+          target.glMultiModeDrawElementsIBM(a0, a1, a2, a3, a4, a5, a6, a7);
+    }
+
+    public void glMultiModeDrawElementsIBM(
+        IntBuffer a0, IntBuffer a1, int a2, Buffer[] a3, int a4, int a5)
+    {
+        stats.count("glMultiModeDrawElementsIBM");
+        if (target != null)
+          target.glMultiModeDrawElementsIBM(a0, a1, a2, a3, a4, a5);
+    }
+
+    public void glMultiTexCoord1d(int a0, double a1)
+    {
+        stats.count("glMultiTexCoord1d");
+        if (target != null)
+          target.glMultiTexCoord1d(a0, a1);
+    }
+
+    public void glMultiTexCoord1dv(int a0, double[] a1, int a2)
+    {
+        stats.count("glMultiTexCoord1dv");
+        if (target != null)
+          target.glMultiTexCoord1dv(a0, a1, a2);
+    }
+
+    public void glMultiTexCoord1dv(int a0, DoubleBuffer a1)
+    {
+        stats.count("glMultiTexCoord1dv");
+        if (target != null)
+          target.glMultiTexCoord1dv(a0, a1);
+    }
+
+    public void glMultiTexCoord1f(int a0, float a1)
+    {
+        stats.count("glMultiTexCoord1f");
+        if (target != null)
+          target.glMultiTexCoord1f(a0, a1);
+    }
+
+    public void glMultiTexCoord1fv(int a0, float[] a1, int a2)
+    {
+        stats.count("glMultiTexCoord1fv");
+        if (target != null)
+          target.glMultiTexCoord1fv(a0, a1, a2);
+    }
+
+    public void glMultiTexCoord1fv(int a0, FloatBuffer a1)
+    {
+        stats.count("glMultiTexCoord1fv");
+        if (target != null)
+          target.glMultiTexCoord1fv(a0, a1);
+    }
+
+    public void glMultiTexCoord1hNV(int a0, short a1)
+    {
+        stats.count("glMultiTexCoord1hNV");
+        if (target != null)
+          target.glMultiTexCoord1hNV(a0, a1);
+    }
+
+    public void glMultiTexCoord1hvNV(int a0, short[] a1, int a2)
+    {
+        stats.count("glMultiTexCoord1hvNV");
+        if (target != null)
+          target.glMultiTexCoord1hvNV(a0, a1, a2);
+    }
+
+    public void glMultiTexCoord1hvNV(int a0, ShortBuffer a1)
+    {
+        stats.count("glMultiTexCoord1hvNV");
+        if (target != null)
+          target.glMultiTexCoord1hvNV(a0, a1);
+    }
+
+    public void glMultiTexCoord1i(int a0, int a1)
+    {
+        stats.count("glMultiTexCoord1i");
+        if (target != null)
+          target.glMultiTexCoord1i(a0, a1);
+    }
+
+    public void glMultiTexCoord1iv(int a0, int[] a1, int a2)
+    {
+        stats.count("glMultiTexCoord1iv");
+        if (target != null)
+          target.glMultiTexCoord1iv(a0, a1, a2);
+    }
+
+    public void glMultiTexCoord1iv(int a0, IntBuffer a1)
+    {
+        stats.count("glMultiTexCoord1iv");
+        if (target != null)
+          target.glMultiTexCoord1iv(a0, a1);
+    }
+
+    public void glMultiTexCoord1s(int a0, short a1)
+    {
+        stats.count("glMultiTexCoord1s");
+        if (target != null)
+          target.glMultiTexCoord1s(a0, a1);
+    }
+
+    public void glMultiTexCoord1sv(int a0, short[] a1, int a2)
+    {
+        stats.count("glMultiTexCoord1sv");
+        if (target != null)
+          target.glMultiTexCoord1sv(a0, a1, a2);
+    }
+
+    public void glMultiTexCoord1sv(int a0, ShortBuffer a1)
+    {
+        stats.count("glMultiTexCoord1sv");
+        if (target != null)
+          target.glMultiTexCoord1sv(a0, a1);
+    }
+
+    public void glMultiTexCoord2d(int a0, double a1, double a2)
+    {
+        stats.count("glMultiTexCoord2d");
+        if (target != null)
+          target.glMultiTexCoord2d(a0, a1, a2);
+    }
+
+    public void glMultiTexCoord2dv(int a0, double[] a1, int a2)
+    {
+        stats.count("glMultiTexCoord2dv");
+        if (target != null)
+          target.glMultiTexCoord2dv(a0, a1, a2);
+    }
+
+    public void glMultiTexCoord2dv(int a0, DoubleBuffer a1)
+    {
+        stats.count("glMultiTexCoord2dv");
+        if (target != null)
+          target.glMultiTexCoord2dv(a0, a1);
+    }
+
+    public void glMultiTexCoord2f(int a0, float a1, float a2)
+    {
+        stats.count("glMultiTexCoord2f");
+        if (target != null)
+          target.glMultiTexCoord2f(a0, a1, a2);
+    }
+
+    public void glMultiTexCoord2fv(int a0, float[] a1, int a2)
+    {
+        stats.count("glMultiTexCoord2fv");
+        if (target != null)
+          target.glMultiTexCoord2fv(a0, a1, a2);
+    }
+
+    public void glMultiTexCoord2fv(int a0, FloatBuffer a1)
+    {
+        stats.count("glMultiTexCoord2fv");
+        if (target != null)
+          target.glMultiTexCoord2fv(a0, a1);
+    }
+
+    public void glMultiTexCoord2hNV(int a0, short a1, short a2)
+    {
+        stats.count("glMultiTexCoord2hNV");
+        if (target != null)
+          target.glMultiTexCoord2hNV(a0, a1, a2);
+    }
+
+    public void glMultiTexCoord2hvNV(int a0, short[] a1, int a2)
+    {
+        stats.count("glMultiTexCoord2hvNV");
+        if (target != null)
+          target.glMultiTexCoord2hvNV(a0, a1, a2);
+    }
+
+    public void glMultiTexCoord2hvNV(int a0, ShortBuffer a1)
+    {
+        stats.count("glMultiTexCoord2hvNV");
+        if (target != null)
+          target.glMultiTexCoord2hvNV(a0, a1);
+    }
+
+    public void glMultiTexCoord2i(int a0, int a1, int a2)
+    {
+        stats.count("glMultiTexCoord2i");
+        if (target != null)
+          target.glMultiTexCoord2i(a0, a1, a2);
+    }
+
+    public void glMultiTexCoord2iv(int a0, int[] a1, int a2)
+    {
+        stats.count("glMultiTexCoord2iv");
+        if (target != null)
+          target.glMultiTexCoord2iv(a0, a1, a2);
+    }
+
+    public void glMultiTexCoord2iv(int a0, IntBuffer a1)
+    {
+        stats.count("glMultiTexCoord2iv");
+        if (target != null)
+          target.glMultiTexCoord2iv(a0, a1);
+    }
+
+    public void glMultiTexCoord2s(int a0, short a1, short a2)
+    {
+        stats.count("glMultiTexCoord2s");
+        if (target != null)
+          target.glMultiTexCoord2s(a0, a1, a2);
+    }
+
+    public void glMultiTexCoord2sv(int a0, short[] a1, int a2)
+    {
+        stats.count("glMultiTexCoord2sv");
+        if (target != null)
+          target.glMultiTexCoord2sv(a0, a1, a2);
+    }
+
+    public void glMultiTexCoord2sv(int a0, ShortBuffer a1)
+    {
+        stats.count("glMultiTexCoord2sv");
+        if (target != null)
+          target.glMultiTexCoord2sv(a0, a1);
+    }
+
+    public void glMultiTexCoord3d(int a0, double a1, double a2, double a3)
+    {
+        stats.count("glMultiTexCoord3d");
+        if (target != null)
+          target.glMultiTexCoord3d(a0, a1, a2, a3);
+    }
+
+    public void glMultiTexCoord3dv(int a0, double[] a1, int a2)
+    {
+        stats.count("glMultiTexCoord3dv");
+        if (target != null)
+          target.glMultiTexCoord3dv(a0, a1, a2);
+    }
+
+    public void glMultiTexCoord3dv(int a0, DoubleBuffer a1)
+    {
+        stats.count("glMultiTexCoord3dv");
+        if (target != null)
+          target.glMultiTexCoord3dv(a0, a1);
+    }
+
+    public void glMultiTexCoord3f(int a0, float a1, float a2, float a3)
+    {
+        stats.count("glMultiTexCoord3f");
+        if (target != null)
+          target.glMultiTexCoord3f(a0, a1, a2, a3);
+    }
+
+    public void glMultiTexCoord3fv(int a0, float[] a1, int a2)
+    {
+        stats.count("glMultiTexCoord3fv");
+        if (target != null)
+          target.glMultiTexCoord3fv(a0, a1, a2);
+    }
+
+    public void glMultiTexCoord3fv(int a0, FloatBuffer a1)
+    {
+        stats.count("glMultiTexCoord3fv");
+        if (target != null)
+          target.glMultiTexCoord3fv(a0, a1);
+    }
+
+    public void glMultiTexCoord3hNV(int a0, short a1, short a2, short a3)
+    {
+        stats.count("glMultiTexCoord3hNV");
+        if (target != null)
+          target.glMultiTexCoord3hNV(a0, a1, a2, a3);
+    }
+
+    public void glMultiTexCoord3hvNV(int a0, short[] a1, int a2)
+    {
+        stats.count("glMultiTexCoord3hvNV");
+        if (target != null)
+          target.glMultiTexCoord3hvNV(a0, a1, a2);
+    }
+
+    public void glMultiTexCoord3hvNV(int a0, ShortBuffer a1)
+    {
+        stats.count("glMultiTexCoord3hvNV");
+        if (target != null)
+          target.glMultiTexCoord3hvNV(a0, a1);
+    }
+
+    public void glMultiTexCoord3i(int a0, int a1, int a2, int a3)
+    {
+        stats.count("glMultiTexCoord3i");
+        if (target != null)
+          target.glMultiTexCoord3i(a0, a1, a2, a3);
+    }
+
+    public void glMultiTexCoord3iv(int a0, int[] a1, int a2)
+    {
+        stats.count("glMultiTexCoord3iv");
+        if (target != null)
+          target.glMultiTexCoord3iv(a0, a1, a2);
+    }
+
+    public void glMultiTexCoord3iv(int a0, IntBuffer a1)
+    {
+        stats.count("glMultiTexCoord3iv");
+        if (target != null)
+          target.glMultiTexCoord3iv(a0, a1);
+    }
+
+    public void glMultiTexCoord3s(int a0, short a1, short a2, short a3)
+    {
+        stats.count("glMultiTexCoord3s");
+        if (target != null)
+          target.glMultiTexCoord3s(a0, a1, a2, a3);
+    }
+
+    public void glMultiTexCoord3sv(int a0, short[] a1, int a2)
+    {
+        stats.count("glMultiTexCoord3sv");
+        if (target != null)
+          target.glMultiTexCoord3sv(a0, a1, a2);
+    }
+
+    public void glMultiTexCoord3sv(int a0, ShortBuffer a1)
+    {
+        stats.count("glMultiTexCoord3sv");
+        if (target != null)
+          target.glMultiTexCoord3sv(a0, a1);
+    }
+
+    public void glMultiTexCoord4d(
+        int a0, double a1, double a2, double a3, double a4)
+    {
+        stats.count("glMultiTexCoord4d");
+        if (target != null)
+          target.glMultiTexCoord4d(a0, a1, a2, a3, a4);
+    }
+
+    public void glMultiTexCoord4dv(int a0, double[] a1, int a2)
+    {
+        stats.count("glMultiTexCoord4dv");
+        if (target != null)
+          target.glMultiTexCoord4dv(a0, a1, a2);
+    }
+
+    public void glMultiTexCoord4dv(int a0, DoubleBuffer a1)
+    {
+        stats.count("glMultiTexCoord4dv");
+        if (target != null)
+          target.glMultiTexCoord4dv(a0, a1);
+    }
+
+    public void glMultiTexCoord4f(
+        int a0, float a1, float a2, float a3, float a4)
+    {
+        stats.count("glMultiTexCoord4f");
+        if (target != null)
+          target.glMultiTexCoord4f(a0, a1, a2, a3, a4);
+    }
+
+    public void glMultiTexCoord4fv(int a0, float[] a1, int a2)
+    {
+        stats.count("glMultiTexCoord4fv");
+        if (target != null)
+          target.glMultiTexCoord4fv(a0, a1, a2);
+    }
+
+    public void glMultiTexCoord4fv(int a0, FloatBuffer a1)
+    {
+        stats.count("glMultiTexCoord4fv");
+        if (target != null)
+          target.glMultiTexCoord4fv(a0, a1);
+    }
+
+    public void glMultiTexCoord4hNV(
+        int a0, short a1, short a2, short a3, short a4)
+    {
+        stats.count("glMultiTexCoord4hNV");
+        if (target != null)
+          target.glMultiTexCoord4hNV(a0, a1, a2, a3, a4);
+    }
+
+    public void glMultiTexCoord4hvNV(int a0, short[] a1, int a2)
+    {
+        stats.count("glMultiTexCoord4hvNV");
+        if (target != null)
+          target.glMultiTexCoord4hvNV(a0, a1, a2);
+    }
+
+    public void glMultiTexCoord4hvNV(int a0, ShortBuffer a1)
+    {
+        stats.count("glMultiTexCoord4hvNV");
+        if (target != null)
+          target.glMultiTexCoord4hvNV(a0, a1);
+    }
+
+    public void glMultiTexCoord4i(int a0, int a1, int a2, int a3, int a4)
+    {
+        stats.count("glMultiTexCoord4i");
+        if (target != null)
+          target.glMultiTexCoord4i(a0, a1, a2, a3, a4);
+    }
+
+    public void glMultiTexCoord4iv(int a0, int[] a1, int a2)
+    {
+        stats.count("glMultiTexCoord4iv");
+        if (target != null)
+          target.glMultiTexCoord4iv(a0, a1, a2);
+    }
+
+    public void glMultiTexCoord4iv(int a0, IntBuffer a1)
+    {
+        stats.count("glMultiTexCoord4iv");
+        if (target != null)
+          target.glMultiTexCoord4iv(a0, a1);
+    }
+
+    public void glMultiTexCoord4s(
+        int a0, short a1, short a2, short a3, short a4)
+    {
+        stats.count("glMultiTexCoord4s");
+        if (target != null)
+          target.glMultiTexCoord4s(a0, a1, a2, a3, a4);
+    }
+
+    public void glMultiTexCoord4sv(int a0, short[] a1, int a2)
+    {
+        stats.count("glMultiTexCoord4sv");
+        if (target != null)
+          target.glMultiTexCoord4sv(a0, a1, a2);
+    }
+
+    public void glMultiTexCoord4sv(int a0, ShortBuffer a1)
+    {
+        stats.count("glMultiTexCoord4sv");
+        if (target != null)
+          target.glMultiTexCoord4sv(a0, a1);
+    }
+
+    public int glNewBufferRegion(int a0)
+    {
+        stats.count("glNewBufferRegion");
+        return (target != null) ? target.glNewBufferRegion(a0) : 0;
+    }
+
+    public void glNewList(int a0, int a1)
+    {
+        stats.count("glNewList");
+        if (target != null)
+          target.glNewList(a0, a1);
+    }
+
+    public int glNewObjectBufferATI(int a0, Buffer a1, int a2)
+    {
+        stats.count("glNewObjectBufferATI");
+        return (target != null) ? target.glNewObjectBufferATI(a0, a1, a2) : 0;
+    }
+
+    public void glNormal3b(byte a0, byte a1, byte a2)
+    {
+        stats.count("glNormal3b");
+        if (target != null)
+          target.glNormal3b(a0, a1, a2);
+    }
+
+    public void glNormal3bv(byte[] a0, int a1)
+    {
+        stats.count("glNormal3bv");
+        if (target != null)
+          target.glNormal3bv(a0, a1);
+    }
+
+    public void glNormal3bv(ByteBuffer a0)
+    {
+        stats.count("glNormal3bv");
+        if (target != null)
+          target.glNormal3bv(a0);
+    }
+
+    public void glNormal3d(double a0, double a1, double a2)
+    {
+        stats.count("glNormal3d");
+        if (target != null)
+          target.glNormal3d(a0, a1, a2);
+    }
+
+    public void glNormal3dv(double[] a0, int a1)
+    {
+        stats.count("glNormal3dv");
+        if (target != null)
+          target.glNormal3dv(a0, a1);
+    }
+
+    public void glNormal3dv(DoubleBuffer a0)
+    {
+        stats.count("glNormal3dv");
+        if (target != null)
+          target.glNormal3dv(a0);
+    }
+
+    public void glNormal3f(float a0, float a1, float a2)
+    {
+        stats.count("glNormal3f");
+        if (target != null)
+          target.glNormal3f(a0, a1, a2);
+    }
+
+    public void glNormal3fVertex3fSUN(
+        float a0, float a1, float a2, float a3, float a4, float a5)
+    {
+        stats.count("glNormal3fVertex3fSUN");
+        if (target != null)
+          target.glNormal3fVertex3fSUN(a0, a1, a2, a3, a4, a5);
+    }
+
+    public void glNormal3fVertex3fvSUN(float[] a0, int a1, float[] a2, int a3)
+    {
+        stats.count("glNormal3fVertex3fvSUN");
+        if (target != null)
+          target.glNormal3fVertex3fvSUN(a0, a1, a2, a3);
+    }
+
+    public void glNormal3fVertex3fvSUN(FloatBuffer a0, FloatBuffer a1)
+    {
+        stats.count("glNormal3fVertex3fvSUN");
+        if (target != null)
+          target.glNormal3fVertex3fvSUN(a0, a1);
+    }
+
+    public void glNormal3fv(float[] a0, int a1)
+    {
+        stats.count("glNormal3fv");
+        if (target != null)
+          target.glNormal3fv(a0, a1);
+    }
+
+    public void glNormal3fv(FloatBuffer a0)
+    {
+        stats.count("glNormal3fv");
+        if (target != null)
+          target.glNormal3fv(a0);
+    }
+
+    public void glNormal3hNV(short a0, short a1, short a2)
+    {
+        stats.count("glNormal3hNV");
+        if (target != null)
+          target.glNormal3hNV(a0, a1, a2);
+    }
+
+    public void glNormal3hvNV(short[] a0, int a1)
+    {
+        stats.count("glNormal3hvNV");
+        if (target != null)
+          target.glNormal3hvNV(a0, a1);
+    }
+
+    public void glNormal3hvNV(ShortBuffer a0)
+    {
+        stats.count("glNormal3hvNV");
+        if (target != null)
+          target.glNormal3hvNV(a0);
+    }
+
+    public void glNormal3i(int a0, int a1, int a2)
+    {
+        stats.count("glNormal3i");
+        if (target != null)
+          target.glNormal3i(a0, a1, a2);
+    }
+
+    public void glNormal3iv(int[] a0, int a1)
+    {
+        stats.count("glNormal3iv");
+        if (target != null)
+          target.glNormal3iv(a0, a1);
+    }
+
+    public void glNormal3iv(IntBuffer a0)
+    {
+        stats.count("glNormal3iv");
+        if (target != null)
+          target.glNormal3iv(a0);
+    }
+
+    public void glNormal3s(short a0, short a1, short a2)
+    {
+        stats.count("glNormal3s");
+        if (target != null)
+          target.glNormal3s(a0, a1, a2);
+    }
+
+    public void glNormal3sv(short[] a0, int a1)
+    {
+        stats.count("glNormal3sv");
+        if (target != null)
+          target.glNormal3sv(a0, a1);
+    }
+
+    public void glNormal3sv(ShortBuffer a0)
+    {
+        stats.count("glNormal3sv");
+        if (target != null)
+          target.glNormal3sv(a0);
+    }
+
+    public void glNormalPointer(int a0, int a1, Buffer a2)
+    {
+        stats.count("glNormalPointer");
+        if (target != null)
+          target.glNormalPointer(a0, a1, a2);
+    }
+
+    public void glNormalPointer(int a0, int a1, long a2)
+    {
+        stats.count("glNormalPointer");
+        if (target != null)
+          target.glNormalPointer(a0, a1, a2);
+    }
+
+    public void glNormalStream3bATI(int a0, byte a1, byte a2, byte a3)
+    {
+        stats.count("glNormalStream3bATI");
+        if (target != null)
+          target.glNormalStream3bATI(a0, a1, a2, a3);
+    }
+
+    public void glNormalStream3bvATI(int a0, byte[] a1, int a2)
+    {
+        stats.count("glNormalStream3bvATI");
+        if (target != null)
+          target.glNormalStream3bvATI(a0, a1, a2);
+    }
+
+    public void glNormalStream3bvATI(int a0, ByteBuffer a1)
+    {
+        stats.count("glNormalStream3bvATI");
+        if (target != null)
+          target.glNormalStream3bvATI(a0, a1);
+    }
+
+    public void glNormalStream3dATI(int a0, double a1, double a2, double a3)
+    {
+        stats.count("glNormalStream3dATI");
+        if (target != null)
+          target.glNormalStream3dATI(a0, a1, a2, a3);
+    }
+
+    public void glNormalStream3dvATI(int a0, double[] a1, int a2)
+    {
+        stats.count("glNormalStream3dvATI");
+        if (target != null)
+          target.glNormalStream3dvATI(a0, a1, a2);
+    }
+
+    public void glNormalStream3dvATI(int a0, DoubleBuffer a1)
+    {
+        stats.count("glNormalStream3dvATI");
+        if (target != null)
+          target.glNormalStream3dvATI(a0, a1);
+    }
+
+    public void glNormalStream3fATI(int a0, float a1, float a2, float a3)
+    {
+        stats.count("glNormalStream3fATI");
+        if (target != null)
+          target.glNormalStream3fATI(a0, a1, a2, a3);
+    }
+
+    public void glNormalStream3fvATI(int a0, float[] a1, int a2)
+    {
+        stats.count("glNormalStream3fvATI");
+        if (target != null)
+          target.glNormalStream3fvATI(a0, a1, a2);
+    }
+
+    public void glNormalStream3fvATI(int a0, FloatBuffer a1)
+    {
+        stats.count("glNormalStream3fvATI");
+        if (target != null)
+          target.glNormalStream3fvATI(a0, a1);
+    }
+
+    public void glNormalStream3iATI(int a0, int a1, int a2, int a3)
+    {
+        stats.count("glNormalStream3iATI");
+        if (target != null)
+          target.glNormalStream3iATI(a0, a1, a2, a3);
+    }
+
+    public void glNormalStream3ivATI(int a0, int[] a1, int a2)
+    {
+        stats.count("glNormalStream3ivATI");
+        if (target != null)
+          target.glNormalStream3ivATI(a0, a1, a2);
+    }
+
+    public void glNormalStream3ivATI(int a0, IntBuffer a1)
+    {
+        stats.count("glNormalStream3ivATI");
+        if (target != null)
+          target.glNormalStream3ivATI(a0, a1);
+    }
+
+    public void glNormalStream3sATI(int a0, short a1, short a2, short a3)
+    {
+        stats.count("glNormalStream3sATI");
+        if (target != null)
+          target.glNormalStream3sATI(a0, a1, a2, a3);
+    }
+
+    public void glNormalStream3svATI(int a0, short[] a1, int a2)
+    {
+        stats.count("glNormalStream3svATI");
+        if (target != null)
+          target.glNormalStream3svATI(a0, a1, a2);
+    }
+
+    public void glNormalStream3svATI(int a0, ShortBuffer a1)
+    {
+        stats.count("glNormalStream3svATI");
+        if (target != null)
+          target.glNormalStream3svATI(a0, a1);
+    }
+
+    public void glOrtho(
+        double a0, double a1, double a2, double a3, double a4, double a5)
+    {
+        stats.count("glOrtho");
+        if (target != null)
+          target.glOrtho(a0, a1, a2, a3, a4, a5);
+    }
+
+    public void glPNTrianglesfATI(int a0, float a1)
+    {
+        stats.count("glPNTrianglesfATI");
+        if (target != null)
+          target.glPNTrianglesfATI(a0, a1);
+    }
+
+    public void glPNTrianglesiATI(int a0, int a1)
+    {
+        stats.count("glPNTrianglesiATI");
+        if (target != null)
+          target.glPNTrianglesiATI(a0, a1);
+    }
+
+    public void glPassTexCoordATI(int a0, int a1, int a2)
+    {
+        stats.count("glPassTexCoordATI");
+        if (target != null)
+          target.glPassTexCoordATI(a0, a1, a2);
+    }
+
+    public void glPassThrough(float a0)
+    {
+        stats.count("glPassThrough");
+        if (target != null)
+          target.glPassThrough(a0);
+    }
+
+    public void glPixelDataRangeNV(int a0, int a1, Buffer a2)
+    {
+        stats.count("glPixelDataRangeNV");
+        if (target != null)
+          target.glPixelDataRangeNV(a0, a1, a2);
+    }
+
+    public void glPixelMapfv(int a0, int a1, float[] a2, int a3)
+    {
+        stats.count("glPixelMapfv");
+        if (target != null)
+          target.glPixelMapfv(a0, a1, a2, a3);
+    }
+
+    public void glPixelMapfv(int a0, int a1, FloatBuffer a2)
+    {
+        stats.count("glPixelMapfv");
+        if (target != null)
+          target.glPixelMapfv(a0, a1, a2);
+    }
+
+    public void glPixelMapfv(int a0, int a1, long a2)
+    {
+        stats.count("glPixelMapfv");
+        if (target != null)
+          target.glPixelMapfv(a0, a1, a2);
+    }
+
+    public void glPixelMapuiv(int a0, int a1, int[] a2, int a3)
+    {
+        stats.count("glPixelMapuiv");
+        if (target != null)
+          target.glPixelMapuiv(a0, a1, a2, a3);
+    }
+
+    public void glPixelMapuiv(int a0, int a1, IntBuffer a2)
+    {
+        stats.count("glPixelMapuiv");
+        if (target != null)
+          target.glPixelMapuiv(a0, a1, a2);
+    }
+
+    public void glPixelMapuiv(int a0, int a1, long a2)
+    {
+        stats.count("glPixelMapuiv");
+        if (target != null)
+          target.glPixelMapuiv(a0, a1, a2);
+    }
+
+    public void glPixelMapusv(int a0, int a1, short[] a2, int a3)
+    {
+        stats.count("glPixelMapusv");
+        if (target != null)
+          target.glPixelMapusv(a0, a1, a2, a3);
+    }
+
+    public void glPixelMapusv(int a0, int a1, ShortBuffer a2)
+    {
+        stats.count("glPixelMapusv");
+        if (target != null)
+          target.glPixelMapusv(a0, a1, a2);
+    }
+
+    public void glPixelMapusv(int a0, int a1, long a2)
+    {
+        stats.count("glPixelMapusv");
+        if (target != null)
+          target.glPixelMapusv(a0, a1, a2);
+    }
+
+    public void glPixelStoref(int a0, float a1)
+    {
+        stats.count("glPixelStoref");
+        if (target != null)
+          target.glPixelStoref(a0, a1);
+    }
+
+    public void glPixelStorei(int a0, int a1)
+    {
+        stats.count("glPixelStorei");
+        if (target != null)
+          target.glPixelStorei(a0, a1);
+    }
+
+    public void glPixelTexGenParameterfSGIS(int a0, float a1)
+    {
+        stats.count("glPixelTexGenParameterfSGIS");
+        if (target != null)
+          target.glPixelTexGenParameterfSGIS(a0, a1);
+    }
+
+    public void glPixelTexGenParameterfvSGIS(int a0, float[] a1, int a2)
+    {
+        stats.count("glPixelTexGenParameterfvSGIS");
+        if (target != null)
+          target.glPixelTexGenParameterfvSGIS(a0, a1, a2);
+    }
+
+    public void glPixelTexGenParameterfvSGIS(int a0, FloatBuffer a1)
+    {
+        stats.count("glPixelTexGenParameterfvSGIS");
+        if (target != null)
+          target.glPixelTexGenParameterfvSGIS(a0, a1);
+    }
+
+    public void glPixelTexGenParameteriSGIS(int a0, int a1)
+    {
+        stats.count("glPixelTexGenParameteriSGIS");
+        if (target != null)
+          target.glPixelTexGenParameteriSGIS(a0, a1);
+    }
+
+    public void glPixelTexGenParameterivSGIS(int a0, int[] a1, int a2)
+    {
+        stats.count("glPixelTexGenParameterivSGIS");
+        if (target != null)
+          target.glPixelTexGenParameterivSGIS(a0, a1, a2);
+    }
+
+    public void glPixelTexGenParameterivSGIS(int a0, IntBuffer a1)
+    {
+        stats.count("glPixelTexGenParameterivSGIS");
+        if (target != null)
+          target.glPixelTexGenParameterivSGIS(a0, a1);
+    }
+
+    public void glPixelTexGenSGIX(int a0)
+    {
+        stats.count("glPixelTexGenSGIX");
+        if (target != null)
+          target.glPixelTexGenSGIX(a0);
+    }
+
+    public void glPixelTransferf(int a0, float a1)
+    {
+        stats.count("glPixelTransferf");
+        if (target != null)
+          target.glPixelTransferf(a0, a1);
+    }
+
+    public void glPixelTransferi(int a0, int a1)
+    {
+        stats.count("glPixelTransferi");
+        if (target != null)
+          target.glPixelTransferi(a0, a1);
+    }
+
+    public void glPixelTransformParameterfEXT(int a0, int a1, float a2)
+    {
+        stats.count("glPixelTransformParameterfEXT");
+        if (target != null)
+          target.glPixelTransformParameterfEXT(a0, a1, a2);
+    }
+
+    public void glPixelTransformParameterfvEXT(
+        int a0, int a1, float[] a2, int a3)
+    {
+        stats.count("glPixelTransformParameterfvEXT");
+        if (target != null)
+          target.glPixelTransformParameterfvEXT(a0, a1, a2, a3);
+    }
+
+    public void glPixelTransformParameterfvEXT(int a0, int a1, FloatBuffer a2)
+    {
+        stats.count("glPixelTransformParameterfvEXT");
+        if (target != null)
+          target.glPixelTransformParameterfvEXT(a0, a1, a2);
+    }
+
+    public void glPixelTransformParameteriEXT(int a0, int a1, int a2)
+    {
+        stats.count("glPixelTransformParameteriEXT");
+        if (target != null)
+          target.glPixelTransformParameteriEXT(a0, a1, a2);
+    }
+
+    public void glPixelTransformParameterivEXT(
+        int a0, int a1, int[] a2, int a3)
+    {
+        stats.count("glPixelTransformParameterivEXT");
+        if (target != null)
+          target.glPixelTransformParameterivEXT(a0, a1, a2, a3);
+    }
+
+    public void glPixelTransformParameterivEXT(int a0, int a1, IntBuffer a2)
+    {
+        stats.count("glPixelTransformParameterivEXT");
+        if (target != null)
+          target.glPixelTransformParameterivEXT(a0, a1, a2);
+    }
+
+    public void glPixelZoom(float a0, float a1)
+    {
+        stats.count("glPixelZoom");
+        if (target != null)
+          target.glPixelZoom(a0, a1);
+    }
+
+    public void glPointParameterf(int a0, float a1)
+    {
+        stats.count("glPointParameterf");
+        if (target != null)
+          target.glPointParameterf(a0, a1);
+    }
+
+    public void glPointParameterfARB(int a0, float a1)
+    {
+        stats.count("glPointParameterfARB");
+        if (target != null)
+          target.glPointParameterfARB(a0, a1);
+    }
+
+    public void glPointParameterfEXT(int a0, float a1)
+    {
+        stats.count("glPointParameterfEXT");
+        if (target != null)
+          target.glPointParameterfEXT(a0, a1);
+    }
+
+    public void glPointParameterfSGIS(int a0, float a1)
+    {
+        stats.count("glPointParameterfSGIS");
+        if (target != null)
+          target.glPointParameterfSGIS(a0, a1);
+    }
+
+    public void glPointParameterfv(int a0, float[] a1, int a2)
+    {
+        stats.count("glPointParameterfv");
+        if (target != null)
+          target.glPointParameterfv(a0, a1, a2);
+    }
+
+    public void glPointParameterfv(int a0, FloatBuffer a1)
+    {
+        stats.count("glPointParameterfv");
+        if (target != null)
+          target.glPointParameterfv(a0, a1);
+    }
+
+    public void glPointParameterfvARB(int a0, float[] a1, int a2)
+    {
+        stats.count("glPointParameterfvARB");
+        if (target != null)
+          target.glPointParameterfvARB(a0, a1, a2);
+    }
+
+    public void glPointParameterfvARB(int a0, FloatBuffer a1)
+    {
+        stats.count("glPointParameterfvARB");
+        if (target != null)
+          target.glPointParameterfvARB(a0, a1);
+    }
+
+    public void glPointParameterfvEXT(int a0, float[] a1, int a2)
+    {
+        stats.count("glPointParameterfvEXT");
+        if (target != null)
+          target.glPointParameterfvEXT(a0, a1, a2);
+    }
+
+    public void glPointParameterfvEXT(int a0, FloatBuffer a1)
+    {
+        stats.count("glPointParameterfvEXT");
+        if (target != null)
+          target.glPointParameterfvEXT(a0, a1);
+    }
+
+    public void glPointParameterfvSGIS(int a0, float[] a1, int a2)
+    {
+        stats.count("glPointParameterfvSGIS");
+        if (target != null)
+          target.glPointParameterfvSGIS(a0, a1, a2);
+    }
+
+    public void glPointParameterfvSGIS(int a0, FloatBuffer a1)
+    {
+        stats.count("glPointParameterfvSGIS");
+        if (target != null)
+          target.glPointParameterfvSGIS(a0, a1);
+    }
+
+    public void glPointParameteri(int a0, int a1)
+    {
+        stats.count("glPointParameteri");
+        if (target != null)
+          target.glPointParameteri(a0, a1);
+    }
+
+    public void glPointParameteriNV(int a0, int a1)
+    {
+        stats.count("glPointParameteriNV");
+        if (target != null)
+          target.glPointParameteriNV(a0, a1);
+    }
+
+    public void glPointParameteriv(int a0, int[] a1, int a2)
+    {
+        stats.count("glPointParameteriv");
+        if (target != null)
+          target.glPointParameteriv(a0, a1, a2);
+    }
+
+    public void glPointParameteriv(int a0, IntBuffer a1)
+    {
+        stats.count("glPointParameteriv");
+        if (target != null)
+          target.glPointParameteriv(a0, a1);
+    }
+
+    public void glPointParameterivNV(int a0, int[] a1, int a2)
+    {
+        stats.count("glPointParameterivNV");
+        if (target != null)
+          target.glPointParameterivNV(a0, a1, a2);
+    }
+
+    public void glPointParameterivNV(int a0, IntBuffer a1)
+    {
+        stats.count("glPointParameterivNV");
+        if (target != null)
+          target.glPointParameterivNV(a0, a1);
+    }
+
+    public void glPointSize(float a0)
+    {
+        stats.count("glPointSize");
+        if (target != null)
+          target.glPointSize(a0);
+    }
+
+    public int glPollAsyncSGIX(int[] a0, int a1)
+    {
+        stats.count("glPollAsyncSGIX");
+        return (target != null) ? target.glPollAsyncSGIX(a0, a1) : 0;
+    }
+
+    public int glPollAsyncSGIX(IntBuffer a0)
+    {
+        stats.count("glPollAsyncSGIX");
+        return (target != null) ? target.glPollAsyncSGIX(a0) : 0;
+    }
+
+    public int glPollInstrumentsSGIX(int[] a0, int a1)
+    {
+        stats.count("glPollInstrumentsSGIX");
+        return (target != null) ? target.glPollInstrumentsSGIX(a0, a1) : 0;
+    }
+
+    public int glPollInstrumentsSGIX(IntBuffer a0)
+    {
+        stats.count("glPollInstrumentsSGIX");
+        return (target != null) ? target.glPollInstrumentsSGIX(a0) : 0;
+    }
+
+    public void glPolygonMode(int a0, int a1)
+    {
+        stats.count("glPolygonMode");
+        if (target != null)
+          target.glPolygonMode(a0, a1);
+    }
+
+    public void glPolygonOffset(float a0, float a1)
+    {
+        stats.count("glPolygonOffset");
+        if (target != null)
+          target.glPolygonOffset(a0, a1);
+    }
+
+    public void glPolygonStipple(byte[] a0, int a1)
+    {
+        stats.count("glPolygonStipple");
+        if (target != null)
+          target.glPolygonStipple(a0, a1);
+    }
+
+    public void glPolygonStipple(ByteBuffer a0)
+    {
+        stats.count("glPolygonStipple");
+        if (target != null)
+          target.glPolygonStipple(a0);
+    }
+
+    public void glPolygonStipple(long a0)
+    {
+        stats.count("glPolygonStipple");
+        if (target != null)
+          target.glPolygonStipple(a0);
+    }
+
+    public void glPopAttrib()
+    {
+        stats.count("glPopAttrib");
+        if (target != null)
+          target.glPopAttrib();
+    }
+
+    public void glPopClientAttrib()
+    {
+        stats.count("glPopClientAttrib");
+        if (target != null)
+          target.glPopClientAttrib();
+    }
+
+    public void glPopMatrix()
+    {
+        stats.count("glPopMatrix");
+        if (target != null)
+          target.glPopMatrix();
+    }
+
+    public void glPopName()
+    {
+        stats.count("glPopName");
+        if (target != null)
+          target.glPopName();
+    }
+
+    public void glPrimitiveRestartIndexNV(int a0)
+    {
+        stats.count("glPrimitiveRestartIndexNV");
+        if (target != null)
+          target.glPrimitiveRestartIndexNV(a0);
+    }
+
+    public void glPrimitiveRestartNV()
+    {
+        stats.count("glPrimitiveRestartNV");
+        if (target != null)
+          target.glPrimitiveRestartNV();
+    }
+
+    public void glPrioritizeTextures(
+        int a0, int[] a1, int a2, float[] a3, int a4)
+    {
+        stats.count("glPrioritizeTextures");
+        if (target != null)
+          target.glPrioritizeTextures(a0, a1, a2, a3, a4);
+    }
+
+    public void glPrioritizeTextures(int a0, IntBuffer a1, FloatBuffer a2)
+    {
+        stats.count("glPrioritizeTextures");
+        if (target != null)
+          target.glPrioritizeTextures(a0, a1, a2);
+    }
+
+    public void glProgramBufferParametersIivNV(
+        int a0, int a1, int a2, int a3, int[] a4, int a5)
+    {
+        stats.count("glProgramBufferParametersIivNV");
+        if (target != null)
+          target.glProgramBufferParametersIivNV(a0, a1, a2, a3, a4, a5);
+    }
+
+    public void glProgramBufferParametersIivNV(
+        int a0, int a1, int a2, int a3, IntBuffer a4)
+    {
+        stats.count("glProgramBufferParametersIivNV");
+        if (target != null)
+          target.glProgramBufferParametersIivNV(a0, a1, a2, a3, a4);
+    }
+
+    public void glProgramBufferParametersIuivNV(
+        int a0, int a1, int a2, int a3, int[] a4, int a5)
+    {
+        stats.count("glProgramBufferParametersIuivNV");
+        if (target != null)
+          target.glProgramBufferParametersIuivNV(a0, a1, a2, a3, a4, a5);
+    }
+
+    public void glProgramBufferParametersIuivNV(
+        int a0, int a1, int a2, int a3, IntBuffer a4)
+    {
+        stats.count("glProgramBufferParametersIuivNV");
+        if (target != null)
+          target.glProgramBufferParametersIuivNV(a0, a1, a2, a3, a4);
+    }
+
+    public void glProgramBufferParametersfvNV(
+        int a0, int a1, int a2, int a3, float[] a4, int a5)
+    {
+        stats.count("glProgramBufferParametersfvNV");
+        if (target != null)
+          target.glProgramBufferParametersfvNV(a0, a1, a2, a3, a4, a5);
+    }
+
+    public void glProgramBufferParametersfvNV(
+        int a0, int a1, int a2, int a3, FloatBuffer a4)
+    {
+        stats.count("glProgramBufferParametersfvNV");
+        if (target != null)
+          target.glProgramBufferParametersfvNV(a0, a1, a2, a3, a4);
+    }
+
+    public void glProgramEnvParameter4dARB(
+        int a0, int a1, double a2, double a3, double a4, double a5)
+    {
+        stats.count("glProgramEnvParameter4dARB");
+        if (target != null)
+          target.glProgramEnvParameter4dARB(a0, a1, a2, a3, a4, a5);
+    }
+
+    public void glProgramEnvParameter4dvARB(
+        int a0, int a1, double[] a2, int a3)
+    {
+        stats.count("glProgramEnvParameter4dvARB");
+        if (target != null)
+          target.glProgramEnvParameter4dvARB(a0, a1, a2, a3);
+    }
+
+    public void glProgramEnvParameter4dvARB(int a0, int a1, DoubleBuffer a2)
+    {
+        stats.count("glProgramEnvParameter4dvARB");
+        if (target != null)
+          target.glProgramEnvParameter4dvARB(a0, a1, a2);
+    }
+
+    public void glProgramEnvParameter4fARB(
+        int a0, int a1, float a2, float a3, float a4, float a5)
+    {
+        stats.count("glProgramEnvParameter4fARB");
+        if (target != null)
+          target.glProgramEnvParameter4fARB(a0, a1, a2, a3, a4, a5);
+    }
+
+    public void glProgramEnvParameter4fvARB(int a0, int a1, float[] a2, int a3)
+    {
+        stats.count("glProgramEnvParameter4fvARB");
+        if (target != null)
+          target.glProgramEnvParameter4fvARB(a0, a1, a2, a3);
+    }
+
+    public void glProgramEnvParameter4fvARB(int a0, int a1, FloatBuffer a2)
+    {
+        stats.count("glProgramEnvParameter4fvARB");
+        if (target != null)
+          target.glProgramEnvParameter4fvARB(a0, a1, a2);
+    }
+
+    public void glProgramEnvParameterI4iNV(
+        int a0, int a1, int a2, int a3, int a4, int a5)
+    {
+        stats.count("glProgramEnvParameterI4iNV");
+        if (target != null)
+          target.glProgramEnvParameterI4iNV(a0, a1, a2, a3, a4, a5);
+    }
+
+    public void glProgramEnvParameterI4ivNV(int a0, int a1, int[] a2, int a3)
+    {
+        stats.count("glProgramEnvParameterI4ivNV");
+        if (target != null)
+          target.glProgramEnvParameterI4ivNV(a0, a1, a2, a3);
+    }
+
+    public void glProgramEnvParameterI4ivNV(int a0, int a1, IntBuffer a2)
+    {
+        stats.count("glProgramEnvParameterI4ivNV");
+        if (target != null)
+          target.glProgramEnvParameterI4ivNV(a0, a1, a2);
+    }
+
+    public void glProgramEnvParameterI4uiNV(
+        int a0, int a1, int a2, int a3, int a4, int a5)
+    {
+        stats.count("glProgramEnvParameterI4uiNV");
+        if (target != null)
+          target.glProgramEnvParameterI4uiNV(a0, a1, a2, a3, a4, a5);
+    }
+
+    public void glProgramEnvParameterI4uivNV(int a0, int a1, int[] a2, int a3)
+    {
+        stats.count("glProgramEnvParameterI4uivNV");
+        if (target != null)
+          target.glProgramEnvParameterI4uivNV(a0, a1, a2, a3);
+    }
+
+    public void glProgramEnvParameterI4uivNV(int a0, int a1, IntBuffer a2)
+    {
+        stats.count("glProgramEnvParameterI4uivNV");
+        if (target != null)
+          target.glProgramEnvParameterI4uivNV(a0, a1, a2);
+    }
+
+    public void glProgramEnvParameters4fvEXT(
+        int a0, int a1, int a2, float[] a3, int a4)
+    {
+        stats.count("glProgramEnvParameters4fvEXT");
+        if (target != null)
+          target.glProgramEnvParameters4fvEXT(a0, a1, a2, a3, a4);
+    }
+
+    public void glProgramEnvParameters4fvEXT(
+        int a0, int a1, int a2, FloatBuffer a3)
+    {
+        stats.count("glProgramEnvParameters4fvEXT");
+        if (target != null)
+          target.glProgramEnvParameters4fvEXT(a0, a1, a2, a3);
+    }
+
+    public void glProgramEnvParametersI4ivNV(
+        int a0, int a1, int a2, int[] a3, int a4)
+    {
+        stats.count("glProgramEnvParametersI4ivNV");
+        if (target != null)
+          target.glProgramEnvParametersI4ivNV(a0, a1, a2, a3, a4);
+    }
+
+    public void glProgramEnvParametersI4ivNV(
+        int a0, int a1, int a2, IntBuffer a3)
+    {
+        stats.count("glProgramEnvParametersI4ivNV");
+        if (target != null)
+          target.glProgramEnvParametersI4ivNV(a0, a1, a2, a3);
+    }
+
+    public void glProgramEnvParametersI4uivNV(
+        int a0, int a1, int a2, int[] a3, int a4)
+    {
+        stats.count("glProgramEnvParametersI4uivNV");
+        if (target != null)
+          target.glProgramEnvParametersI4uivNV(a0, a1, a2, a3, a4);
+    }
+
+    public void glProgramEnvParametersI4uivNV(
+        int a0, int a1, int a2, IntBuffer a3)
+    {
+        stats.count("glProgramEnvParametersI4uivNV");
+        if (target != null)
+          target.glProgramEnvParametersI4uivNV(a0, a1, a2, a3);
+    }
+
+    public void glProgramLocalParameter4dARB(
+        int a0, int a1, double a2, double a3, double a4, double a5)
+    {
+        stats.count("glProgramLocalParameter4dARB");
+        if (target != null)
+          target.glProgramLocalParameter4dARB(a0, a1, a2, a3, a4, a5);
+    }
+
+    public void glProgramLocalParameter4dvARB(
+        int a0, int a1, double[] a2, int a3)
+    {
+        stats.count("glProgramLocalParameter4dvARB");
+        if (target != null)
+          target.glProgramLocalParameter4dvARB(a0, a1, a2, a3);
+    }
+
+    public void glProgramLocalParameter4dvARB(int a0, int a1, DoubleBuffer a2)
+    {
+        stats.count("glProgramLocalParameter4dvARB");
+        if (target != null)
+          target.glProgramLocalParameter4dvARB(a0, a1, a2);
+    }
+
+    public void glProgramLocalParameter4fARB(
+        int a0, int a1, float a2, float a3, float a4, float a5)
+    {
+        stats.count("glProgramLocalParameter4fARB");
+        if (target != null)
+          target.glProgramLocalParameter4fARB(a0, a1, a2, a3, a4, a5);
+    }
+
+    public void glProgramLocalParameter4fvARB(
+        int a0, int a1, float[] a2, int a3)
+    {
+        stats.count("glProgramLocalParameter4fvARB");
+        if (target != null)
+          target.glProgramLocalParameter4fvARB(a0, a1, a2, a3);
+    }
+
+    public void glProgramLocalParameter4fvARB(int a0, int a1, FloatBuffer a2)
+    {
+        stats.count("glProgramLocalParameter4fvARB");
+        if (target != null)
+          target.glProgramLocalParameter4fvARB(a0, a1, a2);
+    }
+
+    public void glProgramLocalParameterI4iNV(
+        int a0, int a1, int a2, int a3, int a4, int a5)
+    {
+        stats.count("glProgramLocalParameterI4iNV");
+        if (target != null)
+          target.glProgramLocalParameterI4iNV(a0, a1, a2, a3, a4, a5);
+    }
+
+    public void glProgramLocalParameterI4ivNV(int a0, int a1, int[] a2, int a3)
+    {
+        stats.count("glProgramLocalParameterI4ivNV");
+        if (target != null)
+          target.glProgramLocalParameterI4ivNV(a0, a1, a2, a3);
+    }
+
+    public void glProgramLocalParameterI4ivNV(int a0, int a1, IntBuffer a2)
+    {
+        stats.count("glProgramLocalParameterI4ivNV");
+        if (target != null)
+          target.glProgramLocalParameterI4ivNV(a0, a1, a2);
+    }
+
+    public void glProgramLocalParameterI4uiNV(
+        int a0, int a1, int a2, int a3, int a4, int a5)
+    {
+        stats.count("glProgramLocalParameterI4uiNV");
+        if (target != null)
+          target.glProgramLocalParameterI4uiNV(a0, a1, a2, a3, a4, a5);
+    }
+
+    public void glProgramLocalParameterI4uivNV(
+        int a0, int a1, int[] a2, int a3)
+    {
+        stats.count("glProgramLocalParameterI4uivNV");
+        if (target != null)
+          target.glProgramLocalParameterI4uivNV(a0, a1, a2, a3);
+    }
+
+    public void glProgramLocalParameterI4uivNV(int a0, int a1, IntBuffer a2)
+    {
+        stats.count("glProgramLocalParameterI4uivNV");
+        if (target != null)
+          target.glProgramLocalParameterI4uivNV(a0, a1, a2);
+    }
+
+    public void glProgramLocalParameters4fvEXT(
+        int a0, int a1, int a2, float[] a3, int a4)
+    {
+        stats.count("glProgramLocalParameters4fvEXT");
+        if (target != null)
+          target.glProgramLocalParameters4fvEXT(a0, a1, a2, a3, a4);
+    }
+
+    public void glProgramLocalParameters4fvEXT(
+        int a0, int a1, int a2, FloatBuffer a3)
+    {
+        stats.count("glProgramLocalParameters4fvEXT");
+        if (target != null)
+          target.glProgramLocalParameters4fvEXT(a0, a1, a2, a3);
+    }
+
+    public void glProgramLocalParametersI4ivNV(
+        int a0, int a1, int a2, int[] a3, int a4)
+    {
+        stats.count("glProgramLocalParametersI4ivNV");
+        if (target != null)
+          target.glProgramLocalParametersI4ivNV(a0, a1, a2, a3, a4);
+    }
+
+    public void glProgramLocalParametersI4ivNV(
+        int a0, int a1, int a2, IntBuffer a3)
+    {
+        stats.count("glProgramLocalParametersI4ivNV");
+        if (target != null)
+          target.glProgramLocalParametersI4ivNV(a0, a1, a2, a3);
+    }
+
+    public void glProgramLocalParametersI4uivNV(
+        int a0, int a1, int a2, int[] a3, int a4)
+    {
+        stats.count("glProgramLocalParametersI4uivNV");
+        if (target != null)
+          target.glProgramLocalParametersI4uivNV(a0, a1, a2, a3, a4);
+    }
+
+    public void glProgramLocalParametersI4uivNV(
+        int a0, int a1, int a2, IntBuffer a3)
+    {
+        stats.count("glProgramLocalParametersI4uivNV");
+        if (target != null)
+          target.glProgramLocalParametersI4uivNV(a0, a1, a2, a3);
+    }
+
+    public void glProgramNamedParameter4dNV(
+        int a0, int a1, String a2, double a3, double a4, double a5, double a6)
+    {
+        stats.count("glProgramNamedParameter4dNV");
+        if (target != null)
+          target.glProgramNamedParameter4dNV(a0, a1, a2, a3, a4, a5, a6);
+    }
+
+    public void glProgramNamedParameter4dvNV(
+        int a0, int a1, String a2, double[] a3, int a4)
+    {
+        stats.count("glProgramNamedParameter4dvNV");
+        if (target != null)
+          target.glProgramNamedParameter4dvNV(a0, a1, a2, a3, a4);
+    }
+
+    public void glProgramNamedParameter4dvNV(
+        int a0, int a1, String a2, DoubleBuffer a3)
+    {
+        stats.count("glProgramNamedParameter4dvNV");
+        if (target != null)
+          target.glProgramNamedParameter4dvNV(a0, a1, a2, a3);
+    }
+
+    public void glProgramNamedParameter4fNV(
+        int a0, int a1, String a2, float a3, float a4, float a5, float a6)
+    {
+        stats.count("glProgramNamedParameter4fNV");
+        if (target != null)
+          target.glProgramNamedParameter4fNV(a0, a1, a2, a3, a4, a5, a6);
+    }
+
+    public void glProgramNamedParameter4fvNV(
+        int a0, int a1, String a2, float[] a3, int a4)
+    {
+        stats.count("glProgramNamedParameter4fvNV");
+        if (target != null)
+          target.glProgramNamedParameter4fvNV(a0, a1, a2, a3, a4);
+    }
+
+    public void glProgramNamedParameter4fvNV(
+        int a0, int a1, String a2, FloatBuffer a3)
+    {
+        stats.count("glProgramNamedParameter4fvNV");
+        if (target != null)
+          target.glProgramNamedParameter4fvNV(a0, a1, a2, a3);
+    }
+
+    public void glProgramParameter4dNV(
+        int a0, int a1, double a2, double a3, double a4, double a5)
+    {
+        stats.count("glProgramParameter4dNV");
+        if (target != null)
+          target.glProgramParameter4dNV(a0, a1, a2, a3, a4, a5);
+    }
+
+    public void glProgramParameter4dvNV(int a0, int a1, double[] a2, int a3)
+    {
+        stats.count("glProgramParameter4dvNV");
+        if (target != null)
+          target.glProgramParameter4dvNV(a0, a1, a2, a3);
+    }
+
+    public void glProgramParameter4dvNV(int a0, int a1, DoubleBuffer a2)
+    {
+        stats.count("glProgramParameter4dvNV");
+        if (target != null)
+          target.glProgramParameter4dvNV(a0, a1, a2);
+    }
+
+    public void glProgramParameter4fNV(
+        int a0, int a1, float a2, float a3, float a4, float a5)
+    {
+        stats.count("glProgramParameter4fNV");
+        if (target != null)
+          target.glProgramParameter4fNV(a0, a1, a2, a3, a4, a5);
+    }
+
+    public void glProgramParameter4fvNV(int a0, int a1, float[] a2, int a3)
+    {
+        stats.count("glProgramParameter4fvNV");
+        if (target != null)
+          target.glProgramParameter4fvNV(a0, a1, a2, a3);
+    }
+
+    public void glProgramParameter4fvNV(int a0, int a1, FloatBuffer a2)
+    {
+        stats.count("glProgramParameter4fvNV");
+        if (target != null)
+          target.glProgramParameter4fvNV(a0, a1, a2);
+    }
+
+    public void glProgramParameteriEXT(int a0, int a1, int a2)
+    {
+        stats.count("glProgramParameteriEXT");
+        if (target != null)
+          target.glProgramParameteriEXT(a0, a1, a2);
+    }
+
+    public void glProgramParameters4dvNV(
+        int a0, int a1, int a2, double[] a3, int a4)
+    {
+        stats.count("glProgramParameters4dvNV");
+        if (target != null)
+          target.glProgramParameters4dvNV(a0, a1, a2, a3, a4);
+    }
+
+    public void glProgramParameters4dvNV(
+        int a0, int a1, int a2, DoubleBuffer a3)
+    {
+        stats.count("glProgramParameters4dvNV");
+        if (target != null)
+          target.glProgramParameters4dvNV(a0, a1, a2, a3);
+    }
+
+    public void glProgramParameters4fvNV(
+        int a0, int a1, int a2, float[] a3, int a4)
+    {
+        stats.count("glProgramParameters4fvNV");
+        if (target != null)
+          target.glProgramParameters4fvNV(a0, a1, a2, a3, a4);
+    }
+
+    public void glProgramParameters4fvNV(
+        int a0, int a1, int a2, FloatBuffer a3)
+    {
+        stats.count("glProgramParameters4fvNV");
+        if (target != null)
+          target.glProgramParameters4fvNV(a0, a1, a2, a3);
+    }
+
+    public void glProgramStringARB(int a0, int a1, int a2, String a3)
+    {
+        stats.count("glProgramStringARB");
+        if (target != null)
+          target.glProgramStringARB(a0, a1, a2, a3);
+    }
+
+    public void glProgramVertexLimitNV(int a0, int a1)
+    {
+        stats.count("glProgramVertexLimitNV");
+        if (target != null)
+          target.glProgramVertexLimitNV(a0, a1);
+    }
+
+    public void glPushAttrib(int a0)
+    {
+        stats.count("glPushAttrib");
+        if (target != null)
+          target.glPushAttrib(a0);
+    }
+
+    public void glPushClientAttrib(int a0)
+    {
+        stats.count("glPushClientAttrib");
+        if (target != null)
+          target.glPushClientAttrib(a0);
+    }
+
+    public void glPushMatrix()
+    {
+        stats.count("glPushMatrix");
+        if (target != null)
+          target.glPushMatrix();
+    }
+
+    public void glPushName(int a0)
+    {
+        stats.count("glPushName");
+        if (target != null)
+          target.glPushName(a0);
+    }
+
+    public void glRasterPos2d(double a0, double a1)
+    {
+        stats.count("glRasterPos2d");
+        if (target != null)
+          target.glRasterPos2d(a0, a1);
+    }
+
+    public void glRasterPos2dv(double[] a0, int a1)
+    {
+        stats.count("glRasterPos2dv");
+        if (target != null)
+          target.glRasterPos2dv(a0, a1);
+    }
+
+    public void glRasterPos2dv(DoubleBuffer a0)
+    {
+        stats.count("glRasterPos2dv");
+        if (target != null)
+          target.glRasterPos2dv(a0);
+    }
+
+    public void glRasterPos2f(float a0, float a1)
+    {
+        stats.count("glRasterPos2f");
+        if (target != null)
+          target.glRasterPos2f(a0, a1);
+    }
+
+    public void glRasterPos2fv(float[] a0, int a1)
+    {
+        stats.count("glRasterPos2fv");
+        if (target != null)
+          target.glRasterPos2fv(a0, a1);
+    }
+
+    public void glRasterPos2fv(FloatBuffer a0)
+    {
+        stats.count("glRasterPos2fv");
+        if (target != null)
+          target.glRasterPos2fv(a0);
+    }
+
+    public void glRasterPos2i(int a0, int a1)
+    {
+        stats.count("glRasterPos2i");
+        if (target != null)
+          target.glRasterPos2i(a0, a1);
+    }
+
+    public void glRasterPos2iv(int[] a0, int a1)
+    {
+        stats.count("glRasterPos2iv");
+        if (target != null)
+          target.glRasterPos2iv(a0, a1);
+    }
+
+    public void glRasterPos2iv(IntBuffer a0)
+    {
+        stats.count("glRasterPos2iv");
+        if (target != null)
+          target.glRasterPos2iv(a0);
+    }
+
+    public void glRasterPos2s(short a0, short a1)
+    {
+        stats.count("glRasterPos2s");
+        if (target != null)
+          target.glRasterPos2s(a0, a1);
+    }
+
+    public void glRasterPos2sv(short[] a0, int a1)
+    {
+        stats.count("glRasterPos2sv");
+        if (target != null)
+          target.glRasterPos2sv(a0, a1);
+    }
+
+    public void glRasterPos2sv(ShortBuffer a0)
+    {
+        stats.count("glRasterPos2sv");
+        if (target != null)
+          target.glRasterPos2sv(a0);
+    }
+
+    public void glRasterPos3d(double a0, double a1, double a2)
+    {
+        stats.count("glRasterPos3d");
+        if (target != null)
+          target.glRasterPos3d(a0, a1, a2);
+    }
+
+    public void glRasterPos3dv(double[] a0, int a1)
+    {
+        stats.count("glRasterPos3dv");
+        if (target != null)
+          target.glRasterPos3dv(a0, a1);
+    }
+
+    public void glRasterPos3dv(DoubleBuffer a0)
+    {
+        stats.count("glRasterPos3dv");
+        if (target != null)
+          target.glRasterPos3dv(a0);
+    }
+
+    public void glRasterPos3f(float a0, float a1, float a2)
+    {
+        stats.count("glRasterPos3f");
+        if (target != null)
+          target.glRasterPos3f(a0, a1, a2);
+    }
+
+    public void glRasterPos3fv(float[] a0, int a1)
+    {
+        stats.count("glRasterPos3fv");
+        if (target != null)
+          target.glRasterPos3fv(a0, a1);
+    }
+
+    public void glRasterPos3fv(FloatBuffer a0)
+    {
+        stats.count("glRasterPos3fv");
+        if (target != null)
+          target.glRasterPos3fv(a0);
+    }
+
+    public void glRasterPos3i(int a0, int a1, int a2)
+    {
+        stats.count("glRasterPos3i");
+        if (target != null)
+          target.glRasterPos3i(a0, a1, a2);
+    }
+
+    public void glRasterPos3iv(int[] a0, int a1)
+    {
+        stats.count("glRasterPos3iv");
+        if (target != null)
+          target.glRasterPos3iv(a0, a1);
+    }
+
+    public void glRasterPos3iv(IntBuffer a0)
+    {
+        stats.count("glRasterPos3iv");
+        if (target != null)
+          target.glRasterPos3iv(a0);
+    }
+
+    public void glRasterPos3s(short a0, short a1, short a2)
+    {
+        stats.count("glRasterPos3s");
+        if (target != null)
+          target.glRasterPos3s(a0, a1, a2);
+    }
+
+    public void glRasterPos3sv(short[] a0, int a1)
+    {
+        stats.count("glRasterPos3sv");
+        if (target != null)
+          target.glRasterPos3sv(a0, a1);
+    }
+
+    public void glRasterPos3sv(ShortBuffer a0)
+    {
+        stats.count("glRasterPos3sv");
+        if (target != null)
+          target.glRasterPos3sv(a0);
+    }
+
+    public void glRasterPos4d(double a0, double a1, double a2, double a3)
+    {
+        stats.count("glRasterPos4d");
+        if (target != null)
+          target.glRasterPos4d(a0, a1, a2, a3);
+    }
+
+    public void glRasterPos4dv(double[] a0, int a1)
+    {
+        stats.count("glRasterPos4dv");
+        if (target != null)
+          target.glRasterPos4dv(a0, a1);
+    }
+
+    public void glRasterPos4dv(DoubleBuffer a0)
+    {
+        stats.count("glRasterPos4dv");
+        if (target != null)
+          target.glRasterPos4dv(a0);
+    }
+
+    public void glRasterPos4f(float a0, float a1, float a2, float a3)
+    {
+        stats.count("glRasterPos4f");
+        if (target != null)
+          target.glRasterPos4f(a0, a1, a2, a3);
+    }
+
+    public void glRasterPos4fv(float[] a0, int a1)
+    {
+        stats.count("glRasterPos4fv");
+        if (target != null)
+          target.glRasterPos4fv(a0, a1);
+    }
+
+    public void glRasterPos4fv(FloatBuffer a0)
+    {
+        stats.count("glRasterPos4fv");
+        if (target != null)
+          target.glRasterPos4fv(a0);
+    }
+
+    public void glRasterPos4i(int a0, int a1, int a2, int a3)
+    {
+        stats.count("glRasterPos4i");
+        if (target != null)
+          target.glRasterPos4i(a0, a1, a2, a3);
+    }
+
+    public void glRasterPos4iv(int[] a0, int a1)
+    {
+        stats.count("glRasterPos4iv");
+        if (target != null)
+          target.glRasterPos4iv(a0, a1);
+    }
+
+    public void glRasterPos4iv(IntBuffer a0)
+    {
+        stats.count("glRasterPos4iv");
+        if (target != null)
+          target.glRasterPos4iv(a0);
+    }
+
+    public void glRasterPos4s(short a0, short a1, short a2, short a3)
+    {
+        stats.count("glRasterPos4s");
+        if (target != null)
+          target.glRasterPos4s(a0, a1, a2, a3);
+    }
+
+    public void glRasterPos4sv(short[] a0, int a1)
+    {
+        stats.count("glRasterPos4sv");
+        if (target != null)
+          target.glRasterPos4sv(a0, a1);
+    }
+
+    public void glRasterPos4sv(ShortBuffer a0)
+    {
+        stats.count("glRasterPos4sv");
+        if (target != null)
+          target.glRasterPos4sv(a0);
+    }
+
+    public void glReadBuffer(int a0)
+    {
+        stats.count("glReadBuffer");
+        if (target != null)
+          target.glReadBuffer(a0);
+    }
+
+    public void glReadBufferRegion(int a0, int a1, int a2, int a3, int a4)
+    {
+        stats.count("glReadBufferRegion");
+        if (target != null)
+          target.glReadBufferRegion(a0, a1, a2, a3, a4);
+    }
+
+    public void glReadInstrumentsSGIX(int a0)
+    {
+        stats.count("glReadInstrumentsSGIX");
+        if (target != null)
+          target.glReadInstrumentsSGIX(a0);
+    }
+
+    public void glReadPixels(
+        int a0, int a1, int a2, int a3, int a4, int a5, Buffer a6)
+    {
+        stats.count("glReadPixels");
+        if (target != null)
+          target.glReadPixels(a0, a1, a2, a3, a4, a5, a6);
+    }
+
+    public void glReadPixels(
+        int a0, int a1, int a2, int a3, int a4, int a5, long a6)
+    {
+        stats.count("glReadPixels");
+        if (target != null)
+          target.glReadPixels(a0, a1, a2, a3, a4, a5, a6);
+    }
+
+    public void glRectd(double a0, double a1, double a2, double a3)
+    {
+        stats.count("glRectd");
+        if (target != null)
+          target.glRectd(a0, a1, a2, a3);
+    }
+
+    public void glRectdv(double[] a0, int a1, double[] a2, int a3)
+    {
+        stats.count("glRectdv");
+        if (target != null)
+          target.glRectdv(a0, a1, a2, a3);
+    }
+
+    public void glRectdv(DoubleBuffer a0, DoubleBuffer a1)
+    {
+        stats.count("glRectdv");
+        if (target != null)
+          target.glRectdv(a0, a1);
+    }
+
+    public void glRectf(float a0, float a1, float a2, float a3)
+    {
+        stats.count("glRectf");
+        if (target != null)
+          target.glRectf(a0, a1, a2, a3);
+    }
+
+    public void glRectfv(float[] a0, int a1, float[] a2, int a3)
+    {
+        stats.count("glRectfv");
+        if (target != null)
+          target.glRectfv(a0, a1, a2, a3);
+    }
+
+    public void glRectfv(FloatBuffer a0, FloatBuffer a1)
+    {
+        stats.count("glRectfv");
+        if (target != null)
+          target.glRectfv(a0, a1);
+    }
+
+    public void glRecti(int a0, int a1, int a2, int a3)
+    {
+        stats.count("glRecti");
+        if (target != null)
+          target.glRecti(a0, a1, a2, a3);
+    }
+
+    public void glRectiv(int[] a0, int a1, int[] a2, int a3)
+    {
+        stats.count("glRectiv");
+        if (target != null)
+          target.glRectiv(a0, a1, a2, a3);
+    }
+
+    public void glRectiv(IntBuffer a0, IntBuffer a1)
+    {
+        stats.count("glRectiv");
+        if (target != null)
+          target.glRectiv(a0, a1);
+    }
+
+    public void glRects(short a0, short a1, short a2, short a3)
+    {
+        stats.count("glRects");
+        if (target != null)
+          target.glRects(a0, a1, a2, a3);
+    }
+
+    public void glRectsv(short[] a0, int a1, short[] a2, int a3)
+    {
+        stats.count("glRectsv");
+        if (target != null)
+          target.glRectsv(a0, a1, a2, a3);
+    }
+
+    public void glRectsv(ShortBuffer a0, ShortBuffer a1)
+    {
+        stats.count("glRectsv");
+        if (target != null)
+          target.glRectsv(a0, a1);
+    }
+
+    public void glReferencePlaneSGIX(double[] a0, int a1)
+    {
+        stats.count("glReferencePlaneSGIX");
+        if (target != null)
+          target.glReferencePlaneSGIX(a0, a1);
+    }
+
+    public void glReferencePlaneSGIX(DoubleBuffer a0)
+    {
+        stats.count("glReferencePlaneSGIX");
+        if (target != null)
+          target.glReferencePlaneSGIX(a0);
+    }
+
+    public int glRenderMode(int a0)
+    {
+        stats.count("glRenderMode");
+        return (target != null) ? target.glRenderMode(a0) : 0;
+    }
+
+    public void glRenderbufferStorageEXT(int a0, int a1, int a2, int a3)
+    {
+        stats.count("glRenderbufferStorageEXT");
+        if (target != null)
+          target.glRenderbufferStorageEXT(a0, a1, a2, a3);
+    }
+
+    public void glRenderbufferStorageMultisampleCoverageNV(
+        int a0, int a1, int a2, int a3, int a4, int a5)
+    {
+        stats.count("glRenderbufferStorageMultisampleCoverageNV");
+        if (target != null)
+          target.glRenderbufferStorageMultisampleCoverageNV(a0, a1, a2, a3, a4,
+              a5);
+    }
+
+    public void glRenderbufferStorageMultisampleEXT(
+        int a0, int a1, int a2, int a3, int a4)
+    {
+        stats.count("glRenderbufferStorageMultisampleEXT");
+        if (target != null)
+          target.glRenderbufferStorageMultisampleEXT(a0, a1, a2, a3, a4);
+    }
+
+    public void glReplacementCodeuiColor3fVertex3fSUN(
+        int a0, float a1, float a2, float a3, float a4, float a5, float a6)
+    {
+        stats.count("glReplacementCodeuiColor3fVertex3fSUN");
+        if (target != null)
+          target.glReplacementCodeuiColor3fVertex3fSUN(a0, a1, a2, a3, a4, a5,
+              a6);
+    }
+
+    public void glReplacementCodeuiColor3fVertex3fvSUN(
+        int[] a0, int a1, float[] a2, int a3, float[] a4, int a5)
+    {
+        stats.count("glReplacementCodeuiColor3fVertex3fvSUN");
+        if (target != null)
+          target.glReplacementCodeuiColor3fVertex3fvSUN(a0, a1, a2, a3, a4,
+              a5);
+    }
+
+    public void glReplacementCodeuiColor3fVertex3fvSUN(
+        IntBuffer a0, FloatBuffer a1, FloatBuffer a2)
+    {
+        stats.count("glReplacementCodeuiColor3fVertex3fvSUN");
+        if (target != null)
+          target.glReplacementCodeuiColor3fVertex3fvSUN(a0, a1, a2);
+    }
+
+    public void glReplacementCodeuiColor4fNormal3fVertex3fSUN(
+        int a0, float a1, float a2, float a3, float a4, float a5, float a6,
+        float a7, float a8, float a9, float a10)
+    {
+        stats.count("glReplacementCodeuiColor4fNormal3fVertex3fSUN");
+        if (target != null)
+          target.glReplacementCodeuiColor4fNormal3fVertex3fSUN(a0, a1, a2, a3,
+              a4, a5, a6, a7, a8, a9, a10);
+    }
+
+    public void glReplacementCodeuiColor4fNormal3fVertex3fvSUN(
+        int[] a0, int a1, float[] a2, int a3, float[] a4, int a5, float[] a6,
+        int a7)
+    {
+        stats.count("glReplacementCodeuiColor4fNormal3fVertex3fvSUN");
+        if (target != null)
+          target.glReplacementCodeuiColor4fNormal3fVertex3fvSUN(a0, a1, a2, a3,
+              a4, a5, a6, a7);
+    }
+
+    public void glReplacementCodeuiColor4fNormal3fVertex3fvSUN(
+        IntBuffer a0, FloatBuffer a1, FloatBuffer a2, FloatBuffer a3)
+    {
+        stats.count("glReplacementCodeuiColor4fNormal3fVertex3fvSUN");
+        if (target != null)
+          target.glReplacementCodeuiColor4fNormal3fVertex3fvSUN(a0, a1, a2,
+              a3);
+    }
+
+    public void glReplacementCodeuiColor4ubVertex3fSUN(
+        int a0, byte a1, byte a2, byte a3, byte a4, float a5, float a6,
+        float a7)
+    {
+        stats.count("glReplacementCodeuiColor4ubVertex3fSUN");
+        if (target != null)
+          target.glReplacementCodeuiColor4ubVertex3fSUN(a0, a1, a2, a3, a4, a5,
+              a6, a7);
+    }
+
+    public void glReplacementCodeuiColor4ubVertex3fvSUN(
+        int[] a0, int a1, byte[] a2, int a3, float[] a4, int a5)
+    {
+        stats.count("glReplacementCodeuiColor4ubVertex3fvSUN");
+        if (target != null)
+          target.glReplacementCodeuiColor4ubVertex3fvSUN(a0, a1, a2, a3, a4,
+              a5);
+    }
+
+    public void glReplacementCodeuiColor4ubVertex3fvSUN(
+        IntBuffer a0, ByteBuffer a1, FloatBuffer a2)
+    {
+        stats.count("glReplacementCodeuiColor4ubVertex3fvSUN");
+        if (target != null)
+          target.glReplacementCodeuiColor4ubVertex3fvSUN(a0, a1, a2);
+    }
+
+    public void glReplacementCodeuiNormal3fVertex3fSUN(
+        int a0, float a1, float a2, float a3, float a4, float a5, float a6)
+    {
+        stats.count("glReplacementCodeuiNormal3fVertex3fSUN");
+        if (target != null)
+          target.glReplacementCodeuiNormal3fVertex3fSUN(a0, a1, a2, a3, a4, a5,
+              a6);
+    }
+
+    public void glReplacementCodeuiNormal3fVertex3fvSUN(
+        int[] a0, int a1, float[] a2, int a3, float[] a4, int a5)
+    {
+        stats.count("glReplacementCodeuiNormal3fVertex3fvSUN");
+        if (target != null)
+          target.glReplacementCodeuiNormal3fVertex3fvSUN(a0, a1, a2, a3, a4,
+              a5);
+    }
+
+    public void glReplacementCodeuiNormal3fVertex3fvSUN(
+        IntBuffer a0, FloatBuffer a1, FloatBuffer a2)
+    {
+        stats.count("glReplacementCodeuiNormal3fVertex3fvSUN");
+        if (target != null)
+          target.glReplacementCodeuiNormal3fVertex3fvSUN(a0, a1, a2);
+    }
+
+    public void glReplacementCodeuiTexCoord2fColor4fNormal3fVertex3fSUN(
+        int a0, float a1, float a2, float a3, float a4, float a5, float a6,
+        float a7, float a8, float a9, float a10, float a11, float a12)
+    {
+        stats.count("glReplacementCodeuiTexCoord2fColor4fNormal3fVertex3fSUN");
+        if (target != null)
+          target.glReplacementCodeuiTexCoord2fColor4fNormal3fVertex3fSUN(a0,
+              a1, a2, a3, a4, a5, a6, a7, a8, a9, a10, a11, a12);
+    }
+
+    public void glReplacementCodeuiTexCoord2fColor4fNormal3fVertex3fvSUN(
+        int[] a0, int a1, float[] a2, int a3, float[] a4, int a5, float[] a6,
+        int a7, float[] a8, int a9)
+    {
+        stats.count("glReplacementCodeuiTexCoord2fColor4fNormal3fVertex3fvSUN");
+        if (target != null)
+          target.glReplacementCodeuiTexCoord2fColor4fNormal3fVertex3fvSUN(a0,
+              a1, a2, a3, a4, a5, a6, a7, a8, a9);
+    }
+
+    public void glReplacementCodeuiTexCoord2fColor4fNormal3fVertex3fvSUN(
+        IntBuffer a0, FloatBuffer a1, FloatBuffer a2, FloatBuffer a3,
+        FloatBuffer a4)
+    {
+        stats.count("glReplacementCodeuiTexCoord2fColor4fNormal3fVertex3fvSUN");
+        if (target != null)
+          target.glReplacementCodeuiTexCoord2fColor4fNormal3fVertex3fvSUN(a0,
+              a1, a2, a3, a4);
+    }
+
+    public void glReplacementCodeuiTexCoord2fNormal3fVertex3fSUN(
+        int a0, float a1, float a2, float a3, float a4, float a5, float a6,
+        float a7, float a8)
+    {
+        stats.count("glReplacementCodeuiTexCoord2fNormal3fVertex3fSUN");
+        if (target != null)
+          target.glReplacementCodeuiTexCoord2fNormal3fVertex3fSUN(a0, a1, a2,
+              a3, a4, a5, a6, a7, a8);
+    }
+
+    public void glReplacementCodeuiTexCoord2fNormal3fVertex3fvSUN(
+        int[] a0, int a1, float[] a2, int a3, float[] a4, int a5, float[] a6,
+        int a7)
+    {
+        stats.count("glReplacementCodeuiTexCoord2fNormal3fVertex3fvSUN");
+        if (target != null)
+          target.glReplacementCodeuiTexCoord2fNormal3fVertex3fvSUN(a0, a1, a2,
+              a3, a4, a5, a6, a7);
+    }
+
+    public void glReplacementCodeuiTexCoord2fNormal3fVertex3fvSUN(
+        IntBuffer a0, FloatBuffer a1, FloatBuffer a2, FloatBuffer a3)
+    {
+        stats.count("glReplacementCodeuiTexCoord2fNormal3fVertex3fvSUN");
+        if (target != null)
+          target.glReplacementCodeuiTexCoord2fNormal3fVertex3fvSUN(a0, a1, a2,
+              a3);
+    }
+
+    public void glReplacementCodeuiTexCoord2fVertex3fSUN(
+        int a0, float a1, float a2, float a3, float a4, float a5)
+    {
+        stats.count("glReplacementCodeuiTexCoord2fVertex3fSUN");
+        if (target != null)
+          target.glReplacementCodeuiTexCoord2fVertex3fSUN(a0, a1, a2, a3, a4,
+              a5);
+    }
+
+    public void glReplacementCodeuiTexCoord2fVertex3fvSUN(
+        int[] a0, int a1, float[] a2, int a3, float[] a4, int a5)
+    {
+        stats.count("glReplacementCodeuiTexCoord2fVertex3fvSUN");
+        if (target != null)
+          target.glReplacementCodeuiTexCoord2fVertex3fvSUN(a0, a1, a2, a3, a4,
+              a5);
+    }
+
+    public void glReplacementCodeuiTexCoord2fVertex3fvSUN(
+        IntBuffer a0, FloatBuffer a1, FloatBuffer a2)
+    {
+        stats.count("glReplacementCodeuiTexCoord2fVertex3fvSUN");
+        if (target != null)
+          target.glReplacementCodeuiTexCoord2fVertex3fvSUN(a0, a1, a2);
+    }
+
+    public void glReplacementCodeuiVertex3fSUN(
+        int a0, float a1, float a2, float a3)
+    {
+        stats.count("glReplacementCodeuiVertex3fSUN");
+        if (target != null)
+          target.glReplacementCodeuiVertex3fSUN(a0, a1, a2, a3);
+    }
+
+    public void glReplacementCodeuiVertex3fvSUN(
+        int[] a0, int a1, float[] a2, int a3)
+    {
+        stats.count("glReplacementCodeuiVertex3fvSUN");
+        if (target != null)
+          target.glReplacementCodeuiVertex3fvSUN(a0, a1, a2, a3);
+    }
+
+    public void glReplacementCodeuiVertex3fvSUN(IntBuffer a0, FloatBuffer a1)
+    {
+        stats.count("glReplacementCodeuiVertex3fvSUN");
+        if (target != null)
+          target.glReplacementCodeuiVertex3fvSUN(a0, a1);
+    }
+
+    public void glRequestResidentProgramsNV(int a0, int[] a1, int a2)
+    {
+        stats.count("glRequestResidentProgramsNV");
+        if (target != null)
+          target.glRequestResidentProgramsNV(a0, a1, a2);
+    }
+
+    public void glRequestResidentProgramsNV(int a0, IntBuffer a1)
+    {
+        stats.count("glRequestResidentProgramsNV");
+        if (target != null)
+          target.glRequestResidentProgramsNV(a0, a1);
+    }
+
+    public void glResetHistogram(int a0)
+    {
+        stats.count("glResetHistogram");
+        if (target != null)
+          target.glResetHistogram(a0);
+    }
+
+    public void glResetMinmax(int a0)
+    {
+        stats.count("glResetMinmax");
+        if (target != null)
+          target.glResetMinmax(a0);
+    }
+
+    public void glResizeBuffersMESA()
+    {
+        stats.count("glResizeBuffersMESA");
+        if (target != null)
+          target.glResizeBuffersMESA();
+    }
+
+    public void glRotated(double a0, double a1, double a2, double a3)
+    {
+        stats.count("glRotated");
+        if (target != null)
+          target.glRotated(a0, a1, a2, a3);
+    }
+
+    public void glRotatef(float a0, float a1, float a2, float a3)
+    {
+        stats.count("glRotatef");
+        if (target != null)
+          target.glRotatef(a0, a1, a2, a3);
+    }
+
+    public void glSampleCoverage(float a0, boolean a1)
+    {
+        stats.count("glSampleCoverage");
+        if (target != null)
+          target.glSampleCoverage(a0, a1);
+    }
+
+    public void glSampleMapATI(int a0, int a1, int a2)
+    {
+        stats.count("glSampleMapATI");
+        if (target != null)
+          target.glSampleMapATI(a0, a1, a2);
+    }
+
+    public void glSampleMaskEXT(float a0, boolean a1)
+    {
+        stats.count("glSampleMaskEXT");
+        if (target != null)
+          target.glSampleMaskEXT(a0, a1);
+    }
+
+    public void glSampleMaskSGIS(float a0, boolean a1)
+    {
+        stats.count("glSampleMaskSGIS");
+        if (target != null)
+          target.glSampleMaskSGIS(a0, a1);
+    }
+
+    public void glSamplePatternEXT(int a0)
+    {
+        stats.count("glSamplePatternEXT");
+        if (target != null)
+          target.glSamplePatternEXT(a0);
+    }
+
+    public void glSamplePatternSGIS(int a0)
+    {
+        stats.count("glSamplePatternSGIS");
+        if (target != null)
+          target.glSamplePatternSGIS(a0);
+    }
+
+    public void glScaled(double a0, double a1, double a2)
+    {
+        stats.count("glScaled");
+        if (target != null)
+          target.glScaled(a0, a1, a2);
+    }
+
+    public void glScalef(float a0, float a1, float a2)
+    {
+        stats.count("glScalef");
+        if (target != null)
+          target.glScalef(a0, a1, a2);
+    }
+
+    public void glScissor(int a0, int a1, int a2, int a3)
+    {
+        stats.count("glScissor");
+        if (target != null)
+          target.glScissor(a0, a1, a2, a3);
+    }
+
+    public void glSecondaryColor3b(byte a0, byte a1, byte a2)
+    {
+        stats.count("glSecondaryColor3b");
+        if (target != null)
+          target.glSecondaryColor3b(a0, a1, a2);
+    }
+
+    public void glSecondaryColor3bEXT(byte a0, byte a1, byte a2)
+    {
+        stats.count("glSecondaryColor3bEXT");
+        if (target != null)
+          target.glSecondaryColor3bEXT(a0, a1, a2);
+    }
+
+    public void glSecondaryColor3bv(byte[] a0, int a1)
+    {
+        stats.count("glSecondaryColor3bv");
+        if (target != null)
+          target.glSecondaryColor3bv(a0, a1);
+    }
+
+    public void glSecondaryColor3bv(ByteBuffer a0)
+    {
+        stats.count("glSecondaryColor3bv");
+        if (target != null)
+          target.glSecondaryColor3bv(a0);
+    }
+
+    public void glSecondaryColor3bvEXT(byte[] a0, int a1)
+    {
+        stats.count("glSecondaryColor3bvEXT");
+        if (target != null)
+          target.glSecondaryColor3bvEXT(a0, a1);
+    }
+
+    public void glSecondaryColor3bvEXT(ByteBuffer a0)
+    {
+        stats.count("glSecondaryColor3bvEXT");
+        if (target != null)
+          target.glSecondaryColor3bvEXT(a0);
+    }
+
+    public void glSecondaryColor3d(double a0, double a1, double a2)
+    {
+        stats.count("glSecondaryColor3d");
+        if (target != null)
+          target.glSecondaryColor3d(a0, a1, a2);
+    }
+
+    public void glSecondaryColor3dEXT(double a0, double a1, double a2)
+    {
+        stats.count("glSecondaryColor3dEXT");
+        if (target != null)
+          target.glSecondaryColor3dEXT(a0, a1, a2);
+    }
+
+    public void glSecondaryColor3dv(double[] a0, int a1)
+    {
+        stats.count("glSecondaryColor3dv");
+        if (target != null)
+          target.glSecondaryColor3dv(a0, a1);
+    }
+
+    public void glSecondaryColor3dv(DoubleBuffer a0)
+    {
+        stats.count("glSecondaryColor3dv");
+        if (target != null)
+          target.glSecondaryColor3dv(a0);
+    }
+
+    public void glSecondaryColor3dvEXT(double[] a0, int a1)
+    {
+        stats.count("glSecondaryColor3dvEXT");
+        if (target != null)
+          target.glSecondaryColor3dvEXT(a0, a1);
+    }
+
+    public void glSecondaryColor3dvEXT(DoubleBuffer a0)
+    {
+        stats.count("glSecondaryColor3dvEXT");
+        if (target != null)
+          target.glSecondaryColor3dvEXT(a0);
+    }
+
+    public void glSecondaryColor3f(float a0, float a1, float a2)
+    {
+        stats.count("glSecondaryColor3f");
+        if (target != null)
+          target.glSecondaryColor3f(a0, a1, a2);
+    }
+
+    public void glSecondaryColor3fEXT(float a0, float a1, float a2)
+    {
+        stats.count("glSecondaryColor3fEXT");
+        if (target != null)
+          target.glSecondaryColor3fEXT(a0, a1, a2);
+    }
+
+    public void glSecondaryColor3fv(float[] a0, int a1)
+    {
+        stats.count("glSecondaryColor3fv");
+        if (target != null)
+          target.glSecondaryColor3fv(a0, a1);
+    }
+
+    public void glSecondaryColor3fv(FloatBuffer a0)
+    {
+        stats.count("glSecondaryColor3fv");
+        if (target != null)
+          target.glSecondaryColor3fv(a0);
+    }
+
+    public void glSecondaryColor3fvEXT(float[] a0, int a1)
+    {
+        stats.count("glSecondaryColor3fvEXT");
+        if (target != null)
+          target.glSecondaryColor3fvEXT(a0, a1);
+    }
+
+    public void glSecondaryColor3fvEXT(FloatBuffer a0)
+    {
+        stats.count("glSecondaryColor3fvEXT");
+        if (target != null)
+          target.glSecondaryColor3fvEXT(a0);
+    }
+
+    public void glSecondaryColor3hNV(short a0, short a1, short a2)
+    {
+        stats.count("glSecondaryColor3hNV");
+        if (target != null)
+          target.glSecondaryColor3hNV(a0, a1, a2);
+    }
+
+    public void glSecondaryColor3hvNV(short[] a0, int a1)
+    {
+        stats.count("glSecondaryColor3hvNV");
+        if (target != null)
+          target.glSecondaryColor3hvNV(a0, a1);
+    }
+
+    public void glSecondaryColor3hvNV(ShortBuffer a0)
+    {
+        stats.count("glSecondaryColor3hvNV");
+        if (target != null)
+          target.glSecondaryColor3hvNV(a0);
+    }
+
+    public void glSecondaryColor3i(int a0, int a1, int a2)
+    {
+        stats.count("glSecondaryColor3i");
+        if (target != null)
+          target.glSecondaryColor3i(a0, a1, a2);
+    }
+
+    public void glSecondaryColor3iEXT(int a0, int a1, int a2)
+    {
+        stats.count("glSecondaryColor3iEXT");
+        if (target != null)
+          target.glSecondaryColor3iEXT(a0, a1, a2);
+    }
+
+    public void glSecondaryColor3iv(int[] a0, int a1)
+    {
+        stats.count("glSecondaryColor3iv");
+        if (target != null)
+          target.glSecondaryColor3iv(a0, a1);
+    }
+
+    public void glSecondaryColor3iv(IntBuffer a0)
+    {
+        stats.count("glSecondaryColor3iv");
+        if (target != null)
+          target.glSecondaryColor3iv(a0);
+    }
+
+    public void glSecondaryColor3ivEXT(int[] a0, int a1)
+    {
+        stats.count("glSecondaryColor3ivEXT");
+        if (target != null)
+          target.glSecondaryColor3ivEXT(a0, a1);
+    }
+
+    public void glSecondaryColor3ivEXT(IntBuffer a0)
+    {
+        stats.count("glSecondaryColor3ivEXT");
+        if (target != null)
+          target.glSecondaryColor3ivEXT(a0);
+    }
+
+    public void glSecondaryColor3s(short a0, short a1, short a2)
+    {
+        stats.count("glSecondaryColor3s");
+        if (target != null)
+          target.glSecondaryColor3s(a0, a1, a2);
+    }
+
+    public void glSecondaryColor3sEXT(short a0, short a1, short a2)
+    {
+        stats.count("glSecondaryColor3sEXT");
+        if (target != null)
+          target.glSecondaryColor3sEXT(a0, a1, a2);
+    }
+
+    public void glSecondaryColor3sv(short[] a0, int a1)
+    {
+        stats.count("glSecondaryColor3sv");
+        if (target != null)
+          target.glSecondaryColor3sv(a0, a1);
+    }
+
+    public void glSecondaryColor3sv(ShortBuffer a0)
+    {
+        stats.count("glSecondaryColor3sv");
+        if (target != null)
+          target.glSecondaryColor3sv(a0);
+    }
+
+    public void glSecondaryColor3svEXT(short[] a0, int a1)
+    {
+        stats.count("glSecondaryColor3svEXT");
+        if (target != null)
+          target.glSecondaryColor3svEXT(a0, a1);
+    }
+
+    public void glSecondaryColor3svEXT(ShortBuffer a0)
+    {
+        stats.count("glSecondaryColor3svEXT");
+        if (target != null)
+          target.glSecondaryColor3svEXT(a0);
+    }
+
+    public void glSecondaryColor3ub(byte a0, byte a1, byte a2)
+    {
+        stats.count("glSecondaryColor3ub");
+        if (target != null)
+          target.glSecondaryColor3ub(a0, a1, a2);
+    }
+
+    public void glSecondaryColor3ubEXT(byte a0, byte a1, byte a2)
+    {
+        stats.count("glSecondaryColor3ubEXT");
+        if (target != null)
+          target.glSecondaryColor3ubEXT(a0, a1, a2);
+    }
+
+    public void glSecondaryColor3ubv(byte[] a0, int a1)
+    {
+        stats.count("glSecondaryColor3ubv");
+        if (target != null)
+          target.glSecondaryColor3ubv(a0, a1);
+    }
+
+    public void glSecondaryColor3ubv(ByteBuffer a0)
+    {
+        stats.count("glSecondaryColor3ubv");
+        if (target != null)
+          target.glSecondaryColor3ubv(a0);
+    }
+
+    public void glSecondaryColor3ubvEXT(byte[] a0, int a1)
+    {
+        stats.count("glSecondaryColor3ubvEXT");
+        if (target != null)
+          target.glSecondaryColor3ubvEXT(a0, a1);
+    }
+
+    public void glSecondaryColor3ubvEXT(ByteBuffer a0)
+    {
+        stats.count("glSecondaryColor3ubvEXT");
+        if (target != null)
+          target.glSecondaryColor3ubvEXT(a0);
+    }
+
+    public void glSecondaryColor3ui(int a0, int a1, int a2)
+    {
+        stats.count("glSecondaryColor3ui");
+        if (target != null)
+          target.glSecondaryColor3ui(a0, a1, a2);
+    }
+
+    public void glSecondaryColor3uiEXT(int a0, int a1, int a2)
+    {
+        stats.count("glSecondaryColor3uiEXT");
+        if (target != null)
+          target.glSecondaryColor3uiEXT(a0, a1, a2);
+    }
+
+    public void glSecondaryColor3uiv(int[] a0, int a1)
+    {
+        stats.count("glSecondaryColor3uiv");
+        if (target != null)
+          target.glSecondaryColor3uiv(a0, a1);
+    }
+
+    public void glSecondaryColor3uiv(IntBuffer a0)
+    {
+        stats.count("glSecondaryColor3uiv");
+        if (target != null)
+          target.glSecondaryColor3uiv(a0);
+    }
+
+    public void glSecondaryColor3uivEXT(int[] a0, int a1)
+    {
+        stats.count("glSecondaryColor3uivEXT");
+        if (target != null)
+          target.glSecondaryColor3uivEXT(a0, a1);
+    }
+
+    public void glSecondaryColor3uivEXT(IntBuffer a0)
+    {
+        stats.count("glSecondaryColor3uivEXT");
+        if (target != null)
+          target.glSecondaryColor3uivEXT(a0);
+    }
+
+    public void glSecondaryColor3us(short a0, short a1, short a2)
+    {
+        stats.count("glSecondaryColor3us");
+        if (target != null)
+          target.glSecondaryColor3us(a0, a1, a2);
+    }
+
+    public void glSecondaryColor3usEXT(short a0, short a1, short a2)
+    {
+        stats.count("glSecondaryColor3usEXT");
+        if (target != null)
+          target.glSecondaryColor3usEXT(a0, a1, a2);
+    }
+
+    public void glSecondaryColor3usv(short[] a0, int a1)
+    {
+        stats.count("glSecondaryColor3usv");
+        if (target != null)
+          target.glSecondaryColor3usv(a0, a1);
+    }
+
+    public void glSecondaryColor3usv(ShortBuffer a0)
+    {
+        stats.count("glSecondaryColor3usv");
+        if (target != null)
+          target.glSecondaryColor3usv(a0);
+    }
+
+    public void glSecondaryColor3usvEXT(short[] a0, int a1)
+    {
+        stats.count("glSecondaryColor3usvEXT");
+        if (target != null)
+          target.glSecondaryColor3usvEXT(a0, a1);
+    }
+
+    public void glSecondaryColor3usvEXT(ShortBuffer a0)
+    {
+        stats.count("glSecondaryColor3usvEXT");
+        if (target != null)
+          target.glSecondaryColor3usvEXT(a0);
+    }
+
+    public void glSecondaryColorPointer(int a0, int a1, int a2, Buffer a3)
+    {
+        stats.count("glSecondaryColorPointer");
+        if (target != null)
+          target.glSecondaryColorPointer(a0, a1, a2, a3);
+    }
+
+    public void glSecondaryColorPointer(int a0, int a1, int a2, long a3)
+    {
+        stats.count("glSecondaryColorPointer");
+        if (target != null)
+          target.glSecondaryColorPointer(a0, a1, a2, a3);
+    }
+
+    public void glSecondaryColorPointerEXT(int a0, int a1, int a2, Buffer a3)
+    {
+        stats.count("glSecondaryColorPointerEXT");
+        if (target != null)
+          target.glSecondaryColorPointerEXT(a0, a1, a2, a3);
+    }
+
+    public void glSecondaryColorPointerEXT(int a0, int a1, int a2, long a3)
+    {
+        stats.count("glSecondaryColorPointerEXT");
+        if (target != null)
+          target.glSecondaryColorPointerEXT(a0, a1, a2, a3);
+    }
+
+    public void glSelectBuffer(int a0, IntBuffer a1)
+    {
+        stats.count("glSelectBuffer");
+        if (target != null)
+          target.glSelectBuffer(a0, a1);
+    }
+
+    public void glSeparableFilter2D(
+        int a0, int a1, int a2, int a3, int a4, int a5, Buffer a6, Buffer a7)
+    {
+        stats.count("glSeparableFilter2D");
+        if (target != null)
+          target.glSeparableFilter2D(a0, a1, a2, a3, a4, a5, a6, a7);
+    }
+
+    public void glSeparableFilter2D(
+        int a0, int a1, int a2, int a3, int a4, int a5, long a6, long a7)
+    {
+        stats.count("glSeparableFilter2D");
+        if (target != null)
+          target.glSeparableFilter2D(a0, a1, a2, a3, a4, a5, a6, a7);
+    }
+
+    public void glSetFenceAPPLE(int a0)
+    {
+        stats.count("glSetFenceAPPLE");
+        if (target != null)
+          target.glSetFenceAPPLE(a0);
+    }
+
+    public void glSetFenceNV(int a0, int a1)
+    {
+        stats.count("glSetFenceNV");
+        if (target != null)
+          target.glSetFenceNV(a0, a1);
+    }
+
+    public void glSetFragmentShaderConstantATI(int a0, float[] a1, int a2)
+    {
+        stats.count("glSetFragmentShaderConstantATI");
+        if (target != null)
+          target.glSetFragmentShaderConstantATI(a0, a1, a2);
+    }
+
+    public void glSetFragmentShaderConstantATI(int a0, FloatBuffer a1)
+    {
+        stats.count("glSetFragmentShaderConstantATI");
+        if (target != null)
+          target.glSetFragmentShaderConstantATI(a0, a1);
+    }
+
+    public void glSetInvariantEXT(int a0, int a1, Buffer a2)
+    {
+        stats.count("glSetInvariantEXT");
+        if (target != null)
+          target.glSetInvariantEXT(a0, a1, a2);
+    }
+
+    public void glSetLocalConstantEXT(int a0, int a1, Buffer a2)
+    {
+        stats.count("glSetLocalConstantEXT");
+        if (target != null)
+          target.glSetLocalConstantEXT(a0, a1, a2);
+    }
+
+    public void glShadeModel(int a0)
+    {
+        stats.count("glShadeModel");
+        if (target != null)
+          target.glShadeModel(a0);
+    }
+
+    public void glShaderOp1EXT(int a0, int a1, int a2)
+    {
+        stats.count("glShaderOp1EXT");
+        if (target != null)
+          target.glShaderOp1EXT(a0, a1, a2);
+    }
+
+    public void glShaderOp2EXT(int a0, int a1, int a2, int a3)
+    {
+        stats.count("glShaderOp2EXT");
+        if (target != null)
+          target.glShaderOp2EXT(a0, a1, a2, a3);
+    }
+
+    public void glShaderOp3EXT(int a0, int a1, int a2, int a3, int a4)
+    {
+        stats.count("glShaderOp3EXT");
+        if (target != null)
+          target.glShaderOp3EXT(a0, a1, a2, a3, a4);
+    }
+
+    public void glShaderSource(int a0, int a1, String[] a2, int[] a3, int a4)
+    {
+        stats.count("glShaderSource");
+        if (target != null)
+          target.glShaderSource(a0, a1, a2, a3, a4);
+    }
+
+    public void glShaderSource(int a0, int a1, String[] a2, IntBuffer a3)
+    {
+        stats.count("glShaderSource");
+        if (target != null)
+          target.glShaderSource(a0, a1, a2, a3);
+    }
+
+    public void glShaderSourceARB(
+        int a0, int a1, String[] a2, int[] a3, int a4)
+    {
+        stats.count("glShaderSourceARB");
+        if (target != null)
+          target.glShaderSourceARB(a0, a1, a2, a3, a4);
+    }
+
+    public void glShaderSourceARB(int a0, int a1, String[] a2, IntBuffer a3)
+    {
+        stats.count("glShaderSourceARB");
+        if (target != null)
+          target.glShaderSourceARB(a0, a1, a2, a3);
+    }
+
+    public void glSharpenTexFuncSGIS(int a0, int a1, float[] a2, int a3)
+    {
+        stats.count("glSharpenTexFuncSGIS");
+        if (target != null)
+          target.glSharpenTexFuncSGIS(a0, a1, a2, a3);
+    }
+
+    public void glSharpenTexFuncSGIS(int a0, int a1, FloatBuffer a2)
+    {
+        stats.count("glSharpenTexFuncSGIS");
+        if (target != null)
+          target.glSharpenTexFuncSGIS(a0, a1, a2);
+    }
+
+    public void glSpriteParameterfSGIX(int a0, float a1)
+    {
+        stats.count("glSpriteParameterfSGIX");
+        if (target != null)
+          target.glSpriteParameterfSGIX(a0, a1);
+    }
+
+    public void glSpriteParameterfvSGIX(int a0, float[] a1, int a2)
+    {
+        stats.count("glSpriteParameterfvSGIX");
+        if (target != null)
+          target.glSpriteParameterfvSGIX(a0, a1, a2);
+    }
+
+    public void glSpriteParameterfvSGIX(int a0, FloatBuffer a1)
+    {
+        stats.count("glSpriteParameterfvSGIX");
+        if (target != null)
+          target.glSpriteParameterfvSGIX(a0, a1);
+    }
+
+    public void glSpriteParameteriSGIX(int a0, int a1)
+    {
+        stats.count("glSpriteParameteriSGIX");
+        if (target != null)
+          target.glSpriteParameteriSGIX(a0, a1);
+    }
+
+    public void glSpriteParameterivSGIX(int a0, int[] a1, int a2)
+    {
+        stats.count("glSpriteParameterivSGIX");
+        if (target != null)
+          target.glSpriteParameterivSGIX(a0, a1, a2);
+    }
+
+    public void glSpriteParameterivSGIX(int a0, IntBuffer a1)
+    {
+        stats.count("glSpriteParameterivSGIX");
+        if (target != null)
+          target.glSpriteParameterivSGIX(a0, a1);
+    }
+
+    public void glStartInstrumentsSGIX()
+    {
+        stats.count("glStartInstrumentsSGIX");
+        if (target != null)
+          target.glStartInstrumentsSGIX();
+    }
+
+    public void glStencilClearTagEXT(int a0, int a1)
+    {
+        stats.count("glStencilClearTagEXT");
+        if (target != null)
+          target.glStencilClearTagEXT(a0, a1);
+    }
+
+    public void glStencilFunc(int a0, int a1, int a2)
+    {
+        stats.count("glStencilFunc");
+        if (target != null)
+          target.glStencilFunc(a0, a1, a2);
+    }
+
+    public void glStencilFuncSeparate(int a0, int a1, int a2, int a3)
+    {
+        stats.count("glStencilFuncSeparate");
+        if (target != null)
+          target.glStencilFuncSeparate(a0, a1, a2, a3);
+    }
+
+    public void glStencilFuncSeparateATI(int a0, int a1, int a2, int a3)
+    {
+        stats.count("glStencilFuncSeparateATI");
+        if (target != null)
+          target.glStencilFuncSeparateATI(a0, a1, a2, a3);
+    }
+
+    public void glStencilMask(int a0)
+    {
+        stats.count("glStencilMask");
+        if (target != null)
+          target.glStencilMask(a0);
+    }
+
+    public void glStencilMaskSeparate(int a0, int a1)
+    {
+        stats.count("glStencilMaskSeparate");
+        if (target != null)
+          target.glStencilMaskSeparate(a0, a1);
+    }
+
+    public void glStencilOp(int a0, int a1, int a2)
+    {
+        stats.count("glStencilOp");
+        if (target != null)
+          target.glStencilOp(a0, a1, a2);
+    }
+
+    public void glStencilOpSeparate(int a0, int a1, int a2, int a3)
+    {
+        stats.count("glStencilOpSeparate");
+        if (target != null)
+          target.glStencilOpSeparate(a0, a1, a2, a3);
+    }
+
+    public void glStencilOpSeparateATI(int a0, int a1, int a2, int a3)
+    {
+        stats.count("glStencilOpSeparateATI");
+        if (target != null)
+          target.glStencilOpSeparateATI(a0, a1, a2, a3);
+    }
+
+    public void glStopInstrumentsSGIX(int a0)
+    {
+        stats.count("glStopInstrumentsSGIX");
+        if (target != null)
+          target.glStopInstrumentsSGIX(a0);
+    }
+
+    public void glStringMarkerGREMEDY(int a0, Buffer a1)
+    {
+        stats.count("glStringMarkerGREMEDY");
+        if (target != null)
+          target.glStringMarkerGREMEDY(a0, a1);
+    }
+
+    public void glSwapAPPLE()
+    {
+        stats.count("glSwapAPPLE");
+        if (target != null)
+          target.glSwapAPPLE();
+    }
+
+    public void glSwizzleEXT(int a0, int a1, int a2, int a3, int a4, int a5)
+    {
+        stats.count("glSwizzleEXT");
+        if (target != null)
+          target.glSwizzleEXT(a0, a1, a2, a3, a4, a5);
+    }
+
+    public void glTagSampleBufferSGIX()
+    {
+        stats.count("glTagSampleBufferSGIX");
+        if (target != null)
+          target.glTagSampleBufferSGIX();
+    }
+
+    public void glTbufferMask3DFX(int a0)
+    {
+        stats.count("glTbufferMask3DFX");
+        if (target != null)
+          target.glTbufferMask3DFX(a0);
+    }
+
+    public boolean glTestFenceAPPLE(int a0)
+    {
+        stats.count("glTestFenceAPPLE");
+        return (target != null) ? target.glTestFenceAPPLE(a0) : false;
+    }
+
+    public boolean glTestFenceNV(int a0)
+    {
+        stats.count("glTestFenceNV");
+        return (target != null) ? target.glTestFenceNV(a0) : false;
+    }
+
+    public boolean glTestObjectAPPLE(int a0, int a1)
+    {
+        stats.count("glTestObjectAPPLE");
+        return (target != null) ? target.glTestObjectAPPLE(a0, a1) : false;
+    }
+
+    public void glTexBufferEXT(int a0, int a1, int a2)
+    {
+        stats.count("glTexBufferEXT");
+        if (target != null)
+          target.glTexBufferEXT(a0, a1, a2);
+    }
+
+    public void glTexBumpParameterfvATI(int a0, float[] a1, int a2)
+    {
+        stats.count("glTexBumpParameterfvATI");
+        if (target != null)
+          target.glTexBumpParameterfvATI(a0, a1, a2);
+    }
+
+    public void glTexBumpParameterfvATI(int a0, FloatBuffer a1)
+    {
+        stats.count("glTexBumpParameterfvATI");
+        if (target != null)
+          target.glTexBumpParameterfvATI(a0, a1);
+    }
+
+    public void glTexBumpParameterivATI(int a0, int[] a1, int a2)
+    {
+        stats.count("glTexBumpParameterivATI");
+        if (target != null)
+          target.glTexBumpParameterivATI(a0, a1, a2);
+    }
+
+    public void glTexBumpParameterivATI(int a0, IntBuffer a1)
+    {
+        stats.count("glTexBumpParameterivATI");
+        if (target != null)
+          target.glTexBumpParameterivATI(a0, a1);
+    }
+
+    public void glTexCoord1d(double a0)
+    {
+        stats.count("glTexCoord1d");
+        if (target != null)
+          target.glTexCoord1d(a0);
+    }
+
+    public void glTexCoord1dv(double[] a0, int a1)
+    {
+        stats.count("glTexCoord1dv");
+        if (target != null)
+          target.glTexCoord1dv(a0, a1);
+    }
+
+    public void glTexCoord1dv(DoubleBuffer a0)
+    {
+        stats.count("glTexCoord1dv");
+        if (target != null)
+          target.glTexCoord1dv(a0);
+    }
+
+    public void glTexCoord1f(float a0)
+    {
+        stats.count("glTexCoord1f");
+        if (target != null)
+          target.glTexCoord1f(a0);
+    }
+
+    public void glTexCoord1fv(float[] a0, int a1)
+    {
+        stats.count("glTexCoord1fv");
+        if (target != null)
+          target.glTexCoord1fv(a0, a1);
+    }
+
+    public void glTexCoord1fv(FloatBuffer a0)
+    {
+        stats.count("glTexCoord1fv");
+        if (target != null)
+          target.glTexCoord1fv(a0);
+    }
+
+    public void glTexCoord1hNV(short a0)
+    {
+        stats.count("glTexCoord1hNV");
+        if (target != null)
+          target.glTexCoord1hNV(a0);
+    }
+
+    public void glTexCoord1hvNV(short[] a0, int a1)
+    {
+        stats.count("glTexCoord1hvNV");
+        if (target != null)
+          target.glTexCoord1hvNV(a0, a1);
+    }
+
+    public void glTexCoord1hvNV(ShortBuffer a0)
+    {
+        stats.count("glTexCoord1hvNV");
+        if (target != null)
+          target.glTexCoord1hvNV(a0);
+    }
+
+    public void glTexCoord1i(int a0)
+    {
+        stats.count("glTexCoord1i");
+        if (target != null)
+          target.glTexCoord1i(a0);
+    }
+
+    public void glTexCoord1iv(int[] a0, int a1)
+    {
+        stats.count("glTexCoord1iv");
+        if (target != null)
+          target.glTexCoord1iv(a0, a1);
+    }
+
+    public void glTexCoord1iv(IntBuffer a0)
+    {
+        stats.count("glTexCoord1iv");
+        if (target != null)
+          target.glTexCoord1iv(a0);
+    }
+
+    public void glTexCoord1s(short a0)
+    {
+        stats.count("glTexCoord1s");
+        if (target != null)
+          target.glTexCoord1s(a0);
+    }
+
+    public void glTexCoord1sv(short[] a0, int a1)
+    {
+        stats.count("glTexCoord1sv");
+        if (target != null)
+          target.glTexCoord1sv(a0, a1);
+    }
+
+    public void glTexCoord1sv(ShortBuffer a0)
+    {
+        stats.count("glTexCoord1sv");
+        if (target != null)
+          target.glTexCoord1sv(a0);
+    }
+
+    public void glTexCoord2d(double a0, double a1)
+    {
+        stats.count("glTexCoord2d");
+        if (target != null)
+          target.glTexCoord2d(a0, a1);
+    }
+
+    public void glTexCoord2dv(double[] a0, int a1)
+    {
+        stats.count("glTexCoord2dv");
+        if (target != null)
+          target.glTexCoord2dv(a0, a1);
+    }
+
+    public void glTexCoord2dv(DoubleBuffer a0)
+    {
+        stats.count("glTexCoord2dv");
+        if (target != null)
+          target.glTexCoord2dv(a0);
+    }
+
+    public void glTexCoord2f(float a0, float a1)
+    {
+        stats.count("glTexCoord2f");
+        if (target != null)
+          target.glTexCoord2f(a0, a1);
+    }
+
+    public void glTexCoord2fColor3fVertex3fSUN(
+        float a0, float a1, float a2, float a3, float a4, float a5, float a6,
+        float a7)
+    {
+        stats.count("glTexCoord2fColor3fVertex3fSUN");
+        if (target != null)
+          target.glTexCoord2fColor3fVertex3fSUN(a0, a1, a2, a3, a4, a5, a6,
+              a7);
+    }
+
+    public void glTexCoord2fColor3fVertex3fvSUN(
+        float[] a0, int a1, float[] a2, int a3, float[] a4, int a5)
+    {
+        stats.count("glTexCoord2fColor3fVertex3fvSUN");
+        if (target != null)
+          target.glTexCoord2fColor3fVertex3fvSUN(a0, a1, a2, a3, a4, a5);
+    }
+
+    public void glTexCoord2fColor3fVertex3fvSUN(
+        FloatBuffer a0, FloatBuffer a1, FloatBuffer a2)
+    {
+        stats.count("glTexCoord2fColor3fVertex3fvSUN");
+        if (target != null)
+          target.glTexCoord2fColor3fVertex3fvSUN(a0, a1, a2);
+    }
+
+    public void glTexCoord2fColor4fNormal3fVertex3fSUN(
+        float a0, float a1, float a2, float a3, float a4, float a5, float a6,
+        float a7, float a8, float a9, float a10, float a11)
+    {
+        stats.count("glTexCoord2fColor4fNormal3fVertex3fSUN");
+        if (target != null)
+          target.glTexCoord2fColor4fNormal3fVertex3fSUN(a0, a1, a2, a3, a4, a5,
+              a6, a7, a8, a9, a10, a11);
+    }
+
+    public void glTexCoord2fColor4fNormal3fVertex3fvSUN(
+        float[] a0, int a1, float[] a2, int a3, float[] a4, int a5, float[] a6,
+        int a7)
+    {
+        stats.count("glTexCoord2fColor4fNormal3fVertex3fvSUN");
+        if (target != null)
+          target.glTexCoord2fColor4fNormal3fVertex3fvSUN(a0, a1, a2, a3, a4,
+              a5, a6, a7);
+    }
+
+    public void glTexCoord2fColor4fNormal3fVertex3fvSUN(
+        FloatBuffer a0, FloatBuffer a1, FloatBuffer a2, FloatBuffer a3)
+    {
+        stats.count("glTexCoord2fColor4fNormal3fVertex3fvSUN");
+        if (target != null)
+          target.glTexCoord2fColor4fNormal3fVertex3fvSUN(a0, a1, a2, a3);
+    }
+
+    public void glTexCoord2fColor4ubVertex3fSUN(
+        float a0, float a1, byte a2, byte a3, byte a4, byte a5, float a6,
+        float a7, float a8)
+    {
+        stats.count("glTexCoord2fColor4ubVertex3fSUN");
+        if (target != null)
+          target.glTexCoord2fColor4ubVertex3fSUN(a0, a1, a2, a3, a4, a5, a6,
+              a7, a8);
+    }
+
+    public void glTexCoord2fColor4ubVertex3fvSUN(
+        float[] a0, int a1, byte[] a2, int a3, float[] a4, int a5)
+    {
+        stats.count("glTexCoord2fColor4ubVertex3fvSUN");
+        if (target != null)
+          target.glTexCoord2fColor4ubVertex3fvSUN(a0, a1, a2, a3, a4, a5);
+    }
+
+    public void glTexCoord2fColor4ubVertex3fvSUN(
+        FloatBuffer a0, ByteBuffer a1, FloatBuffer a2)
+    {
+        stats.count("glTexCoord2fColor4ubVertex3fvSUN");
+        if (target != null)
+          target.glTexCoord2fColor4ubVertex3fvSUN(a0, a1, a2);
+    }
+
+    public void glTexCoord2fNormal3fVertex3fSUN(
+        float a0, float a1, float a2, float a3, float a4, float a5, float a6,
+        float a7)
+    {
+        stats.count("glTexCoord2fNormal3fVertex3fSUN");
+        if (target != null)
+          target.glTexCoord2fNormal3fVertex3fSUN(a0, a1, a2, a3, a4, a5, a6,
+              a7);
+    }
+
+    public void glTexCoord2fNormal3fVertex3fvSUN(
+        float[] a0, int a1, float[] a2, int a3, float[] a4, int a5)
+    {
+        stats.count("glTexCoord2fNormal3fVertex3fvSUN");
+        if (target != null)
+          target.glTexCoord2fNormal3fVertex3fvSUN(a0, a1, a2, a3, a4, a5);
+    }
+
+    public void glTexCoord2fNormal3fVertex3fvSUN(
+        FloatBuffer a0, FloatBuffer a1, FloatBuffer a2)
+    {
+        stats.count("glTexCoord2fNormal3fVertex3fvSUN");
+        if (target != null)
+          target.glTexCoord2fNormal3fVertex3fvSUN(a0, a1, a2);
+    }
+
+    public void glTexCoord2fVertex3fSUN(
+        float a0, float a1, float a2, float a3, float a4)
+    {
+        stats.count("glTexCoord2fVertex3fSUN");
+        if (target != null)
+          target.glTexCoord2fVertex3fSUN(a0, a1, a2, a3, a4);
+    }
+
+    public void glTexCoord2fVertex3fvSUN(
+        float[] a0, int a1, float[] a2, int a3)
+    {
+        stats.count("glTexCoord2fVertex3fvSUN");
+        if (target != null)
+          target.glTexCoord2fVertex3fvSUN(a0, a1, a2, a3);
+    }
+
+    public void glTexCoord2fVertex3fvSUN(FloatBuffer a0, FloatBuffer a1)
+    {
+        stats.count("glTexCoord2fVertex3fvSUN");
+        if (target != null)
+          target.glTexCoord2fVertex3fvSUN(a0, a1);
+    }
+
+    public void glTexCoord2fv(float[] a0, int a1)
+    {
+        stats.count("glTexCoord2fv");
+        if (target != null)
+          target.glTexCoord2fv(a0, a1);
+    }
+
+    public void glTexCoord2fv(FloatBuffer a0)
+    {
+        stats.count("glTexCoord2fv");
+        if (target != null)
+          target.glTexCoord2fv(a0);
+    }
+
+    public void glTexCoord2hNV(short a0, short a1)
+    {
+        stats.count("glTexCoord2hNV");
+        if (target != null)
+          target.glTexCoord2hNV(a0, a1);
+    }
+
+    public void glTexCoord2hvNV(short[] a0, int a1)
+    {
+        stats.count("glTexCoord2hvNV");
+        if (target != null)
+          target.glTexCoord2hvNV(a0, a1);
+    }
+
+    public void glTexCoord2hvNV(ShortBuffer a0)
+    {
+        stats.count("glTexCoord2hvNV");
+        if (target != null)
+          target.glTexCoord2hvNV(a0);
+    }
+
+    public void glTexCoord2i(int a0, int a1)
+    {
+        stats.count("glTexCoord2i");
+        if (target != null)
+          target.glTexCoord2i(a0, a1);
+    }
+
+    public void glTexCoord2iv(int[] a0, int a1)
+    {
+        stats.count("glTexCoord2iv");
+        if (target != null)
+          target.glTexCoord2iv(a0, a1);
+    }
+
+    public void glTexCoord2iv(IntBuffer a0)
+    {
+        stats.count("glTexCoord2iv");
+        if (target != null)
+          target.glTexCoord2iv(a0);
+    }
+
+    public void glTexCoord2s(short a0, short a1)
+    {
+        stats.count("glTexCoord2s");
+        if (target != null)
+          target.glTexCoord2s(a0, a1);
+    }
+
+    public void glTexCoord2sv(short[] a0, int a1)
+    {
+        stats.count("glTexCoord2sv");
+        if (target != null)
+          target.glTexCoord2sv(a0, a1);
+    }
+
+    public void glTexCoord2sv(ShortBuffer a0)
+    {
+        stats.count("glTexCoord2sv");
+        if (target != null)
+          target.glTexCoord2sv(a0);
+    }
+
+    public void glTexCoord3d(double a0, double a1, double a2)
+    {
+        stats.count("glTexCoord3d");
+        if (target != null)
+          target.glTexCoord3d(a0, a1, a2);
+    }
+
+    public void glTexCoord3dv(double[] a0, int a1)
+    {
+        stats.count("glTexCoord3dv");
+        if (target != null)
+          target.glTexCoord3dv(a0, a1);
+    }
+
+    public void glTexCoord3dv(DoubleBuffer a0)
+    {
+        stats.count("glTexCoord3dv");
+        if (target != null)
+          target.glTexCoord3dv(a0);
+    }
+
+    public void glTexCoord3f(float a0, float a1, float a2)
+    {
+        stats.count("glTexCoord3f");
+        if (target != null)
+          target.glTexCoord3f(a0, a1, a2);
+    }
+
+    public void glTexCoord3fv(float[] a0, int a1)
+    {
+        stats.count("glTexCoord3fv");
+        if (target != null)
+          target.glTexCoord3fv(a0, a1);
+    }
+
+    public void glTexCoord3fv(FloatBuffer a0)
+    {
+        stats.count("glTexCoord3fv");
+        if (target != null)
+          target.glTexCoord3fv(a0);
+    }
+
+    public void glTexCoord3hNV(short a0, short a1, short a2)
+    {
+        stats.count("glTexCoord3hNV");
+        if (target != null)
+          target.glTexCoord3hNV(a0, a1, a2);
+    }
+
+    public void glTexCoord3hvNV(short[] a0, int a1)
+    {
+        stats.count("glTexCoord3hvNV");
+        if (target != null)
+          target.glTexCoord3hvNV(a0, a1);
+    }
+
+    public void glTexCoord3hvNV(ShortBuffer a0)
+    {
+        stats.count("glTexCoord3hvNV");
+        if (target != null)
+          target.glTexCoord3hvNV(a0);
+    }
+
+    public void glTexCoord3i(int a0, int a1, int a2)
+    {
+        stats.count("glTexCoord3i");
+        if (target != null)
+          target.glTexCoord3i(a0, a1, a2);
+    }
+
+    public void glTexCoord3iv(int[] a0, int a1)
+    {
+        stats.count("glTexCoord3iv");
+        if (target != null)
+          target.glTexCoord3iv(a0, a1);
+    }
+
+    public void glTexCoord3iv(IntBuffer a0)
+    {
+        stats.count("glTexCoord3iv");
+        if (target != null)
+          target.glTexCoord3iv(a0);
+    }
+
+    public void glTexCoord3s(short a0, short a1, short a2)
+    {
+        stats.count("glTexCoord3s");
+        if (target != null)
+          target.glTexCoord3s(a0, a1, a2);
+    }
+
+    public void glTexCoord3sv(short[] a0, int a1)
+    {
+        stats.count("glTexCoord3sv");
+        if (target != null)
+          target.glTexCoord3sv(a0, a1);
+    }
+
+    public void glTexCoord3sv(ShortBuffer a0)
+    {
+        stats.count("glTexCoord3sv");
+        if (target != null)
+          target.glTexCoord3sv(a0);
+    }
+
+    public void glTexCoord4d(double a0, double a1, double a2, double a3)
+    {
+        stats.count("glTexCoord4d");
+        if (target != null)
+          target.glTexCoord4d(a0, a1, a2, a3);
+    }
+
+    public void glTexCoord4dv(double[] a0, int a1)
+    {
+        stats.count("glTexCoord4dv");
+        if (target != null)
+          target.glTexCoord4dv(a0, a1);
+    }
+
+    public void glTexCoord4dv(DoubleBuffer a0)
+    {
+        stats.count("glTexCoord4dv");
+        if (target != null)
+          target.glTexCoord4dv(a0);
+    }
+
+    public void glTexCoord4f(float a0, float a1, float a2, float a3)
+    {
+        stats.count("glTexCoord4f");
+        if (target != null)
+          target.glTexCoord4f(a0, a1, a2, a3);
+    }
+
+    public void glTexCoord4fColor4fNormal3fVertex4fSUN(
+        float a0, float a1, float a2, float a3, float a4, float a5, float a6,
+        float a7, float a8, float a9, float a10, float a11, float a12,
+        float a13, float a14)
+    {
+        stats.count("glTexCoord4fColor4fNormal3fVertex4fSUN");
+        if (target != null)
+          target.glTexCoord4fColor4fNormal3fVertex4fSUN(a0, a1, a2, a3, a4, a5,
+              a6, a7, a8, a9, a10, a11, a12, a13, a14);
+    }
+
+    public void glTexCoord4fColor4fNormal3fVertex4fvSUN(
+        float[] a0, int a1, float[] a2, int a3, float[] a4, int a5, float[] a6,
+        int a7)
+    {
+        stats.count("glTexCoord4fColor4fNormal3fVertex4fvSUN");
+        if (target != null)
+          target.glTexCoord4fColor4fNormal3fVertex4fvSUN(a0, a1, a2, a3, a4,
+              a5, a6, a7);
+    }
+
+    public void glTexCoord4fColor4fNormal3fVertex4fvSUN(
+        FloatBuffer a0, FloatBuffer a1, FloatBuffer a2, FloatBuffer a3)
+    {
+        stats.count("glTexCoord4fColor4fNormal3fVertex4fvSUN");
+        if (target != null)
+          target.glTexCoord4fColor4fNormal3fVertex4fvSUN(a0, a1, a2, a3);
+    }
+
+    public void glTexCoord4fVertex4fSUN(
+        float a0, float a1, float a2, float a3, float a4, float a5, float a6,
+        float a7)
+    {
+        stats.count("glTexCoord4fVertex4fSUN");
+        if (target != null)
+          target.glTexCoord4fVertex4fSUN(a0, a1, a2, a3, a4, a5, a6, a7);
+    }
+
+    public void glTexCoord4fVertex4fvSUN(
+        float[] a0, int a1, float[] a2, int a3)
+    {
+        stats.count("glTexCoord4fVertex4fvSUN");
+        if (target != null)
+          target.glTexCoord4fVertex4fvSUN(a0, a1, a2, a3);
+    }
+
+    public void glTexCoord4fVertex4fvSUN(FloatBuffer a0, FloatBuffer a1)
+    {
+        stats.count("glTexCoord4fVertex4fvSUN");
+        if (target != null)
+          target.glTexCoord4fVertex4fvSUN(a0, a1);
+    }
+
+    public void glTexCoord4fv(float[] a0, int a1)
+    {
+        stats.count("glTexCoord4fv");
+        if (target != null)
+          target.glTexCoord4fv(a0, a1);
+    }
+
+    public void glTexCoord4fv(FloatBuffer a0)
+    {
+        stats.count("glTexCoord4fv");
+        if (target != null)
+          target.glTexCoord4fv(a0);
+    }
+
+    public void glTexCoord4hNV(short a0, short a1, short a2, short a3)
+    {
+        stats.count("glTexCoord4hNV");
+        if (target != null)
+          target.glTexCoord4hNV(a0, a1, a2, a3);
+    }
+
+    public void glTexCoord4hvNV(short[] a0, int a1)
+    {
+        stats.count("glTexCoord4hvNV");
+        if (target != null)
+          target.glTexCoord4hvNV(a0, a1);
+    }
+
+    public void glTexCoord4hvNV(ShortBuffer a0)
+    {
+        stats.count("glTexCoord4hvNV");
+        if (target != null)
+          target.glTexCoord4hvNV(a0);
+    }
+
+    public void glTexCoord4i(int a0, int a1, int a2, int a3)
+    {
+        stats.count("glTexCoord4i");
+        if (target != null)
+          target.glTexCoord4i(a0, a1, a2, a3);
+    }
+
+    public void glTexCoord4iv(int[] a0, int a1)
+    {
+        stats.count("glTexCoord4iv");
+        if (target != null)
+          target.glTexCoord4iv(a0, a1);
+    }
+
+    public void glTexCoord4iv(IntBuffer a0)
+    {
+        stats.count("glTexCoord4iv");
+        if (target != null)
+          target.glTexCoord4iv(a0);
+    }
+
+    public void glTexCoord4s(short a0, short a1, short a2, short a3)
+    {
+        stats.count("glTexCoord4s");
+        if (target != null)
+          target.glTexCoord4s(a0, a1, a2, a3);
+    }
+
+    public void glTexCoord4sv(short[] a0, int a1)
+    {
+        stats.count("glTexCoord4sv");
+        if (target != null)
+          target.glTexCoord4sv(a0, a1);
+    }
+
+    public void glTexCoord4sv(ShortBuffer a0)
+    {
+        stats.count("glTexCoord4sv");
+        if (target != null)
+          target.glTexCoord4sv(a0);
+    }
+
+    public void glTexCoordPointer(int a0, int a1, int a2, Buffer a3)
+    {
+        stats.count("glTexCoordPointer");
+        if (target != null)
+          target.glTexCoordPointer(a0, a1, a2, a3);
+    }
+
+    public void glTexCoordPointer(int a0, int a1, int a2, long a3)
+    {
+        stats.count("glTexCoordPointer");
+        if (target != null)
+          target.glTexCoordPointer(a0, a1, a2, a3);
+    }
+
+    public void glTexEnvf(int a0, int a1, float a2)
+    {
+        stats.count("glTexEnvf");
+        if (target != null)
+          target.glTexEnvf(a0, a1, a2);
+    }
+
+    public void glTexEnvfv(int a0, int a1, float[] a2, int a3)
+    {
+        stats.count("glTexEnvfv");
+        if (target != null)
+          target.glTexEnvfv(a0, a1, a2, a3);
+    }
+
+    public void glTexEnvfv(int a0, int a1, FloatBuffer a2)
+    {
+        stats.count("glTexEnvfv");
+        if (target != null)
+          target.glTexEnvfv(a0, a1, a2);
+    }
+
+    public void glTexEnvi(int a0, int a1, int a2)
+    {
+        stats.count("glTexEnvi");
+        if (target != null)
+          target.glTexEnvi(a0, a1, a2);
+    }
+
+    public void glTexEnviv(int a0, int a1, int[] a2, int a3)
+    {
+        stats.count("glTexEnviv");
+        if (target != null)
+          target.glTexEnviv(a0, a1, a2, a3);
+    }
+
+    public void glTexEnviv(int a0, int a1, IntBuffer a2)
+    {
+        stats.count("glTexEnviv");
+        if (target != null)
+          target.glTexEnviv(a0, a1, a2);
+    }
+
+    public void glTexFilterFuncSGIS(int a0, int a1, int a2, float[] a3, int a4)
+    {
+        stats.count("glTexFilterFuncSGIS");
+        if (target != null)
+          target.glTexFilterFuncSGIS(a0, a1, a2, a3, a4);
+    }
+
+    public void glTexFilterFuncSGIS(int a0, int a1, int a2, FloatBuffer a3)
+    {
+        stats.count("glTexFilterFuncSGIS");
+        if (target != null)
+          target.glTexFilterFuncSGIS(a0, a1, a2, a3);
+    }
+
+    public void glTexGend(int a0, int a1, double a2)
+    {
+        stats.count("glTexGend");
+        if (target != null)
+          target.glTexGend(a0, a1, a2);
+    }
+
+    public void glTexGendv(int a0, int a1, double[] a2, int a3)
+    {
+        stats.count("glTexGendv");
+        if (target != null)
+          target.glTexGendv(a0, a1, a2, a3);
+    }
+
+    public void glTexGendv(int a0, int a1, DoubleBuffer a2)
+    {
+        stats.count("glTexGendv");
+        if (target != null)
+          target.glTexGendv(a0, a1, a2);
+    }
+
+    public void glTexGenf(int a0, int a1, float a2)
+    {
+        stats.count("glTexGenf");
+        if (target != null)
+          target.glTexGenf(a0, a1, a2);
+    }
+
+    public void glTexGenfv(int a0, int a1, float[] a2, int a3)
+    {
+        stats.count("glTexGenfv");
+        if (target != null)
+          target.glTexGenfv(a0, a1, a2, a3);
+    }
+
+    public void glTexGenfv(int a0, int a1, FloatBuffer a2)
+    {
+        stats.count("glTexGenfv");
+        if (target != null)
+          target.glTexGenfv(a0, a1, a2);
+    }
+
+    public void glTexGeni(int a0, int a1, int a2)
+    {
+        stats.count("glTexGeni");
+        if (target != null)
+          target.glTexGeni(a0, a1, a2);
+    }
+
+    public void glTexGeniv(int a0, int a1, int[] a2, int a3)
+    {
+        stats.count("glTexGeniv");
+        if (target != null)
+          target.glTexGeniv(a0, a1, a2, a3);
+    }
+
+    public void glTexGeniv(int a0, int a1, IntBuffer a2)
+    {
+        stats.count("glTexGeniv");
+        if (target != null)
+          target.glTexGeniv(a0, a1, a2);
+    }
+
+    public void glTexImage1D(
+        int a0, int a1, int a2, int a3, int a4, int a5, int a6, Buffer a7)
+    {
+        stats.count("glTexImage1D");
+        if (target != null)
+          target.glTexImage1D(a0, a1, a2, a3, a4, a5, a6, a7);
+    }
+
+    public void glTexImage1D(
+        int a0, int a1, int a2, int a3, int a4, int a5, int a6, long a7)
+    {
+        stats.count("glTexImage1D");
+        if (target != null)
+          target.glTexImage1D(a0, a1, a2, a3, a4, a5, a6, a7);
+    }
+
+    public void glTexImage2D(
+        int a0, int a1, int a2, int a3, int a4, int a5, int a6, int a7,
+        Buffer a8)
+    {
+        stats.count("glTexImage2D");
+        if (target != null)
+          target.glTexImage2D(a0, a1, a2, a3, a4, a5, a6, a7, a8);
+    }
+
+    public void glTexImage2D(
+        int a0, int a1, int a2, int a3, int a4, int a5, int a6, int a7,
+        long a8)
+    {
+        stats.count("glTexImage2D");
+        if (target != null)
+          target.glTexImage2D(a0, a1, a2, a3, a4, a5, a6, a7, a8);
+    }
+
+    public void glTexImage3D(
+        int a0, int a1, int a2, int a3, int a4, int a5, int a6, int a7, int a8,
+        Buffer a9)
+    {
+        stats.count("glTexImage3D");
+        if (target != null)
+          target.glTexImage3D(a0, a1, a2, a3, a4, a5, a6, a7, a8, a9);
+    }
+
+    public void glTexImage3D(
+        int a0, int a1, int a2, int a3, int a4, int a5, int a6, int a7, int a8,
+        long a9)
+    {
+        stats.count("glTexImage3D");
+        if (target != null)
+          target.glTexImage3D(a0, a1, a2, a3, a4, a5, a6, a7, a8, a9);
+    }
+
+    public void glTexImage4DSGIS(
+        int a0, int a1, int a2, int a3, int a4, int a5, int a6, int a7, int a8,
+        int a9, Buffer a10)
+    {
+        stats.count("glTexImage4DSGIS");
+        if (target != null)
+          target.glTexImage4DSGIS(a0, a1, a2, a3, a4, a5, a6, a7, a8, a9, a10);
+    }
+
+    public void glTexParameterIivEXT(int a0, int a1, int[] a2, int a3)
+    {
+        stats.count("glTexParameterIivEXT");
+        if (target != null)
+          target.glTexParameterIivEXT(a0, a1, a2, a3);
+    }
+
+    public void glTexParameterIivEXT(int a0, int a1, IntBuffer a2)
+    {
+        stats.count("glTexParameterIivEXT");
+        if (target != null)
+          target.glTexParameterIivEXT(a0, a1, a2);
+    }
+
+    public void glTexParameterIuivEXT(int a0, int a1, int[] a2, int a3)
+    {
+        stats.count("glTexParameterIuivEXT");
+        if (target != null)
+          target.glTexParameterIuivEXT(a0, a1, a2, a3);
+    }
+
+    public void glTexParameterIuivEXT(int a0, int a1, IntBuffer a2)
+    {
+        stats.count("glTexParameterIuivEXT");
+        if (target != null)
+          target.glTexParameterIuivEXT(a0, a1, a2);
+    }
+
+    public void glTexParameterf(int a0, int a1, float a2)
+    {
+        stats.count("glTexParameterf");
+        if (target != null)
+          target.glTexParameterf(a0, a1, a2);
+    }
+
+    public void glTexParameterfv(int a0, int a1, float[] a2, int a3)
+    {
+        stats.count("glTexParameterfv");
+        if (target != null)
+          target.glTexParameterfv(a0, a1, a2, a3);
+    }
+
+    public void glTexParameterfv(int a0, int a1, FloatBuffer a2)
+    {
+        stats.count("glTexParameterfv");
+        if (target != null)
+          target.glTexParameterfv(a0, a1, a2);
+    }
+
+    public void glTexParameteri(int a0, int a1, int a2)
+    {
+        stats.count("glTexParameteri");
+        if (target != null)
+          target.glTexParameteri(a0, a1, a2);
+    }
+
+    public void glTexParameteriv(int a0, int a1, int[] a2, int a3)
+    {
+        stats.count("glTexParameteriv");
+        if (target != null)
+          target.glTexParameteriv(a0, a1, a2, a3);
+    }
+
+    public void glTexParameteriv(int a0, int a1, IntBuffer a2)
+    {
+        stats.count("glTexParameteriv");
+        if (target != null)
+          target.glTexParameteriv(a0, a1, a2);
+    }
+
+    public void glTexSubImage1D(
+        int a0, int a1, int a2, int a3, int a4, int a5, Buffer a6)
+    {
+        stats.count("glTexSubImage1D");
+        if (target != null)
+          target.glTexSubImage1D(a0, a1, a2, a3, a4, a5, a6);
+    }
+
+    public void glTexSubImage1D(
+        int a0, int a1, int a2, int a3, int a4, int a5, long a6)
+    {
+        stats.count("glTexSubImage1D");
+        if (target != null)
+          target.glTexSubImage1D(a0, a1, a2, a3, a4, a5, a6);
+    }
+
+    public void glTexSubImage2D(
+        int a0, int a1, int a2, int a3, int a4, int a5, int a6, int a7,
+        Buffer a8)
+    {
+        stats.count("glTexSubImage2D");
+        if (target != null)
+          target.glTexSubImage2D(a0, a1, a2, a3, a4, a5, a6, a7, a8);
+    }
+
+    public void glTexSubImage2D(
+        int a0, int a1, int a2, int a3, int a4, int a5, int a6, int a7,
+        long a8)
+    {
+        stats.count("glTexSubImage2D");
+        if (target != null)
+          target.glTexSubImage2D(a0, a1, a2, a3, a4, a5, a6, a7, a8);
+    }
+
+    public void glTexSubImage3D(
+        int a0, int a1, int a2, int a3, int a4, int a5, int a6, int a7, int a8,
+        int a9, Buffer a10)
+    {
+        stats.count("glTexSubImage3D");
+        if (target != null)
+          target.glTexSubImage3D(a0, a1, a2, a3, a4, a5, a6, a7, a8, a9, a10);
+    }
+
+    public void glTexSubImage3D(
+        int a0, int a1, int a2, int a3, int a4, int a5, int a6, int a7, int a8,
+        int a9, long a10)
+    {
+        stats.count("glTexSubImage3D");
+        if (target != null)
+          target.glTexSubImage3D(a0, a1, a2, a3, a4, a5, a6, a7, a8, a9, a10);
+    }
+
+    public void glTexSubImage4DSGIS(
+        int a0, int a1, int a2, int a3, int a4, int a5, int a6, int a7, int a8,
+        int a9, int a10, int a11, Buffer a12)
+    {
+        stats.count("glTexSubImage4DSGIS");
+        if (target != null)
+          target.glTexSubImage4DSGIS(a0, a1, a2, a3, a4, a5, a6, a7, a8, a9,
+              a10, a11, a12);
+    }
+
+    public void glTextureColorMaskSGIS(
+        boolean a0, boolean a1, boolean a2, boolean a3)
+    {
+        stats.count("glTextureColorMaskSGIS");
+        if (target != null)
+          target.glTextureColorMaskSGIS(a0, a1, a2, a3);
+    }
+
+    public void glTextureLightEXT(int a0)
+    {
+        stats.count("glTextureLightEXT");
+        if (target != null)
+          target.glTextureLightEXT(a0);
+    }
+
+    public void glTextureMaterialEXT(int a0, int a1)
+    {
+        stats.count("glTextureMaterialEXT");
+        if (target != null)
+          target.glTextureMaterialEXT(a0, a1);
+    }
+
+    public void glTextureNormalEXT(int a0)
+    {
+        stats.count("glTextureNormalEXT");
+        if (target != null)
+          target.glTextureNormalEXT(a0);
+    }
+
+    public void glTextureRangeAPPLE(int a0, int a1, Buffer a2)
+    {
+        stats.count("glTextureRangeAPPLE");
+        if (target != null)
+          target.glTextureRangeAPPLE(a0, a1, a2);
+    }
+
+    public void glTrackMatrixNV(int a0, int a1, int a2, int a3)
+    {
+        stats.count("glTrackMatrixNV");
+        if (target != null)
+          target.glTrackMatrixNV(a0, a1, a2, a3);
+    }
+
+    public void glTransformFeedbackAttribsNV(int a0, int[] a1, int a2, int a3)
+    {
+        stats.count("glTransformFeedbackAttribsNV");
+        if (target != null)
+          target.glTransformFeedbackAttribsNV(a0, a1, a2, a3);
+    }
+
+    public void glTransformFeedbackAttribsNV(int a0, IntBuffer a1, int a2)
+    {
+        stats.count("glTransformFeedbackAttribsNV");
+        if (target != null)
+          target.glTransformFeedbackAttribsNV(a0, a1, a2);
+    }
+
+    public void glTransformFeedbackVaryingsNV(
+        int a0, int a1, int[] a2, int a3, int a4)
+    {
+        stats.count("glTransformFeedbackVaryingsNV");
+        if (target != null)
+          target.glTransformFeedbackVaryingsNV(a0, a1, a2, a3, a4);
+    }
+
+    public void glTransformFeedbackVaryingsNV(
+        int a0, int a1, IntBuffer a2, int a3)
+    {
+        stats.count("glTransformFeedbackVaryingsNV");
+        if (target != null)
+          target.glTransformFeedbackVaryingsNV(a0, a1, a2, a3);
+    }
+
+    public void glTranslated(double a0, double a1, double a2)
+    {
+        stats.count("glTranslated");
+        if (target != null)
+          target.glTranslated(a0, a1, a2);
+    }
+
+    public void glTranslatef(float a0, float a1, float a2)
+    {
+        stats.count("glTranslatef");
+        if (target != null)
+          target.glTranslatef(a0, a1, a2);
+    }
+
+    public void glUniform1f(int a0, float a1)
+    {
+        stats.count("glUniform1f");
+        if (target != null)
+          target.glUniform1f(a0, a1);
+    }
+
+    public void glUniform1fARB(int a0, float a1)
+    {
+        stats.count("glUniform1fARB");
+        if (target != null)
+          target.glUniform1fARB(a0, a1);
+    }
+
+    public void glUniform1fv(int a0, int a1, float[] a2, int a3)
+    {
+        stats.count("glUniform1fv");
+        if (target != null)
+          target.glUniform1fv(a0, a1, a2, a3);
+    }
+
+    public void glUniform1fv(int a0, int a1, FloatBuffer a2)
+    {
+        stats.count("glUniform1fv");
+        if (target != null)
+          target.glUniform1fv(a0, a1, a2);
+    }
+
+    public void glUniform1fvARB(int a0, int a1, float[] a2, int a3)
+    {
+        stats.count("glUniform1fvARB");
+        if (target != null)
+          target.glUniform1fvARB(a0, a1, a2, a3);
+    }
+
+    public void glUniform1fvARB(int a0, int a1, FloatBuffer a2)
+    {
+        stats.count("glUniform1fvARB");
+        if (target != null)
+          target.glUniform1fvARB(a0, a1, a2);
+    }
+
+    public void glUniform1i(int a0, int a1)
+    {
+        stats.count("glUniform1i");
+        if (target != null)
+          target.glUniform1i(a0, a1);
+    }
+
+    public void glUniform1iARB(int a0, int a1)
+    {
+        stats.count("glUniform1iARB");
+        if (target != null)
+          target.glUniform1iARB(a0, a1);
+    }
+
+    public void glUniform1iv(int a0, int a1, int[] a2, int a3)
+    {
+        stats.count("glUniform1iv");
+        if (target != null)
+          target.glUniform1iv(a0, a1, a2, a3);
+    }
+
+    public void glUniform1iv(int a0, int a1, IntBuffer a2)
+    {
+        stats.count("glUniform1iv");
+        if (target != null)
+          target.glUniform1iv(a0, a1, a2);
+    }
+
+    public void glUniform1ivARB(int a0, int a1, int[] a2, int a3)
+    {
+        stats.count("glUniform1ivARB");
+        if (target != null)
+          target.glUniform1ivARB(a0, a1, a2, a3);
+    }
+
+    public void glUniform1ivARB(int a0, int a1, IntBuffer a2)
+    {
+        stats.count("glUniform1ivARB");
+        if (target != null)
+          target.glUniform1ivARB(a0, a1, a2);
+    }
+
+    public void glUniform1uiEXT(int a0, int a1)
+    {
+        stats.count("glUniform1uiEXT");
+        if (target != null)
+          target.glUniform1uiEXT(a0, a1);
+    }
+
+    public void glUniform1uivEXT(int a0, int a1, int[] a2, int a3)
+    {
+        stats.count("glUniform1uivEXT");
+        if (target != null)
+          target.glUniform1uivEXT(a0, a1, a2, a3);
+    }
+
+    public void glUniform1uivEXT(int a0, int a1, IntBuffer a2)
+    {
+        stats.count("glUniform1uivEXT");
+        if (target != null)
+          target.glUniform1uivEXT(a0, a1, a2);
+    }
+
+    public void glUniform2f(int a0, float a1, float a2)
+    {
+        stats.count("glUniform2f");
+        if (target != null)
+          target.glUniform2f(a0, a1, a2);
+    }
+
+    public void glUniform2fARB(int a0, float a1, float a2)
+    {
+        stats.count("glUniform2fARB");
+        if (target != null)
+          target.glUniform2fARB(a0, a1, a2);
+    }
+
+    public void glUniform2fv(int a0, int a1, float[] a2, int a3)
+    {
+        stats.count("glUniform2fv");
+        if (target != null)
+          target.glUniform2fv(a0, a1, a2, a3);
+    }
+
+    public void glUniform2fv(int a0, int a1, FloatBuffer a2)
+    {
+        stats.count("glUniform2fv");
+        if (target != null)
+          target.glUniform2fv(a0, a1, a2);
+    }
+
+    public void glUniform2fvARB(int a0, int a1, float[] a2, int a3)
+    {
+        stats.count("glUniform2fvARB");
+        if (target != null)
+          target.glUniform2fvARB(a0, a1, a2, a3);
+    }
+
+    public void glUniform2fvARB(int a0, int a1, FloatBuffer a2)
+    {
+        stats.count("glUniform2fvARB");
+        if (target != null)
+          target.glUniform2fvARB(a0, a1, a2);
+    }
+
+    public void glUniform2i(int a0, int a1, int a2)
+    {
+        stats.count("glUniform2i");
+        if (target != null)
+          target.glUniform2i(a0, a1, a2);
+    }
+
+    public void glUniform2iARB(int a0, int a1, int a2)
+    {
+        stats.count("glUniform2iARB");
+        if (target != null)
+          target.glUniform2iARB(a0, a1, a2);
+    }
+
+    public void glUniform2iv(int a0, int a1, int[] a2, int a3)
+    {
+        stats.count("glUniform2iv");
+        if (target != null)
+          target.glUniform2iv(a0, a1, a2, a3);
+    }
+
+    public void glUniform2iv(int a0, int a1, IntBuffer a2)
+    {
+        stats.count("glUniform2iv");
+        if (target != null)
+          target.glUniform2iv(a0, a1, a2);
+    }
+
+    public void glUniform2ivARB(int a0, int a1, int[] a2, int a3)
+    {
+        stats.count("glUniform2ivARB");
+        if (target != null)
+          target.glUniform2ivARB(a0, a1, a2, a3);
+    }
+
+    public void glUniform2ivARB(int a0, int a1, IntBuffer a2)
+    {
+        stats.count("glUniform2ivARB");
+        if (target != null)
+          target.glUniform2ivARB(a0, a1, a2);
+    }
+
+    public void glUniform2uiEXT(int a0, int a1, int a2)
+    {
+        stats.count("glUniform2uiEXT");
+        if (target != null)
+          target.glUniform2uiEXT(a0, a1, a2);
+    }
+
+    public void glUniform2uivEXT(int a0, int a1, int[] a2, int a3)
+    {
+        stats.count("glUniform2uivEXT");
+        if (target != null)
+          target.glUniform2uivEXT(a0, a1, a2, a3);
+    }
+
+    public void glUniform2uivEXT(int a0, int a1, IntBuffer a2)
+    {
+        stats.count("glUniform2uivEXT");
+        if (target != null)
+          target.glUniform2uivEXT(a0, a1, a2);
+    }
+
+    public void glUniform3f(int a0, float a1, float a2, float a3)
+    {
+        stats.count("glUniform3f");
+        if (target != null)
+          target.glUniform3f(a0, a1, a2, a3);
+    }
+
+    public void glUniform3fARB(int a0, float a1, float a2, float a3)
+    {
+        stats.count("glUniform3fARB");
+        if (target != null)
+          target.glUniform3fARB(a0, a1, a2, a3);
+    }
+
+    public void glUniform3fv(int a0, int a1, float[] a2, int a3)
+    {
+        stats.count("glUniform3fv");
+        if (target != null)
+          target.glUniform3fv(a0, a1, a2, a3);
+    }
+
+    public void glUniform3fv(int a0, int a1, FloatBuffer a2)
+    {
+        stats.count("glUniform3fv");
+        if (target != null)
+          target.glUniform3fv(a0, a1, a2);
+    }
+
+    public void glUniform3fvARB(int a0, int a1, float[] a2, int a3)
+    {
+        stats.count("glUniform3fvARB");
+        if (target != null)
+          target.glUniform3fvARB(a0, a1, a2, a3);
+    }
+
+    public void glUniform3fvARB(int a0, int a1, FloatBuffer a2)
+    {
+        stats.count("glUniform3fvARB");
+        if (target != null)
+          target.glUniform3fvARB(a0, a1, a2);
+    }
+
+    public void glUniform3i(int a0, int a1, int a2, int a3)
+    {
+        stats.count("glUniform3i");
+        if (target != null)
+          target.glUniform3i(a0, a1, a2, a3);
+    }
+
+    public void glUniform3iARB(int a0, int a1, int a2, int a3)
+    {
+        stats.count("glUniform3iARB");
+        if (target != null)
+          target.glUniform3iARB(a0, a1, a2, a3);
+    }
+
+    public void glUniform3iv(int a0, int a1, int[] a2, int a3)
+    {
+        stats.count("glUniform3iv");
+        if (target != null)
+          target.glUniform3iv(a0, a1, a2, a3);
+    }
+
+    public void glUniform3iv(int a0, int a1, IntBuffer a2)
+    {
+        stats.count("glUniform3iv");
+        if (target != null)
+          target.glUniform3iv(a0, a1, a2);
+    }
+
+    public void glUniform3ivARB(int a0, int a1, int[] a2, int a3)
+    {
+        stats.count("glUniform3ivARB");
+        if (target != null)
+          target.glUniform3ivARB(a0, a1, a2, a3);
+    }
+
+    public void glUniform3ivARB(int a0, int a1, IntBuffer a2)
+    {
+        stats.count("glUniform3ivARB");
+        if (target != null)
+          target.glUniform3ivARB(a0, a1, a2);
+    }
+
+    public void glUniform3uiEXT(int a0, int a1, int a2, int a3)
+    {
+        stats.count("glUniform3uiEXT");
+        if (target != null)
+          target.glUniform3uiEXT(a0, a1, a2, a3);
+    }
+
+    public void glUniform3uivEXT(int a0, int a1, int[] a2, int a3)
+    {
+        stats.count("glUniform3uivEXT");
+        if (target != null)
+          target.glUniform3uivEXT(a0, a1, a2, a3);
+    }
+
+    public void glUniform3uivEXT(int a0, int a1, IntBuffer a2)
+    {
+        stats.count("glUniform3uivEXT");
+        if (target != null)
+          target.glUniform3uivEXT(a0, a1, a2);
+    }
+
+    public void glUniform4f(int a0, float a1, float a2, float a3, float a4)
+    {
+        stats.count("glUniform4f");
+        if (target != null)
+          target.glUniform4f(a0, a1, a2, a3, a4);
+    }
+
+    public void glUniform4fARB(int a0, float a1, float a2, float a3, float a4)
+    {
+        stats.count("glUniform4fARB");
+        if (target != null)
+          target.glUniform4fARB(a0, a1, a2, a3, a4);
+    }
+
+    public void glUniform4fv(int a0, int a1, float[] a2, int a3)
+    {
+        stats.count("glUniform4fv");
+        if (target != null)
+          target.glUniform4fv(a0, a1, a2, a3);
+    }
+
+    public void glUniform4fv(int a0, int a1, FloatBuffer a2)
+    {
+        stats.count("glUniform4fv");
+        if (target != null)
+          target.glUniform4fv(a0, a1, a2);
+    }
+
+    public void glUniform4fvARB(int a0, int a1, float[] a2, int a3)
+    {
+        stats.count("glUniform4fvARB");
+        if (target != null)
+          target.glUniform4fvARB(a0, a1, a2, a3);
+    }
+
+    public void glUniform4fvARB(int a0, int a1, FloatBuffer a2)
+    {
+        stats.count("glUniform4fvARB");
+        if (target != null)
+          target.glUniform4fvARB(a0, a1, a2);
+    }
+
+    public void glUniform4i(int a0, int a1, int a2, int a3, int a4)
+    {
+        stats.count("glUniform4i");
+        if (target != null)
+          target.glUniform4i(a0, a1, a2, a3, a4);
+    }
+
+    public void glUniform4iARB(int a0, int a1, int a2, int a3, int a4)
+    {
+        stats.count("glUniform4iARB");
+        if (target != null)
+          target.glUniform4iARB(a0, a1, a2, a3, a4);
+    }
+
+    public void glUniform4iv(int a0, int a1, int[] a2, int a3)
+    {
+        stats.count("glUniform4iv");
+        if (target != null)
+          target.glUniform4iv(a0, a1, a2, a3);
+    }
+
+    public void glUniform4iv(int a0, int a1, IntBuffer a2)
+    {
+        stats.count("glUniform4iv");
+        if (target != null)
+          target.glUniform4iv(a0, a1, a2);
+    }
+
+    public void glUniform4ivARB(int a0, int a1, int[] a2, int a3)
+    {
+        stats.count("glUniform4ivARB");
+        if (target != null)
+          target.glUniform4ivARB(a0, a1, a2, a3);
+    }
+
+    public void glUniform4ivARB(int a0, int a1, IntBuffer a2)
+    {
+        stats.count("glUniform4ivARB");
+        if (target != null)
+          target.glUniform4ivARB(a0, a1, a2);
+    }
+
+    public void glUniform4uiEXT(int a0, int a1, int a2, int a3, int a4)
+    {
+        stats.count("glUniform4uiEXT");
+        if (target != null)
+          target.glUniform4uiEXT(a0, a1, a2, a3, a4);
+    }
+
+    public void glUniform4uivEXT(int a0, int a1, int[] a2, int a3)
+    {
+        stats.count("glUniform4uivEXT");
+        if (target != null)
+          target.glUniform4uivEXT(a0, a1, a2, a3);
+    }
+
+    public void glUniform4uivEXT(int a0, int a1, IntBuffer a2)
+    {
+        stats.count("glUniform4uivEXT");
+        if (target != null)
+          target.glUniform4uivEXT(a0, a1, a2);
+    }
+
+    public void glUniformBufferEXT(int a0, int a1, int a2)
+    {
+        stats.count("glUniformBufferEXT");
+        if (target != null)
+          target.glUniformBufferEXT(a0, a1, a2);
+    }
+
+    public void glUniformMatrix2fv(
+        int a0, int a1, boolean a2, float[] a3, int a4)
+    {
+        stats.count("glUniformMatrix2fv");
+        if (target != null)
+          target.glUniformMatrix2fv(a0, a1, a2, a3, a4);
+    }
+
+    public void glUniformMatrix2fv(int a0, int a1, boolean a2, FloatBuffer a3)
+    {
+        stats.count("glUniformMatrix2fv");
+        if (target != null)
+          target.glUniformMatrix2fv(a0, a1, a2, a3);
+    }
+
+    public void glUniformMatrix2fvARB(
+        int a0, int a1, boolean a2, float[] a3, int a4)
+    {
+        stats.count("glUniformMatrix2fvARB");
+        if (target != null)
+          target.glUniformMatrix2fvARB(a0, a1, a2, a3, a4);
+    }
+
+    public void glUniformMatrix2fvARB(
+        int a0, int a1, boolean a2, FloatBuffer a3)
+    {
+        stats.count("glUniformMatrix2fvARB");
+        if (target != null)
+          target.glUniformMatrix2fvARB(a0, a1, a2, a3);
+    }
+
+    public void glUniformMatrix2x3fv(
+        int a0, int a1, boolean a2, float[] a3, int a4)
+    {
+        stats.count("glUniformMatrix2x3fv");
+        if (target != null)
+          target.glUniformMatrix2x3fv(a0, a1, a2, a3, a4);
+    }
+
+    public void glUniformMatrix2x3fv(
+        int a0, int a1, boolean a2, FloatBuffer a3)
+    {
+        stats.count("glUniformMatrix2x3fv");
+        if (target != null)
+          target.glUniformMatrix2x3fv(a0, a1, a2, a3);
+    }
+
+    public void glUniformMatrix2x4fv(
+        int a0, int a1, boolean a2, float[] a3, int a4)
+    {
+        stats.count("glUniformMatrix2x4fv");
+        if (target != null)
+          target.glUniformMatrix2x4fv(a0, a1, a2, a3, a4);
+    }
+
+    public void glUniformMatrix2x4fv(
+        int a0, int a1, boolean a2, FloatBuffer a3)
+    {
+        stats.count("glUniformMatrix2x4fv");
+        if (target != null)
+          target.glUniformMatrix2x4fv(a0, a1, a2, a3);
+    }
+
+    public void glUniformMatrix3fv(
+        int a0, int a1, boolean a2, float[] a3, int a4)
+    {
+        stats.count("glUniformMatrix3fv");
+        if (target != null)
+          target.glUniformMatrix3fv(a0, a1, a2, a3, a4);
+    }
+
+    public void glUniformMatrix3fv(int a0, int a1, boolean a2, FloatBuffer a3)
+    {
+        stats.count("glUniformMatrix3fv");
+        if (target != null)
+          target.glUniformMatrix3fv(a0, a1, a2, a3);
+    }
+
+    public void glUniformMatrix3fvARB(
+        int a0, int a1, boolean a2, float[] a3, int a4)
+    {
+        stats.count("glUniformMatrix3fvARB");
+        if (target != null)
+          target.glUniformMatrix3fvARB(a0, a1, a2, a3, a4);
+    }
+
+    public void glUniformMatrix3fvARB(
+        int a0, int a1, boolean a2, FloatBuffer a3)
+    {
+        stats.count("glUniformMatrix3fvARB");
+        if (target != null)
+          target.glUniformMatrix3fvARB(a0, a1, a2, a3);
+    }
+
+    public void glUniformMatrix3x2fv(
+        int a0, int a1, boolean a2, float[] a3, int a4)
+    {
+        stats.count("glUniformMatrix3x2fv");
+        if (target != null)
+          target.glUniformMatrix3x2fv(a0, a1, a2, a3, a4);
+    }
+
+    public void glUniformMatrix3x2fv(
+        int a0, int a1, boolean a2, FloatBuffer a3)
+    {
+        stats.count("glUniformMatrix3x2fv");
+        if (target != null)
+          target.glUniformMatrix3x2fv(a0, a1, a2, a3);
+    }
+
+    public void glUniformMatrix3x4fv(
+        int a0, int a1, boolean a2, float[] a3, int a4)
+    {
+        stats.count("glUniformMatrix3x4fv");
+        if (target != null)
+          target.glUniformMatrix3x4fv(a0, a1, a2, a3, a4);
+    }
+
+    public void glUniformMatrix3x4fv(
+        int a0, int a1, boolean a2, FloatBuffer a3)
+    {
+        stats.count("glUniformMatrix3x4fv");
+        if (target != null)
+          target.glUniformMatrix3x4fv(a0, a1, a2, a3);
+    }
+
+    public void glUniformMatrix4fv(
+        int a0, int a1, boolean a2, float[] a3, int a4)
+    {
+        stats.count("glUniformMatrix4fv");
+        if (target != null)
+          target.glUniformMatrix4fv(a0, a1, a2, a3, a4);
+    }
+
+    public void glUniformMatrix4fv(int a0, int a1, boolean a2, FloatBuffer a3)
+    {
+        stats.count("glUniformMatrix4fv");
+        if (target != null)
+          target.glUniformMatrix4fv(a0, a1, a2, a3);
+    }
+
+    public void glUniformMatrix4fvARB(
+        int a0, int a1, boolean a2, float[] a3, int a4)
+    {
+        stats.count("glUniformMatrix4fvARB");
+        if (target != null)
+          target.glUniformMatrix4fvARB(a0, a1, a2, a3, a4);
+    }
+
+    public void glUniformMatrix4fvARB(
+        int a0, int a1, boolean a2, FloatBuffer a3)
+    {
+        stats.count("glUniformMatrix4fvARB");
+        if (target != null)
+          target.glUniformMatrix4fvARB(a0, a1, a2, a3);
+    }
+
+    public void glUniformMatrix4x2fv(
+        int a0, int a1, boolean a2, float[] a3, int a4)
+    {
+        stats.count("glUniformMatrix4x2fv");
+        if (target != null)
+          target.glUniformMatrix4x2fv(a0, a1, a2, a3, a4);
+    }
+
+    public void glUniformMatrix4x2fv(
+        int a0, int a1, boolean a2, FloatBuffer a3)
+    {
+        stats.count("glUniformMatrix4x2fv");
+        if (target != null)
+          target.glUniformMatrix4x2fv(a0, a1, a2, a3);
+    }
+
+    public void glUniformMatrix4x3fv(
+        int a0, int a1, boolean a2, float[] a3, int a4)
+    {
+        stats.count("glUniformMatrix4x3fv");
+        if (target != null)
+          target.glUniformMatrix4x3fv(a0, a1, a2, a3, a4);
+    }
+
+    public void glUniformMatrix4x3fv(
+        int a0, int a1, boolean a2, FloatBuffer a3)
+    {
+        stats.count("glUniformMatrix4x3fv");
+        if (target != null)
+          target.glUniformMatrix4x3fv(a0, a1, a2, a3);
+    }
+
+    public void glUnlockArraysEXT()
+    {
+        stats.count("glUnlockArraysEXT");
+        if (target != null)
+          target.glUnlockArraysEXT();
+    }
+
+    public boolean glUnmapBuffer(int a0)
+    {
+        stats.count("glUnmapBuffer");
+        return (target != null) ? target.glUnmapBuffer(a0) : false;
+    }
+
+    public boolean glUnmapBufferARB(int a0)
+    {
+        stats.count("glUnmapBufferARB");
+        return (target != null) ? target.glUnmapBufferARB(a0) : false;
+    }
+
+    public void glUpdateObjectBufferATI(
+        int a0, int a1, int a2, Buffer a3, int a4)
+    {
+        stats.count("glUpdateObjectBufferATI");
+        if (target != null)
+          target.glUpdateObjectBufferATI(a0, a1, a2, a3, a4);
+    }
+
+    public void glUseProgram(int a0)
+    {
+        stats.count("glUseProgram");
+        if (target != null)
+          target.glUseProgram(a0);
+    }
+
+    public void glUseProgramObjectARB(int a0)
+    {
+        stats.count("glUseProgramObjectARB");
+        if (target != null)
+          target.glUseProgramObjectARB(a0);
+    }
+
+    public void glValidateProgram(int a0)
+    {
+        stats.count("glValidateProgram");
+        if (target != null)
+          target.glValidateProgram(a0);
+    }
+
+    public void glValidateProgramARB(int a0)
+    {
+        stats.count("glValidateProgramARB");
+        if (target != null)
+          target.glValidateProgramARB(a0);
+    }
+
+    public void glVariantArrayObjectATI(int a0, int a1, int a2, int a3, int a4)
+    {
+        stats.count("glVariantArrayObjectATI");
+        if (target != null)
+          target.glVariantArrayObjectATI(a0, a1, a2, a3, a4);
+    }
+
+    public void glVariantPointerEXT(int a0, int a1, int a2, Buffer a3)
+    {
+        stats.count("glVariantPointerEXT");
+        if (target != null)
+          target.glVariantPointerEXT(a0, a1, a2, a3);
+    }
+
+    public void glVariantPointerEXT(int a0, int a1, int a2, long a3)
+    {
+        stats.count("glVariantPointerEXT");
+        if (target != null)
+          target.glVariantPointerEXT(a0, a1, a2, a3);
+    }
+
+    public void glVariantbvEXT(int a0, byte[] a1, int a2)
+    {
+        stats.count("glVariantbvEXT");
+        if (target != null)
+          target.glVariantbvEXT(a0, a1, a2);
+    }
+
+    public void glVariantbvEXT(int a0, ByteBuffer a1)
+    {
+        stats.count("glVariantbvEXT");
+        if (target != null)
+          target.glVariantbvEXT(a0, a1);
+    }
+
+    public void glVariantdvEXT(int a0, double[] a1, int a2)
+    {
+        stats.count("glVariantdvEXT");
+        if (target != null)
+          target.glVariantdvEXT(a0, a1, a2);
+    }
+
+    public void glVariantdvEXT(int a0, DoubleBuffer a1)
+    {
+        stats.count("glVariantdvEXT");
+        if (target != null)
+          target.glVariantdvEXT(a0, a1);
+    }
+
+    public void glVariantfvEXT(int a0, float[] a1, int a2)
+    {
+        stats.count("glVariantfvEXT");
+        if (target != null)
+          target.glVariantfvEXT(a0, a1, a2);
+    }
+
+    public void glVariantfvEXT(int a0, FloatBuffer a1)
+    {
+        stats.count("glVariantfvEXT");
+        if (target != null)
+          target.glVariantfvEXT(a0, a1);
+    }
+
+    public void glVariantivEXT(int a0, int[] a1, int a2)
+    {
+        stats.count("glVariantivEXT");
+        if (target != null)
+          target.glVariantivEXT(a0, a1, a2);
+    }
+
+    public void glVariantivEXT(int a0, IntBuffer a1)
+    {
+        stats.count("glVariantivEXT");
+        if (target != null)
+          target.glVariantivEXT(a0, a1);
+    }
+
+    public void glVariantsvEXT(int a0, short[] a1, int a2)
+    {
+        stats.count("glVariantsvEXT");
+        if (target != null)
+          target.glVariantsvEXT(a0, a1, a2);
+    }
+
+    public void glVariantsvEXT(int a0, ShortBuffer a1)
+    {
+        stats.count("glVariantsvEXT");
+        if (target != null)
+          target.glVariantsvEXT(a0, a1);
+    }
+
+    public void glVariantubvEXT(int a0, byte[] a1, int a2)
+    {
+        stats.count("glVariantubvEXT");
+        if (target != null)
+          target.glVariantubvEXT(a0, a1, a2);
+    }
+
+    public void glVariantubvEXT(int a0, ByteBuffer a1)
+    {
+        stats.count("glVariantubvEXT");
+        if (target != null)
+          target.glVariantubvEXT(a0, a1);
+    }
+
+    public void glVariantuivEXT(int a0, int[] a1, int a2)
+    {
+        stats.count("glVariantuivEXT");
+        if (target != null)
+          target.glVariantuivEXT(a0, a1, a2);
+    }
+
+    public void glVariantuivEXT(int a0, IntBuffer a1)
+    {
+        stats.count("glVariantuivEXT");
+        if (target != null)
+          target.glVariantuivEXT(a0, a1);
+    }
+
+    public void glVariantusvEXT(int a0, short[] a1, int a2)
+    {
+        stats.count("glVariantusvEXT");
+        if (target != null)
+          target.glVariantusvEXT(a0, a1, a2);
+    }
+
+    public void glVariantusvEXT(int a0, ShortBuffer a1)
+    {
+        stats.count("glVariantusvEXT");
+        if (target != null)
+          target.glVariantusvEXT(a0, a1);
+    }
+
+    public void glVertex2d(double a0, double a1)
+    {
+        stats.count("glVertex2d");
+        if (target != null)
+          target.glVertex2d(a0, a1);
+    }
+
+    public void glVertex2dv(double[] a0, int a1)
+    {
+        stats.count("glVertex2dv");
+        if (target != null)
+          target.glVertex2dv(a0, a1);
+    }
+
+    public void glVertex2dv(DoubleBuffer a0)
+    {
+        stats.count("glVertex2dv");
+        if (target != null)
+          target.glVertex2dv(a0);
+    }
+
+    public void glVertex2f(float a0, float a1)
+    {
+        stats.count("glVertex2f");
+        if (target != null)
+          target.glVertex2f(a0, a1);
+    }
+
+    public void glVertex2fv(float[] a0, int a1)
+    {
+        stats.count("glVertex2fv");
+        if (target != null)
+          target.glVertex2fv(a0, a1);
+    }
+
+    public void glVertex2fv(FloatBuffer a0)
+    {
+        stats.count("glVertex2fv");
+        if (target != null)
+          target.glVertex2fv(a0);
+    }
+
+    public void glVertex2hNV(short a0, short a1)
+    {
+        stats.count("glVertex2hNV");
+        if (target != null)
+          target.glVertex2hNV(a0, a1);
+    }
+
+    public void glVertex2hvNV(short[] a0, int a1)
+    {
+        stats.count("glVertex2hvNV");
+        if (target != null)
+          target.glVertex2hvNV(a0, a1);
+    }
+
+    public void glVertex2hvNV(ShortBuffer a0)
+    {
+        stats.count("glVertex2hvNV");
+        if (target != null)
+          target.glVertex2hvNV(a0);
+    }
+
+    public void glVertex2i(int a0, int a1)
+    {
+        stats.count("glVertex2i");
+        if (target != null)
+          target.glVertex2i(a0, a1);
+    }
+
+    public void glVertex2iv(int[] a0, int a1)
+    {
+        stats.count("glVertex2iv");
+        if (target != null)
+          target.glVertex2iv(a0, a1);
+    }
+
+    public void glVertex2iv(IntBuffer a0)
+    {
+        stats.count("glVertex2iv");
+        if (target != null)
+          target.glVertex2iv(a0);
+    }
+
+    public void glVertex2s(short a0, short a1)
+    {
+        stats.count("glVertex2s");
+        if (target != null)
+          target.glVertex2s(a0, a1);
+    }
+
+    public void glVertex2sv(short[] a0, int a1)
+    {
+        stats.count("glVertex2sv");
+        if (target != null)
+          target.glVertex2sv(a0, a1);
+    }
+
+    public void glVertex2sv(ShortBuffer a0)
+    {
+        stats.count("glVertex2sv");
+        if (target != null)
+          target.glVertex2sv(a0);
+    }
+
+    public void glVertex3d(double a0, double a1, double a2)
+    {
+        stats.count("glVertex3d");
+        if (target != null)
+          target.glVertex3d(a0, a1, a2);
+    }
+
+    public void glVertex3dv(double[] a0, int a1)
+    {
+        stats.count("glVertex3dv");
+        if (target != null)
+          target.glVertex3dv(a0, a1);
+    }
+
+    public void glVertex3dv(DoubleBuffer a0)
+    {
+        stats.count("glVertex3dv");
+        if (target != null)
+          target.glVertex3dv(a0);
+    }
+
+    public void glVertex3f(float a0, float a1, float a2)
+    {
+        stats.count("glVertex3f");
+        if (target != null)
+          target.glVertex3f(a0, a1, a2);
+    }
+
+    public void glVertex3fv(float[] a0, int a1)
+    {
+        stats.count("glVertex3fv");
+        if (target != null)
+          target.glVertex3fv(a0, a1);
+    }
+
+    public void glVertex3fv(FloatBuffer a0)
+    {
+        stats.count("glVertex3fv");
+        if (target != null)
+          target.glVertex3fv(a0);
+    }
+
+    public void glVertex3hNV(short a0, short a1, short a2)
+    {
+        stats.count("glVertex3hNV");
+        if (target != null)
+          target.glVertex3hNV(a0, a1, a2);
+    }
+
+    public void glVertex3hvNV(short[] a0, int a1)
+    {
+        stats.count("glVertex3hvNV");
+        if (target != null)
+          target.glVertex3hvNV(a0, a1);
+    }
+
+    public void glVertex3hvNV(ShortBuffer a0)
+    {
+        stats.count("glVertex3hvNV");
+        if (target != null)
+          target.glVertex3hvNV(a0);
+    }
+
+    public void glVertex3i(int a0, int a1, int a2)
+    {
+        stats.count("glVertex3i");
+        if (target != null)
+          target.glVertex3i(a0, a1, a2);
+    }
+
+    public void glVertex3iv(int[] a0, int a1)
+    {
+        stats.count("glVertex3iv");
+        if (target != null)
+          target.glVertex3iv(a0, a1);
+    }
+
+    public void glVertex3iv(IntBuffer a0)
+    {
+        stats.count("glVertex3iv");
+        if (target != null)
+          target.glVertex3iv(a0);
+    }
+
+    public void glVertex3s(short a0, short a1, short a2)
+    {
+        stats.count("glVertex3s");
+        if (target != null)
+          target.glVertex3s(a0, a1, a2);
+    }
+
+    public void glVertex3sv(short[] a0, int a1)
+    {
+        stats.count("glVertex3sv");
+        if (target != null)
+          target.glVertex3sv(a0, a1);
+    }
+
+    public void glVertex3sv(ShortBuffer a0)
+    {
+        stats.count("glVertex3sv");
+        if (target != null)
+          target.glVertex3sv(a0);
+    }
+
+    public void glVertex4d(double a0, double a1, double a2, double a3)
+    {
+        stats.count("glVertex4d");
+        if (target != null)
+          target.glVertex4d(a0, a1, a2, a3);
+    }
+
+    public void glVertex4dv(double[] a0, int a1)
+    {
+        stats.count("glVertex4dv");
+        if (target != null)
+          target.glVertex4dv(a0, a1);
+    }
+
+    public void glVertex4dv(DoubleBuffer a0)
+    {
+        stats.count("glVertex4dv");
+        if (target != null)
+          target.glVertex4dv(a0);
+    }
+
+    public void glVertex4f(float a0, float a1, float a2, float a3)
+    {
+        stats.count("glVertex4f");
+        if (target != null)
+          target.glVertex4f(a0, a1, a2, a3);
+    }
+
+    public void glVertex4fv(float[] a0, int a1)
+    {
+        stats.count("glVertex4fv");
+        if (target != null)
+          target.glVertex4fv(a0, a1);
+    }
+
+    public void glVertex4fv(FloatBuffer a0)
+    {
+        stats.count("glVertex4fv");
+        if (target != null)
+          target.glVertex4fv(a0);
+    }
+
+    public void glVertex4hNV(short a0, short a1, short a2, short a3)
+    {
+        stats.count("glVertex4hNV");
+        if (target != null)
+          target.glVertex4hNV(a0, a1, a2, a3);
+    }
+
+    public void glVertex4hvNV(short[] a0, int a1)
+    {
+        stats.count("glVertex4hvNV");
+        if (target != null)
+          target.glVertex4hvNV(a0, a1);
+    }
+
+    public void glVertex4hvNV(ShortBuffer a0)
+    {
+        stats.count("glVertex4hvNV");
+        if (target != null)
+          target.glVertex4hvNV(a0);
+    }
+
+    public void glVertex4i(int a0, int a1, int a2, int a3)
+    {
+        stats.count("glVertex4i");
+        if (target != null)
+          target.glVertex4i(a0, a1, a2, a3);
+    }
+
+    public void glVertex4iv(int[] a0, int a1)
+    {
+        stats.count("glVertex4iv");
+        if (target != null)
+          target.glVertex4iv(a0, a1);
+    }
+
+    public void glVertex4iv(IntBuffer a0)
+    {
+        stats.count("glVertex4iv");
+        if (target != null)
+          target.glVertex4iv(a0);
+    }
+
+    public void glVertex4s(short a0, short a1, short a2, short a3)
+    {
+        stats.count("glVertex4s");
+        if (target != null)
+          target.glVertex4s(a0, a1, a2, a3);
+    }
+
+    public void glVertex4sv(short[] a0, int a1)
+    {
+        stats.count("glVertex4sv");
+        if (target != null)
+          target.glVertex4sv(a0, a1);
+    }
+
+    public void glVertex4sv(ShortBuffer a0)
+    {
+        stats.count("glVertex4sv");
+        if (target != null)
+          target.glVertex4sv(a0);
+    }
+
+    public void glVertexArrayParameteriAPPLE(int a0, int a1)
+    {
+        stats.count("glVertexArrayParameteriAPPLE");
+        if (target != null)
+          target.glVertexArrayParameteriAPPLE(a0, a1);
+    }
+
+    public void glVertexArrayRangeAPPLE(int a0, Buffer a1)
+    {
+        stats.count("glVertexArrayRangeAPPLE");
+        if (target != null)
+          target.glVertexArrayRangeAPPLE(a0, a1);
+    }
+
+    public void glVertexArrayRangeNV(int a0, Buffer a1)
+    {
+        stats.count("glVertexArrayRangeNV");
+        if (target != null)
+          target.glVertexArrayRangeNV(a0, a1);
+    }
+
+    public void glVertexAttrib1d(int a0, double a1)
+    {
+        stats.count("glVertexAttrib1d");
+        if (target != null)
+          target.glVertexAttrib1d(a0, a1);
+    }
+
+    public void glVertexAttrib1dARB(int a0, double a1)
+    {
+        stats.count("glVertexAttrib1dARB");
+        if (target != null)
+          target.glVertexAttrib1dARB(a0, a1);
+    }
+
+    public void glVertexAttrib1dNV(int a0, double a1)
+    {
+        stats.count("glVertexAttrib1dNV");
+        if (target != null)
+          target.glVertexAttrib1dNV(a0, a1);
+    }
+
+    public void glVertexAttrib1dv(int a0, double[] a1, int a2)
+    {
+        stats.count("glVertexAttrib1dv");
+        if (target != null)
+          target.glVertexAttrib1dv(a0, a1, a2);
+    }
+
+    public void glVertexAttrib1dv(int a0, DoubleBuffer a1)
+    {
+        stats.count("glVertexAttrib1dv");
+        if (target != null)
+          target.glVertexAttrib1dv(a0, a1);
+    }
+
+    public void glVertexAttrib1dvARB(int a0, double[] a1, int a2)
+    {
+        stats.count("glVertexAttrib1dvARB");
+        if (target != null)
+          target.glVertexAttrib1dvARB(a0, a1, a2);
+    }
+
+    public void glVertexAttrib1dvARB(int a0, DoubleBuffer a1)
+    {
+        stats.count("glVertexAttrib1dvARB");
+        if (target != null)
+          target.glVertexAttrib1dvARB(a0, a1);
+    }
+
+    public void glVertexAttrib1dvNV(int a0, double[] a1, int a2)
+    {
+        stats.count("glVertexAttrib1dvNV");
+        if (target != null)
+          target.glVertexAttrib1dvNV(a0, a1, a2);
+    }
+
+    public void glVertexAttrib1dvNV(int a0, DoubleBuffer a1)
+    {
+        stats.count("glVertexAttrib1dvNV");
+        if (target != null)
+          target.glVertexAttrib1dvNV(a0, a1);
+    }
+
+    public void glVertexAttrib1f(int a0, float a1)
+    {
+        stats.count("glVertexAttrib1f");
+        if (target != null)
+          target.glVertexAttrib1f(a0, a1);
+    }
+
+    public void glVertexAttrib1fARB(int a0, float a1)
+    {
+        stats.count("glVertexAttrib1fARB");
+        if (target != null)
+          target.glVertexAttrib1fARB(a0, a1);
+    }
+
+    public void glVertexAttrib1fNV(int a0, float a1)
+    {
+        stats.count("glVertexAttrib1fNV");
+        if (target != null)
+          target.glVertexAttrib1fNV(a0, a1);
+    }
+
+    public void glVertexAttrib1fv(int a0, float[] a1, int a2)
+    {
+        stats.count("glVertexAttrib1fv");
+        if (target != null)
+          target.glVertexAttrib1fv(a0, a1, a2);
+    }
+
+    public void glVertexAttrib1fv(int a0, FloatBuffer a1)
+    {
+        stats.count("glVertexAttrib1fv");
+        if (target != null)
+          target.glVertexAttrib1fv(a0, a1);
+    }
+
+    public void glVertexAttrib1fvARB(int a0, float[] a1, int a2)
+    {
+        stats.count("glVertexAttrib1fvARB");
+        if (target != null)
+          target.glVertexAttrib1fvARB(a0, a1, a2);
+    }
+
+    public void glVertexAttrib1fvARB(int a0, FloatBuffer a1)
+    {
+        stats.count("glVertexAttrib1fvARB");
+        if (target != null)
+          target.glVertexAttrib1fvARB(a0, a1);
+    }
+
+    public void glVertexAttrib1fvNV(int a0, float[] a1, int a2)
+    {
+        stats.count("glVertexAttrib1fvNV");
+        if (target != null)
+          target.glVertexAttrib1fvNV(a0, a1, a2);
+    }
+
+    public void glVertexAttrib1fvNV(int a0, FloatBuffer a1)
+    {
+        stats.count("glVertexAttrib1fvNV");
+        if (target != null)
+          target.glVertexAttrib1fvNV(a0, a1);
+    }
+
+    public void glVertexAttrib1hNV(int a0, short a1)
+    {
+        stats.count("glVertexAttrib1hNV");
+        if (target != null)
+          target.glVertexAttrib1hNV(a0, a1);
+    }
+
+    public void glVertexAttrib1hvNV(int a0, short[] a1, int a2)
+    {
+        stats.count("glVertexAttrib1hvNV");
+        if (target != null)
+          target.glVertexAttrib1hvNV(a0, a1, a2);
+    }
+
+    public void glVertexAttrib1hvNV(int a0, ShortBuffer a1)
+    {
+        stats.count("glVertexAttrib1hvNV");
+        if (target != null)
+          target.glVertexAttrib1hvNV(a0, a1);
+    }
+
+    public void glVertexAttrib1s(int a0, short a1)
+    {
+        stats.count("glVertexAttrib1s");
+        if (target != null)
+          target.glVertexAttrib1s(a0, a1);
+    }
+
+    public void glVertexAttrib1sARB(int a0, short a1)
+    {
+        stats.count("glVertexAttrib1sARB");
+        if (target != null)
+          target.glVertexAttrib1sARB(a0, a1);
+    }
+
+    public void glVertexAttrib1sNV(int a0, short a1)
+    {
+        stats.count("glVertexAttrib1sNV");
+        if (target != null)
+          target.glVertexAttrib1sNV(a0, a1);
+    }
+
+    public void glVertexAttrib1sv(int a0, short[] a1, int a2)
+    {
+        stats.count("glVertexAttrib1sv");
+        if (target != null)
+          target.glVertexAttrib1sv(a0, a1, a2);
+    }
+
+    public void glVertexAttrib1sv(int a0, ShortBuffer a1)
+    {
+        stats.count("glVertexAttrib1sv");
+        if (target != null)
+          target.glVertexAttrib1sv(a0, a1);
+    }
+
+    public void glVertexAttrib1svARB(int a0, short[] a1, int a2)
+    {
+        stats.count("glVertexAttrib1svARB");
+        if (target != null)
+          target.glVertexAttrib1svARB(a0, a1, a2);
+    }
+
+    public void glVertexAttrib1svARB(int a0, ShortBuffer a1)
+    {
+        stats.count("glVertexAttrib1svARB");
+        if (target != null)
+          target.glVertexAttrib1svARB(a0, a1);
+    }
+
+    public void glVertexAttrib1svNV(int a0, short[] a1, int a2)
+    {
+        stats.count("glVertexAttrib1svNV");
+        if (target != null)
+          target.glVertexAttrib1svNV(a0, a1, a2);
+    }
+
+    public void glVertexAttrib1svNV(int a0, ShortBuffer a1)
+    {
+        stats.count("glVertexAttrib1svNV");
+        if (target != null)
+          target.glVertexAttrib1svNV(a0, a1);
+    }
+
+    public void glVertexAttrib2d(int a0, double a1, double a2)
+    {
+        stats.count("glVertexAttrib2d");
+        if (target != null)
+          target.glVertexAttrib2d(a0, a1, a2);
+    }
+
+    public void glVertexAttrib2dARB(int a0, double a1, double a2)
+    {
+        stats.count("glVertexAttrib2dARB");
+        if (target != null)
+          target.glVertexAttrib2dARB(a0, a1, a2);
+    }
+
+    public void glVertexAttrib2dNV(int a0, double a1, double a2)
+    {
+        stats.count("glVertexAttrib2dNV");
+        if (target != null)
+          target.glVertexAttrib2dNV(a0, a1, a2);
+    }
+
+    public void glVertexAttrib2dv(int a0, double[] a1, int a2)
+    {
+        stats.count("glVertexAttrib2dv");
+        if (target != null)
+          target.glVertexAttrib2dv(a0, a1, a2);
+    }
+
+    public void glVertexAttrib2dv(int a0, DoubleBuffer a1)
+    {
+        stats.count("glVertexAttrib2dv");
+        if (target != null)
+          target.glVertexAttrib2dv(a0, a1);
+    }
+
+    public void glVertexAttrib2dvARB(int a0, double[] a1, int a2)
+    {
+        stats.count("glVertexAttrib2dvARB");
+        if (target != null)
+          target.glVertexAttrib2dvARB(a0, a1, a2);
+    }
+
+    public void glVertexAttrib2dvARB(int a0, DoubleBuffer a1)
+    {
+        stats.count("glVertexAttrib2dvARB");
+        if (target != null)
+          target.glVertexAttrib2dvARB(a0, a1);
+    }
+
+    public void glVertexAttrib2dvNV(int a0, double[] a1, int a2)
+    {
+        stats.count("glVertexAttrib2dvNV");
+        if (target != null)
+          target.glVertexAttrib2dvNV(a0, a1, a2);
+    }
+
+    public void glVertexAttrib2dvNV(int a0, DoubleBuffer a1)
+    {
+        stats.count("glVertexAttrib2dvNV");
+        if (target != null)
+          target.glVertexAttrib2dvNV(a0, a1);
+    }
+
+    public void glVertexAttrib2f(int a0, float a1, float a2)
+    {
+        stats.count("glVertexAttrib2f");
+        if (target != null)
+          target.glVertexAttrib2f(a0, a1, a2);
+    }
+
+    public void glVertexAttrib2fARB(int a0, float a1, float a2)
+    {
+        stats.count("glVertexAttrib2fARB");
+        if (target != null)
+          target.glVertexAttrib2fARB(a0, a1, a2);
+    }
+
+    public void glVertexAttrib2fNV(int a0, float a1, float a2)
+    {
+        stats.count("glVertexAttrib2fNV");
+        if (target != null)
+          target.glVertexAttrib2fNV(a0, a1, a2);
+    }
+
+    public void glVertexAttrib2fv(int a0, float[] a1, int a2)
+    {
+        stats.count("glVertexAttrib2fv");
+        if (target != null)
+          target.glVertexAttrib2fv(a0, a1, a2);
+    }
+
+    public void glVertexAttrib2fv(int a0, FloatBuffer a1)
+    {
+        stats.count("glVertexAttrib2fv");
+        if (target != null)
+          target.glVertexAttrib2fv(a0, a1);
+    }
+
+    public void glVertexAttrib2fvARB(int a0, float[] a1, int a2)
+    {
+        stats.count("glVertexAttrib2fvARB");
+        if (target != null)
+          target.glVertexAttrib2fvARB(a0, a1, a2);
+    }
+
+    public void glVertexAttrib2fvARB(int a0, FloatBuffer a1)
+    {
+        stats.count("glVertexAttrib2fvARB");
+        if (target != null)
+          target.glVertexAttrib2fvARB(a0, a1);
+    }
+
+    public void glVertexAttrib2fvNV(int a0, float[] a1, int a2)
+    {
+        stats.count("glVertexAttrib2fvNV");
+        if (target != null)
+          target.glVertexAttrib2fvNV(a0, a1, a2);
+    }
+
+    public void glVertexAttrib2fvNV(int a0, FloatBuffer a1)
+    {
+        stats.count("glVertexAttrib2fvNV");
+        if (target != null)
+          target.glVertexAttrib2fvNV(a0, a1);
+    }
+
+    public void glVertexAttrib2hNV(int a0, short a1, short a2)
+    {
+        stats.count("glVertexAttrib2hNV");
+        if (target != null)
+          target.glVertexAttrib2hNV(a0, a1, a2);
+    }
+
+    public void glVertexAttrib2hvNV(int a0, short[] a1, int a2)
+    {
+        stats.count("glVertexAttrib2hvNV");
+        if (target != null)
+          target.glVertexAttrib2hvNV(a0, a1, a2);
+    }
+
+    public void glVertexAttrib2hvNV(int a0, ShortBuffer a1)
+    {
+        stats.count("glVertexAttrib2hvNV");
+        if (target != null)
+          target.glVertexAttrib2hvNV(a0, a1);
+    }
+
+    public void glVertexAttrib2s(int a0, short a1, short a2)
+    {
+        stats.count("glVertexAttrib2s");
+        if (target != null)
+          target.glVertexAttrib2s(a0, a1, a2);
+    }
+
+    public void glVertexAttrib2sARB(int a0, short a1, short a2)
+    {
+        stats.count("glVertexAttrib2sARB");
+        if (target != null)
+          target.glVertexAttrib2sARB(a0, a1, a2);
+    }
+
+    public void glVertexAttrib2sNV(int a0, short a1, short a2)
+    {
+        stats.count("glVertexAttrib2sNV");
+        if (target != null)
+          target.glVertexAttrib2sNV(a0, a1, a2);
+    }
+
+    public void glVertexAttrib2sv(int a0, short[] a1, int a2)
+    {
+        stats.count("glVertexAttrib2sv");
+        if (target != null)
+          target.glVertexAttrib2sv(a0, a1, a2);
+    }
+
+    public void glVertexAttrib2sv(int a0, ShortBuffer a1)
+    {
+        stats.count("glVertexAttrib2sv");
+        if (target != null)
+          target.glVertexAttrib2sv(a0, a1);
+    }
+
+    public void glVertexAttrib2svARB(int a0, short[] a1, int a2)
+    {
+        stats.count("glVertexAttrib2svARB");
+        if (target != null)
+          target.glVertexAttrib2svARB(a0, a1, a2);
+    }
+
+    public void glVertexAttrib2svARB(int a0, ShortBuffer a1)
+    {
+        stats.count("glVertexAttrib2svARB");
+        if (target != null)
+          target.glVertexAttrib2svARB(a0, a1);
+    }
+
+    public void glVertexAttrib2svNV(int a0, short[] a1, int a2)
+    {
+        stats.count("glVertexAttrib2svNV");
+        if (target != null)
+          target.glVertexAttrib2svNV(a0, a1, a2);
+    }
+
+    public void glVertexAttrib2svNV(int a0, ShortBuffer a1)
+    {
+        stats.count("glVertexAttrib2svNV");
+        if (target != null)
+          target.glVertexAttrib2svNV(a0, a1);
+    }
+
+    public void glVertexAttrib3d(int a0, double a1, double a2, double a3)
+    {
+        stats.count("glVertexAttrib3d");
+        if (target != null)
+          target.glVertexAttrib3d(a0, a1, a2, a3);
+    }
+
+    public void glVertexAttrib3dARB(int a0, double a1, double a2, double a3)
+    {
+        stats.count("glVertexAttrib3dARB");
+        if (target != null)
+          target.glVertexAttrib3dARB(a0, a1, a2, a3);
+    }
+
+    public void glVertexAttrib3dNV(int a0, double a1, double a2, double a3)
+    {
+        stats.count("glVertexAttrib3dNV");
+        if (target != null)
+          target.glVertexAttrib3dNV(a0, a1, a2, a3);
+    }
+
+    public void glVertexAttrib3dv(int a0, double[] a1, int a2)
+    {
+        stats.count("glVertexAttrib3dv");
+        if (target != null)
+          target.glVertexAttrib3dv(a0, a1, a2);
+    }
+
+    public void glVertexAttrib3dv(int a0, DoubleBuffer a1)
+    {
+        stats.count("glVertexAttrib3dv");
+        if (target != null)
+          target.glVertexAttrib3dv(a0, a1);
+    }
+
+    public void glVertexAttrib3dvARB(int a0, double[] a1, int a2)
+    {
+        stats.count("glVertexAttrib3dvARB");
+        if (target != null)
+          target.glVertexAttrib3dvARB(a0, a1, a2);
+    }
+
+    public void glVertexAttrib3dvARB(int a0, DoubleBuffer a1)
+    {
+        stats.count("glVertexAttrib3dvARB");
+        if (target != null)
+          target.glVertexAttrib3dvARB(a0, a1);
+    }
+
+    public void glVertexAttrib3dvNV(int a0, double[] a1, int a2)
+    {
+        stats.count("glVertexAttrib3dvNV");
+        if (target != null)
+          target.glVertexAttrib3dvNV(a0, a1, a2);
+    }
+
+    public void glVertexAttrib3dvNV(int a0, DoubleBuffer a1)
+    {
+        stats.count("glVertexAttrib3dvNV");
+        if (target != null)
+          target.glVertexAttrib3dvNV(a0, a1);
+    }
+
+    public void glVertexAttrib3f(int a0, float a1, float a2, float a3)
+    {
+        stats.count("glVertexAttrib3f");
+        if (target != null)
+          target.glVertexAttrib3f(a0, a1, a2, a3);
+    }
+
+    public void glVertexAttrib3fARB(int a0, float a1, float a2, float a3)
+    {
+        stats.count("glVertexAttrib3fARB");
+        if (target != null)
+          target.glVertexAttrib3fARB(a0, a1, a2, a3);
+    }
+
+    public void glVertexAttrib3fNV(int a0, float a1, float a2, float a3)
+    {
+        stats.count("glVertexAttrib3fNV");
+        if (target != null)
+          target.glVertexAttrib3fNV(a0, a1, a2, a3);
+    }
+
+    public void glVertexAttrib3fv(int a0, float[] a1, int a2)
+    {
+        stats.count("glVertexAttrib3fv");
+        if (target != null)
+          target.glVertexAttrib3fv(a0, a1, a2);
+    }
+
+    public void glVertexAttrib3fv(int a0, FloatBuffer a1)
+    {
+        stats.count("glVertexAttrib3fv");
+        if (target != null)
+          target.glVertexAttrib3fv(a0, a1);
+    }
+
+    public void glVertexAttrib3fvARB(int a0, float[] a1, int a2)
+    {
+        stats.count("glVertexAttrib3fvARB");
+        if (target != null)
+          target.glVertexAttrib3fvARB(a0, a1, a2);
+    }
+
+    public void glVertexAttrib3fvARB(int a0, FloatBuffer a1)
+    {
+        stats.count("glVertexAttrib3fvARB");
+        if (target != null)
+          target.glVertexAttrib3fvARB(a0, a1);
+    }
+
+    public void glVertexAttrib3fvNV(int a0, float[] a1, int a2)
+    {
+        stats.count("glVertexAttrib3fvNV");
+        if (target != null)
+          target.glVertexAttrib3fvNV(a0, a1, a2);
+    }
+
+    public void glVertexAttrib3fvNV(int a0, FloatBuffer a1)
+    {
+        stats.count("glVertexAttrib3fvNV");
+        if (target != null)
+          target.glVertexAttrib3fvNV(a0, a1);
+    }
+
+    public void glVertexAttrib3hNV(int a0, short a1, short a2, short a3)
+    {
+        stats.count("glVertexAttrib3hNV");
+        if (target != null)
+          target.glVertexAttrib3hNV(a0, a1, a2, a3);
+    }
+
+    public void glVertexAttrib3hvNV(int a0, short[] a1, int a2)
+    {
+        stats.count("glVertexAttrib3hvNV");
+        if (target != null)
+          target.glVertexAttrib3hvNV(a0, a1, a2);
+    }
+
+    public void glVertexAttrib3hvNV(int a0, ShortBuffer a1)
+    {
+        stats.count("glVertexAttrib3hvNV");
+        if (target != null)
+          target.glVertexAttrib3hvNV(a0, a1);
+    }
+
+    public void glVertexAttrib3s(int a0, short a1, short a2, short a3)
+    {
+        stats.count("glVertexAttrib3s");
+        if (target != null)
+          target.glVertexAttrib3s(a0, a1, a2, a3);
+    }
+
+    public void glVertexAttrib3sARB(int a0, short a1, short a2, short a3)
+    {
+        stats.count("glVertexAttrib3sARB");
+        if (target != null)
+          target.glVertexAttrib3sARB(a0, a1, a2, a3);
+    }
+
+    public void glVertexAttrib3sNV(int a0, short a1, short a2, short a3)
+    {
+        stats.count("glVertexAttrib3sNV");
+        if (target != null)
+          target.glVertexAttrib3sNV(a0, a1, a2, a3);
+    }
+
+    public void glVertexAttrib3sv(int a0, short[] a1, int a2)
+    {
+        stats.count("glVertexAttrib3sv");
+        if (target != null)
+          target.glVertexAttrib3sv(a0, a1, a2);
+    }
+
+    public void glVertexAttrib3sv(int a0, ShortBuffer a1)
+    {
+        stats.count("glVertexAttrib3sv");
+        if (target != null)
+          target.glVertexAttrib3sv(a0, a1);
+    }
+
+    public void glVertexAttrib3svARB(int a0, short[] a1, int a2)
+    {
+        stats.count("glVertexAttrib3svARB");
+        if (target != null)
+          target.glVertexAttrib3svARB(a0, a1, a2);
+    }
+
+    public void glVertexAttrib3svARB(int a0, ShortBuffer a1)
+    {
+        stats.count("glVertexAttrib3svARB");
+        if (target != null)
+          target.glVertexAttrib3svARB(a0, a1);
+    }
+
+    public void glVertexAttrib3svNV(int a0, short[] a1, int a2)
+    {
+        stats.count("glVertexAttrib3svNV");
+        if (target != null)
+          target.glVertexAttrib3svNV(a0, a1, a2);
+    }
+
+    public void glVertexAttrib3svNV(int a0, ShortBuffer a1)
+    {
+        stats.count("glVertexAttrib3svNV");
+        if (target != null)
+          target.glVertexAttrib3svNV(a0, a1);
+    }
+
+    public void glVertexAttrib4Nbv(int a0, byte[] a1, int a2)
+    {
+        stats.count("glVertexAttrib4Nbv");
+        if (target != null)
+          target.glVertexAttrib4Nbv(a0, a1, a2);
+    }
+
+    public void glVertexAttrib4Nbv(int a0, ByteBuffer a1)
+    {
+        stats.count("glVertexAttrib4Nbv");
+        if (target != null)
+          target.glVertexAttrib4Nbv(a0, a1);
+    }
+
+    public void glVertexAttrib4NbvARB(int a0, byte[] a1, int a2)
+    {
+        stats.count("glVertexAttrib4NbvARB");
+        if (target != null)
+          target.glVertexAttrib4NbvARB(a0, a1, a2);
+    }
+
+    public void glVertexAttrib4NbvARB(int a0, ByteBuffer a1)
+    {
+        stats.count("glVertexAttrib4NbvARB");
+        if (target != null)
+          target.glVertexAttrib4NbvARB(a0, a1);
+    }
+
+    public void glVertexAttrib4Niv(int a0, int[] a1, int a2)
+    {
+        stats.count("glVertexAttrib4Niv");
+        if (target != null)
+          target.glVertexAttrib4Niv(a0, a1, a2);
+    }
+
+    public void glVertexAttrib4Niv(int a0, IntBuffer a1)
+    {
+        stats.count("glVertexAttrib4Niv");
+        if (target != null)
+          target.glVertexAttrib4Niv(a0, a1);
+    }
+
+    public void glVertexAttrib4NivARB(int a0, int[] a1, int a2)
+    {
+        stats.count("glVertexAttrib4NivARB");
+        if (target != null)
+          target.glVertexAttrib4NivARB(a0, a1, a2);
+    }
+
+    public void glVertexAttrib4NivARB(int a0, IntBuffer a1)
+    {
+        stats.count("glVertexAttrib4NivARB");
+        if (target != null)
+          target.glVertexAttrib4NivARB(a0, a1);
+    }
+
+    public void glVertexAttrib4Nsv(int a0, short[] a1, int a2)
+    {
+        stats.count("glVertexAttrib4Nsv");
+        if (target != null)
+          target.glVertexAttrib4Nsv(a0, a1, a2);
+    }
+
+    public void glVertexAttrib4Nsv(int a0, ShortBuffer a1)
+    {
+        stats.count("glVertexAttrib4Nsv");
+        if (target != null)
+          target.glVertexAttrib4Nsv(a0, a1);
+    }
+
+    public void glVertexAttrib4NsvARB(int a0, short[] a1, int a2)
+    {
+        stats.count("glVertexAttrib4NsvARB");
+        if (target != null)
+          target.glVertexAttrib4NsvARB(a0, a1, a2);
+    }
+
+    public void glVertexAttrib4NsvARB(int a0, ShortBuffer a1)
+    {
+        stats.count("glVertexAttrib4NsvARB");
+        if (target != null)
+          target.glVertexAttrib4NsvARB(a0, a1);
+    }
+
+    public void glVertexAttrib4Nub(int a0, byte a1, byte a2, byte a3, byte a4)
+    {
+        stats.count("glVertexAttrib4Nub");
+        if (target != null)
+          target.glVertexAttrib4Nub(a0, a1, a2, a3, a4);
+    }
+
+    public void glVertexAttrib4NubARB(
+        int a0, byte a1, byte a2, byte a3, byte a4)
+    {
+        stats.count("glVertexAttrib4NubARB");
+        if (target != null)
+          target.glVertexAttrib4NubARB(a0, a1, a2, a3, a4);
+    }
+
+    public void glVertexAttrib4Nubv(int a0, byte[] a1, int a2)
+    {
+        stats.count("glVertexAttrib4Nubv");
+        if (target != null)
+          target.glVertexAttrib4Nubv(a0, a1, a2);
+    }
+
+    public void glVertexAttrib4Nubv(int a0, ByteBuffer a1)
+    {
+        stats.count("glVertexAttrib4Nubv");
+        if (target != null)
+          target.glVertexAttrib4Nubv(a0, a1);
+    }
+
+    public void glVertexAttrib4NubvARB(int a0, byte[] a1, int a2)
+    {
+        stats.count("glVertexAttrib4NubvARB");
+        if (target != null)
+          target.glVertexAttrib4NubvARB(a0, a1, a2);
+    }
+
+    public void glVertexAttrib4NubvARB(int a0, ByteBuffer a1)
+    {
+        stats.count("glVertexAttrib4NubvARB");
+        if (target != null)
+          target.glVertexAttrib4NubvARB(a0, a1);
+    }
+
+    public void glVertexAttrib4Nuiv(int a0, int[] a1, int a2)
+    {
+        stats.count("glVertexAttrib4Nuiv");
+        if (target != null)
+          target.glVertexAttrib4Nuiv(a0, a1, a2);
+    }
+
+    public void glVertexAttrib4Nuiv(int a0, IntBuffer a1)
+    {
+        stats.count("glVertexAttrib4Nuiv");
+        if (target != null)
+          target.glVertexAttrib4Nuiv(a0, a1);
+    }
+
+    public void glVertexAttrib4NuivARB(int a0, int[] a1, int a2)
+    {
+        stats.count("glVertexAttrib4NuivARB");
+        if (target != null)
+          target.glVertexAttrib4NuivARB(a0, a1, a2);
+    }
+
+    public void glVertexAttrib4NuivARB(int a0, IntBuffer a1)
+    {
+        stats.count("glVertexAttrib4NuivARB");
+        if (target != null)
+          target.glVertexAttrib4NuivARB(a0, a1);
+    }
+
+    public void glVertexAttrib4Nusv(int a0, short[] a1, int a2)
+    {
+        stats.count("glVertexAttrib4Nusv");
+        if (target != null)
+          target.glVertexAttrib4Nusv(a0, a1, a2);
+    }
+
+    public void glVertexAttrib4Nusv(int a0, ShortBuffer a1)
+    {
+        stats.count("glVertexAttrib4Nusv");
+        if (target != null)
+          target.glVertexAttrib4Nusv(a0, a1);
+    }
+
+    public void glVertexAttrib4NusvARB(int a0, short[] a1, int a2)
+    {
+        stats.count("glVertexAttrib4NusvARB");
+        if (target != null)
+          target.glVertexAttrib4NusvARB(a0, a1, a2);
+    }
+
+    public void glVertexAttrib4NusvARB(int a0, ShortBuffer a1)
+    {
+        stats.count("glVertexAttrib4NusvARB");
+        if (target != null)
+          target.glVertexAttrib4NusvARB(a0, a1);
+    }
+
+    public void glVertexAttrib4bv(int a0, byte[] a1, int a2)
+    {
+        stats.count("glVertexAttrib4bv");
+        if (target != null)
+          target.glVertexAttrib4bv(a0, a1, a2);
+    }
+
+    public void glVertexAttrib4bv(int a0, ByteBuffer a1)
+    {
+        stats.count("glVertexAttrib4bv");
+        if (target != null)
+          target.glVertexAttrib4bv(a0, a1);
+    }
+
+    public void glVertexAttrib4bvARB(int a0, byte[] a1, int a2)
+    {
+        stats.count("glVertexAttrib4bvARB");
+        if (target != null)
+          target.glVertexAttrib4bvARB(a0, a1, a2);
+    }
+
+    public void glVertexAttrib4bvARB(int a0, ByteBuffer a1)
+    {
+        stats.count("glVertexAttrib4bvARB");
+        if (target != null)
+          target.glVertexAttrib4bvARB(a0, a1);
+    }
+
+    public void glVertexAttrib4d(
+        int a0, double a1, double a2, double a3, double a4)
+    {
+        stats.count("glVertexAttrib4d");
+        if (target != null)
+          target.glVertexAttrib4d(a0, a1, a2, a3, a4);
+    }
+
+    public void glVertexAttrib4dARB(
+        int a0, double a1, double a2, double a3, double a4)
+    {
+        stats.count("glVertexAttrib4dARB");
+        if (target != null)
+          target.glVertexAttrib4dARB(a0, a1, a2, a3, a4);
+    }
+
+    public void glVertexAttrib4dNV(
+        int a0, double a1, double a2, double a3, double a4)
+    {
+        stats.count("glVertexAttrib4dNV");
+        if (target != null)
+          target.glVertexAttrib4dNV(a0, a1, a2, a3, a4);
+    }
+
+    public void glVertexAttrib4dv(int a0, double[] a1, int a2)
+    {
+        stats.count("glVertexAttrib4dv");
+        if (target != null)
+          target.glVertexAttrib4dv(a0, a1, a2);
+    }
+
+    public void glVertexAttrib4dv(int a0, DoubleBuffer a1)
+    {
+        stats.count("glVertexAttrib4dv");
+        if (target != null)
+          target.glVertexAttrib4dv(a0, a1);
+    }
+
+    public void glVertexAttrib4dvARB(int a0, double[] a1, int a2)
+    {
+        stats.count("glVertexAttrib4dvARB");
+        if (target != null)
+          target.glVertexAttrib4dvARB(a0, a1, a2);
+    }
+
+    public void glVertexAttrib4dvARB(int a0, DoubleBuffer a1)
+    {
+        stats.count("glVertexAttrib4dvARB");
+        if (target != null)
+          target.glVertexAttrib4dvARB(a0, a1);
+    }
+
+    public void glVertexAttrib4dvNV(int a0, double[] a1, int a2)
+    {
+        stats.count("glVertexAttrib4dvNV");
+        if (target != null)
+          target.glVertexAttrib4dvNV(a0, a1, a2);
+    }
+
+    public void glVertexAttrib4dvNV(int a0, DoubleBuffer a1)
+    {
+        stats.count("glVertexAttrib4dvNV");
+        if (target != null)
+          target.glVertexAttrib4dvNV(a0, a1);
+    }
+
+    public void glVertexAttrib4f(
+        int a0, float a1, float a2, float a3, float a4)
+    {
+        stats.count("glVertexAttrib4f");
+        if (target != null)
+          target.glVertexAttrib4f(a0, a1, a2, a3, a4);
+    }
+
+    public void glVertexAttrib4fARB(
+        int a0, float a1, float a2, float a3, float a4)
+    {
+        stats.count("glVertexAttrib4fARB");
+        if (target != null)
+          target.glVertexAttrib4fARB(a0, a1, a2, a3, a4);
+    }
+
+    public void glVertexAttrib4fNV(
+        int a0, float a1, float a2, float a3, float a4)
+    {
+        stats.count("glVertexAttrib4fNV");
+        if (target != null)
+          target.glVertexAttrib4fNV(a0, a1, a2, a3, a4);
+    }
+
+    public void glVertexAttrib4fv(int a0, float[] a1, int a2)
+    {
+        stats.count("glVertexAttrib4fv");
+        if (target != null)
+          target.glVertexAttrib4fv(a0, a1, a2);
+    }
+
+    public void glVertexAttrib4fv(int a0, FloatBuffer a1)
+    {
+        stats.count("glVertexAttrib4fv");
+        if (target != null)
+          target.glVertexAttrib4fv(a0, a1);
+    }
+
+    public void glVertexAttrib4fvARB(int a0, float[] a1, int a2)
+    {
+        stats.count("glVertexAttrib4fvARB");
+        if (target != null)
+          target.glVertexAttrib4fvARB(a0, a1, a2);
+    }
+
+    public void glVertexAttrib4fvARB(int a0, FloatBuffer a1)
+    {
+        stats.count("glVertexAttrib4fvARB");
+        if (target != null)
+          target.glVertexAttrib4fvARB(a0, a1);
+    }
+
+    public void glVertexAttrib4fvNV(int a0, float[] a1, int a2)
+    {
+        stats.count("glVertexAttrib4fvNV");
+        if (target != null)
+          target.glVertexAttrib4fvNV(a0, a1, a2);
+    }
+
+    public void glVertexAttrib4fvNV(int a0, FloatBuffer a1)
+    {
+        stats.count("glVertexAttrib4fvNV");
+        if (target != null)
+          target.glVertexAttrib4fvNV(a0, a1);
+    }
+
+    public void glVertexAttrib4hNV(
+        int a0, short a1, short a2, short a3, short a4)
+    {
+        stats.count("glVertexAttrib4hNV");
+        if (target != null)
+          target.glVertexAttrib4hNV(a0, a1, a2, a3, a4);
+    }
+
+    public void glVertexAttrib4hvNV(int a0, short[] a1, int a2)
+    {
+        stats.count("glVertexAttrib4hvNV");
+        if (target != null)
+          target.glVertexAttrib4hvNV(a0, a1, a2);
+    }
+
+    public void glVertexAttrib4hvNV(int a0, ShortBuffer a1)
+    {
+        stats.count("glVertexAttrib4hvNV");
+        if (target != null)
+          target.glVertexAttrib4hvNV(a0, a1);
+    }
+
+    public void glVertexAttrib4iv(int a0, int[] a1, int a2)
+    {
+        stats.count("glVertexAttrib4iv");
+        if (target != null)
+          target.glVertexAttrib4iv(a0, a1, a2);
+    }
+
+    public void glVertexAttrib4iv(int a0, IntBuffer a1)
+    {
+        stats.count("glVertexAttrib4iv");
+        if (target != null)
+          target.glVertexAttrib4iv(a0, a1);
+    }
+
+    public void glVertexAttrib4ivARB(int a0, int[] a1, int a2)
+    {
+        stats.count("glVertexAttrib4ivARB");
+        if (target != null)
+          target.glVertexAttrib4ivARB(a0, a1, a2);
+    }
+
+    public void glVertexAttrib4ivARB(int a0, IntBuffer a1)
+    {
+        stats.count("glVertexAttrib4ivARB");
+        if (target != null)
+          target.glVertexAttrib4ivARB(a0, a1);
+    }
+
+    public void glVertexAttrib4s(
+        int a0, short a1, short a2, short a3, short a4)
+    {
+        stats.count("glVertexAttrib4s");
+        if (target != null)
+          target.glVertexAttrib4s(a0, a1, a2, a3, a4);
+    }
+
+    public void glVertexAttrib4sARB(
+        int a0, short a1, short a2, short a3, short a4)
+    {
+        stats.count("glVertexAttrib4sARB");
+        if (target != null)
+          target.glVertexAttrib4sARB(a0, a1, a2, a3, a4);
+    }
+
+    public void glVertexAttrib4sNV(
+        int a0, short a1, short a2, short a3, short a4)
+    {
+        stats.count("glVertexAttrib4sNV");
+        if (target != null)
+          target.glVertexAttrib4sNV(a0, a1, a2, a3, a4);
+    }
+
+    public void glVertexAttrib4sv(int a0, short[] a1, int a2)
+    {
+        stats.count("glVertexAttrib4sv");
+        if (target != null)
+          target.glVertexAttrib4sv(a0, a1, a2);
+    }
+
+    public void glVertexAttrib4sv(int a0, ShortBuffer a1)
+    {
+        stats.count("glVertexAttrib4sv");
+        if (target != null)
+          target.glVertexAttrib4sv(a0, a1);
+    }
+
+    public void glVertexAttrib4svARB(int a0, short[] a1, int a2)
+    {
+        stats.count("glVertexAttrib4svARB");
+        if (target != null)
+          target.glVertexAttrib4svARB(a0, a1, a2);
+    }
+
+    public void glVertexAttrib4svARB(int a0, ShortBuffer a1)
+    {
+        stats.count("glVertexAttrib4svARB");
+        if (target != null)
+          target.glVertexAttrib4svARB(a0, a1);
+    }
+
+    public void glVertexAttrib4svNV(int a0, short[] a1, int a2)
+    {
+        stats.count("glVertexAttrib4svNV");
+        if (target != null)
+          target.glVertexAttrib4svNV(a0, a1, a2);
+    }
+
+    public void glVertexAttrib4svNV(int a0, ShortBuffer a1)
+    {
+        stats.count("glVertexAttrib4svNV");
+        if (target != null)
+          target.glVertexAttrib4svNV(a0, a1);
+    }
+
+    public void glVertexAttrib4ubNV(int a0, byte a1, byte a2, byte a3, byte a4)
+    {
+        stats.count("glVertexAttrib4ubNV");
+        if (target != null)
+          target.glVertexAttrib4ubNV(a0, a1, a2, a3, a4);
+    }
+
+    public void glVertexAttrib4ubv(int a0, byte[] a1, int a2)
+    {
+        stats.count("glVertexAttrib4ubv");
+        if (target != null)
+          target.glVertexAttrib4ubv(a0, a1, a2);
+    }
+
+    public void glVertexAttrib4ubv(int a0, ByteBuffer a1)
+    {
+        stats.count("glVertexAttrib4ubv");
+        if (target != null)
+          target.glVertexAttrib4ubv(a0, a1);
+    }
+
+    public void glVertexAttrib4ubvARB(int a0, byte[] a1, int a2)
+    {
+        stats.count("glVertexAttrib4ubvARB");
+        if (target != null)
+          target.glVertexAttrib4ubvARB(a0, a1, a2);
+    }
+
+    public void glVertexAttrib4ubvARB(int a0, ByteBuffer a1)
+    {
+        stats.count("glVertexAttrib4ubvARB");
+        if (target != null)
+          target.glVertexAttrib4ubvARB(a0, a1);
+    }
+
+    public void glVertexAttrib4ubvNV(int a0, byte[] a1, int a2)
+    {
+        stats.count("glVertexAttrib4ubvNV");
+        if (target != null)
+          target.glVertexAttrib4ubvNV(a0, a1, a2);
+    }
+
+    public void glVertexAttrib4ubvNV(int a0, ByteBuffer a1)
+    {
+        stats.count("glVertexAttrib4ubvNV");
+        if (target != null)
+          target.glVertexAttrib4ubvNV(a0, a1);
+    }
+
+    public void glVertexAttrib4uiv(int a0, int[] a1, int a2)
+    {
+        stats.count("glVertexAttrib4uiv");
+        if (target != null)
+          target.glVertexAttrib4uiv(a0, a1, a2);
+    }
+
+    public void glVertexAttrib4uiv(int a0, IntBuffer a1)
+    {
+        stats.count("glVertexAttrib4uiv");
+        if (target != null)
+          target.glVertexAttrib4uiv(a0, a1);
+    }
+
+    public void glVertexAttrib4uivARB(int a0, int[] a1, int a2)
+    {
+        stats.count("glVertexAttrib4uivARB");
+        if (target != null)
+          target.glVertexAttrib4uivARB(a0, a1, a2);
+    }
+
+    public void glVertexAttrib4uivARB(int a0, IntBuffer a1)
+    {
+        stats.count("glVertexAttrib4uivARB");
+        if (target != null)
+          target.glVertexAttrib4uivARB(a0, a1);
+    }
+
+    public void glVertexAttrib4usv(int a0, short[] a1, int a2)
+    {
+        stats.count("glVertexAttrib4usv");
+        if (target != null)
+          target.glVertexAttrib4usv(a0, a1, a2);
+    }
+
+    public void glVertexAttrib4usv(int a0, ShortBuffer a1)
+    {
+        stats.count("glVertexAttrib4usv");
+        if (target != null)
+          target.glVertexAttrib4usv(a0, a1);
+    }
+
+    public void glVertexAttrib4usvARB(int a0, short[] a1, int a2)
+    {
+        stats.count("glVertexAttrib4usvARB");
+        if (target != null)
+          target.glVertexAttrib4usvARB(a0, a1, a2);
+    }
+
+    public void glVertexAttrib4usvARB(int a0, ShortBuffer a1)
+    {
+        stats.count("glVertexAttrib4usvARB");
+        if (target != null)
+          target.glVertexAttrib4usvARB(a0, a1);
+    }
+
+    public void glVertexAttribArrayObjectATI(
+        int a0, int a1, int a2, boolean a3, int a4, int a5, int a6)
+    {
+        stats.count("glVertexAttribArrayObjectATI");
+        if (target != null)
+          target.glVertexAttribArrayObjectATI(a0, a1, a2, a3, a4, a5, a6);
+    }
+
+    public void glVertexAttribI1iEXT(int a0, int a1)
+    {
+        stats.count("glVertexAttribI1iEXT");
+        if (target != null)
+          target.glVertexAttribI1iEXT(a0, a1);
+    }
+
+    public void glVertexAttribI1ivEXT(int a0, int[] a1, int a2)
+    {
+        stats.count("glVertexAttribI1ivEXT");
+        if (target != null)
+          target.glVertexAttribI1ivEXT(a0, a1, a2);
+    }
+
+    public void glVertexAttribI1ivEXT(int a0, IntBuffer a1)
+    {
+        stats.count("glVertexAttribI1ivEXT");
+        if (target != null)
+          target.glVertexAttribI1ivEXT(a0, a1);
+    }
+
+    public void glVertexAttribI1uiEXT(int a0, int a1)
+    {
+        stats.count("glVertexAttribI1uiEXT");
+        if (target != null)
+          target.glVertexAttribI1uiEXT(a0, a1);
+    }
+
+    public void glVertexAttribI1uivEXT(int a0, int[] a1, int a2)
+    {
+        stats.count("glVertexAttribI1uivEXT");
+        if (target != null)
+          target.glVertexAttribI1uivEXT(a0, a1, a2);
+    }
+
+    public void glVertexAttribI1uivEXT(int a0, IntBuffer a1)
+    {
+        stats.count("glVertexAttribI1uivEXT");
+        if (target != null)
+          target.glVertexAttribI1uivEXT(a0, a1);
+    }
+
+    public void glVertexAttribI2iEXT(int a0, int a1, int a2)
+    {
+        stats.count("glVertexAttribI2iEXT");
+        if (target != null)
+          target.glVertexAttribI2iEXT(a0, a1, a2);
+    }
+
+    public void glVertexAttribI2ivEXT(int a0, int[] a1, int a2)
+    {
+        stats.count("glVertexAttribI2ivEXT");
+        if (target != null)
+          target.glVertexAttribI2ivEXT(a0, a1, a2);
+    }
+
+    public void glVertexAttribI2ivEXT(int a0, IntBuffer a1)
+    {
+        stats.count("glVertexAttribI2ivEXT");
+        if (target != null)
+          target.glVertexAttribI2ivEXT(a0, a1);
+    }
+
+    public void glVertexAttribI2uiEXT(int a0, int a1, int a2)
+    {
+        stats.count("glVertexAttribI2uiEXT");
+        if (target != null)
+          target.glVertexAttribI2uiEXT(a0, a1, a2);
+    }
+
+    public void glVertexAttribI2uivEXT(int a0, int[] a1, int a2)
+    {
+        stats.count("glVertexAttribI2uivEXT");
+        if (target != null)
+          target.glVertexAttribI2uivEXT(a0, a1, a2);
+    }
+
+    public void glVertexAttribI2uivEXT(int a0, IntBuffer a1)
+    {
+        stats.count("glVertexAttribI2uivEXT");
+        if (target != null)
+          target.glVertexAttribI2uivEXT(a0, a1);
+    }
+
+    public void glVertexAttribI3iEXT(int a0, int a1, int a2, int a3)
+    {
+        stats.count("glVertexAttribI3iEXT");
+        if (target != null)
+          target.glVertexAttribI3iEXT(a0, a1, a2, a3);
+    }
+
+    public void glVertexAttribI3ivEXT(int a0, int[] a1, int a2)
+    {
+        stats.count("glVertexAttribI3ivEXT");
+        if (target != null)
+          target.glVertexAttribI3ivEXT(a0, a1, a2);
+    }
+
+    public void glVertexAttribI3ivEXT(int a0, IntBuffer a1)
+    {
+        stats.count("glVertexAttribI3ivEXT");
+        if (target != null)
+          target.glVertexAttribI3ivEXT(a0, a1);
+    }
+
+    public void glVertexAttribI3uiEXT(int a0, int a1, int a2, int a3)
+    {
+        stats.count("glVertexAttribI3uiEXT");
+        if (target != null)
+          target.glVertexAttribI3uiEXT(a0, a1, a2, a3);
+    }
+
+    public void glVertexAttribI3uivEXT(int a0, int[] a1, int a2)
+    {
+        stats.count("glVertexAttribI3uivEXT");
+        if (target != null)
+          target.glVertexAttribI3uivEXT(a0, a1, a2);
+    }
+
+    public void glVertexAttribI3uivEXT(int a0, IntBuffer a1)
+    {
+        stats.count("glVertexAttribI3uivEXT");
+        if (target != null)
+          target.glVertexAttribI3uivEXT(a0, a1);
+    }
+
+    public void glVertexAttribI4bvEXT(int a0, byte[] a1, int a2)
+    {
+        stats.count("glVertexAttribI4bvEXT");
+        if (target != null)
+          target.glVertexAttribI4bvEXT(a0, a1, a2);
+    }
+
+    public void glVertexAttribI4bvEXT(int a0, ByteBuffer a1)
+    {
+        stats.count("glVertexAttribI4bvEXT");
+        if (target != null)
+          target.glVertexAttribI4bvEXT(a0, a1);
+    }
+
+    public void glVertexAttribI4iEXT(int a0, int a1, int a2, int a3, int a4)
+    {
+        stats.count("glVertexAttribI4iEXT");
+        if (target != null)
+          target.glVertexAttribI4iEXT(a0, a1, a2, a3, a4);
+    }
+
+    public void glVertexAttribI4ivEXT(int a0, int[] a1, int a2)
+    {
+        stats.count("glVertexAttribI4ivEXT");
+        if (target != null)
+          target.glVertexAttribI4ivEXT(a0, a1, a2);
+    }
+
+    public void glVertexAttribI4ivEXT(int a0, IntBuffer a1)
+    {
+        stats.count("glVertexAttribI4ivEXT");
+        if (target != null)
+          target.glVertexAttribI4ivEXT(a0, a1);
+    }
+
+    public void glVertexAttribI4svEXT(int a0, short[] a1, int a2)
+    {
+        stats.count("glVertexAttribI4svEXT");
+        if (target != null)
+          target.glVertexAttribI4svEXT(a0, a1, a2);
+    }
+
+    public void glVertexAttribI4svEXT(int a0, ShortBuffer a1)
+    {
+        stats.count("glVertexAttribI4svEXT");
+        if (target != null)
+          target.glVertexAttribI4svEXT(a0, a1);
+    }
+
+    public void glVertexAttribI4ubvEXT(int a0, byte[] a1, int a2)
+    {
+        stats.count("glVertexAttribI4ubvEXT");
+        if (target != null)
+          target.glVertexAttribI4ubvEXT(a0, a1, a2);
+    }
+
+    public void glVertexAttribI4ubvEXT(int a0, ByteBuffer a1)
+    {
+        stats.count("glVertexAttribI4ubvEXT");
+        if (target != null)
+          target.glVertexAttribI4ubvEXT(a0, a1);
+    }
+
+    public void glVertexAttribI4uiEXT(int a0, int a1, int a2, int a3, int a4)
+    {
+        stats.count("glVertexAttribI4uiEXT");
+        if (target != null)
+          target.glVertexAttribI4uiEXT(a0, a1, a2, a3, a4);
+    }
+
+    public void glVertexAttribI4uivEXT(int a0, int[] a1, int a2)
+    {
+        stats.count("glVertexAttribI4uivEXT");
+        if (target != null)
+          target.glVertexAttribI4uivEXT(a0, a1, a2);
+    }
+
+    public void glVertexAttribI4uivEXT(int a0, IntBuffer a1)
+    {
+        stats.count("glVertexAttribI4uivEXT");
+        if (target != null)
+          target.glVertexAttribI4uivEXT(a0, a1);
+    }
+
+    public void glVertexAttribI4usvEXT(int a0, short[] a1, int a2)
+    {
+        stats.count("glVertexAttribI4usvEXT");
+        if (target != null)
+          target.glVertexAttribI4usvEXT(a0, a1, a2);
+    }
+
+    public void glVertexAttribI4usvEXT(int a0, ShortBuffer a1)
+    {
+        stats.count("glVertexAttribI4usvEXT");
+        if (target != null)
+          target.glVertexAttribI4usvEXT(a0, a1);
+    }
+
+    public void glVertexAttribIPointerEXT(
+        int a0, int a1, int a2, int a3, Buffer a4)
+    {
+        stats.count("glVertexAttribIPointerEXT");
+        if (target != null)
+          target.glVertexAttribIPointerEXT(a0, a1, a2, a3, a4);
+    }
+
+    public void glVertexAttribPointer(
+        int a0, int a1, int a2, boolean a3, int a4, Buffer a5)
+    {
+        stats.count("glVertexAttribPointer");
+        if (target != null)
+          target.glVertexAttribPointer(a0, a1, a2, a3, a4, a5);
+    }
+
+    public void glVertexAttribPointer(
+        int a0, int a1, int a2, boolean a3, int a4, long a5)
+    {
+        stats.count("glVertexAttribPointer");
+        if (target != null)
+          target.glVertexAttribPointer(a0, a1, a2, a3, a4, a5);
+    }
+
+    public void glVertexAttribPointerARB(
+        int a0, int a1, int a2, boolean a3, int a4, Buffer a5)
+    {
+        stats.count("glVertexAttribPointerARB");
+        if (target != null)
+          target.glVertexAttribPointerARB(a0, a1, a2, a3, a4, a5);
+    }
+
+    public void glVertexAttribPointerARB(
+        int a0, int a1, int a2, boolean a3, int a4, long a5)
+    {
+        stats.count("glVertexAttribPointerARB");
+        if (target != null)
+          target.glVertexAttribPointerARB(a0, a1, a2, a3, a4, a5);
+    }
+
+    public void glVertexAttribPointerNV(
+        int a0, int a1, int a2, int a3, Buffer a4)
+    {
+        stats.count("glVertexAttribPointerNV");
+        if (target != null)
+          target.glVertexAttribPointerNV(a0, a1, a2, a3, a4);
+    }
+
+    public void glVertexAttribPointerNV(
+        int a0, int a1, int a2, int a3, long a4)
+    {
+        stats.count("glVertexAttribPointerNV");
+        if (target != null)
+          target.glVertexAttribPointerNV(a0, a1, a2, a3, a4);
+    }
+
+    public void glVertexAttribs1dvNV(int a0, int a1, double[] a2, int a3)
+    {
+        stats.count("glVertexAttribs1dvNV");
+        if (target != null)
+          target.glVertexAttribs1dvNV(a0, a1, a2, a3);
+    }
+
+    public void glVertexAttribs1dvNV(int a0, int a1, DoubleBuffer a2)
+    {
+        stats.count("glVertexAttribs1dvNV");
+        if (target != null)
+          target.glVertexAttribs1dvNV(a0, a1, a2);
+    }
+
+    public void glVertexAttribs1fvNV(int a0, int a1, float[] a2, int a3)
+    {
+        stats.count("glVertexAttribs1fvNV");
+        if (target != null)
+          target.glVertexAttribs1fvNV(a0, a1, a2, a3);
+    }
+
+    public void glVertexAttribs1fvNV(int a0, int a1, FloatBuffer a2)
+    {
+        stats.count("glVertexAttribs1fvNV");
+        if (target != null)
+          target.glVertexAttribs1fvNV(a0, a1, a2);
+    }
+
+    public void glVertexAttribs1hvNV(int a0, int a1, short[] a2, int a3)
+    {
+        stats.count("glVertexAttribs1hvNV");
+        if (target != null)
+          target.glVertexAttribs1hvNV(a0, a1, a2, a3);
+    }
+
+    public void glVertexAttribs1hvNV(int a0, int a1, ShortBuffer a2)
+    {
+        stats.count("glVertexAttribs1hvNV");
+        if (target != null)
+          target.glVertexAttribs1hvNV(a0, a1, a2);
+    }
+
+    public void glVertexAttribs1svNV(int a0, int a1, short[] a2, int a3)
+    {
+        stats.count("glVertexAttribs1svNV");
+        if (target != null)
+          target.glVertexAttribs1svNV(a0, a1, a2, a3);
+    }
+
+    public void glVertexAttribs1svNV(int a0, int a1, ShortBuffer a2)
+    {
+        stats.count("glVertexAttribs1svNV");
+        if (target != null)
+          target.glVertexAttribs1svNV(a0, a1, a2);
+    }
+
+    public void glVertexAttribs2dvNV(int a0, int a1, double[] a2, int a3)
+    {
+        stats.count("glVertexAttribs2dvNV");
+        if (target != null)
+          target.glVertexAttribs2dvNV(a0, a1, a2, a3);
+    }
+
+    public void glVertexAttribs2dvNV(int a0, int a1, DoubleBuffer a2)
+    {
+        stats.count("glVertexAttribs2dvNV");
+        if (target != null)
+          target.glVertexAttribs2dvNV(a0, a1, a2);
+    }
+
+    public void glVertexAttribs2fvNV(int a0, int a1, float[] a2, int a3)
+    {
+        stats.count("glVertexAttribs2fvNV");
+        if (target != null)
+          target.glVertexAttribs2fvNV(a0, a1, a2, a3);
+    }
+
+    public void glVertexAttribs2fvNV(int a0, int a1, FloatBuffer a2)
+    {
+        stats.count("glVertexAttribs2fvNV");
+        if (target != null)
+          target.glVertexAttribs2fvNV(a0, a1, a2);
+    }
+
+    public void glVertexAttribs2hvNV(int a0, int a1, short[] a2, int a3)
+    {
+        stats.count("glVertexAttribs2hvNV");
+        if (target != null)
+          target.glVertexAttribs2hvNV(a0, a1, a2, a3);
+    }
+
+    public void glVertexAttribs2hvNV(int a0, int a1, ShortBuffer a2)
+    {
+        stats.count("glVertexAttribs2hvNV");
+        if (target != null)
+          target.glVertexAttribs2hvNV(a0, a1, a2);
+    }
+
+    public void glVertexAttribs2svNV(int a0, int a1, short[] a2, int a3)
+    {
+        stats.count("glVertexAttribs2svNV");
+        if (target != null)
+          target.glVertexAttribs2svNV(a0, a1, a2, a3);
+    }
+
+    public void glVertexAttribs2svNV(int a0, int a1, ShortBuffer a2)
+    {
+        stats.count("glVertexAttribs2svNV");
+        if (target != null)
+          target.glVertexAttribs2svNV(a0, a1, a2);
+    }
+
+    public void glVertexAttribs3dvNV(int a0, int a1, double[] a2, int a3)
+    {
+        stats.count("glVertexAttribs3dvNV");
+        if (target != null)
+          target.glVertexAttribs3dvNV(a0, a1, a2, a3);
+    }
+
+    public void glVertexAttribs3dvNV(int a0, int a1, DoubleBuffer a2)
+    {
+        stats.count("glVertexAttribs3dvNV");
+        if (target != null)
+          target.glVertexAttribs3dvNV(a0, a1, a2);
+    }
+
+    public void glVertexAttribs3fvNV(int a0, int a1, float[] a2, int a3)
+    {
+        stats.count("glVertexAttribs3fvNV");
+        if (target != null)
+          target.glVertexAttribs3fvNV(a0, a1, a2, a3);
+    }
+
+    public void glVertexAttribs3fvNV(int a0, int a1, FloatBuffer a2)
+    {
+        stats.count("glVertexAttribs3fvNV");
+        if (target != null)
+          target.glVertexAttribs3fvNV(a0, a1, a2);
+    }
+
+    public void glVertexAttribs3hvNV(int a0, int a1, short[] a2, int a3)
+    {
+        stats.count("glVertexAttribs3hvNV");
+        if (target != null)
+          target.glVertexAttribs3hvNV(a0, a1, a2, a3);
+    }
+
+    public void glVertexAttribs3hvNV(int a0, int a1, ShortBuffer a2)
+    {
+        stats.count("glVertexAttribs3hvNV");
+        if (target != null)
+          target.glVertexAttribs3hvNV(a0, a1, a2);
+    }
+
+    public void glVertexAttribs3svNV(int a0, int a1, short[] a2, int a3)
+    {
+        stats.count("glVertexAttribs3svNV");
+        if (target != null)
+          target.glVertexAttribs3svNV(a0, a1, a2, a3);
+    }
+
+    public void glVertexAttribs3svNV(int a0, int a1, ShortBuffer a2)
+    {
+        stats.count("glVertexAttribs3svNV");
+        if (target != null)
+          target.glVertexAttribs3svNV(a0, a1, a2);
+    }
+
+    public void glVertexAttribs4dvNV(int a0, int a1, double[] a2, int a3)
+    {
+        stats.count("glVertexAttribs4dvNV");
+        if (target != null)
+          target.glVertexAttribs4dvNV(a0, a1, a2, a3);
+    }
+
+    public void glVertexAttribs4dvNV(int a0, int a1, DoubleBuffer a2)
+    {
+        stats.count("glVertexAttribs4dvNV");
+        if (target != null)
+          target.glVertexAttribs4dvNV(a0, a1, a2);
+    }
+
+    public void glVertexAttribs4fvNV(int a0, int a1, float[] a2, int a3)
+    {
+        stats.count("glVertexAttribs4fvNV");
+        if (target != null)
+          target.glVertexAttribs4fvNV(a0, a1, a2, a3);
+    }
+
+    public void glVertexAttribs4fvNV(int a0, int a1, FloatBuffer a2)
+    {
+        stats.count("glVertexAttribs4fvNV");
+        if (target != null)
+          target.glVertexAttribs4fvNV(a0, a1, a2);
+    }
+
+    public void glVertexAttribs4hvNV(int a0, int a1, short[] a2, int a3)
+    {
+        stats.count("glVertexAttribs4hvNV");
+        if (target != null)
+          target.glVertexAttribs4hvNV(a0, a1, a2, a3);
+    }
+
+    public void glVertexAttribs4hvNV(int a0, int a1, ShortBuffer a2)
+    {
+        stats.count("glVertexAttribs4hvNV");
+        if (target != null)
+          target.glVertexAttribs4hvNV(a0, a1, a2);
+    }
+
+    public void glVertexAttribs4svNV(int a0, int a1, short[] a2, int a3)
+    {
+        stats.count("glVertexAttribs4svNV");
+        if (target != null)
+          target.glVertexAttribs4svNV(a0, a1, a2, a3);
+    }
+
+    public void glVertexAttribs4svNV(int a0, int a1, ShortBuffer a2)
+    {
+        stats.count("glVertexAttribs4svNV");
+        if (target != null)
+          target.glVertexAttribs4svNV(a0, a1, a2);
+    }
+
+    public void glVertexAttribs4ubvNV(int a0, int a1, byte[] a2, int a3)
+    {
+        stats.count("glVertexAttribs4ubvNV");
+        if (target != null)
+          target.glVertexAttribs4ubvNV(a0, a1, a2, a3);
+    }
+
+    public void glVertexAttribs4ubvNV(int a0, int a1, ByteBuffer a2)
+    {
+        stats.count("glVertexAttribs4ubvNV");
+        if (target != null)
+          target.glVertexAttribs4ubvNV(a0, a1, a2);
+    }
+
+    public void glVertexBlendARB(int a0)
+    {
+        stats.count("glVertexBlendARB");
+        if (target != null)
+          target.glVertexBlendARB(a0);
+    }
+
+    public void glVertexBlendEnvfATI(int a0, float a1)
+    {
+        stats.count("glVertexBlendEnvfATI");
+        if (target != null)
+          target.glVertexBlendEnvfATI(a0, a1);
+    }
+
+    public void glVertexBlendEnviATI(int a0, int a1)
+    {
+        stats.count("glVertexBlendEnviATI");
+        if (target != null)
+          target.glVertexBlendEnviATI(a0, a1);
+    }
+
+    public void glVertexPointer(int a0, int a1, int a2, Buffer a3)
+    {
+        stats.count("glVertexPointer");
+        if (target != null)
+          target.glVertexPointer(a0, a1, a2, a3);
+    }
+
+    public void glVertexPointer(int a0, int a1, int a2, long a3)
+    {
+        stats.count("glVertexPointer");
+        if (target != null)
+          target.glVertexPointer(a0, a1, a2, a3);
+    }
+
+    public void glVertexStream1dATI(int a0, double a1)
+    {
+        stats.count("glVertexStream1dATI");
+        if (target != null)
+          target.glVertexStream1dATI(a0, a1);
+    }
+
+    public void glVertexStream1dvATI(int a0, double[] a1, int a2)
+    {
+        stats.count("glVertexStream1dvATI");
+        if (target != null)
+          target.glVertexStream1dvATI(a0, a1, a2);
+    }
+
+    public void glVertexStream1dvATI(int a0, DoubleBuffer a1)
+    {
+        stats.count("glVertexStream1dvATI");
+        if (target != null)
+          target.glVertexStream1dvATI(a0, a1);
+    }
+
+    public void glVertexStream1fATI(int a0, float a1)
+    {
+        stats.count("glVertexStream1fATI");
+        if (target != null)
+          target.glVertexStream1fATI(a0, a1);
+    }
+
+    public void glVertexStream1fvATI(int a0, float[] a1, int a2)
+    {
+        stats.count("glVertexStream1fvATI");
+        if (target != null)
+          target.glVertexStream1fvATI(a0, a1, a2);
+    }
+
+    public void glVertexStream1fvATI(int a0, FloatBuffer a1)
+    {
+        stats.count("glVertexStream1fvATI");
+        if (target != null)
+          target.glVertexStream1fvATI(a0, a1);
+    }
+
+    public void glVertexStream1iATI(int a0, int a1)
+    {
+        stats.count("glVertexStream1iATI");
+        if (target != null)
+          target.glVertexStream1iATI(a0, a1);
+    }
+
+    public void glVertexStream1ivATI(int a0, int[] a1, int a2)
+    {
+        stats.count("glVertexStream1ivATI");
+        if (target != null)
+          target.glVertexStream1ivATI(a0, a1, a2);
+    }
+
+    public void glVertexStream1ivATI(int a0, IntBuffer a1)
+    {
+        stats.count("glVertexStream1ivATI");
+        if (target != null)
+          target.glVertexStream1ivATI(a0, a1);
+    }
+
+    public void glVertexStream1sATI(int a0, short a1)
+    {
+        stats.count("glVertexStream1sATI");
+        if (target != null)
+          target.glVertexStream1sATI(a0, a1);
+    }
+
+    public void glVertexStream1svATI(int a0, short[] a1, int a2)
+    {
+        stats.count("glVertexStream1svATI");
+        if (target != null)
+          target.glVertexStream1svATI(a0, a1, a2);
+    }
+
+    public void glVertexStream1svATI(int a0, ShortBuffer a1)
+    {
+        stats.count("glVertexStream1svATI");
+        if (target != null)
+          target.glVertexStream1svATI(a0, a1);
+    }
+
+    public void glVertexStream2dATI(int a0, double a1, double a2)
+    {
+        stats.count("glVertexStream2dATI");
+        if (target != null)
+          target.glVertexStream2dATI(a0, a1, a2);
+    }
+
+    public void glVertexStream2dvATI(int a0, double[] a1, int a2)
+    {
+        stats.count("glVertexStream2dvATI");
+        if (target != null)
+          target.glVertexStream2dvATI(a0, a1, a2);
+    }
+
+    public void glVertexStream2dvATI(int a0, DoubleBuffer a1)
+    {
+        stats.count("glVertexStream2dvATI");
+        if (target != null)
+          target.glVertexStream2dvATI(a0, a1);
+    }
+
+    public void glVertexStream2fATI(int a0, float a1, float a2)
+    {
+        stats.count("glVertexStream2fATI");
+        if (target != null)
+          target.glVertexStream2fATI(a0, a1, a2);
+    }
+
+    public void glVertexStream2fvATI(int a0, float[] a1, int a2)
+    {
+        stats.count("glVertexStream2fvATI");
+        if (target != null)
+          target.glVertexStream2fvATI(a0, a1, a2);
+    }
+
+    public void glVertexStream2fvATI(int a0, FloatBuffer a1)
+    {
+        stats.count("glVertexStream2fvATI");
+        if (target != null)
+          target.glVertexStream2fvATI(a0, a1);
+    }
+
+    public void glVertexStream2iATI(int a0, int a1, int a2)
+    {
+        stats.count("glVertexStream2iATI");
+        if (target != null)
+          target.glVertexStream2iATI(a0, a1, a2);
+    }
+
+    public void glVertexStream2ivATI(int a0, int[] a1, int a2)
+    {
+        stats.count("glVertexStream2ivATI");
+        if (target != null)
+          target.glVertexStream2ivATI(a0, a1, a2);
+    }
+
+    public void glVertexStream2ivATI(int a0, IntBuffer a1)
+    {
+        stats.count("glVertexStream2ivATI");
+        if (target != null)
+          target.glVertexStream2ivATI(a0, a1);
+    }
+
+    public void glVertexStream2sATI(int a0, short a1, short a2)
+    {
+        stats.count("glVertexStream2sATI");
+        if (target != null)
+          target.glVertexStream2sATI(a0, a1, a2);
+    }
+
+    public void glVertexStream2svATI(int a0, short[] a1, int a2)
+    {
+        stats.count("glVertexStream2svATI");
+        if (target != null)
+          target.glVertexStream2svATI(a0, a1, a2);
+    }
+
+    public void glVertexStream2svATI(int a0, ShortBuffer a1)
+    {
+        stats.count("glVertexStream2svATI");
+        if (target != null)
+          target.glVertexStream2svATI(a0, a1);
+    }
+
+    public void glVertexStream3dATI(int a0, double a1, double a2, double a3)
+    {
+        stats.count("glVertexStream3dATI");
+        if (target != null)
+          target.glVertexStream3dATI(a0, a1, a2, a3);
+    }
+
+    public void glVertexStream3dvATI(int a0, double[] a1, int a2)
+    {
+        stats.count("glVertexStream3dvATI");
+        if (target != null)
+          target.glVertexStream3dvATI(a0, a1, a2);
+    }
+
+    public void glVertexStream3dvATI(int a0, DoubleBuffer a1)
+    {
+        stats.count("glVertexStream3dvATI");
+        if (target != null)
+          target.glVertexStream3dvATI(a0, a1);
+    }
+
+    public void glVertexStream3fATI(int a0, float a1, float a2, float a3)
+    {
+        stats.count("glVertexStream3fATI");
+        if (target != null)
+          target.glVertexStream3fATI(a0, a1, a2, a3);
+    }
+
+    public void glVertexStream3fvATI(int a0, float[] a1, int a2)
+    {
+        stats.count("glVertexStream3fvATI");
+        if (target != null)
+          target.glVertexStream3fvATI(a0, a1, a2);
+    }
+
+    public void glVertexStream3fvATI(int a0, FloatBuffer a1)
+    {
+        stats.count("glVertexStream3fvATI");
+        if (target != null)
+          target.glVertexStream3fvATI(a0, a1);
+    }
+
+    public void glVertexStream3iATI(int a0, int a1, int a2, int a3)
+    {
+        stats.count("glVertexStream3iATI");
+        if (target != null)
+          target.glVertexStream3iATI(a0, a1, a2, a3);
+    }
+
+    public void glVertexStream3ivATI(int a0, int[] a1, int a2)
+    {
+        stats.count("glVertexStream3ivATI");
+        if (target != null)
+          target.glVertexStream3ivATI(a0, a1, a2);
+    }
+
+    public void glVertexStream3ivATI(int a0, IntBuffer a1)
+    {
+        stats.count("glVertexStream3ivATI");
+        if (target != null)
+          target.glVertexStream3ivATI(a0, a1);
+    }
+
+    public void glVertexStream3sATI(int a0, short a1, short a2, short a3)
+    {
+        stats.count("glVertexStream3sATI");
+        if (target != null)
+          target.glVertexStream3sATI(a0, a1, a2, a3);
+    }
+
+    public void glVertexStream3svATI(int a0, short[] a1, int a2)
+    {
+        stats.count("glVertexStream3svATI");
+        if (target != null)
+          target.glVertexStream3svATI(a0, a1, a2);
+    }
+
+    public void glVertexStream3svATI(int a0, ShortBuffer a1)
+    {
+        stats.count("glVertexStream3svATI");
+        if (target != null)
+          target.glVertexStream3svATI(a0, a1);
+    }
+
+    public void glVertexStream4dATI(
+        int a0, double a1, double a2, double a3, double a4)
+    {
+        stats.count("glVertexStream4dATI");
+        if (target != null)
+          target.glVertexStream4dATI(a0, a1, a2, a3, a4);
+    }
+
+    public void glVertexStream4dvATI(int a0, double[] a1, int a2)
+    {
+        stats.count("glVertexStream4dvATI");
+        if (target != null)
+          target.glVertexStream4dvATI(a0, a1, a2);
+    }
+
+    public void glVertexStream4dvATI(int a0, DoubleBuffer a1)
+    {
+        stats.count("glVertexStream4dvATI");
+        if (target != null)
+          target.glVertexStream4dvATI(a0, a1);
+    }
+
+    public void glVertexStream4fATI(
+        int a0, float a1, float a2, float a3, float a4)
+    {
+        stats.count("glVertexStream4fATI");
+        if (target != null)
+          target.glVertexStream4fATI(a0, a1, a2, a3, a4);
+    }
+
+    public void glVertexStream4fvATI(int a0, float[] a1, int a2)
+    {
+        stats.count("glVertexStream4fvATI");
+        if (target != null)
+          target.glVertexStream4fvATI(a0, a1, a2);
+    }
+
+    public void glVertexStream4fvATI(int a0, FloatBuffer a1)
+    {
+        stats.count("glVertexStream4fvATI");
+        if (target != null)
+          target.glVertexStream4fvATI(a0, a1);
+    }
+
+    public void glVertexStream4iATI(int a0, int a1, int a2, int a3, int a4)
+    {
+        stats.count("glVertexStream4iATI");
+        if (target != null)
+          target.glVertexStream4iATI(a0, a1, a2, a3, a4);
+    }
+
+    public void glVertexStream4ivATI(int a0, int[] a1, int a2)
+    {
+        stats.count("glVertexStream4ivATI");
+        if (target != null)
+          target.glVertexStream4ivATI(a0, a1, a2);
+    }
+
+    public void glVertexStream4ivATI(int a0, IntBuffer a1)
+    {
+        stats.count("glVertexStream4ivATI");
+        if (target != null)
+          target.glVertexStream4ivATI(a0, a1);
+    }
+
+    public void glVertexStream4sATI(
+        int a0, short a1, short a2, short a3, short a4)
+    {
+        stats.count("glVertexStream4sATI");
+        if (target != null)
+          target.glVertexStream4sATI(a0, a1, a2, a3, a4);
+    }
+
+    public void glVertexStream4svATI(int a0, short[] a1, int a2)
+    {
+        stats.count("glVertexStream4svATI");
+        if (target != null)
+          target.glVertexStream4svATI(a0, a1, a2);
+    }
+
+    public void glVertexStream4svATI(int a0, ShortBuffer a1)
+    {
+        stats.count("glVertexStream4svATI");
+        if (target != null)
+          target.glVertexStream4svATI(a0, a1);
+    }
+
+    public void glVertexWeightPointerEXT(int a0, int a1, int a2, Buffer a3)
+    {
+        stats.count("glVertexWeightPointerEXT");
+        if (target != null)
+          target.glVertexWeightPointerEXT(a0, a1, a2, a3);
+    }
+
+    public void glVertexWeightPointerEXT(int a0, int a1, int a2, long a3)
+    {
+        stats.count("glVertexWeightPointerEXT");
+        if (target != null)
+          target.glVertexWeightPointerEXT(a0, a1, a2, a3);
+    }
+
+    public void glVertexWeightfEXT(float a0)
+    {
+        stats.count("glVertexWeightfEXT");
+        if (target != null)
+          target.glVertexWeightfEXT(a0);
+    }
+
+    public void glVertexWeightfvEXT(float[] a0, int a1)
+    {
+        stats.count("glVertexWeightfvEXT");
+        if (target != null)
+          target.glVertexWeightfvEXT(a0, a1);
+    }
+
+    public void glVertexWeightfvEXT(FloatBuffer a0)
+    {
+        stats.count("glVertexWeightfvEXT");
+        if (target != null)
+          target.glVertexWeightfvEXT(a0);
+    }
+
+    public void glVertexWeighthNV(short a0)
+    {
+        stats.count("glVertexWeighthNV");
+        if (target != null)
+          target.glVertexWeighthNV(a0);
+    }
+
+    public void glVertexWeighthvNV(short[] a0, int a1)
+    {
+        stats.count("glVertexWeighthvNV");
+        if (target != null)
+          target.glVertexWeighthvNV(a0, a1);
+    }
+
+    public void glVertexWeighthvNV(ShortBuffer a0)
+    {
+        stats.count("glVertexWeighthvNV");
+        if (target != null)
+          target.glVertexWeighthvNV(a0);
+    }
+
+    public void glViewport(int a0, int a1, int a2, int a3)
+    {
+        stats.count("glViewport");
+        if (target != null)
+          target.glViewport(a0, a1, a2, a3);
+    }
+
+    public void glWeightPointerARB(int a0, int a1, int a2, Buffer a3)
+    {
+        stats.count("glWeightPointerARB");
+        if (target != null)
+          target.glWeightPointerARB(a0, a1, a2, a3);
+    }
+
+    public void glWeightPointerARB(int a0, int a1, int a2, long a3)
+    {
+        stats.count("glWeightPointerARB");
+        if (target != null)
+          target.glWeightPointerARB(a0, a1, a2, a3);
+    }
+
+    public void glWeightbvARB(int a0, byte[] a1, int a2)
+    {
+        stats.count("glWeightbvARB");
+        if (target != null)
+          target.glWeightbvARB(a0, a1, a2);
+    }
+
+    public void glWeightbvARB(int a0, ByteBuffer a1)
+    {
+        stats.count("glWeightbvARB");
+        if (target != null)
+          target.glWeightbvARB(a0, a1);
+    }
+
+    public void glWeightdvARB(int a0, double[] a1, int a2)
+    {
+        stats.count("glWeightdvARB");
+        if (target != null)
+          target.glWeightdvARB(a0, a1, a2);
+    }
+
+    public void glWeightdvARB(int a0, DoubleBuffer a1)
+    {
+        stats.count("glWeightdvARB");
+        if (target != null)
+          target.glWeightdvARB(a0, a1);
+    }
+
+    public void glWeightfvARB(int a0, float[] a1, int a2)
+    {
+        stats.count("glWeightfvARB");
+        if (target != null)
+          target.glWeightfvARB(a0, a1, a2);
+    }
+
+    public void glWeightfvARB(int a0, FloatBuffer a1)
+    {
+        stats.count("glWeightfvARB");
+        if (target != null)
+          target.glWeightfvARB(a0, a1);
+    }
+
+    public void glWeightivARB(int a0, int[] a1, int a2)
+    {
+        stats.count("glWeightivARB");
+        if (target != null)
+          target.glWeightivARB(a0, a1, a2);
+    }
+
+    public void glWeightivARB(int a0, IntBuffer a1)
+    {
+        stats.count("glWeightivARB");
+        if (target != null)
+          target.glWeightivARB(a0, a1);
+    }
+
+    public void glWeightsvARB(int a0, short[] a1, int a2)
+    {
+        stats.count("glWeightsvARB");
+        if (target != null)
+          target.glWeightsvARB(a0, a1, a2);
+    }
+
+    public void glWeightsvARB(int a0, ShortBuffer a1)
+    {
+        stats.count("glWeightsvARB");
+        if (target != null)
+          target.glWeightsvARB(a0, a1);
+    }
+
+    public void glWeightubvARB(int a0, byte[] a1, int a2)
+    {
+        stats.count("glWeightubvARB");
+        if (target != null)
+          target.glWeightubvARB(a0, a1, a2);
+    }
+
+    public void glWeightubvARB(int a0, ByteBuffer a1)
+    {
+        stats.count("glWeightubvARB");
+        if (target != null)
+          target.glWeightubvARB(a0, a1);
+    }
+
+    public void glWeightuivARB(int a0, int[] a1, int a2)
+    {
+        stats.count("glWeightuivARB");
+        if (target != null)
+          target.glWeightuivARB(a0, a1, a2);
+    }
+
+    public void glWeightuivARB(int a0, IntBuffer a1)
+    {
+        stats.count("glWeightuivARB");
+        if (target != null)
+          target.glWeightuivARB(a0, a1);
+    }
+
+    public void glWeightusvARB(int a0, short[] a1, int a2)
+    {
+        stats.count("glWeightusvARB");
+        if (target != null)
+          target.glWeightusvARB(a0, a1, a2);
+    }
+
+    public void glWeightusvARB(int a0, ShortBuffer a1)
+    {
+        stats.count("glWeightusvARB");
+        if (target != null)
+          target.glWeightusvARB(a0, a1);
+    }
+
+    public void glWindowPos2d(double a0, double a1)
+    {
+        stats.count("glWindowPos2d");
+        if (target != null)
+          target.glWindowPos2d(a0, a1);
+    }
+
+    public void glWindowPos2dARB(double a0, double a1)
+    {
+        stats.count("glWindowPos2dARB");
+        if (target != null)
+          target.glWindowPos2dARB(a0, a1);
+    }
+
+    public void glWindowPos2dMESA(double a0, double a1)
+    {
+        stats.count("glWindowPos2dMESA");
+        if (target != null)
+          target.glWindowPos2dMESA(a0, a1);
+    }
+
+    public void glWindowPos2dv(double[] a0, int a1)
+    {
+        stats.count("glWindowPos2dv");
+        if (target != null)
+          target.glWindowPos2dv(a0, a1);
+    }
+
+    public void glWindowPos2dv(DoubleBuffer a0)
+    {
+        stats.count("glWindowPos2dv");
+        if (target != null)
+          target.glWindowPos2dv(a0);
+    }
+
+    public void glWindowPos2dvARB(double[] a0, int a1)
+    {
+        stats.count("glWindowPos2dvARB");
+        if (target != null)
+          target.glWindowPos2dvARB(a0, a1);
+    }
+
+    public void glWindowPos2dvARB(DoubleBuffer a0)
+    {
+        stats.count("glWindowPos2dvARB");
+        if (target != null)
+          target.glWindowPos2dvARB(a0);
+    }
+
+    public void glWindowPos2dvMESA(double[] a0, int a1)
+    {
+        stats.count("glWindowPos2dvMESA");
+        if (target != null)
+          target.glWindowPos2dvMESA(a0, a1);
+    }
+
+    public void glWindowPos2dvMESA(DoubleBuffer a0)
+    {
+        stats.count("glWindowPos2dvMESA");
+        if (target != null)
+          target.glWindowPos2dvMESA(a0);
+    }
+
+    public void glWindowPos2f(float a0, float a1)
+    {
+        stats.count("glWindowPos2f");
+        if (target != null)
+          target.glWindowPos2f(a0, a1);
+    }
+
+    public void glWindowPos2fARB(float a0, float a1)
+    {
+        stats.count("glWindowPos2fARB");
+        if (target != null)
+          target.glWindowPos2fARB(a0, a1);
+    }
+
+    public void glWindowPos2fMESA(float a0, float a1)
+    {
+        stats.count("glWindowPos2fMESA");
+        if (target != null)
+          target.glWindowPos2fMESA(a0, a1);
+    }
+
+    public void glWindowPos2fv(float[] a0, int a1)
+    {
+        stats.count("glWindowPos2fv");
+        if (target != null)
+          target.glWindowPos2fv(a0, a1);
+    }
+
+    public void glWindowPos2fv(FloatBuffer a0)
+    {
+        stats.count("glWindowPos2fv");
+        if (target != null)
+          target.glWindowPos2fv(a0);
+    }
+
+    public void glWindowPos2fvARB(float[] a0, int a1)
+    {
+        stats.count("glWindowPos2fvARB");
+        if (target != null)
+          target.glWindowPos2fvARB(a0, a1);
+    }
+
+    public void glWindowPos2fvARB(FloatBuffer a0)
+    {
+        stats.count("glWindowPos2fvARB");
+        if (target != null)
+          target.glWindowPos2fvARB(a0);
+    }
+
+    public void glWindowPos2fvMESA(float[] a0, int a1)
+    {
+        stats.count("glWindowPos2fvMESA");
+        if (target != null)
+          target.glWindowPos2fvMESA(a0, a1);
+    }
+
+    public void glWindowPos2fvMESA(FloatBuffer a0)
+    {
+        stats.count("glWindowPos2fvMESA");
+        if (target != null)
+          target.glWindowPos2fvMESA(a0);
+    }
+
+    public void glWindowPos2i(int a0, int a1)
+    {
+        stats.count("glWindowPos2i");
+        if (target != null)
+          target.glWindowPos2i(a0, a1);
+    }
+
+    public void glWindowPos2iARB(int a0, int a1)
+    {
+        stats.count("glWindowPos2iARB");
+        if (target != null)
+          target.glWindowPos2iARB(a0, a1);
+    }
+
+    public void glWindowPos2iMESA(int a0, int a1)
+    {
+        stats.count("glWindowPos2iMESA");
+        if (target != null)
+          target.glWindowPos2iMESA(a0, a1);
+    }
+
+    public void glWindowPos2iv(int[] a0, int a1)
+    {
+        stats.count("glWindowPos2iv");
+        if (target != null)
+          target.glWindowPos2iv(a0, a1);
+    }
+
+    public void glWindowPos2iv(IntBuffer a0)
+    {
+        stats.count("glWindowPos2iv");
+        if (target != null)
+          target.glWindowPos2iv(a0);
+    }
+
+    public void glWindowPos2ivARB(int[] a0, int a1)
+    {
+        stats.count("glWindowPos2ivARB");
+        if (target != null)
+          target.glWindowPos2ivARB(a0, a1);
+    }
+
+    public void glWindowPos2ivARB(IntBuffer a0)
+    {
+        stats.count("glWindowPos2ivARB");
+        if (target != null)
+          target.glWindowPos2ivARB(a0);
+    }
+
+    public void glWindowPos2ivMESA(int[] a0, int a1)
+    {
+        stats.count("glWindowPos2ivMESA");
+        if (target != null)
+          target.glWindowPos2ivMESA(a0, a1);
+    }
+
+    public void glWindowPos2ivMESA(IntBuffer a0)
+    {
+        stats.count("glWindowPos2ivMESA");
+        if (target != null)
+          target.glWindowPos2ivMESA(a0);
+    }
+
+    public void glWindowPos2s(short a0, short a1)
+    {
+        stats.count("glWindowPos2s");
+        if (target != null)
+          target.glWindowPos2s(a0, a1);
+    }
+
+    public void glWindowPos2sARB(short a0, short a1)
+    {
+        stats.count("glWindowPos2sARB");
+        if (target != null)
+          target.glWindowPos2sARB(a0, a1);
+    }
+
+    public void glWindowPos2sMESA(short a0, short a1)
+    {
+        stats.count("glWindowPos2sMESA");
+        if (target != null)
+          target.glWindowPos2sMESA(a0, a1);
+    }
+
+    public void glWindowPos2sv(short[] a0, int a1)
+    {
+        stats.count("glWindowPos2sv");
+        if (target != null)
+          target.glWindowPos2sv(a0, a1);
+    }
+
+    public void glWindowPos2sv(ShortBuffer a0)
+    {
+        stats.count("glWindowPos2sv");
+        if (target != null)
+          target.glWindowPos2sv(a0);
+    }
+
+    public void glWindowPos2svARB(short[] a0, int a1)
+    {
+        stats.count("glWindowPos2svARB");
+        if (target != null)
+          target.glWindowPos2svARB(a0, a1);
+    }
+
+    public void glWindowPos2svARB(ShortBuffer a0)
+    {
+        stats.count("glWindowPos2svARB");
+        if (target != null)
+          target.glWindowPos2svARB(a0);
+    }
+
+    public void glWindowPos2svMESA(short[] a0, int a1)
+    {
+        stats.count("glWindowPos2svMESA");
+        if (target != null)
+          target.glWindowPos2svMESA(a0, a1);
+    }
+
+    public void glWindowPos2svMESA(ShortBuffer a0)
+    {
+        stats.count("glWindowPos2svMESA");
+        if (target != null)
+          target.glWindowPos2svMESA(a0);
+    }
+
+    public void glWindowPos3d(double a0, double a1, double a2)
+    {
+        stats.count("glWindowPos3d");
+        if (target != null)
+          target.glWindowPos3d(a0, a1, a2);
+    }
+
+    public void glWindowPos3dARB(double a0, double a1, double a2)
+    {
+        stats.count("glWindowPos3dARB");
+        if (target != null)
+          target.glWindowPos3dARB(a0, a1, a2);
+    }
+
+    public void glWindowPos3dMESA(double a0, double a1, double a2)
+    {
+        stats.count("glWindowPos3dMESA");
+        if (target != null)
+          target.glWindowPos3dMESA(a0, a1, a2);
+    }
+
+    public void glWindowPos3dv(double[] a0, int a1)
+    {
+        stats.count("glWindowPos3dv");
+        if (target != null)
+          target.glWindowPos3dv(a0, a1);
+    }
+
+    public void glWindowPos3dv(DoubleBuffer a0)
+    {
+        stats.count("glWindowPos3dv");
+        if (target != null)
+          target.glWindowPos3dv(a0);
+    }
+
+    public void glWindowPos3dvARB(double[] a0, int a1)
+    {
+        stats.count("glWindowPos3dvARB");
+        if (target != null)
+          target.glWindowPos3dvARB(a0, a1);
+    }
+
+    public void glWindowPos3dvARB(DoubleBuffer a0)
+    {
+        stats.count("glWindowPos3dvARB");
+        if (target != null)
+          target.glWindowPos3dvARB(a0);
+    }
+
+    public void glWindowPos3dvMESA(double[] a0, int a1)
+    {
+        stats.count("glWindowPos3dvMESA");
+        if (target != null)
+          target.glWindowPos3dvMESA(a0, a1);
+    }
+
+    public void glWindowPos3dvMESA(DoubleBuffer a0)
+    {
+        stats.count("glWindowPos3dvMESA");
+        if (target != null)
+          target.glWindowPos3dvMESA(a0);
+    }
+
+    public void glWindowPos3f(float a0, float a1, float a2)
+    {
+        stats.count("glWindowPos3f");
+        if (target != null)
+          target.glWindowPos3f(a0, a1, a2);
+    }
+
+    public void glWindowPos3fARB(float a0, float a1, float a2)
+    {
+        stats.count("glWindowPos3fARB");
+        if (target != null)
+          target.glWindowPos3fARB(a0, a1, a2);
+    }
+
+    public void glWindowPos3fMESA(float a0, float a1, float a2)
+    {
+        stats.count("glWindowPos3fMESA");
+        if (target != null)
+          target.glWindowPos3fMESA(a0, a1, a2);
+    }
+
+    public void glWindowPos3fv(float[] a0, int a1)
+    {
+        stats.count("glWindowPos3fv");
+        if (target != null)
+          target.glWindowPos3fv(a0, a1);
+    }
+
+    public void glWindowPos3fv(FloatBuffer a0)
+    {
+        stats.count("glWindowPos3fv");
+        if (target != null)
+          target.glWindowPos3fv(a0);
+    }
+
+    public void glWindowPos3fvARB(float[] a0, int a1)
+    {
+        stats.count("glWindowPos3fvARB");
+        if (target != null)
+          target.glWindowPos3fvARB(a0, a1);
+    }
+
+    public void glWindowPos3fvARB(FloatBuffer a0)
+    {
+        stats.count("glWindowPos3fvARB");
+        if (target != null)
+          target.glWindowPos3fvARB(a0);
+    }
+
+    public void glWindowPos3fvMESA(float[] a0, int a1)
+    {
+        stats.count("glWindowPos3fvMESA");
+        if (target != null)
+          target.glWindowPos3fvMESA(a0, a1);
+    }
+
+    public void glWindowPos3fvMESA(FloatBuffer a0)
+    {
+        stats.count("glWindowPos3fvMESA");
+        if (target != null)
+          target.glWindowPos3fvMESA(a0);
+    }
+
+    public void glWindowPos3i(int a0, int a1, int a2)
+    {
+        stats.count("glWindowPos3i");
+        if (target != null)
+          target.glWindowPos3i(a0, a1, a2);
+    }
+
+    public void glWindowPos3iARB(int a0, int a1, int a2)
+    {
+        stats.count("glWindowPos3iARB");
+        if (target != null)
+          target.glWindowPos3iARB(a0, a1, a2);
+    }
+
+    public void glWindowPos3iMESA(int a0, int a1, int a2)
+    {
+        stats.count("glWindowPos3iMESA");
+        if (target != null)
+          target.glWindowPos3iMESA(a0, a1, a2);
+    }
+
+    public void glWindowPos3iv(int[] a0, int a1)
+    {
+        stats.count("glWindowPos3iv");
+        if (target != null)
+          target.glWindowPos3iv(a0, a1);
+    }
+
+    public void glWindowPos3iv(IntBuffer a0)
+    {
+        stats.count("glWindowPos3iv");
+        if (target != null)
+          target.glWindowPos3iv(a0);
+    }
+
+    public void glWindowPos3ivARB(int[] a0, int a1)
+    {
+        stats.count("glWindowPos3ivARB");
+        if (target != null)
+          target.glWindowPos3ivARB(a0, a1);
+    }
+
+    public void glWindowPos3ivARB(IntBuffer a0)
+    {
+        stats.count("glWindowPos3ivARB");
+        if (target != null)
+          target.glWindowPos3ivARB(a0);
+    }
+
+    public void glWindowPos3ivMESA(int[] a0, int a1)
+    {
+        stats.count("glWindowPos3ivMESA");
+        if (target != null)
+          target.glWindowPos3ivMESA(a0, a1);
+    }
+
+    public void glWindowPos3ivMESA(IntBuffer a0)
+    {
+        stats.count("glWindowPos3ivMESA");
+        if (target != null)
+          target.glWindowPos3ivMESA(a0);
+    }
+
+    public void glWindowPos3s(short a0, short a1, short a2)
+    {
+        stats.count("glWindowPos3s");
+        if (target != null)
+          target.glWindowPos3s(a0, a1, a2);
+    }
+
+    public void glWindowPos3sARB(short a0, short a1, short a2)
+    {
+        stats.count("glWindowPos3sARB");
+        if (target != null)
+          target.glWindowPos3sARB(a0, a1, a2);
+    }
+
+    public void glWindowPos3sMESA(short a0, short a1, short a2)
+    {
+        stats.count("glWindowPos3sMESA");
+        if (target != null)
+          target.glWindowPos3sMESA(a0, a1, a2);
+    }
+
+    public void glWindowPos3sv(short[] a0, int a1)
+    {
+        stats.count("glWindowPos3sv");
+        if (target != null)
+          target.glWindowPos3sv(a0, a1);
+    }
+
+    public void glWindowPos3sv(ShortBuffer a0)
+    {
+        stats.count("glWindowPos3sv");
+        if (target != null)
+          target.glWindowPos3sv(a0);
+    }
+
+    public void glWindowPos3svARB(short[] a0, int a1)
+    {
+        stats.count("glWindowPos3svARB");
+        if (target != null)
+          target.glWindowPos3svARB(a0, a1);
+    }
+
+    public void glWindowPos3svARB(ShortBuffer a0)
+    {
+        stats.count("glWindowPos3svARB");
+        if (target != null)
+          target.glWindowPos3svARB(a0);
+    }
+
+    public void glWindowPos3svMESA(short[] a0, int a1)
+    {
+        stats.count("glWindowPos3svMESA");
+        if (target != null)
+          target.glWindowPos3svMESA(a0, a1);
+    }
+
+    public void glWindowPos3svMESA(ShortBuffer a0)
+    {
+        stats.count("glWindowPos3svMESA");
+        if (target != null)
+          target.glWindowPos3svMESA(a0);
+    }
+
+    public void glWindowPos4dMESA(double a0, double a1, double a2, double a3)
+    {
+        stats.count("glWindowPos4dMESA");
+        if (target != null)
+          target.glWindowPos4dMESA(a0, a1, a2, a3);
+    }
+
+    public void glWindowPos4dvMESA(double[] a0, int a1)
+    {
+        stats.count("glWindowPos4dvMESA");
+        if (target != null)
+          target.glWindowPos4dvMESA(a0, a1);
+    }
+
+    public void glWindowPos4dvMESA(DoubleBuffer a0)
+    {
+        stats.count("glWindowPos4dvMESA");
+        if (target != null)
+          target.glWindowPos4dvMESA(a0);
+    }
+
+    public void glWindowPos4fMESA(float a0, float a1, float a2, float a3)
+    {
+        stats.count("glWindowPos4fMESA");
+        if (target != null)
+          target.glWindowPos4fMESA(a0, a1, a2, a3);
+    }
+
+    public void glWindowPos4fvMESA(float[] a0, int a1)
+    {
+        stats.count("glWindowPos4fvMESA");
+        if (target != null)
+          target.glWindowPos4fvMESA(a0, a1);
+    }
+
+    public void glWindowPos4fvMESA(FloatBuffer a0)
+    {
+        stats.count("glWindowPos4fvMESA");
+        if (target != null)
+          target.glWindowPos4fvMESA(a0);
+    }
+
+    public void glWindowPos4iMESA(int a0, int a1, int a2, int a3)
+    {
+        stats.count("glWindowPos4iMESA");
+        if (target != null)
+          target.glWindowPos4iMESA(a0, a1, a2, a3);
+    }
+
+    public void glWindowPos4ivMESA(int[] a0, int a1)
+    {
+        stats.count("glWindowPos4ivMESA");
+        if (target != null)
+          target.glWindowPos4ivMESA(a0, a1);
+    }
+
+    public void glWindowPos4ivMESA(IntBuffer a0)
+    {
+        stats.count("glWindowPos4ivMESA");
+        if (target != null)
+          target.glWindowPos4ivMESA(a0);
+    }
+
+    public void glWindowPos4sMESA(short a0, short a1, short a2, short a3)
+    {
+        stats.count("glWindowPos4sMESA");
+        if (target != null)
+          target.glWindowPos4sMESA(a0, a1, a2, a3);
+    }
+
+    public void glWindowPos4svMESA(short[] a0, int a1)
+    {
+        stats.count("glWindowPos4svMESA");
+        if (target != null)
+          target.glWindowPos4svMESA(a0, a1);
+    }
+
+    public void glWindowPos4svMESA(ShortBuffer a0)
+    {
+        stats.count("glWindowPos4svMESA");
+        if (target != null)
+          target.glWindowPos4svMESA(a0);
+    }
+
+    public void glWriteMaskEXT(int a0, int a1, int a2, int a3, int a4, int a5)
+    {
+        stats.count("glWriteMaskEXT");
+        if (target != null)
+          target.glWriteMaskEXT(a0, a1, a2, a3, a4, a5);
+    }
+
+    public boolean isExtensionAvailable(String a0)
+    {
+        stats.count("isExtensionAvailable");
+        return (target != null) ? target.isExtensionAvailable(a0) : false;
+    }
+
+    public boolean isFunctionAvailable(String a0)
+    {
+        stats.count("isFunctionAvailable");
+        return (target != null) ? target.isFunctionAvailable(a0) : false;
+    }
+
+    public void setSwapInterval(int a0)
+    {
+        stats.count("setSwapInterval");
+        if (target != null)
+          target.setSwapInterval(a0);
+    }
+}
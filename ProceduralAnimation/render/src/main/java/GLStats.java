@@ -0,0 +1,170 @@
+/* class GLStats
+ * Per-frame counters of the OpenGL calls issued while drawing the scene,
+ * filled in by a CountingGL wrapper.  Counts are kept by category
+ * (vertices, begin/end pairs, matrix pushes, display list calls and state
+ * enables) along with the number of primitives those vertices produced.
+ * Finished frames can be appended to a CSV file, one row per frame.
+ */
+
+import java.io.*;
+
+import javax.media.opengl.GL;
+
+public class GLStats
+{
+    // Counters for the frame currently being drawn
+    long calls, vertices, begins, primitives, pushes, callLists, enables;
+
+    // Counters for the last completed frame (shown in the overlay)
+    long lastCalls, lastVertices, lastBegins, lastPrimitives,
+        lastPushes, lastCallLists, lastEnables;
+
+    // Number of completed frames
+    int frames = 0;
+
+    // Primitive type and vertex count of the current glBegin()
+    private int mode = -1;
+    private int modeVertices = 0;
+
+    // CSV output (null if not writing)
+    private PrintWriter csv = null;
+
+    // ---------------------------------------------------------------
+
+    public GLStats()
+    {
+    }
+
+    // Write a row of counts to the file csvName after every frame
+    public GLStats(String csvName) throws IOException
+    {
+        csv = new PrintWriter(new BufferedWriter(new FileWriter(csvName)));
+        csv.println("frame,calls,vertices,begins,primitives," +
+                    "pushes,calllists,enables");
+    }
+
+    // ---------------------------------------------------------------
+    // Frame boundaries
+
+    // Clear counters at the start of a frame
+    public void beginFrame()
+    {
+        calls = vertices = begins = primitives = 0;
+        pushes = callLists = enables = 0;
+        mode = -1;
+        modeVertices = 0;
+    }
+
+    // Latch counters at the end of a frame (and write them out)
+    public void endFrame()
+    {
+        lastCalls = calls;
+        lastVertices = vertices;
+        lastBegins = begins;
+        lastPrimitives = primitives;
+        lastPushes = pushes;
+        lastCallLists = callLists;
+        lastEnables = enables;
+
+        if (csv != null) {
+            csv.println(frames + "," + calls + "," + vertices + "," +
+                        begins + "," + primitives + "," + pushes + "," +
+                        callLists + "," + enables);
+            csv.flush();
+        }
+
+        frames++;
+    }
+
+    // Stop writing the CSV file
+    public void close()
+    {
+        if (csv != null) {
+            csv.close();
+            csv = null;
+        }
+    }
+
+    // One-line summary of the last completed frame
+    public String summary()
+    {
+        StringBuilder sb = new StringBuilder();
+        appendSummary(sb);
+        return sb.toString();
+    }
+
+    // Append the summary to sb (without allocating if sb has room)
+    public void appendSummary(StringBuilder sb)
+    {
+        sb.append(lastCalls).append(" calls  ")
+            .append(lastVertices).append(" verts  ")
+            .append(lastPrimitives).append(" prims  ")
+            .append(lastCallLists).append(" lists  ")
+            .append(lastPushes).append(" push  ")
+            .append(lastEnables).append(" enable");
+    }
+
+    // ---------------------------------------------------------------
+    // Methods called by CountingGL for each intercepted call
+
+    // Record a call to the GL method with the given name
+    void count(String name)
+    {
+        calls++;
+
+        if (name.startsWith("glVertex")) {
+            vertices++;
+            modeVertices++;
+        } else if (name.equals("glPushMatrix")) {
+            pushes++;
+        } else if (name.startsWith("glCallList")) {
+            callLists++;
+        } else if (name.equals("glEnable") || name.equals("glDisable")) {
+            enables++;
+        }
+    }
+
+    // Record the start of a primitive of type m
+    void begin(int m)
+    {
+        begins++;
+        mode = m;
+        modeVertices = 0;
+    }
+
+    // Record the end of a primitive, counting what its vertices made
+    void end()
+    {
+        primitives += primitiveCount(mode, modeVertices);
+        mode = -1;
+        modeVertices = 0;
+    }
+
+    // Number of primitives produced by n vertices of type m
+    static int primitiveCount(int m, int n)
+    {
+        switch (m) {
+          case GL.GL_POINTS:
+            return n;
+          case GL.GL_LINES:
+            return n / 2;
+          case GL.GL_LINE_STRIP:
+            return Math.max(n - 1, 0);
+          case GL.GL_LINE_LOOP:
+            return n;
+          case GL.GL_TRIANGLES:
+            return n / 3;
+          case GL.GL_TRIANGLE_STRIP:
+          case GL.GL_TRIANGLE_FAN:
+            return Math.max(n - 2, 0);
+          case GL.GL_QUADS:
+            return n / 4;
+          case GL.GL_QUAD_STRIP:
+            return Math.max((n - 2) / 2, 0);
+          case GL.GL_POLYGON:
+            return (n >= 3) ? 1 : 0;
+          default:
+            return 0;
+        }
+    }
+}
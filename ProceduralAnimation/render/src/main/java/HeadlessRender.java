@@ -0,0 +1,218 @@
+/* class HeadlessRender
+ * Renders frames of the animation without a window or GPU, using the
+ * software renderer, and writes them out as PPM files using the same
+ * naming as the -dump option of Main.
+ */
+
+import java.io.*;
+import java.nio.*;
+
+import javax.media.opengl.GL;
+
+import jdk.jfr.Recording;
+
+public class HeadlessRender
+{
+    // Scene being rendered, and the renderers
+    Scene scene;
+    SceneRenderer renderer;
+    SoftwareGL soft;
+    GL gl;
+
+    // Metrics being served (null if none)
+    MetricsServer metrics = null;
+
+    // Construct a renderer of frames of scene at the given size
+    public HeadlessRender(Scene sc, int width, int height, int threads)
+    {
+        scene = sc;
+        renderer = new SceneRenderer(sc);
+        soft = new SoftwareGL(width, height, threads);
+        gl = soft.gl();
+
+        // Frame-by-frame animation, without the text overlay (which
+        // needs GLUT)
+        scene.setFrameByFrameClock();
+        scene.drawAnimation.set(true);
+        scene.drawTime.set(false);
+
+        renderer.glInit(gl);
+        renderer.projection(gl, width, height);
+        renderer.objs = new Objs(gl, 16, true);
+    }
+
+    // Draw the current frame and return its pixels (RGB bytes, bottom
+    // row first); the frame number is not advanced
+    public byte[] renderFrame()
+    {
+        gl.glClear(GL.GL_COLOR_BUFFER_BIT | GL.GL_DEPTH_BUFFER_BIT);
+        renderer.draw(gl, null);
+
+        long start = System.nanoTime();
+        int width = soft.getWidth(), height = soft.getHeight();
+        byte[] pixels = new byte[width*height*3];
+        gl.glReadPixels(0, 0, width, height, GL.GL_RGB, GL.GL_UNSIGNED_BYTE,
+                        ByteBuffer.wrap(pixels));
+        scene.stageStats.record(StageStats.READBACK, start);
+        return pixels;
+    }
+
+    // Render the current frame to its dump file, and go to the next frame
+    public void dumpFrame(String prefix) throws IOException
+    {
+        byte[] pixels = renderFrame();
+
+        long start = System.nanoTime();
+        FrameDump.writePPM(FrameDump.frameFilename(prefix,
+                                                   scene.getFrameNumber()),
+                           pixels, soft.getWidth(), soft.getHeight());
+        scene.stageStats.record(StageStats.WRITE, start);
+        if (metrics != null) {
+            metrics.frameWritten(FrameDump.sizePPM(soft.getWidth(),
+                                                   soft.getHeight()), 0);
+        }
+
+        scene.incrementFrameNumber();
+    }
+
+    public void dispose()
+    {
+        soft.dispose();
+    }
+
+    // ---------------------------------------------------------------
+
+    public static void main(String args[])
+    {
+        long seed = -1;
+        double speed = 1;
+        int width = 320, height = 240;
+        int frames = 300;
+        int threads = Runtime.getRuntime().availableProcessors();
+        int start = 0, every = 1000;
+        String checkpointDir = null;
+        String recordFile = null, playbackFile = null;
+        SceneOptions options = new SceneOptions();
+        boolean timing = false;
+        String jfrFile = null;
+        int metricsPort = -1;
+        String dumpPrefix = "/tmp/" + System.getProperty("user.name", "dump") +
+            "/image";
+
+        // Parse command-line arguments
+        try {
+            for (int i = 0; i < args.length; i++) {
+                int used = options.parse(args, i);
+                if (used > 0) {
+                    i += used - 1;
+                } else if (args[i].equals("-seed")) {
+                    seed = Long.parseLong(args[++i]);
+                } else if (args[i].equals("-speed")) {
+                    speed = Double.parseDouble(args[++i]);
+                } else if (args[i].equals("-size")) {
+                    String[] wh = args[++i].split("x");
+                    width = Integer.parseInt(wh[0]);
+                    height = Integer.parseInt(wh[1]);
+                } else if (args[i].equals("-frames")) {
+                    frames = Integer.parseInt(args[++i]);
+                } else if (args[i].equals("-threads")) {
+                    threads = Integer.parseInt(args[++i]);
+                } else if (args[i].equals("-dump")) {
+                    dumpPrefix = args[++i];
+                } else if (args[i].equals("-start")) {
+                    start = Integer.parseInt(args[++i]);
+                } else if (args[i].equals("-checkpoints")) {
+                    checkpointDir = args[++i];
+                } else if (args[i].equals("-every")) {
+                    every = Integer.parseInt(args[++i]);
+                } else if (args[i].equals("-timing")) {
+                    timing = true;
+                } else if (args[i].equals("-jfr")) {
+                    jfrFile = args[++i];
+                } else if (args[i].equals("-metrics")) {
+                    metricsPort = Integer.parseInt(args[++i]);
+                } else if (args[i].equals("-record")) {
+                    recordFile = args[++i];
+                } else if (args[i].equals("-playback")) {
+                    playbackFile = args[++i];
+                } else {
+                    System.out.println("Usage: java HeadlessRender [-seed #]" +
+                                       " [-speed #] [-size WxH]" +
+                                       " [-frames #] [-threads #]" +
+                                       " [-dump prefix]" +
+                                       " [-start frame]" +
+                                       " [-checkpoints dir] [-every #]" +
+                                       SceneOptions.usage +
+                                       " [-record log] [-playback log]" +
+                                       " [-timing] [-jfr file]" +
+                                       " [-metrics port]");
+                    throw new Exception("Illegal argument: " + args[i]);
+                }
+            }
+        } catch (Exception e) {
+            System.out.println("Error: " + e.getMessage());
+            System.exit(1);
+        }
+
+        try {
+            Recording recording = null;
+            if (jfrFile != null)
+              recording = FlightRecording.start(jfrFile);
+
+            Scene scene = new Scene(seed, false, speed, dumpPrefix);
+            scene.resetClock();
+            options.configure(scene, threads);
+
+            if (recordFile != null)
+              scene.recorder = new TrajectoryRecorder(recordFile, scene);
+            if (playbackFile != null)
+              scene.playback = new TrajectoryLog(playbackFile);
+
+            HeadlessRender r = new HeadlessRender(scene, width, height,
+                                                  threads);
+            if (timing)
+              scene.stageStats.register(scene.seed);
+            if (metricsPort >= 0) {
+                r.metrics = new MetricsServer(metricsPort);
+                r.metrics.setScene(scene);
+            }
+
+            // Go to the first frame (from the nearest checkpoint, if
+            // any), checkpointing as frames are rendered
+            Checkpoints checkpoints = new Checkpoints(every, checkpointDir);
+            checkpoints.seek(scene, start);
+
+            for (int f = 0; f < frames; f++) {
+                r.dumpFrame(dumpPrefix);
+                checkpoints.frameDone(scene);
+            }
+            r.dispose();
+            FlightRecording.close(recording);
+            if (r.metrics != null)
+              r.metrics.stop();
+
+            if (scene.recorder != null)
+              scene.recorder.close();
+
+            if (scene.world != null) {
+                ChunkedWorld w = scene.world;
+                System.out.println("Chunks: " + w.generated + " generated, " +
+                                   w.evicted + " evicted, " +
+                                   w.cachedChunks() + " cached (" +
+                                   (w.cachedBytes() >> 10) + "K)");
+            }
+            if (scene.terrain != null) {
+                System.out.println("Terrain: " + scene.terrain.tiles +
+                                   " tiles made, " + r.renderer.terrainVertices +
+                                   " vertices drawn in the last frame");
+            }
+            if (timing) {
+                System.out.print("Stage timing:\n" +
+                                 scene.stageStats.getSummary());
+            }
+        } catch (Exception e) {
+            e.printStackTrace();
+            System.exit(1);
+        }
+    }
+}
@@ -10,29 +10,26 @@ import java.awt.event.*;
 import javax.swing.*;
 import javax.swing.event.*;
 
-public class Main extends JFrame
+public class Main extends JFrame implements ParameterView
 {
     // Swing OpenGL component classes
-    static WorldView worldDraw;
+    WorldView worldDraw;
 
     // Viewed scene
-    static Scene scene;
+    Scene scene;
+
+    // Progress of rebuilding the world (shown while it's under way)
+    JProgressBar rebuildProgress;
 
     // Method to refresh entire display
-    public static void refresh()
+    public void refresh()
     {
-        if (!SwingUtilities.isEventDispatchThread())
-          return;
-
         // If animation on, let that take care of the redraw...
-        if (worldDraw.isAnimated())
-          return;
-
-        worldDraw.display();
+        worldDraw.refresh();
     }
 
     // Method to recompute scene
-    public static void recompute()
+    public void recompute()
     {
         if (!SwingUtilities.isEventDispatchThread())
           return;
@@ -112,9 +109,13 @@ public class Main extends JFrame
         }
     }
 
-    // Main program -- create and start GUI
-    public Main()
+    // Main program -- create and start GUI showing sc (glStats is null
+    // if not instrumenting)
+    public Main(Scene sc, GLStats glStats)
     {
+        scene = sc;
+        scene.paramContext.window = this;
+
         // Create drawing area for scene
         if (scene.dumpPrefix == null) {
           worldDraw = new WorldView(this, scene);
@@ -123,6 +124,7 @@ public class Main extends JFrame
           worldDraw = new WorldView(this, scene);
           worldDraw.setSize(320, 240);
         }
+        worldDraw.renderer.glStats = glStats;
 
         // Create menubar
         JMenuBar menubar = new JMenuBar();
@@ -138,31 +140,57 @@ public class Main extends JFrame
     		{
     			public void actionPerformed(ActionEvent e)
     			{
-    				Parameter.blockAction(true);
+    				scene.paramContext.blockAction(true);
     				
     				worldDraw.takeScreenShot();
     				
-    				Parameter.blockAction(false);
-    				Parameter.onUserAction();
+    				scene.paramContext.blockAction(false);
+    				scene.paramContext.onUserAction();
     			}
     		});
         
-        // Exit when quit selected
-        JMenuItem resetm = menu.add("Reset");
+        // Rebuild the world when reset selected (in the background,
+        // showing progress until the new world is swapped in)
+        final JMenuItem resetm = menu.add("Reset");
         resetm.addActionListener(
             new ActionListener()
             {
                 public void actionPerformed(ActionEvent e)
                 {
-                    Parameter.blockAction(true);
-
-                    scene.build();
-                    scene.resetClock();
-                    scene.reset();
-
-                    Parameter.blockAction(false);
-
-                    Parameter.onUserAction();
+                    final WorldRebuild rebuild = scene.rebuild();
+
+                    resetm.setEnabled(false);
+                    rebuildProgress.setValue(0);
+                    rebuildProgress.setVisible(true);
+
+                    final javax.swing.Timer poll = new javax.swing.Timer(100, null);
+                    poll.addActionListener(new ActionListener()
+                        {
+                            public void actionPerformed(ActionEvent e)
+                            {
+                                rebuildProgress.setValue(
+                                    (int)Math.round(100 * rebuild.progress()));
+
+                                if (!rebuild.isSwapped()) {
+                                    // Draw a frame (to swap it in) if
+                                    // the animation won't
+                                    if (rebuild.isBuilt())
+                                      worldDraw.refresh();
+                                    return;
+                                }
+
+                                poll.stop();
+                                rebuildProgress.setVisible(false);
+                                resetm.setEnabled(true);
+
+                                scene.paramContext.blockAction(true);
+                                scene.reset();
+                                scene.paramContext.blockAction(false);
+
+                                scene.paramContext.onUserAction();
+                            }
+                        });
+                    poll.start();
                 }
             });
 
@@ -228,6 +256,16 @@ public class Main extends JFrame
                      scene.getOptions(), 
                      "Scene parameters");
 
+        // Rebuild progress (below the controls)
+        rebuildProgress = new JProgressBar(0, 100);
+        rebuildProgress.setStringPainted(true);
+        rebuildProgress.setString("Building world");
+        rebuildProgress.setVisible(false);
+        ccon.weighty = 0.0;
+        ccon.fill = GridBagConstraints.HORIZONTAL;
+        clayout.setConstraints(rebuildProgress, ccon);
+        cc.add(rebuildProgress);
+
         // ------------------------------------------------------
 
         // Exit when window closes
@@ -255,12 +293,20 @@ public class Main extends JFrame
         long seed = -1;
         double speed = 1;
         String dumpPrefix = null;
+        String statsFile = null;
+        boolean countCalls = false;
         boolean nice = false;
+        String recordFile = null, playbackFile = null;
+        SceneOptions options = new SceneOptions();
+        String jfrFile = null;
 
         // Parse command-line arguments
         try {
             for (int i = 0; i < args.length; i++) {
-                if (args[i].equals("-nice")) {
+                int used = options.parse(args, i);
+                if (used > 0) {
+                    i += used - 1;
+                } else if (args[i].equals("-nice")) {
                     nice = true;
                 } else if (args[i].equals("-seed")) {
                     seed = (new Long(args[++i])).longValue();
@@ -278,9 +324,24 @@ public class Main extends JFrame
                         System.out.println("Using default dump prefix: " +
                                            dumpPrefix);
                     }
+                } else if (args[i].equals("-record")) {
+                    recordFile = args[++i];
+                } else if (args[i].equals("-playback")) {
+                    playbackFile = args[++i];
+                } else if (args[i].equals("-jfr")) {
+                    jfrFile = args[++i];
+                } else if (args[i].equals("-glstats")) {
+                    countCalls = true;
+                    if (i+1 < args.length && args[i+1].charAt(0) != '-') {
+                        statsFile = args[++i];
+                    }
                 } else {
                     System.out.println("Usage: java Main [-nice] [-seed #]" +
-                                       " [-speed #] [-dump (prefix)]");
+                                       " [-speed #] [-dump (prefix)]" +
+                                       SceneOptions.usage +
+                                       " [-record log] [-playback log]" +
+                                       " [-jfr file]" +
+                                       " [-glstats (csv file)]");
                     throw new Exception("Illegal argument: " + args[i]);
                 }
             }
@@ -293,14 +354,36 @@ public class Main extends JFrame
 
         // Create main window
         try {
-            scene = new Scene(seed, nice, speed, dumpPrefix);
+            // Flight recording (written when the program exits)
+            if (jfrFile != null)
+              FlightRecording.start(jfrFile);
+
+            Scene scene = new Scene(seed, nice, speed, dumpPrefix);
+            options.configure(scene, Runtime.getRuntime().availableProcessors());
 
             scene.resetClock();
 
             if (dumpPrefix != null)
               scene.setFrameByFrameClock();
 
-            Main m = new Main();
+            // Record trajectories as they're simulated, or play them back
+            if (recordFile != null)
+              scene.recorder = new TrajectoryRecorder(recordFile, scene);
+            if (playbackFile != null)
+              scene.playback = new TrajectoryLog(playbackFile);
+
+            GLStats glStats = null;
+            if (countCalls) {
+                if (statsFile != null)
+                  glStats = new GLStats(statsFile);
+                else
+                  glStats = new GLStats();
+            }
+
+            // Stage timing can be watched over JMX (e.g. with jconsole)
+            scene.stageStats.register(scene.seed);
+
+            Main m = new Main(scene, glStats);
 
         } catch (Exception e) {
             e.printStackTrace();
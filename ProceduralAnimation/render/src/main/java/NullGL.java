@@ -0,0 +1,10980 @@
+/* class NullGL
+ * A GL that does nothing but count its calls, for drawing headless
+ * without a window or native libraries.  Unlike a Proxy (which boxes the
+ * arguments of every call, and can't implement an interface as large as
+ * GL anyway), its methods are plain, so drawing into it doesn't
+ * allocate.  Queries return zero, false or null.  Subclasses override
+ * the calls they want to act on (see SoftwareGL).
+ *
+ * The methods are those of the GL interface of JOGL 1.1.1-rc6, one for
+ * each (in order of name), written out mechanically.
+ */
+
+import java.nio.*;
+
+import javax.media.opengl.GL;
+
+public class NullGL implements GL
+{
+    // Calls made (every method adds one)
+    public long calls = 0;
+
+    // ---------------------------------------------------------------
+
+    public Object getExtension(String a0)
+    {
+        calls++;
+        return null;
+    }
+
+    public Object getPlatformGLExtensions()
+    {
+        calls++;
+        return null;
+    }
+
+    public void glAccum(int a0, float a1)
+    {
+        calls++;
+    }
+
+    public void glActiveStencilFaceEXT(int a0)
+    {
+        calls++;
+    }
+
+    public void glActiveTexture(int a0)
+    {
+        calls++;
+    }
+
+    public void glActiveVaryingNV(int a0, byte[] a1, int a2)
+    {
+        calls++;
+    }
+
+    public void glActiveVaryingNV(int a0, ByteBuffer a1)
+    {
+        calls++;
+    }
+
+    public ByteBuffer glAllocateMemoryNV(int a0, float a1, float a2, float a3)
+    {
+        calls++;
+        return null;
+    }
+
+    public void glAlphaFragmentOp1ATI(
+        int a0, int a1, int a2, int a3, int a4, int a5)
+    {
+        calls++;
+    }
+
+    public void glAlphaFragmentOp2ATI(
+        int a0, int a1, int a2, int a3, int a4, int a5, int a6, int a7, int a8)
+    {
+        calls++;
+    }
+
+    public void glAlphaFragmentOp3ATI(
+        int a0, int a1, int a2, int a3, int a4, int a5, int a6, int a7, int a8,
+        int a9, int a10, int a11)
+    {
+        calls++;
+    }
+
+    public void glAlphaFunc(int a0, float a1)
+    {
+        calls++;
+    }
+
+    public void glApplyTextureEXT(int a0)
+    {
+        calls++;
+    }
+
+    public boolean glAreProgramsResidentNV(
+        int a0, int[] a1, int a2, byte[] a3, int a4)
+    {
+        calls++;
+        return false;
+    }
+
+    public boolean glAreProgramsResidentNV(int a0, IntBuffer a1, ByteBuffer a2)
+    {
+        calls++;
+        return false;
+    }
+
+    public boolean glAreTexturesResident(
+        int a0, int[] a1, int a2, byte[] a3, int a4)
+    {
+        calls++;
+        return false;
+    }
+
+    public boolean glAreTexturesResident(int a0, IntBuffer a1, ByteBuffer a2)
+    {
+        calls++;
+        return false;
+    }
+
+    public void glArrayElement(int a0)
+    {
+        calls++;
+    }
+
+    public void glArrayObjectATI(
+        int a0, int a1, int a2, int a3, int a4, int a5)
+    {
+        calls++;
+    }
+
+    public void glAsyncMarkerSGIX(int a0)
+    {
+        calls++;
+    }
+
+    public void glAttachObjectARB(int a0, int a1)
+    {
+        calls++;
+    }
+
+    public void glAttachShader(int a0, int a1)
+    {
+        calls++;
+    }
+
+    public void glBegin(int a0)
+    {
+        calls++;
+    }
+
+    public void glBeginFragmentShaderATI()
+    {
+        calls++;
+    }
+
+    public void glBeginOcclusionQueryNV(int a0)
+    {
+        calls++;
+    }
+
+    public void glBeginQuery(int a0, int a1)
+    {
+        calls++;
+    }
+
+    public void glBeginQueryARB(int a0, int a1)
+    {
+        calls++;
+    }
+
+    public void glBeginTransformFeedbackNV(int a0)
+    {
+        calls++;
+    }
+
+    public void glBeginVertexShaderEXT()
+    {
+        calls++;
+    }
+
+    public void glBindAttribLocation(int a0, int a1, String a2)
+    {
+        calls++;
+    }
+
+    public void glBindAttribLocationARB(int a0, int a1, String a2)
+    {
+        calls++;
+    }
+
+    public void glBindBuffer(int a0, int a1)
+    {
+        calls++;
+    }
+
+    public void glBindBufferARB(int a0, int a1)
+    {
+        calls++;
+    }
+
+    public void glBindBufferBaseNV(int a0, int a1, int a2)
+    {
+        calls++;
+    }
+
+    public void glBindBufferOffsetNV(int a0, int a1, int a2, int a3)
+    {
+        calls++;
+    }
+
+    public void glBindBufferRangeNV(int a0, int a1, int a2, int a3, int a4)
+    {
+        calls++;
+    }
+
+    public void glBindFragDataLocationEXT(int a0, int a1, byte[] a2, int a3)
+    {
+        calls++;
+    }
+
+    public void glBindFragDataLocationEXT(int a0, int a1, ByteBuffer a2)
+    {
+        calls++;
+    }
+
+    public void glBindFragmentShaderATI(int a0)
+    {
+        calls++;
+    }
+
+    public void glBindFramebufferEXT(int a0, int a1)
+    {
+        calls++;
+    }
+
+    public int glBindLightParameterEXT(int a0, int a1)
+    {
+        calls++;
+        return 0;
+    }
+
+    public int glBindMaterialParameterEXT(int a0, int a1)
+    {
+        calls++;
+        return 0;
+    }
+
+    public int glBindParameterEXT(int a0)
+    {
+        calls++;
+        return 0;
+    }
+
+    public void glBindProgramARB(int a0, int a1)
+    {
+        calls++;
+    }
+
+    public void glBindProgramNV(int a0, int a1)
+    {
+        calls++;
+    }
+
+    public void glBindRenderbufferEXT(int a0, int a1)
+    {
+        calls++;
+    }
+
+    public int glBindTexGenParameterEXT(int a0, int a1, int a2)
+    {
+        calls++;
+        return 0;
+    }
+
+    public void glBindTexture(int a0, int a1)
+    {
+        calls++;
+    }
+
+    public int glBindTextureUnitParameterEXT(int a0, int a1)
+    {
+        calls++;
+        return 0;
+    }
+
+    public void glBindVertexArrayAPPLE(int a0)
+    {
+        calls++;
+    }
+
+    public void glBindVertexShaderEXT(int a0)
+    {
+        calls++;
+    }
+
+    public void glBitmap(
+        int a0, int a1, float a2, float a3, float a4, float a5, byte[] a6,
+        int a7)
+    {
+        calls++;
+    }
+
+    public void glBitmap(
+        int a0, int a1, float a2, float a3, float a4, float a5, ByteBuffer a6)
+    {
+        calls++;
+    }
+
+    public void glBitmap(
+        int a0, int a1, float a2, float a3, float a4, float a5, long a6)
+    {
+        calls++;
+    }
+
+    public void glBlendColor(float a0, float a1, float a2, float a3)
+    {
+        calls++;
+    }
+
+    public void glBlendEquation(int a0)
+    {
+        calls++;
+    }
+
+    public void glBlendEquationSeparate(int a0, int a1)
+    {
+        calls++;
+    }
+
+    public void glBlendEquationSeparateEXT(int a0, int a1)
+    {
+        calls++;
+    }
+
+    public void glBlendFunc(int a0, int a1)
+    {
+        calls++;
+    }
+
+    public void glBlendFuncSeparate(int a0, int a1, int a2, int a3)
+    {
+        calls++;
+    }
+
+    public void glBlendFuncSeparateEXT(int a0, int a1, int a2, int a3)
+    {
+        calls++;
+    }
+
+    public void glBlendFuncSeparateINGR(int a0, int a1, int a2, int a3)
+    {
+        calls++;
+    }
+
+    public void glBlitFramebufferEXT(
+        int a0, int a1, int a2, int a3, int a4, int a5, int a6, int a7, int a8,
+        int a9)
+    {
+        calls++;
+    }
+
+    public void glBufferData(int a0, int a1, Buffer a2, int a3)
+    {
+        calls++;
+    }
+
+    public void glBufferDataARB(int a0, int a1, Buffer a2, int a3)
+    {
+        calls++;
+    }
+
+    public void glBufferParameteriAPPLE(int a0, int a1, int a2)
+    {
+        calls++;
+    }
+
+    public int glBufferRegionEnabled()
+    {
+        calls++;
+        return 0;
+    }
+
+    public void glBufferSubData(int a0, int a1, int a2, Buffer a3)
+    {
+        calls++;
+    }
+
+    public void glBufferSubDataARB(int a0, int a1, int a2, Buffer a3)
+    {
+        calls++;
+    }
+
+    public void glCallList(int a0)
+    {
+        calls++;
+    }
+
+    public void glCallLists(int a0, int a1, Buffer a2)
+    {
+        calls++;
+    }
+
+    public int glCheckFramebufferStatusEXT(int a0)
+    {
+        calls++;
+        return 0;
+    }
+
+    public void glClampColorARB(int a0, int a1)
+    {
+        calls++;
+    }
+
+    public void glClear(int a0)
+    {
+        calls++;
+    }
+
+    public void glClearAccum(float a0, float a1, float a2, float a3)
+    {
+        calls++;
+    }
+
+    public void glClearColor(float a0, float a1, float a2, float a3)
+    {
+        calls++;
+    }
+
+    public void glClearColorIiEXT(int a0, int a1, int a2, int a3)
+    {
+        calls++;
+    }
+
+    public void glClearColorIuiEXT(int a0, int a1, int a2, int a3)
+    {
+        calls++;
+    }
+
+    public void glClearDepth(double a0)
+    {
+        calls++;
+    }
+
+    public void glClearDepthdNV(double a0)
+    {
+        calls++;
+    }
+
+    public void glClearIndex(float a0)
+    {
+        calls++;
+    }
+
+    public void glClearStencil(int a0)
+    {
+        calls++;
+    }
+
+    public void glClientActiveTexture(int a0)
+    {
+        calls++;
+    }
+
+    public void glClientActiveVertexStreamATI(int a0)
+    {
+        calls++;
+    }
+
+    public void glClipPlane(int a0, double[] a1, int a2)
+    {
+        calls++;
+    }
+
+    public void glClipPlane(int a0, DoubleBuffer a1)
+    {
+        calls++;
+    }
+
+    public void glColor3b(byte a0, byte a1, byte a2)
+    {
+        calls++;
+    }
+
+    public void glColor3bv(byte[] a0, int a1)
+    {
+        calls++;
+    }
+
+    public void glColor3bv(ByteBuffer a0)
+    {
+        calls++;
+    }
+
+    public void glColor3d(double a0, double a1, double a2)
+    {
+        calls++;
+    }
+
+    public void glColor3dv(double[] a0, int a1)
+    {
+        calls++;
+    }
+
+    public void glColor3dv(DoubleBuffer a0)
+    {
+        calls++;
+    }
+
+    public void glColor3f(float a0, float a1, float a2)
+    {
+        calls++;
+    }
+
+    public void glColor3fVertex3fSUN(
+        float a0, float a1, float a2, float a3, float a4, float a5)
+    {
+        calls++;
+    }
+
+    public void glColor3fVertex3fvSUN(float[] a0, int a1, float[] a2, int a3)
+    {
+        calls++;
+    }
+
+    public void glColor3fVertex3fvSUN(FloatBuffer a0, FloatBuffer a1)
+    {
+        calls++;
+    }
+
+    public void glColor3fv(float[] a0, int a1)
+    {
+        calls++;
+    }
+
+    public void glColor3fv(FloatBuffer a0)
+    {
+        calls++;
+    }
+
+    public void glColor3hNV(short a0, short a1, short a2)
+    {
+        calls++;
+    }
+
+    public void glColor3hvNV(short[] a0, int a1)
+    {
+        calls++;
+    }
+
+    public void glColor3hvNV(ShortBuffer a0)
+    {
+        calls++;
+    }
+
+    public void glColor3i(int a0, int a1, int a2)
+    {
+        calls++;
+    }
+
+    public void glColor3iv(int[] a0, int a1)
+    {
+        calls++;
+    }
+
+    public void glColor3iv(IntBuffer a0)
+    {
+        calls++;
+    }
+
+    public void glColor3s(short a0, short a1, short a2)
+    {
+        calls++;
+    }
+
+    public void glColor3sv(short[] a0, int a1)
+    {
+        calls++;
+    }
+
+    public void glColor3sv(ShortBuffer a0)
+    {
+        calls++;
+    }
+
+    public void glColor3ub(byte a0, byte a1, byte a2)
+    {
+        calls++;
+    }
+
+    public void glColor3ubv(byte[] a0, int a1)
+    {
+        calls++;
+    }
+
+    public void glColor3ubv(ByteBuffer a0)
+    {
+        calls++;
+    }
+
+    public void glColor3ui(int a0, int a1, int a2)
+    {
+        calls++;
+    }
+
+    public void glColor3uiv(int[] a0, int a1)
+    {
+        calls++;
+    }
+
+    public void glColor3uiv(IntBuffer a0)
+    {
+        calls++;
+    }
+
+    public void glColor3us(short a0, short a1, short a2)
+    {
+        calls++;
+    }
+
+    public void glColor3usv(short[] a0, int a1)
+    {
+        calls++;
+    }
+
+    public void glColor3usv(ShortBuffer a0)
+    {
+        calls++;
+    }
+
+    public void glColor4b(byte a0, byte a1, byte a2, byte a3)
+    {
+        calls++;
+    }
+
+    public void glColor4bv(byte[] a0, int a1)
+    {
+        calls++;
+    }
+
+    public void glColor4bv(ByteBuffer a0)
+    {
+        calls++;
+    }
+
+    public void glColor4d(double a0, double a1, double a2, double a3)
+    {
+        calls++;
+    }
+
+    public void glColor4dv(double[] a0, int a1)
+    {
+        calls++;
+    }
+
+    public void glColor4dv(DoubleBuffer a0)
+    {
+        calls++;
+    }
+
+    public void glColor4f(float a0, float a1, float a2, float a3)
+    {
+        calls++;
+    }
+
+    public void glColor4fNormal3fVertex3fSUN(
+        float a0, float a1, float a2, float a3, float a4, float a5, float a6,
+        float a7, float a8, float a9)
+    {
+        calls++;
+    }
+
+    public void glColor4fNormal3fVertex3fvSUN(
+        float[] a0, int a1, float[] a2, int a3, float[] a4, int a5)
+    {
+        calls++;
+    }
+
+    public void glColor4fNormal3fVertex3fvSUN(
+        FloatBuffer a0, FloatBuffer a1, FloatBuffer a2)
+    {
+        calls++;
+    }
+
+    public void glColor4fv(float[] a0, int a1)
+    {
+        calls++;
+    }
+
+    public void glColor4fv(FloatBuffer a0)
+    {
+        calls++;
+    }
+
+    public void glColor4hNV(short a0, short a1, short a2, short a3)
+    {
+        calls++;
+    }
+
+    public void glColor4hvNV(short[] a0, int a1)
+    {
+        calls++;
+    }
+
+    public void glColor4hvNV(ShortBuffer a0)
+    {
+        calls++;
+    }
+
+    public void glColor4i(int a0, int a1, int a2, int a3)
+    {
+        calls++;
+    }
+
+    public void glColor4iv(int[] a0, int a1)
+    {
+        calls++;
+    }
+
+    public void glColor4iv(IntBuffer a0)
+    {
+        calls++;
+    }
+
+    public void glColor4s(short a0, short a1, short a2, short a3)
+    {
+        calls++;
+    }
+
+    public void glColor4sv(short[] a0, int a1)
+    {
+        calls++;
+    }
+
+    public void glColor4sv(ShortBuffer a0)
+    {
+        calls++;
+    }
+
+    public void glColor4ub(byte a0, byte a1, byte a2, byte a3)
+    {
+        calls++;
+    }
+
+    public void glColor4ubVertex2fSUN(
+        byte a0, byte a1, byte a2, byte a3, float a4, float a5)
+    {
+        calls++;
+    }
+
+    public void glColor4ubVertex2fvSUN(byte[] a0, int a1, float[] a2, int a3)
+    {
+        calls++;
+    }
+
+    public void glColor4ubVertex2fvSUN(ByteBuffer a0, FloatBuffer a1)
+    {
+        calls++;
+    }
+
+    public void glColor4ubVertex3fSUN(
+        byte a0, byte a1, byte a2, byte a3, float a4, float a5, float a6)
+    {
+        calls++;
+    }
+
+    public void glColor4ubVertex3fvSUN(byte[] a0, int a1, float[] a2, int a3)
+    {
+        calls++;
+    }
+
+    public void glColor4ubVertex3fvSUN(ByteBuffer a0, FloatBuffer a1)
+    {
+        calls++;
+    }
+
+    public void glColor4ubv(byte[] a0, int a1)
+    {
+        calls++;
+    }
+
+    public void glColor4ubv(ByteBuffer a0)
+    {
+        calls++;
+    }
+
+    public void glColor4ui(int a0, int a1, int a2, int a3)
+    {
+        calls++;
+    }
+
+    public void glColor4uiv(int[] a0, int a1)
+    {
+        calls++;
+    }
+
+    public void glColor4uiv(IntBuffer a0)
+    {
+        calls++;
+    }
+
+    public void glColor4us(short a0, short a1, short a2, short a3)
+    {
+        calls++;
+    }
+
+    public void glColor4usv(short[] a0, int a1)
+    {
+        calls++;
+    }
+
+    public void glColor4usv(ShortBuffer a0)
+    {
+        calls++;
+    }
+
+    public void glColorFragmentOp1ATI(
+        int a0, int a1, int a2, int a3, int a4, int a5, int a6)
+    {
+        calls++;
+    }
+
+    public void glColorFragmentOp2ATI(
+        int a0, int a1, int a2, int a3, int a4, int a5, int a6, int a7, int a8,
+        int a9)
+    {
+        calls++;
+    }
+
+    public void glColorFragmentOp3ATI(
+        int a0, int a1, int a2, int a3, int a4, int a5, int a6, int a7, int a8,
+        int a9, int a10, int a11, int a12)
+    {
+        calls++;
+    }
+
+    public void glColorMask(boolean a0, boolean a1, boolean a2, boolean a3)
+    {
+        calls++;
+    }
+
+    public void glColorMaskIndexedEXT(
+        int a0, boolean a1, boolean a2, boolean a3, boolean a4)
+    {
+        calls++;
+    }
+
+    public void glColorMaterial(int a0, int a1)
+    {
+        calls++;
+    }
+
+    public void glColorPointer(int a0, int a1, int a2, Buffer a3)
+    {
+        calls++;
+    }
+
+    public void glColorPointer(int a0, int a1, int a2, long a3)
+    {
+        calls++;
+    }
+
+    public void glColorSubTable(
+        int a0, int a1, int a2, int a3, int a4, Buffer a5)
+    {
+        calls++;
+    }
+
+    public void glColorSubTable(
+        int a0, int a1, int a2, int a3, int a4, long a5)
+    {
+        calls++;
+    }
+
+    public void glColorTable(int a0, int a1, int a2, int a3, int a4, Buffer a5)
+    {
+        calls++;
+    }
+
+    public void glColorTable(int a0, int a1, int a2, int a3, int a4, long a5)
+    {
+        calls++;
+    }
+
+    public void glColorTableEXT(
+        int a0, int a1, int a2, int a3, int a4, Buffer a5)
+    {
+        calls++;
+    }
+
+    public void glColorTableParameterfv(int a0, int a1, float[] a2, int a3)
+    {
+        calls++;
+    }
+
+    public void glColorTableParameterfv(int a0, int a1, FloatBuffer a2)
+    {
+        calls++;
+    }
+
+    public void glColorTableParameteriv(int a0, int a1, int[] a2, int a3)
+    {
+        calls++;
+    }
+
+    public void glColorTableParameteriv(int a0, int a1, IntBuffer a2)
+    {
+        calls++;
+    }
+
+    public void glCombinerInputNV(
+        int a0, int a1, int a2, int a3, int a4, int a5)
+    {
+        calls++;
+    }
+
+    public void glCombinerOutputNV(
+        int a0, int a1, int a2, int a3, int a4, int a5, int a6, boolean a7,
+        boolean a8, boolean a9)
+    {
+        calls++;
+    }
+
+    public void glCombinerParameterfNV(int a0, float a1)
+    {
+        calls++;
+    }
+
+    public void glCombinerParameterfvNV(int a0, float[] a1, int a2)
+    {
+        calls++;
+    }
+
+    public void glCombinerParameterfvNV(int a0, FloatBuffer a1)
+    {
+        calls++;
+    }
+
+    public void glCombinerParameteriNV(int a0, int a1)
+    {
+        calls++;
+    }
+
+    public void glCombinerParameterivNV(int a0, int[] a1, int a2)
+    {
+        calls++;
+    }
+
+    public void glCombinerParameterivNV(int a0, IntBuffer a1)
+    {
+        calls++;
+    }
+
+    public void glCombinerStageParameterfvNV(
+        int a0, int a1, float[] a2, int a3)
+    {
+        calls++;
+    }
+
+    public void glCombinerStageParameterfvNV(int a0, int a1, FloatBuffer a2)
+    {
+        calls++;
+    }
+
+    public void glCompileShader(int a0)
+    {
+        calls++;
+    }
+
+    public void glCompileShaderARB(int a0)
+    {
+        calls++;
+    }
+
+    public void glCompressedTexImage1D(
+        int a0, int a1, int a2, int a3, int a4, int a5, Buffer a6)
+    {
+        calls++;
+    }
+
+    public void glCompressedTexImage1D(
+        int a0, int a1, int a2, int a3, int a4, int a5, long a6)
+    {
+        calls++;
+    }
+
+    public void glCompressedTexImage2D(
+        int a0, int a1, int a2, int a3, int a4, int a5, int a6, Buffer a7)
+    {
+        calls++;
+    }
+
+    public void glCompressedTexImage2D(
+        int a0, int a1, int a2, int a3, int a4, int a5, int a6, long a7)
+    {
+        calls++;
+    }
+
+    public void glCompressedTexImage3D(
+        int a0, int a1, int a2, int a3, int a4, int a5, int a6, int a7,
+        Buffer a8)
+    {
+        calls++;
+    }
+
+    public void glCompressedTexImage3D(
+        int a0, int a1, int a2, int a3, int a4, int a5, int a6, int a7,
+        long a8)
+    {
+        calls++;
+    }
+
+    public void glCompressedTexSubImage1D(
+        int a0, int a1, int a2, int a3, int a4, int a5, Buffer a6)
+    {
+        calls++;
+    }
+
+    public void glCompressedTexSubImage1D(
+        int a0, int a1, int a2, int a3, int a4, int a5, long a6)
+    {
+        calls++;
+    }
+
+    public void glCompressedTexSubImage2D(
+        int a0, int a1, int a2, int a3, int a4, int a5, int a6, int a7,
+        Buffer a8)
+    {
+        calls++;
+    }
+
+    public void glCompressedTexSubImage2D(
+        int a0, int a1, int a2, int a3, int a4, int a5, int a6, int a7,
+        long a8)
+    {
+        calls++;
+    }
+
+    public void glCompressedTexSubImage3D(
+        int a0, int a1, int a2, int a3, int a4, int a5, int a6, int a7, int a8,
+        int a9, Buffer a10)
+    {
+        calls++;
+    }
+
+    public void glCompressedTexSubImage3D(
+        int a0, int a1, int a2, int a3, int a4, int a5, int a6, int a7, int a8,
+        int a9, long a10)
+    {
+        calls++;
+    }
+
+    public void glConvolutionFilter1D(
+        int a0, int a1, int a2, int a3, int a4, Buffer a5)
+    {
+        calls++;
+    }
+
+    public void glConvolutionFilter1D(
+        int a0, int a1, int a2, int a3, int a4, long a5)
+    {
+        calls++;
+    }
+
+    public void glConvolutionFilter2D(
+        int a0, int a1, int a2, int a3, int a4, int a5, Buffer a6)
+    {
+        calls++;
+    }
+
+    public void glConvolutionFilter2D(
+        int a0, int a1, int a2, int a3, int a4, int a5, long a6)
+    {
+        calls++;
+    }
+
+    public void glConvolutionParameterf(int a0, int a1, float a2)
+    {
+        calls++;
+    }
+
+    public void glConvolutionParameterfv(int a0, int a1, float[] a2, int a3)
+    {
+        calls++;
+    }
+
+    public void glConvolutionParameterfv(int a0, int a1, FloatBuffer a2)
+    {
+        calls++;
+    }
+
+    public void glConvolutionParameteri(int a0, int a1, int a2)
+    {
+        calls++;
+    }
+
+    public void glConvolutionParameteriv(int a0, int a1, int[] a2, int a3)
+    {
+        calls++;
+    }
+
+    public void glConvolutionParameteriv(int a0, int a1, IntBuffer a2)
+    {
+        calls++;
+    }
+
+    public void glCopyColorSubTable(int a0, int a1, int a2, int a3, int a4)
+    {
+        calls++;
+    }
+
+    public void glCopyColorTable(int a0, int a1, int a2, int a3, int a4)
+    {
+        calls++;
+    }
+
+    public void glCopyConvolutionFilter1D(
+        int a0, int a1, int a2, int a3, int a4)
+    {
+        calls++;
+    }
+
+    public void glCopyConvolutionFilter2D(
+        int a0, int a1, int a2, int a3, int a4, int a5)
+    {
+        calls++;
+    }
+
+    public void glCopyPixels(int a0, int a1, int a2, int a3, int a4)
+    {
+        calls++;
+    }
+
+    public void glCopyTexImage1D(
+        int a0, int a1, int a2, int a3, int a4, int a5, int a6)
+    {
+        calls++;
+    }
+
+    public void glCopyTexImage2D(
+        int a0, int a1, int a2, int a3, int a4, int a5, int a6, int a7)
+    {
+        calls++;
+    }
+
+    public void glCopyTexSubImage1D(
+        int a0, int a1, int a2, int a3, int a4, int a5)
+    {
+        calls++;
+    }
+
+    public void glCopyTexSubImage2D(
+        int a0, int a1, int a2, int a3, int a4, int a5, int a6, int a7)
+    {
+        calls++;
+    }
+
+    public void glCopyTexSubImage3D(
+        int a0, int a1, int a2, int a3, int a4, int a5, int a6, int a7, int a8)
+    {
+        calls++;
+    }
+
+    public int glCreateProgram()
+    {
+        calls++;
+        return 0;
+    }
+
+    public int glCreateProgramObjectARB()
+    {
+        calls++;
+        return 0;
+    }
+
+    public int glCreateShader(int a0)
+    {
+        calls++;
+        return 0;
+    }
+
+    public int glCreateShaderObjectARB(int a0)
+    {
+        calls++;
+        return 0;
+    }
+
+    public void glCullFace(int a0)
+    {
+        calls++;
+    }
+
+    public void glCullParameterdvEXT(int a0, double[] a1, int a2)
+    {
+        calls++;
+    }
+
+    public void glCullParameterdvEXT(int a0, DoubleBuffer a1)
+    {
+        calls++;
+    }
+
+    public void glCullParameterfvEXT(int a0, float[] a1, int a2)
+    {
+        calls++;
+    }
+
+    public void glCullParameterfvEXT(int a0, FloatBuffer a1)
+    {
+        calls++;
+    }
+
+    public void glCurrentPaletteMatrixARB(int a0)
+    {
+        calls++;
+    }
+
+    public void glDeformSGIX(int a0)
+    {
+        calls++;
+    }
+
+    public void glDeformationMap3dSGIX(
+        int a0, double a1, double a2, int a3, int a4, double a5, double a6,
+        int a7, int a8, double a9, double a10, int a11, int a12, double[] a13,
+        int a14)
+    {
+        calls++;
+    }
+
+    public void glDeformationMap3dSGIX(
+        int a0, double a1, double a2, int a3, int a4, double a5, double a6,
+        int a7, int a8, double a9, double a10, int a11, int a12,
+        DoubleBuffer a13)
+    {
+        calls++;
+    }
+
+    public void glDeformationMap3fSGIX(
+        int a0, float a1, float a2, int a3, int a4, float a5, float a6, int a7,
+        int a8, float a9, float a10, int a11, int a12, float[] a13, int a14)
+    {
+        calls++;
+    }
+
+    public void glDeformationMap3fSGIX(
+        int a0, float a1, float a2, int a3, int a4, float a5, float a6, int a7,
+        int a8, float a9, float a10, int a11, int a12, FloatBuffer a13)
+    {
+        calls++;
+    }
+
+    public void glDeleteAsyncMarkersSGIX(int a0, int a1)
+    {
+        calls++;
+    }
+
+    public void glDeleteBufferRegion(int a0)
+    {
+        calls++;
+    }
+
+    public void glDeleteBuffers(int a0, int[] a1, int a2)
+    {
+        calls++;
+    }
+
+    public void glDeleteBuffers(int a0, IntBuffer a1)
+    {
+        calls++;
+    }
+
+    public void glDeleteBuffersARB(int a0, int[] a1, int a2)
+    {
+        calls++;
+    }
+
+    public void glDeleteBuffersARB(int a0, IntBuffer a1)
+    {
+        calls++;
+    }
+
+    public void glDeleteFencesAPPLE(int a0, int[] a1, int a2)
+    {
+        calls++;
+    }
+
+    public void glDeleteFencesAPPLE(int a0, IntBuffer a1)
+    {
+        calls++;
+    }
+
+    public void glDeleteFencesNV(int a0, int[] a1, int a2)
+    {
+        calls++;
+    }
+
+    public void glDeleteFencesNV(int a0, IntBuffer a1)
+    {
+        calls++;
+    }
+
+    public void glDeleteFragmentShaderATI(int a0)
+    {
+        calls++;
+    }
+
+    public void glDeleteFramebuffersEXT(int a0, int[] a1, int a2)
+    {
+        calls++;
+    }
+
+    public void glDeleteFramebuffersEXT(int a0, IntBuffer a1)
+    {
+        calls++;
+    }
+
+    public void glDeleteLists(int a0, int a1)
+    {
+        calls++;
+    }
+
+    public void glDeleteObjectARB(int a0)
+    {
+        calls++;
+    }
+
+    public void glDeleteOcclusionQueriesNV(int a0, int[] a1, int a2)
+    {
+        calls++;
+    }
+
+    public void glDeleteOcclusionQueriesNV(int a0, IntBuffer a1)
+    {
+        calls++;
+    }
+
+    public void glDeleteProgram(int a0)
+    {
+        calls++;
+    }
+
+    public void glDeleteProgramsARB(int a0, int[] a1, int a2)
+    {
+        calls++;
+    }
+
+    public void glDeleteProgramsARB(int a0, IntBuffer a1)
+    {
+        calls++;
+    }
+
+    public void glDeleteProgramsNV(int a0, int[] a1, int a2)
+    {
+        calls++;
+    }
+
+    public void glDeleteProgramsNV(int a0, IntBuffer a1)
+    {
+        calls++;
+    }
+
+    public void glDeleteQueries(int a0, int[] a1, int a2)
+    {
+        calls++;
+    }
+
+    public void glDeleteQueries(int a0, IntBuffer a1)
+    {
+        calls++;
+    }
+
+    public void glDeleteQueriesARB(int a0, int[] a1, int a2)
+    {
+        calls++;
+    }
+
+    public void glDeleteQueriesARB(int a0, IntBuffer a1)
+    {
+        calls++;
+    }
+
+    public void glDeleteRenderbuffersEXT(int a0, int[] a1, int a2)
+    {
+        calls++;
+    }
+
+    public void glDeleteRenderbuffersEXT(int a0, IntBuffer a1)
+    {
+        calls++;
+    }
+
+    public void glDeleteShader(int a0)
+    {
+        calls++;
+    }
+
+    public void glDeleteTextures(int a0, int[] a1, int a2)
+    {
+        calls++;
+    }
+
+    public void glDeleteTextures(int a0, IntBuffer a1)
+    {
+        calls++;
+    }
+
+    public void glDeleteVertexArraysAPPLE(int a0, int[] a1, int a2)
+    {
+        calls++;
+    }
+
+    public void glDeleteVertexArraysAPPLE(int a0, IntBuffer a1)
+    {
+        calls++;
+    }
+
+    public void glDeleteVertexShaderEXT(int a0)
+    {
+        calls++;
+    }
+
+    public void glDepthBoundsEXT(double a0, double a1)
+    {
+        calls++;
+    }
+
+    public void glDepthBoundsdNV(double a0, double a1)
+    {
+        calls++;
+    }
+
+    public void glDepthFunc(int a0)
+    {
+        calls++;
+    }
+
+    public void glDepthMask(boolean a0)
+    {
+        calls++;
+    }
+
+    public void glDepthRange(double a0, double a1)
+    {
+        calls++;
+    }
+
+    public void glDepthRangedNV(double a0, double a1)
+    {
+        calls++;
+    }
+
+    public void glDetachObjectARB(int a0, int a1)
+    {
+        calls++;
+    }
+
+    public void glDetachShader(int a0, int a1)
+    {
+        calls++;
+    }
+
+    public void glDetailTexFuncSGIS(int a0, int a1, float[] a2, int a3)
+    {
+        calls++;
+    }
+
+    public void glDetailTexFuncSGIS(int a0, int a1, FloatBuffer a2)
+    {
+        calls++;
+    }
+
+    public void glDisable(int a0)
+    {
+        calls++;
+    }
+
+    public void glDisableClientState(int a0)
+    {
+        calls++;
+    }
+
+    public void glDisableIndexedEXT(int a0, int a1)
+    {
+        calls++;
+    }
+
+    public void glDisableVariantClientStateEXT(int a0)
+    {
+        calls++;
+    }
+
+    public void glDisableVertexAttribAPPLE(int a0, int a1)
+    {
+        calls++;
+    }
+
+    public void glDisableVertexAttribArray(int a0)
+    {
+        calls++;
+    }
+
+    public void glDisableVertexAttribArrayARB(int a0)
+    {
+        calls++;
+    }
+
+    public void glDrawArrays(int a0, int a1, int a2)
+    {
+        calls++;
+    }
+
+    public void glDrawArraysInstancedEXT(int a0, int a1, int a2, int a3)
+    {
+        calls++;
+    }
+
+    public void glDrawBuffer(int a0)
+    {
+        calls++;
+    }
+
+    public void glDrawBufferRegion(
+        int a0, int a1, int a2, int a3, int a4, int a5, int a6)
+    {
+        calls++;
+    }
+
+    public void glDrawBuffers(int a0, int[] a1, int a2)
+    {
+        calls++;
+    }
+
+    public void glDrawBuffers(int a0, IntBuffer a1)
+    {
+        calls++;
+    }
+
+    public void glDrawBuffersARB(int a0, int[] a1, int a2)
+    {
+        calls++;
+    }
+
+    public void glDrawBuffersARB(int a0, IntBuffer a1)
+    {
+        calls++;
+    }
+
+    public void glDrawBuffersATI(int a0, int[] a1, int a2)
+    {
+        calls++;
+    }
+
+    public void glDrawBuffersATI(int a0, IntBuffer a1)
+    {
+        calls++;
+    }
+
+    public void glDrawElementArrayAPPLE(int a0, int a1, int a2)
+    {
+        calls++;
+    }
+
+    public void glDrawElementArrayATI(int a0, int a1)
+    {
+        calls++;
+    }
+
+    public void glDrawElements(int a0, int a1, int a2, Buffer a3)
+    {
+        calls++;
+    }
+
+    public void glDrawElements(int a0, int a1, int a2, long a3)
+    {
+        calls++;
+    }
+
+    public void glDrawElementsInstancedEXT(
+        int a0, int a1, int a2, Buffer a3, int a4)
+    {
+        calls++;
+    }
+
+    public void glDrawMeshArraysSUN(int a0, int a1, int a2, int a3)
+    {
+        calls++;
+    }
+
+    public void glDrawPixels(int a0, int a1, int a2, int a3, Buffer a4)
+    {
+        calls++;
+    }
+
+    public void glDrawPixels(int a0, int a1, int a2, int a3, long a4)
+    {
+        calls++;
+    }
+
+    public void glDrawRangeElementArrayAPPLE(
+        int a0, int a1, int a2, int a3, int a4)
+    {
+        calls++;
+    }
+
+    public void glDrawRangeElementArrayATI(int a0, int a1, int a2, int a3)
+    {
+        calls++;
+    }
+
+    public void glDrawRangeElements(
+        int a0, int a1, int a2, int a3, int a4, Buffer a5)
+    {
+        calls++;
+    }
+
+    public void glDrawRangeElements(
+        int a0, int a1, int a2, int a3, int a4, long a5)
+    {
+        calls++;
+    }
+
+    public void glEdgeFlag(boolean a0)
+    {
+        calls++;
+    }
+
+    public void glEdgeFlagPointer(int a0, Buffer a1)
+    {
+        calls++;
+    }
+
+    public void glEdgeFlagPointer(int a0, long a1)
+    {
+        calls++;
+    }
+
+    public void glEdgeFlagv(byte[] a0, int a1)
+    {
+        calls++;
+    }
+
+    public void glEdgeFlagv(ByteBuffer a0)
+    {
+        calls++;
+    }
+
+    public void glElementPointerAPPLE(int a0, Buffer a1)
+    {
+        calls++;
+    }
+
+    public void glElementPointerATI(int a0, Buffer a1)
+    {
+        calls++;
+    }
+
+    public void glElementPointerATI(int a0, long a1)
+    {
+        calls++;
+    }
+
+    public void glEnable(int a0)
+    {
+        calls++;
+    }
+
+    public void glEnableClientState(int a0)
+    {
+        calls++;
+    }
+
+    public void glEnableIndexedEXT(int a0, int a1)
+    {
+        calls++;
+    }
+
+    public void glEnableVariantClientStateEXT(int a0)
+    {
+        calls++;
+    }
+
+    public void glEnableVertexAttribAPPLE(int a0, int a1)
+    {
+        calls++;
+    }
+
+    public void glEnableVertexAttribArray(int a0)
+    {
+        calls++;
+    }
+
+    public void glEnableVertexAttribArrayARB(int a0)
+    {
+        calls++;
+    }
+
+    public void glEnd()
+    {
+        calls++;
+    }
+
+    public void glEndFragmentShaderATI()
+    {
+        calls++;
+    }
+
+    public void glEndList()
+    {
+        calls++;
+    }
+
+    public void glEndOcclusionQueryNV()
+    {
+        calls++;
+    }
+
+    public void glEndQuery(int a0)
+    {
+        calls++;
+    }
+
+    public void glEndQueryARB(int a0)
+    {
+        calls++;
+    }
+
+    public void glEndTransformFeedbackNV()
+    {
+        calls++;
+    }
+
+    public void glEndVertexShaderEXT()
+    {
+        calls++;
+    }
+
+    public void glEvalCoord1d(double a0)
+    {
+        calls++;
+    }
+
+    public void glEvalCoord1dv(double[] a0, int a1)
+    {
+        calls++;
+    }
+
+    public void glEvalCoord1dv(DoubleBuffer a0)
+    {
+        calls++;
+    }
+
+    public void glEvalCoord1f(float a0)
+    {
+        calls++;
+    }
+
+    public void glEvalCoord1fv(float[] a0, int a1)
+    {
+        calls++;
+    }
+
+    public void glEvalCoord1fv(FloatBuffer a0)
+    {
+        calls++;
+    }
+
+    public void glEvalCoord2d(double a0, double a1)
+    {
+        calls++;
+    }
+
+    public void glEvalCoord2dv(double[] a0, int a1)
+    {
+        calls++;
+    }
+
+    public void glEvalCoord2dv(DoubleBuffer a0)
+    {
+        calls++;
+    }
+
+    public void glEvalCoord2f(float a0, float a1)
+    {
+        calls++;
+    }
+
+    public void glEvalCoord2fv(float[] a0, int a1)
+    {
+        calls++;
+    }
+
+    public void glEvalCoord2fv(FloatBuffer a0)
+    {
+        calls++;
+    }
+
+    public void glEvalMapsNV(int a0, int a1)
+    {
+        calls++;
+    }
+
+    public void glEvalMesh1(int a0, int a1, int a2)
+    {
+        calls++;
+    }
+
+    public void glEvalMesh2(int a0, int a1, int a2, int a3, int a4)
+    {
+        calls++;
+    }
+
+    public void glEvalPoint1(int a0)
+    {
+        calls++;
+    }
+
+    public void glEvalPoint2(int a0, int a1)
+    {
+        calls++;
+    }
+
+    public void glExecuteProgramNV(int a0, int a1, float[] a2, int a3)
+    {
+        calls++;
+    }
+
+    public void glExecuteProgramNV(int a0, int a1, FloatBuffer a2)
+    {
+        calls++;
+    }
+
+    public void glExtractComponentEXT(int a0, int a1, int a2)
+    {
+        calls++;
+    }
+
+    public void glFeedbackBuffer(int a0, int a1, FloatBuffer a2)
+    {
+        calls++;
+    }
+
+    public void glFinalCombinerInputNV(int a0, int a1, int a2, int a3)
+    {
+        calls++;
+    }
+
+    public void glFinish()
+    {
+        calls++;
+    }
+
+    public int glFinishAsyncSGIX(int[] a0, int a1)
+    {
+        calls++;
+        return 0;
+    }
+
+    public int glFinishAsyncSGIX(IntBuffer a0)
+    {
+        calls++;
+        return 0;
+    }
+
+    public void glFinishFenceAPPLE(int a0)
+    {
+        calls++;
+    }
+
+    public void glFinishFenceNV(int a0)
+    {
+        calls++;
+    }
+
+    public void glFinishObjectAPPLE(int a0, int a1)
+    {
+        calls++;
+    }
+
+    public void glFinishRenderAPPLE()
+    {
+        calls++;
+    }
+
+    public void glFinishTextureSUNX()
+    {
+        calls++;
+    }
+
+    public void glFlush()
+    {
+        calls++;
+    }
+
+    public void glFlushMappedBufferRangeAPPLE(int a0, int a1, int a2)
+    {
+        calls++;
+    }
+
+    public void glFlushPixelDataRangeNV(int a0)
+    {
+        calls++;
+    }
+
+    public void glFlushRasterSGIX()
+    {
+        calls++;
+    }
+
+    public void glFlushRenderAPPLE()
+    {
+        calls++;
+    }
+
+    public void glFlushVertexArrayRangeAPPLE(int a0, Buffer a1)
+    {
+        calls++;
+    }
+
+    public void glFlushVertexArrayRangeNV()
+    {
+        calls++;
+    }
+
+    public void glFogCoordPointer(int a0, int a1, Buffer a2)
+    {
+        calls++;
+    }
+
+    public void glFogCoordPointer(int a0, int a1, long a2)
+    {
+        calls++;
+    }
+
+    public void glFogCoordPointerEXT(int a0, int a1, Buffer a2)
+    {
+        calls++;
+    }
+
+    public void glFogCoordPointerEXT(int a0, int a1, long a2)
+    {
+        calls++;
+    }
+
+    public void glFogCoordd(double a0)
+    {
+        calls++;
+    }
+
+    public void glFogCoorddEXT(double a0)
+    {
+        calls++;
+    }
+
+    public void glFogCoorddv(double[] a0, int a1)
+    {
+        calls++;
+    }
+
+    public void glFogCoorddv(DoubleBuffer a0)
+    {
+        calls++;
+    }
+
+    public void glFogCoorddvEXT(double[] a0, int a1)
+    {
+        calls++;
+    }
+
+    public void glFogCoorddvEXT(DoubleBuffer a0)
+    {
+        calls++;
+    }
+
+    public void glFogCoordf(float a0)
+    {
+        calls++;
+    }
+
+    public void glFogCoordfEXT(float a0)
+    {
+        calls++;
+    }
+
+    public void glFogCoordfv(float[] a0, int a1)
+    {
+        calls++;
+    }
+
+    public void glFogCoordfv(FloatBuffer a0)
+    {
+        calls++;
+    }
+
+    public void glFogCoordfvEXT(float[] a0, int a1)
+    {
+        calls++;
+    }
+
+    public void glFogCoordfvEXT(FloatBuffer a0)
+    {
+        calls++;
+    }
+
+    public void glFogCoordhNV(short a0)
+    {
+        calls++;
+    }
+
+    public void glFogCoordhvNV(short[] a0, int a1)
+    {
+        calls++;
+    }
+
+    public void glFogCoordhvNV(ShortBuffer a0)
+    {
+        calls++;
+    }
+
+    public void glFogFuncSGIS(int a0, float[] a1, int a2)
+    {
+        calls++;
+    }
+
+    public void glFogFuncSGIS(int a0, FloatBuffer a1)
+    {
+        calls++;
+    }
+
+    public void glFogf(int a0, float a1)
+    {
+        calls++;
+    }
+
+    public void glFogfv(int a0, float[] a1, int a2)
+    {
+        calls++;
+    }
+
+    public void glFogfv(int a0, FloatBuffer a1)
+    {
+        calls++;
+    }
+
+    public void glFogi(int a0, int a1)
+    {
+        calls++;
+    }
+
+    public void glFogiv(int a0, int[] a1, int a2)
+    {
+        calls++;
+    }
+
+    public void glFogiv(int a0, IntBuffer a1)
+    {
+        calls++;
+    }
+
+    public void glFragmentColorMaterialSGIX(int a0, int a1)
+    {
+        calls++;
+    }
+
+    public void glFragmentLightModelfSGIX(int a0, float a1)
+    {
+        calls++;
+    }
+
+    public void glFragmentLightModelfvSGIX(int a0, float[] a1, int a2)
+    {
+        calls++;
+    }
+
+    public void glFragmentLightModelfvSGIX(int a0, FloatBuffer a1)
+    {
+        calls++;
+    }
+
+    public void glFragmentLightModeliSGIX(int a0, int a1)
+    {
+        calls++;
+    }
+
+    public void glFragmentLightModelivSGIX(int a0, int[] a1, int a2)
+    {
+        calls++;
+    }
+
+    public void glFragmentLightModelivSGIX(int a0, IntBuffer a1)
+    {
+        calls++;
+    }
+
+    public void glFragmentLightfSGIX(int a0, int a1, float a2)
+    {
+        calls++;
+    }
+
+    public void glFragmentLightfvSGIX(int a0, int a1, float[] a2, int a3)
+    {
+        calls++;
+    }
+
+    public void glFragmentLightfvSGIX(int a0, int a1, FloatBuffer a2)
+    {
+        calls++;
+    }
+
+    public void glFragmentLightiSGIX(int a0, int a1, int a2)
+    {
+        calls++;
+    }
+
+    public void glFragmentLightivSGIX(int a0, int a1, int[] a2, int a3)
+    {
+        calls++;
+    }
+
+    public void glFragmentLightivSGIX(int a0, int a1, IntBuffer a2)
+    {
+        calls++;
+    }
+
+    public void glFragmentMaterialfSGIX(int a0, int a1, float a2)
+    {
+        calls++;
+    }
+
+    public void glFragmentMaterialfvSGIX(int a0, int a1, float[] a2, int a3)
+    {
+        calls++;
+    }
+
+    public void glFragmentMaterialfvSGIX(int a0, int a1, FloatBuffer a2)
+    {
+        calls++;
+    }
+
+    public void glFragmentMaterialiSGIX(int a0, int a1, int a2)
+    {
+        calls++;
+    }
+
+    public void glFragmentMaterialivSGIX(int a0, int a1, int[] a2, int a3)
+    {
+        calls++;
+    }
+
+    public void glFragmentMaterialivSGIX(int a0, int a1, IntBuffer a2)
+    {
+        calls++;
+    }
+
+    public void glFrameZoomSGIX(int a0)
+    {
+        calls++;
+    }
+
+    public void glFramebufferRenderbufferEXT(int a0, int a1, int a2, int a3)
+    {
+        calls++;
+    }
+
+    public void glFramebufferTexture1DEXT(
+        int a0, int a1, int a2, int a3, int a4)
+    {
+        calls++;
+    }
+
+    public void glFramebufferTexture2DEXT(
+        int a0, int a1, int a2, int a3, int a4)
+    {
+        calls++;
+    }
+
+    public void glFramebufferTexture3DEXT(
+        int a0, int a1, int a2, int a3, int a4, int a5)
+    {
+        calls++;
+    }
+
+    public void glFramebufferTextureEXT(int a0, int a1, int a2, int a3)
+    {
+        calls++;
+    }
+
+    public void glFramebufferTextureFaceEXT(
+        int a0, int a1, int a2, int a3, int a4)
+    {
+        calls++;
+    }
+
+    public void glFramebufferTextureLayerEXT(
+        int a0, int a1, int a2, int a3, int a4)
+    {
+        calls++;
+    }
+
+    public void glFreeObjectBufferATI(int a0)
+    {
+        calls++;
+    }
+
+    public void glFrontFace(int a0)
+    {
+        calls++;
+    }
+
+    public void glFrustum(
+        double a0, double a1, double a2, double a3, double a4, double a5)
+    {
+        calls++;
+    }
+
+    public int glGenAsyncMarkersSGIX(int a0)
+    {
+        calls++;
+        return 0;
+    }
+
+    public void glGenBuffers(int a0, int[] a1, int a2)
+    {
+        calls++;
+    }
+
+    public void glGenBuffers(int a0, IntBuffer a1)
+    {
+        calls++;
+    }
+
+    public void glGenBuffersARB(int a0, int[] a1, int a2)
+    {
+        calls++;
+    }
+
+    public void glGenBuffersARB(int a0, IntBuffer a1)
+    {
+        calls++;
+    }
+
+    public void glGenFencesAPPLE(int a0, int[] a1, int a2)
+    {
+        calls++;
+    }
+
+    public void glGenFencesAPPLE(int a0, IntBuffer a1)
+    {
+        calls++;
+    }
+
+    public void glGenFencesNV(int a0, int[] a1, int a2)
+    {
+        calls++;
+    }
+
+    public void glGenFencesNV(int a0, IntBuffer a1)
+    {
+        calls++;
+    }
+
+    public int glGenFragmentShadersATI(int a0)
+    {
+        calls++;
+        return 0;
+    }
+
+    public void glGenFramebuffersEXT(int a0, int[] a1, int a2)
+    {
+        calls++;
+    }
+
+    public void glGenFramebuffersEXT(int a0, IntBuffer a1)
+    {
+        calls++;
+    }
+
+    public int glGenLists(int a0)
+    {
+        calls++;
+        return 0;
+    }
+
+    public void glGenOcclusionQueriesNV(int a0, int[] a1, int a2)
+    {
+        calls++;
+    }
+
+    public void glGenOcclusionQueriesNV(int a0, IntBuffer a1)
+    {
+        calls++;
+    }
+
+    public void glGenProgramsARB(int a0, int[] a1, int a2)
+    {
+        calls++;
+    }
+
+    public void glGenProgramsARB(int a0, IntBuffer a1)
+    {
+        calls++;
+    }
+
+    public void glGenProgramsNV(int a0, int[] a1, int a2)
+    {
+        calls++;
+    }
+
+    public void glGenProgramsNV(int a0, IntBuffer a1)
+    {
+        calls++;
+    }
+
+    public void glGenQueries(int a0, int[] a1, int a2)
+    {
+        calls++;
+    }
+
+    public void glGenQueries(int a0, IntBuffer a1)
+    {
+        calls++;
+    }
+
+    public void glGenQueriesARB(int a0, int[] a1, int a2)
+    {
+        calls++;
+    }
+
+    public void glGenQueriesARB(int a0, IntBuffer a1)
+    {
+        calls++;
+    }
+
+    public void glGenRenderbuffersEXT(int a0, int[] a1, int a2)
+    {
+        calls++;
+    }
+
+    public void glGenRenderbuffersEXT(int a0, IntBuffer a1)
+    {
+        calls++;
+    }
+
+    public int glGenSymbolsEXT(int a0, int a1, int a2, int a3)
+    {
+        calls++;
+        return 0;
+    }
+
+    public void glGenTextures(int a0, int[] a1, int a2)
+    {
+        calls++;
+    }
+
+    public void glGenTextures(int a0, IntBuffer a1)
+    {
+        calls++;
+    }
+
+    public void glGenVertexArraysAPPLE(int a0, int[] a1, int a2)
+    {
+        calls++;
+    }
+
+    public void glGenVertexArraysAPPLE(int a0, IntBuffer a1)
+    {
+        calls++;
+    }
+
+    public int glGenVertexShadersEXT(int a0)
+    {
+        calls++;
+        return 0;
+    }
+
+    public void glGenerateMipmapEXT(int a0)
+    {
+        calls++;
+    }
+
+    public void glGetActiveAttrib(
+        int a0, int a1, int a2, int[] a3, int a4, int[] a5, int a6, int[] a7,
+        int a8, byte[] a9, int a10)
+    {
+        calls++;
+    }
+
+    public void glGetActiveAttrib(
+        int a0, int a1, int a2, IntBuffer a3, IntBuffer a4, IntBuffer a5,
+        ByteBuffer a6)
+    {
+        calls++;
+    }
+
+    public void glGetActiveAttribARB(
+        int a0, int a1, int a2, int[] a3, int a4, int[] a5, int a6, int[] a7,
+        int a8, byte[] a9, int a10)
+    {
+        calls++;
+    }
+
+    public void glGetActiveAttribARB(
+        int a0, int a1, int a2, IntBuffer a3, IntBuffer a4, IntBuffer a5,
+        ByteBuffer a6)
+    {
+        calls++;
+    }
+
+    public void glGetActiveUniform(
+        int a0, int a1, int a2, int[] a3, int a4, int[] a5, int a6, int[] a7,
+        int a8, byte[] a9, int a10)
+    {
+        calls++;
+    }
+
+    public void glGetActiveUniform(
+        int a0, int a1, int a2, IntBuffer a3, IntBuffer a4, IntBuffer a5,
+        ByteBuffer a6)
+    {
+        calls++;
+    }
+
+    public void glGetActiveUniformARB(
+        int a0, int a1, int a2, int[] a3, int a4, int[] a5, int a6, int[] a7,
+        int a8, byte[] a9, int a10)
+    {
+        calls++;
+    }
+
+    public void glGetActiveUniformARB(
+        int a0, int a1, int a2, IntBuffer a3, IntBuffer a4, IntBuffer a5,
+        ByteBuffer a6)
+    {
+        calls++;
+    }
+
+    public void glGetActiveVaryingNV(
+        int a0, int a1, int a2, int[] a3, int a4, int[] a5, int a6, int[] a7,
+        int a8, byte[] a9, int a10)
+    {
+        calls++;
+    }
+
+    public void glGetActiveVaryingNV(
+        int a0, int a1, int a2, IntBuffer a3, IntBuffer a4, IntBuffer a5,
+        ByteBuffer a6)
+    {
+        calls++;
+    }
+
+    public void glGetArrayObjectfvATI(int a0, int a1, float[] a2, int a3)
+    {
+        calls++;
+    }
+
+    public void glGetArrayObjectfvATI(int a0, int a1, FloatBuffer a2)
+    {
+        calls++;
+    }
+
+    public void glGetArrayObjectivATI(int a0, int a1, int[] a2, int a3)
+    {
+        calls++;
+    }
+
+    public void glGetArrayObjectivATI(int a0, int a1, IntBuffer a2)
+    {
+        calls++;
+    }
+
+    public void glGetAttachedObjectsARB(
+        int a0, int a1, int[] a2, int a3, int[] a4, int a5)
+    {
+        calls++;
+    }
+
+    public void glGetAttachedObjectsARB(
+        int a0, int a1, IntBuffer a2, IntBuffer a3)
+    {
+        calls++;
+    }
+
+    public void glGetAttachedShaders(
+        int a0, int a1, int[] a2, int a3, int[] a4, int a5)
+    {
+        calls++;
+    }
+
+    public void glGetAttachedShaders(
+        int a0, int a1, IntBuffer a2, IntBuffer a3)
+    {
+        calls++;
+    }
+
+    public int glGetAttribLocation(int a0, String a1)
+    {
+        calls++;
+        return 0;
+    }
+
+    public int glGetAttribLocationARB(int a0, String a1)
+    {
+        calls++;
+        return 0;
+    }
+
+    public void glGetBooleanIndexedvEXT(int a0, int a1, byte[] a2, int a3)
+    {
+        calls++;
+    }
+
+    public void glGetBooleanIndexedvEXT(int a0, int a1, ByteBuffer a2)
+    {
+        calls++;
+    }
+
+    public void glGetBooleanv(int a0, byte[] a1, int a2)
+    {
+        calls++;
+    }
+
+    public void glGetBooleanv(int a0, ByteBuffer a1)
+    {
+        calls++;
+    }
+
+    public void glGetBufferParameteriv(int a0, int a1, int[] a2, int a3)
+    {
+        calls++;
+    }
+
+    public void glGetBufferParameteriv(int a0, int a1, IntBuffer a2)
+    {
+        calls++;
+    }
+
+    public void glGetBufferParameterivARB(int a0, int a1, int[] a2, int a3)
+    {
+        calls++;
+    }
+
+    public void glGetBufferParameterivARB(int a0, int a1, IntBuffer a2)
+    {
+        calls++;
+    }
+
+    public void glGetBufferSubData(int a0, int a1, int a2, Buffer a3)
+    {
+        calls++;
+    }
+
+    public void glGetBufferSubDataARB(int a0, int a1, int a2, Buffer a3)
+    {
+        calls++;
+    }
+
+    public void glGetClipPlane(int a0, double[] a1, int a2)
+    {
+        calls++;
+    }
+
+    public void glGetClipPlane(int a0, DoubleBuffer a1)
+    {
+        calls++;
+    }
+
+    public void glGetColorTable(int a0, int a1, int a2, Buffer a3)
+    {
+        calls++;
+    }
+
+    public void glGetColorTable(int a0, int a1, int a2, long a3)
+    {
+        calls++;
+    }
+
+    public void glGetColorTableEXT(int a0, int a1, int a2, Buffer a3)
+    {
+        calls++;
+    }
+
+    public void glGetColorTableParameterfv(int a0, int a1, float[] a2, int a3)
+    {
+        calls++;
+    }
+
+    public void glGetColorTableParameterfv(int a0, int a1, FloatBuffer a2)
+    {
+        calls++;
+    }
+
+    public void glGetColorTableParameterfvEXT(
+        int a0, int a1, float[] a2, int a3)
+    {
+        calls++;
+    }
+
+    public void glGetColorTableParameterfvEXT(int a0, int a1, FloatBuffer a2)
+    {
+        calls++;
+    }
+
+    public void glGetColorTableParameteriv(int a0, int a1, int[] a2, int a3)
+    {
+        calls++;
+    }
+
+    public void glGetColorTableParameteriv(int a0, int a1, IntBuffer a2)
+    {
+        calls++;
+    }
+
+    public void glGetColorTableParameterivEXT(int a0, int a1, int[] a2, int a3)
+    {
+        calls++;
+    }
+
+    public void glGetColorTableParameterivEXT(int a0, int a1, IntBuffer a2)
+    {
+        calls++;
+    }
+
+    public void glGetCombinerInputParameterfvNV(
+        int a0, int a1, int a2, int a3, float[] a4, int a5)
+    {
+        calls++;
+    }
+
+    public void glGetCombinerInputParameterfvNV(
+        int a0, int a1, int a2, int a3, FloatBuffer a4)
+    {
+        calls++;
+    }
+
+    public void glGetCombinerInputParameterivNV(
+        int a0, int a1, int a2, int a3, int[] a4, int a5)
+    {
+        calls++;
+    }
+
+    public void glGetCombinerInputParameterivNV(
+        int a0, int a1, int a2, int a3, IntBuffer a4)
+    {
+        calls++;
+    }
+
+    public void glGetCombinerOutputParameterfvNV(
+        int a0, int a1, int a2, float[] a3, int a4)
+    {
+        calls++;
+    }
+
+    public void glGetCombinerOutputParameterfvNV(
+        int a0, int a1, int a2, FloatBuffer a3)
+    {
+        calls++;
+    }
+
+    public void glGetCombinerOutputParameterivNV(
+        int a0, int a1, int a2, int[] a3, int a4)
+    {
+        calls++;
+    }
+
+    public void glGetCombinerOutputParameterivNV(
+        int a0, int a1, int a2, IntBuffer a3)
+    {
+        calls++;
+    }
+
+    public void glGetCombinerStageParameterfvNV(
+        int a0, int a1, float[] a2, int a3)
+    {
+        calls++;
+    }
+
+    public void glGetCombinerStageParameterfvNV(int a0, int a1, FloatBuffer a2)
+    {
+        calls++;
+    }
+
+    public void glGetCompressedTexImage(int a0, int a1, Buffer a2)
+    {
+        calls++;
+    }
+
+    public void glGetCompressedTexImage(int a0, int a1, long a2)
+    {
+        calls++;
+    }
+
+    public void glGetConvolutionFilter(int a0, int a1, int a2, Buffer a3)
+    {
+        calls++;
+    }
+
+    public void glGetConvolutionFilter(int a0, int a1, int a2, long a3)
+    {
+        calls++;
+    }
+
+    public void glGetConvolutionParameterfv(int a0, int a1, float[] a2, int a3)
+    {
+        calls++;
+    }
+
+    public void glGetConvolutionParameterfv(int a0, int a1, FloatBuffer a2)
+    {
+        calls++;
+    }
+
+    public void glGetConvolutionParameteriv(int a0, int a1, int[] a2, int a3)
+    {
+        calls++;
+    }
+
+    public void glGetConvolutionParameteriv(int a0, int a1, IntBuffer a2)
+    {
+        calls++;
+    }
+
+    public void glGetDetailTexFuncSGIS(int a0, float[] a1, int a2)
+    {
+        calls++;
+    }
+
+    public void glGetDetailTexFuncSGIS(int a0, FloatBuffer a1)
+    {
+        calls++;
+    }
+
+    public void glGetDoublev(int a0, double[] a1, int a2)
+    {
+        calls++;
+    }
+
+    public void glGetDoublev(int a0, DoubleBuffer a1)
+    {
+        calls++;
+    }
+
+    public int glGetError()
+    {
+        calls++;
+        return 0;
+    }
+
+    public void glGetFenceivNV(int a0, int a1, int[] a2, int a3)
+    {
+        calls++;
+    }
+
+    public void glGetFenceivNV(int a0, int a1, IntBuffer a2)
+    {
+        calls++;
+    }
+
+    public void glGetFinalCombinerInputParameterfvNV(
+        int a0, int a1, float[] a2, int a3)
+    {
+        calls++;
+    }
+
+    public void glGetFinalCombinerInputParameterfvNV(
+        int a0, int a1, FloatBuffer a2)
+    {
+        calls++;
+    }
+
+    public void glGetFinalCombinerInputParameterivNV(
+        int a0, int a1, int[] a2, int a3)
+    {
+        calls++;
+    }
+
+    public void glGetFinalCombinerInputParameterivNV(
+        int a0, int a1, IntBuffer a2)
+    {
+        calls++;
+    }
+
+    public void glGetFloatv(int a0, float[] a1, int a2)
+    {
+        calls++;
+    }
+
+    public void glGetFloatv(int a0, FloatBuffer a1)
+    {
+        calls++;
+    }
+
+    public void glGetFogFuncSGIS(float[] a0, int a1)
+    {
+        calls++;
+    }
+
+    public void glGetFogFuncSGIS(FloatBuffer a0)
+    {
+        calls++;
+    }
+
+    public int glGetFragDataLocationEXT(int a0, byte[] a1, int a2)
+    {
+        calls++;
+        return 0;
+    }
+
+    public int glGetFragDataLocationEXT(int a0, ByteBuffer a1)
+    {
+        calls++;
+        return 0;
+    }
+
+    public void glGetFragmentLightfvSGIX(int a0, int a1, float[] a2, int a3)
+    {
+        calls++;
+    }
+
+    public void glGetFragmentLightfvSGIX(int a0, int a1, FloatBuffer a2)
+    {
+        calls++;
+    }
+
+    public void glGetFragmentLightivSGIX(int a0, int a1, int[] a2, int a3)
+    {
+        calls++;
+    }
+
+    public void glGetFragmentLightivSGIX(int a0, int a1, IntBuffer a2)
+    {
+        calls++;
+    }
+
+    public void glGetFragmentMaterialfvSGIX(int a0, int a1, float[] a2, int a3)
+    {
+        calls++;
+    }
+
+    public void glGetFragmentMaterialfvSGIX(int a0, int a1, FloatBuffer a2)
+    {
+        calls++;
+    }
+
+    public void glGetFragmentMaterialivSGIX(int a0, int a1, int[] a2, int a3)
+    {
+        calls++;
+    }
+
+    public void glGetFragmentMaterialivSGIX(int a0, int a1, IntBuffer a2)
+    {
+        calls++;
+    }
+
+    public void glGetFramebufferAttachmentParameterivEXT(
+        int a0, int a1, int a2, int[] a3, int a4)
+    {
+        calls++;
+    }
+
+    public void glGetFramebufferAttachmentParameterivEXT(
+        int a0, int a1, int a2, IntBuffer a3)
+    {
+        calls++;
+    }
+
+    public int glGetHandleARB(int a0)
+    {
+        calls++;
+        return 0;
+    }
+
+    public void glGetHistogram(int a0, boolean a1, int a2, int a3, Buffer a4)
+    {
+        calls++;
+    }
+
+    public void glGetHistogram(int a0, boolean a1, int a2, int a3, long a4)
+    {
+        calls++;
+    }
+
+    public void glGetHistogramParameterfv(int a0, int a1, float[] a2, int a3)
+    {
+        calls++;
+    }
+
+    public void glGetHistogramParameterfv(int a0, int a1, FloatBuffer a2)
+    {
+        calls++;
+    }
+
+    public void glGetHistogramParameteriv(int a0, int a1, int[] a2, int a3)
+    {
+        calls++;
+    }
+
+    public void glGetHistogramParameteriv(int a0, int a1, IntBuffer a2)
+    {
+        calls++;
+    }
+
+    public void glGetImageTransformParameterfvHP(
+        int a0, int a1, float[] a2, int a3)
+    {
+        calls++;
+    }
+
+    public void glGetImageTransformParameterfvHP(
+        int a0, int a1, FloatBuffer a2)
+    {
+        calls++;
+    }
+
+    public void glGetImageTransformParameterivHP(
+        int a0, int a1, int[] a2, int a3)
+    {
+        calls++;
+    }
+
+    public void glGetImageTransformParameterivHP(int a0, int a1, IntBuffer a2)
+    {
+        calls++;
+    }
+
+    public void glGetInfoLogARB(
+        int a0, int a1, int[] a2, int a3, byte[] a4, int a5)
+    {
+        calls++;
+    }
+
+    public void glGetInfoLogARB(int a0, int a1, IntBuffer a2, ByteBuffer a3)
+    {
+        calls++;
+    }
+
+    public int glGetInstrumentsSGIX()
+    {
+        calls++;
+        return 0;
+    }
+
+    public void glGetIntegerIndexedvEXT(int a0, int a1, int[] a2, int a3)
+    {
+        calls++;
+    }
+
+    public void glGetIntegerIndexedvEXT(int a0, int a1, IntBuffer a2)
+    {
+        calls++;
+    }
+
+    public void glGetIntegerv(int a0, int[] a1, int a2)
+    {
+        calls++;
+    }
+
+    public void glGetIntegerv(int a0, IntBuffer a1)
+    {
+        calls++;
+    }
+
+    public void glGetInvariantBooleanvEXT(int a0, int a1, byte[] a2, int a3)
+    {
+        calls++;
+    }
+
+    public void glGetInvariantBooleanvEXT(int a0, int a1, ByteBuffer a2)
+    {
+        calls++;
+    }
+
+    public void glGetInvariantFloatvEXT(int a0, int a1, float[] a2, int a3)
+    {
+        calls++;
+    }
+
+    public void glGetInvariantFloatvEXT(int a0, int a1, FloatBuffer a2)
+    {
+        calls++;
+    }
+
+    public void glGetInvariantIntegervEXT(int a0, int a1, int[] a2, int a3)
+    {
+        calls++;
+    }
+
+    public void glGetInvariantIntegervEXT(int a0, int a1, IntBuffer a2)
+    {
+        calls++;
+    }
+
+    public void glGetLightfv(int a0, int a1, float[] a2, int a3)
+    {
+        calls++;
+    }
+
+    public void glGetLightfv(int a0, int a1, FloatBuffer a2)
+    {
+        calls++;
+    }
+
+    public void glGetLightiv(int a0, int a1, int[] a2, int a3)
+    {
+        calls++;
+    }
+
+    public void glGetLightiv(int a0, int a1, IntBuffer a2)
+    {
+        calls++;
+    }
+
+    public void glGetListParameterfvSGIX(int a0, int a1, float[] a2, int a3)
+    {
+        calls++;
+    }
+
+    public void glGetListParameterfvSGIX(int a0, int a1, FloatBuffer a2)
+    {
+        calls++;
+    }
+
+    public void glGetListParameterivSGIX(int a0, int a1, int[] a2, int a3)
+    {
+        calls++;
+    }
+
+    public void glGetListParameterivSGIX(int a0, int a1, IntBuffer a2)
+    {
+        calls++;
+    }
+
+    public void glGetLocalConstantBooleanvEXT(
+        int a0, int a1, byte[] a2, int a3)
+    {
+        calls++;
+    }
+
+    public void glGetLocalConstantBooleanvEXT(int a0, int a1, ByteBuffer a2)
+    {
+        calls++;
+    }
+
+    public void glGetLocalConstantFloatvEXT(int a0, int a1, float[] a2, int a3)
+    {
+        calls++;
+    }
+
+    public void glGetLocalConstantFloatvEXT(int a0, int a1, FloatBuffer a2)
+    {
+        calls++;
+    }
+
+    public void glGetLocalConstantIntegervEXT(int a0, int a1, int[] a2, int a3)
+    {
+        calls++;
+    }
+
+    public void glGetLocalConstantIntegervEXT(int a0, int a1, IntBuffer a2)
+    {
+        calls++;
+    }
+
+    public void glGetMapAttribParameterfvNV(
+        int a0, int a1, int a2, float[] a3, int a4)
+    {
+        calls++;
+    }
+
+    public void glGetMapAttribParameterfvNV(
+        int a0, int a1, int a2, FloatBuffer a3)
+    {
+        calls++;
+    }
+
+    public void glGetMapAttribParameterivNV(
+        int a0, int a1, int a2, int[] a3, int a4)
+    {
+        calls++;
+    }
+
+    public void glGetMapAttribParameterivNV(
+        int a0, int a1, int a2, IntBuffer a3)
+    {
+        calls++;
+    }
+
+    public void glGetMapControlPointsNV(
+        int a0, int a1, int a2, int a3, int a4, boolean a5, Buffer a6)
+    {
+        calls++;
+    }
+
+    public void glGetMapParameterfvNV(int a0, int a1, float[] a2, int a3)
+    {
+        calls++;
+    }
+
+    public void glGetMapParameterfvNV(int a0, int a1, FloatBuffer a2)
+    {
+        calls++;
+    }
+
+    public void glGetMapParameterivNV(int a0, int a1, int[] a2, int a3)
+    {
+        calls++;
+    }
+
+    public void glGetMapParameterivNV(int a0, int a1, IntBuffer a2)
+    {
+        calls++;
+    }
+
+    public void glGetMapdv(int a0, int a1, double[] a2, int a3)
+    {
+        calls++;
+    }
+
+    public void glGetMapdv(int a0, int a1, DoubleBuffer a2)
+    {
+        calls++;
+    }
+
+    public void glGetMapfv(int a0, int a1, float[] a2, int a3)
+    {
+        calls++;
+    }
+
+    public void glGetMapfv(int a0, int a1, FloatBuffer a2)
+    {
+        calls++;
+    }
+
+    public void glGetMapiv(int a0, int a1, int[] a2, int a3)
+    {
+        calls++;
+    }
+
+    public void glGetMapiv(int a0, int a1, IntBuffer a2)
+    {
+        calls++;
+    }
+
+    public void glGetMaterialfv(int a0, int a1, float[] a2, int a3)
+    {
+        calls++;
+    }
+
+    public void glGetMaterialfv(int a0, int a1, FloatBuffer a2)
+    {
+        calls++;
+    }
+
+    public void glGetMaterialiv(int a0, int a1, int[] a2, int a3)
+    {
+        calls++;
+    }
+
+    public void glGetMaterialiv(int a0, int a1, IntBuffer a2)
+    {
+        calls++;
+    }
+
+    public void glGetMinmax(int a0, boolean a1, int a2, int a3, Buffer a4)
+    {
+        calls++;
+    }
+
+    public void glGetMinmax(int a0, boolean a1, int a2, int a3, long a4)
+    {
+        calls++;
+    }
+
+    public void glGetMinmaxParameterfv(int a0, int a1, float[] a2, int a3)
+    {
+        calls++;
+    }
+
+    public void glGetMinmaxParameterfv(int a0, int a1, FloatBuffer a2)
+    {
+        calls++;
+    }
+
+    public void glGetMinmaxParameteriv(int a0, int a1, int[] a2, int a3)
+    {
+        calls++;
+    }
+
+    public void glGetMinmaxParameteriv(int a0, int a1, IntBuffer a2)
+    {
+        calls++;
+    }
+
+    public void glGetObjectBufferfvATI(int a0, int a1, float[] a2, int a3)
+    {
+        calls++;
+    }
+
+    public void glGetObjectBufferfvATI(int a0, int a1, FloatBuffer a2)
+    {
+        calls++;
+    }
+
+    public void glGetObjectBufferivATI(int a0, int a1, int[] a2, int a3)
+    {
+        calls++;
+    }
+
+    public void glGetObjectBufferivATI(int a0, int a1, IntBuffer a2)
+    {
+        calls++;
+    }
+
+    public void glGetObjectParameterfvARB(int a0, int a1, float[] a2, int a3)
+    {
+        calls++;
+    }
+
+    public void glGetObjectParameterfvARB(int a0, int a1, FloatBuffer a2)
+    {
+        calls++;
+    }
+
+    public void glGetObjectParameterivARB(int a0, int a1, int[] a2, int a3)
+    {
+        calls++;
+    }
+
+    public void glGetObjectParameterivARB(int a0, int a1, IntBuffer a2)
+    {
+        calls++;
+    }
+
+    public void glGetOcclusionQueryivNV(int a0, int a1, int[] a2, int a3)
+    {
+        calls++;
+    }
+
+    public void glGetOcclusionQueryivNV(int a0, int a1, IntBuffer a2)
+    {
+        calls++;
+    }
+
+    public void glGetOcclusionQueryuivNV(int a0, int a1, int[] a2, int a3)
+    {
+        calls++;
+    }
+
+    public void glGetOcclusionQueryuivNV(int a0, int a1, IntBuffer a2)
+    {
+        calls++;
+    }
+
+    public void glGetPixelMapfv(int a0, float[] a1, int a2)
+    {
+        calls++;
+    }
+
+    public void glGetPixelMapfv(int a0, FloatBuffer a1)
+    {
+        calls++;
+    }
+
+    public void glGetPixelMapfv(int a0, long a1)
+    {
+        calls++;
+    }
+
+    public void glGetPixelMapuiv(int a0, int[] a1, int a2)
+    {
+        calls++;
+    }
+
+    public void glGetPixelMapuiv(int a0, IntBuffer a1)
+    {
+        calls++;
+    }
+
+    public void glGetPixelMapuiv(int a0, long a1)
+    {
+        calls++;
+    }
+
+    public void glGetPixelMapusv(int a0, short[] a1, int a2)
+    {
+        calls++;
+    }
+
+    public void glGetPixelMapusv(int a0, ShortBuffer a1)
+    {
+        calls++;
+    }
+
+    public void glGetPixelMapusv(int a0, long a1)
+    {
+        calls++;
+    }
+
+    public void glGetPixelTexGenParameterfvSGIS(int a0, float[] a1, int a2)
+    {
+        calls++;
+    }
+
+    public void glGetPixelTexGenParameterfvSGIS(int a0, FloatBuffer a1)
+    {
+        calls++;
+    }
+
+    public void glGetPixelTexGenParameterivSGIS(int a0, int[] a1, int a2)
+    {
+        calls++;
+    }
+
+    public void glGetPixelTexGenParameterivSGIS(int a0, IntBuffer a1)
+    {
+        calls++;
+    }
+
+    public void glGetPolygonStipple(byte[] a0, int a1)
+    {
+        calls++;
+    }
+
+    public void glGetPolygonStipple(ByteBuffer a0)
+    {
+        calls++;
+    }
+
+    public void glGetPolygonStipple(long a0)
+    {
+        calls++;
+    }
+
+    public void glGetProgramEnvParameterIivNV(int a0, int a1, int[] a2, int a3)
+    {
+        calls++;
+    }
+
+    public void glGetProgramEnvParameterIivNV(int a0, int a1, IntBuffer a2)
+    {
+        calls++;
+    }
+
+    public void glGetProgramEnvParameterIuivNV(
+        int a0, int a1, int[] a2, int a3)
+    {
+        calls++;
+    }
+
+    public void glGetProgramEnvParameterIuivNV(int a0, int a1, IntBuffer a2)
+    {
+        calls++;
+    }
+
+    public void glGetProgramEnvParameterdvARB(
+        int a0, int a1, double[] a2, int a3)
+    {
+        calls++;
+    }
+
+    public void glGetProgramEnvParameterdvARB(int a0, int a1, DoubleBuffer a2)
+    {
+        calls++;
+    }
+
+    public void glGetProgramEnvParameterfvARB(
+        int a0, int a1, float[] a2, int a3)
+    {
+        calls++;
+    }
+
+    public void glGetProgramEnvParameterfvARB(int a0, int a1, FloatBuffer a2)
+    {
+        calls++;
+    }
+
+    public void glGetProgramInfoLog(
+        int a0, int a1, int[] a2, int a3, byte[] a4, int a5)
+    {
+        calls++;
+    }
+
+    public void glGetProgramInfoLog(
+        int a0, int a1, IntBuffer a2, ByteBuffer a3)
+    {
+        calls++;
+    }
+
+    public void glGetProgramLocalParameterIivNV(
+        int a0, int a1, int[] a2, int a3)
+    {
+        calls++;
+    }
+
+    public void glGetProgramLocalParameterIivNV(int a0, int a1, IntBuffer a2)
+    {
+        calls++;
+    }
+
+    public void glGetProgramLocalParameterIuivNV(
+        int a0, int a1, int[] a2, int a3)
+    {
+        calls++;
+    }
+
+    public void glGetProgramLocalParameterIuivNV(int a0, int a1, IntBuffer a2)
+    {
+        calls++;
+    }
+
+    public void glGetProgramLocalParameterdvARB(
+        int a0, int a1, double[] a2, int a3)
+    {
+        calls++;
+    }
+
+    public void glGetProgramLocalParameterdvARB(
+        int a0, int a1, DoubleBuffer a2)
+    {
+        calls++;
+    }
+
+    public void glGetProgramLocalParameterfvARB(
+        int a0, int a1, float[] a2, int a3)
+    {
+        calls++;
+    }
+
+    public void glGetProgramLocalParameterfvARB(int a0, int a1, FloatBuffer a2)
+    {
+        calls++;
+    }
+
+    public void glGetProgramNamedParameterdvNV(
+        int a0, int a1, String a2, double[] a3, int a4)
+    {
+        calls++;
+    }
+
+    public void glGetProgramNamedParameterdvNV(
+        int a0, int a1, String a2, DoubleBuffer a3)
+    {
+        calls++;
+    }
+
+    public void glGetProgramNamedParameterfvNV(
+        int a0, int a1, String a2, float[] a3, int a4)
+    {
+        calls++;
+    }
+
+    public void glGetProgramNamedParameterfvNV(
+        int a0, int a1, String a2, FloatBuffer a3)
+    {
+        calls++;
+    }
+
+    public void glGetProgramParameterdvNV(
+        int a0, int a1, int a2, double[] a3, int a4)
+    {
+        calls++;
+    }
+
+    public void glGetProgramParameterdvNV(
+        int a0, int a1, int a2, DoubleBuffer a3)
+    {
+        calls++;
+    }
+
+    public void glGetProgramParameterfvNV(
+        int a0, int a1, int a2, float[] a3, int a4)
+    {
+        calls++;
+    }
+
+    public void glGetProgramParameterfvNV(
+        int a0, int a1, int a2, FloatBuffer a3)
+    {
+        calls++;
+    }
+
+    public void glGetProgramStringARB(int a0, int a1, Buffer a2)
+    {
+        calls++;
+    }
+
+    public void glGetProgramStringNV(int a0, int a1, byte[] a2, int a3)
+    {
+        calls++;
+    }
+
+    public void glGetProgramStringNV(int a0, int a1, ByteBuffer a2)
+    {
+        calls++;
+    }
+
+    public void glGetProgramiv(int a0, int a1, int[] a2, int a3)
+    {
+        calls++;
+    }
+
+    public void glGetProgramiv(int a0, int a1, IntBuffer a2)
+    {
+        calls++;
+    }
+
+    public void glGetProgramivARB(int a0, int a1, int[] a2, int a3)
+    {
+        calls++;
+    }
+
+    public void glGetProgramivARB(int a0, int a1, IntBuffer a2)
+    {
+        calls++;
+    }
+
+    public void glGetProgramivNV(int a0, int a1, int[] a2, int a3)
+    {
+        calls++;
+    }
+
+    public void glGetProgramivNV(int a0, int a1, IntBuffer a2)
+    {
+        calls++;
+    }
+
+    public void glGetQueryObjecti64vEXT(int a0, int a1, long[] a2, int a3)
+    {
+        calls++;
+    }
+
+    public void glGetQueryObjecti64vEXT(int a0, int a1, LongBuffer a2)
+    {
+        calls++;
+    }
+
+    public void glGetQueryObjectiv(int a0, int a1, int[] a2, int a3)
+    {
+        calls++;
+    }
+
+    public void glGetQueryObjectiv(int a0, int a1, IntBuffer a2)
+    {
+        calls++;
+    }
+
+    public void glGetQueryObjectivARB(int a0, int a1, int[] a2, int a3)
+    {
+        calls++;
+    }
+
+    public void glGetQueryObjectivARB(int a0, int a1, IntBuffer a2)
+    {
+        calls++;
+    }
+
+    public void glGetQueryObjectui64vEXT(int a0, int a1, long[] a2, int a3)
+    {
+        calls++;
+    }
+
+    public void glGetQueryObjectui64vEXT(int a0, int a1, LongBuffer a2)
+    {
+        calls++;
+    }
+
+    public void glGetQueryObjectuiv(int a0, int a1, int[] a2, int a3)
+    {
+        calls++;
+    }
+
+    public void glGetQueryObjectuiv(int a0, int a1, IntBuffer a2)
+    {
+        calls++;
+    }
+
+    public void glGetQueryObjectuivARB(int a0, int a1, int[] a2, int a3)
+    {
+        calls++;
+    }
+
+    public void glGetQueryObjectuivARB(int a0, int a1, IntBuffer a2)
+    {
+        calls++;
+    }
+
+    public void glGetQueryiv(int a0, int a1, int[] a2, int a3)
+    {
+        calls++;
+    }
+
+    public void glGetQueryiv(int a0, int a1, IntBuffer a2)
+    {
+        calls++;
+    }
+
+    public void glGetQueryivARB(int a0, int a1, int[] a2, int a3)
+    {
+        calls++;
+    }
+
+    public void glGetQueryivARB(int a0, int a1, IntBuffer a2)
+    {
+        calls++;
+    }
+
+    public void glGetRenderbufferParameterivEXT(
+        int a0, int a1, int[] a2, int a3)
+    {
+        calls++;
+    }
+
+    public void glGetRenderbufferParameterivEXT(int a0, int a1, IntBuffer a2)
+    {
+        calls++;
+    }
+
+    public void glGetSeparableFilter(
+        int a0, int a1, int a2, Buffer a3, Buffer a4, Buffer a5)
+    {
+        calls++;
+    }
+
+    public void glGetSeparableFilter(
+        int a0, int a1, int a2, long a3, long a4, long a5)
+    {
+        calls++;
+    }
+
+    public void glGetShaderInfoLog(
+        int a0, int a1, int[] a2, int a3, byte[] a4, int a5)
+    {
+        calls++;
+    }
+
+    public void glGetShaderInfoLog(int a0, int a1, IntBuffer a2, ByteBuffer a3)
+    {
+        calls++;
+    }
+
+    public void glGetShaderSource(
+        int a0, int a1, int[] a2, int a3, byte[] a4, int a5)
+    {
+        calls++;
+    }
+
+    public void glGetShaderSource(int a0, int a1, IntBuffer a2, ByteBuffer a3)
+    {
+        calls++;
+    }
+
+    public void glGetShaderSourceARB(
+        int a0, int a1, int[] a2, int a3, byte[] a4, int a5)
+    {
+        calls++;
+    }
+
+    public void glGetShaderSourceARB(
+        int a0, int a1, IntBuffer a2, ByteBuffer a3)
+    {
+        calls++;
+    }
+
+    public void glGetShaderiv(int a0, int a1, int[] a2, int a3)
+    {
+        calls++;
+    }
+
+    public void glGetShaderiv(int a0, int a1, IntBuffer a2)
+    {
+        calls++;
+    }
+
+    public void glGetSharpenTexFuncSGIS(int a0, float[] a1, int a2)
+    {
+        calls++;
+    }
+
+    public void glGetSharpenTexFuncSGIS(int a0, FloatBuffer a1)
+    {
+        calls++;
+    }
+
+    public String glGetString(int a0)
+    {
+        calls++;
+        return null;
+    }
+
+    public void glGetTexBumpParameterfvATI(int a0, float[] a1, int a2)
+    {
+        calls++;
+    }
+
+    public void glGetTexBumpParameterfvATI(int a0, FloatBuffer a1)
+    {
+        calls++;
+    }
+
+    public void glGetTexBumpParameterivATI(int a0, int[] a1, int a2)
+    {
+        calls++;
+    }
+
+    public void glGetTexBumpParameterivATI(int a0, IntBuffer a1)
+    {
+        calls++;
+    }
+
+    public void glGetTexEnvfv(int a0, int a1, float[] a2, int a3)
+    {
+        calls++;
+    }
+
+    public void glGetTexEnvfv(int a0, int a1, FloatBuffer a2)
+    {
+        calls++;
+    }
+
+    public void glGetTexEnviv(int a0, int a1, int[] a2, int a3)
+    {
+        calls++;
+    }
+
+    public void glGetTexEnviv(int a0, int a1, IntBuffer a2)
+    {
+        calls++;
+    }
+
+    public void glGetTexFilterFuncSGIS(int a0, int a1, float[] a2, int a3)
+    {
+        calls++;
+    }
+
+    public void glGetTexFilterFuncSGIS(int a0, int a1, FloatBuffer a2)
+    {
+        calls++;
+    }
+
+    public void glGetTexGendv(int a0, int a1, double[] a2, int a3)
+    {
+        calls++;
+    }
+
+    public void glGetTexGendv(int a0, int a1, DoubleBuffer a2)
+    {
+        calls++;
+    }
+
+    public void glGetTexGenfv(int a0, int a1, float[] a2, int a3)
+    {
+        calls++;
+    }
+
+    public void glGetTexGenfv(int a0, int a1, FloatBuffer a2)
+    {
+        calls++;
+    }
+
+    public void glGetTexGeniv(int a0, int a1, int[] a2, int a3)
+    {
+        calls++;
+    }
+
+    public void glGetTexGeniv(int a0, int a1, IntBuffer a2)
+    {
+        calls++;
+    }
+
+    public void glGetTexImage(int a0, int a1, int a2, int a3, Buffer a4)
+    {
+        calls++;
+    }
+
+    public void glGetTexImage(int a0, int a1, int a2, int a3, long a4)
+    {
+        calls++;
+    }
+
+    public void glGetTexLevelParameterfv(
+        int a0, int a1, int a2, float[] a3, int a4)
+    {
+        calls++;
+    }
+
+    public void glGetTexLevelParameterfv(
+        int a0, int a1, int a2, FloatBuffer a3)
+    {
+        calls++;
+    }
+
+    public void glGetTexLevelParameteriv(
+        int a0, int a1, int a2, int[] a3, int a4)
+    {
+        calls++;
+    }
+
+    public void glGetTexLevelParameteriv(int a0, int a1, int a2, IntBuffer a3)
+    {
+        calls++;
+    }
+
+    public void glGetTexParameterIivEXT(int a0, int a1, int[] a2, int a3)
+    {
+        calls++;
+    }
+
+    public void glGetTexParameterIivEXT(int a0, int a1, IntBuffer a2)
+    {
+        calls++;
+    }
+
+    public void glGetTexParameterIuivEXT(int a0, int a1, int[] a2, int a3)
+    {
+        calls++;
+    }
+
+    public void glGetTexParameterIuivEXT(int a0, int a1, IntBuffer a2)
+    {
+        calls++;
+    }
+
+    public void glGetTexParameterfv(int a0, int a1, float[] a2, int a3)
+    {
+        calls++;
+    }
+
+    public void glGetTexParameterfv(int a0, int a1, FloatBuffer a2)
+    {
+        calls++;
+    }
+
+    public void glGetTexParameteriv(int a0, int a1, int[] a2, int a3)
+    {
+        calls++;
+    }
+
+    public void glGetTexParameteriv(int a0, int a1, IntBuffer a2)
+    {
+        calls++;
+    }
+
+    public void glGetTrackMatrixivNV(int a0, int a1, int a2, int[] a3, int a4)
+    {
+        calls++;
+    }
+
+    public void glGetTrackMatrixivNV(int a0, int a1, int a2, IntBuffer a3)
+    {
+        calls++;
+    }
+
+    public void glGetTransformFeedbackVaryingNV(
+        int a0, int a1, int[] a2, int a3)
+    {
+        calls++;
+    }
+
+    public void glGetTransformFeedbackVaryingNV(int a0, int a1, IntBuffer a2)
+    {
+        calls++;
+    }
+
+    public int glGetUniformBufferSizeEXT(int a0, int a1)
+    {
+        calls++;
+        return 0;
+    }
+
+    public int glGetUniformLocation(int a0, String a1)
+    {
+        calls++;
+        return 0;
+    }
+
+    public int glGetUniformLocationARB(int a0, String a1)
+    {
+        calls++;
+        return 0;
+    }
+
+    public int glGetUniformOffsetEXT(int a0, int a1)
+    {
+        calls++;
+        return 0;
+    }
+
+    public void glGetUniformfv(int a0, int a1, float[] a2, int a3)
+    {
+        calls++;
+    }
+
+    public void glGetUniformfv(int a0, int a1, FloatBuffer a2)
+    {
+        calls++;
+    }
+
+    public void glGetUniformfvARB(int a0, int a1, float[] a2, int a3)
+    {
+        calls++;
+    }
+
+    public void glGetUniformfvARB(int a0, int a1, FloatBuffer a2)
+    {
+        calls++;
+    }
+
+    public void glGetUniformiv(int a0, int a1, int[] a2, int a3)
+    {
+        calls++;
+    }
+
+    public void glGetUniformiv(int a0, int a1, IntBuffer a2)
+    {
+        calls++;
+    }
+
+    public void glGetUniformivARB(int a0, int a1, int[] a2, int a3)
+    {
+        calls++;
+    }
+
+    public void glGetUniformivARB(int a0, int a1, IntBuffer a2)
+    {
+        calls++;
+    }
+
+    public void glGetUniformuivEXT(int a0, int a1, int[] a2, int a3)
+    {
+        calls++;
+    }
+
+    public void glGetUniformuivEXT(int a0, int a1, IntBuffer a2)
+    {
+        calls++;
+    }
+
+    public void glGetVariantArrayObjectfvATI(
+        int a0, int a1, float[] a2, int a3)
+    {
+        calls++;
+    }
+
+    public void glGetVariantArrayObjectfvATI(int a0, int a1, FloatBuffer a2)
+    {
+        calls++;
+    }
+
+    public void glGetVariantArrayObjectivATI(int a0, int a1, int[] a2, int a3)
+    {
+        calls++;
+    }
+
+    public void glGetVariantArrayObjectivATI(int a0, int a1, IntBuffer a2)
+    {
+        calls++;
+    }
+
+    public void glGetVariantBooleanvEXT(int a0, int a1, byte[] a2, int a3)
+    {
+        calls++;
+    }
+
+    public void glGetVariantBooleanvEXT(int a0, int a1, ByteBuffer a2)
+    {
+        calls++;
+    }
+
+    public void glGetVariantFloatvEXT(int a0, int a1, float[] a2, int a3)
+    {
+        calls++;
+    }
+
+    public void glGetVariantFloatvEXT(int a0, int a1, FloatBuffer a2)
+    {
+        calls++;
+    }
+
+    public void glGetVariantIntegervEXT(int a0, int a1, int[] a2, int a3)
+    {
+        calls++;
+    }
+
+    public void glGetVariantIntegervEXT(int a0, int a1, IntBuffer a2)
+    {
+        calls++;
+    }
+
+    public int glGetVaryingLocationNV(int a0, byte[] a1, int a2)
+    {
+        calls++;
+        return 0;
+    }
+
+    public int glGetVaryingLocationNV(int a0, ByteBuffer a1)
+    {
+        calls++;
+        return 0;
+    }
+
+    public void glGetVertexAttribArrayObjectfvATI(
+        int a0, int a1, float[] a2, int a3)
+    {
+        calls++;
+    }
+
+    public void glGetVertexAttribArrayObjectfvATI(
+        int a0, int a1, FloatBuffer a2)
+    {
+        calls++;
+    }
+
+    public void glGetVertexAttribArrayObjectivATI(
+        int a0, int a1, int[] a2, int a3)
+    {
+        calls++;
+    }
+
+    public void glGetVertexAttribArrayObjectivATI(int a0, int a1, IntBuffer a2)
+    {
+        calls++;
+    }
+
+    public void glGetVertexAttribIivEXT(int a0, int a1, int[] a2, int a3)
+    {
+        calls++;
+    }
+
+    public void glGetVertexAttribIivEXT(int a0, int a1, IntBuffer a2)
+    {
+        calls++;
+    }
+
+    public void glGetVertexAttribIuivEXT(int a0, int a1, int[] a2, int a3)
+    {
+        calls++;
+    }
+
+    public void glGetVertexAttribIuivEXT(int a0, int a1, IntBuffer a2)
+    {
+        calls++;
+    }
+
+    public void glGetVertexAttribdv(int a0, int a1, double[] a2, int a3)
+    {
+        calls++;
+    }
+
+    public void glGetVertexAttribdv(int a0, int a1, DoubleBuffer a2)
+    {
+        calls++;
+    }
+
+    public void glGetVertexAttribdvARB(int a0, int a1, double[] a2, int a3)
+    {
+        calls++;
+    }
+
+    public void glGetVertexAttribdvARB(int a0, int a1, DoubleBuffer a2)
+    {
+        calls++;
+    }
+
+    public void glGetVertexAttribdvNV(int a0, int a1, double[] a2, int a3)
+    {
+        calls++;
+    }
+
+    public void glGetVertexAttribdvNV(int a0, int a1, DoubleBuffer a2)
+    {
+        calls++;
+    }
+
+    public void glGetVertexAttribfv(int a0, int a1, float[] a2, int a3)
+    {
+        calls++;
+    }
+
+    public void glGetVertexAttribfv(int a0, int a1, FloatBuffer a2)
+    {
+        calls++;
+    }
+
+    public void glGetVertexAttribfvARB(int a0, int a1, float[] a2, int a3)
+    {
+        calls++;
+    }
+
+    public void glGetVertexAttribfvARB(int a0, int a1, FloatBuffer a2)
+    {
+        calls++;
+    }
+
+    public void glGetVertexAttribfvNV(int a0, int a1, float[] a2, int a3)
+    {
+        calls++;
+    }
+
+    public void glGetVertexAttribfvNV(int a0, int a1, FloatBuffer a2)
+    {
+        calls++;
+    }
+
+    public void glGetVertexAttribiv(int a0, int a1, int[] a2, int a3)
+    {
+        calls++;
+    }
+
+    public void glGetVertexAttribiv(int a0, int a1, IntBuffer a2)
+    {
+        calls++;
+    }
+
+    public void glGetVertexAttribivARB(int a0, int a1, int[] a2, int a3)
+    {
+        calls++;
+    }
+
+    public void glGetVertexAttribivARB(int a0, int a1, IntBuffer a2)
+    {
+        calls++;
+    }
+
+    public void glGetVertexAttribivNV(int a0, int a1, int[] a2, int a3)
+    {
+        calls++;
+    }
+
+    public void glGetVertexAttribivNV(int a0, int a1, IntBuffer a2)
+    {
+        calls++;
+    }
+
+    public void glGlobalAlphaFactorbSUN(byte a0)
+    {
+        calls++;
+    }
+
+    public void glGlobalAlphaFactordSUN(double a0)
+    {
+        calls++;
+    }
+
+    public void glGlobalAlphaFactorfSUN(float a0)
+    {
+        calls++;
+    }
+
+    public void glGlobalAlphaFactoriSUN(int a0)
+    {
+        calls++;
+    }
+
+    public void glGlobalAlphaFactorsSUN(short a0)
+    {
+        calls++;
+    }
+
+    public void glGlobalAlphaFactorubSUN(byte a0)
+    {
+        calls++;
+    }
+
+    public void glGlobalAlphaFactoruiSUN(int a0)
+    {
+        calls++;
+    }
+
+    public void glGlobalAlphaFactorusSUN(short a0)
+    {
+        calls++;
+    }
+
+    public void glHint(int a0, int a1)
+    {
+        calls++;
+    }
+
+    public void glHintPGI(int a0, int a1)
+    {
+        calls++;
+    }
+
+    public void glHistogram(int a0, int a1, int a2, boolean a3)
+    {
+        calls++;
+    }
+
+    public void glIglooInterfaceSGIX(int a0, Buffer a1)
+    {
+        calls++;
+    }
+
+    public void glImageTransformParameterfHP(int a0, int a1, float a2)
+    {
+        calls++;
+    }
+
+    public void glImageTransformParameterfvHP(
+        int a0, int a1, float[] a2, int a3)
+    {
+        calls++;
+    }
+
+    public void glImageTransformParameterfvHP(int a0, int a1, FloatBuffer a2)
+    {
+        calls++;
+    }
+
+    public void glImageTransformParameteriHP(int a0, int a1, int a2)
+    {
+        calls++;
+    }
+
+    public void glImageTransformParameterivHP(int a0, int a1, int[] a2, int a3)
+    {
+        calls++;
+    }
+
+    public void glImageTransformParameterivHP(int a0, int a1, IntBuffer a2)
+    {
+        calls++;
+    }
+
+    public void glIndexFuncEXT(int a0, float a1)
+    {
+        calls++;
+    }
+
+    public void glIndexMask(int a0)
+    {
+        calls++;
+    }
+
+    public void glIndexMaterialEXT(int a0, int a1)
+    {
+        calls++;
+    }
+
+    public void glIndexPointer(int a0, int a1, Buffer a2)
+    {
+        calls++;
+    }
+
+    public void glIndexd(double a0)
+    {
+        calls++;
+    }
+
+    public void glIndexdv(double[] a0, int a1)
+    {
+        calls++;
+    }
+
+    public void glIndexdv(DoubleBuffer a0)
+    {
+        calls++;
+    }
+
+    public void glIndexf(float a0)
+    {
+        calls++;
+    }
+
+    public void glIndexfv(float[] a0, int a1)
+    {
+        calls++;
+    }
+
+    public void glIndexfv(FloatBuffer a0)
+    {
+        calls++;
+    }
+
+    public void glIndexi(int a0)
+    {
+        calls++;
+    }
+
+    public void glIndexiv(int[] a0, int a1)
+    {
+        calls++;
+    }
+
+    public void glIndexiv(IntBuffer a0)
+    {
+        calls++;
+    }
+
+    public void glIndexs(short a0)
+    {
+        calls++;
+    }
+
+    public void glIndexsv(short[] a0, int a1)
+    {
+        calls++;
+    }
+
+    public void glIndexsv(ShortBuffer a0)
+    {
+        calls++;
+    }
+
+    public void glIndexub(byte a0)
+    {
+        calls++;
+    }
+
+    public void glIndexubv(byte[] a0, int a1)
+    {
+        calls++;
+    }
+
+    public void glIndexubv(ByteBuffer a0)
+    {
+        calls++;
+    }
+
+    public void glInitNames()
+    {
+        calls++;
+    }
+
+    public void glInsertComponentEXT(int a0, int a1, int a2)
+    {
+        calls++;
+    }
+
+    public void glInstrumentsBufferSGIX(int a0, int[] a1, int a2)
+    {
+        calls++;
+    }
+
+    public void glInstrumentsBufferSGIX(int a0, IntBuffer a1)
+    {
+        calls++;
+    }
+
+    public void glInterleavedArrays(int a0, int a1, Buffer a2)
+    {
+        calls++;
+    }
+
+    public void glInterleavedArrays(int a0, int a1, long a2)
+    {
+        calls++;
+    }
+
+    public boolean glIsAsyncMarkerSGIX(int a0)
+    {
+        calls++;
+        return false;
+    }
+
+    public boolean glIsBuffer(int a0)
+    {
+        calls++;
+        return false;
+    }
+
+    public boolean glIsBufferARB(int a0)
+    {
+        calls++;
+        return false;
+    }
+
+    public boolean glIsEnabled(int a0)
+    {
+        calls++;
+        return false;
+    }
+
+    public boolean glIsEnabledIndexedEXT(int a0, int a1)
+    {
+        calls++;
+        return false;
+    }
+
+    public boolean glIsFenceAPPLE(int a0)
+    {
+        calls++;
+        return false;
+    }
+
+    public boolean glIsFenceNV(int a0)
+    {
+        calls++;
+        return false;
+    }
+
+    public boolean glIsFramebufferEXT(int a0)
+    {
+        calls++;
+        return false;
+    }
+
+    public boolean glIsList(int a0)
+    {
+        calls++;
+        return false;
+    }
+
+    public boolean glIsObjectBufferATI(int a0)
+    {
+        calls++;
+        return false;
+    }
+
+    public boolean glIsOcclusionQueryNV(int a0)
+    {
+        calls++;
+        return false;
+    }
+
+    public boolean glIsProgram(int a0)
+    {
+        calls++;
+        return false;
+    }
+
+    public boolean glIsProgramARB(int a0)
+    {
+        calls++;
+        return false;
+    }
+
+    public boolean glIsProgramNV(int a0)
+    {
+        calls++;
+        return false;
+    }
+
+    public boolean glIsQuery(int a0)
+    {
+        calls++;
+        return false;
+    }
+
+    public boolean glIsQueryARB(int a0)
+    {
+        calls++;
+        return false;
+    }
+
+    public boolean glIsRenderbufferEXT(int a0)
+    {
+        calls++;
+        return false;
+    }
+
+    public boolean glIsShader(int a0)
+    {
+        calls++;
+        return false;
+    }
+
+    public boolean glIsTexture(int a0)
+    {
+        calls++;
+        return false;
+    }
+
+    public boolean glIsVariantEnabledEXT(int a0, int a1)
+    {
+        calls++;
+        return false;
+    }
+
+    public boolean glIsVertexArrayAPPLE(int a0)
+    {
+        calls++;
+        return false;
+    }
+
+    public boolean glIsVertexAttribEnabledAPPLE(int a0, int a1)
+    {
+        calls++;
+        return false;
+    }
+
+    public void glLightEnviSGIX(int a0, int a1)
+    {
+        calls++;
+    }
+
+    public void glLightModelf(int a0, float a1)
+    {
+        calls++;
+    }
+
+    public void glLightModelfv(int a0, float[] a1, int a2)
+    {
+        calls++;
+    }
+
+    public void glLightModelfv(int a0, FloatBuffer a1)
+    {
+        calls++;
+    }
+
+    public void glLightModeli(int a0, int a1)
+    {
+        calls++;
+    }
+
+    public void glLightModeliv(int a0, int[] a1, int a2)
+    {
+        calls++;
+    }
+
+    public void glLightModeliv(int a0, IntBuffer a1)
+    {
+        calls++;
+    }
+
+    public void glLightf(int a0, int a1, float a2)
+    {
+        calls++;
+    }
+
+    public void glLightfv(int a0, int a1, float[] a2, int a3)
+    {
+        calls++;
+    }
+
+    public void glLightfv(int a0, int a1, FloatBuffer a2)
+    {
+        calls++;
+    }
+
+    public void glLighti(int a0, int a1, int a2)
+    {
+        calls++;
+    }
+
+    public void glLightiv(int a0, int a1, int[] a2, int a3)
+    {
+        calls++;
+    }
+
+    public void glLightiv(int a0, int a1, IntBuffer a2)
+    {
+        calls++;
+    }
+
+    public void glLineStipple(int a0, short a1)
+    {
+        calls++;
+    }
+
+    public void glLineWidth(float a0)
+    {
+        calls++;
+    }
+
+    public void glLinkProgram(int a0)
+    {
+        calls++;
+    }
+
+    public void glLinkProgramARB(int a0)
+    {
+        calls++;
+    }
+
+    public void glListBase(int a0)
+    {
+        calls++;
+    }
+
+    public void glListParameterfSGIX(int a0, int a1, float a2)
+    {
+        calls++;
+    }
+
+    public void glListParameterfvSGIX(int a0, int a1, float[] a2, int a3)
+    {
+        calls++;
+    }
+
+    public void glListParameterfvSGIX(int a0, int a1, FloatBuffer a2)
+    {
+        calls++;
+    }
+
+    public void glListParameteriSGIX(int a0, int a1, int a2)
+    {
+        calls++;
+    }
+
+    public void glListParameterivSGIX(int a0, int a1, int[] a2, int a3)
+    {
+        calls++;
+    }
+
+    public void glListParameterivSGIX(int a0, int a1, IntBuffer a2)
+    {
+        calls++;
+    }
+
+    public void glLoadIdentity()
+    {
+        calls++;
+    }
+
+    public void glLoadIdentityDeformationMapSGIX(int a0)
+    {
+        calls++;
+    }
+
+    public void glLoadMatrixd(double[] a0, int a1)
+    {
+        calls++;
+    }
+
+    public void glLoadMatrixd(DoubleBuffer a0)
+    {
+        calls++;
+    }
+
+    public void glLoadMatrixf(float[] a0, int a1)
+    {
+        calls++;
+    }
+
+    public void glLoadMatrixf(FloatBuffer a0)
+    {
+        calls++;
+    }
+
+    public void glLoadName(int a0)
+    {
+        calls++;
+    }
+
+    public void glLoadProgramNV(int a0, int a1, int a2, String a3)
+    {
+        calls++;
+    }
+
+    public void glLoadTransposeMatrixd(double[] a0, int a1)
+    {
+        calls++;
+    }
+
+    public void glLoadTransposeMatrixd(DoubleBuffer a0)
+    {
+        calls++;
+    }
+
+    public void glLoadTransposeMatrixf(float[] a0, int a1)
+    {
+        calls++;
+    }
+
+    public void glLoadTransposeMatrixf(FloatBuffer a0)
+    {
+        calls++;
+    }
+
+    public void glLockArraysEXT(int a0, int a1)
+    {
+        calls++;
+    }
+
+    public void glLogicOp(int a0)
+    {
+        calls++;
+    }
+
+    public void glMap1d(
+        int a0, double a1, double a2, int a3, int a4, double[] a5, int a6)
+    {
+        calls++;
+    }
+
+    public void glMap1d(
+        int a0, double a1, double a2, int a3, int a4, DoubleBuffer a5)
+    {
+        calls++;
+    }
+
+    public void glMap1f(
+        int a0, float a1, float a2, int a3, int a4, float[] a5, int a6)
+    {
+        calls++;
+    }
+
+    public void glMap1f(
+        int a0, float a1, float a2, int a3, int a4, FloatBuffer a5)
+    {
+        calls++;
+    }
+
+    public void glMap2d(
+        int a0, double a1, double a2, int a3, int a4, double a5, double a6,
+        int a7, int a8, double[] a9, int a10)
+    {
+        calls++;
+    }
+
+    public void glMap2d(
+        int a0, double a1, double a2, int a3, int a4, double a5, double a6,
+        int a7, int a8, DoubleBuffer a9)
+    {
+        calls++;
+    }
+
+    public void glMap2f(
+        int a0, float a1, float a2, int a3, int a4, float a5, float a6, int a7,
+        int a8, float[] a9, int a10)
+    {
+        calls++;
+    }
+
+    public void glMap2f(
+        int a0, float a1, float a2, int a3, int a4, float a5, float a6, int a7,
+        int a8, FloatBuffer a9)
+    {
+        calls++;
+    }
+
+    public ByteBuffer glMapBuffer(int a0, int a1)
+    {
+        calls++;
+        return null;
+    }
+
+    public ByteBuffer glMapBufferARB(int a0, int a1)
+    {
+        calls++;
+        return null;
+    }
+
+    public void glMapControlPointsNV(
+        int a0, int a1, int a2, int a3, int a4, int a5, int a6, boolean a7,
+        Buffer a8)
+    {
+        calls++;
+    }
+
+    public void glMapGrid1d(int a0, double a1, double a2)
+    {
+        calls++;
+    }
+
+    public void glMapGrid1f(int a0, float a1, float a2)
+    {
+        calls++;
+    }
+
+    public void glMapGrid2d(
+        int a0, double a1, double a2, int a3, double a4, double a5)
+    {
+        calls++;
+    }
+
+    public void glMapGrid2f(
+        int a0, float a1, float a2, int a3, float a4, float a5)
+    {
+        calls++;
+    }
+
+    public void glMapParameterfvNV(int a0, int a1, float[] a2, int a3)
+    {
+        calls++;
+    }
+
+    public void glMapParameterfvNV(int a0, int a1, FloatBuffer a2)
+    {
+        calls++;
+    }
+
+    public void glMapParameterivNV(int a0, int a1, int[] a2, int a3)
+    {
+        calls++;
+    }
+
+    public void glMapParameterivNV(int a0, int a1, IntBuffer a2)
+    {
+        calls++;
+    }
+
+    public void glMapVertexAttrib1dAPPLE(
+        int a0, int a1, double a2, double a3, int a4, int a5, double[] a6,
+        int a7)
+    {
+        calls++;
+    }
+
+    public void glMapVertexAttrib1dAPPLE(
+        int a0, int a1, double a2, double a3, int a4, int a5, DoubleBuffer a6)
+    {
+        calls++;
+    }
+
+    public void glMapVertexAttrib1fAPPLE(
+        int a0, int a1, float a2, float a3, int a4, int a5, float[] a6, int a7)
+    {
+        calls++;
+    }
+
+    public void glMapVertexAttrib1fAPPLE(
+        int a0, int a1, float a2, float a3, int a4, int a5, FloatBuffer a6)
+    {
+        calls++;
+    }
+
+    public void glMapVertexAttrib2dAPPLE(
+        int a0, int a1, double a2, double a3, int a4, int a5, double a6,
+        double a7, int a8, int a9, double[] a10, int a11)
+    {
+        calls++;
+    }
+
+    public void glMapVertexAttrib2dAPPLE(
+        int a0, int a1, double a2, double a3, int a4, int a5, double a6,
+        double a7, int a8, int a9, DoubleBuffer a10)
+    {
+        calls++;
+    }
+
+    public void glMapVertexAttrib2fAPPLE(
+        int a0, int a1, float a2, float a3, int a4, int a5, float a6, float a7,
+        int a8, int a9, float[] a10, int a11)
+    {
+        calls++;
+    }
+
+    public void glMapVertexAttrib2fAPPLE(
+        int a0, int a1, float a2, float a3, int a4, int a5, float a6, float a7,
+        int a8, int a9, FloatBuffer a10)
+    {
+        calls++;
+    }
+
+    public void glMaterialf(int a0, int a1, float a2)
+    {
+        calls++;
+    }
+
+    public void glMaterialfv(int a0, int a1, float[] a2, int a3)
+    {
+        calls++;
+    }
+
+    public void glMaterialfv(int a0, int a1, FloatBuffer a2)
+    {
+        calls++;
+    }
+
+    public void glMateriali(int a0, int a1, int a2)
+    {
+        calls++;
+    }
+
+    public void glMaterialiv(int a0, int a1, int[] a2, int a3)
+    {
+        calls++;
+    }
+
+    public void glMaterialiv(int a0, int a1, IntBuffer a2)
+    {
+        calls++;
+    }
+
+    public void glMatrixIndexPointerARB(int a0, int a1, int a2, Buffer a3)
+    {
+        calls++;
+    }
+
+    public void glMatrixIndexPointerARB(int a0, int a1, int a2, long a3)
+    {
+        calls++;
+    }
+
+    public void glMatrixIndexubvARB(int a0, byte[] a1, int a2)
+    {
+        calls++;
+    }
+
+    public void glMatrixIndexubvARB(int a0, ByteBuffer a1)
+    {
+        calls++;
+    }
+
+    public void glMatrixIndexuivARB(int a0, int[] a1, int a2)
+    {
+        calls++;
+    }
+
+    public void glMatrixIndexuivARB(int a0, IntBuffer a1)
+    {
+        calls++;
+    }
+
+    public void glMatrixIndexusvARB(int a0, short[] a1, int a2)
+    {
+        calls++;
+    }
+
+    public void glMatrixIndexusvARB(int a0, ShortBuffer a1)
+    {
+        calls++;
+    }
+
+    public void glMatrixMode(int a0)
+    {
+        calls++;
+    }
+
+    public void glMinmax(int a0, int a1, boolean a2)
+    {
+        calls++;
+    }
+
+    public void glMultMatrixd(double[] a0, int a1)
+    {
+        calls++;
+    }
+
+    public void glMultMatrixd(DoubleBuffer a0)
+    {
+        calls++;
+    }
+
+    public void glMultMatrixf(float[] a0, int a1)
+    {
+        calls++;
+    }
+
+    public void glMultMatrixf(FloatBuffer a0)
+    {
+        calls++;
+    }
+
+    public void glMultTransposeMatrixd(double[] a0, int a1)
+    {
+        calls++;
+    }
+
+    public void glMultTransposeMatrixd(DoubleBuffer a0)
+    {
+        calls++;
+    }
+
+    public void glMultTransposeMatrixf(float[] a0, int a1)
+    {
+        calls++;
+    }
+
+    public void glMultTransposeMatrixf(FloatBuffer a0)
+    {
+        calls++;
+    }
+
+    public void glMultiDrawArrays(
+        int a0, int[] a1, int a2, int[] a3, int a4, int a5)
+    {
+        calls++;
+    }
+
+    public void glMultiDrawArrays(int a0, IntBuffer a1, IntBuffer a2, int a3)
+    {
+        calls++;
+    }
+
+    public void glMultiDrawArraysEXT(
+        int a0, int[] a1, int a2, int[] a3, int a4, int a5)
+    {
+        calls++;
+    }
+
+    public void glMultiDrawArraysEXT(
+        int a0, IntBuffer a1, IntBuffer a2, int a3)
+    {
+        calls++;
+    }
+
+    public void glMultiDrawElementArrayAPPLE(
+        int a0, int[] a1, int a2, int[] a3, int a4, int a5)
+    {
+        calls++;
+    }
+
+    public void glMultiDrawElementArrayAPPLE(
+        int a0, IntBuffer a1, IntBuffer a2, int a3)
+    {
+        calls++;
+    }
+
+    public void glMultiDrawElements(
+        int a0, int[] a1, int a2, int a3, Buffer[] a4, int a5)
+    {
+        calls++;
+    }
+
+    public void glMultiDrawElements(
+        int a0, IntBuffer a1, int a2, Buffer[] a3, int a4)
+    {
+        calls++;
+    }
+
+    public void glMultiDrawElementsEXT(
+        int a0, int[] a1, int a2, int a3, Buffer[] a4, int a5)
+    {
+        calls++;
+    }
+
+    public void glMultiDrawElementsEXT(
+        int a0, IntBuffer a1, int a2, Buffer[] a3, int a4)
+    {
+        calls++;
+    }
+
+    public void glMultiDrawRangeElementArrayAPPLE(
+        int a0, int a1, int a2, int[] a3, int a4, int[] a5, int a6, int a7)
+    {
+        calls++;
+    }
+
+    public void glMultiDrawRangeElementArrayAPPLE(
+        int a0, int a1, int a2, IntBuffer a3, IntBuffer a4, int a5)
+    {
+        calls++;
+    }
+
+    public void glMultiModeDrawArraysIBM(
+        int[] a0, int a1, int[] a2, int a3, int[] a4, int a5, int a6, int a7)
+    {
+        calls++;
+    }
+
+    public void glMultiModeDrawArraysIBM(
+        IntBuffer a0, IntBuffer a1, IntBuffer a2, int a3, int a4)
+    {
+        calls++;
+    }
+
+    public void glMultiModeDrawElementsIBM(
+        int[] a0, int a1, int[] a2, int a3, int a4, Buffer[] a5, int a6,
+        int a7)
+    {
+        calls++;
+    }
+
+    public void glMultiModeDrawElementsIBM(
+        IntBuffer a0, IntBuffer a1, int a2, Buffer[] a3, int a4, int a5)
+    {
+        calls++;
+    }
+
+    public void glMultiTexCoord1d(int a0, double a1)
+    {
+        calls++;
+    }
+
+    public void glMultiTexCoord1dv(int a0, double[] a1, int a2)
+    {
+        calls++;
+    }
+
+    public void glMultiTexCoord1dv(int a0, DoubleBuffer a1)
+    {
+        calls++;
+    }
+
+    public void glMultiTexCoord1f(int a0, float a1)
+    {
+        calls++;
+    }
+
+    public void glMultiTexCoord1fv(int a0, float[] a1, int a2)
+    {
+        calls++;
+    }
+
+    public void glMultiTexCoord1fv(int a0, FloatBuffer a1)
+    {
+        calls++;
+    }
+
+    public void glMultiTexCoord1hNV(int a0, short a1)
+    {
+        calls++;
+    }
+
+    public void glMultiTexCoord1hvNV(int a0, short[] a1, int a2)
+    {
+        calls++;
+    }
+
+    public void glMultiTexCoord1hvNV(int a0, ShortBuffer a1)
+    {
+        calls++;
+    }
+
+    public void glMultiTexCoord1i(int a0, int a1)
+    {
+        calls++;
+    }
+
+    public void glMultiTexCoord1iv(int a0, int[] a1, int a2)
+    {
+        calls++;
+    }
+
+    public void glMultiTexCoord1iv(int a0, IntBuffer a1)
+    {
+        calls++;
+    }
+
+    public void glMultiTexCoord1s(int a0, short a1)
+    {
+        calls++;
+    }
+
+    public void glMultiTexCoord1sv(int a0, short[] a1, int a2)
+    {
+        calls++;
+    }
+
+    public void glMultiTexCoord1sv(int a0, ShortBuffer a1)
+    {
+        calls++;
+    }
+
+    public void glMultiTexCoord2d(int a0, double a1, double a2)
+    {
+        calls++;
+    }
+
+    public void glMultiTexCoord2dv(int a0, double[] a1, int a2)
+    {
+        calls++;
+    }
+
+    public void glMultiTexCoord2dv(int a0, DoubleBuffer a1)
+    {
+        calls++;
+    }
+
+    public void glMultiTexCoord2f(int a0, float a1, float a2)
+    {
+        calls++;
+    }
+
+    public void glMultiTexCoord2fv(int a0, float[] a1, int a2)
+    {
+        calls++;
+    }
+
+    public void glMultiTexCoord2fv(int a0, FloatBuffer a1)
+    {
+        calls++;
+    }
+
+    public void glMultiTexCoord2hNV(int a0, short a1, short a2)
+    {
+        calls++;
+    }
+
+    public void glMultiTexCoord2hvNV(int a0, short[] a1, int a2)
+    {
+        calls++;
+    }
+
+    public void glMultiTexCoord2hvNV(int a0, ShortBuffer a1)
+    {
+        calls++;
+    }
+
+    public void glMultiTexCoord2i(int a0, int a1, int a2)
+    {
+        calls++;
+    }
+
+    public void glMultiTexCoord2iv(int a0, int[] a1, int a2)
+    {
+        calls++;
+    }
+
+    public void glMultiTexCoord2iv(int a0, IntBuffer a1)
+    {
+        calls++;
+    }
+
+    public void glMultiTexCoord2s(int a0, short a1, short a2)
+    {
+        calls++;
+    }
+
+    public void glMultiTexCoord2sv(int a0, short[] a1, int a2)
+    {
+        calls++;
+    }
+
+    public void glMultiTexCoord2sv(int a0, ShortBuffer a1)
+    {
+        calls++;
+    }
+
+    public void glMultiTexCoord3d(int a0, double a1, double a2, double a3)
+    {
+        calls++;
+    }
+
+    public void glMultiTexCoord3dv(int a0, double[] a1, int a2)
+    {
+        calls++;
+    }
+
+    public void glMultiTexCoord3dv(int a0, DoubleBuffer a1)
+    {
+        calls++;
+    }
+
+    public void glMultiTexCoord3f(int a0, float a1, float a2, float a3)
+    {
+        calls++;
+    }
+
+    public void glMultiTexCoord3fv(int a0, float[] a1, int a2)
+    {
+        calls++;
+    }
+
+    public void glMultiTexCoord3fv(int a0, FloatBuffer a1)
+    {
+        calls++;
+    }
+
+    public void glMultiTexCoord3hNV(int a0, short a1, short a2, short a3)
+    {
+        calls++;
+    }
+
+    public void glMultiTexCoord3hvNV(int a0, short[] a1, int a2)
+    {
+        calls++;
+    }
+
+    public void glMultiTexCoord3hvNV(int a0, ShortBuffer a1)
+    {
+        calls++;
+    }
+
+    public void glMultiTexCoord3i(int a0, int a1, int a2, int a3)
+    {
+        calls++;
+    }
+
+    public void glMultiTexCoord3iv(int a0, int[] a1, int a2)
+    {
+        calls++;
+    }
+
+    public void glMultiTexCoord3iv(int a0, IntBuffer a1)
+    {
+        calls++;
+    }
+
+    public void glMultiTexCoord3s(int a0, short a1, short a2, short a3)
+    {
+        calls++;
+    }
+
+    public void glMultiTexCoord3sv(int a0, short[] a1, int a2)
+    {
+        calls++;
+    }
+
+    public void glMultiTexCoord3sv(int a0, ShortBuffer a1)
+    {
+        calls++;
+    }
+
+    public void glMultiTexCoord4d(
+        int a0, double a1, double a2, double a3, double a4)
+    {
+        calls++;
+    }
+
+    public void glMultiTexCoord4dv(int a0, double[] a1, int a2)
+    {
+        calls++;
+    }
+
+    public void glMultiTexCoord4dv(int a0, DoubleBuffer a1)
+    {
+        calls++;
+    }
+
+    public void glMultiTexCoord4f(
+        int a0, float a1, float a2, float a3, float a4)
+    {
+        calls++;
+    }
+
+    public void glMultiTexCoord4fv(int a0, float[] a1, int a2)
+    {
+        calls++;
+    }
+
+    public void glMultiTexCoord4fv(int a0, FloatBuffer a1)
+    {
+        calls++;
+    }
+
+    public void glMultiTexCoord4hNV(
+        int a0, short a1, short a2, short a3, short a4)
+    {
+        calls++;
+    }
+
+    public void glMultiTexCoord4hvNV(int a0, short[] a1, int a2)
+    {
+        calls++;
+    }
+
+    public void glMultiTexCoord4hvNV(int a0, ShortBuffer a1)
+    {
+        calls++;
+    }
+
+    public void glMultiTexCoord4i(int a0, int a1, int a2, int a3, int a4)
+    {
+        calls++;
+    }
+
+    public void glMultiTexCoord4iv(int a0, int[] a1, int a2)
+    {
+        calls++;
+    }
+
+    public void glMultiTexCoord4iv(int a0, IntBuffer a1)
+    {
+        calls++;
+    }
+
+    public void glMultiTexCoord4s(
+        int a0, short a1, short a2, short a3, short a4)
+    {
+        calls++;
+    }
+
+    public void glMultiTexCoord4sv(int a0, short[] a1, int a2)
+    {
+        calls++;
+    }
+
+    public void glMultiTexCoord4sv(int a0, ShortBuffer a1)
+    {
+        calls++;
+    }
+
+    public int glNewBufferRegion(int a0)
+    {
+        calls++;
+        return 0;
+    }
+
+    public void glNewList(int a0, int a1)
+    {
+        calls++;
+    }
+
+    public int glNewObjectBufferATI(int a0, Buffer a1, int a2)
+    {
+        calls++;
+        return 0;
+    }
+
+    public void glNormal3b(byte a0, byte a1, byte a2)
+    {
+        calls++;
+    }
+
+    public void glNormal3bv(byte[] a0, int a1)
+    {
+        calls++;
+    }
+
+    public void glNormal3bv(ByteBuffer a0)
+    {
+        calls++;
+    }
+
+    public void glNormal3d(double a0, double a1, double a2)
+    {
+        calls++;
+    }
+
+    public void glNormal3dv(double[] a0, int a1)
+    {
+        calls++;
+    }
+
+    public void glNormal3dv(DoubleBuffer a0)
+    {
+        calls++;
+    }
+
+    public void glNormal3f(float a0, float a1, float a2)
+    {
+        calls++;
+    }
+
+    public void glNormal3fVertex3fSUN(
+        float a0, float a1, float a2, float a3, float a4, float a5)
+    {
+        calls++;
+    }
+
+    public void glNormal3fVertex3fvSUN(float[] a0, int a1, float[] a2, int a3)
+    {
+        calls++;
+    }
+
+    public void glNormal3fVertex3fvSUN(FloatBuffer a0, FloatBuffer a1)
+    {
+        calls++;
+    }
+
+    public void glNormal3fv(float[] a0, int a1)
+    {
+        calls++;
+    }
+
+    public void glNormal3fv(FloatBuffer a0)
+    {
+        calls++;
+    }
+
+    public void glNormal3hNV(short a0, short a1, short a2)
+    {
+        calls++;
+    }
+
+    public void glNormal3hvNV(short[] a0, int a1)
+    {
+        calls++;
+    }
+
+    public void glNormal3hvNV(ShortBuffer a0)
+    {
+        calls++;
+    }
+
+    public void glNormal3i(int a0, int a1, int a2)
+    {
+        calls++;
+    }
+
+    public void glNormal3iv(int[] a0, int a1)
+    {
+        calls++;
+    }
+
+    public void glNormal3iv(IntBuffer a0)
+    {
+        calls++;
+    }
+
+    public void glNormal3s(short a0, short a1, short a2)
+    {
+        calls++;
+    }
+
+    public void glNormal3sv(short[] a0, int a1)
+    {
+        calls++;
+    }
+
+    public void glNormal3sv(ShortBuffer a0)
+    {
+        calls++;
+    }
+
+    public void glNormalPointer(int a0, int a1, Buffer a2)
+    {
+        calls++;
+    }
+
+    public void glNormalPointer(int a0, int a1, long a2)
+    {
+        calls++;
+    }
+
+    public void glNormalStream3bATI(int a0, byte a1, byte a2, byte a3)
+    {
+        calls++;
+    }
+
+    public void glNormalStream3bvATI(int a0, byte[] a1, int a2)
+    {
+        calls++;
+    }
+
+    public void glNormalStream3bvATI(int a0, ByteBuffer a1)
+    {
+        calls++;
+    }
+
+    public void glNormalStream3dATI(int a0, double a1, double a2, double a3)
+    {
+        calls++;
+    }
+
+    public void glNormalStream3dvATI(int a0, double[] a1, int a2)
+    {
+        calls++;
+    }
+
+    public void glNormalStream3dvATI(int a0, DoubleBuffer a1)
+    {
+        calls++;
+    }
+
+    public void glNormalStream3fATI(int a0, float a1, float a2, float a3)
+    {
+        calls++;
+    }
+
+    public void glNormalStream3fvATI(int a0, float[] a1, int a2)
+    {
+        calls++;
+    }
+
+    public void glNormalStream3fvATI(int a0, FloatBuffer a1)
+    {
+        calls++;
+    }
+
+    public void glNormalStream3iATI(int a0, int a1, int a2, int a3)
+    {
+        calls++;
+    }
+
+    public void glNormalStream3ivATI(int a0, int[] a1, int a2)
+    {
+        calls++;
+    }
+
+    public void glNormalStream3ivATI(int a0, IntBuffer a1)
+    {
+        calls++;
+    }
+
+    public void glNormalStream3sATI(int a0, short a1, short a2, short a3)
+    {
+        calls++;
+    }
+
+    public void glNormalStream3svATI(int a0, short[] a1, int a2)
+    {
+        calls++;
+    }
+
+    public void glNormalStream3svATI(int a0, ShortBuffer a1)
+    {
+        calls++;
+    }
+
+    public void glOrtho(
+        double a0, double a1, double a2, double a3, double a4, double a5)
+    {
+        calls++;
+    }
+
+    public void glPNTrianglesfATI(int a0, float a1)
+    {
+        calls++;
+    }
+
+    public void glPNTrianglesiATI(int a0, int a1)
+    {
+        calls++;
+    }
+
+    public void glPassTexCoordATI(int a0, int a1, int a2)
+    {
+        calls++;
+    }
+
+    public void glPassThrough(float a0)
+    {
+        calls++;
+    }
+
+    public void glPixelDataRangeNV(int a0, int a1, Buffer a2)
+    {
+        calls++;
+    }
+
+    public void glPixelMapfv(int a0, int a1, float[] a2, int a3)
+    {
+        calls++;
+    }
+
+    public void glPixelMapfv(int a0, int a1, FloatBuffer a2)
+    {
+        calls++;
+    }
+
+    public void glPixelMapfv(int a0, int a1, long a2)
+    {
+        calls++;
+    }
+
+    public void glPixelMapuiv(int a0, int a1, int[] a2, int a3)
+    {
+        calls++;
+    }
+
+    public void glPixelMapuiv(int a0, int a1, IntBuffer a2)
+    {
+        calls++;
+    }
+
+    public void glPixelMapuiv(int a0, int a1, long a2)
+    {
+        calls++;
+    }
+
+    public void glPixelMapusv(int a0, int a1, short[] a2, int a3)
+    {
+        calls++;
+    }
+
+    public void glPixelMapusv(int a0, int a1, ShortBuffer a2)
+    {
+        calls++;
+    }
+
+    public void glPixelMapusv(int a0, int a1, long a2)
+    {
+        calls++;
+    }
+
+    public void glPixelStoref(int a0, float a1)
+    {
+        calls++;
+    }
+
+    public void glPixelStorei(int a0, int a1)
+    {
+        calls++;
+    }
+
+    public void glPixelTexGenParameterfSGIS(int a0, float a1)
+    {
+        calls++;
+    }
+
+    public void glPixelTexGenParameterfvSGIS(int a0, float[] a1, int a2)
+    {
+        calls++;
+    }
+
+    public void glPixelTexGenParameterfvSGIS(int a0, FloatBuffer a1)
+    {
+        calls++;
+    }
+
+    public void glPixelTexGenParameteriSGIS(int a0, int a1)
+    {
+        calls++;
+    }
+
+    public void glPixelTexGenParameterivSGIS(int a0, int[] a1, int a2)
+    {
+        calls++;
+    }
+
+    public void glPixelTexGenParameterivSGIS(int a0, IntBuffer a1)
+    {
+        calls++;
+    }
+
+    public void glPixelTexGenSGIX(int a0)
+    {
+        calls++;
+    }
+
+    public void glPixelTransferf(int a0, float a1)
+    {
+        calls++;
+    }
+
+    public void glPixelTransferi(int a0, int a1)
+    {
+        calls++;
+    }
+
+    public void glPixelTransformParameterfEXT(int a0, int a1, float a2)
+    {
+        calls++;
+    }
+
+    public void glPixelTransformParameterfvEXT(
+        int a0, int a1, float[] a2, int a3)
+    {
+        calls++;
+    }
+
+    public void glPixelTransformParameterfvEXT(int a0, int a1, FloatBuffer a2)
+    {
+        calls++;
+    }
+
+    public void glPixelTransformParameteriEXT(int a0, int a1, int a2)
+    {
+        calls++;
+    }
+
+    public void glPixelTransformParameterivEXT(
+        int a0, int a1, int[] a2, int a3)
+    {
+        calls++;
+    }
+
+    public void glPixelTransformParameterivEXT(int a0, int a1, IntBuffer a2)
+    {
+        calls++;
+    }
+
+    public void glPixelZoom(float a0, float a1)
+    {
+        calls++;
+    }
+
+    public void glPointParameterf(int a0, float a1)
+    {
+        calls++;
+    }
+
+    public void glPointParameterfARB(int a0, float a1)
+    {
+        calls++;
+    }
+
+    public void glPointParameterfEXT(int a0, float a1)
+    {
+        calls++;
+    }
+
+    public void glPointParameterfSGIS(int a0, float a1)
+    {
+        calls++;
+    }
+
+    public void glPointParameterfv(int a0, float[] a1, int a2)
+    {
+        calls++;
+    }
+
+    public void glPointParameterfv(int a0, FloatBuffer a1)
+    {
+        calls++;
+    }
+
+    public void glPointParameterfvARB(int a0, float[] a1, int a2)
+    {
+        calls++;
+    }
+
+    public void glPointParameterfvARB(int a0, FloatBuffer a1)
+    {
+        calls++;
+    }
+
+    public void glPointParameterfvEXT(int a0, float[] a1, int a2)
+    {
+        calls++;
+    }
+
+    public void glPointParameterfvEXT(int a0, FloatBuffer a1)
+    {
+        calls++;
+    }
+
+    public void glPointParameterfvSGIS(int a0, float[] a1, int a2)
+    {
+        calls++;
+    }
+
+    public void glPointParameterfvSGIS(int a0, FloatBuffer a1)
+    {
+        calls++;
+    }
+
+    public void glPointParameteri(int a0, int a1)
+    {
+        calls++;
+    }
+
+    public void glPointParameteriNV(int a0, int a1)
+    {
+        calls++;
+    }
+
+    public void glPointParameteriv(int a0, int[] a1, int a2)
+    {
+        calls++;
+    }
+
+    public void glPointParameteriv(int a0, IntBuffer a1)
+    {
+        calls++;
+    }
+
+    public void glPointParameterivNV(int a0, int[] a1, int a2)
+    {
+        calls++;
+    }
+
+    public void glPointParameterivNV(int a0, IntBuffer a1)
+    {
+        calls++;
+    }
+
+    public void glPointSize(float a0)
+    {
+        calls++;
+    }
+
+    public int glPollAsyncSGIX(int[] a0, int a1)
+    {
+        calls++;
+        return 0;
+    }
+
+    public int glPollAsyncSGIX(IntBuffer a0)
+    {
+        calls++;
+        return 0;
+    }
+
+    public int glPollInstrumentsSGIX(int[] a0, int a1)
+    {
+        calls++;
+        return 0;
+    }
+
+    public int glPollInstrumentsSGIX(IntBuffer a0)
+    {
+        calls++;
+        return 0;
+    }
+
+    public void glPolygonMode(int a0, int a1)
+    {
+        calls++;
+    }
+
+    public void glPolygonOffset(float a0, float a1)
+    {
+        calls++;
+    }
+
+    public void glPolygonStipple(byte[] a0, int a1)
+    {
+        calls++;
+    }
+
+    public void glPolygonStipple(ByteBuffer a0)
+    {
+        calls++;
+    }
+
+    public void glPolygonStipple(long a0)
+    {
+        calls++;
+    }
+
+    public void glPopAttrib()
+    {
+        calls++;
+    }
+
+    public void glPopClientAttrib()
+    {
+        calls++;
+    }
+
+    public void glPopMatrix()
+    {
+        calls++;
+    }
+
+    public void glPopName()
+    {
+        calls++;
+    }
+
+    public void glPrimitiveRestartIndexNV(int a0)
+    {
+        calls++;
+    }
+
+    public void glPrimitiveRestartNV()
+    {
+        calls++;
+    }
+
+    public void glPrioritizeTextures(
+        int a0, int[] a1, int a2, float[] a3, int a4)
+    {
+        calls++;
+    }
+
+    public void glPrioritizeTextures(int a0, IntBuffer a1, FloatBuffer a2)
+    {
+        calls++;
+    }
+
+    public void glProgramBufferParametersIivNV(
+        int a0, int a1, int a2, int a3, int[] a4, int a5)
+    {
+        calls++;
+    }
+
+    public void glProgramBufferParametersIivNV(
+        int a0, int a1, int a2, int a3, IntBuffer a4)
+    {
+        calls++;
+    }
+
+    public void glProgramBufferParametersIuivNV(
+        int a0, int a1, int a2, int a3, int[] a4, int a5)
+    {
+        calls++;
+    }
+
+    public void glProgramBufferParametersIuivNV(
+        int a0, int a1, int a2, int a3, IntBuffer a4)
+    {
+        calls++;
+    }
+
+    public void glProgramBufferParametersfvNV(
+        int a0, int a1, int a2, int a3, float[] a4, int a5)
+    {
+        calls++;
+    }
+
+    public void glProgramBufferParametersfvNV(
+        int a0, int a1, int a2, int a3, FloatBuffer a4)
+    {
+        calls++;
+    }
+
+    public void glProgramEnvParameter4dARB(
+        int a0, int a1, double a2, double a3, double a4, double a5)
+    {
+        calls++;
+    }
+
+    public void glProgramEnvParameter4dvARB(
+        int a0, int a1, double[] a2, int a3)
+    {
+        calls++;
+    }
+
+    public void glProgramEnvParameter4dvARB(int a0, int a1, DoubleBuffer a2)
+    {
+        calls++;
+    }
+
+    public void glProgramEnvParameter4fARB(
+        int a0, int a1, float a2, float a3, float a4, float a5)
+    {
+        calls++;
+    }
+
+    public void glProgramEnvParameter4fvARB(int a0, int a1, float[] a2, int a3)
+    {
+        calls++;
+    }
+
+    public void glProgramEnvParameter4fvARB(int a0, int a1, FloatBuffer a2)
+    {
+        calls++;
+    }
+
+    public void glProgramEnvParameterI4iNV(
+        int a0, int a1, int a2, int a3, int a4, int a5)
+    {
+        calls++;
+    }
+
+    public void glProgramEnvParameterI4ivNV(int a0, int a1, int[] a2, int a3)
+    {
+        calls++;
+    }
+
+    public void glProgramEnvParameterI4ivNV(int a0, int a1, IntBuffer a2)
+    {
+        calls++;
+    }
+
+    public void glProgramEnvParameterI4uiNV(
+        int a0, int a1, int a2, int a3, int a4, int a5)
+    {
+        calls++;
+    }
+
+    public void glProgramEnvParameterI4uivNV(int a0, int a1, int[] a2, int a3)
+    {
+        calls++;
+    }
+
+    public void glProgramEnvParameterI4uivNV(int a0, int a1, IntBuffer a2)
+    {
+        calls++;
+    }
+
+    public void glProgramEnvParameters4fvEXT(
+        int a0, int a1, int a2, float[] a3, int a4)
+    {
+        calls++;
+    }
+
+    public void glProgramEnvParameters4fvEXT(
+        int a0, int a1, int a2, FloatBuffer a3)
+    {
+        calls++;
+    }
+
+    public void glProgramEnvParametersI4ivNV(
+        int a0, int a1, int a2, int[] a3, int a4)
+    {
+        calls++;
+    }
+
+    public void glProgramEnvParametersI4ivNV(
+        int a0, int a1, int a2, IntBuffer a3)
+    {
+        calls++;
+    }
+
+    public void glProgramEnvParametersI4uivNV(
+        int a0, int a1, int a2, int[] a3, int a4)
+    {
+        calls++;
+    }
+
+    public void glProgramEnvParametersI4uivNV(
+        int a0, int a1, int a2, IntBuffer a3)
+    {
+        calls++;
+    }
+
+    public void glProgramLocalParameter4dARB(
+        int a0, int a1, double a2, double a3, double a4, double a5)
+    {
+        calls++;
+    }
+
+    public void glProgramLocalParameter4dvARB(
+        int a0, int a1, double[] a2, int a3)
+    {
+        calls++;
+    }
+
+    public void glProgramLocalParameter4dvARB(int a0, int a1, DoubleBuffer a2)
+    {
+        calls++;
+    }
+
+    public void glProgramLocalParameter4fARB(
+        int a0, int a1, float a2, float a3, float a4, float a5)
+    {
+        calls++;
+    }
+
+    public void glProgramLocalParameter4fvARB(
+        int a0, int a1, float[] a2, int a3)
+    {
+        calls++;
+    }
+
+    public void glProgramLocalParameter4fvARB(int a0, int a1, FloatBuffer a2)
+    {
+        calls++;
+    }
+
+    public void glProgramLocalParameterI4iNV(
+        int a0, int a1, int a2, int a3, int a4, int a5)
+    {
+        calls++;
+    }
+
+    public void glProgramLocalParameterI4ivNV(int a0, int a1, int[] a2, int a3)
+    {
+        calls++;
+    }
+
+    public void glProgramLocalParameterI4ivNV(int a0, int a1, IntBuffer a2)
+    {
+        calls++;
+    }
+
+    public void glProgramLocalParameterI4uiNV(
+        int a0, int a1, int a2, int a3, int a4, int a5)
+    {
+        calls++;
+    }
+
+    public void glProgramLocalParameterI4uivNV(
+        int a0, int a1, int[] a2, int a3)
+    {
+        calls++;
+    }
+
+    public void glProgramLocalParameterI4uivNV(int a0, int a1, IntBuffer a2)
+    {
+        calls++;
+    }
+
+    public void glProgramLocalParameters4fvEXT(
+        int a0, int a1, int a2, float[] a3, int a4)
+    {
+        calls++;
+    }
+
+    public void glProgramLocalParameters4fvEXT(
+        int a0, int a1, int a2, FloatBuffer a3)
+    {
+        calls++;
+    }
+
+    public void glProgramLocalParametersI4ivNV(
+        int a0, int a1, int a2, int[] a3, int a4)
+    {
+        calls++;
+    }
+
+    public void glProgramLocalParametersI4ivNV(
+        int a0, int a1, int a2, IntBuffer a3)
+    {
+        calls++;
+    }
+
+    public void glProgramLocalParametersI4uivNV(
+        int a0, int a1, int a2, int[] a3, int a4)
+    {
+        calls++;
+    }
+
+    public void glProgramLocalParametersI4uivNV(
+        int a0, int a1, int a2, IntBuffer a3)
+    {
+        calls++;
+    }
+
+    public void glProgramNamedParameter4dNV(
+        int a0, int a1, String a2, double a3, double a4, double a5, double a6)
+    {
+        calls++;
+    }
+
+    public void glProgramNamedParameter4dvNV(
+        int a0, int a1, String a2, double[] a3, int a4)
+    {
+        calls++;
+    }
+
+    public void glProgramNamedParameter4dvNV(
+        int a0, int a1, String a2, DoubleBuffer a3)
+    {
+        calls++;
+    }
+
+    public void glProgramNamedParameter4fNV(
+        int a0, int a1, String a2, float a3, float a4, float a5, float a6)
+    {
+        calls++;
+    }
+
+    public void glProgramNamedParameter4fvNV(
+        int a0, int a1, String a2, float[] a3, int a4)
+    {
+        calls++;
+    }
+
+    public void glProgramNamedParameter4fvNV(
+        int a0, int a1, String a2, FloatBuffer a3)
+    {
+        calls++;
+    }
+
+    public void glProgramParameter4dNV(
+        int a0, int a1, double a2, double a3, double a4, double a5)
+    {
+        calls++;
+    }
+
+    public void glProgramParameter4dvNV(int a0, int a1, double[] a2, int a3)
+    {
+        calls++;
+    }
+
+    public void glProgramParameter4dvNV(int a0, int a1, DoubleBuffer a2)
+    {
+        calls++;
+    }
+
+    public void glProgramParameter4fNV(
+        int a0, int a1, float a2, float a3, float a4, float a5)
+    {
+        calls++;
+    }
+
+    public void glProgramParameter4fvNV(int a0, int a1, float[] a2, int a3)
+    {
+        calls++;
+    }
+
+    public void glProgramParameter4fvNV(int a0, int a1, FloatBuffer a2)
+    {
+        calls++;
+    }
+
+    public void glProgramParameteriEXT(int a0, int a1, int a2)
+    {
+        calls++;
+    }
+
+    public void glProgramParameters4dvNV(
+        int a0, int a1, int a2, double[] a3, int a4)
+    {
+        calls++;
+    }
+
+    public void glProgramParameters4dvNV(
+        int a0, int a1, int a2, DoubleBuffer a3)
+    {
+        calls++;
+    }
+
+    public void glProgramParameters4fvNV(
+        int a0, int a1, int a2, float[] a3, int a4)
+    {
+        calls++;
+    }
+
+    public void glProgramParameters4fvNV(
+        int a0, int a1, int a2, FloatBuffer a3)
+    {
+        calls++;
+    }
+
+    public void glProgramStringARB(int a0, int a1, int a2, String a3)
+    {
+        calls++;
+    }
+
+    public void glProgramVertexLimitNV(int a0, int a1)
+    {
+        calls++;
+    }
+
+    public void glPushAttrib(int a0)
+    {
+        calls++;
+    }
+
+    public void glPushClientAttrib(int a0)
+    {
+        calls++;
+    }
+
+    public void glPushMatrix()
+    {
+        calls++;
+    }
+
+    public void glPushName(int a0)
+    {
+        calls++;
+    }
+
+    public void glRasterPos2d(double a0, double a1)
+    {
+        calls++;
+    }
+
+    public void glRasterPos2dv(double[] a0, int a1)
+    {
+        calls++;
+    }
+
+    public void glRasterPos2dv(DoubleBuffer a0)
+    {
+        calls++;
+    }
+
+    public void glRasterPos2f(float a0, float a1)
+    {
+        calls++;
+    }
+
+    public void glRasterPos2fv(float[] a0, int a1)
+    {
+        calls++;
+    }
+
+    public void glRasterPos2fv(FloatBuffer a0)
+    {
+        calls++;
+    }
+
+    public void glRasterPos2i(int a0, int a1)
+    {
+        calls++;
+    }
+
+    public void glRasterPos2iv(int[] a0, int a1)
+    {
+        calls++;
+    }
+
+    public void glRasterPos2iv(IntBuffer a0)
+    {
+        calls++;
+    }
+
+    public void glRasterPos2s(short a0, short a1)
+    {
+        calls++;
+    }
+
+    public void glRasterPos2sv(short[] a0, int a1)
+    {
+        calls++;
+    }
+
+    public void glRasterPos2sv(ShortBuffer a0)
+    {
+        calls++;
+    }
+
+    public void glRasterPos3d(double a0, double a1, double a2)
+    {
+        calls++;
+    }
+
+    public void glRasterPos3dv(double[] a0, int a1)
+    {
+        calls++;
+    }
+
+    public void glRasterPos3dv(DoubleBuffer a0)
+    {
+        calls++;
+    }
+
+    public void glRasterPos3f(float a0, float a1, float a2)
+    {
+        calls++;
+    }
+
+    public void glRasterPos3fv(float[] a0, int a1)
+    {
+        calls++;
+    }
+
+    public void glRasterPos3fv(FloatBuffer a0)
+    {
+        calls++;
+    }
+
+    public void glRasterPos3i(int a0, int a1, int a2)
+    {
+        calls++;
+    }
+
+    public void glRasterPos3iv(int[] a0, int a1)
+    {
+        calls++;
+    }
+
+    public void glRasterPos3iv(IntBuffer a0)
+    {
+        calls++;
+    }
+
+    public void glRasterPos3s(short a0, short a1, short a2)
+    {
+        calls++;
+    }
+
+    public void glRasterPos3sv(short[] a0, int a1)
+    {
+        calls++;
+    }
+
+    public void glRasterPos3sv(ShortBuffer a0)
+    {
+        calls++;
+    }
+
+    public void glRasterPos4d(double a0, double a1, double a2, double a3)
+    {
+        calls++;
+    }
+
+    public void glRasterPos4dv(double[] a0, int a1)
+    {
+        calls++;
+    }
+
+    public void glRasterPos4dv(DoubleBuffer a0)
+    {
+        calls++;
+    }
+
+    public void glRasterPos4f(float a0, float a1, float a2, float a3)
+    {
+        calls++;
+    }
+
+    public void glRasterPos4fv(float[] a0, int a1)
+    {
+        calls++;
+    }
+
+    public void glRasterPos4fv(FloatBuffer a0)
+    {
+        calls++;
+    }
+
+    public void glRasterPos4i(int a0, int a1, int a2, int a3)
+    {
+        calls++;
+    }
+
+    public void glRasterPos4iv(int[] a0, int a1)
+    {
+        calls++;
+    }
+
+    public void glRasterPos4iv(IntBuffer a0)
+    {
+        calls++;
+    }
+
+    public void glRasterPos4s(short a0, short a1, short a2, short a3)
+    {
+        calls++;
+    }
+
+    public void glRasterPos4sv(short[] a0, int a1)
+    {
+        calls++;
+    }
+
+    public void glRasterPos4sv(ShortBuffer a0)
+    {
+        calls++;
+    }
+
+    public void glReadBuffer(int a0)
+    {
+        calls++;
+    }
+
+    public void glReadBufferRegion(int a0, int a1, int a2, int a3, int a4)
+    {
+        calls++;
+    }
+
+    public void glReadInstrumentsSGIX(int a0)
+    {
+        calls++;
+    }
+
+    public void glReadPixels(
+        int a0, int a1, int a2, int a3, int a4, int a5, Buffer a6)
+    {
+        calls++;
+    }
+
+    public void glReadPixels(
+        int a0, int a1, int a2, int a3, int a4, int a5, long a6)
+    {
+        calls++;
+    }
+
+    public void glRectd(double a0, double a1, double a2, double a3)
+    {
+        calls++;
+    }
+
+    public void glRectdv(double[] a0, int a1, double[] a2, int a3)
+    {
+        calls++;
+    }
+
+    public void glRectdv(DoubleBuffer a0, DoubleBuffer a1)
+    {
+        calls++;
+    }
+
+    public void glRectf(float a0, float a1, float a2, float a3)
+    {
+        calls++;
+    }
+
+    public void glRectfv(float[] a0, int a1, float[] a2, int a3)
+    {
+        calls++;
+    }
+
+    public void glRectfv(FloatBuffer a0, FloatBuffer a1)
+    {
+        calls++;
+    }
+
+    public void glRecti(int a0, int a1, int a2, int a3)
+    {
+        calls++;
+    }
+
+    public void glRectiv(int[] a0, int a1, int[] a2, int a3)
+    {
+        calls++;
+    }
+
+    public void glRectiv(IntBuffer a0, IntBuffer a1)
+    {
+        calls++;
+    }
+
+    public void glRects(short a0, short a1, short a2, short a3)
+    {
+        calls++;
+    }
+
+    public void glRectsv(short[] a0, int a1, short[] a2, int a3)
+    {
+        calls++;
+    }
+
+    public void glRectsv(ShortBuffer a0, ShortBuffer a1)
+    {
+        calls++;
+    }
+
+    public void glReferencePlaneSGIX(double[] a0, int a1)
+    {
+        calls++;
+    }
+
+    public void glReferencePlaneSGIX(DoubleBuffer a0)
+    {
+        calls++;
+    }
+
+    public int glRenderMode(int a0)
+    {
+        calls++;
+        return 0;
+    }
+
+    public void glRenderbufferStorageEXT(int a0, int a1, int a2, int a3)
+    {
+        calls++;
+    }
+
+    public void glRenderbufferStorageMultisampleCoverageNV(
+        int a0, int a1, int a2, int a3, int a4, int a5)
+    {
+        calls++;
+    }
+
+    public void glRenderbufferStorageMultisampleEXT(
+        int a0, int a1, int a2, int a3, int a4)
+    {
+        calls++;
+    }
+
+    public void glReplacementCodeuiColor3fVertex3fSUN(
+        int a0, float a1, float a2, float a3, float a4, float a5, float a6)
+    {
+        calls++;
+    }
+
+    public void glReplacementCodeuiColor3fVertex3fvSUN(
+        int[] a0, int a1, float[] a2, int a3, float[] a4, int a5)
+    {
+        calls++;
+    }
+
+    public void glReplacementCodeuiColor3fVertex3fvSUN(
+        IntBuffer a0, FloatBuffer a1, FloatBuffer a2)
+    {
+        calls++;
+    }
+
+    public void glReplacementCodeuiColor4fNormal3fVertex3fSUN(
+        int a0, float a1, float a2, float a3, float a4, float a5, float a6,
+        float a7, float a8, float a9, float a10)
+    {
+        calls++;
+    }
+
+    public void glReplacementCodeuiColor4fNormal3fVertex3fvSUN(
+        int[] a0, int a1, float[] a2, int a3, float[] a4, int a5, float[] a6,
+        int a7)
+    {
+        calls++;
+    }
+
+    public void glReplacementCodeuiColor4fNormal3fVertex3fvSUN(
+        IntBuffer a0, FloatBuffer a1, FloatBuffer a2, FloatBuffer a3)
+    {
+        calls++;
+    }
+
+    public void glReplacementCodeuiColor4ubVertex3fSUN(
+        int a0, byte a1, byte a2, byte a3, byte a4, float a5, float a6,
+        float a7)
+    {
+        calls++;
+    }
+
+    public void glReplacementCodeuiColor4ubVertex3fvSUN(
+        int[] a0, int a1, byte[] a2, int a3, float[] a4, int a5)
+    {
+        calls++;
+    }
+
+    public void glReplacementCodeuiColor4ubVertex3fvSUN(
+        IntBuffer a0, ByteBuffer a1, FloatBuffer a2)
+    {
+        calls++;
+    }
+
+    public void glReplacementCodeuiNormal3fVertex3fSUN(
+        int a0, float a1, float a2, float a3, float a4, float a5, float a6)
+    {
+        calls++;
+    }
+
+    public void glReplacementCodeuiNormal3fVertex3fvSUN(
+        int[] a0, int a1, float[] a2, int a3, float[] a4, int a5)
+    {
+        calls++;
+    }
+
+    public void glReplacementCodeuiNormal3fVertex3fvSUN(
+        IntBuffer a0, FloatBuffer a1, FloatBuffer a2)
+    {
+        calls++;
+    }
+
+    public void glReplacementCodeuiTexCoord2fColor4fNormal3fVertex3fSUN(
+        int a0, float a1, float a2, float a3, float a4, float a5, float a6,
+        float a7, float a8, float a9, float a10, float a11, float a12)
+    {
+        calls++;
+    }
+
+    public void glReplacementCodeuiTexCoord2fColor4fNormal3fVertex3fvSUN(
+        int[] a0, int a1, float[] a2, int a3, float[] a4, int a5, float[] a6,
+        int a7, float[] a8, int a9)
+    {
+        calls++;
+    }
+
+    public void glReplacementCodeuiTexCoord2fColor4fNormal3fVertex3fvSUN(
+        IntBuffer a0, FloatBuffer a1, FloatBuffer a2, FloatBuffer a3,
+        FloatBuffer a4)
+    {
+        calls++;
+    }
+
+    public void glReplacementCodeuiTexCoord2fNormal3fVertex3fSUN(
+        int a0, float a1, float a2, float a3, float a4, float a5, float a6,
+        float a7, float a8)
+    {
+        calls++;
+    }
+
+    public void glReplacementCodeuiTexCoord2fNormal3fVertex3fvSUN(
+        int[] a0, int a1, float[] a2, int a3, float[] a4, int a5, float[] a6,
+        int a7)
+    {
+        calls++;
+    }
+
+    public void glReplacementCodeuiTexCoord2fNormal3fVertex3fvSUN(
+        IntBuffer a0, FloatBuffer a1, FloatBuffer a2, FloatBuffer a3)
+    {
+        calls++;
+    }
+
+    public void glReplacementCodeuiTexCoord2fVertex3fSUN(
+        int a0, float a1, float a2, float a3, float a4, float a5)
+    {
+        calls++;
+    }
+
+    public void glReplacementCodeuiTexCoord2fVertex3fvSUN(
+        int[] a0, int a1, float[] a2, int a3, float[] a4, int a5)
+    {
+        calls++;
+    }
+
+    public void glReplacementCodeuiTexCoord2fVertex3fvSUN(
+        IntBuffer a0, FloatBuffer a1, FloatBuffer a2)
+    {
+        calls++;
+    }
+
+    public void glReplacementCodeuiVertex3fSUN(
+        int a0, float a1, float a2, float a3)
+    {
+        calls++;
+    }
+
+    public void glReplacementCodeuiVertex3fvSUN(
+        int[] a0, int a1, float[] a2, int a3)
+    {
+        calls++;
+    }
+
+    public void glReplacementCodeuiVertex3fvSUN(IntBuffer a0, FloatBuffer a1)
+    {
+        calls++;
+    }
+
+    public void glRequestResidentProgramsNV(int a0, int[] a1, int a2)
+    {
+        calls++;
+    }
+
+    public void glRequestResidentProgramsNV(int a0, IntBuffer a1)
+    {
+        calls++;
+    }
+
+    public void glResetHistogram(int a0)
+    {
+        calls++;
+    }
+
+    public void glResetMinmax(int a0)
+    {
+        calls++;
+    }
+
+    public void glResizeBuffersMESA()
+    {
+        calls++;
+    }
+
+    public void glRotated(double a0, double a1, double a2, double a3)
+    {
+        calls++;
+    }
+
+    public void glRotatef(float a0, float a1, float a2, float a3)
+    {
+        calls++;
+    }
+
+    public void glSampleCoverage(float a0, boolean a1)
+    {
+        calls++;
+    }
+
+    public void glSampleMapATI(int a0, int a1, int a2)
+    {
+        calls++;
+    }
+
+    public void glSampleMaskEXT(float a0, boolean a1)
+    {
+        calls++;
+    }
+
+    public void glSampleMaskSGIS(float a0, boolean a1)
+    {
+        calls++;
+    }
+
+    public void glSamplePatternEXT(int a0)
+    {
+        calls++;
+    }
+
+    public void glSamplePatternSGIS(int a0)
+    {
+        calls++;
+    }
+
+    public void glScaled(double a0, double a1, double a2)
+    {
+        calls++;
+    }
+
+    public void glScalef(float a0, float a1, float a2)
+    {
+        calls++;
+    }
+
+    public void glScissor(int a0, int a1, int a2, int a3)
+    {
+        calls++;
+    }
+
+    public void glSecondaryColor3b(byte a0, byte a1, byte a2)
+    {
+        calls++;
+    }
+
+    public void glSecondaryColor3bEXT(byte a0, byte a1, byte a2)
+    {
+        calls++;
+    }
+
+    public void glSecondaryColor3bv(byte[] a0, int a1)
+    {
+        calls++;
+    }
+
+    public void glSecondaryColor3bv(ByteBuffer a0)
+    {
+        calls++;
+    }
+
+    public void glSecondaryColor3bvEXT(byte[] a0, int a1)
+    {
+        calls++;
+    }
+
+    public void glSecondaryColor3bvEXT(ByteBuffer a0)
+    {
+        calls++;
+    }
+
+    public void glSecondaryColor3d(double a0, double a1, double a2)
+    {
+        calls++;
+    }
+
+    public void glSecondaryColor3dEXT(double a0, double a1, double a2)
+    {
+        calls++;
+    }
+
+    public void glSecondaryColor3dv(double[] a0, int a1)
+    {
+        calls++;
+    }
+
+    public void glSecondaryColor3dv(DoubleBuffer a0)
+    {
+        calls++;
+    }
+
+    public void glSecondaryColor3dvEXT(double[] a0, int a1)
+    {
+        calls++;
+    }
+
+    public void glSecondaryColor3dvEXT(DoubleBuffer a0)
+    {
+        calls++;
+    }
+
+    public void glSecondaryColor3f(float a0, float a1, float a2)
+    {
+        calls++;
+    }
+
+    public void glSecondaryColor3fEXT(float a0, float a1, float a2)
+    {
+        calls++;
+    }
+
+    public void glSecondaryColor3fv(float[] a0, int a1)
+    {
+        calls++;
+    }
+
+    public void glSecondaryColor3fv(FloatBuffer a0)
+    {
+        calls++;
+    }
+
+    public void glSecondaryColor3fvEXT(float[] a0, int a1)
+    {
+        calls++;
+    }
+
+    public void glSecondaryColor3fvEXT(FloatBuffer a0)
+    {
+        calls++;
+    }
+
+    public void glSecondaryColor3hNV(short a0, short a1, short a2)
+    {
+        calls++;
+    }
+
+    public void glSecondaryColor3hvNV(short[] a0, int a1)
+    {
+        calls++;
+    }
+
+    public void glSecondaryColor3hvNV(ShortBuffer a0)
+    {
+        calls++;
+    }
+
+    public void glSecondaryColor3i(int a0, int a1, int a2)
+    {
+        calls++;
+    }
+
+    public void glSecondaryColor3iEXT(int a0, int a1, int a2)
+    {
+        calls++;
+    }
+
+    public void glSecondaryColor3iv(int[] a0, int a1)
+    {
+        calls++;
+    }
+
+    public void glSecondaryColor3iv(IntBuffer a0)
+    {
+        calls++;
+    }
+
+    public void glSecondaryColor3ivEXT(int[] a0, int a1)
+    {
+        calls++;
+    }
+
+    public void glSecondaryColor3ivEXT(IntBuffer a0)
+    {
+        calls++;
+    }
+
+    public void glSecondaryColor3s(short a0, short a1, short a2)
+    {
+        calls++;
+    }
+
+    public void glSecondaryColor3sEXT(short a0, short a1, short a2)
+    {
+        calls++;
+    }
+
+    public void glSecondaryColor3sv(short[] a0, int a1)
+    {
+        calls++;
+    }
+
+    public void glSecondaryColor3sv(ShortBuffer a0)
+    {
+        calls++;
+    }
+
+    public void glSecondaryColor3svEXT(short[] a0, int a1)
+    {
+        calls++;
+    }
+
+    public void glSecondaryColor3svEXT(ShortBuffer a0)
+    {
+        calls++;
+    }
+
+    public void glSecondaryColor3ub(byte a0, byte a1, byte a2)
+    {
+        calls++;
+    }
+
+    public void glSecondaryColor3ubEXT(byte a0, byte a1, byte a2)
+    {
+        calls++;
+    }
+
+    public void glSecondaryColor3ubv(byte[] a0, int a1)
+    {
+        calls++;
+    }
+
+    public void glSecondaryColor3ubv(ByteBuffer a0)
+    {
+        calls++;
+    }
+
+    public void glSecondaryColor3ubvEXT(byte[] a0, int a1)
+    {
+        calls++;
+    }
+
+    public void glSecondaryColor3ubvEXT(ByteBuffer a0)
+    {
+        calls++;
+    }
+
+    public void glSecondaryColor3ui(int a0, int a1, int a2)
+    {
+        calls++;
+    }
+
+    public void glSecondaryColor3uiEXT(int a0, int a1, int a2)
+    {
+        calls++;
+    }
+
+    public void glSecondaryColor3uiv(int[] a0, int a1)
+    {
+        calls++;
+    }
+
+    public void glSecondaryColor3uiv(IntBuffer a0)
+    {
+        calls++;
+    }
+
+    public void glSecondaryColor3uivEXT(int[] a0, int a1)
+    {
+        calls++;
+    }
+
+    public void glSecondaryColor3uivEXT(IntBuffer a0)
+    {
+        calls++;
+    }
+
+    public void glSecondaryColor3us(short a0, short a1, short a2)
+    {
+        calls++;
+    }
+
+    public void glSecondaryColor3usEXT(short a0, short a1, short a2)
+    {
+        calls++;
+    }
+
+    public void glSecondaryColor3usv(short[] a0, int a1)
+    {
+        calls++;
+    }
+
+    public void glSecondaryColor3usv(ShortBuffer a0)
+    {
+        calls++;
+    }
+
+    public void glSecondaryColor3usvEXT(short[] a0, int a1)
+    {
+        calls++;
+    }
+
+    public void glSecondaryColor3usvEXT(ShortBuffer a0)
+    {
+        calls++;
+    }
+
+    public void glSecondaryColorPointer(int a0, int a1, int a2, Buffer a3)
+    {
+        calls++;
+    }
+
+    public void glSecondaryColorPointer(int a0, int a1, int a2, long a3)
+    {
+        calls++;
+    }
+
+    public void glSecondaryColorPointerEXT(int a0, int a1, int a2, Buffer a3)
+    {
+        calls++;
+    }
+
+    public void glSecondaryColorPointerEXT(int a0, int a1, int a2, long a3)
+    {
+        calls++;
+    }
+
+    public void glSelectBuffer(int a0, IntBuffer a1)
+    {
+        calls++;
+    }
+
+    public void glSeparableFilter2D(
+        int a0, int a1, int a2, int a3, int a4, int a5, Buffer a6, Buffer a7)
+    {
+        calls++;
+    }
+
+    public void glSeparableFilter2D(
+        int a0, int a1, int a2, int a3, int a4, int a5, long a6, long a7)
+    {
+        calls++;
+    }
+
+    public void glSetFenceAPPLE(int a0)
+    {
+        calls++;
+    }
+
+    public void glSetFenceNV(int a0, int a1)
+    {
+        calls++;
+    }
+
+    public void glSetFragmentShaderConstantATI(int a0, float[] a1, int a2)
+    {
+        calls++;
+    }
+
+    public void glSetFragmentShaderConstantATI(int a0, FloatBuffer a1)
+    {
+        calls++;
+    }
+
+    public void glSetInvariantEXT(int a0, int a1, Buffer a2)
+    {
+        calls++;
+    }
+
+    public void glSetLocalConstantEXT(int a0, int a1, Buffer a2)
+    {
+        calls++;
+    }
+
+    public void glShadeModel(int a0)
+    {
+        calls++;
+    }
+
+    public void glShaderOp1EXT(int a0, int a1, int a2)
+    {
+        calls++;
+    }
+
+    public void glShaderOp2EXT(int a0, int a1, int a2, int a3)
+    {
+        calls++;
+    }
+
+    public void glShaderOp3EXT(int a0, int a1, int a2, int a3, int a4)
+    {
+        calls++;
+    }
+
+    public void glShaderSource(int a0, int a1, String[] a2, int[] a3, int a4)
+    {
+        calls++;
+    }
+
+    public void glShaderSource(int a0, int a1, String[] a2, IntBuffer a3)
+    {
+        calls++;
+    }
+
+    public void glShaderSourceARB(
+        int a0, int a1, String[] a2, int[] a3, int a4)
+    {
+        calls++;
+    }
+
+    public void glShaderSourceARB(int a0, int a1, String[] a2, IntBuffer a3)
+    {
+        calls++;
+    }
+
+    public void glSharpenTexFuncSGIS(int a0, int a1, float[] a2, int a3)
+    {
+        calls++;
+    }
+
+    public void glSharpenTexFuncSGIS(int a0, int a1, FloatBuffer a2)
+    {
+        calls++;
+    }
+
+    public void glSpriteParameterfSGIX(int a0, float a1)
+    {
+        calls++;
+    }
+
+    public void glSpriteParameterfvSGIX(int a0, float[] a1, int a2)
+    {
+        calls++;
+    }
+
+    public void glSpriteParameterfvSGIX(int a0, FloatBuffer a1)
+    {
+        calls++;
+    }
+
+    public void glSpriteParameteriSGIX(int a0, int a1)
+    {
+        calls++;
+    }
+
+    public void glSpriteParameterivSGIX(int a0, int[] a1, int a2)
+    {
+        calls++;
+    }
+
+    public void glSpriteParameterivSGIX(int a0, IntBuffer a1)
+    {
+        calls++;
+    }
+
+    public void glStartInstrumentsSGIX()
+    {
+        calls++;
+    }
+
+    public void glStencilClearTagEXT(int a0, int a1)
+    {
+        calls++;
+    }
+
+    public void glStencilFunc(int a0, int a1, int a2)
+    {
+        calls++;
+    }
+
+    public void glStencilFuncSeparate(int a0, int a1, int a2, int a3)
+    {
+        calls++;
+    }
+
+    public void glStencilFuncSeparateATI(int a0, int a1, int a2, int a3)
+    {
+        calls++;
+    }
+
+    public void glStencilMask(int a0)
+    {
+        calls++;
+    }
+
+    public void glStencilMaskSeparate(int a0, int a1)
+    {
+        calls++;
+    }
+
+    public void glStencilOp(int a0, int a1, int a2)
+    {
+        calls++;
+    }
+
+    public void glStencilOpSeparate(int a0, int a1, int a2, int a3)
+    {
+        calls++;
+    }
+
+    public void glStencilOpSeparateATI(int a0, int a1, int a2, int a3)
+    {
+        calls++;
+    }
+
+    public void glStopInstrumentsSGIX(int a0)
+    {
+        calls++;
+    }
+
+    public void glStringMarkerGREMEDY(int a0, Buffer a1)
+    {
+        calls++;
+    }
+
+    public void glSwapAPPLE()
+    {
+        calls++;
+    }
+
+    public void glSwizzleEXT(int a0, int a1, int a2, int a3, int a4, int a5)
+    {
+        calls++;
+    }
+
+    public void glTagSampleBufferSGIX()
+    {
+        calls++;
+    }
+
+    public void glTbufferMask3DFX(int a0)
+    {
+        calls++;
+    }
+
+    public boolean glTestFenceAPPLE(int a0)
+    {
+        calls++;
+        return false;
+    }
+
+    public boolean glTestFenceNV(int a0)
+    {
+        calls++;
+        return false;
+    }
+
+    public boolean glTestObjectAPPLE(int a0, int a1)
+    {
+        calls++;
+        return false;
+    }
+
+    public void glTexBufferEXT(int a0, int a1, int a2)
+    {
+        calls++;
+    }
+
+    public void glTexBumpParameterfvATI(int a0, float[] a1, int a2)
+    {
+        calls++;
+    }
+
+    public void glTexBumpParameterfvATI(int a0, FloatBuffer a1)
+    {
+        calls++;
+    }
+
+    public void glTexBumpParameterivATI(int a0, int[] a1, int a2)
+    {
+        calls++;
+    }
+
+    public void glTexBumpParameterivATI(int a0, IntBuffer a1)
+    {
+        calls++;
+    }
+
+    public void glTexCoord1d(double a0)
+    {
+        calls++;
+    }
+
+    public void glTexCoord1dv(double[] a0, int a1)
+    {
+        calls++;
+    }
+
+    public void glTexCoord1dv(DoubleBuffer a0)
+    {
+        calls++;
+    }
+
+    public void glTexCoord1f(float a0)
+    {
+        calls++;
+    }
+
+    public void glTexCoord1fv(float[] a0, int a1)
+    {
+        calls++;
+    }
+
+    public void glTexCoord1fv(FloatBuffer a0)
+    {
+        calls++;
+    }
+
+    public void glTexCoord1hNV(short a0)
+    {
+        calls++;
+    }
+
+    public void glTexCoord1hvNV(short[] a0, int a1)
+    {
+        calls++;
+    }
+
+    public void glTexCoord1hvNV(ShortBuffer a0)
+    {
+        calls++;
+    }
+
+    public void glTexCoord1i(int a0)
+    {
+        calls++;
+    }
+
+    public void glTexCoord1iv(int[] a0, int a1)
+    {
+        calls++;
+    }
+
+    public void glTexCoord1iv(IntBuffer a0)
+    {
+        calls++;
+    }
+
+    public void glTexCoord1s(short a0)
+    {
+        calls++;
+    }
+
+    public void glTexCoord1sv(short[] a0, int a1)
+    {
+        calls++;
+    }
+
+    public void glTexCoord1sv(ShortBuffer a0)
+    {
+        calls++;
+    }
+
+    public void glTexCoord2d(double a0, double a1)
+    {
+        calls++;
+    }
+
+    public void glTexCoord2dv(double[] a0, int a1)
+    {
+        calls++;
+    }
+
+    public void glTexCoord2dv(DoubleBuffer a0)
+    {
+        calls++;
+    }
+
+    public void glTexCoord2f(float a0, float a1)
+    {
+        calls++;
+    }
+
+    public void glTexCoord2fColor3fVertex3fSUN(
+        float a0, float a1, float a2, float a3, float a4, float a5, float a6,
+        float a7)
+    {
+        calls++;
+    }
+
+    public void glTexCoord2fColor3fVertex3fvSUN(
+        float[] a0, int a1, float[] a2, int a3, float[] a4, int a5)
+    {
+        calls++;
+    }
+
+    public void glTexCoord2fColor3fVertex3fvSUN(
+        FloatBuffer a0, FloatBuffer a1, FloatBuffer a2)
+    {
+        calls++;
+    }
+
+    public void glTexCoord2fColor4fNormal3fVertex3fSUN(
+        float a0, float a1, float a2, float a3, float a4, float a5, float a6,
+        float a7, float a8, float a9, float a10, float a11)
+    {
+        calls++;
+    }
+
+    public void glTexCoord2fColor4fNormal3fVertex3fvSUN(
+        float[] a0, int a1, float[] a2, int a3, float[] a4, int a5, float[] a6,
+        int a7)
+    {
+        calls++;
+    }
+
+    public void glTexCoord2fColor4fNormal3fVertex3fvSUN(
+        FloatBuffer a0, FloatBuffer a1, FloatBuffer a2, FloatBuffer a3)
+    {
+        calls++;
+    }
+
+    public void glTexCoord2fColor4ubVertex3fSUN(
+        float a0, float a1, byte a2, byte a3, byte a4, byte a5, float a6,
+        float a7, float a8)
+    {
+        calls++;
+    }
+
+    public void glTexCoord2fColor4ubVertex3fvSUN(
+        float[] a0, int a1, byte[] a2, int a3, float[] a4, int a5)
+    {
+        calls++;
+    }
+
+    public void glTexCoord2fColor4ubVertex3fvSUN(
+        FloatBuffer a0, ByteBuffer a1, FloatBuffer a2)
+    {
+        calls++;
+    }
+
+    public void glTexCoord2fNormal3fVertex3fSUN(
+        float a0, float a1, float a2, float a3, float a4, float a5, float a6,
+        float a7)
+    {
+        calls++;
+    }
+
+    public void glTexCoord2fNormal3fVertex3fvSUN(
+        float[] a0, int a1, float[] a2, int a3, float[] a4, int a5)
+    {
+        calls++;
+    }
+
+    public void glTexCoord2fNormal3fVertex3fvSUN(
+        FloatBuffer a0, FloatBuffer a1, FloatBuffer a2)
+    {
+        calls++;
+    }
+
+    public void glTexCoord2fVertex3fSUN(
+        float a0, float a1, float a2, float a3, float a4)
+    {
+        calls++;
+    }
+
+    public void glTexCoord2fVertex3fvSUN(
+        float[] a0, int a1, float[] a2, int a3)
+    {
+        calls++;
+    }
+
+    public void glTexCoord2fVertex3fvSUN(FloatBuffer a0, FloatBuffer a1)
+    {
+        calls++;
+    }
+
+    public void glTexCoord2fv(float[] a0, int a1)
+    {
+        calls++;
+    }
+
+    public void glTexCoord2fv(FloatBuffer a0)
+    {
+        calls++;
+    }
+
+    public void glTexCoord2hNV(short a0, short a1)
+    {
+        calls++;
+    }
+
+    public void glTexCoord2hvNV(short[] a0, int a1)
+    {
+        calls++;
+    }
+
+    public void glTexCoord2hvNV(ShortBuffer a0)
+    {
+        calls++;
+    }
+
+    public void glTexCoord2i(int a0, int a1)
+    {
+        calls++;
+    }
+
+    public void glTexCoord2iv(int[] a0, int a1)
+    {
+        calls++;
+    }
+
+    public void glTexCoord2iv(IntBuffer a0)
+    {
+        calls++;
+    }
+
+    public void glTexCoord2s(short a0, short a1)
+    {
+        calls++;
+    }
+
+    public void glTexCoord2sv(short[] a0, int a1)
+    {
+        calls++;
+    }
+
+    public void glTexCoord2sv(ShortBuffer a0)
+    {
+        calls++;
+    }
+
+    public void glTexCoord3d(double a0, double a1, double a2)
+    {
+        calls++;
+    }
+
+    public void glTexCoord3dv(double[] a0, int a1)
+    {
+        calls++;
+    }
+
+    public void glTexCoord3dv(DoubleBuffer a0)
+    {
+        calls++;
+    }
+
+    public void glTexCoord3f(float a0, float a1, float a2)
+    {
+        calls++;
+    }
+
+    public void glTexCoord3fv(float[] a0, int a1)
+    {
+        calls++;
+    }
+
+    public void glTexCoord3fv(FloatBuffer a0)
+    {
+        calls++;
+    }
+
+    public void glTexCoord3hNV(short a0, short a1, short a2)
+    {
+        calls++;
+    }
+
+    public void glTexCoord3hvNV(short[] a0, int a1)
+    {
+        calls++;
+    }
+
+    public void glTexCoord3hvNV(ShortBuffer a0)
+    {
+        calls++;
+    }
+
+    public void glTexCoord3i(int a0, int a1, int a2)
+    {
+        calls++;
+    }
+
+    public void glTexCoord3iv(int[] a0, int a1)
+    {
+        calls++;
+    }
+
+    public void glTexCoord3iv(IntBuffer a0)
+    {
+        calls++;
+    }
+
+    public void glTexCoord3s(short a0, short a1, short a2)
+    {
+        calls++;
+    }
+
+    public void glTexCoord3sv(short[] a0, int a1)
+    {
+        calls++;
+    }
+
+    public void glTexCoord3sv(ShortBuffer a0)
+    {
+        calls++;
+    }
+
+    public void glTexCoord4d(double a0, double a1, double a2, double a3)
+    {
+        calls++;
+    }
+
+    public void glTexCoord4dv(double[] a0, int a1)
+    {
+        calls++;
+    }
+
+    public void glTexCoord4dv(DoubleBuffer a0)
+    {
+        calls++;
+    }
+
+    public void glTexCoord4f(float a0, float a1, float a2, float a3)
+    {
+        calls++;
+    }
+
+    public void glTexCoord4fColor4fNormal3fVertex4fSUN(
+        float a0, float a1, float a2, float a3, float a4, float a5, float a6,
+        float a7, float a8, float a9, float a10, float a11, float a12,
+        float a13, float a14)
+    {
+        calls++;
+    }
+
+    public void glTexCoord4fColor4fNormal3fVertex4fvSUN(
+        float[] a0, int a1, float[] a2, int a3, float[] a4, int a5, float[] a6,
+        int a7)
+    {
+        calls++;
+    }
+
+    public void glTexCoord4fColor4fNormal3fVertex4fvSUN(
+        FloatBuffer a0, FloatBuffer a1, FloatBuffer a2, FloatBuffer a3)
+    {
+        calls++;
+    }
+
+    public void glTexCoord4fVertex4fSUN(
+        float a0, float a1, float a2, float a3, float a4, float a5, float a6,
+        float a7)
+    {
+        calls++;
+    }
+
+    public void glTexCoord4fVertex4fvSUN(
+        float[] a0, int a1, float[] a2, int a3)
+    {
+        calls++;
+    }
+
+    public void glTexCoord4fVertex4fvSUN(FloatBuffer a0, FloatBuffer a1)
+    {
+        calls++;
+    }
+
+    public void glTexCoord4fv(float[] a0, int a1)
+    {
+        calls++;
+    }
+
+    public void glTexCoord4fv(FloatBuffer a0)
+    {
+        calls++;
+    }
+
+    public void glTexCoord4hNV(short a0, short a1, short a2, short a3)
+    {
+        calls++;
+    }
+
+    public void glTexCoord4hvNV(short[] a0, int a1)
+    {
+        calls++;
+    }
+
+    public void glTexCoord4hvNV(ShortBuffer a0)
+    {
+        calls++;
+    }
+
+    public void glTexCoord4i(int a0, int a1, int a2, int a3)
+    {
+        calls++;
+    }
+
+    public void glTexCoord4iv(int[] a0, int a1)
+    {
+        calls++;
+    }
+
+    public void glTexCoord4iv(IntBuffer a0)
+    {
+        calls++;
+    }
+
+    public void glTexCoord4s(short a0, short a1, short a2, short a3)
+    {
+        calls++;
+    }
+
+    public void glTexCoord4sv(short[] a0, int a1)
+    {
+        calls++;
+    }
+
+    public void glTexCoord4sv(ShortBuffer a0)
+    {
+        calls++;
+    }
+
+    public void glTexCoordPointer(int a0, int a1, int a2, Buffer a3)
+    {
+        calls++;
+    }
+
+    public void glTexCoordPointer(int a0, int a1, int a2, long a3)
+    {
+        calls++;
+    }
+
+    public void glTexEnvf(int a0, int a1, float a2)
+    {
+        calls++;
+    }
+
+    public void glTexEnvfv(int a0, int a1, float[] a2, int a3)
+    {
+        calls++;
+    }
+
+    public void glTexEnvfv(int a0, int a1, FloatBuffer a2)
+    {
+        calls++;
+    }
+
+    public void glTexEnvi(int a0, int a1, int a2)
+    {
+        calls++;
+    }
+
+    public void glTexEnviv(int a0, int a1, int[] a2, int a3)
+    {
+        calls++;
+    }
+
+    public void glTexEnviv(int a0, int a1, IntBuffer a2)
+    {
+        calls++;
+    }
+
+    public void glTexFilterFuncSGIS(int a0, int a1, int a2, float[] a3, int a4)
+    {
+        calls++;
+    }
+
+    public void glTexFilterFuncSGIS(int a0, int a1, int a2, FloatBuffer a3)
+    {
+        calls++;
+    }
+
+    public void glTexGend(int a0, int a1, double a2)
+    {
+        calls++;
+    }
+
+    public void glTexGendv(int a0, int a1, double[] a2, int a3)
+    {
+        calls++;
+    }
+
+    public void glTexGendv(int a0, int a1, DoubleBuffer a2)
+    {
+        calls++;
+    }
+
+    public void glTexGenf(int a0, int a1, float a2)
+    {
+        calls++;
+    }
+
+    public void glTexGenfv(int a0, int a1, float[] a2, int a3)
+    {
+        calls++;
+    }
+
+    public void glTexGenfv(int a0, int a1, FloatBuffer a2)
+    {
+        calls++;
+    }
+
+    public void glTexGeni(int a0, int a1, int a2)
+    {
+        calls++;
+    }
+
+    public void glTexGeniv(int a0, int a1, int[] a2, int a3)
+    {
+        calls++;
+    }
+
+    public void glTexGeniv(int a0, int a1, IntBuffer a2)
+    {
+        calls++;
+    }
+
+    public void glTexImage1D(
+        int a0, int a1, int a2, int a3, int a4, int a5, int a6, Buffer a7)
+    {
+        calls++;
+    }
+
+    public void glTexImage1D(
+        int a0, int a1, int a2, int a3, int a4, int a5, int a6, long a7)
+    {
+        calls++;
+    }
+
+    public void glTexImage2D(
+        int a0, int a1, int a2, int a3, int a4, int a5, int a6, int a7,
+        Buffer a8)
+    {
+        calls++;
+    }
+
+    public void glTexImage2D(
+        int a0, int a1, int a2, int a3, int a4, int a5, int a6, int a7,
+        long a8)
+    {
+        calls++;
+    }
+
+    public void glTexImage3D(
+        int a0, int a1, int a2, int a3, int a4, int a5, int a6, int a7, int a8,
+        Buffer a9)
+    {
+        calls++;
+    }
+
+    public void glTexImage3D(
+        int a0, int a1, int a2, int a3, int a4, int a5, int a6, int a7, int a8,
+        long a9)
+    {
+        calls++;
+    }
+
+    public void glTexImage4DSGIS(
+        int a0, int a1, int a2, int a3, int a4, int a5, int a6, int a7, int a8,
+        int a9, Buffer a10)
+    {
+        calls++;
+    }
+
+    public void glTexParameterIivEXT(int a0, int a1, int[] a2, int a3)
+    {
+        calls++;
+    }
+
+    public void glTexParameterIivEXT(int a0, int a1, IntBuffer a2)
+    {
+        calls++;
+    }
+
+    public void glTexParameterIuivEXT(int a0, int a1, int[] a2, int a3)
+    {
+        calls++;
+    }
+
+    public void glTexParameterIuivEXT(int a0, int a1, IntBuffer a2)
+    {
+        calls++;
+    }
+
+    public void glTexParameterf(int a0, int a1, float a2)
+    {
+        calls++;
+    }
+
+    public void glTexParameterfv(int a0, int a1, float[] a2, int a3)
+    {
+        calls++;
+    }
+
+    public void glTexParameterfv(int a0, int a1, FloatBuffer a2)
+    {
+        calls++;
+    }
+
+    public void glTexParameteri(int a0, int a1, int a2)
+    {
+        calls++;
+    }
+
+    public void glTexParameteriv(int a0, int a1, int[] a2, int a3)
+    {
+        calls++;
+    }
+
+    public void glTexParameteriv(int a0, int a1, IntBuffer a2)
+    {
+        calls++;
+    }
+
+    public void glTexSubImage1D(
+        int a0, int a1, int a2, int a3, int a4, int a5, Buffer a6)
+    {
+        calls++;
+    }
+
+    public void glTexSubImage1D(
+        int a0, int a1, int a2, int a3, int a4, int a5, long a6)
+    {
+        calls++;
+    }
+
+    public void glTexSubImage2D(
+        int a0, int a1, int a2, int a3, int a4, int a5, int a6, int a7,
+        Buffer a8)
+    {
+        calls++;
+    }
+
+    public void glTexSubImage2D(
+        int a0, int a1, int a2, int a3, int a4, int a5, int a6, int a7,
+        long a8)
+    {
+        calls++;
+    }
+
+    public void glTexSubImage3D(
+        int a0, int a1, int a2, int a3, int a4, int a5, int a6, int a7, int a8,
+        int a9, Buffer a10)
+    {
+        calls++;
+    }
+
+    public void glTexSubImage3D(
+        int a0, int a1, int a2, int a3, int a4, int a5, int a6, int a7, int a8,
+        int a9, long a10)
+    {
+        calls++;
+    }
+
+    public void glTexSubImage4DSGIS(
+        int a0, int a1, int a2, int a3, int a4, int a5, int a6, int a7, int a8,
+        int a9, int a10, int a11, Buffer a12)
+    {
+        calls++;
+    }
+
+    public void glTextureColorMaskSGIS(
+        boolean a0, boolean a1, boolean a2, boolean a3)
+    {
+        calls++;
+    }
+
+    public void glTextureLightEXT(int a0)
+    {
+        calls++;
+    }
+
+    public void glTextureMaterialEXT(int a0, int a1)
+    {
+        calls++;
+    }
+
+    public void glTextureNormalEXT(int a0)
+    {
+        calls++;
+    }
+
+    public void glTextureRangeAPPLE(int a0, int a1, Buffer a2)
+    {
+        calls++;
+    }
+
+    public void glTrackMatrixNV(int a0, int a1, int a2, int a3)
+    {
+        calls++;
+    }
+
+    public void glTransformFeedbackAttribsNV(int a0, int[] a1, int a2, int a3)
+    {
+        calls++;
+    }
+
+    public void glTransformFeedbackAttribsNV(int a0, IntBuffer a1, int a2)
+    {
+        calls++;
+    }
+
+    public void glTransformFeedbackVaryingsNV(
+        int a0, int a1, int[] a2, int a3, int a4)
+    {
+        calls++;
+    }
+
+    public void glTransformFeedbackVaryingsNV(
+        int a0, int a1, IntBuffer a2, int a3)
+    {
+        calls++;
+    }
+
+    public void glTranslated(double a0, double a1, double a2)
+    {
+        calls++;
+    }
+
+    public void glTranslatef(float a0, float a1, float a2)
+    {
+        calls++;
+    }
+
+    public void glUniform1f(int a0, float a1)
+    {
+        calls++;
+    }
+
+    public void glUniform1fARB(int a0, float a1)
+    {
+        calls++;
+    }
+
+    public void glUniform1fv(int a0, int a1, float[] a2, int a3)
+    {
+        calls++;
+    }
+
+    public void glUniform1fv(int a0, int a1, FloatBuffer a2)
+    {
+        calls++;
+    }
+
+    public void glUniform1fvARB(int a0, int a1, float[] a2, int a3)
+    {
+        calls++;
+    }
+
+    public void glUniform1fvARB(int a0, int a1, FloatBuffer a2)
+    {
+        calls++;
+    }
+
+    public void glUniform1i(int a0, int a1)
+    {
+        calls++;
+    }
+
+    public void glUniform1iARB(int a0, int a1)
+    {
+        calls++;
+    }
+
+    public void glUniform1iv(int a0, int a1, int[] a2, int a3)
+    {
+        calls++;
+    }
+
+    public void glUniform1iv(int a0, int a1, IntBuffer a2)
+    {
+        calls++;
+    }
+
+    public void glUniform1ivARB(int a0, int a1, int[] a2, int a3)
+    {
+        calls++;
+    }
+
+    public void glUniform1ivARB(int a0, int a1, IntBuffer a2)
+    {
+        calls++;
+    }
+
+    public void glUniform1uiEXT(int a0, int a1)
+    {
+        calls++;
+    }
+
+    public void glUniform1uivEXT(int a0, int a1, int[] a2, int a3)
+    {
+        calls++;
+    }
+
+    public void glUniform1uivEXT(int a0, int a1, IntBuffer a2)
+    {
+        calls++;
+    }
+
+    public void glUniform2f(int a0, float a1, float a2)
+    {
+        calls++;
+    }
+
+    public void glUniform2fARB(int a0, float a1, float a2)
+    {
+        calls++;
+    }
+
+    public void glUniform2fv(int a0, int a1, float[] a2, int a3)
+    {
+        calls++;
+    }
+
+    public void glUniform2fv(int a0, int a1, FloatBuffer a2)
+    {
+        calls++;
+    }
+
+    public void glUniform2fvARB(int a0, int a1, float[] a2, int a3)
+    {
+        calls++;
+    }
+
+    public void glUniform2fvARB(int a0, int a1, FloatBuffer a2)
+    {
+        calls++;
+    }
+
+    public void glUniform2i(int a0, int a1, int a2)
+    {
+        calls++;
+    }
+
+    public void glUniform2iARB(int a0, int a1, int a2)
+    {
+        calls++;
+    }
+
+    public void glUniform2iv(int a0, int a1, int[] a2, int a3)
+    {
+        calls++;
+    }
+
+    public void glUniform2iv(int a0, int a1, IntBuffer a2)
+    {
+        calls++;
+    }
+
+    public void glUniform2ivARB(int a0, int a1, int[] a2, int a3)
+    {
+        calls++;
+    }
+
+    public void glUniform2ivARB(int a0, int a1, IntBuffer a2)
+    {
+        calls++;
+    }
+
+    public void glUniform2uiEXT(int a0, int a1, int a2)
+    {
+        calls++;
+    }
+
+    public void glUniform2uivEXT(int a0, int a1, int[] a2, int a3)
+    {
+        calls++;
+    }
+
+    public void glUniform2uivEXT(int a0, int a1, IntBuffer a2)
+    {
+        calls++;
+    }
+
+    public void glUniform3f(int a0, float a1, float a2, float a3)
+    {
+        calls++;
+    }
+
+    public void glUniform3fARB(int a0, float a1, float a2, float a3)
+    {
+        calls++;
+    }
+
+    public void glUniform3fv(int a0, int a1, float[] a2, int a3)
+    {
+        calls++;
+    }
+
+    public void glUniform3fv(int a0, int a1, FloatBuffer a2)
+    {
+        calls++;
+    }
+
+    public void glUniform3fvARB(int a0, int a1, float[] a2, int a3)
+    {
+        calls++;
+    }
+
+    public void glUniform3fvARB(int a0, int a1, FloatBuffer a2)
+    {
+        calls++;
+    }
+
+    public void glUniform3i(int a0, int a1, int a2, int a3)
+    {
+        calls++;
+    }
+
+    public void glUniform3iARB(int a0, int a1, int a2, int a3)
+    {
+        calls++;
+    }
+
+    public void glUniform3iv(int a0, int a1, int[] a2, int a3)
+    {
+        calls++;
+    }
+
+    public void glUniform3iv(int a0, int a1, IntBuffer a2)
+    {
+        calls++;
+    }
+
+    public void glUniform3ivARB(int a0, int a1, int[] a2, int a3)
+    {
+        calls++;
+    }
+
+    public void glUniform3ivARB(int a0, int a1, IntBuffer a2)
+    {
+        calls++;
+    }
+
+    public void glUniform3uiEXT(int a0, int a1, int a2, int a3)
+    {
+        calls++;
+    }
+
+    public void glUniform3uivEXT(int a0, int a1, int[] a2, int a3)
+    {
+        calls++;
+    }
+
+    public void glUniform3uivEXT(int a0, int a1, IntBuffer a2)
+    {
+        calls++;
+    }
+
+    public void glUniform4f(int a0, float a1, float a2, float a3, float a4)
+    {
+        calls++;
+    }
+
+    public void glUniform4fARB(int a0, float a1, float a2, float a3, float a4)
+    {
+        calls++;
+    }
+
+    public void glUniform4fv(int a0, int a1, float[] a2, int a3)
+    {
+        calls++;
+    }
+
+    public void glUniform4fv(int a0, int a1, FloatBuffer a2)
+    {
+        calls++;
+    }
+
+    public void glUniform4fvARB(int a0, int a1, float[] a2, int a3)
+    {
+        calls++;
+    }
+
+    public void glUniform4fvARB(int a0, int a1, FloatBuffer a2)
+    {
+        calls++;
+    }
+
+    public void glUniform4i(int a0, int a1, int a2, int a3, int a4)
+    {
+        calls++;
+    }
+
+    public void glUniform4iARB(int a0, int a1, int a2, int a3, int a4)
+    {
+        calls++;
+    }
+
+    public void glUniform4iv(int a0, int a1, int[] a2, int a3)
+    {
+        calls++;
+    }
+
+    public void glUniform4iv(int a0, int a1, IntBuffer a2)
+    {
+        calls++;
+    }
+
+    public void glUniform4ivARB(int a0, int a1, int[] a2, int a3)
+    {
+        calls++;
+    }
+
+    public void glUniform4ivARB(int a0, int a1, IntBuffer a2)
+    {
+        calls++;
+    }
+
+    public void glUniform4uiEXT(int a0, int a1, int a2, int a3, int a4)
+    {
+        calls++;
+    }
+
+    public void glUniform4uivEXT(int a0, int a1, int[] a2, int a3)
+    {
+        calls++;
+    }
+
+    public void glUniform4uivEXT(int a0, int a1, IntBuffer a2)
+    {
+        calls++;
+    }
+
+    public void glUniformBufferEXT(int a0, int a1, int a2)
+    {
+        calls++;
+    }
+
+    public void glUniformMatrix2fv(
+        int a0, int a1, boolean a2, float[] a3, int a4)
+    {
+        calls++;
+    }
+
+    public void glUniformMatrix2fv(int a0, int a1, boolean a2, FloatBuffer a3)
+    {
+        calls++;
+    }
+
+    public void glUniformMatrix2fvARB(
+        int a0, int a1, boolean a2, float[] a3, int a4)
+    {
+        calls++;
+    }
+
+    public void glUniformMatrix2fvARB(
+        int a0, int a1, boolean a2, FloatBuffer a3)
+    {
+        calls++;
+    }
+
+    public void glUniformMatrix2x3fv(
+        int a0, int a1, boolean a2, float[] a3, int a4)
+    {
+        calls++;
+    }
+
+    public void glUniformMatrix2x3fv(
+        int a0, int a1, boolean a2, FloatBuffer a3)
+    {
+        calls++;
+    }
+
+    public void glUniformMatrix2x4fv(
+        int a0, int a1, boolean a2, float[] a3, int a4)
+    {
+        calls++;
+    }
+
+    public void glUniformMatrix2x4fv(
+        int a0, int a1, boolean a2, FloatBuffer a3)
+    {
+        calls++;
+    }
+
+    public void glUniformMatrix3fv(
+        int a0, int a1, boolean a2, float[] a3, int a4)
+    {
+        calls++;
+    }
+
+    public void glUniformMatrix3fv(int a0, int a1, boolean a2, FloatBuffer a3)
+    {
+        calls++;
+    }
+
+    public void glUniformMatrix3fvARB(
+        int a0, int a1, boolean a2, float[] a3, int a4)
+    {
+        calls++;
+    }
+
+    public void glUniformMatrix3fvARB(
+        int a0, int a1, boolean a2, FloatBuffer a3)
+    {
+        calls++;
+    }
+
+    public void glUniformMatrix3x2fv(
+        int a0, int a1, boolean a2, float[] a3, int a4)
+    {
+        calls++;
+    }
+
+    public void glUniformMatrix3x2fv(
+        int a0, int a1, boolean a2, FloatBuffer a3)
+    {
+        calls++;
+    }
+
+    public void glUniformMatrix3x4fv(
+        int a0, int a1, boolean a2, float[] a3, int a4)
+    {
+        calls++;
+    }
+
+    public void glUniformMatrix3x4fv(
+        int a0, int a1, boolean a2, FloatBuffer a3)
+    {
+        calls++;
+    }
+
+    public void glUniformMatrix4fv(
+        int a0, int a1, boolean a2, float[] a3, int a4)
+    {
+        calls++;
+    }
+
+    public void glUniformMatrix4fv(int a0, int a1, boolean a2, FloatBuffer a3)
+    {
+        calls++;
+    }
+
+    public void glUniformMatrix4fvARB(
+        int a0, int a1, boolean a2, float[] a3, int a4)
+    {
+        calls++;
+    }
+
+    public void glUniformMatrix4fvARB(
+        int a0, int a1, boolean a2, FloatBuffer a3)
+    {
+        calls++;
+    }
+
+    public void glUniformMatrix4x2fv(
+        int a0, int a1, boolean a2, float[] a3, int a4)
+    {
+        calls++;
+    }
+
+    public void glUniformMatrix4x2fv(
+        int a0, int a1, boolean a2, FloatBuffer a3)
+    {
+        calls++;
+    }
+
+    public void glUniformMatrix4x3fv(
+        int a0, int a1, boolean a2, float[] a3, int a4)
+    {
+        calls++;
+    }
+
+    public void glUniformMatrix4x3fv(
+        int a0, int a1, boolean a2, FloatBuffer a3)
+    {
+        calls++;
+    }
+
+    public void glUnlockArraysEXT()
+    {
+        calls++;
+    }
+
+    public boolean glUnmapBuffer(int a0)
+    {
+        calls++;
+        return false;
+    }
+
+    public boolean glUnmapBufferARB(int a0)
+    {
+        calls++;
+        return false;
+    }
+
+    public void glUpdateObjectBufferATI(
+        int a0, int a1, int a2, Buffer a3, int a4)
+    {
+        calls++;
+    }
+
+    public void glUseProgram(int a0)
+    {
+        calls++;
+    }
+
+    public void glUseProgramObjectARB(int a0)
+    {
+        calls++;
+    }
+
+    public void glValidateProgram(int a0)
+    {
+        calls++;
+    }
+
+    public void glValidateProgramARB(int a0)
+    {
+        calls++;
+    }
+
+    public void glVariantArrayObjectATI(int a0, int a1, int a2, int a3, int a4)
+    {
+        calls++;
+    }
+
+    public void glVariantPointerEXT(int a0, int a1, int a2, Buffer a3)
+    {
+        calls++;
+    }
+
+    public void glVariantPointerEXT(int a0, int a1, int a2, long a3)
+    {
+        calls++;
+    }
+
+    public void glVariantbvEXT(int a0, byte[] a1, int a2)
+    {
+        calls++;
+    }
+
+    public void glVariantbvEXT(int a0, ByteBuffer a1)
+    {
+        calls++;
+    }
+
+    public void glVariantdvEXT(int a0, double[] a1, int a2)
+    {
+        calls++;
+    }
+
+    public void glVariantdvEXT(int a0, DoubleBuffer a1)
+    {
+        calls++;
+    }
+
+    public void glVariantfvEXT(int a0, float[] a1, int a2)
+    {
+        calls++;
+    }
+
+    public void glVariantfvEXT(int a0, FloatBuffer a1)
+    {
+        calls++;
+    }
+
+    public void glVariantivEXT(int a0, int[] a1, int a2)
+    {
+        calls++;
+    }
+
+    public void glVariantivEXT(int a0, IntBuffer a1)
+    {
+        calls++;
+    }
+
+    public void glVariantsvEXT(int a0, short[] a1, int a2)
+    {
+        calls++;
+    }
+
+    public void glVariantsvEXT(int a0, ShortBuffer a1)
+    {
+        calls++;
+    }
+
+    public void glVariantubvEXT(int a0, byte[] a1, int a2)
+    {
+        calls++;
+    }
+
+    public void glVariantubvEXT(int a0, ByteBuffer a1)
+    {
+        calls++;
+    }
+
+    public void glVariantuivEXT(int a0, int[] a1, int a2)
+    {
+        calls++;
+    }
+
+    public void glVariantuivEXT(int a0, IntBuffer a1)
+    {
+        calls++;
+    }
+
+    public void glVariantusvEXT(int a0, short[] a1, int a2)
+    {
+        calls++;
+    }
+
+    public void glVariantusvEXT(int a0, ShortBuffer a1)
+    {
+        calls++;
+    }
+
+    public void glVertex2d(double a0, double a1)
+    {
+        calls++;
+    }
+
+    public void glVertex2dv(double[] a0, int a1)
+    {
+        calls++;
+    }
+
+    public void glVertex2dv(DoubleBuffer a0)
+    {
+        calls++;
+    }
+
+    public void glVertex2f(float a0, float a1)
+    {
+        calls++;
+    }
+
+    public void glVertex2fv(float[] a0, int a1)
+    {
+        calls++;
+    }
+
+    public void glVertex2fv(FloatBuffer a0)
+    {
+        calls++;
+    }
+
+    public void glVertex2hNV(short a0, short a1)
+    {
+        calls++;
+    }
+
+    public void glVertex2hvNV(short[] a0, int a1)
+    {
+        calls++;
+    }
+
+    public void glVertex2hvNV(ShortBuffer a0)
+    {
+        calls++;
+    }
+
+    public void glVertex2i(int a0, int a1)
+    {
+        calls++;
+    }
+
+    public void glVertex2iv(int[] a0, int a1)
+    {
+        calls++;
+    }
+
+    public void glVertex2iv(IntBuffer a0)
+    {
+        calls++;
+    }
+
+    public void glVertex2s(short a0, short a1)
+    {
+        calls++;
+    }
+
+    public void glVertex2sv(short[] a0, int a1)
+    {
+        calls++;
+    }
+
+    public void glVertex2sv(ShortBuffer a0)
+    {
+        calls++;
+    }
+
+    public void glVertex3d(double a0, double a1, double a2)
+    {
+        calls++;
+    }
+
+    public void glVertex3dv(double[] a0, int a1)
+    {
+        calls++;
+    }
+
+    public void glVertex3dv(DoubleBuffer a0)
+    {
+        calls++;
+    }
+
+    public void glVertex3f(float a0, float a1, float a2)
+    {
+        calls++;
+    }
+
+    public void glVertex3fv(float[] a0, int a1)
+    {
+        calls++;
+    }
+
+    public void glVertex3fv(FloatBuffer a0)
+    {
+        calls++;
+    }
+
+    public void glVertex3hNV(short a0, short a1, short a2)
+    {
+        calls++;
+    }
+
+    public void glVertex3hvNV(short[] a0, int a1)
+    {
+        calls++;
+    }
+
+    public void glVertex3hvNV(ShortBuffer a0)
+    {
+        calls++;
+    }
+
+    public void glVertex3i(int a0, int a1, int a2)
+    {
+        calls++;
+    }
+
+    public void glVertex3iv(int[] a0, int a1)
+    {
+        calls++;
+    }
+
+    public void glVertex3iv(IntBuffer a0)
+    {
+        calls++;
+    }
+
+    public void glVertex3s(short a0, short a1, short a2)
+    {
+        calls++;
+    }
+
+    public void glVertex3sv(short[] a0, int a1)
+    {
+        calls++;
+    }
+
+    public void glVertex3sv(ShortBuffer a0)
+    {
+        calls++;
+    }
+
+    public void glVertex4d(double a0, double a1, double a2, double a3)
+    {
+        calls++;
+    }
+
+    public void glVertex4dv(double[] a0, int a1)
+    {
+        calls++;
+    }
+
+    public void glVertex4dv(DoubleBuffer a0)
+    {
+        calls++;
+    }
+
+    public void glVertex4f(float a0, float a1, float a2, float a3)
+    {
+        calls++;
+    }
+
+    public void glVertex4fv(float[] a0, int a1)
+    {
+        calls++;
+    }
+
+    public void glVertex4fv(FloatBuffer a0)
+    {
+        calls++;
+    }
+
+    public void glVertex4hNV(short a0, short a1, short a2, short a3)
+    {
+        calls++;
+    }
+
+    public void glVertex4hvNV(short[] a0, int a1)
+    {
+        calls++;
+    }
+
+    public void glVertex4hvNV(ShortBuffer a0)
+    {
+        calls++;
+    }
+
+    public void glVertex4i(int a0, int a1, int a2, int a3)
+    {
+        calls++;
+    }
+
+    public void glVertex4iv(int[] a0, int a1)
+    {
+        calls++;
+    }
+
+    public void glVertex4iv(IntBuffer a0)
+    {
+        calls++;
+    }
+
+    public void glVertex4s(short a0, short a1, short a2, short a3)
+    {
+        calls++;
+    }
+
+    public void glVertex4sv(short[] a0, int a1)
+    {
+        calls++;
+    }
+
+    public void glVertex4sv(ShortBuffer a0)
+    {
+        calls++;
+    }
+
+    public void glVertexArrayParameteriAPPLE(int a0, int a1)
+    {
+        calls++;
+    }
+
+    public void glVertexArrayRangeAPPLE(int a0, Buffer a1)
+    {
+        calls++;
+    }
+
+    public void glVertexArrayRangeNV(int a0, Buffer a1)
+    {
+        calls++;
+    }
+
+    public void glVertexAttrib1d(int a0, double a1)
+    {
+        calls++;
+    }
+
+    public void glVertexAttrib1dARB(int a0, double a1)
+    {
+        calls++;
+    }
+
+    public void glVertexAttrib1dNV(int a0, double a1)
+    {
+        calls++;
+    }
+
+    public void glVertexAttrib1dv(int a0, double[] a1, int a2)
+    {
+        calls++;
+    }
+
+    public void glVertexAttrib1dv(int a0, DoubleBuffer a1)
+    {
+        calls++;
+    }
+
+    public void glVertexAttrib1dvARB(int a0, double[] a1, int a2)
+    {
+        calls++;
+    }
+
+    public void glVertexAttrib1dvARB(int a0, DoubleBuffer a1)
+    {
+        calls++;
+    }
+
+    public void glVertexAttrib1dvNV(int a0, double[] a1, int a2)
+    {
+        calls++;
+    }
+
+    public void glVertexAttrib1dvNV(int a0, DoubleBuffer a1)
+    {
+        calls++;
+    }
+
+    public void glVertexAttrib1f(int a0, float a1)
+    {
+        calls++;
+    }
+
+    public void glVertexAttrib1fARB(int a0, float a1)
+    {
+        calls++;
+    }
+
+    public void glVertexAttrib1fNV(int a0, float a1)
+    {
+        calls++;
+    }
+
+    public void glVertexAttrib1fv(int a0, float[] a1, int a2)
+    {
+        calls++;
+    }
+
+    public void glVertexAttrib1fv(int a0, FloatBuffer a1)
+    {
+        calls++;
+    }
+
+    public void glVertexAttrib1fvARB(int a0, float[] a1, int a2)
+    {
+        calls++;
+    }
+
+    public void glVertexAttrib1fvARB(int a0, FloatBuffer a1)
+    {
+        calls++;
+    }
+
+    public void glVertexAttrib1fvNV(int a0, float[] a1, int a2)
+    {
+        calls++;
+    }
+
+    public void glVertexAttrib1fvNV(int a0, FloatBuffer a1)
+    {
+        calls++;
+    }
+
+    public void glVertexAttrib1hNV(int a0, short a1)
+    {
+        calls++;
+    }
+
+    public void glVertexAttrib1hvNV(int a0, short[] a1, int a2)
+    {
+        calls++;
+    }
+
+    public void glVertexAttrib1hvNV(int a0, ShortBuffer a1)
+    {
+        calls++;
+    }
+
+    public void glVertexAttrib1s(int a0, short a1)
+    {
+        calls++;
+    }
+
+    public void glVertexAttrib1sARB(int a0, short a1)
+    {
+        calls++;
+    }
+
+    public void glVertexAttrib1sNV(int a0, short a1)
+    {
+        calls++;
+    }
+
+    public void glVertexAttrib1sv(int a0, short[] a1, int a2)
+    {
+        calls++;
+    }
+
+    public void glVertexAttrib1sv(int a0, ShortBuffer a1)
+    {
+        calls++;
+    }
+
+    public void glVertexAttrib1svARB(int a0, short[] a1, int a2)
+    {
+        calls++;
+    }
+
+    public void glVertexAttrib1svARB(int a0, ShortBuffer a1)
+    {
+        calls++;
+    }
+
+    public void glVertexAttrib1svNV(int a0, short[] a1, int a2)
+    {
+        calls++;
+    }
+
+    public void glVertexAttrib1svNV(int a0, ShortBuffer a1)
+    {
+        calls++;
+    }
+
+    public void glVertexAttrib2d(int a0, double a1, double a2)
+    {
+        calls++;
+    }
+
+    public void glVertexAttrib2dARB(int a0, double a1, double a2)
+    {
+        calls++;
+    }
+
+    public void glVertexAttrib2dNV(int a0, double a1, double a2)
+    {
+        calls++;
+    }
+
+    public void glVertexAttrib2dv(int a0, double[] a1, int a2)
+    {
+        calls++;
+    }
+
+    public void glVertexAttrib2dv(int a0, DoubleBuffer a1)
+    {
+        calls++;
+    }
+
+    public void glVertexAttrib2dvARB(int a0, double[] a1, int a2)
+    {
+        calls++;
+    }
+
+    public void glVertexAttrib2dvARB(int a0, DoubleBuffer a1)
+    {
+        calls++;
+    }
+
+    public void glVertexAttrib2dvNV(int a0, double[] a1, int a2)
+    {
+        calls++;
+    }
+
+    public void glVertexAttrib2dvNV(int a0, DoubleBuffer a1)
+    {
+        calls++;
+    }
+
+    public void glVertexAttrib2f(int a0, float a1, float a2)
+    {
+        calls++;
+    }
+
+    public void glVertexAttrib2fARB(int a0, float a1, float a2)
+    {
+        calls++;
+    }
+
+    public void glVertexAttrib2fNV(int a0, float a1, float a2)
+    {
+        calls++;
+    }
+
+    public void glVertexAttrib2fv(int a0, float[] a1, int a2)
+    {
+        calls++;
+    }
+
+    public void glVertexAttrib2fv(int a0, FloatBuffer a1)
+    {
+        calls++;
+    }
+
+    public void glVertexAttrib2fvARB(int a0, float[] a1, int a2)
+    {
+        calls++;
+    }
+
+    public void glVertexAttrib2fvARB(int a0, FloatBuffer a1)
+    {
+        calls++;
+    }
+
+    public void glVertexAttrib2fvNV(int a0, float[] a1, int a2)
+    {
+        calls++;
+    }
+
+    public void glVertexAttrib2fvNV(int a0, FloatBuffer a1)
+    {
+        calls++;
+    }
+
+    public void glVertexAttrib2hNV(int a0, short a1, short a2)
+    {
+        calls++;
+    }
+
+    public void glVertexAttrib2hvNV(int a0, short[] a1, int a2)
+    {
+        calls++;
+    }
+
+    public void glVertexAttrib2hvNV(int a0, ShortBuffer a1)
+    {
+        calls++;
+    }
+
+    public void glVertexAttrib2s(int a0, short a1, short a2)
+    {
+        calls++;
+    }
+
+    public void glVertexAttrib2sARB(int a0, short a1, short a2)
+    {
+        calls++;
+    }
+
+    public void glVertexAttrib2sNV(int a0, short a1, short a2)
+    {
+        calls++;
+    }
+
+    public void glVertexAttrib2sv(int a0, short[] a1, int a2)
+    {
+        calls++;
+    }
+
+    public void glVertexAttrib2sv(int a0, ShortBuffer a1)
+    {
+        calls++;
+    }
+
+    public void glVertexAttrib2svARB(int a0, short[] a1, int a2)
+    {
+        calls++;
+    }
+
+    public void glVertexAttrib2svARB(int a0, ShortBuffer a1)
+    {
+        calls++;
+    }
+
+    public void glVertexAttrib2svNV(int a0, short[] a1, int a2)
+    {
+        calls++;
+    }
+
+    public void glVertexAttrib2svNV(int a0, ShortBuffer a1)
+    {
+        calls++;
+    }
+
+    public void glVertexAttrib3d(int a0, double a1, double a2, double a3)
+    {
+        calls++;
+    }
+
+    public void glVertexAttrib3dARB(int a0, double a1, double a2, double a3)
+    {
+        calls++;
+    }
+
+    public void glVertexAttrib3dNV(int a0, double a1, double a2, double a3)
+    {
+        calls++;
+    }
+
+    public void glVertexAttrib3dv(int a0, double[] a1, int a2)
+    {
+        calls++;
+    }
+
+    public void glVertexAttrib3dv(int a0, DoubleBuffer a1)
+    {
+        calls++;
+    }
+
+    public void glVertexAttrib3dvARB(int a0, double[] a1, int a2)
+    {
+        calls++;
+    }
+
+    public void glVertexAttrib3dvARB(int a0, DoubleBuffer a1)
+    {
+        calls++;
+    }
+
+    public void glVertexAttrib3dvNV(int a0, double[] a1, int a2)
+    {
+        calls++;
+    }
+
+    public void glVertexAttrib3dvNV(int a0, DoubleBuffer a1)
+    {
+        calls++;
+    }
+
+    public void glVertexAttrib3f(int a0, float a1, float a2, float a3)
+    {
+        calls++;
+    }
+
+    public void glVertexAttrib3fARB(int a0, float a1, float a2, float a3)
+    {
+        calls++;
+    }
+
+    public void glVertexAttrib3fNV(int a0, float a1, float a2, float a3)
+    {
+        calls++;
+    }
+
+    public void glVertexAttrib3fv(int a0, float[] a1, int a2)
+    {
+        calls++;
+    }
+
+    public void glVertexAttrib3fv(int a0, FloatBuffer a1)
+    {
+        calls++;
+    }
+
+    public void glVertexAttrib3fvARB(int a0, float[] a1, int a2)
+    {
+        calls++;
+    }
+
+    public void glVertexAttrib3fvARB(int a0, FloatBuffer a1)
+    {
+        calls++;
+    }
+
+    public void glVertexAttrib3fvNV(int a0, float[] a1, int a2)
+    {
+        calls++;
+    }
+
+    public void glVertexAttrib3fvNV(int a0, FloatBuffer a1)
+    {
+        calls++;
+    }
+
+    public void glVertexAttrib3hNV(int a0, short a1, short a2, short a3)
+    {
+        calls++;
+    }
+
+    public void glVertexAttrib3hvNV(int a0, short[] a1, int a2)
+    {
+        calls++;
+    }
+
+    public void glVertexAttrib3hvNV(int a0, ShortBuffer a1)
+    {
+        calls++;
+    }
+
+    public void glVertexAttrib3s(int a0, short a1, short a2, short a3)
+    {
+        calls++;
+    }
+
+    public void glVertexAttrib3sARB(int a0, short a1, short a2, short a3)
+    {
+        calls++;
+    }
+
+    public void glVertexAttrib3sNV(int a0, short a1, short a2, short a3)
+    {
+        calls++;
+    }
+
+    public void glVertexAttrib3sv(int a0, short[] a1, int a2)
+    {
+        calls++;
+    }
+
+    public void glVertexAttrib3sv(int a0, ShortBuffer a1)
+    {
+        calls++;
+    }
+
+    public void glVertexAttrib3svARB(int a0, short[] a1, int a2)
+    {
+        calls++;
+    }
+
+    public void glVertexAttrib3svARB(int a0, ShortBuffer a1)
+    {
+        calls++;
+    }
+
+    public void glVertexAttrib3svNV(int a0, short[] a1, int a2)
+    {
+        calls++;
+    }
+
+    public void glVertexAttrib3svNV(int a0, ShortBuffer a1)
+    {
+        calls++;
+    }
+
+    public void glVertexAttrib4Nbv(int a0, byte[] a1, int a2)
+    {
+        calls++;
+    }
+
+    public void glVertexAttrib4Nbv(int a0, ByteBuffer a1)
+    {
+        calls++;
+    }
+
+    public void glVertexAttrib4NbvARB(int a0, byte[] a1, int a2)
+    {
+        calls++;
+    }
+
+    public void glVertexAttrib4NbvARB(int a0, ByteBuffer a1)
+    {
+        calls++;
+    }
+
+    public void glVertexAttrib4Niv(int a0, int[] a1, int a2)
+    {
+        calls++;
+    }
+
+    public void glVertexAttrib4Niv(int a0, IntBuffer a1)
+    {
+        calls++;
+    }
+
+    public void glVertexAttrib4NivARB(int a0, int[] a1, int a2)
+    {
+        calls++;
+    }
+
+    public void glVertexAttrib4NivARB(int a0, IntBuffer a1)
+    {
+        calls++;
+    }
+
+    public void glVertexAttrib4Nsv(int a0, short[] a1, int a2)
+    {
+        calls++;
+    }
+
+    public void glVertexAttrib4Nsv(int a0, ShortBuffer a1)
+    {
+        calls++;
+    }
+
+    public void glVertexAttrib4NsvARB(int a0, short[] a1, int a2)
+    {
+        calls++;
+    }
+
+    public void glVertexAttrib4NsvARB(int a0, ShortBuffer a1)
+    {
+        calls++;
+    }
+
+    public void glVertexAttrib4Nub(int a0, byte a1, byte a2, byte a3, byte a4)
+    {
+        calls++;
+    }
+
+    public void glVertexAttrib4NubARB(
+        int a0, byte a1, byte a2, byte a3, byte a4)
+    {
+        calls++;
+    }
+
+    public void glVertexAttrib4Nubv(int a0, byte[] a1, int a2)
+    {
+        calls++;
+    }
+
+    public void glVertexAttrib4Nubv(int a0, ByteBuffer a1)
+    {
+        calls++;
+    }
+
+    public void glVertexAttrib4NubvARB(int a0, byte[] a1, int a2)
+    {
+        calls++;
+    }
+
+    public void glVertexAttrib4NubvARB(int a0, ByteBuffer a1)
+    {
+        calls++;
+    }
+
+    public void glVertexAttrib4Nuiv(int a0, int[] a1, int a2)
+    {
+        calls++;
+    }
+
+    public void glVertexAttrib4Nuiv(int a0, IntBuffer a1)
+    {
+        calls++;
+    }
+
+    public void glVertexAttrib4NuivARB(int a0, int[] a1, int a2)
+    {
+        calls++;
+    }
+
+    public void glVertexAttrib4NuivARB(int a0, IntBuffer a1)
+    {
+        calls++;
+    }
+
+    public void glVertexAttrib4Nusv(int a0, short[] a1, int a2)
+    {
+        calls++;
+    }
+
+    public void glVertexAttrib4Nusv(int a0, ShortBuffer a1)
+    {
+        calls++;
+    }
+
+    public void glVertexAttrib4NusvARB(int a0, short[] a1, int a2)
+    {
+        calls++;
+    }
+
+    public void glVertexAttrib4NusvARB(int a0, ShortBuffer a1)
+    {
+        calls++;
+    }
+
+    public void glVertexAttrib4bv(int a0, byte[] a1, int a2)
+    {
+        calls++;
+    }
+
+    public void glVertexAttrib4bv(int a0, ByteBuffer a1)
+    {
+        calls++;
+    }
+
+    public void glVertexAttrib4bvARB(int a0, byte[] a1, int a2)
+    {
+        calls++;
+    }
+
+    public void glVertexAttrib4bvARB(int a0, ByteBuffer a1)
+    {
+        calls++;
+    }
+
+    public void glVertexAttrib4d(
+        int a0, double a1, double a2, double a3, double a4)
+    {
+        calls++;
+    }
+
+    public void glVertexAttrib4dARB(
+        int a0, double a1, double a2, double a3, double a4)
+    {
+        calls++;
+    }
+
+    public void glVertexAttrib4dNV(
+        int a0, double a1, double a2, double a3, double a4)
+    {
+        calls++;
+    }
+
+    public void glVertexAttrib4dv(int a0, double[] a1, int a2)
+    {
+        calls++;
+    }
+
+    public void glVertexAttrib4dv(int a0, DoubleBuffer a1)
+    {
+        calls++;
+    }
+
+    public void glVertexAttrib4dvARB(int a0, double[] a1, int a2)
+    {
+        calls++;
+    }
+
+    public void glVertexAttrib4dvARB(int a0, DoubleBuffer a1)
+    {
+        calls++;
+    }
+
+    public void glVertexAttrib4dvNV(int a0, double[] a1, int a2)
+    {
+        calls++;
+    }
+
+    public void glVertexAttrib4dvNV(int a0, DoubleBuffer a1)
+    {
+        calls++;
+    }
+
+    public void glVertexAttrib4f(
+        int a0, float a1, float a2, float a3, float a4)
+    {
+        calls++;
+    }
+
+    public void glVertexAttrib4fARB(
+        int a0, float a1, float a2, float a3, float a4)
+    {
+        calls++;
+    }
+
+    public void glVertexAttrib4fNV(
+        int a0, float a1, float a2, float a3, float a4)
+    {
+        calls++;
+    }
+
+    public void glVertexAttrib4fv(int a0, float[] a1, int a2)
+    {
+        calls++;
+    }
+
+    public void glVertexAttrib4fv(int a0, FloatBuffer a1)
+    {
+        calls++;
+    }
+
+    public void glVertexAttrib4fvARB(int a0, float[] a1, int a2)
+    {
+        calls++;
+    }
+
+    public void glVertexAttrib4fvARB(int a0, FloatBuffer a1)
+    {
+        calls++;
+    }
+
+    public void glVertexAttrib4fvNV(int a0, float[] a1, int a2)
+    {
+        calls++;
+    }
+
+    public void glVertexAttrib4fvNV(int a0, FloatBuffer a1)
+    {
+        calls++;
+    }
+
+    public void glVertexAttrib4hNV(
+        int a0, short a1, short a2, short a3, short a4)
+    {
+        calls++;
+    }
+
+    public void glVertexAttrib4hvNV(int a0, short[] a1, int a2)
+    {
+        calls++;
+    }
+
+    public void glVertexAttrib4hvNV(int a0, ShortBuffer a1)
+    {
+        calls++;
+    }
+
+    public void glVertexAttrib4iv(int a0, int[] a1, int a2)
+    {
+        calls++;
+    }
+
+    public void glVertexAttrib4iv(int a0, IntBuffer a1)
+    {
+        calls++;
+    }
+
+    public void glVertexAttrib4ivARB(int a0, int[] a1, int a2)
+    {
+        calls++;
+    }
+
+    public void glVertexAttrib4ivARB(int a0, IntBuffer a1)
+    {
+        calls++;
+    }
+
+    public void glVertexAttrib4s(
+        int a0, short a1, short a2, short a3, short a4)
+    {
+        calls++;
+    }
+
+    public void glVertexAttrib4sARB(
+        int a0, short a1, short a2, short a3, short a4)
+    {
+        calls++;
+    }
+
+    public void glVertexAttrib4sNV(
+        int a0, short a1, short a2, short a3, short a4)
+    {
+        calls++;
+    }
+
+    public void glVertexAttrib4sv(int a0, short[] a1, int a2)
+    {
+        calls++;
+    }
+
+    public void glVertexAttrib4sv(int a0, ShortBuffer a1)
+    {
+        calls++;
+    }
+
+    public void glVertexAttrib4svARB(int a0, short[] a1, int a2)
+    {
+        calls++;
+    }
+
+    public void glVertexAttrib4svARB(int a0, ShortBuffer a1)
+    {
+        calls++;
+    }
+
+    public void glVertexAttrib4svNV(int a0, short[] a1, int a2)
+    {
+        calls++;
+    }
+
+    public void glVertexAttrib4svNV(int a0, ShortBuffer a1)
+    {
+        calls++;
+    }
+
+    public void glVertexAttrib4ubNV(int a0, byte a1, byte a2, byte a3, byte a4)
+    {
+        calls++;
+    }
+
+    public void glVertexAttrib4ubv(int a0, byte[] a1, int a2)
+    {
+        calls++;
+    }
+
+    public void glVertexAttrib4ubv(int a0, ByteBuffer a1)
+    {
+        calls++;
+    }
+
+    public void glVertexAttrib4ubvARB(int a0, byte[] a1, int a2)
+    {
+        calls++;
+    }
+
+    public void glVertexAttrib4ubvARB(int a0, ByteBuffer a1)
+    {
+        calls++;
+    }
+
+    public void glVertexAttrib4ubvNV(int a0, byte[] a1, int a2)
+    {
+        calls++;
+    }
+
+    public void glVertexAttrib4ubvNV(int a0, ByteBuffer a1)
+    {
+        calls++;
+    }
+
+    public void glVertexAttrib4uiv(int a0, int[] a1, int a2)
+    {
+        calls++;
+    }
+
+    public void glVertexAttrib4uiv(int a0, IntBuffer a1)
+    {
+        calls++;
+    }
+
+    public void glVertexAttrib4uivARB(int a0, int[] a1, int a2)
+    {
+        calls++;
+    }
+
+    public void glVertexAttrib4uivARB(int a0, IntBuffer a1)
+    {
+        calls++;
+    }
+
+    public void glVertexAttrib4usv(int a0, short[] a1, int a2)
+    {
+        calls++;
+    }
+
+    public void glVertexAttrib4usv(int a0, ShortBuffer a1)
+    {
+        calls++;
+    }
+
+    public void glVertexAttrib4usvARB(int a0, short[] a1, int a2)
+    {
+        calls++;
+    }
+
+    public void glVertexAttrib4usvARB(int a0, ShortBuffer a1)
+    {
+        calls++;
+    }
+
+    public void glVertexAttribArrayObjectATI(
+        int a0, int a1, int a2, boolean a3, int a4, int a5, int a6)
+    {
+        calls++;
+    }
+
+    public void glVertexAttribI1iEXT(int a0, int a1)
+    {
+        calls++;
+    }
+
+    public void glVertexAttribI1ivEXT(int a0, int[] a1, int a2)
+    {
+        calls++;
+    }
+
+    public void glVertexAttribI1ivEXT(int a0, IntBuffer a1)
+    {
+        calls++;
+    }
+
+    public void glVertexAttribI1uiEXT(int a0, int a1)
+    {
+        calls++;
+    }
+
+    public void glVertexAttribI1uivEXT(int a0, int[] a1, int a2)
+    {
+        calls++;
+    }
+
+    public void glVertexAttribI1uivEXT(int a0, IntBuffer a1)
+    {
+        calls++;
+    }
+
+    public void glVertexAttribI2iEXT(int a0, int a1, int a2)
+    {
+        calls++;
+    }
+
+    public void glVertexAttribI2ivEXT(int a0, int[] a1, int a2)
+    {
+        calls++;
+    }
+
+    public void glVertexAttribI2ivEXT(int a0, IntBuffer a1)
+    {
+        calls++;
+    }
+
+    public void glVertexAttribI2uiEXT(int a0, int a1, int a2)
+    {
+        calls++;
+    }
+
+    public void glVertexAttribI2uivEXT(int a0, int[] a1, int a2)
+    {
+        calls++;
+    }
+
+    public void glVertexAttribI2uivEXT(int a0, IntBuffer a1)
+    {
+        calls++;
+    }
+
+    public void glVertexAttribI3iEXT(int a0, int a1, int a2, int a3)
+    {
+        calls++;
+    }
+
+    public void glVertexAttribI3ivEXT(int a0, int[] a1, int a2)
+    {
+        calls++;
+    }
+
+    public void glVertexAttribI3ivEXT(int a0, IntBuffer a1)
+    {
+        calls++;
+    }
+
+    public void glVertexAttribI3uiEXT(int a0, int a1, int a2, int a3)
+    {
+        calls++;
+    }
+
+    public void glVertexAttribI3uivEXT(int a0, int[] a1, int a2)
+    {
+        calls++;
+    }
+
+    public void glVertexAttribI3uivEXT(int a0, IntBuffer a1)
+    {
+        calls++;
+    }
+
+    public void glVertexAttribI4bvEXT(int a0, byte[] a1, int a2)
+    {
+        calls++;
+    }
+
+    public void glVertexAttribI4bvEXT(int a0, ByteBuffer a1)
+    {
+        calls++;
+    }
+
+    public void glVertexAttribI4iEXT(int a0, int a1, int a2, int a3, int a4)
+    {
+        calls++;
+    }
+
+    public void glVertexAttribI4ivEXT(int a0, int[] a1, int a2)
+    {
+        calls++;
+    }
+
+    public void glVertexAttribI4ivEXT(int a0, IntBuffer a1)
+    {
+        calls++;
+    }
+
+    public void glVertexAttribI4svEXT(int a0, short[] a1, int a2)
+    {
+        calls++;
+    }
+
+    public void glVertexAttribI4svEXT(int a0, ShortBuffer a1)
+    {
+        calls++;
+    }
+
+    public void glVertexAttribI4ubvEXT(int a0, byte[] a1, int a2)
+    {
+        calls++;
+    }
+
+    public void glVertexAttribI4ubvEXT(int a0, ByteBuffer a1)
+    {
+        calls++;
+    }
+
+    public void glVertexAttribI4uiEXT(int a0, int a1, int a2, int a3, int a4)
+    {
+        calls++;
+    }
+
+    public void glVertexAttribI4uivEXT(int a0, int[] a1, int a2)
+    {
+        calls++;
+    }
+
+    public void glVertexAttribI4uivEXT(int a0, IntBuffer a1)
+    {
+        calls++;
+    }
+
+    public void glVertexAttribI4usvEXT(int a0, short[] a1, int a2)
+    {
+        calls++;
+    }
+
+    public void glVertexAttribI4usvEXT(int a0, ShortBuffer a1)
+    {
+        calls++;
+    }
+
+    public void glVertexAttribIPointerEXT(
+        int a0, int a1, int a2, int a3, Buffer a4)
+    {
+        calls++;
+    }
+
+    public void glVertexAttribPointer(
+        int a0, int a1, int a2, boolean a3, int a4, Buffer a5)
+    {
+        calls++;
+    }
+
+    public void glVertexAttribPointer(
+        int a0, int a1, int a2, boolean a3, int a4, long a5)
+    {
+        calls++;
+    }
+
+    public void glVertexAttribPointerARB(
+        int a0, int a1, int a2, boolean a3, int a4, Buffer a5)
+    {
+        calls++;
+    }
+
+    public void glVertexAttribPointerARB(
+        int a0, int a1, int a2, boolean a3, int a4, long a5)
+    {
+        calls++;
+    }
+
+    public void glVertexAttribPointerNV(
+        int a0, int a1, int a2, int a3, Buffer a4)
+    {
+        calls++;
+    }
+
+    public void glVertexAttribPointerNV(
+        int a0, int a1, int a2, int a3, long a4)
+    {
+        calls++;
+    }
+
+    public void glVertexAttribs1dvNV(int a0, int a1, double[] a2, int a3)
+    {
+        calls++;
+    }
+
+    public void glVertexAttribs1dvNV(int a0, int a1, DoubleBuffer a2)
+    {
+        calls++;
+    }
+
+    public void glVertexAttribs1fvNV(int a0, int a1, float[] a2, int a3)
+    {
+        calls++;
+    }
+
+    public void glVertexAttribs1fvNV(int a0, int a1, FloatBuffer a2)
+    {
+        calls++;
+    }
+
+    public void glVertexAttribs1hvNV(int a0, int a1, short[] a2, int a3)
+    {
+        calls++;
+    }
+
+    public void glVertexAttribs1hvNV(int a0, int a1, ShortBuffer a2)
+    {
+        calls++;
+    }
+
+    public void glVertexAttribs1svNV(int a0, int a1, short[] a2, int a3)
+    {
+        calls++;
+    }
+
+    public void glVertexAttribs1svNV(int a0, int a1, ShortBuffer a2)
+    {
+        calls++;
+    }
+
+    public void glVertexAttribs2dvNV(int a0, int a1, double[] a2, int a3)
+    {
+        calls++;
+    }
+
+    public void glVertexAttribs2dvNV(int a0, int a1, DoubleBuffer a2)
+    {
+        calls++;
+    }
+
+    public void glVertexAttribs2fvNV(int a0, int a1, float[] a2, int a3)
+    {
+        calls++;
+    }
+
+    public void glVertexAttribs2fvNV(int a0, int a1, FloatBuffer a2)
+    {
+        calls++;
+    }
+
+    public void glVertexAttribs2hvNV(int a0, int a1, short[] a2, int a3)
+    {
+        calls++;
+    }
+
+    public void glVertexAttribs2hvNV(int a0, int a1, ShortBuffer a2)
+    {
+        calls++;
+    }
+
+    public void glVertexAttribs2svNV(int a0, int a1, short[] a2, int a3)
+    {
+        calls++;
+    }
+
+    public void glVertexAttribs2svNV(int a0, int a1, ShortBuffer a2)
+    {
+        calls++;
+    }
+
+    public void glVertexAttribs3dvNV(int a0, int a1, double[] a2, int a3)
+    {
+        calls++;
+    }
+
+    public void glVertexAttribs3dvNV(int a0, int a1, DoubleBuffer a2)
+    {
+        calls++;
+    }
+
+    public void glVertexAttribs3fvNV(int a0, int a1, float[] a2, int a3)
+    {
+        calls++;
+    }
+
+    public void glVertexAttribs3fvNV(int a0, int a1, FloatBuffer a2)
+    {
+        calls++;
+    }
+
+    public void glVertexAttribs3hvNV(int a0, int a1, short[] a2, int a3)
+    {
+        calls++;
+    }
+
+    public void glVertexAttribs3hvNV(int a0, int a1, ShortBuffer a2)
+    {
+        calls++;
+    }
+
+    public void glVertexAttribs3svNV(int a0, int a1, short[] a2, int a3)
+    {
+        calls++;
+    }
+
+    public void glVertexAttribs3svNV(int a0, int a1, ShortBuffer a2)
+    {
+        calls++;
+    }
+
+    public void glVertexAttribs4dvNV(int a0, int a1, double[] a2, int a3)
+    {
+        calls++;
+    }
+
+    public void glVertexAttribs4dvNV(int a0, int a1, DoubleBuffer a2)
+    {
+        calls++;
+    }
+
+    public void glVertexAttribs4fvNV(int a0, int a1, float[] a2, int a3)
+    {
+        calls++;
+    }
+
+    public void glVertexAttribs4fvNV(int a0, int a1, FloatBuffer a2)
+    {
+        calls++;
+    }
+
+    public void glVertexAttribs4hvNV(int a0, int a1, short[] a2, int a3)
+    {
+        calls++;
+    }
+
+    public void glVertexAttribs4hvNV(int a0, int a1, ShortBuffer a2)
+    {
+        calls++;
+    }
+
+    public void glVertexAttribs4svNV(int a0, int a1, short[] a2, int a3)
+    {
+        calls++;
+    }
+
+    public void glVertexAttribs4svNV(int a0, int a1, ShortBuffer a2)
+    {
+        calls++;
+    }
+
+    public void glVertexAttribs4ubvNV(int a0, int a1, byte[] a2, int a3)
+    {
+        calls++;
+    }
+
+    public void glVertexAttribs4ubvNV(int a0, int a1, ByteBuffer a2)
+    {
+        calls++;
+    }
+
+    public void glVertexBlendARB(int a0)
+    {
+        calls++;
+    }
+
+    public void glVertexBlendEnvfATI(int a0, float a1)
+    {
+        calls++;
+    }
+
+    public void glVertexBlendEnviATI(int a0, int a1)
+    {
+        calls++;
+    }
+
+    public void glVertexPointer(int a0, int a1, int a2, Buffer a3)
+    {
+        calls++;
+    }
+
+    public void glVertexPointer(int a0, int a1, int a2, long a3)
+    {
+        calls++;
+    }
+
+    public void glVertexStream1dATI(int a0, double a1)
+    {
+        calls++;
+    }
+
+    public void glVertexStream1dvATI(int a0, double[] a1, int a2)
+    {
+        calls++;
+    }
+
+    public void glVertexStream1dvATI(int a0, DoubleBuffer a1)
+    {
+        calls++;
+    }
+
+    public void glVertexStream1fATI(int a0, float a1)
+    {
+        calls++;
+    }
+
+    public void glVertexStream1fvATI(int a0, float[] a1, int a2)
+    {
+        calls++;
+    }
+
+    public void glVertexStream1fvATI(int a0, FloatBuffer a1)
+    {
+        calls++;
+    }
+
+    public void glVertexStream1iATI(int a0, int a1)
+    {
+        calls++;
+    }
+
+    public void glVertexStream1ivATI(int a0, int[] a1, int a2)
+    {
+        calls++;
+    }
+
+    public void glVertexStream1ivATI(int a0, IntBuffer a1)
+    {
+        calls++;
+    }
+
+    public void glVertexStream1sATI(int a0, short a1)
+    {
+        calls++;
+    }
+
+    public void glVertexStream1svATI(int a0, short[] a1, int a2)
+    {
+        calls++;
+    }
+
+    public void glVertexStream1svATI(int a0, ShortBuffer a1)
+    {
+        calls++;
+    }
+
+    public void glVertexStream2dATI(int a0, double a1, double a2)
+    {
+        calls++;
+    }
+
+    public void glVertexStream2dvATI(int a0, double[] a1, int a2)
+    {
+        calls++;
+    }
+
+    public void glVertexStream2dvATI(int a0, DoubleBuffer a1)
+    {
+        calls++;
+    }
+
+    public void glVertexStream2fATI(int a0, float a1, float a2)
+    {
+        calls++;
+    }
+
+    public void glVertexStream2fvATI(int a0, float[] a1, int a2)
+    {
+        calls++;
+    }
+
+    public void glVertexStream2fvATI(int a0, FloatBuffer a1)
+    {
+        calls++;
+    }
+
+    public void glVertexStream2iATI(int a0, int a1, int a2)
+    {
+        calls++;
+    }
+
+    public void glVertexStream2ivATI(int a0, int[] a1, int a2)
+    {
+        calls++;
+    }
+
+    public void glVertexStream2ivATI(int a0, IntBuffer a1)
+    {
+        calls++;
+    }
+
+    public void glVertexStream2sATI(int a0, short a1, short a2)
+    {
+        calls++;
+    }
+
+    public void glVertexStream2svATI(int a0, short[] a1, int a2)
+    {
+        calls++;
+    }
+
+    public void glVertexStream2svATI(int a0, ShortBuffer a1)
+    {
+        calls++;
+    }
+
+    public void glVertexStream3dATI(int a0, double a1, double a2, double a3)
+    {
+        calls++;
+    }
+
+    public void glVertexStream3dvATI(int a0, double[] a1, int a2)
+    {
+        calls++;
+    }
+
+    public void glVertexStream3dvATI(int a0, DoubleBuffer a1)
+    {
+        calls++;
+    }
+
+    public void glVertexStream3fATI(int a0, float a1, float a2, float a3)
+    {
+        calls++;
+    }
+
+    public void glVertexStream3fvATI(int a0, float[] a1, int a2)
+    {
+        calls++;
+    }
+
+    public void glVertexStream3fvATI(int a0, FloatBuffer a1)
+    {
+        calls++;
+    }
+
+    public void glVertexStream3iATI(int a0, int a1, int a2, int a3)
+    {
+        calls++;
+    }
+
+    public void glVertexStream3ivATI(int a0, int[] a1, int a2)
+    {
+        calls++;
+    }
+
+    public void glVertexStream3ivATI(int a0, IntBuffer a1)
+    {
+        calls++;
+    }
+
+    public void glVertexStream3sATI(int a0, short a1, short a2, short a3)
+    {
+        calls++;
+    }
+
+    public void glVertexStream3svATI(int a0, short[] a1, int a2)
+    {
+        calls++;
+    }
+
+    public void glVertexStream3svATI(int a0, ShortBuffer a1)
+    {
+        calls++;
+    }
+
+    public void glVertexStream4dATI(
+        int a0, double a1, double a2, double a3, double a4)
+    {
+        calls++;
+    }
+
+    public void glVertexStream4dvATI(int a0, double[] a1, int a2)
+    {
+        calls++;
+    }
+
+    public void glVertexStream4dvATI(int a0, DoubleBuffer a1)
+    {
+        calls++;
+    }
+
+    public void glVertexStream4fATI(
+        int a0, float a1, float a2, float a3, float a4)
+    {
+        calls++;
+    }
+
+    public void glVertexStream4fvATI(int a0, float[] a1, int a2)
+    {
+        calls++;
+    }
+
+    public void glVertexStream4fvATI(int a0, FloatBuffer a1)
+    {
+        calls++;
+    }
+
+    public void glVertexStream4iATI(int a0, int a1, int a2, int a3, int a4)
+    {
+        calls++;
+    }
+
+    public void glVertexStream4ivATI(int a0, int[] a1, int a2)
+    {
+        calls++;
+    }
+
+    public void glVertexStream4ivATI(int a0, IntBuffer a1)
+    {
+        calls++;
+    }
+
+    public void glVertexStream4sATI(
+        int a0, short a1, short a2, short a3, short a4)
+    {
+        calls++;
+    }
+
+    public void glVertexStream4svATI(int a0, short[] a1, int a2)
+    {
+        calls++;
+    }
+
+    public void glVertexStream4svATI(int a0, ShortBuffer a1)
+    {
+        calls++;
+    }
+
+    public void glVertexWeightPointerEXT(int a0, int a1, int a2, Buffer a3)
+    {
+        calls++;
+    }
+
+    public void glVertexWeightPointerEXT(int a0, int a1, int a2, long a3)
+    {
+        calls++;
+    }
+
+    public void glVertexWeightfEXT(float a0)
+    {
+        calls++;
+    }
+
+    public void glVertexWeightfvEXT(float[] a0, int a1)
+    {
+        calls++;
+    }
+
+    public void glVertexWeightfvEXT(FloatBuffer a0)
+    {
+        calls++;
+    }
+
+    public void glVertexWeighthNV(short a0)
+    {
+        calls++;
+    }
+
+    public void glVertexWeighthvNV(short[] a0, int a1)
+    {
+        calls++;
+    }
+
+    public void glVertexWeighthvNV(ShortBuffer a0)
+    {
+        calls++;
+    }
+
+    public void glViewport(int a0, int a1, int a2, int a3)
+    {
+        calls++;
+    }
+
+    public void glWeightPointerARB(int a0, int a1, int a2, Buffer a3)
+    {
+        calls++;
+    }
+
+    public void glWeightPointerARB(int a0, int a1, int a2, long a3)
+    {
+        calls++;
+    }
+
+    public void glWeightbvARB(int a0, byte[] a1, int a2)
+    {
+        calls++;
+    }
+
+    public void glWeightbvARB(int a0, ByteBuffer a1)
+    {
+        calls++;
+    }
+
+    public void glWeightdvARB(int a0, double[] a1, int a2)
+    {
+        calls++;
+    }
+
+    public void glWeightdvARB(int a0, DoubleBuffer a1)
+    {
+        calls++;
+    }
+
+    public void glWeightfvARB(int a0, float[] a1, int a2)
+    {
+        calls++;
+    }
+
+    public void glWeightfvARB(int a0, FloatBuffer a1)
+    {
+        calls++;
+    }
+
+    public void glWeightivARB(int a0, int[] a1, int a2)
+    {
+        calls++;
+    }
+
+    public void glWeightivARB(int a0, IntBuffer a1)
+    {
+        calls++;
+    }
+
+    public void glWeightsvARB(int a0, short[] a1, int a2)
+    {
+        calls++;
+    }
+
+    public void glWeightsvARB(int a0, ShortBuffer a1)
+    {
+        calls++;
+    }
+
+    public void glWeightubvARB(int a0, byte[] a1, int a2)
+    {
+        calls++;
+    }
+
+    public void glWeightubvARB(int a0, ByteBuffer a1)
+    {
+        calls++;
+    }
+
+    public void glWeightuivARB(int a0, int[] a1, int a2)
+    {
+        calls++;
+    }
+
+    public void glWeightuivARB(int a0, IntBuffer a1)
+    {
+        calls++;
+    }
+
+    public void glWeightusvARB(int a0, short[] a1, int a2)
+    {
+        calls++;
+    }
+
+    public void glWeightusvARB(int a0, ShortBuffer a1)
+    {
+        calls++;
+    }
+
+    public void glWindowPos2d(double a0, double a1)
+    {
+        calls++;
+    }
+
+    public void glWindowPos2dARB(double a0, double a1)
+    {
+        calls++;
+    }
+
+    public void glWindowPos2dMESA(double a0, double a1)
+    {
+        calls++;
+    }
+
+    public void glWindowPos2dv(double[] a0, int a1)
+    {
+        calls++;
+    }
+
+    public void glWindowPos2dv(DoubleBuffer a0)
+    {
+        calls++;
+    }
+
+    public void glWindowPos2dvARB(double[] a0, int a1)
+    {
+        calls++;
+    }
+
+    public void glWindowPos2dvARB(DoubleBuffer a0)
+    {
+        calls++;
+    }
+
+    public void glWindowPos2dvMESA(double[] a0, int a1)
+    {
+        calls++;
+    }
+
+    public void glWindowPos2dvMESA(DoubleBuffer a0)
+    {
+        calls++;
+    }
+
+    public void glWindowPos2f(float a0, float a1)
+    {
+        calls++;
+    }
+
+    public void glWindowPos2fARB(float a0, float a1)
+    {
+        calls++;
+    }
+
+    public void glWindowPos2fMESA(float a0, float a1)
+    {
+        calls++;
+    }
+
+    public void glWindowPos2fv(float[] a0, int a1)
+    {
+        calls++;
+    }
+
+    public void glWindowPos2fv(FloatBuffer a0)
+    {
+        calls++;
+    }
+
+    public void glWindowPos2fvARB(float[] a0, int a1)
+    {
+        calls++;
+    }
+
+    public void glWindowPos2fvARB(FloatBuffer a0)
+    {
+        calls++;
+    }
+
+    public void glWindowPos2fvMESA(float[] a0, int a1)
+    {
+        calls++;
+    }
+
+    public void glWindowPos2fvMESA(FloatBuffer a0)
+    {
+        calls++;
+    }
+
+    public void glWindowPos2i(int a0, int a1)
+    {
+        calls++;
+    }
+
+    public void glWindowPos2iARB(int a0, int a1)
+    {
+        calls++;
+    }
+
+    public void glWindowPos2iMESA(int a0, int a1)
+    {
+        calls++;
+    }
+
+    public void glWindowPos2iv(int[] a0, int a1)
+    {
+        calls++;
+    }
+
+    public void glWindowPos2iv(IntBuffer a0)
+    {
+        calls++;
+    }
+
+    public void glWindowPos2ivARB(int[] a0, int a1)
+    {
+        calls++;
+    }
+
+    public void glWindowPos2ivARB(IntBuffer a0)
+    {
+        calls++;
+    }
+
+    public void glWindowPos2ivMESA(int[] a0, int a1)
+    {
+        calls++;
+    }
+
+    public void glWindowPos2ivMESA(IntBuffer a0)
+    {
+        calls++;
+    }
+
+    public void glWindowPos2s(short a0, short a1)
+    {
+        calls++;
+    }
+
+    public void glWindowPos2sARB(short a0, short a1)
+    {
+        calls++;
+    }
+
+    public void glWindowPos2sMESA(short a0, short a1)
+    {
+        calls++;
+    }
+
+    public void glWindowPos2sv(short[] a0, int a1)
+    {
+        calls++;
+    }
+
+    public void glWindowPos2sv(ShortBuffer a0)
+    {
+        calls++;
+    }
+
+    public void glWindowPos2svARB(short[] a0, int a1)
+    {
+        calls++;
+    }
+
+    public void glWindowPos2svARB(ShortBuffer a0)
+    {
+        calls++;
+    }
+
+    public void glWindowPos2svMESA(short[] a0, int a1)
+    {
+        calls++;
+    }
+
+    public void glWindowPos2svMESA(ShortBuffer a0)
+    {
+        calls++;
+    }
+
+    public void glWindowPos3d(double a0, double a1, double a2)
+    {
+        calls++;
+    }
+
+    public void glWindowPos3dARB(double a0, double a1, double a2)
+    {
+        calls++;
+    }
+
+    public void glWindowPos3dMESA(double a0, double a1, double a2)
+    {
+        calls++;
+    }
+
+    public void glWindowPos3dv(double[] a0, int a1)
+    {
+        calls++;
+    }
+
+    public void glWindowPos3dv(DoubleBuffer a0)
+    {
+        calls++;
+    }
+
+    public void glWindowPos3dvARB(double[] a0, int a1)
+    {
+        calls++;
+    }
+
+    public void glWindowPos3dvARB(DoubleBuffer a0)
+    {
+        calls++;
+    }
+
+    public void glWindowPos3dvMESA(double[] a0, int a1)
+    {
+        calls++;
+    }
+
+    public void glWindowPos3dvMESA(DoubleBuffer a0)
+    {
+        calls++;
+    }
+
+    public void glWindowPos3f(float a0, float a1, float a2)
+    {
+        calls++;
+    }
+
+    public void glWindowPos3fARB(float a0, float a1, float a2)
+    {
+        calls++;
+    }
+
+    public void glWindowPos3fMESA(float a0, float a1, float a2)
+    {
+        calls++;
+    }
+
+    public void glWindowPos3fv(float[] a0, int a1)
+    {
+        calls++;
+    }
+
+    public void glWindowPos3fv(FloatBuffer a0)
+    {
+        calls++;
+    }
+
+    public void glWindowPos3fvARB(float[] a0, int a1)
+    {
+        calls++;
+    }
+
+    public void glWindowPos3fvARB(FloatBuffer a0)
+    {
+        calls++;
+    }
+
+    public void glWindowPos3fvMESA(float[] a0, int a1)
+    {
+        calls++;
+    }
+
+    public void glWindowPos3fvMESA(FloatBuffer a0)
+    {
+        calls++;
+    }
+
+    public void glWindowPos3i(int a0, int a1, int a2)
+    {
+        calls++;
+    }
+
+    public void glWindowPos3iARB(int a0, int a1, int a2)
+    {
+        calls++;
+    }
+
+    public void glWindowPos3iMESA(int a0, int a1, int a2)
+    {
+        calls++;
+    }
+
+    public void glWindowPos3iv(int[] a0, int a1)
+    {
+        calls++;
+    }
+
+    public void glWindowPos3iv(IntBuffer a0)
+    {
+        calls++;
+    }
+
+    public void glWindowPos3ivARB(int[] a0, int a1)
+    {
+        calls++;
+    }
+
+    public void glWindowPos3ivARB(IntBuffer a0)
+    {
+        calls++;
+    }
+
+    public void glWindowPos3ivMESA(int[] a0, int a1)
+    {
+        calls++;
+    }
+
+    public void glWindowPos3ivMESA(IntBuffer a0)
+    {
+        calls++;
+    }
+
+    public void glWindowPos3s(short a0, short a1, short a2)
+    {
+        calls++;
+    }
+
+    public void glWindowPos3sARB(short a0, short a1, short a2)
+    {
+        calls++;
+    }
+
+    public void glWindowPos3sMESA(short a0, short a1, short a2)
+    {
+        calls++;
+    }
+
+    public void glWindowPos3sv(short[] a0, int a1)
+    {
+        calls++;
+    }
+
+    public void glWindowPos3sv(ShortBuffer a0)
+    {
+        calls++;
+    }
+
+    public void glWindowPos3svARB(short[] a0, int a1)
+    {
+        calls++;
+    }
+
+    public void glWindowPos3svARB(ShortBuffer a0)
+    {
+        calls++;
+    }
+
+    public void glWindowPos3svMESA(short[] a0, int a1)
+    {
+        calls++;
+    }
+
+    public void glWindowPos3svMESA(ShortBuffer a0)
+    {
+        calls++;
+    }
+
+    public void glWindowPos4dMESA(double a0, double a1, double a2, double a3)
+    {
+        calls++;
+    }
+
+    public void glWindowPos4dvMESA(double[] a0, int a1)
+    {
+        calls++;
+    }
+
+    public void glWindowPos4dvMESA(DoubleBuffer a0)
+    {
+        calls++;
+    }
+
+    public void glWindowPos4fMESA(float a0, float a1, float a2, float a3)
+    {
+        calls++;
+    }
+
+    public void glWindowPos4fvMESA(float[] a0, int a1)
+    {
+        calls++;
+    }
+
+    public void glWindowPos4fvMESA(FloatBuffer a0)
+    {
+        calls++;
+    }
+
+    public void glWindowPos4iMESA(int a0, int a1, int a2, int a3)
+    {
+        calls++;
+    }
+
+    public void glWindowPos4ivMESA(int[] a0, int a1)
+    {
+        calls++;
+    }
+
+    public void glWindowPos4ivMESA(IntBuffer a0)
+    {
+        calls++;
+    }
+
+    public void glWindowPos4sMESA(short a0, short a1, short a2, short a3)
+    {
+        calls++;
+    }
+
+    public void glWindowPos4svMESA(short[] a0, int a1)
+    {
+        calls++;
+    }
+
+    public void glWindowPos4svMESA(ShortBuffer a0)
+    {
+        calls++;
+    }
+
+    public void glWriteMaskEXT(int a0, int a1, int a2, int a3, int a4, int a5)
+    {
+        calls++;
+    }
+
+    public boolean isExtensionAvailable(String a0)
+    {
+        calls++;
+        return false;
+    }
+
+    public boolean isFunctionAvailable(String a0)
+    {
+        calls++;
+        return false;
+    }
+
+    public void setSwapInterval(int a0)
+    {
+        calls++;
+    }
+}
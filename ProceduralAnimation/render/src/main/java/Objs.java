@@ -1,5 +1,6 @@
 /* class Objs
- * Methods to draw primitive objects (sphere, cylinder)
+ * Methods to draw primitive objects (sphere, cylinder).  Display lists
+ * belong to a GL context, so each renderer keeps its own Objs.
  *
  * Doug DeCarlo
  */
@@ -10,21 +11,23 @@ import javax.vecmath.*;
 
 class Objs
 {
-    static int res;
+    int res;
 
     // Display list stuff
-    private static boolean useDL = false;
-    private static int cylDisplayList = -1;
-    private static int sphDisplayList = -1;
+    private boolean useDL = false;
+    private int cylDisplayList = -1;
+    private int sphDisplayList = -1;
+    private int lowSphDisplayList = -1;
 
-    public static void initialize(GL gl, int res_, boolean useDL_)
+    public Objs(GL gl, int res_, boolean useDL_)
     {
         res = res_;
 
         if (useDL_) {
             // Create display list ids
-            sphDisplayList = gl.glGenLists(2);
+            sphDisplayList = gl.glGenLists(3);
             cylDisplayList = sphDisplayList + 1;
+            lowSphDisplayList = sphDisplayList + 2;
 
             // Define display lists
             gl.glNewList(sphDisplayList, GL.GL_COMPILE);
@@ -35,13 +38,17 @@ class Objs
             cylinder(gl);
             gl.glEndList();
 
+            gl.glNewList(lowSphDisplayList, GL.GL_COMPILE);
+            sphereLow(gl);
+            gl.glEndList();
+
             useDL = true;
         }
     }
 
     // Draw a sphere whose axis is along Z-axis with diameter 1 and
     // poles at z=0.5 and z=-0.5
-    public static void sphere(GL gl)
+    public void sphere(GL gl)
     {
         // Use display list if defined
         if (useDL) {
@@ -49,7 +56,25 @@ class Objs
             return;
         }
 
-        int ures = res+1, vres = res-1;
+        sphere(gl, res);
+    }
+
+    // Draw the same sphere with less detail (for distant objects)
+    public void sphereLow(GL gl)
+    {
+        // Use display list if defined
+        if (useDL) {
+            gl.glCallList(lowSphDisplayList);
+            return;
+        }
+
+        sphere(gl, Math.max(res/3, 4));
+    }
+
+    // Draw the sphere at resolution r
+    private void sphere(GL gl, int r)
+    {
+        int ures = r+1, vres = r-1;
 
         for (int vi = 0; vi < vres-1; vi++) {
             double v = Math.PI*vi/(vres-1) - Math.PI/2;
@@ -77,7 +102,7 @@ class Objs
 
     // Draw a cylinder along Z-axis ranging from z=0 to z=1 that
     // has a diameter of 1
-    public static void cylinder(GL gl)
+    public void cylinder(GL gl)
     {
         // Use display list if defined
         if (useDL) {
@@ -0,0 +1,285 @@
+/* class RenderCoordinator
+ * Renders a range of frames with several RenderWorker processes, and
+ * assembles their frames in order -- written as PPM files with the same
+ * naming as -dump, or as one stream of PPM images on standard output
+ * (to pipe into an encoder).
+ *
+ * The range is dealt out to the workers in chunks of consecutive frames
+ * (see RenderWorker), so the workers progress through the animation
+ * together and only a few chunks of frames are ever waiting to be
+ * written.  Each worker's output is read by its own thread into a small
+ * queue; when a queue is full the worker blocks writing to its pipe.
+ *
+ * Workers are started with the same Java and class path as the
+ * coordinator, optionally behind a launcher command (such as
+ * "ssh host"), as they only talk to the coordinator through their
+ * standard input and output.  With -jfr, each worker makes a flight
+ * recording of its own (for "run.jfr": run-0.jfr, run-1.jfr, ...).
+ */
+
+import java.io.*;
+import java.util.*;
+import java.util.concurrent.*;
+
+public class RenderCoordinator
+{
+    // A frame received from a worker (frame < 0 for end of stream, or
+    // a failed worker)
+    static class Frame
+    {
+        int frame, width, height;
+        byte[] pixels;
+
+        Frame(int f, int w, int h, byte[] p)
+        {
+            frame = f;
+            width = w;
+            height = h;
+            pixels = p;
+        }
+    }
+
+    // Reads the frames streamed by one worker into a queue
+    static class Reader extends Thread
+    {
+        Process process;
+        BlockingQueue<Frame> queue;
+
+        Reader(Process p, int capacity)
+        {
+            process = p;
+            queue = new ArrayBlockingQueue<Frame>(capacity);
+            setDaemon(true);
+        }
+
+        public void run()
+        {
+            try {
+                DataInputStream in = new DataInputStream(
+                    new BufferedInputStream(process.getInputStream(),
+                                            1 << 16));
+                if (in.readInt() != RenderWorker.magic)
+                  throw new IOException("Bad worker stream");
+
+                while (true) {
+                    int f = in.readInt();
+                    if (f == RenderWorker.endOfStream)
+                      break;
+
+                    int w = in.readInt(), h = in.readInt();
+                    byte[] pixels = new byte[w*h*3];
+                    in.readFully(pixels);
+                    queue.put(new Frame(f, w, h, pixels));
+                }
+            } catch (Exception e) {
+                System.err.println("Worker stream: " + e);
+            }
+
+            try {
+                queue.put(new Frame(-1, 0, 0, null));
+            } catch (InterruptedException e) {
+            }
+        }
+    }
+
+    // ---------------------------------------------------------------
+
+    // Name of worker w's copy of file (numbered before the extension,
+    // so the workers don't write over each other)
+    static String workerFile(String file, int w)
+    {
+        int dot = file.lastIndexOf('.');
+        if (dot <= file.lastIndexOf(File.separatorChar))
+          return file + "-" + w;
+        return file.substring(0, dot) + "-" + w + file.substring(dot);
+    }
+
+    public static void main(String args[])
+    {
+        int workers = 2, start = 0, frames = 300, chunk = 30;
+        int threads = -1;
+        String dumpPrefix = null;
+        boolean stream = false;
+        String launcher = null;
+
+        // Options passed through to the workers unchanged (besides
+        // those of the scene)
+        List<String> workerArgs = new ArrayList<String>();
+        SceneOptions options = new SceneOptions();
+        long seed = -1;
+        int metricsPort = -1;
+        String jfrFile = null;
+
+        // Parse command-line arguments
+        try {
+            for (int i = 0; i < args.length; i++) {
+                int used = options.parse(args, i);
+                if (used > 0) {
+                    i += used - 1;
+                } else if (args[i].equals("-workers")) {
+                    workers = Integer.parseInt(args[++i]);
+                } else if (args[i].equals("-start")) {
+                    start = Integer.parseInt(args[++i]);
+                } else if (args[i].equals("-frames")) {
+                    frames = Integer.parseInt(args[++i]);
+                } else if (args[i].equals("-chunk")) {
+                    chunk = Integer.parseInt(args[++i]);
+                } else if (args[i].equals("-threads")) {
+                    threads = Integer.parseInt(args[++i]);
+                } else if (args[i].equals("-seed")) {
+                    seed = Long.parseLong(args[++i]);
+                } else if (args[i].equals("-dump")) {
+                    dumpPrefix = args[++i];
+                } else if (args[i].equals("-stream")) {
+                    stream = true;
+                } else if (args[i].equals("-launcher")) {
+                    launcher = args[++i];
+                } else if (args[i].equals("-metrics")) {
+                    metricsPort = Integer.parseInt(args[++i]);
+                } else if (args[i].equals("-jfr")) {
+                    jfrFile = args[++i];
+                } else if (args[i].equals("-speed") ||
+                           args[i].equals("-size") ||
+                           args[i].equals("-checkpoints") ||
+                           args[i].equals("-every") ||
+                           args[i].equals("-playback")) {
+                    workerArgs.add(args[i]);
+                    workerArgs.add(args[++i]);
+                } else {
+                    System.err.println("Usage: java RenderCoordinator" +
+                                       " [-workers #] [-start frame]" +
+                                       " [-frames #] [-chunk #]" +
+                                       " [-threads #/worker] [-seed #]" +
+                                       " [-speed #] [-size WxH]" +
+                                       " [-checkpoints dir] [-every #]" +
+                                       " [-playback log]" +
+                                       SceneOptions.usage +
+                                       " [-dump prefix | -stream]" +
+                                       " [-launcher command]" +
+                                       " [-metrics port] [-jfr file]");
+                    throw new Exception("Illegal argument: " + args[i]);
+                }
+            }
+            if (dumpPrefix == null && !stream)
+              throw new Exception("Need -dump or -stream");
+        } catch (Exception e) {
+            System.err.println("Error: " + e.getMessage());
+            System.exit(1);
+        }
+
+        // All workers must simulate the same scene
+        if (seed == -1) {
+            seed = System.currentTimeMillis() % 10000;
+            System.err.println("Seed value: " + seed);
+        }
+        if (threads < 0) {
+            threads = Math.max(1, Runtime.getRuntime().availableProcessors() /
+                               workers);
+        }
+
+        // Serve metrics while rendering
+        MetricsServer metrics = null;
+        if (metricsPort >= 0) {
+            try {
+                metrics = new MetricsServer(metricsPort);
+                metrics.setSeed(seed);
+            } catch (IOException e) {
+                System.err.println("Error starting metrics server: " + e);
+                System.exit(1);
+            }
+        }
+
+        // Start workers
+        Reader[] readers = new Reader[workers];
+        try {
+            String java = System.getProperty("java.home") + File.separator +
+                "bin" + File.separator + "java";
+
+            for (int w = 0; w < workers; w++) {
+                List<String> cmd = new ArrayList<String>();
+                if (launcher != null)
+                  cmd.addAll(Arrays.asList(launcher.trim().split("\\s+")));
+                cmd.addAll(Arrays.asList(
+                    java, "-cp", System.getProperty("java.class.path"),
+                    "RenderWorker",
+                    "-seed", "" + seed, "-start", "" + start,
+                    "-frames", "" + frames, "-chunk", "" + chunk,
+                    "-worker", "" + w, "-workers", "" + workers,
+                    "-threads", "" + threads));
+                cmd.addAll(workerArgs);
+                cmd.addAll(options.args);
+                if (jfrFile != null)
+                  cmd.addAll(Arrays.asList("-jfr", workerFile(jfrFile, w)));
+
+                ProcessBuilder pb = new ProcessBuilder(cmd);
+                pb.redirectError(ProcessBuilder.Redirect.INHERIT);
+                Process p = pb.start();
+                p.getOutputStream().close();
+
+                readers[w] = new Reader(p, chunk);
+                readers[w].start();
+            }
+        } catch (IOException e) {
+            System.err.println("Error starting workers: " + e);
+            System.exit(1);
+        }
+
+        // Write frames in order, each taken from the worker rendering it
+        boolean failed = false;
+        try {
+            OutputStream out = stream ?
+                new BufferedOutputStream(new FileOutputStream(FileDescriptor.out),
+                                         1 << 16) : null;
+
+            for (int f = start; f < start + frames; f++) {
+                int w = ((f - start) / chunk) % workers;
+                Frame frame = readers[w].queue.take();
+
+                if (frame.frame != f) {
+                    System.err.println("Worker " + w + " failed before frame " +
+                                       f);
+                    failed = true;
+                    break;
+                }
+
+                if (stream) {
+                    FrameDump.writePPM(out, frame.pixels, frame.width,
+                                       frame.height);
+                } else {
+                    FrameDump.writePPM(FrameDump.frameFilename(dumpPrefix, f),
+                                       frame.pixels, frame.width,
+                                       frame.height);
+                }
+
+                if (metrics != null) {
+                    int queued = 0;
+                    for (int r = 0; r < workers; r++)
+                      queued += readers[r].queue.size();
+                    metrics.frameWritten(FrameDump.sizePPM(frame.width,
+                                                           frame.height),
+                                         queued);
+                }
+            }
+
+            if (out != null)
+              out.flush();
+        } catch (Exception e) {
+            System.err.println("Error: " + e);
+            failed = true;
+        }
+
+        // Wait for workers (stopping them if something went wrong)
+        for (int w = 0; w < workers; w++) {
+            try {
+                if (failed)
+                  readers[w].process.destroy();
+                if (readers[w].process.waitFor() != 0)
+                  failed = true;
+            } catch (InterruptedException e) {
+                failed = true;
+            }
+        }
+
+        System.exit(failed ? 1 : 0);
+    }
+}
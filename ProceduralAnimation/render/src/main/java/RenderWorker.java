@@ -0,0 +1,134 @@
+/* class RenderWorker
+ * Renders part of a frame range for RenderCoordinator, and streams the
+ * frames back over its standard output.  The range is split into chunks
+ * of consecutive frames which are dealt out to the workers in turn, so
+ * worker w of N renders chunks w, w+N, w+2N, ...  Before each chunk the
+ * worker brings its simulation to the chunk's first frame -- from the
+ * nearest checkpoint when a checkpoint directory is given, otherwise by
+ * replaying the frames before it (without drawing them).
+ *
+ * Stream format (big-endian): magic (int), then for each frame: frame
+ * number, width, height (ints) and the RGB pixels (bottom row first);
+ * a frame number of -1 ends the stream.  Messages go to standard error.
+ */
+
+import java.io.*;
+
+import jdk.jfr.Recording;
+
+public class RenderWorker
+{
+    // Stream identification, and end of stream marker
+    static final int magic = 0x52574b31;
+    static final int endOfStream = -1;
+
+    public static void main(String args[])
+    {
+        long seed = 1;
+        double speed = 1;
+        int width = 320, height = 240;
+        int start = 0, frames = 1, chunk = 30;
+        int worker = 0, workers = 1;
+        int threads = Runtime.getRuntime().availableProcessors();
+        int every = 1000;
+        String checkpointDir = null, playbackFile = null;
+        SceneOptions options = new SceneOptions();
+        String jfrFile = null;
+
+        // Only frames go to standard output
+        DataOutputStream out = new DataOutputStream(
+            new BufferedOutputStream(new FileOutputStream(FileDescriptor.out),
+                                     1 << 16));
+        System.setOut(System.err);
+
+        // Parse command-line arguments
+        try {
+            for (int i = 0; i < args.length; i++) {
+                int used = options.parse(args, i);
+                if (used > 0) {
+                    i += used - 1;
+                } else if (args[i].equals("-seed")) {
+                    seed = Long.parseLong(args[++i]);
+                } else if (args[i].equals("-speed")) {
+                    speed = Double.parseDouble(args[++i]);
+                } else if (args[i].equals("-size")) {
+                    String[] wh = args[++i].split("x");
+                    width = Integer.parseInt(wh[0]);
+                    height = Integer.parseInt(wh[1]);
+                } else if (args[i].equals("-start")) {
+                    start = Integer.parseInt(args[++i]);
+                } else if (args[i].equals("-frames")) {
+                    frames = Integer.parseInt(args[++i]);
+                } else if (args[i].equals("-chunk")) {
+                    chunk = Integer.parseInt(args[++i]);
+                } else if (args[i].equals("-worker")) {
+                    worker = Integer.parseInt(args[++i]);
+                } else if (args[i].equals("-workers")) {
+                    workers = Integer.parseInt(args[++i]);
+                } else if (args[i].equals("-threads")) {
+                    threads = Integer.parseInt(args[++i]);
+                } else if (args[i].equals("-checkpoints")) {
+                    checkpointDir = args[++i];
+                } else if (args[i].equals("-every")) {
+                    every = Integer.parseInt(args[++i]);
+                } else if (args[i].equals("-playback")) {
+                    playbackFile = args[++i];
+                } else if (args[i].equals("-jfr")) {
+                    jfrFile = args[++i];
+                } else {
+                    throw new Exception("Illegal argument: " + args[i]);
+                }
+            }
+        } catch (Exception e) {
+            System.err.println("Error: " + e.getMessage());
+            System.exit(1);
+        }
+
+        try {
+            Recording recording = null;
+            if (jfrFile != null)
+              recording = FlightRecording.start(jfrFile);
+
+            Scene scene = new Scene(seed, false, speed, null);
+            scene.resetClock();
+            options.configure(scene, threads);
+            if (playbackFile != null)
+              scene.playback = new TrajectoryLog(playbackFile);
+
+            HeadlessRender r = new HeadlessRender(scene, width, height,
+                                                  threads);
+            Checkpoints checkpoints = new Checkpoints(every, checkpointDir);
+
+            out.writeInt(magic);
+
+            for (int c = start + worker * chunk; c < start + frames;
+                 c += workers * chunk) {
+                checkpoints.seek(scene, c);
+
+                int end = Math.min(c + chunk, start + frames);
+                for (int f = c; f < end; f++) {
+                    byte[] pixels = r.renderFrame();
+
+                    out.writeInt(f);
+                    out.writeInt(width);
+                    out.writeInt(height);
+                    out.write(pixels);
+                    out.flush();
+
+                    scene.incrementFrameNumber();
+                    checkpoints.frameDone(scene);
+                }
+            }
+
+            out.writeInt(endOfStream);
+            out.flush();
+            r.dispose();
+            FlightRecording.close(recording);
+        } catch (Exception e) {
+            e.printStackTrace();
+            System.exit(1);
+        }
+
+        System.exit(0);
+    }
+}
@@ -0,0 +1,800 @@
+/* class SceneRenderer
+ * Methods to display the scene (rocks, trees and critters) with OpenGL.
+ * This is kept apart from Scene and the scene elements, so that the
+ * simulation can be loaded and run without JOGL.
+ *
+ * Doug DeCarlo
+ */
+
+import java.util.*;
+
+import javax.media.opengl.GL;
+import javax.vecmath.*;
+
+import com.sun.opengl.util.GLUT;
+
+public class SceneRenderer
+{
+	// Scene being displayed
+	Scene scene;
+
+	// GL call counts shown with the time (null if not instrumenting)
+	GLStats glStats = null;
+
+	// Primitive objects, made for the GL being drawn with
+	Objs objs = null;
+
+	// Light position
+	static final float lt_posit[] = { 10, 5, 30, 0 };
+	// Ground plane (for clipping)
+	static final double ground[]  = { 0.0, 0.0, 1.0, 0.0 };
+	// Matrix projecting onto the ground plane from the light (for shadows)
+	static final double shadowMatrix[] = computeShadowMatrix(ground, lt_posit);
+
+	// Materials and light colors
+	static final float white[]  = {   1.0f,   1.0f,   1.0f, 1.0f };
+	static final float black[]  = {   0.0f,   0.0f,   0.0f, 1.0f };
+	static final float dim[]    = {   0.1f,   0.1f,   0.1f, 1.0f };
+
+	// Scratch space reused each frame, so drawing doesn't allocate
+	private StringBuilder message = new StringBuilder(128);
+	private Point3d drawPoint = new Point3d();
+	private Vector3d drawNormal = new Vector3d();
+	private double[] frustum = new double[6];
+	private Matrix4d view = new Matrix4d();
+	private double[] viewArray = new double[16];
+	private ArrayList<Terrain.Tile> terrainTiles = new ArrayList<Terrain.Tile>();
+
+	// Terrain vertices drawn in the last frame
+	int terrainVertices = 0;
+
+	// Level of detail tiers for drawing, classified every frame from
+	// the positions being drawn (the scene's own tiers are for the
+	// simulation, from before it stepped, and only change while it's
+	// animating)
+	private LodScheduler drawLod = new LodScheduler();
+
+	// Window size, and version of the parameters the projection was
+	// computed with
+	private int viewWidth = 0, viewHeight = 0;
+	private long projectedVersion = -1;
+
+	//-----------------------------------------------------------------------
+
+	public SceneRenderer(Scene sc)
+	{
+		scene = sc;
+	}
+
+	// OpenGL state for drawing the scene (called once a GL is available)
+	public void glInit(GL gl)
+	{
+		// Set background color to sky blue
+		gl.glClearColor(0.58f, 0.74f, 0.98f, 0.0f);
+
+		// Turn on Z buffer
+		gl.glEnable(GL.GL_DEPTH_TEST);
+
+		// Turn on Gouraud shaded polygons
+		gl.glShadeModel(GL.GL_SMOOTH);
+
+		// Turn on automatic normalization for normal vectors
+		gl.glEnable(GL.GL_NORMALIZE);
+	}
+
+	// Viewport and projection for a window of the given size
+	public void projection(GL gl, int width, int height)
+	{
+		viewWidth = width;
+		viewHeight = height;
+		projectedVersion = scene.snapshot().version;
+
+		gl.glViewport(0, 0, width, height);
+
+		// Frustum for the current view (the level of detail
+		// scheduler needs the window size too)
+		scene.frustum(width, height, frustum);
+		scene.lod.setViewport(width, height);
+		drawLod.setViewport(width, height);
+
+		gl.glMatrixMode(GL.GL_PROJECTION);
+		gl.glLoadIdentity();
+		gl.glFrustum(frustum[0], frustum[1], frustum[2], frustum[3],
+				frustum[4], frustum[5]);
+		gl.glMatrixMode(GL.GL_MODELVIEW);
+	}
+
+	// Draw scene
+	public void draw(GL gl, GLUT glut)
+	{
+		FrameDrawEvent event = null;
+		if (FrameDrawEvent.type.isEnabled()) {
+			event = new FrameDrawEvent();
+			event.begin();
+		}
+
+		// Take over a world rebuilt in the background, if ready
+		scene.swapWorld();
+
+		// Parameter values for this frame (the projection depends on
+		// them too, but only needs recomputing if they've changed)
+		ParamSnapshot params = scene.beginFrame();
+		if (params.version != projectedVersion && viewWidth > 0) {
+			projection(gl, viewWidth, viewHeight);
+		}
+
+		// Do computation if animating
+		if (params.drawAnimation) {
+			scene.process();
+		}
+
+		// Level of detail for where the critters are now
+		if (params.useLOD) {
+			drawLod.classify(scene);
+		}
+
+		// ------------------------------------------------------------
+
+		StageStats stats = scene.stageStats;
+		long start = System.nanoTime();
+
+		Vector<Critter> critters = scene.critters;
+		Vector<Obstacle> obstacles = scene.obstacles;
+
+		// Initialize materials
+		materialSetup(gl);
+
+		// Specify V for scene
+		gl.glLoadIdentity();
+		transformation(gl);
+
+		// Position light wrt camera
+		gl.glLightfv(GL.GL_LIGHT0, GL.GL_POSITION, lt_posit, 0);
+		gl.glEnable(GL.GL_LIGHTING);
+
+		// Draw ground plane (a circle at z=0 of radius 15, around the
+		// main bug in a chunked world), or the terrain
+		if (scene.terrain != null) {
+			drawTerrain(gl, scene.terrain);
+		} else {
+			double gx = 0, gy = 0;
+			if (scene.world != null) {
+				gx = scene.mainBug.pos.x;
+				gy = scene.mainBug.pos.y;
+			}
+			gl.glColor3d(0.4, 0.6, 0.35);
+			gl.glBegin(GL.GL_POLYGON);
+			gl.glNormal3d(0, 0, 1);
+			int ncirc = 200;
+			for (int i = 0; i < ncirc; i++) {
+				double theta = 2*Math.PI * i / ncirc;
+				gl.glVertex3d(gx + 15*Math.cos(theta), gy + 15*Math.sin(theta), 0);
+			}
+			gl.glEnd();
+		}
+
+		// Draw critters
+		for (int i = 0; i < critters.size(); i++) {
+			drawCritter(gl, critters.elementAt(i), critterTier(i), false);
+		}
+
+		// Clip below ground (so rocks don't peek below ground)
+		gl.glClipPlane(GL.GL_CLIP_PLANE0, ground, 0);
+
+		// **** Once you get the rock working, enable this -- it can be
+		//      difficult to debug the rock when this is on, as you can only
+		//      see the top of it -- this way you'll see the entire rock if
+		//      you peek below the ground plane...
+		// (the terrain isn't a plane, but covers the bottoms of rocks)
+		if (scene.terrain == null)
+			gl.glEnable(GL.GL_CLIP_PLANE0);
+
+		// Draw obstacles
+		for (int i = 0; i < obstacles.size(); i++) {
+			drawObstacle(gl, obstacles.elementAt(i));
+		}
+		gl.glDisable(GL.GL_CLIP_PLANE0);
+		stats.record(StageStats.DRAW_MAIN, start);
+		start = System.nanoTime();
+		
+		// Draw shadows for trees and bugs (rocks are too expensive)
+		gl.glTranslated(0.0, 0.0, 0.001);
+		gl.glDisable(GL.GL_LIGHT0);
+		
+		if (scene.terrain != null) {
+			// Each shadow falls on the ground under its object
+			for (int i = 0; i < critters.size(); i++) {
+				Critter c = critters.elementAt(i);
+				beginShadow(gl, c.pos);
+				drawCritter(gl, c, critterTier(i), true);
+				gl.glPopMatrix();
+			}
+
+			for (int i = 0; i < obstacles.size(); i++) {
+				Obstacle temp = obstacles.elementAt(i);
+				if (temp instanceof Tree) {
+					beginShadow(gl, temp.getLocation());
+					drawObstacle(gl, temp);
+					gl.glPopMatrix();
+				}
+			}
+		} else {
+			gl.glPushMatrix();
+			gl.glMultMatrixd(shadowMatrix, 0);
+		
+			for (int i = 0; i < critters.size(); i++) {
+				drawCritter(gl, critters.elementAt(i), critterTier(i), true);
+			}
+		
+			for (int i = 0; i < obstacles.size(); i++) {
+				Obstacle temp = obstacles.elementAt(i);
+				if (temp instanceof Tree) {
+					drawTree(gl, (Tree)temp);
+				}
+			}
+		
+			gl.glPopMatrix();
+		}
+		gl.glEnable(GL.GL_LIGHT0);
+		stats.record(StageStats.DRAW_SHADOW, start);
+		
+		// Draw text on top of display showing time
+		if (params.drawTime) {
+			start = System.nanoTime();
+			drawText(gl, glut, scene.computeClock / scene.clockSpeed);
+			stats.record(StageStats.DRAW_TEXT, start);
+		} else {
+			numPrevT = 0;
+		}
+
+		if (event != null && event.shouldCommit()) {
+			event.frame = scene.getFrameNumber();
+			event.elements = critters.size() + obstacles.size();
+			event.calls = (glStats != null) ? glStats.calls : -1;
+			event.commit();
+		}
+	}
+
+	// Matrix for projecting onto plane g from directional light l
+	private static double[] computeShadowMatrix(double[] g, float[] l)
+	{
+		double[] m = new double[16];
+		m[0] = g[1]*l[1]+g[2]*l[2];
+		m[1] = -g[0]*l[1];
+		m[2] = -g[0]*l[2];
+		m[3] = m[7] = m[11] = 0.0;
+		m[4] = -g[1]*l[0];
+		m[5] = g[0]*l[0]+g[2]*l[2];
+		m[6] = -g[1]*l[2];
+		m[8] = -g[2]*l[0];
+		m[9] = -g[2]*l[1];
+		m[10] = g[0]*l[0]+g[1]*l[1];
+		m[12] = -g[3]*l[0];
+		m[13] = -g[3]*l[1];
+		m[14] = -g[3]*l[2];
+		m[15] = g[0]*l[0]+g[1]*l[1]+g[2]*l[2];
+		return m;
+	}
+
+	// Transformation of scene based on GUI values
+	// (the camera is computed by Scene.viewMatrix(), so that level of
+	//  detail sees the same view)
+	private void transformation(GL gl)
+	{
+		scene.viewMatrix(view);
+
+		// OpenGL matrices are column-major
+		for (int i = 0; i < 4; i++) {
+			for (int j = 0; j < 4; j++) {
+				viewArray[4*j + i] = view.getElement(i, j);
+			}
+		}
+		gl.glMultMatrixd(viewArray, 0);
+	}
+
+	// Define materials and lights
+	private void materialSetup(GL gl)
+	{
+		// Set up material and light
+		gl.glMaterialfv(GL.GL_FRONT_AND_BACK, GL.GL_AMBIENT,  dim, 0);
+		gl.glMaterialfv(GL.GL_FRONT_AND_BACK, GL.GL_DIFFUSE,  white, 0);
+		gl.glMaterialfv(GL.GL_FRONT_AND_BACK, GL.GL_SPECULAR, dim, 0);
+		gl.glMaterialf(GL.GL_FRONT_AND_BACK, GL.GL_SHININESS, 5);
+
+		// Set light color
+		gl.glLightfv(GL.GL_LIGHT0, GL.GL_AMBIENT, dim, 0);
+		gl.glLightfv(GL.GL_LIGHT0, GL.GL_DIFFUSE, white, 0);
+		gl.glLightfv(GL.GL_LIGHT0, GL.GL_SPECULAR, black, 0);
+
+		// Turn on light and lighting
+		gl.glEnable(GL.GL_LIGHT0);
+		gl.glEnable(GL.GL_LIGHTING);
+
+		// Allow glColor() to affect current diffuse material
+		gl.glColorMaterial(GL.GL_FRONT_AND_BACK, GL.GL_DIFFUSE);
+		gl.glEnable(GL.GL_COLOR_MATERIAL);
+	}
+
+	// Draw text info on display
+	// (text is formed in a reused buffer and drawn a character at a
+	//  time, so this doesn't allocate)
+	private void drawText(GL gl, GLUT glut, double t)
+	{
+		// Put orthographic matrix on projection stack
+		gl.glMatrixMode(GL.GL_PROJECTION);
+		gl.glPushMatrix();
+		gl.glLoadIdentity();
+		gl.glOrtho(0, 1, 0, 1, -1, 1);
+		gl.glMatrixMode(GL.GL_MODELVIEW);
+
+		// Form text
+		message.setLength(0);
+		message.append((int)t/60).append(':');
+		appendTwoDigits(message, (int)t % 60);
+		message.append('.');
+		appendTwoDigits(message, (int)(100 * (t - (int)t)));
+
+		// Add on frame rate to message if it has a valid value
+		double fps = computeFPS(t);
+		if (fps != 0) {
+			long tenths = Math.round(fps * 10);
+
+			message.append("  (").append(tenths / 10).append('.')
+				.append(tenths % 10).append(" fps)");
+		}
+
+		gl.glDisable(GL.GL_LIGHTING);
+		gl.glDisable(GL.GL_DEPTH_TEST);
+
+		gl.glPushMatrix();
+		gl.glLoadIdentity();
+
+		// Draw text 
+		gl.glColor3d(0.8, 0.2, 0.2);
+		gl.glRasterPos2d(0.01, 0.01);
+		drawChars(glut, GLUT.BITMAP_HELVETICA_18, message);
+
+		// Draw bug cam label 
+		if (scene.snapshot().drawBugView) {
+			gl.glRasterPos2d(0.45, 0.01);
+			gl.glColor3d(1.0, 1.0, 1.0);
+			glut.glutBitmapString(GLUT.BITMAP_HELVETICA_18, "BUG CAM");
+		}
+
+		// Draw GL call counts from the previous frame
+		if (glStats != null) {
+			message.setLength(0);
+			glStats.appendSummary(message);
+
+			gl.glColor3d(0.2, 0.2, 0.2);
+			gl.glRasterPos2d(0.01, 0.95);
+			drawChars(glut, GLUT.BITMAP_HELVETICA_12, message);
+		}
+
+		// Draw stage timing (a line per stage, below the call counts)
+		if (scene.snapshot().drawTiming) {
+			gl.glColor3d(0.2, 0.2, 0.2);
+			for (int s = 0; s < StageStats.names.length; s++) {
+				message.setLength(0);
+				scene.stageStats.appendStage(message, s);
+				gl.glRasterPos2d(0.01, 0.91 - 0.035*s);
+				drawChars(glut, GLUT.BITMAP_HELVETICA_12, message);
+			}
+		}
+
+		gl.glPopMatrix();
+
+		gl.glEnable(GL.GL_DEPTH_TEST);
+
+		// Put back original viewing matrix
+		gl.glMatrixMode(GL.GL_PROJECTION);
+		gl.glPopMatrix();
+		gl.glMatrixMode(GL.GL_MODELVIEW);
+	}
+
+	// Append v (0-99) to sb as two digits
+	private static void appendTwoDigits(StringBuilder sb, int v)
+	{
+		sb.append((char)('0' + v / 10)).append((char)('0' + v % 10));
+	}
+
+	// Draw the characters of text at the current raster position
+	private static void drawChars(GLUT glut, int font, CharSequence text)
+	{
+		for (int i = 0; i < text.length(); i++) {
+			glut.glutBitmapCharacter(font, text.charAt(i));
+		}
+	}
+
+	// ----------------------------------------------------------------------
+
+	// Compute average frame rate (0.0 indicates not computed yet)
+	private double[] prevT = new double[10];
+	private int numPrevT = 0;
+
+	private double computeFPS(double t)
+	{
+		// Restart average when animation stops
+		if (t == 0 || !scene.snapshot().drawAnimation) {
+			numPrevT = 0;
+			return 0;
+		}
+
+		int which = numPrevT % prevT.length;
+		double tdiff = t - prevT[which];
+
+		prevT[which] = t;
+		numPrevT++;
+
+		// Only compute frame rate when valid
+		if (numPrevT <= prevT.length || tdiff <= 0) {
+			return 0;
+		}
+
+		return prevT.length / tdiff;
+	}
+
+	// ----------------------------------------------------------------------
+	// Scene elements
+
+	// Level of detail tier for critter k (always NEAR when level of
+	// detail is off)
+	private int critterTier(int k)
+	{
+		if (!scene.snapshot().useLOD || !drawLod.classified(k)) {
+			return LodScheduler.NEAR;
+		}
+		return drawLod.tier(k);
+	}
+
+	// Draw critter c with the detail for tier (in black if drawing its
+	// shadow)
+	void drawCritter(GL gl, Critter c, int tier, boolean shadow)
+	{
+		if (tier == LodScheduler.HIDDEN) {
+			return;
+		}
+		if (c instanceof Bug) {
+			if (scene.terrain != null) {
+				// Stand on the ground
+				gl.glPushMatrix();
+				gl.glTranslated(0, 0, scene.terrain.heightAt(c.pos.x, c.pos.y));
+				drawBug(gl, (Bug)c, tier, shadow);
+				gl.glPopMatrix();
+			} else {
+				drawBug(gl, (Bug)c, tier, shadow);
+			}
+		}
+	}
+
+	// Draw obstacle o
+	void drawObstacle(GL gl, Obstacle o)
+	{
+		if (scene.terrain != null) {
+			// Stand on the ground
+			Point3d p = o.getLocation();
+			gl.glPushMatrix();
+			gl.glTranslated(0, 0, scene.terrain.heightAt(p.x, p.y));
+			if (o instanceof Rock) {
+				drawRock(gl, (Rock)o);
+			} else if (o instanceof Tree) {
+				drawTree(gl, (Tree)o);
+			}
+			gl.glPopMatrix();
+			return;
+		}
+		if (o instanceof Rock) {
+			drawRock(gl, (Rock)o);
+		} else if (o instanceof Tree) {
+			drawTree(gl, (Tree)o);
+		}
+	}
+
+	// Start drawing the shadow of an object standing on the terrain at
+	// p, which falls on the plane of the ground there (pops with
+	// glPopMatrix())
+	private void beginShadow(GL gl, Point3d p)
+	{
+		double h = scene.terrain.heightAt(p.x, p.y);
+
+		gl.glPushMatrix();
+		gl.glTranslated(0, 0, h);
+		gl.glMultMatrixd(shadowMatrix, 0);
+		gl.glTranslated(0, 0, -h);
+	}
+
+	// ------------------------------------------------------------
+
+	// Draw the terrain tiles chosen for the current view
+	private void drawTerrain(GL gl, Terrain terrain)
+	{
+		// Camera position in the world (the view is a rotation R and
+		// translation t, so the camera is at -R^T t)
+		Matrix4d m = view;
+		double ex = -(m.m00*m.m03 + m.m10*m.m13 + m.m20*m.m23);
+		double ey = -(m.m01*m.m03 + m.m11*m.m13 + m.m21*m.m23);
+		double ez = -(m.m02*m.m03 + m.m12*m.m13 + m.m22*m.m23);
+
+		terrain.select(ex, ey, Math.abs(ez - terrain.heightAt(ex, ey)),
+				terrainTiles);
+
+		gl.glColor3d(0.4, 0.6, 0.35);
+		terrainVertices = 0;
+		for (int k = 0; k < terrainTiles.size(); k++) {
+			drawTile(gl, terrainTiles.get(k));
+		}
+	}
+
+	// Draw a terrain tile, with a skirt hanging from its edges to hide
+	// gaps next to tiles with less detail
+	private void drawTile(GL gl, Terrain.Tile t)
+	{
+		int n = Terrain.tileRes;
+		double s = t.size / n;
+
+		for (int j = 0; j < n; j++) {
+			gl.glBegin(GL.GL_QUAD_STRIP);
+			for (int i = 0; i <= n; i++) {
+				tileVertex(gl, t, i, j, 0);
+				tileVertex(gl, t, i, j+1, 0);
+			}
+			gl.glEnd();
+		}
+
+		// Skirt: down from each edge, by about the detail the
+		// neighbor may lack
+		for (int e = 0; e < 4; e++) {
+			gl.glBegin(GL.GL_QUAD_STRIP);
+			for (int k = 0; k <= n; k++) {
+				int i = (e == 0) ? k : (e == 1) ? n : (e == 2) ? n-k : 0;
+				int j = (e == 0) ? 0 : (e == 1) ? k : (e == 2) ? n : n-k;
+				tileVertex(gl, t, i, j, 0);
+				tileVertex(gl, t, i, j, s);
+			}
+			gl.glEnd();
+		}
+		terrainVertices += (n+1)*2*(n + 4);
+	}
+
+	// Vertex (i, j) of a terrain tile, lowered by drop
+	private void tileVertex(GL gl, Terrain.Tile t, int i, int j, double drop)
+	{
+		int n = Terrain.tileRes;
+		double s = t.size / n;
+
+		// Normal from the slope across neighboring grid points
+		int il = Math.max(i-1, 0), ir = Math.min(i+1, n);
+		int jd = Math.max(j-1, 0), ju = Math.min(j+1, n);
+		gl.glNormal3d((t.height(il, j) - t.height(ir, j)) / ((ir-il)*s),
+				(t.height(i, jd) - t.height(i, ju)) / ((ju-jd)*s), 1);
+		gl.glVertex3d(t.x0 + i*s, t.y0 + j*s, t.height(i, j) - drop);
+	}
+
+	// ------------------------------------------------------------
+
+	// Transformation to place bug in scene
+	static void transform(GL gl, Bug bug)
+	{
+		Point3d pos = bug.pos;
+
+		gl.glTranslated(pos.x, pos.y, pos.z);
+		double a = Math.toDegrees(bug.heading);
+		gl.glRotated(a, 0, 0, 1);
+		gl.glScaled(bug.scale, bug.scale, bug.scale);
+	}
+
+	// Draw bug in scene using its current set of parameters
+	// (MID tier bugs have no lower legs, FAR tier bugs are just a body)
+	void drawBug(GL gl, Bug bug, int tier, boolean shadow)
+	{
+		double[] param = bug.param;
+		int pNum = bug.pNum;
+
+		// Bug transform (default bug faces +x direction)
+		gl.glPushMatrix();
+		transform(gl, bug);
+
+		// Body
+		gl.glPushMatrix();
+		{
+			gl.glTranslated(0, 0, 0.75);
+
+			if (bug.isPredator)
+				gl.glColor3d(0.1, 0.1, 0.1);
+			else
+				gl.glColor3d(0.5, 0.7, 0.75);
+
+			gl.glPushMatrix();
+			{
+				gl.glScaled(1.3, 1.1, 1);
+				if (tier == LodScheduler.FAR)
+					objs.sphereLow(gl);
+				else
+					objs.sphere(gl);
+			}
+			gl.glPopMatrix();
+
+			if (tier == LodScheduler.FAR) {
+				gl.glPopMatrix();
+				gl.glPopMatrix();
+				return;
+			}
+
+			// Head (relative to body)
+			gl.glPushMatrix();
+			{
+				gl.glTranslated(0.7, 0.0, 0.0);
+				gl.glScaled(0.5, 0.5, 0.5);
+				if (bug.isPredator)
+					gl.glColor3d(0.5, 0.1, 0.1);
+				else
+					gl.glColor3d(0.65, 0.55, 0.75);
+				objs.sphere(gl);
+			}
+			gl.glPopMatrix();
+
+			// Legs (relative to body)
+
+			double legThick = 0.15;
+			if (shadow)
+				gl.glColor3d(0.0, 0.0, 0.0);
+			else
+				gl.glColor3d(0.5, 0.4, 0.3);
+
+			for (int i = 0; i < bug.legNum/2; i++) {
+				// Left legs
+				gl.glPushMatrix();
+				{
+					gl.glRotated(param[2*i*pNum],      0, 0, 1);
+					gl.glRotated(90-param[2*i*pNum+1], 1, 0, 0);
+
+					gl.glPushMatrix();
+					{
+						gl.glScaled(legThick, legThick, 1.0);
+						objs.cylinder(gl);
+					}
+					gl.glPopMatrix();
+
+					if (tier == LodScheduler.NEAR) {
+						gl.glTranslated(0, 0, 1);
+						gl.glRotated(90, 1, 0, 0);
+						gl.glScaled(legThick, legThick, 1.0);
+						objs.cylinder(gl);
+					}
+				}
+				gl.glPopMatrix();
+
+				// Right legs
+				gl.glPushMatrix();
+				{
+					gl.glRotated(-param[(2*i+1)*pNum],      0, 0, 1);
+					gl.glRotated(-90+param[(2*i+1)*pNum+1], 1, 0, 0);
+
+					gl.glPushMatrix();
+					{
+						gl.glScaled(legThick, legThick, 1.0);
+						objs.cylinder(gl);
+					}
+					gl.glPopMatrix();
+
+					if (tier == LodScheduler.NEAR) {
+						gl.glTranslated(0, 0, 1.0);
+						gl.glRotated(-90, 1, 0, 0);
+						gl.glScaled(legThick, legThick, 1.0);
+						objs.cylinder(gl);
+					}
+				}
+				gl.glPopMatrix();
+			}
+		}
+
+		// Body
+		gl.glPopMatrix();
+
+		// Bug
+		gl.glPopMatrix();
+	}
+
+	// Draw rock in scene
+	void drawRock(GL gl, Rock rock)
+	{
+		Point3d location = rock.getLocation();
+		double scale = rock.getRockScale();
+		int rsize = rock.rsize;
+
+		gl.glPushMatrix();
+
+		// Translate rock down (so it has an interesting boundary)
+		gl.glTranslated(location.x, location.y, -0.15);
+
+		gl.glScaled(scale, scale, scale);
+
+		gl.glColor3d(0.6, 0.6, 0.6);
+
+		// Use scratch objects, so objects persist and
+		// unnecessary GC is avoided
+		Point3d p = drawPoint;
+		Vector3d n = drawNormal;
+
+		// Draw polygon grid of rock as quad-strips
+		for (int i = 0; i < rsize-1; i++) {
+			gl.glBegin(GL.GL_QUAD_STRIP);
+			for (int j = 0; j < rsize; j++) {
+				rock.getRockPoint(i, j, p);
+				rock.getRockNormal(i, j, n);
+				gl.glNormal3d(n.x, n.y, n.z);
+				gl.glVertex3d(p.x, p.y, p.z);
+
+				rock.getRockPoint(i+1, j, p);
+				rock.getRockNormal(i+1, j, n);
+				gl.glNormal3d(n.x, n.y, n.z);
+				gl.glVertex3d(p.x, p.y, p.z);
+			}
+			gl.glEnd();
+		}
+
+		gl.glPopMatrix();
+	}
+
+	// Draw tree in scene
+	void drawTree(GL gl, Tree tree)
+	{
+		Point3d location = tree.getLocation();
+
+		gl.glPushMatrix();
+		gl.glTranslated(location.x, location.y, 0);
+		drawTreePart(gl, tree.tree);
+		gl.glPopMatrix();
+	}
+
+	// Recursively draw a tree component
+	//  - place the component using transformation for this subtree
+	//  - draw leaf (if this is a leaf node)
+	//  - draw subtree (if this is an interior node)
+	//    (draw this component, recursively draw children)
+	void drawTreePart(GL gl, TreePart part)
+	{
+		gl.glPushMatrix();
+
+		// Place this component
+		gl.glRotated(part.angle.z,0,0,1);
+		gl.glRotated(part.angle.y,0,1,0);
+		gl.glRotated(part.angle.x,1,0,0);
+
+		if (part.leaf) {
+			// Draw a nice maple leaf
+			double s = 1.0/(part.branches*0.7);
+			gl.glColor3d(0.0, 1.0, 0.0);
+			gl.glBegin(GL.GL_POLYGON);
+			gl.glVertex3d(0,0,0);
+			gl.glVertex3d(-s*7/18, s/9, 0);
+			gl.glVertex3d(-s/2, s/3, 0);
+			gl.glVertex3d(-s*5/18, s/3, 0);
+			gl.glVertex3d(-s/3, s*2/3, 0);
+			gl.glVertex3d(-s/9, s*5/9, 0);
+			gl.glVertex3d(0, s, 0);
+			gl.glVertex3d(s/9, s*5/9, 0);
+			gl.glVertex3d(s/3, s*2/3, 0);
+			gl.glVertex3d(s*5/18, s/3, 0);
+			gl.glVertex3d(s/2, s/3, 0);
+			gl.glVertex3d(s*7/18, s/9, 0);
+			gl.glEnd();
+		} else {
+			// Draw branch
+			gl.glScaled(part.width, part.width, part.length);
+			// make sure it stays brown
+			gl.glColor3d(0.5, 0.4, 0.3);
+			objs.cylinder(gl);
+			gl.glScaled(1/part.width, 1/part.width, 1/part.length);
+			gl.glTranslated(0, 0, part.length);
+
+			if (part.depth>0) {
+				for (int i = 0; i < part.branches; i++) {
+					drawTreePart(gl, part.parts[i]);
+				}
+			}
+		}
+
+		gl.glPopMatrix();
+	}
+}
@@ -6,6 +6,7 @@ import java.nio.*;
 import java.awt.Window;
 import java.awt.event.WindowAdapter;
 import java.awt.event.WindowEvent;
+import javax.swing.SwingUtilities;
 import java.io.*;
 import java.util.*;
 import java.text.*;
@@ -37,6 +38,10 @@ implements GLEventListener
     boolean takescreenshot = false;
     private FPSAnimator animator;
     protected GLUT glut = null;
+
+    // Pixels of frames being dumped
+    private byte[] dumpPixels = null;
+    private ByteBuffer dumpBuffer = null;
     
     // Constructor
     public SimpleGLCanvas(Window parent)
@@ -83,6 +88,18 @@ implements GLEventListener
         return (System.currentTimeMillis() - startingTime) / 1000.0;
     }
     
+    // Redraw the window now, unless the animation will redraw it anyway
+    public void refresh()
+    {
+        if (!SwingUtilities.isEventDispatchThread())
+          return;
+
+        if (isAnimated())
+          return;
+
+        display();
+    }
+
     // Check if animation is proceeding
     public boolean isAnimated()
     {
@@ -115,28 +132,39 @@ implements GLEventListener
     public void display(GLAutoDrawable drawable)
     {
         GL gl = drawable.getGL();
+        Scene scene = getScene();
         //this.setGL(gl);
         // Draw the contents of the window (abstract method)
         draw(gl);
         
         // If animation is on, and dumping
-        if (Main.scene.drawAnimation.value) {
-            if (Main.scene.dumpPrefix != null) {
+        if (scene.snapshot().drawAnimation) {
+            if (scene.dumpPrefix != null) {
                 // the size of the window
                 int width = getWidth();
                 int height = getHeight();
-                // Write frame to output file
-                byte[] pixels = new byte[width*height*3];
-                Buffer buffer = ByteBuffer.wrap(pixels);;
+                // Write frame to output file (reusing the buffer
+                // while the window size stays the same)
+                if (dumpPixels == null ||
+                    dumpPixels.length != width*height*3) {
+                    dumpPixels = new byte[width*height*3];
+                    dumpBuffer = ByteBuffer.wrap(dumpPixels);
+                }
+                byte[] pixels = dumpPixels;
+                Buffer buffer = dumpBuffer;
                 
+                long start = System.nanoTime();
                 gl.glReadBuffer(GL.GL_BACK);
                 gl.glPixelStorei(GL.GL_PACK_ALIGNMENT, 1);
                 gl.glReadPixels(0, 0, width, height, 
                                 GL.GL_RGB, GL.GL_UNSIGNED_BYTE, buffer);
+                scene.stageStats.record(StageStats.READBACK, start);
                 
-                writeNextPNM(Main.scene.dumpPrefix, pixels);
+                start = System.nanoTime();
+                writeNextPNM(scene.dumpPrefix, pixels);
+                scene.stageStats.record(StageStats.WRITE, start);
                 
-                Main.scene.incrementFrameNumber();
+                scene.incrementFrameNumber();
             }
         }
         if(takescreenshot)
@@ -154,25 +182,8 @@ implements GLEventListener
             
             String filename = new SimpleDateFormat("'screenshot_'MMddhhmmss'.ppm'").format(new Date());
             
-            Scene s = Main.scene;
-        	// the size of the window
-            
-            String header = new String("P6" + '\n' +
-                                       width + " " + height + '\n' +
-                                       "255" + '\n');
-    	
-    	
-            byte[] bhead = header.getBytes();
-    	
             try {
-                FileOutputStream stream = new FileOutputStream(filename);
-                
-                stream.write(bhead);
-                for (int r = 0; r < height; r++) {
-                    stream.write(pixels, width*3*(height-r-1), width*3);
-                }
-                
-                stream.close();
+                FrameDump.writePPM(filename, pixels, width, height);
             } catch (IOException e) {
                 System.out.println(e);
                 System.exit(-1);
@@ -190,38 +201,18 @@ implements GLEventListener
     public void takeScreenShot()
     {
     	takescreenshot = true;
-    	Main.refresh();
+    	refresh();
     }
     
     // Write the next PNM file to output
     private void writeNextPNM(String prefix, byte[] pixels)
     {
-        Scene s = Main.scene;
-        DecimalFormat digits = new DecimalFormat("0000");
-        
-    	// the size of the window
-    	int width = getWidth();
-    	int height = getHeight();
+        Scene s = getScene();
         
-        String header = new String("P6" + '\n' +
-                                   width + " " + height + '\n' +
-                                   "255" + '\n');
-	
-        String filename = new String(prefix +
-                                     digits.format(s.getFrameNumber()) +
-                                     ".ppm");
-	
-        byte[] bhead = header.getBytes();
-	
         try {
-            FileOutputStream stream = new FileOutputStream(filename);
-            
-            stream.write(bhead);
-            for (int r = 0; r < height; r++) {
-                stream.write(pixels, width*3*(height-r-1), width*3);
-            }
-            
-            stream.close();
+            FrameDump.writePPM(FrameDump.frameFilename(prefix,
+                                                       s.getFrameNumber()),
+                               pixels, getWidth(), getHeight());
         } catch (IOException e) {
             System.out.println(e);
             System.exit(-1);
@@ -239,4 +230,7 @@ implements GLEventListener
     
     // Called whenever window needs to be redrawn
     abstract public void draw(GL gl);
+
+    // Scene shown in this window (for dumping frames)
+    abstract public Scene getScene();
 }
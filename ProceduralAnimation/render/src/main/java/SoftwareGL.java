@@ -0,0 +1,1267 @@
+/* class SoftwareGL
+ * A pure-Java implementation of the part of OpenGL that the scene uses,
+ * so frames can be rendered without a GPU, window or native libraries.
+ * The GL object returned by gl() interprets immediate-mode calls:
+ *  - modelview/projection matrix stacks, viewport, display lists
+ *  - Gouraud shaded triangles, triangle strips/fans, quads, quad strips
+ *    and polygons (points and lines are ignored)
+ *  - the depth buffer, a single light with color material, and one
+ *    user clip plane
+ *
+ * Vertices are lit and transformed as they are issued.  Primitives are
+ * clipped (near plane and clip plane), then binned into screen tiles;
+ * the tiles are rasterized in parallel when the frame is read back with
+ * glReadPixels() (or on glFinish()/glFlush()).  Calls not listed above
+ * are accepted and ignored.
+ *
+ * The GL is a NullGL overriding the calls that are interpreted, each of
+ * which is passed on by name to call() (the arguments are boxed, so
+ * calls can be recorded into display lists as they are).
+ */
+
+import java.nio.*;
+import java.util.*;
+import java.util.concurrent.*;
+
+import javax.media.opengl.GL;
+
+public class SoftwareGL
+{
+    // Size of a square screen tile (in pixels)
+    static final int tileSize = 32;
+
+    // Frame size, and framebuffer (RGB bytes, bottom row first) and
+    // depth buffer
+    private int width, height;
+    private byte[] color;
+    private float[] depth;
+
+    // Viewport
+    private int vx, vy, vw, vh;
+
+    // The GL drawn with
+    private GL gl = new Calls();
+
+    // Threads used for rasterizing tiles
+    private int numThreads;
+    private ExecutorService pool = null;
+
+    // ---------------------------------------------------------------
+    // GL state
+
+    // Matrix stacks (matrices are column-major, as in OpenGL)
+    private LinkedList<double[]> modelviewStack = new LinkedList<double[]>();
+    private LinkedList<double[]> projectionStack = new LinkedList<double[]>();
+    private double[] modelview = identity(), projection = identity();
+    private boolean modelviewMode = true;
+
+    // Inverse transpose of modelview (for normals), computed when needed
+    private double[] normalMatrix = new double[9];
+    private boolean normalMatrixValid = false;
+
+    // Current color and normal
+    private double cr = 1, cg = 1, cb = 1;
+    private double nx = 0, ny = 0, nz = 1;
+
+    // Enables
+    private boolean lighting = false, light0 = false;
+    private boolean colorMaterial = false, depthTest = false;
+    private boolean clipPlane = false;
+    private int colorMaterialMode = GL.GL_AMBIENT_AND_DIFFUSE;
+
+    // Light and material (light position is in eye coordinates)
+    private double[] lightPos = { 0, 0, 1, 0 };
+    private double[] lightAmbient = { 0, 0, 0 };
+    private double[] lightDiffuse = { 1, 1, 1 };
+    private double[] matAmbient = { 0.2, 0.2, 0.2 };
+    private double[] matDiffuse = { 0.8, 0.8, 0.8 };
+    private static final double globalAmbient = 0.2;
+
+    // Clip plane (in eye coordinates)
+    private double[] plane = new double[4];
+
+    // Clear color
+    private byte clearR, clearG, clearB;
+
+    // Display lists: recorded calls (name and arguments) for each list id
+    private HashMap<Integer, ArrayList<Object[]>> lists =
+        new HashMap<Integer, ArrayList<Object[]>>();
+    private ArrayList<Object[]> recording = null;
+    private int nextList = 1;
+
+    // ---------------------------------------------------------------
+    // Primitive assembly
+
+    // Type of current primitive, and its vertices: clip coordinates,
+    // lit color and clip plane distance (vsize values per vertex)
+    private int mode = -1;
+    static final int vsize = 8;
+    private double[] verts = new double[vsize * 64];
+    private int numVerts = 0;
+
+    // Clipped triangles in window coordinates: for each vertex
+    // x, y, depth, 1/w, r/w, g/w, b/w
+    static final int tsize = 21;
+    private float[] tris = new float[tsize * 1024];
+    private boolean[] triDepth = new boolean[1024];
+    private int numTris = 0;
+
+    // Triangles overlapping each tile
+    private int tilesX, tilesY;
+    private int[][] bins;
+    private int[] binCount;
+
+    // ---------------------------------------------------------------
+
+    // Renderer for frames of the given size, rasterizing with the given
+    // number of threads
+    public SoftwareGL(int w, int h, int threads)
+    {
+        width = w;
+        height = h;
+        numThreads = Math.max(threads, 1);
+
+        color = new byte[width*height*3];
+        depth = new float[width*height];
+        vx = vy = 0;
+        vw = width;
+        vh = height;
+
+        tilesX = (width + tileSize - 1) / tileSize;
+        tilesY = (height + tileSize - 1) / tileSize;
+        bins = new int[tilesX*tilesY][16];
+        binCount = new int[tilesX*tilesY];
+    }
+
+    // Renderer using one thread per processor
+    public SoftwareGL(int w, int h)
+    {
+        this(w, h, Runtime.getRuntime().availableProcessors());
+    }
+
+    // GL to draw with
+    public GL gl()
+    {
+        return gl;
+    }
+
+    public int getWidth()
+    {
+        return width;
+    }
+
+    public int getHeight()
+    {
+        return height;
+    }
+
+    // Rasterize everything drawn so far and return the framebuffer
+    // (RGB bytes, bottom row first)
+    public byte[] pixels()
+    {
+        finish();
+        return color;
+    }
+
+    // Stop rasterizer threads
+    public void dispose()
+    {
+        if (pool != null) {
+            pool.shutdown();
+            pool = null;
+        }
+    }
+
+    // ---------------------------------------------------------------
+    // GL calls
+
+    // Carry out the GL call name with arguments a, returning its value
+    // (null for none)
+    private Object call(String name, Object[] a)
+    {
+        // Record calls into a display list (instead of executing them)
+        if (recording != null && !name.equals("glEndList")) {
+            recording.add(new Object[] { name, a });
+            return null;
+        }
+
+        switch (name) {
+          // -- Matrices
+          case "glMatrixMode":
+            modelviewMode = (i(a[0]) != GL.GL_PROJECTION);
+            break;
+          case "glLoadIdentity":
+            setCurrent(identity());
+            break;
+          case "glPushMatrix":
+            if (modelviewMode)
+              modelviewStack.addFirst(modelview.clone());
+            else
+              projectionStack.addFirst(projection.clone());
+            break;
+          case "glPopMatrix":
+            if (modelviewMode) {
+                if (!modelviewStack.isEmpty())
+                  setCurrent(modelviewStack.removeFirst());
+            } else {
+                if (!projectionStack.isEmpty())
+                  setCurrent(projectionStack.removeFirst());
+            }
+            break;
+          case "glTranslated":
+          case "glTranslatef":
+            multCurrent(translation(d(a[0]), d(a[1]), d(a[2])));
+            break;
+          case "glScaled":
+          case "glScalef":
+            multCurrent(scaling(d(a[0]), d(a[1]), d(a[2])));
+            break;
+          case "glRotated":
+          case "glRotatef":
+            multCurrent(rotation(d(a[0]), d(a[1]), d(a[2]), d(a[3])));
+            break;
+          case "glMultMatrixd":
+            if (a.length == 2) {
+                double[] src = (double[])a[0];
+                int off = i(a[1]);
+                double[] mm = new double[16];
+                System.arraycopy(src, off, mm, 0, 16);
+                multCurrent(mm);
+            }
+            break;
+          case "glFrustum":
+            multCurrent(frustum(d(a[0]), d(a[1]), d(a[2]), d(a[3]),
+                                d(a[4]), d(a[5])));
+            break;
+          case "glOrtho":
+            multCurrent(ortho(d(a[0]), d(a[1]), d(a[2]), d(a[3]),
+                              d(a[4]), d(a[5])));
+            break;
+          case "glViewport":
+            vx = i(a[0]);
+            vy = i(a[1]);
+            vw = i(a[2]);
+            vh = i(a[3]);
+            break;
+
+          // -- State
+          case "glEnable":
+          case "glDisable":
+            enable(i(a[0]), name.equals("glEnable"));
+            break;
+          case "glColorMaterial":
+            colorMaterialMode = i(a[1]);
+            break;
+          case "glClearColor":
+            clearR = toByte(d(a[0]));
+            clearG = toByte(d(a[1]));
+            clearB = toByte(d(a[2]));
+            break;
+          case "glClear":
+            clear(i(a[0]));
+            break;
+          case "glLightfv":
+            if (i(a[0]) == GL.GL_LIGHT0 && a.length == 4)
+              light(i(a[1]), (float[])a[2], i(a[3]));
+            break;
+          case "glMaterialfv":
+            if (a.length == 4)
+              material(i(a[1]), (float[])a[2], i(a[3]));
+            break;
+          case "glClipPlane":
+            if (i(a[0]) == GL.GL_CLIP_PLANE0 && a.length == 3)
+              clipPlane((double[])a[1], i(a[2]));
+            break;
+
+          // -- Geometry
+          case "glColor3d":
+          case "glColor3f":
+          case "glColor4d":
+          case "glColor4f":
+            cr = d(a[0]);
+            cg = d(a[1]);
+            cb = d(a[2]);
+            break;
+          case "glNormal3d":
+          case "glNormal3f":
+            nx = d(a[0]);
+            ny = d(a[1]);
+            nz = d(a[2]);
+            break;
+          case "glBegin":
+            mode = i(a[0]);
+            numVerts = 0;
+            break;
+          case "glVertex3d":
+          case "glVertex3f":
+            vertex(d(a[0]), d(a[1]), d(a[2]));
+            break;
+          case "glVertex2d":
+          case "glVertex2f":
+            vertex(d(a[0]), d(a[1]), 0);
+            break;
+          case "glEnd":
+            assemble();
+            mode = -1;
+            break;
+
+          // -- Display lists
+          case "glGenLists": {
+            int first = nextList;
+            nextList += i(a[0]);
+            return Integer.valueOf(first);
+          }
+          case "glNewList":
+            recording = new ArrayList<Object[]>();
+            lists.put(Integer.valueOf(i(a[0])), recording);
+            break;
+          case "glEndList":
+            recording = null;
+            break;
+          case "glCallList":
+            callList(i(a[0]));
+            break;
+
+          // -- Readback
+          case "glReadPixels":
+            readPixels(i(a[0]), i(a[1]), i(a[2]), i(a[3]), (Buffer)a[6]);
+            break;
+          case "glFinish":
+          case "glFlush":
+            finish();
+            break;
+          case "glIsEnabled":
+            return Boolean.valueOf(isEnabled(i(a[0])));
+
+          default:
+            break;
+        }
+
+        return null;
+    }
+
+    // Replay a display list
+    private void callList(int id)
+    {
+        ArrayList<Object[]> list = lists.get(Integer.valueOf(id));
+        if (list == null)
+          return;
+
+        for (int k = 0; k < list.size(); k++) {
+            Object[] call = list.get(k);
+            call((String)call[0], (Object[])call[1]);
+        }
+    }
+
+    private void enable(int cap, boolean on)
+    {
+        if (cap == GL.GL_LIGHTING)
+          lighting = on;
+        else if (cap == GL.GL_LIGHT0)
+          light0 = on;
+        else if (cap == GL.GL_COLOR_MATERIAL)
+          colorMaterial = on;
+        else if (cap == GL.GL_DEPTH_TEST)
+          depthTest = on;
+        else if (cap == GL.GL_CLIP_PLANE0)
+          clipPlane = on;
+    }
+
+    private boolean isEnabled(int cap)
+    {
+        if (cap == GL.GL_LIGHTING)
+          return lighting;
+        else if (cap == GL.GL_LIGHT0)
+          return light0;
+        else if (cap == GL.GL_COLOR_MATERIAL)
+          return colorMaterial;
+        else if (cap == GL.GL_DEPTH_TEST)
+          return depthTest;
+        else if (cap == GL.GL_CLIP_PLANE0)
+          return clipPlane;
+        return false;
+    }
+
+    private void light(int pname, float[] v, int off)
+    {
+        if (pname == GL.GL_POSITION) {
+            // Light position is transformed by the current modelview
+            transform(modelview, v[off], v[off+1], v[off+2], v[off+3],
+                      lightPos);
+        } else if (pname == GL.GL_AMBIENT) {
+            copy3(v, off, lightAmbient);
+        } else if (pname == GL.GL_DIFFUSE) {
+            copy3(v, off, lightDiffuse);
+        }
+    }
+
+    private void material(int pname, float[] v, int off)
+    {
+        if (pname == GL.GL_AMBIENT) {
+            copy3(v, off, matAmbient);
+        } else if (pname == GL.GL_DIFFUSE) {
+            copy3(v, off, matDiffuse);
+        } else if (pname == GL.GL_AMBIENT_AND_DIFFUSE) {
+            copy3(v, off, matAmbient);
+            copy3(v, off, matDiffuse);
+        }
+    }
+
+    // Plane is transformed to eye coordinates by the inverse modelview
+    private void clipPlane(double[] eq, int off)
+    {
+        double[] inv = invert(modelview);
+
+        for (int j = 0; j < 4; j++) {
+            plane[j] = eq[off]*inv[4*j] + eq[off+1]*inv[4*j+1] +
+                eq[off+2]*inv[4*j+2] + eq[off+3]*inv[4*j+3];
+        }
+    }
+
+    // ---------------------------------------------------------------
+    // Vertex processing
+
+    // Light and transform a vertex of the current primitive
+    private void vertex(double x, double y, double z)
+    {
+        if (mode < 0)
+          return;
+
+        if ((numVerts+1) * vsize > verts.length)
+          verts = Arrays.copyOf(verts, verts.length * 2);
+
+        double[] mv = modelview;
+        double ex = mv[0]*x + mv[4]*y + mv[8]*z + mv[12];
+        double ey = mv[1]*x + mv[5]*y + mv[9]*z + mv[13];
+        double ez = mv[2]*x + mv[6]*y + mv[10]*z + mv[14];
+        double ew = mv[3]*x + mv[7]*y + mv[11]*z + mv[15];
+
+        double[] p = projection;
+        int o = numVerts * vsize;
+        verts[o]   = p[0]*ex + p[4]*ey + p[8]*ez + p[12]*ew;
+        verts[o+1] = p[1]*ex + p[5]*ey + p[9]*ez + p[13]*ew;
+        verts[o+2] = p[2]*ex + p[6]*ey + p[10]*ez + p[14]*ew;
+        verts[o+3] = p[3]*ex + p[7]*ey + p[11]*ez + p[15]*ew;
+
+        if (lighting) {
+            shade(ex, ey, ez, ew, o + 4);
+        } else {
+            verts[o+4] = cr;
+            verts[o+5] = cg;
+            verts[o+6] = cb;
+        }
+
+        verts[o+7] = clipPlane ?
+            plane[0]*ex + plane[1]*ey + plane[2]*ez + plane[3]*ew : 1;
+
+        numVerts++;
+    }
+
+    // Fixed-function lighting of a vertex at eye position e, with the
+    // result stored in verts[o..o+2]
+    private void shade(double ex, double ey, double ez, double ew, int o)
+    {
+        double[] amb = matAmbient, dif = matDiffuse;
+        double[] cur = { cr, cg, cb };
+        if (colorMaterial) {
+            if (colorMaterialMode == GL.GL_DIFFUSE ||
+                colorMaterialMode == GL.GL_AMBIENT_AND_DIFFUSE)
+              dif = cur;
+            if (colorMaterialMode == GL.GL_AMBIENT ||
+                colorMaterialMode == GL.GL_AMBIENT_AND_DIFFUSE)
+              amb = cur;
+        }
+
+        double ndotl = 0;
+        if (light0) {
+            // Eye-space normal (normalized)
+            if (!normalMatrixValid) {
+                computeNormalMatrix();
+            }
+            double[] nm = normalMatrix;
+            double tx = nm[0]*nx + nm[3]*ny + nm[6]*nz;
+            double ty = nm[1]*nx + nm[4]*ny + nm[7]*nz;
+            double tz = nm[2]*nx + nm[5]*ny + nm[8]*nz;
+            double nl = Math.sqrt(tx*tx + ty*ty + tz*tz);
+            if (nl > 0) {
+                tx /= nl;
+                ty /= nl;
+                tz /= nl;
+            }
+
+            // Direction to light (directional if w = 0)
+            double lx = lightPos[0], ly = lightPos[1], lz = lightPos[2];
+            if (lightPos[3] != 0 && ew != 0) {
+                lx = lx/lightPos[3] - ex/ew;
+                ly = ly/lightPos[3] - ey/ew;
+                lz = lz/lightPos[3] - ez/ew;
+            }
+            double ll = Math.sqrt(lx*lx + ly*ly + lz*lz);
+            if (ll > 0)
+              ndotl = Math.max((tx*lx + ty*ly + tz*lz) / ll, 0);
+        }
+
+        for (int c = 0; c < 3; c++) {
+            double v = globalAmbient * amb[c];
+            if (light0)
+              v += lightAmbient[c]*amb[c] + ndotl*lightDiffuse[c]*dif[c];
+            verts[o+c] = Math.min(Math.max(v, 0), 1);
+        }
+    }
+
+    // Turn the vertices of the current primitive into triangles
+    private void assemble()
+    {
+        int n = numVerts;
+
+        switch (mode) {
+          case GL.GL_TRIANGLES:
+            for (int k = 0; k+2 < n; k += 3)
+              triangle(k, k+1, k+2);
+            break;
+          case GL.GL_TRIANGLE_STRIP:
+            for (int k = 0; k+2 < n; k++) {
+                if (k % 2 == 0)
+                  triangle(k, k+1, k+2);
+                else
+                  triangle(k+1, k, k+2);
+            }
+            break;
+          case GL.GL_TRIANGLE_FAN:
+          case GL.GL_POLYGON:
+            for (int k = 1; k+1 < n; k++)
+              triangle(0, k, k+1);
+            break;
+          case GL.GL_QUADS:
+            for (int k = 0; k+3 < n; k += 4) {
+                triangle(k, k+1, k+2);
+                triangle(k, k+2, k+3);
+            }
+            break;
+          case GL.GL_QUAD_STRIP:
+            for (int k = 0; k+3 < n; k += 2) {
+                triangle(k, k+1, k+3);
+                triangle(k, k+3, k+2);
+            }
+            break;
+          default:
+            // Points and lines are not drawn
+            break;
+        }
+    }
+
+    // Scratch polygons for clipping (at most 5 vertices after two planes)
+    private double[] polyA = new double[vsize * 8];
+    private double[] polyB = new double[vsize * 8];
+
+    // Clip triangle (a,b,c) of the current primitive, and emit the
+    // pieces in window coordinates
+    private void triangle(int a, int b, int c)
+    {
+        System.arraycopy(verts, a*vsize, polyA, 0, vsize);
+        System.arraycopy(verts, b*vsize, polyA, vsize, vsize);
+        System.arraycopy(verts, c*vsize, polyA, 2*vsize, vsize);
+        int n = 3;
+
+        // Near plane (z >= -w), then clip plane (distance >= 0)
+        n = clip(polyA, n, polyB, -1);
+        if (n < 3)
+          return;
+        if (clipPlane) {
+            n = clip(polyB, n, polyA, 7);
+            if (n < 3)
+              return;
+            emit(polyA, n);
+        } else {
+            emit(polyB, n);
+        }
+    }
+
+    // Sutherland-Hodgman clip of polygon in (n vertices) against
+    // plane dist >= 0, where dist is z+w for plane -1 or else the
+    // vertex value at that index; returns vertex count written to out
+    private int clip(double[] in, int n, double[] out, int which)
+    {
+        int m = 0;
+
+        for (int k = 0; k < n; k++) {
+            int p = k*vsize, q = ((k+1) % n)*vsize;
+            double dp = (which < 0) ? in[p+2] + in[p+3] : in[p+which];
+            double dq = (which < 0) ? in[q+2] + in[q+3] : in[q+which];
+
+            if (dp >= 0) {
+                System.arraycopy(in, p, out, m*vsize, vsize);
+                m++;
+            }
+            if ((dp >= 0) != (dq >= 0)) {
+                double t = dp / (dp - dq);
+                for (int j = 0; j < vsize; j++)
+                  out[m*vsize+j] = in[p+j] + t*(in[q+j] - in[p+j]);
+                m++;
+            }
+        }
+
+        return m;
+    }
+
+    // Add a convex polygon (clip coordinates) as a fan of triangles in
+    // window coordinates, and bin them into tiles
+    private void emit(double[] poly, int n)
+    {
+        for (int k = 1; k+1 < n; k++) {
+            if ((numTris+1) * tsize > tris.length) {
+                tris = Arrays.copyOf(tris, tris.length * 2);
+                triDepth = Arrays.copyOf(triDepth, triDepth.length * 2);
+            }
+
+            int o = numTris * tsize;
+            toWindow(poly, 0, o);
+            toWindow(poly, k, o + 7);
+            toWindow(poly, k+1, o + 14);
+            triDepth[numTris] = depthTest;
+
+            bin(numTris);
+            numTris++;
+        }
+    }
+
+    // Perspective divide and viewport transform of polygon vertex k
+    private void toWindow(double[] poly, int k, int o)
+    {
+        int p = k * vsize;
+        double w = poly[p+3];
+        double iw = 1 / w;
+
+        tris[o]   = (float)(vx + (poly[p]*iw + 1) * vw * 0.5);
+        tris[o+1] = (float)(vy + (poly[p+1]*iw + 1) * vh * 0.5);
+        tris[o+2] = (float)((poly[p+2]*iw + 1) * 0.5);
+        tris[o+3] = (float)iw;
+        tris[o+4] = (float)(poly[p+4]*iw);
+        tris[o+5] = (float)(poly[p+5]*iw);
+        tris[o+6] = (float)(poly[p+6]*iw);
+    }
+
+    // Add triangle t to each tile its bounding box overlaps
+    private void bin(int t)
+    {
+        int o = t * tsize;
+        float minx = Math.min(tris[o], Math.min(tris[o+7], tris[o+14]));
+        float maxx = Math.max(tris[o], Math.max(tris[o+7], tris[o+14]));
+        float miny = Math.min(tris[o+1], Math.min(tris[o+8], tris[o+15]));
+        float maxy = Math.max(tris[o+1], Math.max(tris[o+8], tris[o+15]));
+
+        if (maxx < 0 || maxy < 0 || minx >= width || miny >= height)
+          return;
+
+        int tx0 = Math.max((int)minx / tileSize, 0);
+        int tx1 = Math.min((int)maxx / tileSize, tilesX - 1);
+        int ty0 = Math.max((int)miny / tileSize, 0);
+        int ty1 = Math.min((int)maxy / tileSize, tilesY - 1);
+
+        for (int ty = ty0; ty <= ty1; ty++) {
+            for (int tx = tx0; tx <= tx1; tx++) {
+                int b = ty*tilesX + tx;
+                if (binCount[b] == bins[b].length)
+                  bins[b] = Arrays.copyOf(bins[b], bins[b].length * 2);
+                bins[b][binCount[b]++] = t;
+            }
+        }
+    }
+
+    // ---------------------------------------------------------------
+    // Rasterization
+
+    // Clear buffers (after finishing what was drawn before)
+    private void clear(int mask)
+    {
+        finish();
+
+        if ((mask & GL.GL_COLOR_BUFFER_BIT) != 0) {
+            for (int k = 0; k < color.length; k += 3) {
+                color[k] = clearR;
+                color[k+1] = clearG;
+                color[k+2] = clearB;
+            }
+        }
+        if ((mask & GL.GL_DEPTH_BUFFER_BIT) != 0) {
+            Arrays.fill(depth, 1.0f);
+        }
+    }
+
+    // Rasterize all binned triangles, one tile per task
+    private void finish()
+    {
+        if (numTris == 0)
+          return;
+
+        final int numTiles = tilesX * tilesY;
+
+        if (numThreads == 1) {
+            for (int b = 0; b < numTiles; b++)
+              rasterTile(b);
+        } else {
+            if (pool == null) {
+                pool = Executors.newFixedThreadPool(numThreads,
+                    new ThreadFactory() {
+                        public Thread newThread(Runnable r) {
+                            Thread th = new Thread(r, "SoftwareGL tile");
+                            th.setDaemon(true);
+                            return th;
+                        }
+                    });
+            }
+
+            // Each worker takes the next unrasterized tile
+            final java.util.concurrent.atomic.AtomicInteger next =
+                new java.util.concurrent.atomic.AtomicInteger();
+            ArrayList<Callable<Object>> tasks = new ArrayList<Callable<Object>>();
+            for (int k = 0; k < numThreads; k++) {
+                tasks.add(new Callable<Object>() {
+                        public Object call() {
+                            int b;
+                            while ((b = next.getAndIncrement()) < numTiles)
+                              rasterTile(b);
+                            return null;
+                        }
+                    });
+            }
+
+            try {
+                for (Future<Object> f : pool.invokeAll(tasks))
+                  f.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (ExecutionException e) {
+                throw new RuntimeException(e.getCause());
+            }
+        }
+
+        numTris = 0;
+        Arrays.fill(binCount, 0);
+    }
+
+    // Rasterize the triangles of tile b, in the order they were drawn
+    private void rasterTile(int b)
+    {
+        int x0 = (b % tilesX) * tileSize, y0 = (b / tilesX) * tileSize;
+        int x1 = Math.min(x0 + tileSize, width) - 1;
+        int y1 = Math.min(y0 + tileSize, height) - 1;
+
+        for (int k = 0; k < binCount[b]; k++) {
+            int t = bins[b][k];
+            rasterTriangle(t * tsize, triDepth[t], x0, y0, x1, y1);
+        }
+    }
+
+    // Rasterize a triangle (at offset o in tris) within pixels
+    // [x0,x1] X [y0,y1], with perspective-correct Gouraud shading
+    private void rasterTriangle(int o, boolean zTest,
+                                int x0, int y0, int x1, int y1)
+    {
+        float[] tr = tris;
+        double ax = tr[o],    ay = tr[o+1];
+        double bx = tr[o+7],  by = tr[o+8];
+        double cx = tr[o+14], cy = tr[o+15];
+
+        double area = (bx - ax)*(cy - ay) - (by - ay)*(cx - ax);
+        if (area == 0)
+          return;
+        double inv = 1 / area;
+
+        // Bounding box within the tile
+        int minx = Math.max(x0, (int)Math.floor(Math.min(ax, Math.min(bx, cx))));
+        int maxx = Math.min(x1, (int)Math.ceil(Math.max(ax, Math.max(bx, cx))));
+        int miny = Math.max(y0, (int)Math.floor(Math.min(ay, Math.min(by, cy))));
+        int maxy = Math.min(y1, (int)Math.ceil(Math.max(ay, Math.max(by, cy))));
+
+        for (int y = miny; y <= maxy; y++) {
+            double py = y + 0.5;
+            for (int x = minx; x <= maxx; x++) {
+                double px = x + 0.5;
+
+                // Barycentric coordinates (normalized by signed area)
+                double wa = ((bx - px)*(cy - py) - (by - py)*(cx - px)) * inv;
+                double wb = ((cx - px)*(ay - py) - (cy - py)*(ax - px)) * inv;
+                double wc = 1 - wa - wb;
+                if (wa < 0 || wb < 0 || wc < 0)
+                  continue;
+
+                double z = wa*tr[o+2] + wb*tr[o+9] + wc*tr[o+16];
+                int idx = y*width + x;
+                if (zTest) {
+                    if (z < 0 || z > 1 || z >= depth[idx])
+                      continue;
+                    depth[idx] = (float)z;
+                }
+
+                double iw = wa*tr[o+3] + wb*tr[o+10] + wc*tr[o+17];
+                double r = (wa*tr[o+4] + wb*tr[o+11] + wc*tr[o+18]) / iw;
+                double g = (wa*tr[o+5] + wb*tr[o+12] + wc*tr[o+19]) / iw;
+                double bl = (wa*tr[o+6] + wb*tr[o+13] + wc*tr[o+20]) / iw;
+
+                color[3*idx]   = toByte(r);
+                color[3*idx+1] = toByte(g);
+                color[3*idx+2] = toByte(bl);
+            }
+        }
+    }
+
+    // Copy a rectangle of the framebuffer into buffer (RGB bytes)
+    private void readPixels(int x, int y, int w, int h, Buffer buffer)
+    {
+        finish();
+
+        ByteBuffer out = (ByteBuffer)buffer;
+        for (int r = 0; r < h; r++) {
+            int row = y + r;
+            if (row < 0 || row >= height)
+              continue;
+            for (int c = 0; c < w; c++) {
+                int col = x + c;
+                int dst = (r*w + c) * 3;
+                if (col < 0 || col >= width)
+                  continue;
+                int src = (row*width + col) * 3;
+                out.put(dst, color[src]);
+                out.put(dst+1, color[src+1]);
+                out.put(dst+2, color[src+2]);
+            }
+        }
+    }
+
+    // ---------------------------------------------------------------
+    // Matrix helpers (column-major 4x4)
+
+    private void setCurrent(double[] mm)
+    {
+        if (modelviewMode) {
+            modelview = mm;
+            normalMatrixValid = false;
+        } else {
+            projection = mm;
+        }
+    }
+
+    private void multCurrent(double[] mm)
+    {
+        setCurrent(multiply(modelviewMode ? modelview : projection, mm));
+    }
+
+    static double[] identity()
+    {
+        double[] mm = new double[16];
+        mm[0] = mm[5] = mm[10] = mm[15] = 1;
+        return mm;
+    }
+
+    static double[] multiply(double[] a, double[] b)
+    {
+        double[] c = new double[16];
+        for (int col = 0; col < 4; col++) {
+            for (int row = 0; row < 4; row++) {
+                c[4*col+row] = a[row]*b[4*col] + a[4+row]*b[4*col+1] +
+                    a[8+row]*b[4*col+2] + a[12+row]*b[4*col+3];
+            }
+        }
+        return c;
+    }
+
+    static double[] translation(double x, double y, double z)
+    {
+        double[] mm = identity();
+        mm[12] = x;
+        mm[13] = y;
+        mm[14] = z;
+        return mm;
+    }
+
+    static double[] scaling(double x, double y, double z)
+    {
+        double[] mm = identity();
+        mm[0] = x;
+        mm[5] = y;
+        mm[10] = z;
+        return mm;
+    }
+
+    // Rotation by angle degrees about axis (x,y,z), as in glRotate
+    static double[] rotation(double angle, double x, double y, double z)
+    {
+        double len = Math.sqrt(x*x + y*y + z*z);
+        double[] mm = identity();
+        if (len == 0)
+          return mm;
+        x /= len;
+        y /= len;
+        z /= len;
+
+        double a = Math.toRadians(angle);
+        double c = Math.cos(a), s = Math.sin(a), t = 1 - c;
+
+        mm[0] = x*x*t + c;   mm[4] = x*y*t - z*s; mm[8]  = x*z*t + y*s;
+        mm[1] = y*x*t + z*s; mm[5] = y*y*t + c;   mm[9]  = y*z*t - x*s;
+        mm[2] = x*z*t - y*s; mm[6] = y*z*t + x*s; mm[10] = z*z*t + c;
+        return mm;
+    }
+
+    static double[] frustum(double l, double r, double b, double t,
+                            double n, double f)
+    {
+        double[] mm = new double[16];
+        mm[0] = 2*n / (r - l);
+        mm[5] = 2*n / (t - b);
+        mm[8] = (r + l) / (r - l);
+        mm[9] = (t + b) / (t - b);
+        mm[10] = -(f + n) / (f - n);
+        mm[11] = -1;
+        mm[14] = -2*f*n / (f - n);
+        return mm;
+    }
+
+    static double[] ortho(double l, double r, double b, double t,
+                          double n, double f)
+    {
+        double[] mm = identity();
+        mm[0] = 2 / (r - l);
+        mm[5] = 2 / (t - b);
+        mm[10] = -2 / (f - n);
+        mm[12] = -(r + l) / (r - l);
+        mm[13] = -(t + b) / (t - b);
+        mm[14] = -(f + n) / (f - n);
+        return mm;
+    }
+
+    // Inverse of a 4x4 matrix (identity if singular)
+    static double[] invert(double[] m)
+    {
+        double[] inv = new double[16];
+
+        inv[0] = m[5]*m[10]*m[15] - m[5]*m[11]*m[14] - m[9]*m[6]*m[15] +
+            m[9]*m[7]*m[14] + m[13]*m[6]*m[11] - m[13]*m[7]*m[10];
+        inv[4] = -m[4]*m[10]*m[15] + m[4]*m[11]*m[14] + m[8]*m[6]*m[15] -
+            m[8]*m[7]*m[14] - m[12]*m[6]*m[11] + m[12]*m[7]*m[10];
+        inv[8] = m[4]*m[9]*m[15] - m[4]*m[11]*m[13] - m[8]*m[5]*m[15] +
+            m[8]*m[7]*m[13] + m[12]*m[5]*m[11] - m[12]*m[7]*m[9];
+        inv[12] = -m[4]*m[9]*m[14] + m[4]*m[10]*m[13] + m[8]*m[5]*m[14] -
+            m[8]*m[6]*m[13] - m[12]*m[5]*m[10] + m[12]*m[6]*m[9];
+        inv[1] = -m[1]*m[10]*m[15] + m[1]*m[11]*m[14] + m[9]*m[2]*m[15] -
+            m[9]*m[3]*m[14] - m[13]*m[2]*m[11] + m[13]*m[3]*m[10];
+        inv[5] = m[0]*m[10]*m[15] - m[0]*m[11]*m[14] - m[8]*m[2]*m[15] +
+            m[8]*m[3]*m[14] + m[12]*m[2]*m[11] - m[12]*m[3]*m[10];
+        inv[9] = -m[0]*m[9]*m[15] + m[0]*m[11]*m[13] + m[8]*m[1]*m[15] -
+            m[8]*m[3]*m[13] - m[12]*m[1]*m[11] + m[12]*m[3]*m[9];
+        inv[13] = m[0]*m[9]*m[14] - m[0]*m[10]*m[13] - m[8]*m[1]*m[14] +
+            m[8]*m[2]*m[13] + m[12]*m[1]*m[10] - m[12]*m[2]*m[9];
+        inv[2] = m[1]*m[6]*m[15] - m[1]*m[7]*m[14] - m[5]*m[2]*m[15] +
+            m[5]*m[3]*m[14] + m[13]*m[2]*m[7] - m[13]*m[3]*m[6];
+        inv[6] = -m[0]*m[6]*m[15] + m[0]*m[7]*m[14] + m[4]*m[2]*m[15] -
+            m[4]*m[3]*m[14] - m[12]*m[2]*m[7] + m[12]*m[3]*m[6];
+        inv[10] = m[0]*m[5]*m[15] - m[0]*m[7]*m[13] - m[4]*m[1]*m[15] +
+            m[4]*m[3]*m[13] + m[12]*m[1]*m[7] - m[12]*m[3]*m[5];
+        inv[14] = -m[0]*m[5]*m[14] + m[0]*m[6]*m[13] + m[4]*m[1]*m[14] -
+            m[4]*m[2]*m[13] - m[12]*m[1]*m[6] + m[12]*m[2]*m[5];
+        inv[3] = -m[1]*m[6]*m[11] + m[1]*m[7]*m[10] + m[5]*m[2]*m[11] -
+            m[5]*m[3]*m[10] - m[9]*m[2]*m[7] + m[9]*m[3]*m[6];
+        inv[7] = m[0]*m[6]*m[11] - m[0]*m[7]*m[10] - m[4]*m[2]*m[11] +
+            m[4]*m[3]*m[10] + m[8]*m[2]*m[7] - m[8]*m[3]*m[6];
+        inv[11] = -m[0]*m[5]*m[11] + m[0]*m[7]*m[9] + m[4]*m[1]*m[11] -
+            m[4]*m[3]*m[9] - m[8]*m[1]*m[7] + m[8]*m[3]*m[5];
+        inv[15] = m[0]*m[5]*m[10] - m[0]*m[6]*m[9] - m[4]*m[1]*m[10] +
+            m[4]*m[2]*m[9] + m[8]*m[1]*m[6] - m[8]*m[2]*m[5];
+
+        double det = m[0]*inv[0] + m[1]*inv[4] + m[2]*inv[8] + m[3]*inv[12];
+        if (det == 0)
+          return identity();
+
+        for (int k = 0; k < 16; k++)
+          inv[k] /= det;
+        return inv;
+    }
+
+    // Inverse transpose of the upper 3x3 of modelview
+    private void computeNormalMatrix()
+    {
+        double[] m = modelview;
+        double a = m[0], b = m[4], c = m[8];
+        double d = m[1], e = m[5], f = m[9];
+        double g = m[2], h = m[6], k = m[10];
+
+        double A = e*k - f*h, B = -(d*k - f*g), C = d*h - e*g;
+        double det = a*A + b*B + c*C;
+        if (det == 0)
+          det = 1;
+
+        // Cofactor matrix divided by det is the inverse transpose;
+        // stored column-major
+        normalMatrix[0] = A / det;
+        normalMatrix[1] = -(b*k - c*h) / det;
+        normalMatrix[2] = (b*f - c*e) / det;
+        normalMatrix[3] = B / det;
+        normalMatrix[4] = (a*k - c*g) / det;
+        normalMatrix[5] = -(a*f - c*d) / det;
+        normalMatrix[6] = C / det;
+        normalMatrix[7] = -(a*h - b*g) / det;
+        normalMatrix[8] = (a*e - b*d) / det;
+
+        normalMatrixValid = true;
+    }
+
+    private static void transform(double[] m, double x, double y,
+                                  double z, double w, double[] out)
+    {
+        out[0] = m[0]*x + m[4]*y + m[8]*z + m[12]*w;
+        out[1] = m[1]*x + m[5]*y + m[9]*z + m[13]*w;
+        out[2] = m[2]*x + m[6]*y + m[10]*z + m[14]*w;
+        out[3] = m[3]*x + m[7]*y + m[11]*z + m[15]*w;
+    }
+
+    // ---------------------------------------------------------------
+    // Argument helpers
+
+    private static double d(Object o)
+    {
+        return ((Number)o).doubleValue();
+    }
+
+    private static int i(Object o)
+    {
+        return ((Number)o).intValue();
+    }
+
+    private static void copy3(float[] v, int off, double[] out)
+    {
+        out[0] = v[off];
+        out[1] = v[off+1];
+        out[2] = v[off+2];
+    }
+
+    private static byte toByte(double c)
+    {
+        if (c <= 0)
+          return 0;
+        if (c >= 1)
+          return (byte)255;
+        return (byte)Math.round(c * 255);
+    }
+
+    // ---------------------------------------------------------------
+
+    // The GL: the calls interpreted are passed on to call()
+    private class Calls extends NullGL
+    {
+        public void glMatrixMode(int a0)
+        {
+            call("glMatrixMode", new Object[] { a0 });
+        }
+
+        public void glLoadIdentity()
+        {
+            call("glLoadIdentity", new Object[0]);
+        }
+
+        public void glPushMatrix()
+        {
+            call("glPushMatrix", new Object[0]);
+        }
+
+        public void glPopMatrix()
+        {
+            call("glPopMatrix", new Object[0]);
+        }
+
+        public void glTranslated(double a0, double a1, double a2)
+        {
+            call("glTranslated", new Object[] { a0, a1, a2 });
+        }
+
+        public void glTranslatef(float a0, float a1, float a2)
+        {
+            call("glTranslatef", new Object[] { a0, a1, a2 });
+        }
+
+        public void glScaled(double a0, double a1, double a2)
+        {
+            call("glScaled", new Object[] { a0, a1, a2 });
+        }
+
+        public void glScalef(float a0, float a1, float a2)
+        {
+            call("glScalef", new Object[] { a0, a1, a2 });
+        }
+
+        public void glRotated(double a0, double a1, double a2, double a3)
+        {
+            call("glRotated", new Object[] { a0, a1, a2, a3 });
+        }
+
+        public void glRotatef(float a0, float a1, float a2, float a3)
+        {
+            call("glRotatef", new Object[] { a0, a1, a2, a3 });
+        }
+
+        public void glMultMatrixd(double[] a0, int a1)
+        {
+            call("glMultMatrixd", new Object[] { a0, a1 });
+        }
+
+        public void glFrustum(double a0, double a1, double a2, double a3,
+                              double a4, double a5)
+        {
+            call("glFrustum", new Object[] { a0, a1, a2, a3, a4, a5 });
+        }
+
+        public void glOrtho(double a0, double a1, double a2, double a3,
+                            double a4, double a5)
+        {
+            call("glOrtho", new Object[] { a0, a1, a2, a3, a4, a5 });
+        }
+
+        public void glViewport(int a0, int a1, int a2, int a3)
+        {
+            call("glViewport", new Object[] { a0, a1, a2, a3 });
+        }
+
+        public void glEnable(int a0)
+        {
+            call("glEnable", new Object[] { a0 });
+        }
+
+        public void glDisable(int a0)
+        {
+            call("glDisable", new Object[] { a0 });
+        }
+
+        public void glColorMaterial(int a0, int a1)
+        {
+            call("glColorMaterial", new Object[] { a0, a1 });
+        }
+
+        public void glClearColor(float a0, float a1, float a2, float a3)
+        {
+            call("glClearColor", new Object[] { a0, a1, a2, a3 });
+        }
+
+        public void glClear(int a0)
+        {
+            call("glClear", new Object[] { a0 });
+        }
+
+        public void glLightfv(int a0, int a1, float[] a2, int a3)
+        {
+            call("glLightfv", new Object[] { a0, a1, a2, a3 });
+        }
+
+        public void glMaterialfv(int a0, int a1, float[] a2, int a3)
+        {
+            call("glMaterialfv", new Object[] { a0, a1, a2, a3 });
+        }
+
+        public void glClipPlane(int a0, double[] a1, int a2)
+        {
+            call("glClipPlane", new Object[] { a0, a1, a2 });
+        }
+
+        public void glColor3d(double a0, double a1, double a2)
+        {
+            call("glColor3d", new Object[] { a0, a1, a2 });
+        }
+
+        public void glColor3f(float a0, float a1, float a2)
+        {
+            call("glColor3f", new Object[] { a0, a1, a2 });
+        }
+
+        public void glColor4d(double a0, double a1, double a2, double a3)
+        {
+            call("glColor4d", new Object[] { a0, a1, a2, a3 });
+        }
+
+        public void glColor4f(float a0, float a1, float a2, float a3)
+        {
+            call("glColor4f", new Object[] { a0, a1, a2, a3 });
+        }
+
+        public void glNormal3d(double a0, double a1, double a2)
+        {
+            call("glNormal3d", new Object[] { a0, a1, a2 });
+        }
+
+        public void glNormal3f(float a0, float a1, float a2)
+        {
+            call("glNormal3f", new Object[] { a0, a1, a2 });
+        }
+
+        public void glBegin(int a0)
+        {
+            call("glBegin", new Object[] { a0 });
+        }
+
+        public void glVertex3d(double a0, double a1, double a2)
+        {
+            call("glVertex3d", new Object[] { a0, a1, a2 });
+        }
+
+        public void glVertex3f(float a0, float a1, float a2)
+        {
+            call("glVertex3f", new Object[] { a0, a1, a2 });
+        }
+
+        public void glVertex2d(double a0, double a1)
+        {
+            call("glVertex2d", new Object[] { a0, a1 });
+        }
+
+        public void glVertex2f(float a0, float a1)
+        {
+            call("glVertex2f", new Object[] { a0, a1 });
+        }
+
+        public void glEnd()
+        {
+            call("glEnd", new Object[0]);
+        }
+
+        public int glGenLists(int a0)
+        {
+            Object first = call("glGenLists", new Object[] { a0 });
+            return (first == null) ? 0 : ((Integer)first).intValue();
+        }
+
+        public void glNewList(int a0, int a1)
+        {
+            call("glNewList", new Object[] { a0, a1 });
+        }
+
+        public void glEndList()
+        {
+            call("glEndList", new Object[0]);
+        }
+
+        public void glCallList(int a0)
+        {
+            call("glCallList", new Object[] { a0 });
+        }
+
+        public void glReadPixels(int a0, int a1, int a2, int a3, int a4,
+                                 int a5, Buffer a6)
+        {
+            call("glReadPixels", new Object[] { a0, a1, a2, a3, a4, a5, a6 });
+        }
+
+        public void glFinish()
+        {
+            call("glFinish", new Object[0]);
+        }
+
+        public void glFlush()
+        {
+            call("glFlush", new Object[0]);
+        }
+
+        public boolean glIsEnabled(int a0)
+        {
+            Object on = call("glIsEnabled", new Object[] { a0 });
+            return (on != null) && ((Boolean)on).booleanValue();
+        }
+    }
+}
@@ -0,0 +1,100 @@
+/* class WorldView
+ * The OpenGL drawing component of the interface
+ *
+ * Doug DeCarlo
+ */
+
+import java.awt.Window;
+import java.lang.Math;
+
+import javax.media.opengl.GL;
+import javax.media.opengl.GLAutoDrawable;
+
+public class WorldView extends SimpleGLCanvas
+{
+    Scene s;
+    SceneRenderer renderer;
+
+    // Counting wrapper for the GL last drawn with (reused across frames)
+    private GL countedGL = null, countingGL = null;
+
+    public WorldView(Window parent, Scene sc)
+    {
+        super(parent);
+
+        s = sc;
+        renderer = new SceneRenderer(sc);
+    }
+
+    // Set animation status; call this method whenever animation status
+    // changes to stop/start clock and regular animation callbacks to
+    // redraw window
+    public void setAnimation()
+    {
+        if (s.drawAnimation.value) {
+            s.pauseClock(false);
+            if (!isAnimated()) {
+                setAnimation(true);
+            }
+        } else {
+            if (isAnimated()) {
+                setAnimation(false);
+                s.pauseClock(true);
+            }
+        }
+    }
+
+    public void init(GL gl)
+    {
+        // Starts with animation turned off
+        setAnimation(false);
+
+        // --- OpenGL Initialization
+        renderer.glInit(gl);
+
+        // Display lists from an earlier context are gone
+        renderer.objs = null;
+    }
+
+    // ------------------------------------------------------------
+
+    public Scene getScene()
+    {
+        return s;
+    }
+
+    // Method for handling window resizing
+    public void projection(GL gl, int width, int height)
+    {
+        renderer.projection(gl, width, height);
+    }
+
+    // Method for drawing the contents of the window
+    public void draw(GL gl)
+    {
+        // Count GL calls for this frame if instrumenting
+        GLStats stats = renderer.glStats;
+        if (stats != null) {
+            stats.beginFrame();
+            if (gl != countedGL) {
+                countedGL = gl;
+                countingGL = CountingGL.wrap(gl, stats);
+            }
+            gl = countingGL;
+        }
+
+        // Clear the window and depth buffer
+        gl.glClear(GL.GL_COLOR_BUFFER_BIT | GL.GL_DEPTH_BUFFER_BIT);
+
+        if (renderer.objs == null) {
+            // Initialize scene objects (sphere/cylinder)
+            renderer.objs = new Objs(gl, 16, true);
+        }
+
+        // Draw the scene
+        renderer.draw(gl, glut);
+
+        if (stats != null)
+          stats.endFrame();
+   }
+}
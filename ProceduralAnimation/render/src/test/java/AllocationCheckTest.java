@@ -0,0 +1,129 @@
+/* class AllocationCheckTest
+ * Check that the animation loop doesn't allocate: the scene is simulated
+ * and drawn frame-by-frame (into a NullGL), and the bytes allocated for
+ * each frame are measured with com.sun.management.ThreadMXBean.  The
+ * test fails if the average bytes per frame for the simulation step, or
+ * for drawing, are over their budgets (none at all).
+ *
+ * The simulation step counts what the threads of its TaskPool allocate
+ * as well as the simulation thread; drawing is on the simulation thread
+ * only.
+ */
+
+import java.lang.management.*;
+
+import org.junit.*;
+
+import static org.junit.Assert.*;
+
+public class AllocationCheckTest
+{
+    // Bytes per frame allowed
+    static final double simBudget = 0, drawBudget = 0;
+
+    private com.sun.management.ThreadMXBean mx;
+
+    // ---------------------------------------------------------------
+
+    @Before
+    public void setUp()
+    {
+        ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        Assume.assumeTrue("allocation counting not supported",
+                          bean instanceof com.sun.management.ThreadMXBean);
+        mx = (com.sun.management.ThreadMXBean)bean;
+        Assume.assumeTrue("allocation counting not supported",
+                          mx.isThreadAllocatedMemorySupported());
+        mx.setThreadAllocatedMemoryEnabled(true);
+    }
+
+    @Test
+    public void defaultScene()
+    {
+        check(new String[0], 1, 600, 300);
+    }
+
+    @Test
+    public void flockOnThreads()
+    {
+        check(new String[] { "-bugs", "5000", "-flock" }, 4, 300, 100);
+    }
+
+    // ---------------------------------------------------------------
+
+    // Measure a scene set up with the SceneOptions args (flocking on
+    // threads threads) over frames frames, after warmup frames
+    private void check(String[] args, int threads, int warmup, int frames)
+    {
+        NullGL gl = new NullGL();
+        HeadlessScene h = new HeadlessScene(1, args, threads, gl);
+        long id = Thread.currentThread().getId();
+
+        for (int f = 0; f < warmup; f++) {
+            h.step();
+            h.draw();
+        }
+
+        // The threads of the pool (started by now)
+        long[] others = poolThreads();
+        assertTrue("No pool threads", threads == 1 || others.length > 0);
+
+        long simBytes = 0, drawBytes = 0;
+        long calls = 0;
+
+        for (int f = 0; f < frames; f++) {
+            long o0 = allocated(others);
+            long t0 = mx.getThreadAllocatedBytes(id);
+            h.step();
+            long t1 = mx.getThreadAllocatedBytes(id);
+            long o1 = allocated(others);
+
+            long t2 = mx.getThreadAllocatedBytes(id);
+            long c = gl.calls;
+            h.draw();
+            long t3 = mx.getThreadAllocatedBytes(id);
+            calls = gl.calls - c;
+
+            simBytes += (t1 - t0) + (o1 - o0);
+            drawBytes += t3 - t2;
+        }
+
+        double simPerFrame = (double)simBytes / frames;
+        double drawPerFrame = (double)drawBytes / frames;
+
+        System.out.println("simulate: " + simPerFrame + " bytes/frame");
+        System.out.println("draw:     " + drawPerFrame + " bytes/frame (" +
+                           calls + " GL calls)");
+
+        assertTrue("Simulation allocates " + simPerFrame +
+                   " bytes/frame, over budget of " + simBudget,
+                   simPerFrame <= simBudget);
+        assertTrue("Drawing allocates " + drawPerFrame +
+                   " bytes/frame, over budget of " + drawBudget,
+                   drawPerFrame <= drawBudget);
+    }
+
+    // Ids of the threads of TaskPools (named for it)
+    private long[] poolThreads()
+    {
+        long[] ids = new long[0];
+        for (ThreadInfo t : mx.getThreadInfo(mx.getAllThreadIds())) {
+            if (t != null && t.getThreadName().equals("TaskPool")) {
+                ids = java.util.Arrays.copyOf(ids, ids.length + 1);
+                ids[ids.length - 1] = t.getThreadId();
+            }
+        }
+        return ids;
+    }
+
+    // Total bytes allocated by the threads ids (that are still alive)
+    private long allocated(long[] ids)
+    {
+        long total = 0;
+        for (long b : mx.getThreadAllocatedBytes(ids)) {
+            if (b > 0)
+              total += b;
+        }
+        return total;
+    }
+}
@@ -0,0 +1,53 @@
+/* class DrawCallCheckTest
+ * Check of the GL calls needed to draw the scene: the scene is animated
+ * frame-by-frame and drawn into a recording GL stub (see CountingGL), and
+ * the test fails if any frame goes over the budgets.  Used to catch
+ * draw-call regressions; the budgets are the counts of the scene as it
+ * is drawn now, so lower them when drawing gets cheaper.
+ */
+
+import org.junit.*;
+
+import static org.junit.Assert.*;
+
+public class DrawCallCheckTest
+{
+    // Frames drawn
+    static final int frames = 30;
+
+    // Most calls, vertices and matrix pushes allowed in a frame
+    static final long maxCalls = 96786, maxVertices = 49640,
+        maxPushes = 5531;
+
+    // ---------------------------------------------------------------
+
+    @Test
+    public void defaultScene()
+    {
+        GLStats stats = new GLStats();
+        HeadlessScene h = new HeadlessScene(1, new String[0], 1,
+                                            CountingGL.recorder(stats));
+
+        for (int f = 0; f < frames; f++) {
+            h.step();
+            stats.beginFrame();
+            h.draw();
+            stats.endFrame();
+
+            over("calls", f, stats.lastCalls, maxCalls);
+            over("vertices", f, stats.lastVertices, maxVertices);
+            over("pushes", f, stats.lastPushes, maxPushes);
+        }
+
+        System.out.println("last frame: " + stats.summary());
+    }
+
+    // ---------------------------------------------------------------
+
+    // Fail if count is over budget
+    private static void over(String what, int frame, long count, long budget)
+    {
+        assertTrue("Frame " + frame + ": " + count + " " + what +
+                   " exceeds budget of " + budget, count <= budget);
+    }
+}
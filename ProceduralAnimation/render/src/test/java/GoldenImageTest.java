@@ -0,0 +1,83 @@
+/* class GoldenImageTest
+ * Check that the software renderer draws the scene as it did: a frame of
+ * a fixed scene is rendered with HeadlessRender (on one thread and on
+ * several) and compared with the reference frame in
+ * src/test/resources/golden using ImageCompare.  The renderer is
+ * deterministic (the rasterizer threads each fill their own tiles), so
+ * the tolerance is none at all.
+ *
+ * If the drawing changes on purpose, make a new reference with
+ *   java HeadlessRender -seed 7 -size 160x120 -frames 21 -dump prefix
+ * (and copy prefix0020.ppm over it).
+ */
+
+import java.io.*;
+
+import org.junit.*;
+
+import static org.junit.Assert.*;
+
+public class GoldenImageTest
+{
+    // The reference frame: scene seed, frame number and size
+    static final long seed = 7;
+    static final int frame = 20, width = 160, height = 120;
+    static final String reference = "/golden/seed7-160x120-0020.ppm";
+
+    // Largest RMS and per-channel differences allowed
+    static final double maxRMS = 0, maxDifference = 0;
+
+    // ---------------------------------------------------------------
+
+    @Test
+    public void oneThread() throws Exception
+    {
+        check(1);
+    }
+
+    @Test
+    public void fourThreads() throws Exception
+    {
+        check(4);
+    }
+
+    // ---------------------------------------------------------------
+
+    // Render the frame on threads threads and compare it
+    private void check(int threads) throws Exception
+    {
+        int[] dims = new int[2];
+        File file = new File(getClass().getResource(reference).toURI());
+        byte[] golden = FrameDump.readPPM(file.getPath(), dims);
+        assertEquals("reference width", width, dims[0]);
+        assertEquals("reference height", height, dims[1]);
+
+        byte[] pixels = render(threads);
+
+        double[] r = ImageCompare.compare(pixels, golden);
+        String result = "rms " + r[0] + "  max " + (int)r[1] +
+            "  differing " + (100 * r[2]) + "%";
+        System.out.println(threads + " threads: " + result);
+
+        assertTrue("Frame differs from " + reference + ": " + result,
+                   r[0] <= maxRMS && r[1] <= maxDifference);
+    }
+
+    // Pixels of the frame, rendered as HeadlessRender does
+    private byte[] render(int threads)
+    {
+        Scene scene = new Scene(seed, false, 1, null);
+        scene.resetClock();
+        HeadlessRender r = new HeadlessRender(scene, width, height, threads);
+
+        try {
+            for (int f = 0; f < frame; f++) {
+                r.renderFrame();
+                scene.incrementFrameNumber();
+            }
+            return r.renderFrame();
+        } finally {
+            r.dispose();
+        }
+    }
+}
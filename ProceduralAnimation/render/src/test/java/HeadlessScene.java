@@ -0,0 +1,56 @@
+/* class HeadlessScene
+ * Setup shared by the headless tests of drawing: a scene animated
+ * frame-by-frame (stepped explicitly, so drawing doesn't also simulate)
+ * and a renderer for it drawing into a given GL, without the text
+ * overlay (which needs GLUT).
+ */
+
+import javax.media.opengl.GL;
+
+class HeadlessScene
+{
+    Scene scene;
+    SceneRenderer renderer;
+    GL gl;
+
+    // ---------------------------------------------------------------
+
+    // Scene from seed set up as the SceneOptions in args say (flocking
+    // on the given number of threads), drawn into glVal
+    HeadlessScene(long seed, String[] args, int threads, GL glVal)
+    {
+        SceneOptions options = new SceneOptions();
+        for (int i = 0; i < args.length; ) {
+            int used = options.parse(args, i);
+            if (used == 0)
+              throw new IllegalArgumentException("Not a scene option: " +
+                                                 args[i]);
+            i += used;
+        }
+
+        scene = new Scene(seed, false, 1, null);
+        scene.resetClock();
+        scene.setFrameByFrameClock();
+        scene.drawAnimation.set(false);
+        scene.drawTime.set(false);
+        options.configure(scene, threads);
+
+        gl = glVal;
+        renderer = new SceneRenderer(scene);
+        renderer.objs = new Objs(gl, 16, true);
+    }
+
+    // Simulate the next frame
+    void step()
+    {
+        scene.beginFrame();
+        scene.process();
+        scene.incrementFrameNumber();
+    }
+
+    // Draw the current frame
+    void draw()
+    {
+        renderer.draw(gl, null);
+    }
+}